@@ -53,6 +53,9 @@ public final class BpmnConstants {
     public static final String ERROR = "error";
     public static final String ESCALATION = "escalation";
     public static final String SIGNAL = "signal";
+    public static final String TIME_DURATION = "timeDuration";
+    public static final String TIME_DATE = "timeDate";
+    public static final String TIME_CYCLE = "timeCycle";
     // =====================
     // Extension Elements
     // =====================
@@ -0,0 +1,22 @@
+package com.leorces.extension.camunda.extractor;
+
+import org.springframework.stereotype.Component;
+import org.w3c.dom.Element;
+
+import static com.leorces.extension.camunda.BpmnConstants.BPMN_NAMESPACE;
+import static com.leorces.extension.camunda.BpmnConstants.TIMER_EVENT_DEFINITION;
+
+@Component
+public class BpmnTimerExtractor {
+
+    public Element findTimerDefinition(Element element) {
+        var timerDefinitions = element.getElementsByTagNameNS(BPMN_NAMESPACE, TIMER_EVENT_DEFINITION);
+        return timerDefinitions.getLength() > 0 ? (Element) timerDefinitions.item(0) : null;
+    }
+
+    public String getTimerAttribute(Element timerDefinition, String attributeName) {
+        var elements = timerDefinition.getElementsByTagNameNS(BPMN_NAMESPACE, attributeName);
+        return elements.getLength() > 0 ? elements.item(0).getTextContent().trim() : null;
+    }
+
+}
@@ -23,6 +23,7 @@ public class ActivityExtractionHelper {
     private final BpmnParameterExtractor parameterExtractor;
     private final BpmnConditionExtractor conditionExtractor;
     private final BpmnEscalationExtractor escalationExtractor;
+    private final BpmnTimerExtractor timerExtractor;
 
     public <T> List<T> extractElements(Element processElement, String elementName, String parentId, String processId, BpmnElementExtractor.ElementCreator<T> creator) {
         return elementExtractor.extractElements(processElement, elementName, parentId, processId, creator);
@@ -36,6 +37,14 @@ public class ActivityExtractionHelper {
         return escalationExtractor.findEscalationDefinition(element);
     }
 
+    public Element findTimerDefinition(Element element) {
+        return timerExtractor.findTimerDefinition(element);
+    }
+
+    public String getTimerAttribute(Element timerDefinition, String attributeName) {
+        return timerExtractor.getTimerAttribute(timerDefinition, attributeName);
+    }
+
     public String getMessageName(Element messageDefinition) {
         var messageRef = messageDefinition.getAttribute(ATTRIBUTE_MESSAGE_REF);
         return messageExtractor.resolveMessageName(messageDefinition, messageRef);
@@ -29,7 +29,7 @@ public class BoundaryEventExtractor implements ActivityExtractionStrategy {
     }
 
     private ActivityDefinition createBoundaryEvent(Element element, String parentId, String processId) {
-        var timerDefinition = findTimerDefinition(element);
+        var timerDefinition = helper.findTimerDefinition(element);
         if (timerDefinition != null) {
             return createTimerBoundaryEvent(element, parentId, timerDefinition);
         }
@@ -66,14 +66,6 @@ public class BoundaryEventExtractor implements ActivityExtractionStrategy {
         );
     }
 
-    private Element findTimerDefinition(Element element) {
-        var timerDefinitions = element.getElementsByTagNameNS(
-                BpmnConstants.BPMN_NAMESPACE,
-                BpmnConstants.TIMER_EVENT_DEFINITION
-        );
-        return timerDefinitions.getLength() > 0 ? (Element) timerDefinitions.item(0) : null;
-    }
-
     private Element findSignalDefinition(Element element) {
         var signalDefinitions = element.getElementsByTagNameNS(
                 BpmnConstants.BPMN_NAMESPACE,
@@ -98,9 +90,9 @@ public class BoundaryEventExtractor implements ActivityExtractionStrategy {
                 .attachedToRef(element.getAttribute(BpmnConstants.ATTRIBUTE_ATTACHED_TO_REF))
                 .cancelActivity(!BpmnConstants.FALSE_VALUE.equals(
                         element.getAttribute(BpmnConstants.ATTRIBUTE_CANCEL_ACTIVITY)))
-                .timeDuration(getTimerAttribute(timerDefinition, BpmnConstants.CONDITION_EXPRESSION))
-                .timeDate(getTimerAttribute(timerDefinition, "timeDate"))
-                .timeCycle(getTimerAttribute(timerDefinition, "timeCycle"))
+                .timeDuration(helper.getTimerAttribute(timerDefinition, BpmnConstants.TIME_DURATION))
+                .timeDate(helper.getTimerAttribute(timerDefinition, BpmnConstants.TIME_DATE))
+                .timeCycle(helper.getTimerAttribute(timerDefinition, BpmnConstants.TIME_CYCLE))
                 .incoming(helper.extractIncoming(element))
                 .outgoing(helper.extractOutgoing(element))
                 .inputs(helper.extractInputParameters(element))
@@ -188,11 +180,6 @@ public class BoundaryEventExtractor implements ActivityExtractionStrategy {
                 .build();
     }
 
-    private String getTimerAttribute(Element timerDefinition, String attributeName) {
-        var elements = timerDefinition.getElementsByTagNameNS(BpmnConstants.BPMN_NAMESPACE, attributeName);
-        return elements.getLength() > 0 ? elements.item(0).getTextContent() : null;
-    }
-
     private String getConditionalExpression(Element conditionalDefinition) {
         var conditions = conditionalDefinition.getElementsByTagNameNS(BpmnConstants.BPMN_NAMESPACE, BpmnConstants.CONDITION);
         return conditions.getLength() > 0 ? conditions.item(0).getTextContent() : null;
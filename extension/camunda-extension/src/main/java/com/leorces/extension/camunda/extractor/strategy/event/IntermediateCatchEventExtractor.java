@@ -1,10 +1,12 @@
 package com.leorces.extension.camunda.extractor.strategy.event;
 
+import com.leorces.extension.camunda.BpmnConstants;
 import com.leorces.extension.camunda.extractor.strategy.ActivityExtractionHelper;
 import com.leorces.extension.camunda.extractor.strategy.ActivityExtractionStrategy;
 import com.leorces.model.definition.activity.ActivityDefinition;
 import com.leorces.model.definition.activity.event.intermediate.IntermediateCatchEvent;
 import com.leorces.model.definition.activity.event.intermediate.MessageIntermediateCatchEvent;
+import com.leorces.model.definition.activity.event.intermediate.TimerIntermediateCatchEvent;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 import org.w3c.dom.Element;
@@ -35,6 +37,10 @@ public class IntermediateCatchEventExtractor implements ActivityExtractionStrate
         if (messageDefinition != null) {
             return createMessageIntermediateCatchEvent(element, parentId, messageDefinition);
         }
+        var timerDefinition = helper.findTimerDefinition(element);
+        if (timerDefinition != null) {
+            return createTimerIntermediateCatchEvent(element, parentId, timerDefinition);
+        }
         return createBasicIntermediateCatchEvent(element, parentId);
     }
 
@@ -49,6 +55,21 @@ public class IntermediateCatchEventExtractor implements ActivityExtractionStrate
                 .build();
     }
 
+    private TimerIntermediateCatchEvent createTimerIntermediateCatchEvent(Element element, String parentId, Element timerDefinition) {
+        return TimerIntermediateCatchEvent.builder()
+                .id(helper.getId(element))
+                .parentId(parentId)
+                .name(helper.getName(element))
+                .incoming(helper.extractIncoming(element))
+                .outgoing(helper.extractOutgoing(element))
+                .inputs(helper.extractInputParameters(element))
+                .outputs(helper.extractOutputParameters(element))
+                .timeDuration(helper.getTimerAttribute(timerDefinition, BpmnConstants.TIME_DURATION))
+                .timeDate(helper.getTimerAttribute(timerDefinition, BpmnConstants.TIME_DATE))
+                .timeCycle(helper.getTimerAttribute(timerDefinition, BpmnConstants.TIME_CYCLE))
+                .build();
+    }
+
     private IntermediateCatchEvent createBasicIntermediateCatchEvent(Element element, String parentId) {
         return IntermediateCatchEvent.builder()
                 .id(helper.getId(element))
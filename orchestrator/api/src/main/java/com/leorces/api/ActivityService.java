@@ -1,10 +1,16 @@
 package com.leorces.api;
 
 import com.leorces.model.runtime.activity.Activity;
+import com.leorces.model.runtime.activity.ActivityCompleteRequest;
+import com.leorces.model.runtime.activity.ActivityFailRequest;
 import com.leorces.model.runtime.activity.ActivityFailure;
+import com.leorces.model.runtime.activity.ActivityPollRequest;
+import com.leorces.model.runtime.activity.ActivityUpdateResult;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Service for managing activity lifecycle operations.
@@ -67,6 +73,33 @@ public interface ActivityService {
      */
     void fail(String activityId, ActivityFailure failure, Map<String, Object> variables);
 
+    /**
+     * Completes many activities at once.
+     * <p>
+     * Unlike {@link #complete(String, Map)} the activities are completed before the call returns. The activities
+     * are read together and external tasks are stored as completed together; the outcome of every activity
+     * is reported separately, so an activity that is unknown, already finished or fails to complete doesn't
+     * prevent the others.
+     * </p>
+     *
+     * @param requests the activities to complete
+     * @return the outcome of every activity, in the order of the requests
+     */
+    List<ActivityUpdateResult> completeAll(List<ActivityCompleteRequest> requests);
+
+    /**
+     * Fails many activities at once.
+     * <p>
+     * Unlike {@link #fail(String, ActivityFailure, Map)} the activities are failed before the call returns.
+     * The activities are read together and external tasks out of retries are stored as failed together;
+     * the outcome of every activity is reported separately.
+     * </p>
+     *
+     * @param requests the activities to fail
+     * @return the outcome of every activity, in the order of the requests
+     */
+    List<ActivityUpdateResult> failAll(List<ActivityFailRequest> requests);
+
     /**
      * Terminates the activity with the specified ID.
      *
@@ -91,4 +124,57 @@ public interface ActivityService {
      */
     List<Activity> poll(String topic, String processDefinitionKey, int limit);
 
+    /**
+     * Polls for available activities, waiting up to the given timeout when none are available yet.
+     * The call returns as soon as at least one activity is locked for the caller or the timeout expires.
+     *
+     * @param topic                the topic to poll activities for
+     * @param processDefinitionKey the key of the process definition
+     * @param limit                the maximum number of activities to return
+     * @param timeout              the maximum time to wait for activities to become available
+     * @return list of available activities matching the criteria, empty if the timeout expired
+     */
+    List<Activity> poll(String topic, String processDefinitionKey, int limit, Duration timeout);
+
+    /**
+     * Polls for available activities of several topics and process definition keys in one call,
+     * waiting up to the given timeout when none are available yet.
+     *
+     * @param requests the topics and process definition keys to poll, each with its own limit
+     * @param timeout  the maximum time to wait for activities to become available, zero returns immediately
+     * @return list of available activities across all requests, empty if the timeout expired
+     */
+    List<Activity> poll(List<ActivityPollRequest> requests, Duration timeout);
+
+    /**
+     * Polls for available activities like {@link #poll(String, String, int, Duration)} without blocking the caller
+     * while it waits.
+     *
+     * @param topic                the topic to poll activities for
+     * @param processDefinitionKey the key of the process definition
+     * @param limit                the maximum number of activities to return
+     * @param timeout              the maximum time to wait for activities to become available
+     * @return future of the available activities matching the criteria, empty if the timeout expired
+     */
+    CompletableFuture<List<Activity>> pollAsync(String topic, String processDefinitionKey, int limit, Duration timeout);
+
+    /**
+     * Polls for available activities of several topics like {@link #poll(List, Duration)} without blocking
+     * the caller while it waits.
+     *
+     * @param requests the topics and process definition keys to poll, each with its own limit
+     * @param timeout  the maximum time to wait for activities to become available, zero returns immediately
+     * @return future of the available activities across all requests, empty if the timeout expired
+     */
+    CompletableFuture<List<Activity>> pollAsync(List<ActivityPollRequest> requests, Duration timeout);
+
+    /**
+     * Finds the values of variables by their IDs. Polled activities carry offloaded variables
+     * by reference, without their value; their values are read with this call.
+     *
+     * @param variableIds the IDs of the variables
+     * @return the values by variable ID, without entries for unknown variables
+     */
+    Map<String, String> findVariableValues(List<String> variableIds);
+
 }
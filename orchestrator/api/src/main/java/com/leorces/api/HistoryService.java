@@ -20,4 +20,13 @@ public interface HistoryService {
      */
     PageableData<ProcessExecution> findAll(Pageable pageable);
 
+    /**
+     * Retrieves all process executions with pagination support, without process and activity variables.
+     * Cheaper than {@link #findAll(Pageable)} for listings that don't show variables.
+     *
+     * @param pageable the pagination parameters
+     * @return pageable data containing process executions without variables
+     */
+    PageableData<ProcessExecution> findAllSummaries(Pageable pageable);
+
 }
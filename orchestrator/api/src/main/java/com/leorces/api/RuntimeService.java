@@ -1,8 +1,12 @@
 package com.leorces.api;
 
+import com.leorces.model.runtime.message.CorrelationRequest;
+import com.leorces.model.runtime.message.CorrelationResult;
 import com.leorces.model.runtime.process.Process;
+import com.leorces.model.runtime.process.StartProcessRequest;
 import com.leorces.model.search.ProcessFilter;
 
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -83,6 +87,18 @@ public interface RuntimeService {
      */
     Process startProcessByKey(String key, String businessKey, Map<String, Object> variables);
 
+    /**
+     * Starts many process instances at once.
+     * <p>
+     * Each request refers to its process definition by ID or by key. The process instances and their
+     * initial variables are stored together, and their start activities run asynchronously afterwards.
+     * </p>
+     *
+     * @param requests the start requests
+     * @return the started process instances, in the order of the requests
+     */
+    List<Process> startProcesses(List<StartProcessRequest> requests);
+
     /**
      * Terminate process execution.
      *
@@ -225,4 +241,16 @@ public interface RuntimeService {
      */
     void correlateMessage(String messageName, String businessKey, Map<String, Object> correlationKeys, Map<String, Object> processVariables);
 
+    /**
+     * Correlates many messages at once.
+     * <p>
+     * Each message is correlated with exactly one running process. The outcome of every message is reported
+     * separately, so a message that matches no process or more than one doesn't prevent the others.
+     * </p>
+     *
+     * @param requests the messages to correlate
+     * @return the outcome of every message, in the order of the requests
+     */
+    List<CorrelationResult> correlateMessages(List<CorrelationRequest> requests);
+
 }
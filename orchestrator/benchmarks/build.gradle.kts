@@ -0,0 +1,72 @@
+dependencies {
+    // Project
+    implementation(project(":orchestrator:model"))
+    implementation(project(":orchestrator:common"))
+    implementation(project(":orchestrator:persistence-api"))
+    implementation(project(":orchestrator:juel"))
+    implementation(project(":orchestrator:engine"))
+    implementation(project(":orchestrator:postgres-persistence"))
+    implementation(project(":orchestrator:rest"))
+    implementation(project(":orchestrator:rest-client"))
+    implementation(project(":extension:camunda-extension"))
+
+    // Spring
+    implementation(libs.spring.boot.starter)
+    implementation(libs.spring.boot.starter.web)
+    implementation(libs.postgresql)
+    implementation(libs.embedded.postgres)
+
+    // Micrometer
+    implementation(libs.micrometer.core)
+
+    // Jackson
+    implementation(libs.bundles.jackson)
+
+    // JMH
+    implementation(libs.jmh.core)
+    annotationProcessor(libs.jmh.generator.annprocess)
+}
+
+// Benchmarks are a development tool and are never published
+tasks.withType<PublishToMavenRepository> {
+    enabled = false
+}
+
+val jmhResultsFile = layout.buildDirectory.file("results/jmh/results.json")
+
+tasks.register<JavaExec>("jmh") {
+    group = "benchmark"
+    description = "Runs JMH benchmarks and writes the results as JSON to build/results/jmh/results.json. " +
+            "Use -Pjmh.includes=<regexp> to select benchmarks and -Pjmh.args=\"<options>\" to pass JMH options."
+    classpath = sourceSets.main.get().runtimeClasspath
+    mainClass = "org.openjdk.jmh.Main"
+    outputs.file(jmhResultsFile)
+    outputs.upToDateWhen { false }
+
+    doFirst {
+        jmhResultsFile.get().asFile.parentFile.mkdirs()
+    }
+
+    args = buildList {
+        add("-rf")
+        add("json")
+        add("-rff")
+        add(jmhResultsFile.get().asFile.absolutePath)
+        project.findProperty("jmh.args")?.toString()?.split(" ")?.filter { it.isNotBlank() }?.let { addAll(it) }
+        project.findProperty("jmh.includes")?.toString()?.let { add(it) }
+    }
+}
+
+tasks.register<JavaExec>("loadTest") {
+    group = "benchmark"
+    description = "Runs the end-to-end load harness against an embedded PostgreSQL and writes the report to " +
+            "build/results/load. Use -Pload.args=\"shape=linear rate=50 duration=60s\" to configure the run."
+    classpath = sourceSets.main.get().runtimeClasspath
+    mainClass = "com.leorces.benchmarks.load.LoadHarness"
+    workingDir = projectDir
+    outputs.upToDateWhen { false }
+
+    args = buildList {
+        project.findProperty("load.args")?.toString()?.split(" ")?.filter { it.isNotBlank() }?.let { addAll(it) }
+    }
+}
@@ -0,0 +1,202 @@
+package com.leorces.benchmarks;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.leorces.model.definition.ProcessDefinition;
+import com.leorces.model.definition.ProcessDefinitionMetadata;
+import com.leorces.model.definition.activity.ActivityDefinition;
+import com.leorces.model.definition.activity.event.end.EndEvent;
+import com.leorces.model.definition.activity.event.start.StartEvent;
+import com.leorces.model.definition.activity.subprocess.Subprocess;
+import com.leorces.model.definition.activity.task.ExternalTask;
+import com.leorces.model.runtime.activity.Activity;
+import com.leorces.model.runtime.activity.ActivityState;
+import com.leorces.model.runtime.process.ProcessExecution;
+import com.leorces.model.runtime.process.ProcessState;
+import com.leorces.model.runtime.variable.Variable;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Synthetic, deterministic data shared by the benchmark suites.
+ */
+public final class BenchmarkData {
+
+    public static final String DEFINITION_ID = "benchmark-definition-id";
+    public static final String DEFINITION_KEY = "benchmark-process";
+    public static final int TASKS_PER_SUBPROCESS = 10;
+
+    private BenchmarkData() {
+    }
+
+    /**
+     * Same configuration as the engine object mapper.
+     */
+    public static ObjectMapper objectMapper() {
+        return new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+    }
+
+    /**
+     * Builds a definition with the given number of external tasks chained one after another.
+     * Every {@value #TASKS_PER_SUBPROCESS} tasks are wrapped in an embedded subprocess, so lookups
+     * exercise both sequence flows and parent scopes.
+     *
+     * @param tasks the number of external tasks
+     * @return the process definition
+     */
+    public static ProcessDefinition definition(int tasks) {
+        var activities = new ArrayList<ActivityDefinition>(tasks + tasks / TASKS_PER_SUBPROCESS + 2);
+        activities.add(StartEvent.builder()
+                .id("start")
+                .name("Start")
+                .incoming(List.of())
+                .outgoing(List.of(taskId(0)))
+                .build());
+
+        for (int i = 0; i < tasks; i++) {
+            var subprocessId = subprocessId(i / TASKS_PER_SUBPROCESS);
+            if (i % TASKS_PER_SUBPROCESS == 0) {
+                activities.add(Subprocess.builder()
+                        .id(subprocessId)
+                        .name(subprocessId)
+                        .incoming(List.of())
+                        .outgoing(List.of())
+                        .inputs(Map.of())
+                        .outputs(Map.of())
+                        .build());
+            }
+            activities.add(ExternalTask.builder()
+                    .id(taskId(i))
+                    .parentId(subprocessId)
+                    .name("Task " + i)
+                    .topic("topic-" + (i % 5))
+                    .retries(3)
+                    .incoming(List.of(i == 0 ? "start" : taskId(i - 1)))
+                    .outgoing(List.of(i == tasks - 1 ? "end" : taskId(i + 1)))
+                    .inputs(Map.of("amount", "${amount}", "customer", "${customer.name}"))
+                    .outputs(Map.of("approved", "${result}"))
+                    .build());
+        }
+
+        activities.add(EndEvent.builder()
+                .id("end")
+                .name("End")
+                .incoming(List.of(taskId(tasks - 1)))
+                .outgoing(List.of())
+                .build());
+
+        return ProcessDefinition.builder()
+                .id(DEFINITION_ID)
+                .key(DEFINITION_KEY)
+                .name("Benchmark process")
+                .version(1)
+                .activities(activities)
+                .messages(List.of())
+                .errors(List.of())
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .metadata(ProcessDefinitionMetadata.builder()
+                        .schema("<bpmn/>")
+                        .origin("benchmark")
+                        .deployment("benchmark")
+                        .build())
+                .build();
+    }
+
+    /**
+     * Builds a completed process execution with one completed activity per external task of the definition.
+     *
+     * @param tasks the number of external tasks
+     * @return the process execution
+     */
+    public static ProcessExecution processExecution(int tasks) {
+        var now = LocalDateTime.now();
+        var activities = new ArrayList<Activity>(tasks);
+        for (int i = 0; i < tasks; i++) {
+            activities.add(Activity.builder()
+                    .id("activity-" + i)
+                    .definitionId(taskId(i))
+                    .processId("process-id")
+                    .state(ActivityState.COMPLETED)
+                    .variables(List.of())
+                    .createdAt(now)
+                    .updatedAt(now)
+                    .startedAt(now)
+                    .completedAt(now)
+                    .build());
+        }
+
+        return ProcessExecution.builder()
+                .id("process-id")
+                .rootProcessId("process-id")
+                .businessKey("business-key")
+                .variables(variables(20))
+                .activities(activities)
+                .state(ProcessState.COMPLETED)
+                .definition(definition(tasks))
+                .createdAt(now)
+                .updatedAt(now)
+                .startedAt(now)
+                .completedAt(now)
+                .build();
+    }
+
+    /**
+     * Builds a variables map mixing primitives, strings, lists and nested maps.
+     *
+     * @param size the number of variables
+     * @return the variables map
+     */
+    public static Map<String, Object> variablesMap(int size) {
+        var variables = new LinkedHashMap<String, Object>();
+        for (int i = 0; i < size; i++) {
+            var value = switch (i % 5) {
+                case 0 -> i;
+                case 1 -> "value-" + i;
+                case 2 -> i % 2 == 0;
+                case 3 -> List.of(i, i + 1, i + 2);
+                default -> Map.of("name", "customer-" + i, "limit", i * 100);
+            };
+            variables.put("variable" + i, value);
+        }
+        return variables;
+    }
+
+    /**
+     * Builds process-scoped variables in their persisted string form.
+     *
+     * @param size the number of variables
+     * @return the variables
+     */
+    public static List<Variable> variables(int size) {
+        var variables = new ArrayList<Variable>(size);
+        for (int i = 0; i < size; i++) {
+            variables.add(Variable.builder()
+                    .id("variable-id-" + i)
+                    .processId("process-id")
+                    .executionId("process-id")
+                    .executionDefinitionId(DEFINITION_ID)
+                    .varKey("variable" + i)
+                    .varValue(i % 2 == 0 ? String.valueOf(i) : "{\"name\":\"customer-%d\",\"limit\":%d}".formatted(i, i * 100))
+                    .type(i % 2 == 0 ? "integer" : "map")
+                    .build());
+        }
+        return variables;
+    }
+
+    public static String taskId(int index) {
+        return "task-" + index;
+    }
+
+    public static String subprocessId(int index) {
+        return "subprocess-" + index;
+    }
+
+}
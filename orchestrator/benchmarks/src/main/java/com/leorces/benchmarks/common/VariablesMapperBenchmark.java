@@ -0,0 +1,64 @@
+package com.leorces.benchmarks.common;
+
+import com.leorces.benchmarks.BenchmarkData;
+import com.leorces.common.mapper.VariablesMapper;
+import com.leorces.model.runtime.variable.Variable;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Conversion of variables between their runtime and persisted representations.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class VariablesMapperBenchmark {
+
+    @Param({"10", "100"})
+    public int size;
+
+    private VariablesMapper mapper;
+    private Map<String, Object> variablesMap;
+    private List<Variable> variables;
+    private List<String> scope;
+
+    @Setup
+    public void setUp() {
+        mapper = new VariablesMapper(BenchmarkData.objectMapper());
+        variablesMap = BenchmarkData.variablesMap(size);
+        variables = BenchmarkData.variables(size);
+        scope = List.of("task-0", "subprocess-0", BenchmarkData.DEFINITION_ID);
+    }
+
+    @Benchmark
+    public List<Variable> map() {
+        return mapper.map(variablesMap);
+    }
+
+    @Benchmark
+    public Map<String, Object> toMap() {
+        return mapper.toMap(variables);
+    }
+
+    @Benchmark
+    public Map<String, Object> toScopedMap() {
+        return mapper.toMap(variables, scope);
+    }
+
+    @Benchmark
+    public Object convertIntegerToValue() {
+        return mapper.convertStringToValue("42", "integer");
+    }
+
+    @Benchmark
+    public Object convertMapToValue() {
+        return mapper.convertStringToValue("{\"name\":\"customer\",\"limit\":100}", "map");
+    }
+
+}
@@ -0,0 +1,221 @@
+package com.leorces.benchmarks.engine;
+
+import com.leorces.common.service.MetricService;
+import com.leorces.common.service.impl.MicrometerMetricService;
+import com.leorces.engine.core.CommandHandler;
+import com.leorces.engine.core.ExecutionCommand;
+import com.leorces.engine.core.ExecutionDispatcher;
+import com.leorces.engine.core.ExecutionResultCommand;
+import com.leorces.engine.core.ResultCommandHandler;
+import com.leorces.engine.service.TaskExecutorService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.EnableAsync;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Command dispatch throughput.
+ * <p>
+ * The {@code event*} benchmarks reproduce the former routing through {@code ApplicationEventPublisher}
+ * and {@code @Async @EventListener}; the {@code direct*} benchmarks use {@link ExecutionDispatcher}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ExecutionDispatcherBenchmark {
+
+    private static final int ASYNC_BATCH_SIZE = 100;
+
+    @Param({"false", "true"})
+    public boolean metrics;
+
+    private AnnotationConfigApplicationContext directContext;
+    private AnnotationConfigApplicationContext eventContext;
+    private ExecutionDispatcher dispatcher;
+    private BenchmarkCommandHandler handler;
+    private BenchmarkCommandHandler eventHandler;
+
+    private final BenchmarkCommand command = new BenchmarkCommand();
+    private final BenchmarkResultCommand resultCommand = new BenchmarkResultCommand(42);
+
+    @Setup
+    public void setUp() {
+        directContext = new AnnotationConfigApplicationContext();
+        directContext.registerBean("engineTaskExecutor", AsyncTaskExecutor.class, ExecutionDispatcherBenchmark::virtualThreadExecutor);
+        directContext.registerBean(TaskExecutorService.class);
+        directContext.registerBean(BenchmarkCommandHandler.class);
+        directContext.registerBean(BenchmarkResultCommandHandler.class);
+        directContext.registerBean(ExecutionDispatcher.class);
+        if (metrics) {
+            directContext.registerBean(MetricService.class, () -> new MicrometerMetricService(new SimpleMeterRegistry()));
+        }
+        directContext.refresh();
+        dispatcher = directContext.getBean(ExecutionDispatcher.class);
+        handler = directContext.getBean(BenchmarkCommandHandler.class);
+
+        eventContext = new AnnotationConfigApplicationContext();
+        eventContext.registerBean("taskExecutor", AsyncTaskExecutor.class, ExecutionDispatcherBenchmark::virtualThreadExecutor);
+        eventContext.registerBean(AsyncConfiguration.class);
+        eventContext.registerBean(BenchmarkCommandHandler.class);
+        eventContext.registerBean(BenchmarkResultCommandHandler.class);
+        eventContext.registerBean(EventDispatcher.class);
+        eventContext.refresh();
+        eventHandler = eventContext.getBean(BenchmarkCommandHandler.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        directContext.close();
+        eventContext.close();
+    }
+
+    @Benchmark
+    public void eventDispatch() {
+        eventContext.publishEvent(command);
+    }
+
+    @Benchmark
+    public void directDispatch() {
+        dispatcher.dispatch(command);
+    }
+
+    @Benchmark
+    public Integer directExecute() {
+        return dispatcher.execute(resultCommand);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ASYNC_BATCH_SIZE)
+    public void eventDispatchAsync() throws InterruptedException {
+        var latch = eventHandler.expect(ASYNC_BATCH_SIZE);
+        for (int i = 0; i < ASYNC_BATCH_SIZE; i++) {
+            eventContext.publishEvent(new AsyncCommandEvent(command));
+        }
+        latch.await();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ASYNC_BATCH_SIZE)
+    public void directDispatchAsync() throws InterruptedException {
+        var latch = handler.expect(ASYNC_BATCH_SIZE);
+        for (int i = 0; i < ASYNC_BATCH_SIZE; i++) {
+            dispatcher.dispatchAsync(command);
+        }
+        latch.await();
+    }
+
+    private static AsyncTaskExecutor virtualThreadExecutor() {
+        return new TaskExecutorAdapter(Executors.newVirtualThreadPerTaskExecutor());
+    }
+
+    public record BenchmarkCommand() implements ExecutionCommand {
+
+    }
+
+    public record BenchmarkResultCommand(int value) implements ExecutionResultCommand<Integer> {
+
+    }
+
+    public record AsyncCommandEvent(ExecutionCommand command) {
+
+    }
+
+    public static class BenchmarkCommandHandler implements CommandHandler<BenchmarkCommand> {
+
+        private volatile CountDownLatch latch = new CountDownLatch(0);
+
+        @Override
+        public void handle(BenchmarkCommand command) {
+            latch.countDown();
+        }
+
+        @Override
+        public Class<BenchmarkCommand> getCommandType() {
+            return BenchmarkCommand.class;
+        }
+
+        private CountDownLatch expect(int count) {
+            latch = new CountDownLatch(count);
+            return latch;
+        }
+
+    }
+
+    public static class BenchmarkResultCommandHandler implements ResultCommandHandler<BenchmarkResultCommand, Integer> {
+
+        @Override
+        public Integer execute(BenchmarkResultCommand command) {
+            return command.value();
+        }
+
+        @Override
+        public Class<BenchmarkResultCommand> getCommandType() {
+            return BenchmarkResultCommand.class;
+        }
+
+    }
+
+    @EnableAsync
+    public static class AsyncConfiguration {
+
+    }
+
+    /**
+     * Replica of the event-listener based dispatcher that routed commands before the handler table.
+     */
+    public static class EventDispatcher {
+
+        private final Map<Class<?>, CommandHandler<?>> handlers = new HashMap<>();
+        private final List<CommandHandler<?>> commandHandlers;
+        private boolean initialized = false;
+
+        public EventDispatcher(List<CommandHandler<?>> commandHandlers) {
+            this.commandHandlers = commandHandlers;
+        }
+
+        @EventListener
+        public void handle(ExecutionCommand command) {
+            dispatch(command);
+        }
+
+        @Async
+        @EventListener
+        public void handle(AsyncCommandEvent event) {
+            dispatch(event.command());
+        }
+
+        @SuppressWarnings("unchecked")
+        private <T extends ExecutionCommand> void dispatch(T command) {
+            ensureHandlersInitialized();
+            var handler = (CommandHandler<T>) handlers.get(command.getClass());
+            if (handler instanceof ResultCommandHandler<?, ?> resultHandler) {
+                ((ResultCommandHandler<T, ?>) resultHandler).execute(command);
+                return;
+            }
+            handler.handle(command);
+        }
+
+        private synchronized void ensureHandlersInitialized() {
+            if (!initialized) {
+                commandHandlers.forEach(handler -> handlers.put(handler.getCommandType(), handler));
+                initialized = true;
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,79 @@
+package com.leorces.benchmarks.juel;
+
+import com.leorces.juel.JuelExpressionEvaluator;
+import com.leorces.juel.cache.ExpressionCache;
+import com.leorces.juel.configuration.JuelConfiguration;
+import com.leorces.juel.configuration.properties.JuelProperties;
+import com.leorces.juel.converter.LiteralValueConverter;
+import com.leorces.juel.converter.SpelExpressionConverter;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.expression.spel.SpelCompilerMode;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Expression evaluation as done for gateway conditions and input/output mappings.
+ * Runs with the parsed expression cache and each SpEL compiler mode.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JuelExpressionEvaluatorBenchmark {
+
+    private static final String CONDITION = "${amount > 100 && customer.vip}";
+    private static final String VALUE_EXPRESSION = "${customer.name}";
+    private static final String LITERAL = "approved";
+
+    @Param({"MIXED", "OFF"})
+    private SpelCompilerMode compilerMode;
+
+    private JuelExpressionEvaluator evaluator;
+    private Map<String, Object> variables;
+    private Map<String, Object> mappings;
+
+    @Setup
+    public void setUp() {
+        var properties = new JuelProperties(10000, compilerMode);
+        evaluator = new JuelExpressionEvaluator(
+                new JuelConfiguration().expressionParser(properties),
+                new SpelExpressionConverter(),
+                new LiteralValueConverter(),
+                new ExpressionCache(properties)
+        );
+        variables = Map.of(
+                "amount", 250,
+                "customer", Map.of("name", "John", "vip", true),
+                "result", "ok"
+        );
+        mappings = Map.of(
+                "customerName", VALUE_EXPRESSION,
+                "amount", "${amount}",
+                "status", LITERAL
+        );
+    }
+
+    @Benchmark
+    public boolean evaluateBoolean() {
+        return evaluator.evaluateBoolean(CONDITION, variables);
+    }
+
+    @Benchmark
+    public Object evaluateValue() {
+        return evaluator.evaluate(VALUE_EXPRESSION, variables, Object.class);
+    }
+
+    @Benchmark
+    public Object evaluateLiteral() {
+        return evaluator.evaluate(LITERAL, variables, String.class);
+    }
+
+    @Benchmark
+    public Map<String, Object> evaluateMappings() {
+        return evaluator.evaluate(mappings, variables);
+    }
+
+}
@@ -0,0 +1,115 @@
+package com.leorces.benchmarks.load;
+
+import com.leorces.persistence.ProcessPersistence;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Records start and completion timestamps of the root processes started by the harness.
+ * <p>
+ * Completion is observed by decorating {@link ProcessPersistence#complete(String)}, so the latency covers
+ * the full path from {@code RuntimeService} to the engine persisting the completed process.
+ */
+public class CompletionTracker implements BeanPostProcessor {
+
+    private final Map<String, Long> startedAt = new ConcurrentHashMap<>();
+    private final Map<String, Long> completedAt = new ConcurrentHashMap<>();
+    private final Set<String> completedRoots = ConcurrentHashMap.newKeySet();
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof ProcessPersistence processPersistence) {
+            return Proxy.newProxyInstance(
+                    CompletionTracker.class.getClassLoader(),
+                    new Class<?>[]{ProcessPersistence.class},
+                    (proxy, method, args) -> {
+                        try {
+                            var result = method.invoke(processPersistence, args);
+                            if ("complete".equals(method.getName())) {
+                                onCompleted((String) args[0]);
+                            }
+                            return result;
+                        } catch (InvocationTargetException e) {
+                            throw e.getTargetException();
+                        }
+                    }
+            );
+        }
+        return bean;
+    }
+
+    /**
+     * Registers a root process once {@code RuntimeService} returned it.
+     * The process may already be completed at this point, in which case it is counted right away.
+     *
+     * @param processId the root process ID
+     * @param startNanos the {@link System#nanoTime()} taken before the start call
+     */
+    public void started(String processId, long startNanos) {
+        startedAt.put(processId, startNanos);
+        if (completedAt.containsKey(processId)) {
+            completedRoots.add(processId);
+        }
+    }
+
+    public int startedCount() {
+        return startedAt.size();
+    }
+
+    public int completedCount() {
+        return completedRoots.size();
+    }
+
+    /**
+     * Returns start-to-complete latencies, in nanoseconds, of the root processes started within the window.
+     *
+     * @param fromNanos the window start, inclusive
+     * @param toNanos   the window end, exclusive
+     * @return the latencies of the completed processes
+     */
+    public List<Long> latencies(long fromNanos, long toNanos) {
+        var latencies = new ArrayList<Long>();
+        startedAt.forEach((processId, start) -> {
+            var end = completedAt.get(processId);
+            if (end != null && start >= fromNanos && start < toNanos) {
+                latencies.add(end - start);
+            }
+        });
+        return latencies;
+    }
+
+    /**
+     * Counts the root processes started within the window.
+     */
+    public int startedCount(long fromNanos, long toNanos) {
+        return (int) startedAt.values().stream()
+                .filter(start -> start >= fromNanos && start < toNanos)
+                .count();
+    }
+
+    /**
+     * Counts the root processes completed within the window, wherever they were started.
+     */
+    public int completedCount(long fromNanos, long toNanos) {
+        return (int) startedAt.keySet().stream()
+                .map(completedAt::get)
+                .filter(end -> end != null && end >= fromNanos && end < toNanos)
+                .count();
+    }
+
+    private void onCompleted(String processId) {
+        // Child processes of call activities complete here too, they are simply never started by the harness
+        completedAt.put(processId, System.nanoTime());
+        if (startedAt.containsKey(processId)) {
+            completedRoots.add(processId);
+        }
+    }
+
+}
@@ -0,0 +1,238 @@
+package com.leorces.benchmarks.load;
+
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.leorces.api.RuntimeService;
+import com.leorces.benchmarks.BenchmarkData;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * End-to-end load harness.
+ * <p>
+ * Starts an embedded PostgreSQL, the orchestrator and a worker application in one JVM, starts root processes
+ * of one {@link LoadShape} at a fixed rate through {@link RuntimeService} and lets {@link LoadTaskWorker}
+ * complete their external tasks over REST. The report covers a measured window that follows a warmup,
+ * then the harness waits for every started process to complete.
+ * <p>
+ * Arguments are {@code key=value} pairs, see {@link LoadOptions}. The exit code is non-zero when a process
+ * did not complete or a budget passed with {@code maxP99} or {@code minRate} is violated, so a run can gate a build.
+ */
+public final class LoadHarness {
+
+    private static final Logger log = LoggerFactory.getLogger(LoadHarness.class);
+
+    private static final String SERVER_CONFIG = "--spring.config.location=classpath:load/server.yaml";
+    private static final String WORKER_CONFIG = "--spring.config.location=classpath:load/worker.yaml";
+    private static final String WORKER_PROPERTY = "--leorces.process.configuration.%s.workers.%s.%s=%s";
+
+    private final LoadOptions options;
+    private final AtomicInteger failedStarts = new AtomicInteger();
+
+    private LoadHarness(LoadOptions options) {
+        this.options = options;
+    }
+
+    public static void main(String[] args) throws Exception {
+        var options = LoadOptions.parse(args);
+        var report = new LoadHarness(options).run();
+
+        log.info("Load report\n{}", report.format());
+        writeReport(options, report);
+
+        var violations = report.violations(options);
+        violations.forEach(violation -> log.error("FAILED: {}", violation));
+        System.exit(violations.isEmpty() ? 0 : 1);
+    }
+
+    private LoadReport run() throws Exception {
+        try (var postgres = EmbeddedPostgres.builder().start();
+             var server = startServer(postgres);
+             var worker = startWorker(server)) {
+            var runtimeService = server.getBean(RuntimeService.class);
+            var tracker = server.getBean(CompletionTracker.class);
+            var statementCounter = server.getBean(StatementCounter.class);
+
+            try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                generate(runtimeService, tracker, executor, options.warmup());
+
+                var before = Snapshot.take(statementCounter);
+                generate(runtimeService, tracker, executor, options.duration());
+                var after = Snapshot.take(statementCounter);
+
+                executor.shutdown();
+                executor.awaitTermination(options.drain().toMillis(), TimeUnit.MILLISECONDS);
+                var incomplete = drain(tracker);
+
+                return report(tracker, before, after, incomplete);
+            }
+        }
+    }
+
+    private ConfigurableApplicationContext startServer(EmbeddedPostgres postgres) {
+        return new SpringApplicationBuilder(LoadServerConfiguration.class)
+                .run(SERVER_CONFIG, "--spring.datasource.url=" + postgres.getJdbcUrl("postgres", "postgres"));
+    }
+
+    private ConfigurableApplicationContext startWorker(ConfigurableApplicationContext server) {
+        var port = server.getEnvironment().getRequiredProperty("local.server.port");
+        var args = new ArrayList<>(List.of(WORKER_CONFIG, "--leorces.rest.host=http://127.0.0.1:" + port));
+        args.add("--leorces.rest.batch.enabled=" + options.batch());
+
+        for (var processDefinitionKey : processDefinitionKeys()) {
+            args.add(WORKER_PROPERTY.formatted(processDefinitionKey, LoadShape.TOPIC, "interval", 100));
+            args.add(WORKER_PROPERTY.formatted(processDefinitionKey, LoadShape.TOPIC, "time-unit", TimeUnit.MILLISECONDS));
+            args.add(WORKER_PROPERTY.formatted(processDefinitionKey, LoadShape.TOPIC, "initial-delay", 0));
+            args.add(WORKER_PROPERTY.formatted(processDefinitionKey, LoadShape.TOPIC, "max-concurrent-tasks", options.workers()));
+        }
+
+        return new SpringApplicationBuilder(LoadWorkerConfiguration.class)
+                .web(WebApplicationType.NONE)
+                .run(args.toArray(String[]::new));
+    }
+
+    /**
+     * Starts root processes at the target rate for the given duration. Starts are scheduled open-loop:
+     * a slow start never delays the next one, so back pressure shows up as latency rather than lower load.
+     */
+    private void generate(RuntimeService runtimeService,
+                          CompletionTracker tracker,
+                          ExecutorService executor,
+                          Duration duration) {
+        var shape = options.shape();
+        var variables = shape.variables();
+        var intervalNanos = TimeUnit.SECONDS.toNanos(1) / options.rate();
+        var end = System.nanoTime() + duration.toNanos();
+        var next = System.nanoTime();
+
+        while (next < end) {
+            var wait = next - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            executor.execute(() -> {
+                var startNanos = System.nanoTime();
+                try {
+                    var process = runtimeService.startProcessByKey(shape.processDefinitionKey(), variables);
+                    tracker.started(process.id(), startNanos);
+                } catch (Exception e) {
+                    failedStarts.incrementAndGet();
+                }
+            });
+            next += intervalNanos;
+        }
+
+        var remaining = end - System.nanoTime();
+        if (remaining > 0) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+
+    private int drain(CompletionTracker tracker) throws InterruptedException {
+        var deadline = System.nanoTime() + options.drain().toNanos();
+        while (tracker.completedCount() < tracker.startedCount() && System.nanoTime() < deadline) {
+            TimeUnit.MILLISECONDS.sleep(100);
+        }
+        return tracker.startedCount() - tracker.completedCount();
+    }
+
+    private LoadReport report(CompletionTracker tracker, Snapshot before, Snapshot after, int incomplete) {
+        var windowSeconds = (after.nanos() - before.nanos()) / 1e9;
+        var completed = tracker.completedCount(before.nanos(), after.nanos());
+        var perProcess = Math.max(completed, 1);
+        var latencies = tracker.latencies(before.nanos(), after.nanos()).stream()
+                .mapToLong(Long::longValue)
+                .sorted()
+                .toArray();
+        var allocatedBytes = after.allocatedBytes() - before.allocatedBytes();
+
+        return new LoadReport(
+                options.shape().id(),
+                options.rate(),
+                windowSeconds,
+                tracker.startedCount(before.nanos(), after.nanos()),
+                completed,
+                failedStarts.get(),
+                incomplete,
+                completed / windowSeconds,
+                percentile(latencies, 0.50),
+                percentile(latencies, 0.99),
+                percentile(latencies, 1.0),
+                (double) (after.statements() - before.statements()) / perProcess,
+                (double) (after.transactions() - before.transactions()) / perProcess,
+                allocatedBytes / windowSeconds / (1024 * 1024),
+                (double) allocatedBytes / perProcess / 1024,
+                after.gcCount() - before.gcCount(),
+                after.gcMillis() - before.gcMillis()
+        );
+    }
+
+    private static double percentile(long[] sortedNanos, double percentile) {
+        if (sortedNanos.length == 0) {
+            return 0;
+        }
+        var rank = (int) Math.ceil(percentile * sortedNanos.length);
+        return sortedNanos[Math.max(rank, 1) - 1] / 1e6;
+    }
+
+    private static List<String> processDefinitionKeys() {
+        var keys = new ArrayList<String>();
+        for (var shape : LoadShape.values()) {
+            keys.add(shape.processDefinitionKey());
+        }
+        keys.add(LoadShape.CHILD_PROCESS_KEY);
+        return keys;
+    }
+
+    private static void writeReport(LoadOptions options, LoadReport report) throws IOException {
+        var directory = Path.of(options.resultsPath());
+        Files.createDirectories(directory);
+        var file = directory.resolve(report.shape() + ".json");
+        BenchmarkData.objectMapper()
+                .enable(SerializationFeature.INDENT_OUTPUT)
+                .writeValue(file.toFile(), report);
+        log.info("Report written to {}", file.toAbsolutePath());
+    }
+
+    private record Snapshot(
+            long nanos,
+            long statements,
+            long transactions,
+            long allocatedBytes,
+            long gcCount,
+            long gcMillis
+    ) {
+
+        private static Snapshot take(StatementCounter statementCounter) {
+            var threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+            var collectors = ManagementFactory.getGarbageCollectorMXBeans();
+            return new Snapshot(
+                    System.nanoTime(),
+                    statementCounter.statements(),
+                    statementCounter.transactions(),
+                    threads.getTotalThreadAllocatedBytes(),
+                    collectors.stream().mapToLong(GarbageCollectorMXBean::getCollectionCount).sum(),
+                    collectors.stream().mapToLong(GarbageCollectorMXBean::getCollectionTime).sum()
+            );
+        }
+
+    }
+
+}
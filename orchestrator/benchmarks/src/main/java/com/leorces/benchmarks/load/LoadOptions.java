@@ -0,0 +1,84 @@
+package com.leorces.benchmarks.load;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Load harness run options, parsed from {@code key=value} arguments.
+ *
+ * @param shape       the process shape to start
+ * @param rate        the number of root processes started per second
+ * @param warmup      the warmup duration, excluded from the report
+ * @param duration    the measured duration
+ * @param drain       how long to wait for in-flight processes after the last start
+ * @param workers     the maximum number of concurrently executing external tasks
+ * @param batch       whether the worker sends task completions in batch requests
+ * @param maxP99      optional p99 latency budget, the run fails when exceeded
+ * @param minRate     optional completed processes per second floor, the run fails when not reached
+ * @param resultsPath the directory the JSON report is written to
+ */
+public record LoadOptions(
+        LoadShape shape,
+        int rate,
+        Duration warmup,
+        Duration duration,
+        Duration drain,
+        int workers,
+        boolean batch,
+        Duration maxP99,
+        double minRate,
+        String resultsPath
+) {
+
+    private static final Set<String> KEYS = Set.of(
+            "shape", "rate", "warmup", "duration", "drain", "workers", "batch", "maxP99", "minRate", "results"
+    );
+
+    public static LoadOptions parse(String[] args) {
+        var values = new HashMap<String, String>();
+        for (var arg : args) {
+            var separator = arg.indexOf('=');
+            var key = separator < 0 ? "" : arg.substring(0, separator);
+            if (!KEYS.contains(key)) {
+                throw new IllegalArgumentException("Unknown argument '%s', expected key=value with keys %s".formatted(arg, KEYS));
+            }
+            values.put(key, arg.substring(separator + 1));
+        }
+
+        return new LoadOptions(
+                LoadShape.of(values.getOrDefault("shape", LoadShape.LINEAR.id())),
+                Integer.parseInt(values.getOrDefault("rate", "20")),
+                duration(values, "warmup", "10s"),
+                duration(values, "duration", "30s"),
+                duration(values, "drain", "60s"),
+                Integer.parseInt(values.getOrDefault("workers", "200")),
+                Boolean.parseBoolean(values.getOrDefault("batch", "false")),
+                values.containsKey("maxP99") ? duration(values, "maxP99", null) : null,
+                Double.parseDouble(values.getOrDefault("minRate", "0")),
+                values.getOrDefault("results", "build/results/load")
+        );
+    }
+
+    /**
+     * Accepts ISO-8601 durations as well as the {@code 500ms}, {@code 30s} and {@code 2m} shorthands.
+     */
+    private static Duration duration(Map<String, String> values, String key, String defaultValue) {
+        var value = values.getOrDefault(key, defaultValue).trim();
+        if (value.startsWith("P") || value.startsWith("p")) {
+            return Duration.parse(value);
+        }
+        if (value.endsWith("ms")) {
+            return Duration.ofMillis(Long.parseLong(value.substring(0, value.length() - 2)));
+        }
+        if (value.endsWith("s")) {
+            return Duration.ofSeconds(Long.parseLong(value.substring(0, value.length() - 1)));
+        }
+        if (value.endsWith("m")) {
+            return Duration.ofMinutes(Long.parseLong(value.substring(0, value.length() - 1)));
+        }
+        return Duration.ofSeconds(Long.parseLong(value));
+    }
+
+}
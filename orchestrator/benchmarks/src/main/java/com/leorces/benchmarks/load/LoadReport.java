@@ -0,0 +1,93 @@
+package com.leorces.benchmarks.load;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Result of a load harness run. All rates and per-process figures refer to the measured window.
+ *
+ * @param shape                  the process shape
+ * @param targetRate             the requested root process starts per second
+ * @param windowSeconds          the measured window length
+ * @param started                root processes started within the window
+ * @param completed              root processes completed within the window
+ * @param failedStarts           start calls that threw, over the whole run
+ * @param incomplete             root processes still running after the drain period, over the whole run
+ * @param processesPerSecond     completed root processes per second
+ * @param p50Millis              median start-to-complete latency of processes started within the window
+ * @param p99Millis              99th percentile start-to-complete latency of processes started within the window
+ * @param maxMillis              maximum start-to-complete latency of processes started within the window
+ * @param statementsPerProcess   JDBC statement executions per completed root process
+ * @param transactionsPerProcess commits and rollbacks per completed root process
+ * @param allocationMbPerSecond  heap allocation rate of the whole JVM, workers included
+ * @param allocatedKbPerProcess  heap allocated per completed root process
+ * @param gcCount                garbage collections within the window
+ * @param gcMillis               garbage collection time within the window
+ */
+public record LoadReport(
+        String shape,
+        int targetRate,
+        double windowSeconds,
+        int started,
+        int completed,
+        int failedStarts,
+        int incomplete,
+        double processesPerSecond,
+        double p50Millis,
+        double p99Millis,
+        double maxMillis,
+        double statementsPerProcess,
+        double transactionsPerProcess,
+        double allocationMbPerSecond,
+        double allocatedKbPerProcess,
+        long gcCount,
+        long gcMillis
+) {
+
+    /**
+     * Checks the run against the requested budgets.
+     *
+     * @param options the run options
+     * @return the violated budgets, empty when the run passed
+     */
+    public List<String> violations(LoadOptions options) {
+        var violations = new ArrayList<String>();
+        if (completed == 0) {
+            violations.add("no process completed within the measured window, increase the duration");
+        }
+        if (incomplete > 0) {
+            violations.add("%d process(es) did not complete within %s".formatted(incomplete, options.drain()));
+        }
+        if (failedStarts > 0) {
+            violations.add("%d process start(s) failed".formatted(failedStarts));
+        }
+        if (options.maxP99() != null && p99Millis > options.maxP99().toMillis()) {
+            violations.add("p99 latency %.1f ms exceeds %d ms".formatted(p99Millis, options.maxP99().toMillis()));
+        }
+        if (processesPerSecond < options.minRate()) {
+            violations.add("throughput %.1f/s is below %.1f/s".formatted(processesPerSecond, options.minRate()));
+        }
+        return violations;
+    }
+
+    public String format() {
+        return """
+                Shape                    %s
+                Target rate              %d processes/s
+                Window                   %.1f s
+                Started / completed      %d / %d
+                Throughput               %.1f processes/s
+                Latency p50 / p99 / max  %.1f / %.1f / %.1f ms
+                DB statements            %.1f per process
+                DB transactions          %.1f per process
+                Allocation               %.1f MB/s, %.1f KB per process
+                GC                       %d collections, %d ms
+                Failed starts            %d
+                Incomplete after drain   %d""".formatted(
+                shape, targetRate, windowSeconds, started, completed, processesPerSecond,
+                p50Millis, p99Millis, maxMillis, statementsPerProcess, transactionsPerProcess,
+                allocationMbPerSecond, allocatedKbPerProcess, gcCount, gcMillis, failedStarts, incomplete
+        );
+    }
+
+}
@@ -0,0 +1,49 @@
+package com.leorces.benchmarks.load;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.FilterType;
+
+/**
+ * Orchestrator side of the load harness: engine, REST API, PostgreSQL persistence and the Camunda extension,
+ * the same way {@code server-with-camunda-extension-example} assembles them.
+ * <p>
+ * The REST client lives on the same classpath, so its package is kept out of the scan, including the
+ * scan declared by {@code OrchestratorRestAutoConfiguration}. The Resilience4j auto-configurations it brings
+ * along are excluded in {@code load/server.yaml}.
+ */
+@SpringBootConfiguration
+@EnableAutoConfiguration(excludeName = {
+        "com.leorces.rest.configuration.OrchestratorRestAutoConfiguration",
+        "com.leorces.rest.client.configuration.RestClientAutoConfiguration"
+})
+@ComponentScan(
+        basePackages = "com.leorces",
+        excludeFilters = @ComponentScan.Filter(type = FilterType.REGEX, pattern = {
+                "com\\.leorces\\.rest\\.client\\..*",
+                "com\\.leorces\\.rest\\.configuration\\.OrchestratorRestAutoConfiguration",
+                "com\\.leorces\\.benchmarks\\..*"
+        })
+)
+public class LoadServerConfiguration {
+
+    @Bean
+    public static StatementCounter statementCounter() {
+        return new StatementCounter();
+    }
+
+    @Bean
+    public static CompletionTracker completionTracker() {
+        return new CompletionTracker();
+    }
+
+    @Bean
+    public MeterRegistry meterRegistry() {
+        return new SimpleMeterRegistry();
+    }
+
+}
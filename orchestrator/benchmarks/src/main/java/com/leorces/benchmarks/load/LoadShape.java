@@ -0,0 +1,84 @@
+package com.leorces.benchmarks.load;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+/**
+ * Canonical process shapes deployed by the load harness from {@code load/bpmn}.
+ * Every external task of every shape uses the {@value #TOPIC} topic.
+ */
+public enum LoadShape {
+
+    /**
+     * Ten external tasks chained one after another.
+     */
+    LINEAR("linear", "LoadLinearProcess", 10),
+
+    /**
+     * Fifty external tasks between a parallel fork and join.
+     */
+    PARALLEL("parallel", "LoadParallelProcess", 50),
+
+    /**
+     * Three levels of embedded subprocesses with one external task per level, plus one before and after.
+     */
+    NESTED_SUBPROCESS("nested-subprocess", "LoadNestedSubprocessProcess", 5),
+
+    /**
+     * A parallel multi-instance call activity spawning {@value #MULTI_INSTANCE_ITEMS} child processes
+     * with one external task each.
+     */
+    MULTI_INSTANCE("multi-instance", "LoadMultiInstanceProcess", LoadShape.MULTI_INSTANCE_ITEMS);
+
+    public static final String TOPIC = "load-task";
+    public static final String CHILD_PROCESS_KEY = "LoadChildProcess";
+
+    private static final int MULTI_INSTANCE_ITEMS = 10;
+
+    private final String id;
+    private final String processDefinitionKey;
+    private final int externalTasks;
+
+    LoadShape(String id, String processDefinitionKey, int externalTasks) {
+        this.id = id;
+        this.processDefinitionKey = processDefinitionKey;
+        this.externalTasks = externalTasks;
+    }
+
+    public static LoadShape of(String id) {
+        return Arrays.stream(values())
+                .filter(shape -> shape.id.equalsIgnoreCase(id) || shape.name().equalsIgnoreCase(id))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown shape '%s', expected one of %s".formatted(
+                        id, Arrays.stream(values()).map(LoadShape::id).toList())));
+    }
+
+    public String id() {
+        return id;
+    }
+
+    public String processDefinitionKey() {
+        return processDefinitionKey;
+    }
+
+    /**
+     * Number of external tasks a single root process of this shape executes, including child processes.
+     */
+    public int externalTasks() {
+        return externalTasks;
+    }
+
+    /**
+     * Variables a root process of this shape is started with.
+     */
+    public Map<String, Object> variables() {
+        if (this == MULTI_INSTANCE) {
+            List<Integer> items = IntStream.range(0, MULTI_INSTANCE_ITEMS).boxed().toList();
+            return Map.of("items", items, "amount", 100);
+        }
+        return Map.of("amount", 100);
+    }
+
+}
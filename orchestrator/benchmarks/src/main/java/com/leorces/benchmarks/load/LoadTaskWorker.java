@@ -0,0 +1,34 @@
+package com.leorces.benchmarks.load;
+
+import com.leorces.rest.client.ExternalTaskService;
+import com.leorces.rest.client.handler.ExternalTaskHandler;
+import com.leorces.rest.client.model.ExternalTask;
+import com.leorces.rest.client.worker.ExternalTaskSubscription;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Completes every load task right away, so the measured latency is the orchestrator's own overhead.
+ * Concurrency is set per process definition through {@code leorces.process.configuration}.
+ */
+@ExternalTaskSubscription(
+        topicName = LoadShape.TOPIC,
+        processDefinitionKeyIn = {
+                "LoadLinearProcess",
+                "LoadParallelProcess",
+                "LoadNestedSubprocessProcess",
+                "LoadMultiInstanceProcess",
+                LoadShape.CHILD_PROCESS_KEY
+        },
+        interval = 100,
+        timeUnit = TimeUnit.MILLISECONDS,
+        longPollTimeout = 1000
+)
+public class LoadTaskWorker implements ExternalTaskHandler {
+
+    @Override
+    public void execute(ExternalTask externalTask, ExternalTaskService externalTaskService) {
+        externalTaskService.complete(externalTask);
+    }
+
+}
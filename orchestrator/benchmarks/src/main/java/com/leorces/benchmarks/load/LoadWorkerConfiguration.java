@@ -0,0 +1,35 @@
+package com.leorces.benchmarks.load;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Import;
+
+/**
+ * Worker side of the load harness: the REST client with {@link LoadTaskWorker} subscribed to every shape,
+ * the same way {@code client-example} assembles it. Nothing of the orchestrator is started here.
+ */
+@SpringBootConfiguration
+@EnableAutoConfiguration(
+        exclude = DataSourceAutoConfiguration.class,
+        excludeName = {
+                "com.leorces.engine.configuration.OrchestratorEngineAutoConfiguration",
+                "com.leorces.rest.configuration.OrchestratorRestAutoConfiguration",
+                "com.leorces.persistence.postgres.configuration.PostgresPersistenceAutoConfiguration",
+                "com.leorces.extension.camunda.configuration.CamundaExtensionAutoConfiguration"
+        }
+)
+@ComponentScan(basePackages = {"com.leorces.rest.client", "com.leorces.common"})
+@Import(LoadTaskWorker.class)
+public class LoadWorkerConfiguration {
+
+    @Bean
+    public MeterRegistry meterRegistry() {
+        return new SimpleMeterRegistry();
+    }
+
+}
@@ -0,0 +1,98 @@
+package com.leorces.benchmarks.load;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts database round-trips issued through the application {@link DataSource}.
+ * <p>
+ * Every {@code execute*} call on a statement, including {@code executeBatch}, is one round-trip.
+ * Commits and rollbacks are counted separately, since with auto-commit disabled they are round-trips too.
+ */
+public class StatementCounter implements BeanPostProcessor {
+
+    private final LongAdder statements = new LongAdder();
+    private final LongAdder transactions = new LongAdder();
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource) {
+            // Keep AutoCloseable so the pool is still closed when the context shuts down
+            var types = dataSource instanceof AutoCloseable
+                    ? new Class<?>[]{DataSource.class, AutoCloseable.class}
+                    : new Class<?>[]{DataSource.class};
+            return proxy(types, dataSource, (method, result) -> {
+                if (result instanceof Connection connection) {
+                    return proxyConnection(connection);
+                }
+                return result;
+            });
+        }
+        return bean;
+    }
+
+    public long statements() {
+        return statements.sum();
+    }
+
+    public long transactions() {
+        return transactions.sum();
+    }
+
+    private Connection proxyConnection(Connection connection) {
+        return proxy(new Class<?>[]{Connection.class}, connection, (method, result) -> {
+            switch (method.getName()) {
+                case "commit", "rollback" -> transactions.increment();
+                default -> {
+                    if (result instanceof Statement statement) {
+                        return proxyStatement(statement);
+                    }
+                }
+            }
+            return result;
+        });
+    }
+
+    private Statement proxyStatement(Statement statement) {
+        var type = statement instanceof CallableStatement ? CallableStatement.class
+                : statement instanceof PreparedStatement ? PreparedStatement.class
+                : Statement.class;
+
+        return proxy(new Class<?>[]{type}, statement, (method, result) -> {
+            if (method.getName().startsWith("execute")) {
+                statements.increment();
+            }
+            return result;
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<?>[] types, T target, ResultDecorator decorator) {
+        InvocationHandler handler = (proxy, method, args) -> {
+            try {
+                return decorator.decorate(method, method.invoke(target, args));
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            }
+        };
+        return (T) Proxy.newProxyInstance(StatementCounter.class.getClassLoader(), types, handler);
+    }
+
+    @FunctionalInterface
+    private interface ResultDecorator {
+
+        Object decorate(Method method, Object result);
+
+    }
+
+}
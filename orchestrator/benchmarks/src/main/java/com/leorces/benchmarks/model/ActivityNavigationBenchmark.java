@@ -0,0 +1,88 @@
+package com.leorces.benchmarks.model;
+
+import com.leorces.benchmarks.BenchmarkData;
+import com.leorces.model.definition.ProcessDefinition;
+import com.leorces.model.definition.activity.ActivityDefinition;
+import com.leorces.model.runtime.activity.ActivityExecution;
+import com.leorces.model.runtime.process.Process;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Activity navigation on large synthetic definitions.
+ * <p>
+ * {@code linearFind*} reproduce the scans over {@link ProcessDefinition#activities()} that were used
+ * before definitions were compiled into a navigation graph.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ActivityNavigationBenchmark {
+
+    @Param({"100", "1000", "5000"})
+    public int tasks;
+
+    private ProcessDefinition definition;
+    private ActivityExecution activity;
+    private String activityId;
+
+    @Setup
+    public void setUp() {
+        definition = BenchmarkData.definition(tasks);
+        activityId = BenchmarkData.taskId(tasks / 2);
+        activity = ActivityExecution.builder()
+                .id("activity-id")
+                .definitionId(activityId)
+                .process(Process.builder()
+                        .id("process-id")
+                        .definition(definition)
+                        .build())
+                .build();
+    }
+
+    @Benchmark
+    public ActivityDefinition getDefinition() {
+        return activity.getDefinition();
+    }
+
+    @Benchmark
+    public List<ActivityDefinition> getNextActivities() {
+        return activity.getNextActivities();
+    }
+
+    @Benchmark
+    public List<ActivityDefinition> getChildActivities() {
+        return ActivityExecution.builder()
+                .definitionId(BenchmarkData.subprocessId(0))
+                .process(activity.process())
+                .build()
+                .getChildActivities();
+    }
+
+    @Benchmark
+    public List<String> getScope() {
+        return activity.getScope();
+    }
+
+    @Benchmark
+    public Optional<ActivityDefinition> linearFindById() {
+        return definition.activities().stream()
+                .filter(candidate -> candidate.id().equals(activityId))
+                .findFirst();
+    }
+
+    @Benchmark
+    public List<ActivityDefinition> linearFindNextActivities() {
+        var outgoing = linearFindById().map(ActivityDefinition::outgoing).orElse(List.of());
+        return definition.activities().stream()
+                .filter(candidate -> outgoing.contains(candidate.id()))
+                .toList();
+    }
+
+}
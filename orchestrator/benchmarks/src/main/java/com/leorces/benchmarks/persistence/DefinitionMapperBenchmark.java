@@ -0,0 +1,49 @@
+package com.leorces.benchmarks.persistence;
+
+import com.leorces.benchmarks.BenchmarkData;
+import com.leorces.model.definition.ProcessDefinition;
+import com.leorces.persistence.postgres.cache.DefinitionCache;
+import com.leorces.persistence.postgres.entity.ProcessDefinitionEntity;
+import com.leorces.persistence.postgres.mapper.DefinitionMapper;
+import org.openjdk.jmh.annotations.*;
+import org.postgresql.util.PGobject;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JSON round-trips of the definition data column.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DefinitionMapperBenchmark {
+
+    @Param({"10", "100", "1000"})
+    public int tasks;
+
+    private DefinitionMapper mapper;
+    private ProcessDefinition definition;
+    private ProcessDefinitionEntity entity;
+
+    @Setup
+    public void setUp() {
+        // Only the JSON conversions are measured, so the repository is never reached
+        mapper = new DefinitionMapper(BenchmarkData.objectMapper(), new DefinitionCache(), null);
+        definition = BenchmarkData.definition(tasks);
+        entity = mapper.toNewEntity(definition, 1);
+    }
+
+    @Benchmark
+    public PGobject toJson() {
+        return mapper.toJson(definition);
+    }
+
+    @Benchmark
+    public ProcessDefinition fromJson() {
+        return mapper.toDefinition(entity);
+    }
+
+}
@@ -0,0 +1,70 @@
+package com.leorces.benchmarks.persistence;
+
+import com.leorces.benchmarks.BenchmarkData;
+import com.leorces.model.runtime.process.ProcessExecution;
+import com.leorces.persistence.postgres.codec.HistoryCodecs;
+import com.leorces.persistence.postgres.codec.HistoryFormat;
+import com.leorces.persistence.postgres.configuration.HistoryCodecProperties;
+import com.leorces.persistence.postgres.entity.HistoryEntity;
+import com.leorces.persistence.postgres.mapper.HistoryMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encoding and decoding of completed process executions moved to history by compaction,
+ * compared across history formats. The {@code encodedBytes} counter reports the size of one history item.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class HistoryMapperBenchmark {
+
+    @Param({"10", "100"})
+    public int tasks;
+
+    @Param({"GZIP_JSON", "SMILE_LZ4"})
+    public HistoryFormat format;
+
+    private HistoryMapper mapper;
+    private ProcessExecution execution;
+    private HistoryEntity entity;
+    private int encodedBytes;
+
+    @Setup
+    public void setUp() throws Exception {
+        var codecs = new HistoryCodecs(BenchmarkData.objectMapper(), new HistoryCodecProperties(format));
+        mapper = new HistoryMapper(codecs);
+        execution = BenchmarkData.processExecution(tasks);
+        entity = mapper.toEntity(execution);
+        encodedBytes = codecs.encoder().encode(execution).length;
+    }
+
+    @Benchmark
+    public HistoryEntity encode(EncodedSize size) {
+        size.encodedBytes = encodedBytes;
+        return mapper.toEntity(execution);
+    }
+
+    @Benchmark
+    public ProcessExecution decode() {
+        return mapper.toExecution(entity);
+    }
+
+    @Benchmark
+    public ProcessExecution decodeSummary() {
+        return mapper.toSummary(entity);
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class EncodedSize {
+
+        public long encodedBytes;
+
+    }
+
+}
@@ -0,0 +1,30 @@
+package com.leorces.benchmarks.persistence;
+
+import com.leorces.persistence.utils.IdGenerator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Identifier generation, called for every persisted process, activity and variable.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class IdGeneratorBenchmark {
+
+    @Benchmark
+    public String getNewId() {
+        return IdGenerator.getNewId();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public String getNewIdContended() {
+        return IdGenerator.getNewId();
+    }
+
+}
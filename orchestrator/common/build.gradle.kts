@@ -6,6 +6,9 @@ dependencies {
     implementation(libs.spring.boot.starter)
     implementation(libs.spring.boot.starter.actuator)
 
+    // Cache
+    implementation(libs.guava)
+
     // Micrometer & Prometheus
     implementation(libs.micrometer.core)
     implementation(libs.micrometer.registry.prometheus)
@@ -2,21 +2,29 @@ package com.leorces.common.mapper;
 
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.leorces.model.runtime.activity.ActivityExecution;
 import com.leorces.model.runtime.process.Process;
 import com.leorces.model.runtime.variable.Variable;
 import lombok.AllArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 
 /**
  * Mapper for variable transformations between different formats and contexts.
  * Handles conversion between Variable objects, Maps, and various data types with proper type detection.
+ * <p>
+ * Structured values of stored variables are decoded once per variable ID and update time and kept in a bounded
+ * cache, so the same process variables read by every gateway, condition and poll are not parsed again.
+ * Cached lists and maps are shared, so they are returned unmodifiable.
  */
 @Component
 @AllArgsConstructor
@@ -31,7 +39,16 @@ public class VariablesMapper {
     private static final String STRING_TYPE = "string";
     private static final String LIST_TYPE = "list";
     private static final String MAP_TYPE = "map";
+    private static final Set<String> SCALAR_TYPES = Set.of(
+            NULL_TYPE, INTEGER_TYPE, LONG_TYPE, BOOLEAN_TYPE, DOUBLE_TYPE, FLOAT_TYPE, STRING_TYPE
+    );
+    private static final long DECODED_CACHE_MAX_CHARS = 4L * 1024 * 1024;
+
     private final ObjectMapper objectMapper;
+    private final Cache<DecodedKey, Decoded> decodedValues = CacheBuilder.newBuilder()
+            .maximumWeight(DECODED_CACHE_MAX_CHARS)
+            .<DecodedKey, Decoded>weigher((key, decoded) -> decoded.size())
+            .build();
 
 
     /**
@@ -97,7 +114,7 @@ public class VariablesMapper {
         }
 
         var result = new LinkedHashMap<String, Object>();
-        variables.forEach(v -> result.put(v.varKey(), convertStringToValue(v.varValue(), v.type())));
+        variables.forEach(v -> result.put(v.varKey(), toValue(v)));
         return result;
     }
 
@@ -119,7 +136,7 @@ public class VariablesMapper {
             variables.stream()
                     .filter(v -> sc.equals(v.executionDefinitionId()))
                     .filter(v -> !result.containsKey(v.varKey()))
-                    .forEach(v -> result.put(v.varKey(), convertStringToValue(v.varValue(), v.type())));
+                    .forEach(v -> result.put(v.varKey(), toValue(v)));
         }
         return result;
     }
@@ -170,6 +187,36 @@ public class VariablesMapper {
         };
     }
 
+    private Object toValue(Variable variable) {
+        var value = variable.varValue();
+        if (value == null || variable.type() == null || SCALAR_TYPES.contains(variable.type())
+                || variable.id() == null || variable.updatedAt() == null) {
+            return convertStringToValue(value, variable.type());
+        }
+
+        var key = new DecodedKey(variable.id(), variable.updatedAt());
+        var decoded = decodedValues.getIfPresent(key);
+        if (decoded == null) {
+            decoded = new Decoded(unmodifiable(convertStringToValue(value, variable.type())), value.length());
+            decodedValues.put(key, decoded);
+        }
+        return decoded.value();
+    }
+
+    private static Object unmodifiable(Object value) {
+        return switch (value) {
+            case Map<?, ?> map -> {
+                var copy = new LinkedHashMap<Object, Object>();
+                map.forEach((key, item) -> copy.put(key, unmodifiable(item)));
+                yield Collections.unmodifiableMap(copy);
+            }
+            case List<?> list -> list.stream()
+                    .map(VariablesMapper::unmodifiable)
+                    .toList();
+            case null, default -> value;
+        };
+    }
+
     private String getVariableType(Object value) {
         return switch (value) {
             case null -> NULL_TYPE;
@@ -208,4 +255,12 @@ public class VariablesMapper {
         };
     }
 
+    private record DecodedKey(String variableId, LocalDateTime updatedAt) {
+
+    }
+
+    private record Decoded(Object value, int size) {
+
+    }
+
 }
@@ -2,6 +2,7 @@ package com.leorces.common.service;
 
 import java.time.Duration;
 import java.util.Map;
+import java.util.function.Supplier;
 
 /**
  * Service for managing Prometheus metrics.
@@ -109,6 +110,25 @@ public interface MetricService {
      */
     void recordTimer(String name, Duration duration, Map<String, String> labels);
 
+    /**
+     * Registers a gauge metric with labels that reads its value from the given supplier.
+     * The owner of the value updates it without a registry lookup.
+     *
+     * @param name   the name of the gauge metric
+     * @param labels the labels to associate with the metric
+     * @param value  the supplier of the gauge value
+     */
+    void registerGauge(String name, Map<String, String> labels, Supplier<Number> value);
+
+    /**
+     * Resolves a timer metric with labels once, so timings recorded through it skip the registry lookup.
+     *
+     * @param name   the name of the timer metric
+     * @param labels the labels to associate with the metric
+     * @return a recorder of the timer
+     */
+    TimerRecorder timer(String name, Map<String, String> labels);
+
     /**
      * Starts a timer and returns a timer sample that can be stopped to record the duration.
      *
@@ -138,4 +158,18 @@ public interface MetricService {
 
     }
 
-}
\ No newline at end of file
+    /**
+     * Timer resolved for a metric name and labels.
+     */
+    interface TimerRecorder {
+
+        /**
+         * Records a timing observation.
+         *
+         * @param duration the duration to record
+         */
+        void record(Duration duration);
+
+    }
+
+}
@@ -5,6 +5,7 @@ import lombok.RequiredArgsConstructor;
 
 import java.time.Duration;
 import java.util.Map;
+import java.util.function.Supplier;
 
 /**
  * Decorator implementation of MetricService that can enable or disable metrics collection.
@@ -101,6 +102,24 @@ public class MetricServiceImpl implements MetricService {
         }
     }
 
+    @Override
+    public void registerGauge(String name, Map<String, String> labels, Supplier<Number> value) {
+        if (enabled) {
+            delegate.registerGauge(name, labels, value);
+        }
+    }
+
+    @Override
+    public TimerRecorder timer(String name, Map<String, String> labels) {
+        if (enabled) {
+            return delegate.timer(name, labels);
+        } else {
+            return duration -> {
+                // No-op when metrics are disabled
+            };
+        }
+    }
+
     @Override
     public TimerSample startTimer() {
         if (enabled) {
@@ -11,6 +11,7 @@ import java.time.Duration;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
 
 /**
  * Implementation of MetricService using Micrometer for Prometheus metrics.
@@ -47,49 +48,22 @@ public class MicrometerMetricService implements MetricService {
 
     @Override
     public void setGauge(String name, double value) {
-        var gaugeKey = buildGaugeKey(name, Map.of());
-        var atomicValue = gaugeReferences.computeIfAbsent(gaugeKey, k -> new AtomicReference<>(value));
-        atomicValue.set(value);
-
-        if (meterRegistry.find(name).gauge() == null) {
-            Gauge.builder(name, atomicValue, AtomicReference::get)
-                    .register(meterRegistry);
-        }
+        gaugeOf(name, Map.of()).set(value);
     }
 
     @Override
     public void setGauge(String name, double value, Map<String, String> labels) {
-        var gaugeKey = buildGaugeKey(name, labels);
-        var atomicValue = gaugeReferences.computeIfAbsent(gaugeKey, k -> new AtomicReference<>(value));
-        atomicValue.set(value);
-
-        if (findGaugeWithTags(name, labels) == null) {
-            var builder = Gauge.builder(name, atomicValue, AtomicReference::get);
-            labels.forEach(builder::tag);
-            builder.register(meterRegistry);
-        }
+        gaugeOf(name, labels).set(value);
     }
 
     @Override
     public void incrementGauge(String name, double amount) {
-        var gaugeKey = buildGaugeKey(name, Map.of());
-        var atomicValue = gaugeReferences.get(gaugeKey);
-        if (atomicValue != null) {
-            atomicValue.updateAndGet(current -> current + amount);
-        } else {
-            setGauge(name, amount);
-        }
+        gaugeOf(name, Map.of()).updateAndGet(current -> current + amount);
     }
 
     @Override
     public void incrementGauge(String name, double amount, Map<String, String> labels) {
-        var gaugeKey = buildGaugeKey(name, labels);
-        var atomicValue = gaugeReferences.get(gaugeKey);
-        if (atomicValue != null) {
-            atomicValue.updateAndGet(current -> current + amount);
-        } else {
-            setGauge(name, amount, labels);
-        }
+        gaugeOf(name, labels).updateAndGet(current -> current + amount);
     }
 
     @Override
@@ -116,6 +90,18 @@ public class MicrometerMetricService implements MetricService {
         buildTimerWithTags(name, labels).record(duration);
     }
 
+    @Override
+    public void registerGauge(String name, Map<String, String> labels, Supplier<Number> value) {
+        var builder = Gauge.builder(name, value);
+        labels.forEach(builder::tag);
+        builder.register(meterRegistry);
+    }
+
+    @Override
+    public TimerRecorder timer(String name, Map<String, String> labels) {
+        return buildTimerWithTags(name, labels)::record;
+    }
+
     @Override
     public TimerSample startTimer() {
         var sample = Timer.start(meterRegistry);
@@ -134,10 +120,17 @@ public class MicrometerMetricService implements MetricService {
         return builder.register(meterRegistry);
     }
 
-    private Gauge findGaugeWithTags(String name, Map<String, String> labels) {
-        var meterBuilder = meterRegistry.find(name);
-        labels.forEach(meterBuilder::tag);
-        return meterBuilder.gauge();
+    /**
+     * Registers the gauge together with its value on first use, so concurrent first updates are never lost.
+     */
+    private AtomicReference<Double> gaugeOf(String name, Map<String, String> labels) {
+        return gaugeReferences.computeIfAbsent(buildGaugeKey(name, labels), key -> {
+            var value = new AtomicReference<>(0.0);
+            var builder = Gauge.builder(name, value, AtomicReference::get);
+            labels.forEach(builder::tag);
+            builder.register(meterRegistry);
+            return value;
+        });
     }
 
     private String buildGaugeKey(String name, Map<String, String> labels) {
@@ -11,6 +11,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.Duration;
 import java.util.Map;
+import java.util.function.Supplier;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.mockito.Mockito.*;
@@ -279,6 +280,40 @@ class MetricServiceImplTest {
         verifyNoInteractions(delegate);
     }
 
+    @Test
+    @DisplayName("Should delegate registerGauge when enabled")
+    void shouldDelegateRegisterGaugeWhenEnabled() {
+        // Given
+        Supplier<Number> value = () -> VALUE;
+
+        // When
+        enabledService.registerGauge(METRIC_NAME, TEST_LABELS, value);
+
+        // Then
+        verify(delegate).registerGauge(METRIC_NAME, TEST_LABELS, value);
+    }
+
+    @Test
+    @DisplayName("Should not delegate registerGauge when disabled")
+    void shouldNotDelegateRegisterGaugeWhenDisabled() {
+        // When
+        disabledService.registerGauge(METRIC_NAME, TEST_LABELS, () -> VALUE);
+
+        // Then
+        verifyNoInteractions(delegate);
+    }
+
+    @Test
+    @DisplayName("Should return no-op timer recorder when disabled")
+    void shouldReturnNoOpTimerRecorderWhenDisabled() {
+        // When
+        var timer = disabledService.timer(METRIC_NAME, TEST_LABELS);
+        timer.record(DURATION);
+
+        // Then
+        verifyNoInteractions(delegate);
+    }
+
     @Test
     @DisplayName("Should delegate startTimer when enabled")
     void shouldDelegateStartTimerWhenEnabled() {
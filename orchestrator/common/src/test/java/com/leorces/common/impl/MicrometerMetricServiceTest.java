@@ -13,6 +13,9 @@ import org.junit.jupiter.api.Test;
 
 import java.time.Duration;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -151,6 +154,34 @@ class MicrometerMetricServiceTest {
         assertThat(gauge.value()).isEqualTo(increment);
     }
 
+    @Test
+    @DisplayName("Should keep every increment when a gauge is first used concurrently")
+    void shouldKeepConcurrentFirstIncrements() {
+        // When
+        IntStream.range(0, 1000).parallel().forEach(i -> metricService.incrementGauge(GAUGE_NAME, 1, TEST_LABELS));
+
+        // Then
+        var gauge = meterRegistry.find(GAUGE_NAME).tags("env", "test").gauge();
+        assertThat(gauge).isNotNull();
+        assertThat(gauge.value()).isEqualTo(1000.0);
+    }
+
+    @Test
+    @DisplayName("Should read a registered gauge from its supplier")
+    void shouldReadRegisteredGaugeFromSupplier() {
+        // Given
+        var value = new AtomicLong();
+        metricService.registerGauge(GAUGE_NAME, TEST_LABELS, value::get);
+
+        // When
+        value.addAndGet(3);
+
+        // Then
+        var gauge = meterRegistry.find(GAUGE_NAME).tags("env", "test").gauge();
+        assertThat(gauge).isNotNull();
+        assertThat(gauge.value()).isEqualTo(3.0);
+    }
+
     @Test
     @DisplayName("Should record histogram value when recordHistogram is called")
     void shouldRecordHistogramValueWhenRecordHistogramIsCalled() {
@@ -211,6 +242,23 @@ class MicrometerMetricServiceTest {
         assertThat(timer.count()).isEqualTo(1L);
     }
 
+    @Test
+    @DisplayName("Should record timer duration through a resolved timer")
+    void shouldRecordTimerDurationThroughResolvedTimer() {
+        // Given
+        var timer = metricService.timer(TIMER_NAME, TEST_LABELS);
+
+        // When
+        timer.record(Duration.ofMillis(10));
+        timer.record(Duration.ofMillis(20));
+
+        // Then
+        var registered = meterRegistry.find(TIMER_NAME).tags("env", "test").timer();
+        assertThat(registered).isNotNull();
+        assertThat(registered.count()).isEqualTo(2);
+        assertThat(registered.totalTime(TimeUnit.MILLISECONDS)).isEqualTo(30.0);
+    }
+
     @Test
     @DisplayName("Should start and stop timer sample successfully")
     void shouldStartAndStopTimerSampleSuccessfully() {
@@ -11,6 +11,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
+import java.time.LocalDateTime;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -475,6 +476,54 @@ class VariablesMapperTest {
         assertNotNull(convertedBack.get("complexVar"));
     }
 
+    @Test
+    @DisplayName("Should decode structured value once per variable version")
+    void shouldDecodeStructuredValueOncePerVariableVersion() {
+        // Given
+        var updatedAt = LocalDateTime.of(2026, 10, 18, 12, 0);
+        var variable = Variable.builder()
+                .id("variable-id")
+                .varKey("order")
+                .varValue("{\"items\":[1,2]}")
+                .type(MAP_TYPE)
+                .updatedAt(updatedAt)
+                .build();
+        var updatedVariable = variable.toBuilder()
+                .varValue("{\"items\":[3]}")
+                .updatedAt(updatedAt.plusSeconds(1))
+                .build();
+
+        // When
+        var first = variablesMapper.toMap(List.of(variable)).get("order");
+        var second = variablesMapper.toMap(List.of(variable)).get("order");
+        var updated = variablesMapper.toMap(List.of(updatedVariable)).get("order");
+
+        // Then
+        assertSame(first, second);
+        assertEquals(Map.of("items", List.of(1, 2)), first);
+        assertEquals(Map.of("items", List.of(3)), updated);
+    }
+
+    @Test
+    @DisplayName("Should return cached structured values unmodifiable")
+    void shouldReturnCachedStructuredValuesUnmodifiable() {
+        // Given
+        var variable = Variable.builder()
+                .id("variable-id")
+                .varKey("order")
+                .varValue("{\"items\":[1,2]}")
+                .type(MAP_TYPE)
+                .updatedAt(LocalDateTime.of(2026, 10, 18, 12, 0))
+                .build();
+
+        // When
+        var value = (Map<?, ?>) variablesMapper.toMap(List.of(variable)).get("order");
+
+        // Then
+        assertThrows(UnsupportedOperationException.class, value::clear);
+        assertThrows(UnsupportedOperationException.class, () -> ((List<?>) value.get("items")).clear());
+    }
+
     private Variable findVariableByKey(List<Variable> variables, String key) {
         return variables.stream()
                 .filter(v -> key.equals(v.varKey()))
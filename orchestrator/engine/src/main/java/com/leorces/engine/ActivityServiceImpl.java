@@ -2,16 +2,28 @@ package com.leorces.engine;
 
 import com.leorces.api.ActivityService;
 import com.leorces.engine.activity.command.*;
+import com.leorces.engine.configuration.properties.PollProperties;
 import com.leorces.engine.core.CommandDispatcher;
+import com.leorces.engine.service.ActivityPollNotifier;
+import com.leorces.engine.service.TaskExecutorService;
 import com.leorces.model.runtime.activity.Activity;
+import com.leorces.model.runtime.activity.ActivityCompleteRequest;
+import com.leorces.model.runtime.activity.ActivityFailRequest;
 import com.leorces.model.runtime.activity.ActivityFailure;
+import com.leorces.model.runtime.activity.ActivityPollRequest;
+import com.leorces.model.runtime.activity.ActivityUpdateResult;
 import com.leorces.persistence.ActivityPersistence;
+import com.leorces.persistence.VariablePersistence;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
 
 @Slf4j
 @AllArgsConstructor
@@ -19,7 +31,11 @@ import java.util.Map;
 public class ActivityServiceImpl implements ActivityService {
 
     private final ActivityPersistence activityPersistence;
+    private final VariablePersistence variablePersistence;
     private final CommandDispatcher dispatcher;
+    private final ActivityPollNotifier pollNotifier;
+    private final TaskExecutorService taskExecutor;
+    private final PollProperties pollProperties;
 
     @Override
     public void run(String definitionId, String processId) {
@@ -59,6 +75,18 @@ public class ActivityServiceImpl implements ActivityService {
         dispatcher.dispatchAsync(FailActivityCommand.of(activityId, failure, variables));
     }
 
+    @Override
+    public List<ActivityUpdateResult> completeAll(List<ActivityCompleteRequest> requests) {
+        log.debug("Complete {} activities", requests.size());
+        return dispatcher.execute(CompleteActivitiesCommand.of(requests));
+    }
+
+    @Override
+    public List<ActivityUpdateResult> failAll(List<ActivityFailRequest> requests) {
+        log.debug("Fail {} activities", requests.size());
+        return dispatcher.execute(FailActivitiesCommand.of(requests));
+    }
+
     @Override
     public void terminate(String activityId) {
         log.debug("Terminate activity by id: {}", activityId);
@@ -76,4 +104,77 @@ public class ActivityServiceImpl implements ActivityService {
         return activityPersistence.poll(topic, processDefinitionKey, limit);
     }
 
+    @Override
+    public List<Activity> poll(String topic, String processDefinitionKey, int limit, Duration timeout) {
+        return join(pollAsync(topic, processDefinitionKey, limit, timeout));
+    }
+
+    @Override
+    public List<Activity> poll(List<ActivityPollRequest> requests, Duration timeout) {
+        return join(pollAsync(requests, timeout));
+    }
+
+    @Override
+    public CompletableFuture<List<Activity>> pollAsync(String topic, String processDefinitionKey, int limit, Duration timeout) {
+        var requests = List.of(ActivityPollRequest.of(topic, processDefinitionKey, limit));
+        return longPoll(requests, () -> activityPersistence.poll(topic, processDefinitionKey, limit), deadline(timeout));
+    }
+
+    @Override
+    public CompletableFuture<List<Activity>> pollAsync(List<ActivityPollRequest> requests, Duration timeout) {
+        return longPoll(requests, () -> activityPersistence.poll(requests), deadline(timeout));
+    }
+
+    @Override
+    public Map<String, String> findVariableValues(List<String> variableIds) {
+        log.debug("Find values of variables: {}", variableIds);
+        return variablePersistence.findValues(variableIds);
+    }
+
+    /**
+     * Polls until activities are found or the deadline passes. An empty poll holds no thread while it waits,
+     * the next poll runs on the engine executor once any of the topics is signalled.
+     */
+    private CompletableFuture<List<Activity>> longPoll(List<ActivityPollRequest> requests,
+                                                       Supplier<List<Activity>> poll,
+                                                       long deadline) {
+        var versions = pollNotifier.versions(requests);
+        var activities = poll.get();
+        var remaining = deadline - System.nanoTime();
+
+        if (!activities.isEmpty() || remaining <= 0) {
+            return CompletableFuture.completedFuture(activities);
+        }
+
+        log.debug("Waiting up to {} ms for activities of {} topics", Duration.ofNanos(remaining).toMillis(), requests.size());
+        return pollNotifier.awaitAny(versions, Duration.ofNanos(remaining))
+                .thenComposeAsync(signalled -> signalled
+                        ? longPoll(requests, poll, deadline)
+                        : CompletableFuture.completedFuture(activities), taskExecutor::execute);
+    }
+
+    private List<Activity> join(CompletableFuture<List<Activity>> activities) {
+        try {
+            return activities.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private long deadline(Duration timeout) {
+        return System.nanoTime() + resolveTimeout(timeout).toNanos();
+    }
+
+    private Duration resolveTimeout(Duration timeout) {
+        if (timeout == null || timeout.isNegative()) {
+            return Duration.ZERO;
+        }
+
+        var maxTimeout = pollProperties.maxTimeout();
+        return timeout.compareTo(maxTimeout) > 0 ? maxTimeout : timeout;
+    }
+
 }
@@ -22,4 +22,10 @@ public class HistoryServiceImpl implements HistoryService {
         return historyPersistence.findAll(pageable);
     }
 
+    @Override
+    public PageableData<ProcessExecution> findAllSummaries(Pageable pageable) {
+        log.debug("Finding all process summaries for pageable: {}", pageable);
+        return historyPersistence.findAllSummaries(pageable);
+    }
+
 }
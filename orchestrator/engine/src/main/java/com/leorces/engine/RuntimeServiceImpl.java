@@ -4,15 +4,20 @@ import com.leorces.api.RuntimeService;
 import com.leorces.engine.activity.command.RetryAllActivitiesCommand;
 import com.leorces.engine.core.CommandDispatcher;
 import com.leorces.engine.correlation.command.CorrelateMessageCommand;
+import com.leorces.engine.correlation.command.CorrelateMessagesCommand;
 import com.leorces.engine.process.command.*;
 import com.leorces.engine.variables.command.SetVariablesCommand;
+import com.leorces.model.runtime.message.CorrelationRequest;
+import com.leorces.model.runtime.message.CorrelationResult;
 import com.leorces.model.runtime.process.Process;
+import com.leorces.model.runtime.process.StartProcessRequest;
 import com.leorces.model.search.ProcessFilter;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 
 @Slf4j
@@ -72,6 +77,12 @@ public class RuntimeServiceImpl implements RuntimeService {
         return dispatcher.execute(RunProcessCommand.byDefinitionKey(key, businessKey, variables));
     }
 
+    @Override
+    public List<Process> startProcesses(List<StartProcessRequest> requests) {
+        log.debug("Start {} processes", requests.size());
+        return dispatcher.execute(RunProcessesCommand.of(requests));
+    }
+
     @Override
     public void terminateProcess(String processId) {
         log.debug("Terminate process by process id: {}", processId);
@@ -171,4 +182,10 @@ public class RuntimeServiceImpl implements RuntimeService {
         dispatcher.dispatch(CorrelateMessageCommand.of(messageName, businessKey, correlationKeys, processVariables));
     }
 
+    @Override
+    public List<CorrelationResult> correlateMessages(List<CorrelationRequest> requests) {
+        log.debug("Correlate {} messages", requests.size());
+        return dispatcher.execute(CorrelateMessagesCommand.of(requests));
+    }
+
 }
@@ -0,0 +1,43 @@
+package com.leorces.engine.activity;
+
+import com.leorces.model.runtime.process.Process;
+import com.leorces.persistence.ActivityPersistence;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Creates the arrival counters of joining parallel gateways when processes start.
+ * <p>
+ * A gateway of a running process without a counter belongs to a process started before arrivals were counted,
+ * so its join falls back to checking whether all incoming activities completed.
+ */
+@Component
+@RequiredArgsConstructor
+public class GatewayJoinService {
+
+    private final ActivityPersistence activityPersistence;
+
+    /**
+     * Creates the counters of the joining gateways of the processes, if their definitions have any.
+     *
+     * @param processes the started processes
+     */
+    public void createJoins(List<Process> processes) {
+        var processIds = new ArrayList<String>();
+        var definitionIds = new ArrayList<String>();
+        for (var process : processes) {
+            for (var gateway : process.definition().graph().getJoiningGateways()) {
+                processIds.add(process.id());
+                definitionIds.add(gateway.id());
+            }
+        }
+
+        if (!processIds.isEmpty()) {
+            activityPersistence.createJoins(processIds, definitionIds);
+        }
+    }
+
+}
@@ -24,6 +24,11 @@ public abstract class AbstractBoundaryEventBehavior extends AbstractActivityBeha
         dispatcher.dispatchAsync(RunActivityCommand.of(process, boundaryEventDefinition));
     }
 
+    @Override
+    public void triggerSynchronously(Process process, ActivityDefinition boundaryEventDefinition) {
+        dispatcher.dispatch(RunActivityCommand.of(process, boundaryEventDefinition));
+    }
+
     @Override
     public void run(ActivityExecution boundaryEvent) {
         var boundaryEventDefinition = (BoundaryEventDefinition) boundaryEvent.definition();
@@ -11,6 +11,7 @@ import com.leorces.model.runtime.activity.ActivityExecution;
 import com.leorces.persistence.ActivityPersistence;
 
 import java.time.LocalDateTime;
+import java.util.Map;
 import java.util.Optional;
 
 public abstract class AbstractExternalTaskBehavior extends AbstractActivityBehavior {
@@ -33,11 +34,13 @@ public abstract class AbstractExternalTaskBehavior extends AbstractActivityBehav
     }
 
     @Override
-    public boolean fail(ActivityExecution externalTask) {
-        int maxRetries = resolveRetries(externalTask);
+    public void complete(ActivityExecution externalTask, Map<String, Object> variables) {
+        onComplete(activityPersistence.complete(externalTask), variables);
+    }
 
-        if (externalTask.retries() < maxRetries) {
-            dispatcher.dispatchAsync(RetryActivityCommand.of(externalTask));
+    @Override
+    public boolean fail(ActivityExecution externalTask) {
+        if (retryIfPossible(externalTask)) {
             return false;
         }
 
@@ -45,6 +48,32 @@ public abstract class AbstractExternalTaskBehavior extends AbstractActivityBehav
         return true;
     }
 
+    /**
+     * Continues the process once the external task is stored as completed,
+     * alone by {@link #complete(ActivityExecution, Map)} or with the other external tasks of a batch.
+     *
+     * @param completedExternalTask the completed external task
+     * @param variables             the variables to set
+     */
+    public void onComplete(ActivityExecution completedExternalTask, Map<String, Object> variables) {
+        postComplete(completedExternalTask, variables);
+    }
+
+    /**
+     * Retries the failed external task if it has retries left.
+     *
+     * @param externalTask the failed external task
+     * @return true if the external task is retried, false if it is out of retries and has to be stored as failed
+     */
+    public boolean retryIfPossible(ActivityExecution externalTask) {
+        if (externalTask.retries() >= resolveRetries(externalTask)) {
+            return false;
+        }
+
+        dispatcher.dispatchAsync(RetryActivityCommand.of(externalTask));
+        return true;
+    }
+
     @Override
     public void retry(ActivityExecution externalTask) {
         activityPersistence.schedule(incrementRetries(externalTask));
@@ -31,8 +31,7 @@ public abstract class AbstractThrowMessageBehavior extends AbstractExternalTaskB
     }
 
     @Override
-    public void complete(ActivityExecution messageThrowActivity, Map<String, Object> variables) {
-        var completedMessageThrowEvent = activityPersistence.complete(messageThrowActivity);
+    public void onComplete(ActivityExecution completedMessageThrowEvent, Map<String, Object> variables) {
         correlateMessage(completedMessageThrowEvent);
         postComplete(completedMessageThrowEvent, variables);
     }
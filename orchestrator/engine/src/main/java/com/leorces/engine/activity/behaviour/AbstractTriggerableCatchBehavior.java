@@ -25,6 +25,13 @@ public abstract class AbstractTriggerableCatchBehavior extends AbstractActivityB
                 .ifPresent(dispatcher::dispatchAsync);
     }
 
+    @Override
+    public void triggerSynchronously(Process process, ActivityDefinition intermediateCatchEventDefinition) {
+        activityPersistence.findByDefinitionId(process.id(), intermediateCatchEventDefinition.id())
+                .map(CompleteActivityCommand::of)
+                .ifPresent(dispatcher::dispatch);
+    }
+
     @Override
     public void complete(ActivityExecution intermediateCatchEvent, Map<String, Object> variables) {
         var completedIntermediateCatchEvent = activityPersistence.complete(intermediateCatchEvent);
@@ -12,6 +12,7 @@ import com.leorces.persistence.ActivityPersistence;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 public abstract class AbstractTriggerableStartEventBehavior
         extends AbstractActivityBehavior
@@ -24,11 +25,14 @@ public abstract class AbstractTriggerableStartEventBehavior
 
     @Override
     public void trigger(Process process, ActivityDefinition definition) {
-        var eventSubprocessDefinition = getEventSubprocess(process, definition);
-        var existingEventSubprocess = activityPersistence.findByDefinitionId(process.id(), eventSubprocessDefinition.id());
-        if (existingEventSubprocess.isEmpty() || existingEventSubprocess.get().isInTerminalState()) {
-            dispatcher.dispatchAsync(RunActivityCommand.of(process, eventSubprocessDefinition));
-        }
+        findEventSubprocessToRun(process, definition)
+                .ifPresent(eventSubprocess -> dispatcher.dispatchAsync(RunActivityCommand.of(process, eventSubprocess)));
+    }
+
+    @Override
+    public void triggerSynchronously(Process process, ActivityDefinition definition) {
+        findEventSubprocessToRun(process, definition)
+                .ifPresent(eventSubprocess -> dispatcher.dispatch(RunActivityCommand.of(process, eventSubprocess)));
     }
 
     @Override
@@ -57,6 +61,15 @@ public abstract class AbstractTriggerableStartEventBehavior
     }
 
 
+    private Optional<ActivityDefinition> findEventSubprocessToRun(Process process, ActivityDefinition definition) {
+        var eventSubprocessDefinition = getEventSubprocess(process, definition);
+        var existingEventSubprocess = activityPersistence.findByDefinitionId(process.id(), eventSubprocessDefinition.id());
+        if (existingEventSubprocess.isEmpty() || existingEventSubprocess.get().isInTerminalState()) {
+            return Optional.of(eventSubprocessDefinition);
+        }
+        return Optional.empty();
+    }
+
     private ActivityDefinition getEventSubprocess(Process process, ActivityDefinition definition) {
         return process.definition().getActivityById(definition.parentId())
                 .orElseThrow(() -> ExecutionException.of("Event subprocess not found", "Event subprocess with definition id %s not found".formatted(definition.parentId()), process));
@@ -8,6 +8,14 @@ public interface TriggerableActivityBehaviour {
 
     void trigger(Process process, ActivityDefinition definition);
 
+    /**
+     * Triggers the activity and runs the work the trigger starts before returning, so a failure reaches the caller.
+     *
+     * @param process    the process the activity belongs to
+     * @param definition the activity definition
+     */
+    void triggerSynchronously(Process process, ActivityDefinition definition);
+
     ActivityType type();
 
 }
@@ -0,0 +1,27 @@
+package com.leorces.engine.activity.behaviour.event.boundary;
+
+import com.leorces.engine.activity.behaviour.AbstractBoundaryEventBehavior;
+import com.leorces.engine.core.CommandDispatcher;
+import com.leorces.model.definition.activity.ActivityType;
+import com.leorces.model.runtime.activity.ActivityExecution;
+import com.leorces.persistence.ActivityPersistence;
+import org.springframework.stereotype.Component;
+
+@Component
+public class TimerBoundaryEventBehavior extends AbstractBoundaryEventBehavior {
+
+    protected TimerBoundaryEventBehavior(ActivityPersistence activityPersistence,
+                                         CommandDispatcher dispatcher) {
+        super(activityPersistence, dispatcher);
+    }
+
+    @Override
+    public ActivityType type() {
+        return ActivityType.TIMER_BOUNDARY_EVENT;
+    }
+
+    protected boolean canRun(ActivityExecution attachedActivity) {
+        return !attachedActivity.isInTerminalState();
+    }
+
+}
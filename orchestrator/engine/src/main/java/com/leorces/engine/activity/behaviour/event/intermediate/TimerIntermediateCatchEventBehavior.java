@@ -0,0 +1,34 @@
+package com.leorces.engine.activity.behaviour.event.intermediate;
+
+import com.leorces.engine.activity.behaviour.AbstractTriggerableCatchBehavior;
+import com.leorces.engine.core.CommandDispatcher;
+import com.leorces.engine.timer.TimerService;
+import com.leorces.model.definition.activity.ActivityType;
+import com.leorces.model.runtime.activity.ActivityExecution;
+import com.leorces.persistence.ActivityPersistence;
+import org.springframework.stereotype.Component;
+
+@Component
+public class TimerIntermediateCatchEventBehavior extends AbstractTriggerableCatchBehavior {
+
+    private final TimerService timerService;
+
+    protected TimerIntermediateCatchEventBehavior(ActivityPersistence activityPersistence,
+                                                  CommandDispatcher dispatcher,
+                                                  TimerService timerService) {
+        super(activityPersistence, dispatcher);
+        this.timerService = timerService;
+    }
+
+    @Override
+    public void run(ActivityExecution timerIntermediateCatchEvent) {
+        var newTimerIntermediateCatchEvent = activityPersistence.run(timerIntermediateCatchEvent);
+        timerService.scheduleTimer(newTimerIntermediateCatchEvent);
+    }
+
+    @Override
+    public ActivityType type() {
+        return ActivityType.TIMER_INTERMEDIATE_CATCH_EVENT;
+    }
+
+}
@@ -19,16 +19,8 @@ public class ParallelGatewayBehavior extends AbstractActivityBehavior {
 
     @Override
     public void run(ActivityExecution parallelGateway) {
-        if (parallelGateway.definition().incoming().size() == 1) {
-            dispatcher.dispatchAsync(CompleteActivityCommand.of(parallelGateway));
-            return;
-        }
-
-        var incomingActivityIds = parallelGateway.previousActivities().stream()
-                .map(ActivityDefinition::id)
-                .toList();
-
-        if (activityPersistence.isAllCompleted(parallelGateway.processId(), incomingActivityIds)) {
+        var incoming = parallelGateway.definition().incoming().size();
+        if (incoming == 1 || isLastArrival(parallelGateway, incoming)) {
             dispatcher.dispatchAsync(CompleteActivityCommand.of(parallelGateway));
         }
     }
@@ -38,4 +30,24 @@ public class ParallelGatewayBehavior extends AbstractActivityBehavior {
         return ActivityType.PARALLEL_GATEWAY;
     }
 
+    /**
+     * Counts the token arriving at the join. Every {@code incoming}-th arrival completes a round,
+     * so exactly one arrival passes the gateway, also when the gateway is reached again in a loop.
+     * An arrival is counted under the ID of its gateway execution, so a retried or redelivered arrival
+     * is counted once. Gateways of processes started before arrivals were counted have no counter
+     * and pass once all their incoming activities completed.
+     */
+    private boolean isLastArrival(ActivityExecution parallelGateway, int incoming) {
+        var processId = parallelGateway.processId();
+        var arrivals = activityPersistence.join(processId, parallelGateway.definitionId(), parallelGateway.id());
+        if (arrivals < 0) {
+            var incomingActivityIds = parallelGateway.previousActivities().stream()
+                    .map(ActivityDefinition::id)
+                    .toList();
+            return activityPersistence.isAllCompleted(processId, incomingActivityIds);
+        }
+
+        return arrivals > 0 && arrivals % incoming == 0;
+    }
+
 }
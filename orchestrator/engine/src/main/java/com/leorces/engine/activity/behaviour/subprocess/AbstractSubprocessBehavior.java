@@ -52,8 +52,7 @@ public abstract class AbstractSubprocessBehavior extends AbstractActivityBehavio
     }
 
     protected ActivityDefinition getStartEvent(ActivityExecution subprocess) {
-        return subprocess.processDefinition().activities().stream()
-                .filter(activity -> subprocess.definitionId().equals(activity.parentId()))
+        return subprocess.childActivities().stream()
                 .filter(activity -> activity.type().isStartEvent())
                 .findFirst()
                 .orElseThrow(() -> ExecutionException.of("Can't start subprocess", "Start event not found for subprocess: %s".formatted(subprocess.definitionId()), subprocess));
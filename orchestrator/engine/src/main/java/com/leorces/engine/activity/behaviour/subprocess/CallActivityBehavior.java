@@ -2,12 +2,14 @@ package com.leorces.engine.activity.behaviour.subprocess;
 
 import com.leorces.engine.activity.behaviour.AbstractActivityBehavior;
 import com.leorces.engine.activity.command.GetCallActivityMappingsCommand;
+import com.leorces.engine.activity.command.RunCallActivityInstancesCommand;
 import com.leorces.engine.activity.command.RetryAllActivitiesCommand;
+import com.leorces.engine.configuration.properties.MultiInstanceProperties;
 import com.leorces.engine.core.CommandDispatcher;
-import com.leorces.engine.process.command.CreateProcessByCallActivityCommand;
 import com.leorces.engine.process.command.DeleteProcessCommand;
 import com.leorces.engine.process.command.RunProcessCommand;
 import com.leorces.engine.process.command.TerminateProcessCommand;
+import com.leorces.engine.timer.TimerService;
 import com.leorces.engine.variables.command.GetScopedVariablesCommand;
 import com.leorces.juel.ExpressionEvaluator;
 import com.leorces.model.definition.activity.ActivityType;
@@ -20,18 +22,25 @@ import org.springframework.stereotype.Component;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.IntStream;
 
 @Slf4j
 @Component
 public class CallActivityBehavior extends AbstractActivityBehavior {
 
     private final ExpressionEvaluator expressionEvaluator;
+    private final MultiInstanceProperties multiInstanceProperties;
+    private final TimerService timerService;
 
     protected CallActivityBehavior(ActivityPersistence activityPersistence,
                                    CommandDispatcher dispatcher,
-                                   ExpressionEvaluator expressionEvaluator) {
+                                   ExpressionEvaluator expressionEvaluator,
+                                   MultiInstanceProperties multiInstanceProperties,
+                                   TimerService timerService) {
         super(activityPersistence, dispatcher);
         this.expressionEvaluator = expressionEvaluator;
+        this.multiInstanceProperties = multiInstanceProperties;
+        this.timerService = timerService;
     }
 
     @Override
@@ -51,9 +60,12 @@ public class CallActivityBehavior extends AbstractActivityBehavior {
         var completedCallActivity = activityPersistence.complete(callActivity);
         var outputVariables = getOutputVariables(callActivity, variables);
 
-        if (!definition.isMultiInstance() || areAllInstancesCompleted(callActivity, definition)) {
+        if (!definition.isMultiInstance()) {
             postComplete(completedCallActivity, outputVariables);
+            return;
         }
+
+        completeInstance(callActivity, definition, () -> postComplete(completedCallActivity, outputVariables));
     }
 
     @Override
@@ -69,13 +81,23 @@ public class CallActivityBehavior extends AbstractActivityBehavior {
         }
 
         var terminatedCallActivity = activityPersistence.terminate(callActivity);
-        postTerminate(terminatedCallActivity, withInterruption);
+        var definition = (CallActivity) callActivity.definition();
+        if (!definition.isMultiInstance()) {
+            postTerminate(terminatedCallActivity, withInterruption);
+        } else if (withInterruption) {
+            interruptInstance(callActivity);
+        } else {
+            completeInstance(callActivity, definition, () -> postTerminate(terminatedCallActivity, false));
+        }
     }
 
     @Override
     public void delete(ActivityExecution callActivity) {
         dispatcher.dispatch(DeleteProcessCommand.of(callActivity.id(), false));
         activityPersistence.delete(callActivity);
+        if (((CallActivity) callActivity.definition()).isMultiInstance()) {
+            activityPersistence.completeInstance(callActivity.processId(), callActivity.id());
+        }
     }
 
     @Override
@@ -88,20 +110,106 @@ public class CallActivityBehavior extends AbstractActivityBehavior {
         dispatcher.dispatch(RunProcessCommand.byCallActivity(newCallActivity));
     }
 
+    /**
+     * Counts the instances under the execution of their body before any of them starts, so the last one
+     * to complete is always recognized, also while the same activity runs more than once in the process.
+     * Sequential instances start one at a time. Parallel instances are split into at most {@code parallelism}
+     * slices that start concurrently, each in batches. A slice that fails fails the call activity.
+     */
     private void runMultiInstance(ActivityExecution callActivity, CallActivity definition) {
-        var loopCharacteristics = definition.multiInstanceLoopCharacteristics();
-        var scopedVariables = callActivity.getScopedVariables(() -> dispatcher.execute(GetScopedVariablesCommand.of(callActivity)));
-        var collection = expressionEvaluator.evaluate(loopCharacteristics.collection(), scopedVariables, List.class);
-        var elementVariable = loopCharacteristics.elementVariable();
-        for (var element : collection) {
-            var newCallActivity = activityPersistence.run(callActivity);
-            var processToRun = dispatcher.execute(
-                    CreateProcessByCallActivityCommand.of(newCallActivity, Map.of(elementVariable, element))
-            );
-            dispatcher.dispatch(RunProcessCommand.of(processToRun));
+        var collection = getCollection(callActivity, definition);
+        activityPersistence.startInstances(callActivity.processId(), callActivity.id(), collection.size());
+
+        if (definition.multiInstanceLoopCharacteristics().isSequential()) {
+            dispatcher.dispatch(RunCallActivityInstancesCommand.of(callActivity, collection.stream().limit(1).toList()));
+            return;
+        }
+
+        var slices = splitIntoSlices(collection);
+        if (slices.size() == 1) {
+            dispatcher.dispatch(RunCallActivityInstancesCommand.of(callActivity, slices.getFirst()));
+        } else {
+            slices.forEach(slice -> dispatcher.dispatchAsync(RunCallActivityInstancesCommand.of(callActivity, slice)));
+        }
+    }
+
+    /**
+     * Counts a completed or terminated instance and continues the flow once it was the last one.
+     * Instances started by an earlier version aren't counted, so for them all instances are checked.
+     * The last instance cancels the boundary timers of the body.
+     */
+    private void completeInstance(ActivityExecution instance, CallActivity definition, Runnable onLastInstance) {
+        var sequential = definition.multiInstanceLoopCharacteristics().isSequential();
+        var bodyId = sequential || timerService.hasBoundaryTimers(instance) ? findBody(instance) : null;
+
+        var remaining = activityPersistence.completeInstance(instance.processId(), instance.id());
+        if (remaining == 0 || remaining < 0 && areAllInstancesCompleted(instance, definition)) {
+            cancelBodyTimers(instance, bodyId);
+            onLastInstance.run();
+        } else if (remaining > 0 && sequential) {
+            runNextInstance(instance, definition, bodyId, remaining);
         }
     }
 
+    /**
+     * Counts an instance interrupted by an event of its body. The flow continues from the event,
+     * the last instance only cancels the other boundary timers of the body.
+     */
+    private void interruptInstance(ActivityExecution instance) {
+        var bodyId = timerService.hasBoundaryTimers(instance) ? findBody(instance) : null;
+
+        if (activityPersistence.completeInstance(instance.processId(), instance.id()) == 0) {
+            cancelBodyTimers(instance, bodyId);
+        }
+    }
+
+    /**
+     * Uncounted instances have no body to look up, and the body they belong to never scheduled timers of its own.
+     */
+    private void cancelBodyTimers(ActivityExecution instance, String bodyId) {
+        if (bodyId != null) {
+            timerService.cancelBodyTimers(instance, bodyId);
+        }
+    }
+
+    private String findBody(ActivityExecution instance) {
+        return activityPersistence.findInstanceBody(instance.processId(), instance.id()).orElse(null);
+    }
+
+    /**
+     * Starts the instance of the element after the completed ones. The collection is read again,
+     * so it should not change while the instances run.
+     */
+    private void runNextInstance(ActivityExecution completedInstance, CallActivity definition, String bodyId, long remaining) {
+        var collection = getCollection(completedInstance, definition);
+        var next = collection.size() - (int) remaining;
+        if (next < 0 || next >= collection.size()) {
+            log.warn("Collection of call activity: {} in process: {} changed while its instances ran", definition.id(), completedInstance.processId());
+            return;
+        }
+
+        var body = ActivityExecution.builder()
+                .id(bodyId)
+                .definitionId(definition.id())
+                .process(completedInstance.process())
+                .build();
+        dispatcher.dispatch(RunCallActivityInstancesCommand.of(body, List.of(collection.get(next))));
+    }
+
+    private List<?> getCollection(ActivityExecution callActivity, CallActivity definition) {
+        var scopedVariables = callActivity.getScopedVariables(() -> dispatcher.execute(GetScopedVariablesCommand.of(callActivity)));
+        return expressionEvaluator.evaluate(definition.multiInstanceLoopCharacteristics().collection(), scopedVariables, List.class);
+    }
+
+    private List<? extends List<?>> splitIntoSlices(List<?> collection) {
+        var batches = Math.ceilDiv(collection.size(), Math.max(1, multiInstanceProperties.batchSize()));
+        var slices = Math.max(1, Math.min(batches, multiInstanceProperties.parallelism()));
+        var sliceSize = Math.max(1, Math.ceilDiv(collection.size(), slices));
+        return IntStream.iterate(0, from -> from < collection.size(), from -> from + sliceSize)
+                .mapToObj(from -> collection.subList(from, Math.min(from + sliceSize, collection.size())))
+                .toList();
+    }
+
     private Map<String, Object> getOutputVariables(ActivityExecution callActivity, Map<String, Object> variables) {
         return combineVariables(
                 dispatcher.execute(GetCallActivityMappingsCommand.output(callActivity)),
@@ -0,0 +1,17 @@
+package com.leorces.engine.activity.command;
+
+import com.leorces.engine.core.ExecutionResultCommand;
+import com.leorces.model.runtime.activity.ActivityCompleteRequest;
+import com.leorces.model.runtime.activity.ActivityUpdateResult;
+
+import java.util.List;
+
+public record CompleteActivitiesCommand(
+        List<ActivityCompleteRequest> requests
+) implements ExecutionResultCommand<List<ActivityUpdateResult>> {
+
+    public static CompleteActivitiesCommand of(List<ActivityCompleteRequest> requests) {
+        return new CompleteActivitiesCommand(requests);
+    }
+
+}
@@ -0,0 +1,17 @@
+package com.leorces.engine.activity.command;
+
+import com.leorces.engine.core.ExecutionResultCommand;
+import com.leorces.model.runtime.activity.ActivityFailRequest;
+import com.leorces.model.runtime.activity.ActivityUpdateResult;
+
+import java.util.List;
+
+public record FailActivitiesCommand(
+        List<ActivityFailRequest> requests
+) implements ExecutionResultCommand<List<ActivityUpdateResult>> {
+
+    public static FailActivitiesCommand of(List<ActivityFailRequest> requests) {
+        return new FailActivitiesCommand(requests);
+    }
+
+}
@@ -0,0 +1,17 @@
+package com.leorces.engine.activity.command;
+
+import com.leorces.engine.core.ExecutionCommand;
+import com.leorces.model.runtime.activity.ActivityExecution;
+
+import java.util.List;
+
+public record RunCallActivityInstancesCommand(
+        ActivityExecution callActivity,
+        List<?> elements
+) implements ExecutionCommand {
+
+    public static RunCallActivityInstancesCommand of(ActivityExecution callActivity, List<?> elements) {
+        return new RunCallActivityInstancesCommand(callActivity, elements);
+    }
+
+}
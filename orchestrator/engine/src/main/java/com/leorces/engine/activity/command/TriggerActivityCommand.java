@@ -4,13 +4,21 @@ import com.leorces.engine.core.ExecutionCommand;
 import com.leorces.model.definition.activity.ActivityDefinition;
 import com.leorces.model.runtime.process.Process;
 
+/**
+ * @param synchronous runs the work the trigger starts before the command returns, so its failure reaches the caller
+ */
 public record TriggerActivityCommand(
         Process process,
-        ActivityDefinition definition
+        ActivityDefinition definition,
+        boolean synchronous
 ) implements ExecutionCommand {
 
     public static TriggerActivityCommand of(Process process, ActivityDefinition definition) {
-        return new TriggerActivityCommand(process, definition);
+        return new TriggerActivityCommand(process, definition, false);
+    }
+
+    public static TriggerActivityCommand of(Process process, ActivityDefinition definition, boolean synchronous) {
+        return new TriggerActivityCommand(process, definition, synchronous);
     }
 
 }
@@ -0,0 +1,171 @@
+package com.leorces.engine.activity.handler;
+
+import com.leorces.engine.activity.behaviour.AbstractExternalTaskBehavior;
+import com.leorces.engine.activity.behaviour.ActivityBehaviorResolver;
+import com.leorces.engine.activity.command.CompleteActivitiesCommand;
+import com.leorces.engine.activity.command.CompleteActivityCommand;
+import com.leorces.engine.activity.command.FailActivityCommand;
+import com.leorces.engine.core.CommandDispatcher;
+import com.leorces.engine.core.ResultCommandHandler;
+import com.leorces.engine.correlation.MessageSubscriptionService;
+import com.leorces.engine.timer.TimerService;
+import com.leorces.model.runtime.activity.ActivityCompleteRequest;
+import com.leorces.model.runtime.activity.ActivityExecution;
+import com.leorces.model.runtime.activity.ActivityFailure;
+import com.leorces.model.runtime.activity.ActivityUpdateResult;
+import com.leorces.persistence.ActivityPersistence;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Completes a batch of activities, each with its own outcome.
+ * <p>
+ * The activities are read with one query. External tasks are stored as completed with one write and the process
+ * of each then continues like after a single completion; other activities are completed one by one. An activity
+ * that is unknown, already finished or fails to complete gets its own outcome and never fails the batch.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CompleteActivitiesCommandHandler implements ResultCommandHandler<CompleteActivitiesCommand, List<ActivityUpdateResult>> {
+
+    private final ActivityPersistence activityPersistence;
+    private final ActivityBehaviorResolver behaviorResolver;
+    private final CommandDispatcher dispatcher;
+    private final TimerService timerService;
+    private final MessageSubscriptionService subscriptionService;
+
+    @Override
+    public List<ActivityUpdateResult> execute(CompleteActivitiesCommand command) {
+        var requests = command.requests();
+        if (requests == null || requests.isEmpty()) {
+            return List.of();
+        }
+
+        log.debug("Complete {} activities", requests.size());
+        var activities = findActivities(requests);
+        var results = new ActivityUpdateResult[requests.size()];
+        var externalTasks = new ArrayList<Integer>();
+        var updated = new HashSet<String>();
+
+        for (int i = 0; i < requests.size(); i++) {
+            var activityId = requests.get(i).activityId();
+            var activity = activities.get(activityId);
+            if (activity == null) {
+                results[i] = ActivityUpdateResult.notFound(activityId);
+            } else if (!updated.add(activityId)) {
+                results[i] = ActivityUpdateResult.notActive(activityId, "Activity is already completed by this batch");
+            } else if (!canHandle(activity)) {
+                results[i] = ActivityUpdateResult.notActive(activity);
+            } else if (behaviorResolver.resolveBehavior(activity.type()) instanceof AbstractExternalTaskBehavior) {
+                externalTasks.add(i);
+            } else {
+                results[i] = complete(activity, variables(requests.get(i)));
+            }
+        }
+
+        completeExternalTasks(requests, activities, externalTasks, results);
+        return Arrays.asList(results);
+    }
+
+    @Override
+    public Class<CompleteActivitiesCommand> getCommandType() {
+        return CompleteActivitiesCommand.class;
+    }
+
+    private Map<String, ActivityExecution> findActivities(List<ActivityCompleteRequest> requests) {
+        var ids = requests.stream()
+                .map(ActivityCompleteRequest::activityId)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        return activityPersistence.findAllById(ids).stream()
+                .collect(Collectors.toMap(ActivityExecution::id, Function.identity()));
+    }
+
+    /**
+     * Stores all external tasks as completed with one write, then continues the process of each.
+     */
+    private void completeExternalTasks(List<ActivityCompleteRequest> requests,
+                                       Map<String, ActivityExecution> activities,
+                                       List<Integer> externalTasks,
+                                       ActivityUpdateResult[] results) {
+        if (externalTasks.isEmpty()) {
+            return;
+        }
+
+        var tasks = externalTasks.stream()
+                .map(i -> activities.get(requests.get(i).activityId()))
+                .toList();
+        List<ActivityExecution> completedTasks;
+        try {
+            completedTasks = activityPersistence.completeAll(tasks);
+        } catch (Exception e) {
+            log.warn("Can't complete {} external tasks, error: {}", tasks.size(), e.getMessage());
+            externalTasks.forEach(i -> results[i] = ActivityUpdateResult.failed(requests.get(i).activityId(), e.getMessage()));
+            return;
+        }
+
+        for (int j = 0; j < externalTasks.size(); j++) {
+            var i = externalTasks.get(j);
+            results[i] = onComplete(tasks.get(j), completedTasks.get(j), variables(requests.get(i)));
+        }
+    }
+
+    private ActivityUpdateResult onComplete(ActivityExecution task, ActivityExecution completedTask, Map<String, Object> variables) {
+        log.debug("Complete {} activity with definitionId: {} and processId: {}", task.type(), task.definitionId(), task.processId());
+        try {
+            var behavior = (AbstractExternalTaskBehavior) behaviorResolver.resolveBehavior(task.type());
+            behavior.onComplete(completedTask, variables);
+        } catch (Exception e) {
+            log.warn("Can't complete activity: {}, error: {}", task.id(), e.getMessage());
+            fail(task, e);
+            return ActivityUpdateResult.failed(task.id(), e.getMessage());
+        }
+
+        timerService.cancelTimers(task);
+        subscriptionService.cancel(task);
+        return ActivityUpdateResult.applied(task.id());
+    }
+
+    private ActivityUpdateResult complete(ActivityExecution activity, Map<String, Object> variables) {
+        try {
+            dispatcher.dispatch(CompleteActivityCommand.of(activity, variables));
+            return ActivityUpdateResult.applied(activity.id());
+        } catch (Exception e) {
+            log.warn("Can't complete activity: {}, error: {}", activity.id(), e.getMessage());
+            return ActivityUpdateResult.failed(activity.id(), e.getMessage());
+        }
+    }
+
+    /**
+     * Records the failure of an external task whose process could not continue, like a single completion does.
+     */
+    private void fail(ActivityExecution task, Exception cause) {
+        try {
+            dispatcher.dispatch(FailActivityCommand.of(task, ActivityFailure.of(cause)));
+        } catch (Exception e) {
+            log.error("Can't fail activity: {}", task.id(), e);
+        }
+    }
+
+    private boolean canHandle(ActivityExecution activity) {
+        return (activity.state() == null || !activity.isInTerminalState())
+                && (!activity.process().isInTerminalState() || activity.isAsync());
+    }
+
+    private static Map<String, Object> variables(ActivityCompleteRequest request) {
+        return Objects.requireNonNullElse(request.variables(), Map.of());
+    }
+
+}
@@ -7,6 +7,8 @@ import com.leorces.engine.activity.command.FailActivityCommand;
 import com.leorces.engine.activity.command.FindActivityCommand;
 import com.leorces.engine.core.CommandDispatcher;
 import com.leorces.engine.core.CommandHandler;
+import com.leorces.engine.correlation.MessageSubscriptionService;
+import com.leorces.engine.timer.TimerService;
 import com.leorces.model.runtime.activity.ActivityExecution;
 import com.leorces.model.runtime.activity.ActivityFailure;
 import lombok.RequiredArgsConstructor;
@@ -20,6 +22,8 @@ public class CompleteActivityCommandHandler implements CommandHandler<CompleteAc
 
     private final ActivityBehaviorResolver behaviorResolver;
     private final CommandDispatcher dispatcher;
+    private final TimerService timerService;
+    private final MessageSubscriptionService subscriptionService;
 
     @Override
     public void handle(CompleteActivityCommand command) {
@@ -37,6 +41,9 @@ public class CompleteActivityCommandHandler implements CommandHandler<CompleteAc
             dispatcher.dispatch(FailActivityCommand.of(activity, ActivityFailure.of(e)));
             throw ExecutionException.of("Can't complete activity", activity, e);
         }
+
+        timerService.cancelTimers(activity);
+        subscriptionService.cancel(activity);
     }
 
     @Override
@@ -7,6 +7,7 @@ import com.leorces.model.definition.activity.ActivityDefinition;
 import com.leorces.model.runtime.activity.ActivityExecution;
 import com.leorces.model.runtime.process.Process;
 import com.leorces.persistence.ProcessPersistence;
+import com.leorces.persistence.utils.IdGenerator;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
@@ -31,6 +32,7 @@ public class CreateActivityCommandHandler implements ResultCommandHandler<Create
 
     private ActivityExecution createActivity(ActivityDefinition definition, Process process) {
         return ActivityExecution.builder()
+                .id(IdGenerator.getNewId())
                 .definitionId(definition.id())
                 .process(process)
                 .build();
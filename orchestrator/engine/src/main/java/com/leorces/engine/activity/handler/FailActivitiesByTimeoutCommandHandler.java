@@ -2,6 +2,7 @@ package com.leorces.engine.activity.handler;
 
 import com.leorces.engine.activity.command.FailActivitiesByTimeoutCommand;
 import com.leorces.engine.activity.command.FailActivityCommand;
+import com.leorces.engine.configuration.properties.job.ActivityTimeoutProperties;
 import com.leorces.engine.core.CommandDispatcher;
 import com.leorces.engine.core.CommandHandler;
 import com.leorces.model.runtime.activity.ActivityExecution;
@@ -16,18 +17,18 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class FailActivitiesByTimeoutCommandHandler implements CommandHandler<FailActivitiesByTimeoutCommand> {
 
-    private static final int BATCH_SIZE = 100;
-
     private final ActivityPersistence activityPersistence;
     private final CommandDispatcher dispatcher;
+    private final ActivityTimeoutProperties properties;
 
     @Override
     public void handle(FailActivitiesByTimeoutCommand command) {
+        var batchSize = properties.batchSize();
         int timedOutCount;
 
         do {
             log.debug("Starting failure of timed out activities");
-            var activities = activityPersistence.findTimedOut(BATCH_SIZE);
+            var activities = activityPersistence.claimTimedOut(batchSize, properties.lease());
 
             if (activities.isEmpty()) {
                 log.debug("No timed out activities found");
@@ -36,7 +37,7 @@ public class FailActivitiesByTimeoutCommandHandler implements CommandHandler<Fai
 
             activities.forEach(this::failActivity);
             timedOutCount = activities.size();
-        } while (timedOutCount >= BATCH_SIZE);
+        } while (timedOutCount >= batchSize);
     }
 
     @Override
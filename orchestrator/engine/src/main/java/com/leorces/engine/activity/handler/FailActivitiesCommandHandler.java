@@ -0,0 +1,160 @@
+package com.leorces.engine.activity.handler;
+
+import com.leorces.engine.activity.behaviour.AbstractExternalTaskBehavior;
+import com.leorces.engine.activity.behaviour.ActivityBehaviorResolver;
+import com.leorces.engine.activity.command.FailActivitiesCommand;
+import com.leorces.engine.activity.command.FailActivityCommand;
+import com.leorces.engine.core.CommandDispatcher;
+import com.leorces.engine.core.ResultCommandHandler;
+import com.leorces.engine.process.command.IncidentProcessCommand;
+import com.leorces.model.runtime.activity.ActivityExecution;
+import com.leorces.model.runtime.activity.ActivityFailRequest;
+import com.leorces.model.runtime.activity.ActivityUpdateResult;
+import com.leorces.persistence.ActivityPersistence;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Fails a batch of activities, each with its own outcome.
+ * <p>
+ * The activities are read with one query. External tasks with retries left are retried, the ones out of retries
+ * are stored as failed with one write and their processes get an incident; other activities are failed one by one.
+ * An activity that is unknown, already finished or can't be failed gets its own outcome and never fails the batch.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FailActivitiesCommandHandler implements ResultCommandHandler<FailActivitiesCommand, List<ActivityUpdateResult>> {
+
+    private final ActivityPersistence activityPersistence;
+    private final ActivityBehaviorResolver behaviorResolver;
+    private final CommandDispatcher dispatcher;
+
+    @Override
+    public List<ActivityUpdateResult> execute(FailActivitiesCommand command) {
+        var requests = command.requests();
+        if (requests == null || requests.isEmpty()) {
+            return List.of();
+        }
+
+        log.debug("Fail {} activities", requests.size());
+        var activities = findActivities(requests);
+        var results = new ActivityUpdateResult[requests.size()];
+        var failedTasks = new ArrayList<Integer>();
+        var updated = new HashSet<String>();
+
+        for (int i = 0; i < requests.size(); i++) {
+            var request = requests.get(i);
+            var activity = activities.get(request.activityId());
+            if (activity == null) {
+                results[i] = ActivityUpdateResult.notFound(request.activityId());
+            } else if (!updated.add(request.activityId())) {
+                results[i] = ActivityUpdateResult.notActive(request.activityId(), "Activity is already failed by this batch");
+            } else if (!canHandle(activity)) {
+                results[i] = ActivityUpdateResult.notActive(activity);
+            } else if (behaviorResolver.resolveBehavior(activity.type()) instanceof AbstractExternalTaskBehavior behavior) {
+                results[i] = retryOrCollect(behavior, activity.toBuilder().failure(request.failure()).build(), i, failedTasks);
+            } else {
+                results[i] = fail(activity, request);
+            }
+        }
+
+        failExternalTasks(requests, activities, failedTasks, results);
+        return Arrays.asList(results);
+    }
+
+    @Override
+    public Class<FailActivitiesCommand> getCommandType() {
+        return FailActivitiesCommand.class;
+    }
+
+    private Map<String, ActivityExecution> findActivities(List<ActivityFailRequest> requests) {
+        var ids = requests.stream()
+                .map(ActivityFailRequest::activityId)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        return activityPersistence.findAllById(ids).stream()
+                .collect(Collectors.toMap(ActivityExecution::id, Function.identity()));
+    }
+
+    /**
+     * Retries an external task with retries left, otherwise leaves it to be stored as failed with the others.
+     *
+     * @return the outcome of a retried task, null if the task is collected
+     */
+    private ActivityUpdateResult retryOrCollect(AbstractExternalTaskBehavior behavior,
+                                                ActivityExecution task,
+                                                int index,
+                                                List<Integer> failedTasks) {
+        log.debug("Fail {} activity with definitionId: {} and processId: {}", task.type(), task.definitionId(), task.processId());
+        try {
+            if (!behavior.retryIfPossible(task)) {
+                failedTasks.add(index);
+                return null;
+            }
+            return ActivityUpdateResult.applied(task.id());
+        } catch (Exception e) {
+            log.warn("Can't fail activity: {}, error: {}", task.id(), e.getMessage());
+            return ActivityUpdateResult.failed(task.id(), e.getMessage());
+        }
+    }
+
+    /**
+     * Stores all external tasks out of retries as failed with one write, then raises an incident for each process.
+     */
+    private void failExternalTasks(List<ActivityFailRequest> requests,
+                                   Map<String, ActivityExecution> activities,
+                                   List<Integer> failedTasks,
+                                   ActivityUpdateResult[] results) {
+        if (failedTasks.isEmpty()) {
+            return;
+        }
+
+        var tasks = failedTasks.stream()
+                .map(i -> activities.get(requests.get(i).activityId()).toBuilder()
+                        .failure(requests.get(i).failure())
+                        .build())
+                .toList();
+        try {
+            activityPersistence.failAll(tasks);
+        } catch (Exception e) {
+            log.warn("Can't fail {} external tasks, error: {}", tasks.size(), e.getMessage());
+            failedTasks.forEach(i -> results[i] = ActivityUpdateResult.failed(requests.get(i).activityId(), e.getMessage()));
+            return;
+        }
+
+        failedTasks.forEach(i -> results[i] = ActivityUpdateResult.applied(requests.get(i).activityId()));
+        tasks.stream()
+                .map(ActivityExecution::processId)
+                .distinct()
+                .map(IncidentProcessCommand::of)
+                .forEach(dispatcher::dispatchAsync);
+    }
+
+    private ActivityUpdateResult fail(ActivityExecution activity, ActivityFailRequest request) {
+        try {
+            dispatcher.dispatch(FailActivityCommand.of(activity, request.failure()));
+            return ActivityUpdateResult.applied(activity.id());
+        } catch (Exception e) {
+            log.warn("Can't fail activity: {}, error: {}", activity.id(), e.getMessage());
+            return ActivityUpdateResult.failed(activity.id(), e.getMessage());
+        }
+    }
+
+    private boolean canHandle(ActivityExecution activity) {
+        return (activity.state() == null || !activity.isInTerminalState())
+                && (!activity.process().isInTerminalState() || activity.isAsync());
+    }
+
+}
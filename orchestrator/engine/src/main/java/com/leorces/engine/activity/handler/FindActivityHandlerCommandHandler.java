@@ -81,8 +81,7 @@ public class FindActivityHandlerCommandHandler implements ResultCommandHandler<F
     }
 
     private Stream<ActivityDefinition> findActivitiesByType(Process process, ActivityType type) {
-        return process.definition().activities().stream()
-                .filter(a -> type.equals(a.type()));
+        return process.definition().graph().getActivitiesByType(type).stream();
     }
 
     private boolean matchesScope(ActivityDefinition boundaryEvent, String scope) {
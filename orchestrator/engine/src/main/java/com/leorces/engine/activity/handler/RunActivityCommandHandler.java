@@ -5,7 +5,9 @@ import com.leorces.engine.activity.command.CreateActivityCommand;
 import com.leorces.engine.activity.command.RunActivityCommand;
 import com.leorces.engine.core.CommandDispatcher;
 import com.leorces.engine.core.CommandHandler;
+import com.leorces.engine.correlation.MessageSubscriptionService;
 import com.leorces.engine.process.command.ResolveProcessIncidentCommand;
+import com.leorces.engine.timer.TimerService;
 import com.leorces.engine.variables.command.EvaluateVariablesCommand;
 import com.leorces.model.runtime.activity.ActivityExecution;
 import com.leorces.model.runtime.process.Process;
@@ -20,6 +22,8 @@ public class RunActivityCommandHandler implements CommandHandler<RunActivityComm
 
     private final ActivityBehaviorResolver behaviorResolver;
     private final CommandDispatcher dispatcher;
+    private final TimerService timerService;
+    private final MessageSubscriptionService subscriptionService;
 
     @Override
     public void handle(RunActivityCommand command) {
@@ -32,6 +36,9 @@ public class RunActivityCommandHandler implements CommandHandler<RunActivityComm
 
         log.debug("Run {} activity with definitionId: {} and processId: {}", activity.type(), activity.definitionId(), activity.processId());
         var activityToRun = processInputVariables(activity);
+        // Timers and subscriptions come first, so an activity that completes during its run cancels them
+        timerService.scheduleBoundaryTimers(activityToRun);
+        subscriptionService.subscribe(activityToRun);
         behaviorResolver.resolveBehavior(activity.type()).run(activityToRun);
         resolveProcessIncidentIfNeeded(activityToRun.process());
     }
@@ -0,0 +1,86 @@
+package com.leorces.engine.activity.handler;
+
+import com.leorces.engine.activity.command.FailActivityCommand;
+import com.leorces.engine.activity.command.RunCallActivityInstancesCommand;
+import com.leorces.engine.configuration.properties.MultiInstanceProperties;
+import com.leorces.engine.core.CommandDispatcher;
+import com.leorces.engine.core.CommandHandler;
+import com.leorces.engine.process.command.CreateProcessByCallActivityCommand;
+import com.leorces.engine.process.command.RunProcessesCommand;
+import com.leorces.model.definition.activity.subprocess.CallActivity;
+import com.leorces.model.runtime.activity.ActivityExecution;
+import com.leorces.model.runtime.activity.ActivityFailure;
+import com.leorces.persistence.ActivityPersistence;
+import com.leorces.persistence.utils.IdGenerator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+/**
+ * Starts instances of a multi-instance call activity, one per collection element.
+ * <p>
+ * Elements are taken in batches: the instances of a batch are stored with one insert,
+ * and their called processes with one more. Every instance is counted for the body execution
+ * it was started by, before it runs.
+ * <p>
+ * The body counts all its instances before any of them starts, so elements left unstarted by a failure
+ * would keep it waiting forever. A failure fails the call activity instead, which raises an incident.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RunCallActivityInstancesCommandHandler implements CommandHandler<RunCallActivityInstancesCommand> {
+
+    private final ActivityPersistence activityPersistence;
+    private final CommandDispatcher dispatcher;
+    private final MultiInstanceProperties properties;
+
+    @Override
+    public void handle(RunCallActivityInstancesCommand command) {
+        var elements = command.elements();
+        var batchSize = Math.max(1, properties.batchSize());
+        try {
+            for (int from = 0; from < elements.size(); from += batchSize) {
+                runInstances(command.callActivity(), elements.subList(from, Math.min(from + batchSize, elements.size())));
+            }
+        } catch (Exception e) {
+            log.warn("Can't run instances of call activity: {} for process: {}", command.callActivity().definitionId(), command.callActivity().processId(), e);
+            failCallActivity(command.callActivity(), e);
+        }
+    }
+
+    @Override
+    public Class<RunCallActivityInstancesCommand> getCommandType() {
+        return RunCallActivityInstancesCommand.class;
+    }
+
+    /**
+     * The body is only stored once it fails, a body failed by another slice already is failed again in place.
+     */
+    private void failCallActivity(ActivityExecution callActivity, Exception cause) {
+        var body = activityPersistence.findById(callActivity.id()).orElse(callActivity);
+        dispatcher.dispatch(FailActivityCommand.of(body, ActivityFailure.of(cause)));
+    }
+
+    private void runInstances(ActivityExecution callActivity, List<?> elements) {
+        log.debug("Run {} instances of call activity: {} for process: {}", elements.size(), callActivity.definitionId(), callActivity.processId());
+        var elementVariable = ((CallActivity) callActivity.definition()).multiInstanceLoopCharacteristics().elementVariable();
+        var newInstances = elements.stream()
+                .map(element -> callActivity.toBuilder().id(IdGenerator.getNewId()).build())
+                .toList();
+        activityPersistence.addInstances(callActivity.processId(), callActivity.id(), newInstances.stream().map(ActivityExecution::id).toList());
+        var instances = activityPersistence.runAll(newInstances);
+        var processes = IntStream.range(0, instances.size())
+                .mapToObj(i -> dispatcher.execute(CreateProcessByCallActivityCommand.of(
+                        instances.get(i),
+                        Map.of(elementVariable, elements.get(i))
+                )))
+                .toList();
+        dispatcher.execute(RunProcessesCommand.byCallActivity(processes));
+    }
+
+}
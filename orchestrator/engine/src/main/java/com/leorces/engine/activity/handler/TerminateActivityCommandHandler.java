@@ -5,6 +5,8 @@ import com.leorces.engine.activity.command.FindActivityCommand;
 import com.leorces.engine.activity.command.TerminateActivityCommand;
 import com.leorces.engine.core.CommandDispatcher;
 import com.leorces.engine.core.CommandHandler;
+import com.leorces.engine.correlation.MessageSubscriptionService;
+import com.leorces.engine.timer.TimerService;
 import com.leorces.model.runtime.activity.ActivityExecution;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -17,6 +19,8 @@ public class TerminateActivityCommandHandler implements CommandHandler<Terminate
 
     private final ActivityBehaviorResolver behaviorResolver;
     private final CommandDispatcher dispatcher;
+    private final TimerService timerService;
+    private final MessageSubscriptionService subscriptionService;
 
     @Override
     public void handle(TerminateActivityCommand command) {
@@ -29,6 +33,8 @@ public class TerminateActivityCommandHandler implements CommandHandler<Terminate
 
         log.debug("Terminate {} activity with definitionId: {} and processId: {}", activity.type(), activity.definitionId(), activity.processId());
         behaviorResolver.resolveBehavior(activity.type()).terminate(activity, command.withInterruption());
+        timerService.cancelTimers(activity);
+        subscriptionService.cancel(activity);
     }
 
     @Override
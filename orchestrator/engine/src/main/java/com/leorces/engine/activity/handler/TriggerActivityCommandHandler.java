@@ -21,7 +21,13 @@ public class TriggerActivityCommandHandler implements CommandHandler<TriggerActi
 
         log.debug("Trigger {} activity with definitionId: {} and processId: {}", definition.type(), definition.id(), process.id());
         behaviorResolver.resolveTriggerableBehavior(definition.type())
-                .ifPresent(behaviour -> behaviour.trigger(process, definition));
+                .ifPresent(behaviour -> {
+                    if (command.synchronous()) {
+                        behaviour.triggerSynchronously(process, definition);
+                    } else {
+                        behaviour.trigger(process, definition);
+                    }
+                });
     }
 
     @Override
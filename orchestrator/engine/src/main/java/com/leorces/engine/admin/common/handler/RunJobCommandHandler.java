@@ -5,6 +5,7 @@ import com.leorces.engine.admin.common.command.RunJobCommand;
 import com.leorces.engine.admin.common.model.JobType;
 import com.leorces.engine.admin.compaction.command.CompactionCommand;
 import com.leorces.engine.admin.migration.command.ProcessMigrationCommand;
+import com.leorces.engine.admin.retention.command.HistoryRetentionCommand;
 import com.leorces.engine.admin.suspend.command.ResumeProcessDefinitionCommand;
 import com.leorces.engine.admin.suspend.command.SuspendProcessDefinitionCommand;
 import com.leorces.engine.core.CommandDispatcher;
@@ -28,6 +29,10 @@ public class RunJobCommandHandler implements CommandHandler<RunJobCommand> {
                 log.debug("Running compaction job");
                 dispatcher.dispatchAsync(CompactionCommand.manual());
                 break;
+            case HISTORY_RETENTION:
+                log.debug("Running history retention job");
+                dispatcher.dispatchAsync(HistoryRetentionCommand.manual());
+                break;
             case PROCESS_MIGRATION:
                 log.debug("Running process migration job with input: {}", command.input());
                 dispatcher.dispatch(new ProcessMigrationCommand(command.input()));
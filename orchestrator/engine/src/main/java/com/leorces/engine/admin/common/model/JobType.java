@@ -2,6 +2,7 @@ package com.leorces.engine.admin.common.model;
 
 public enum JobType {
     COMPACTION,
+    HISTORY_RETENTION,
     PROCESS_MIGRATION,
     PROCESS_SUSPEND,
     PROCESS_RESUME,
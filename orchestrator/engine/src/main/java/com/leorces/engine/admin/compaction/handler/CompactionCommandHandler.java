@@ -6,46 +6,46 @@ import com.leorces.engine.admin.compaction.command.CompactionCommand;
 import com.leorces.engine.configuration.properties.job.CompactionProperties;
 import com.leorces.engine.service.TaskExecutorService;
 import com.leorces.model.job.Job;
-import com.leorces.persistence.AdminPersistence;
 import com.leorces.persistence.HistoryPersistence;
 import com.leorces.persistence.JobPersistence;
-import com.leorces.persistence.ProcessPersistence;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.IntStream;
 
+/**
+ * Moves fully completed processes to history.
+ * <p>
+ * Every worker compacts batches of {@code batch-size} processes, each batch in its own short transaction,
+ * until a batch comes back incomplete. After every batch the total so far is written to the job output,
+ * so the progress of a long compaction is visible while it runs and is kept if the node stops.
+ */
 @Slf4j
 @Component
 public class CompactionCommandHandler extends AbstractJobHandler<CompactionCommand> {
 
     private static final String OUTPUT_TOTAL_COMPACTED_PROCESSES = "Total compacted processes";
 
-    private final ProcessPersistence processPersistence;
     private final HistoryPersistence historyPersistence;
-    private final AdminPersistence adminPersistence;
     private final TaskExecutorService taskExecutor;
     private final CompactionProperties properties;
 
     public CompactionCommandHandler(JobPersistence jobPersistence,
-                                    ProcessPersistence processPersistence,
                                     HistoryPersistence historyPersistence,
-                                    AdminPersistence adminPersistence,
                                     TaskExecutorService taskExecutor,
                                     CompactionProperties properties) {
         super(jobPersistence);
-        this.processPersistence = processPersistence;
         this.historyPersistence = historyPersistence;
-        this.adminPersistence = adminPersistence;
         this.taskExecutor = taskExecutor;
         this.properties = properties;
     }
 
     @Override
     protected Map<String, Object> execute(Job job, CompactionCommand command) {
-        long totalCompacted = compactProcesses();
+        long totalCompacted = compactProcesses(job);
         return Map.of(OUTPUT_TOTAL_COMPACTED_PROCESSES, totalCompacted);
     }
 
@@ -59,9 +59,10 @@ public class CompactionCommandHandler extends AbstractJobHandler<CompactionComma
         return CompactionCommand.class;
     }
 
-    private long compactProcesses() {
+    private long compactProcesses(Job job) {
+        var progress = new AtomicLong();
         var futures = IntStream.range(0, properties.maxJobs())
-                .mapToObj(i -> compactBatchAsync())
+                .mapToObj(i -> compactBatchAsync(job, progress))
                 .toList();
 
         return futures.stream()
@@ -69,31 +70,29 @@ public class CompactionCommandHandler extends AbstractJobHandler<CompactionComma
                 .sum();
     }
 
-    private CompletableFuture<Long> compactBatchAsync() {
+    private CompletableFuture<Long> compactBatchAsync(Job job, AtomicLong progress) {
         return taskExecutor.supplyAsync(() -> {
             long totalCompacted = 0;
             int batchSize;
             do {
-                batchSize = compactBatch(properties.batchSize());
+                batchSize = historyPersistence.compact(properties.batchSize(), properties.fetchSize());
                 totalCompacted += batchSize;
                 log.info("Compacted {} completed processes in this batch", batchSize);
+                if (batchSize > 0) {
+                    checkpoint(job, progress, batchSize);
+                }
             } while (batchSize >= properties.batchSize());
             return totalCompacted;
         });
     }
 
-    private int compactBatch(int batchSize) {
-        return adminPersistence.execute(() -> {
-            var completedProcesses = processPersistence.findAllFullyCompletedForUpdate(batchSize);
-            if (completedProcesses.isEmpty()) {
-                log.debug("No completed processes found for compaction");
-                return 0;
-            }
-
-            historyPersistence.save(completedProcesses);
-            return completedProcesses.size();
-        });
+    private void checkpoint(Job job, AtomicLong progress, int compacted) {
+        // Workers write in turn, so a smaller total never overwrites a larger one
+        synchronized (progress) {
+            jobPersistence.checkpoint(job.toBuilder()
+                    .output(Map.of(OUTPUT_TOTAL_COMPACTED_PROCESSES, progress.addAndGet(compacted)))
+                    .build());
+        }
     }
 
 }
-
@@ -0,0 +1,45 @@
+package com.leorces.engine.admin.retention;
+
+import com.leorces.engine.admin.retention.command.HistoryRetentionCommand;
+import com.leorces.engine.configuration.properties.job.HistoryRetentionProperties;
+import com.leorces.engine.core.CommandDispatcher;
+import com.leorces.engine.scheduler.ShedlockService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HistoryRetentionScheduler implements SchedulingConfigurer {
+
+    private static final String HISTORY_RETENTION_JOB = "history-retention-job";
+
+    private final ShedlockService shedlockService;
+    private final CommandDispatcher dispatcher;
+    private final HistoryRetentionProperties historyRetentionProperties;
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar taskRegistrar) {
+        if (!historyRetentionProperties.enabled()) {
+            log.info("History retention is disabled, scheduler not registered.");
+            return;
+        }
+
+        log.info("Registering history retention scheduler with cron: {}", historyRetentionProperties.cron());
+        taskRegistrar.addCronTask(this::doHistoryRetention, historyRetentionProperties.cron());
+    }
+
+    private void doHistoryRetention() {
+        log.info("Scheduled history retention started");
+        shedlockService.executeWithLock(HISTORY_RETENTION_JOB, Duration.ofMinutes(60), () -> {
+            dispatcher.dispatch(HistoryRetentionCommand.cron());
+            return null;
+        });
+    }
+
+}
@@ -0,0 +1,27 @@
+package com.leorces.engine.admin.retention.command;
+
+import com.leorces.engine.admin.common.command.JobCommand;
+
+import java.util.Map;
+
+public record HistoryRetentionCommand(
+        Map<String, Object> input
+) implements JobCommand {
+
+    public static final String INPUT_TRIGGER_KEY = "Trigger";
+    public static final String TRIGGER_MANUAL = "Triggered manually";
+    public static final String TRIGGER_CRON = "Triggered by cron";
+
+    public static HistoryRetentionCommand manual() {
+        return new HistoryRetentionCommand(
+                Map.of(INPUT_TRIGGER_KEY, TRIGGER_MANUAL)
+        );
+    }
+
+    public static HistoryRetentionCommand cron() {
+        return new HistoryRetentionCommand(
+                Map.of(INPUT_TRIGGER_KEY, TRIGGER_CRON)
+        );
+    }
+
+}
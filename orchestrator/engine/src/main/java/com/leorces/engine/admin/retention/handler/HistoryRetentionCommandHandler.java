@@ -0,0 +1,58 @@
+package com.leorces.engine.admin.retention.handler;
+
+import com.leorces.engine.admin.common.handler.AbstractJobHandler;
+import com.leorces.engine.admin.common.model.JobType;
+import com.leorces.engine.admin.retention.command.HistoryRetentionCommand;
+import com.leorces.engine.configuration.properties.job.HistoryRetentionProperties;
+import com.leorces.model.job.Job;
+import com.leorces.persistence.HistoryPersistence;
+import com.leorces.persistence.JobPersistence;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * Removes the history of processes completed longer than {@code retention} ago.
+ */
+@Slf4j
+@Component
+public class HistoryRetentionCommandHandler extends AbstractJobHandler<HistoryRetentionCommand> {
+
+    private static final String OUTPUT_COMPLETED_BEFORE = "Completed before";
+    private static final String OUTPUT_TOTAL_REMOVED_PROCESSES = "Total removed processes";
+
+    private final HistoryPersistence historyPersistence;
+    private final HistoryRetentionProperties properties;
+
+    public HistoryRetentionCommandHandler(JobPersistence jobPersistence,
+                                          HistoryPersistence historyPersistence,
+                                          HistoryRetentionProperties properties) {
+        super(jobPersistence);
+        this.historyPersistence = historyPersistence;
+        this.properties = properties;
+    }
+
+    @Override
+    protected Map<String, Object> execute(Job job, HistoryRetentionCommand command) {
+        var completedBefore = LocalDateTime.now().minus(properties.retention());
+        var totalRemoved = historyPersistence.purge(completedBefore);
+        log.info("Removed history of {} processes completed before {}", totalRemoved, completedBefore);
+        return Map.of(
+                OUTPUT_COMPLETED_BEFORE, completedBefore.toString(),
+                OUTPUT_TOTAL_REMOVED_PROCESSES, totalRemoved
+        );
+    }
+
+    @Override
+    protected JobType getJobType() {
+        return JobType.HISTORY_RETENTION;
+    }
+
+    @Override
+    public Class<HistoryRetentionCommand> getCommandType() {
+        return HistoryRetentionCommand.class;
+    }
+
+}
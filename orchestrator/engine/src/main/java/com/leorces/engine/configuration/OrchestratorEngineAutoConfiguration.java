@@ -6,10 +6,16 @@ import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.leorces.common.service.MetricService;
 import com.leorces.common.service.impl.MetricServiceImpl;
 import com.leorces.common.service.impl.MicrometerMetricService;
+import com.leorces.engine.configuration.properties.CorrelationProperties;
 import com.leorces.engine.configuration.properties.EngineProperties;
 import com.leorces.engine.configuration.properties.MetricsProperties;
+import com.leorces.engine.configuration.properties.MultiInstanceProperties;
+import com.leorces.engine.configuration.properties.PollProperties;
 import com.leorces.engine.configuration.properties.ProcessProperties;
+import com.leorces.engine.configuration.properties.TimerProperties;
+import com.leorces.engine.configuration.properties.job.ActivityTimeoutProperties;
 import com.leorces.engine.configuration.properties.job.CompactionProperties;
+import com.leorces.engine.configuration.properties.job.HistoryRetentionProperties;
 import com.leorces.engine.configuration.properties.job.ProcessMigrationProperties;
 import com.leorces.engine.configuration.properties.job.SuspendProcessDefinitionProperties;
 import io.micrometer.core.instrument.MeterRegistry;
@@ -23,23 +29,27 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Primary;
 import org.springframework.core.task.AsyncTaskExecutor;
 import org.springframework.core.task.support.TaskExecutorAdapter;
-import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.annotation.EnableScheduling;
 
 import java.util.concurrent.Executors;
 
 @Slf4j
-@EnableAsync
 @EnableScheduling
 @AutoConfiguration
 @RequiredArgsConstructor
 @EnableConfigurationProperties({
+        CorrelationProperties.class,
         EngineProperties.class,
         MetricsProperties.class,
+        MultiInstanceProperties.class,
         CompactionProperties.class,
+        HistoryRetentionProperties.class,
+        ActivityTimeoutProperties.class,
         ProcessMigrationProperties.class,
         SuspendProcessDefinitionProperties.class,
         ProcessProperties.class,
+        PollProperties.class,
+        TimerProperties.class,
 })
 public class OrchestratorEngineAutoConfiguration {
 
@@ -0,0 +1,16 @@
+package com.leorces.engine.configuration.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * @param processScanFallback searches processes for messages no subscription waits for. Processes started before
+ *                            message subscriptions existed get theirs when the table is created, so it stays off
+ *                            unless subscriptions are known to be missing; it is removed once those processes ended.
+ */
+@ConfigurationProperties(prefix = "leorces.correlation")
+public record CorrelationProperties(
+        @DefaultValue("false") boolean processScanFallback
+) {
+
+}
@@ -0,0 +1,12 @@
+package com.leorces.engine.configuration.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "leorces.multi-instance")
+public record MultiInstanceProperties(
+        @DefaultValue("500") int batchSize,
+        @DefaultValue("4") int parallelism
+) {
+
+}
@@ -0,0 +1,13 @@
+package com.leorces.engine.configuration.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "leorces.poll")
+public record PollProperties(
+        @DefaultValue("PT30S") Duration maxTimeout
+) {
+
+}
@@ -0,0 +1,19 @@
+package com.leorces.engine.configuration.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "leorces.timers")
+public record TimerProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("100ms") Duration tick,
+        @DefaultValue("512") int wheelSize,
+        @DefaultValue("1m") Duration preloadWindow,
+        @DefaultValue("10s") Duration preloadInterval,
+        @DefaultValue("1000") int batchSize,
+        @DefaultValue("1m") Duration lease
+) {
+
+}
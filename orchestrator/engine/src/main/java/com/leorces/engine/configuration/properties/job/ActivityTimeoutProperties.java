@@ -0,0 +1,13 @@
+package com.leorces.engine.configuration.properties.job;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "leorces.jobs.activity-timeout")
+public record ActivityTimeoutProperties(
+        @DefaultValue("100") int batchSize,
+        @DefaultValue("5m") Duration lease
+) {
+}
@@ -7,6 +7,7 @@ import org.springframework.boot.context.properties.bind.DefaultValue;
 public record CompactionProperties(
         @DefaultValue("false") boolean enabled,
         @DefaultValue("1000") int batchSize,
+        @DefaultValue("100") int fetchSize,
         @DefaultValue("1") int maxJobs,
         @DefaultValue("0 0 0 * * *") String cron
 ) {
@@ -0,0 +1,15 @@
+package com.leorces.engine.configuration.properties.job;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "leorces.jobs.history-retention")
+public record HistoryRetentionProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("365d") Duration retention,
+        @DefaultValue("0 30 0 * * *") String cron
+) {
+
+}
@@ -15,9 +15,16 @@ public class MetricConstants {
     public static final String PROCESS_INCIDENT = PROCESS + ".incident";
     public static final String PROCESS_RECOVERED = PROCESS + ".recovered";
     // =====================
+    // Command
+    // =====================
+    public static final String COMMAND = BASE + ".command";
+    public static final String COMMAND_DURATION = COMMAND + ".duration";
+    public static final String COMMAND_QUEUE_DEPTH = COMMAND + ".queue.depth";
+    // =====================
     // Labels
     // =====================
     public static final String PROCESS_DEFINITION_KEY = "processDefinitionKey";
+    public static final String COMMAND_TYPE = "commandType";
 
     private MetricConstants() {
 
@@ -1,6 +0,0 @@
-package com.leorces.engine.core;
-
-public record AsyncExecutionCommandWrapper(
-        ExecutionCommand command
-) {
-}
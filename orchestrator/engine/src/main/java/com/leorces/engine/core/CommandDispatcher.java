@@ -1,7 +1,6 @@
 package com.leorces.engine.core;
 
 import lombok.RequiredArgsConstructor;
-import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 
 import java.util.Objects;
@@ -10,15 +9,14 @@ import java.util.Objects;
 @RequiredArgsConstructor
 public class CommandDispatcher {
 
-    private final ApplicationEventPublisher publisher;
     private final ExecutionDispatcher executionDispatcher;
 
     public void dispatch(ExecutionCommand command) {
-        publisher.publishEvent(command);
+        executionDispatcher.dispatch(command);
     }
 
     public void dispatchAsync(ExecutionCommand command) {
-        publisher.publishEvent(new AsyncExecutionCommandWrapper(command));
+        executionDispatcher.dispatchAsync(command);
     }
 
     /**
@@ -1,27 +1,49 @@
 package com.leorces.engine.core;
 
 import com.leorces.api.exception.ExecutionException;
+import com.leorces.common.service.MetricService;
+import com.leorces.engine.service.TaskExecutorService;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.ObjectProvider;
-import org.springframework.context.event.EventListener;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
 
+import static com.leorces.engine.constants.MetricConstants.COMMAND_DURATION;
+import static com.leorces.engine.constants.MetricConstants.COMMAND_QUEUE_DEPTH;
+import static com.leorces.engine.constants.MetricConstants.COMMAND_TYPE;
+
+/**
+ * Routes commands to their handlers through a handler table keyed by command class.
+ * <p>
+ * The table is built once, on the first command, because handlers depend on the dispatcher themselves.
+ * Synchronous commands are invoked directly on the caller thread, asynchronous commands are submitted
+ * straight to the {@link TaskExecutorService}.
+ * <p>
+ * Each route resolves its duration timer and queue depth gauge when the table is built,
+ * so recording them costs no registry lookup per command.
+ */
 @Slf4j
 @Component
 public class ExecutionDispatcher {
 
-    private final Map<Class<?>, CommandHandler<?>> handlers = new HashMap<>();
     private final ObjectProvider<List<CommandHandler<?>>> handlersProvider;
-    private boolean initialized = false;
+    private final ObjectProvider<MetricService> metricServiceProvider;
+    private final TaskExecutorService taskExecutorService;
+
+    private volatile Map<Class<?>, CommandRoute> routes;
 
-    public ExecutionDispatcher(ObjectProvider<List<CommandHandler<?>>> handlersProvider) {
+    public ExecutionDispatcher(ObjectProvider<List<CommandHandler<?>>> handlersProvider,
+                               ObjectProvider<MetricService> metricServiceProvider,
+                               TaskExecutorService taskExecutorService) {
         this.handlersProvider = handlersProvider;
+        this.metricServiceProvider = metricServiceProvider;
+        this.taskExecutorService = taskExecutorService;
     }
 
     /**
@@ -34,67 +56,114 @@ public class ExecutionDispatcher {
      */
     public <R, T extends ExecutionResultCommand<R>> R execute(T command) {
         Objects.requireNonNull(command);
-        return performExecution(command);
+        return performExecution(getRoute(command), command);
     }
 
-    @EventListener
-    void handle(ExecutionCommand command) {
-        dispatch(command);
-    }
-
-    @Async
-    @EventListener
-    void handle(AsyncExecutionCommandWrapper wrapper) {
-        dispatch(wrapper.command());
+    /**
+     * Executes a command on the caller thread.
+     *
+     * @param command the command to execute
+     */
+    public void dispatch(ExecutionCommand command) {
+        Objects.requireNonNull(command);
+        performExecution(getRoute(command), command);
     }
 
-    private <T extends ExecutionCommand> void dispatch(T command) {
-        performExecution(command);
+    /**
+     * Submits a command to the engine task executor.
+     *
+     * @param command the command to execute
+     */
+    public void dispatchAsync(ExecutionCommand command) {
+        Objects.requireNonNull(command);
+        var route = getRoute(command);
+        route.queueDepth().incrementAndGet();
+        taskExecutorService.execute(() -> {
+            route.queueDepth().decrementAndGet();
+            try {
+                performExecution(route, command);
+            } catch (Exception e) {
+                log.error("Async command {} execution failed", route.commandType(), e);
+            }
+        });
     }
 
-    private <R, T extends ExecutionCommand> R performExecution(T command) {
+    private <R> R performExecution(CommandRoute route, ExecutionCommand command) {
+        var duration = route.duration();
+        var startedAt = duration == null ? 0 : System.nanoTime();
         try {
-            var handler = getHandler(command);
-            return handleWithResult(handler, command);
+            return handle(route, command);
         } catch (ExecutionException e) {
             throw e;
         } catch (Exception e) {
             log.error("Command execution failed", e);
             throw ExecutionException.of("Execution failed", e);
+        } finally {
+            if (duration != null) {
+                duration.record(Duration.ofNanos(System.nanoTime() - startedAt));
+            }
         }
     }
 
     @SuppressWarnings("unchecked")
-    private <R, T extends ExecutionCommand> R handleWithResult(CommandHandler<T> handler, T command) {
-        if (handler instanceof ResultCommandHandler<?, ?> resultHandler) {
+    private <R, T extends ExecutionCommand> R handle(CommandRoute route, T command) {
+        if (route.handler() instanceof ResultCommandHandler<?, ?> resultHandler) {
             return ((ResultCommandHandler<T, R>) resultHandler).execute(command);
         }
-        handler.handle(command);
+        ((CommandHandler<T>) route.handler()).handle(command);
         return null;
     }
 
-    @SuppressWarnings("unchecked")
-    private <T extends ExecutionCommand> CommandHandler<T> getHandler(T command) {
-        ensureHandlersInitialized();
-        var handler = (CommandHandler<T>) handlers.get(command.getClass());
-        if (handler == null) {
+    private CommandRoute getRoute(ExecutionCommand command) {
+        var route = getRoutes().get(command.getClass());
+        if (route == null) {
             log.error("No handler found for command type: {}", command.getClass().getSimpleName());
             throw ExecutionException.of("No handler found for command type: %s".formatted(command.getClass().getSimpleName()));
         }
-        return handler;
+        return route;
     }
 
-    private synchronized void ensureHandlersInitialized() {
-        if (!initialized) {
-            handlersProvider.ifAvailable(this::registerHandlers);
-            initialized = true;
+    private Map<Class<?>, CommandRoute> getRoutes() {
+        var current = routes;
+        if (current == null) {
+            synchronized (this) {
+                current = routes;
+                if (current == null) {
+                    current = buildRoutes(metricServiceProvider.getIfAvailable());
+                    routes = current;
+                }
+            }
         }
+        return current;
     }
 
-    private void registerHandlers(List<CommandHandler<?>> commandHandlers) {
-        for (var handler : commandHandlers) {
-            handlers.put(handler.getCommandType(), handler);
+    private Map<Class<?>, CommandRoute> buildRoutes(MetricService metricService) {
+        var table = new HashMap<Class<?>, CommandRoute>();
+        handlersProvider.ifAvailable(commandHandlers -> commandHandlers.forEach(handler -> {
+            var commandType = handler.getCommandType();
+            table.put(commandType, CommandRoute.of(handler, commandType.getSimpleName(), metricService));
+        }));
+        return Map.copyOf(table);
+    }
+
+    private record CommandRoute(
+            CommandHandler<?> handler,
+            String commandType,
+            AtomicLong queueDepth,
+            MetricService.TimerRecorder duration
+    ) {
+
+        private static CommandRoute of(CommandHandler<?> handler, String commandType, MetricService metricService) {
+            var queueDepth = new AtomicLong();
+            if (metricService == null) {
+                return new CommandRoute(handler, commandType, queueDepth, null);
+            }
+
+            var labels = Map.of(COMMAND_TYPE, commandType);
+            metricService.registerGauge(COMMAND_QUEUE_DEPTH, labels, queueDepth::get);
+            return new CommandRoute(handler, commandType, queueDepth, metricService.timer(COMMAND_DURATION, labels));
         }
+
     }
 
-}
\ No newline at end of file
+}
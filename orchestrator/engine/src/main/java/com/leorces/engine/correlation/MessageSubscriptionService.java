@@ -0,0 +1,126 @@
+package com.leorces.engine.correlation;
+
+import com.leorces.model.definition.activity.MessageActivityDefinition;
+import com.leorces.model.runtime.activity.ActivityExecution;
+import com.leorces.model.runtime.message.CorrelationRequest;
+import com.leorces.model.runtime.message.MessageSubscription;
+import com.leorces.model.runtime.process.Process;
+import com.leorces.persistence.MessageSubscriptionPersistence;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Keeps the {@code message_subscription} table in step with the message events process instances wait for.
+ * <p>
+ * A subscription is written when its waiting scope starts: the catch event or receive task itself,
+ * the activity a message boundary event is attached to, the subprocess around a message event subprocess,
+ * or the process for event subprocesses at process level. It is cancelled when that scope completes or terminates,
+ * so correlating a message reads the waiting processes by message name and business key instead of scanning them.
+ */
+@Component
+@RequiredArgsConstructor
+public class MessageSubscriptionService {
+
+    private final MessageSubscriptionPersistence subscriptionPersistence;
+
+    /**
+     * Subscribes to the messages of the message events bound to the activity, if it has any.
+     *
+     * @param activity the activity that started
+     */
+    public void subscribe(ActivityExecution activity) {
+        var messageEvents = activity.processDefinition().graph().getMessageEvents(activity.definitionId());
+        if (!messageEvents.isEmpty()) {
+            subscriptionPersistence.save(toSubscriptions(activity.process(), activity.definitionId(), messageEvents));
+        }
+    }
+
+    /**
+     * Subscribes to the messages of event subprocesses at process level, if the processes have any.
+     *
+     * @param processes the started processes
+     */
+    public void subscribe(List<Process> processes) {
+        var subscriptions = processes.stream()
+                .flatMap(process -> toSubscriptions(process, null, process.definition().graph().getProcessMessageEvents()).stream())
+                .toList();
+        if (!subscriptions.isEmpty()) {
+            subscriptionPersistence.save(subscriptions);
+        }
+    }
+
+    /**
+     * Cancels the subscriptions bound to the activity, if it has any.
+     *
+     * @param activity the completed or terminated activity
+     */
+    public void cancel(ActivityExecution activity) {
+        if (!activity.processDefinition().graph().getMessageEvents(activity.definitionId()).isEmpty()) {
+            subscriptionPersistence.cancel(activity.processId(), activity.definitionId());
+        }
+    }
+
+    /**
+     * Cancels all subscriptions of the process, if its definition uses messages.
+     *
+     * @param process the completed, terminated or deleted process
+     */
+    public void cancelAll(Process process) {
+        var messages = process.definition().messages();
+        if (messages != null && !messages.isEmpty()) {
+            subscriptionPersistence.cancelAll(process.id());
+        }
+    }
+
+    /**
+     * Finds the subscriptions waiting for a message.
+     *
+     * @param messageName     the message name
+     * @param businessKey     the business key of the process, blank to match any process
+     * @param correlationKeys process variables the process must hold, may be {@code null}
+     * @param limit           the maximum number of subscriptions to return
+     * @return the matching subscriptions
+     */
+    public List<MessageSubscription> find(String messageName,
+                                          String businessKey,
+                                          Map<String, Object> correlationKeys,
+                                          int limit) {
+        return subscriptionPersistence.findByMessage(
+                messageName,
+                businessKey == null || businessKey.isBlank() ? null : businessKey,
+                correlationKeys == null ? Map.of() : correlationKeys,
+                limit
+        );
+    }
+
+    /**
+     * Finds the subscriptions waiting for several messages with one lookup,
+     * each matched by name, business key and correlation keys like a single message.
+     *
+     * @param requests the messages
+     * @param limit    the maximum number of subscriptions to return for each message
+     * @return the subscriptions of each message, at the position of the message
+     */
+    public List<List<MessageSubscription>> find(List<CorrelationRequest> requests, int limit) {
+        return subscriptionPersistence.findByMessages(requests, limit);
+    }
+
+    private List<MessageSubscription> toSubscriptions(Process process,
+                                                      String activityDefinitionId,
+                                                      List<MessageActivityDefinition> messageEvents) {
+        return messageEvents.stream()
+                .filter(messageEvent -> messageEvent.messageReference() != null)
+                .map(messageEvent -> MessageSubscription.builder()
+                        .processId(process.id())
+                        .businessKey(process.businessKey())
+                        .messageName(messageEvent.messageReference())
+                        .definitionId(messageEvent.id())
+                        .activityDefinitionId(activityDefinitionId)
+                        .build())
+                .toList();
+    }
+
+}
@@ -0,0 +1,17 @@
+package com.leorces.engine.correlation.command;
+
+import com.leorces.engine.core.ExecutionResultCommand;
+import com.leorces.model.runtime.message.CorrelationRequest;
+import com.leorces.model.runtime.message.CorrelationResult;
+
+import java.util.List;
+
+public record CorrelateMessagesCommand(
+        List<CorrelationRequest> requests
+) implements ExecutionResultCommand<List<CorrelationResult>> {
+
+    public static CorrelateMessagesCommand of(List<CorrelationRequest> requests) {
+        return new CorrelateMessagesCommand(requests);
+    }
+
+}
@@ -2,11 +2,15 @@ package com.leorces.engine.correlation.handler;
 
 import com.leorces.api.exception.ExecutionException;
 import com.leorces.engine.activity.command.TriggerActivityCommand;
+import com.leorces.engine.configuration.properties.CorrelationProperties;
 import com.leorces.engine.core.CommandDispatcher;
 import com.leorces.engine.core.CommandHandler;
+import com.leorces.engine.correlation.MessageSubscriptionService;
 import com.leorces.engine.correlation.command.CorrelateMessageCommand;
 import com.leorces.engine.variables.command.SetVariablesCommand;
+import com.leorces.model.definition.activity.ActivityDefinition;
 import com.leorces.model.definition.activity.MessageActivityDefinition;
+import com.leorces.model.runtime.message.MessageSubscription;
 import com.leorces.model.runtime.process.Process;
 import com.leorces.model.search.ProcessFilter;
 import com.leorces.persistence.ProcessPersistence;
@@ -16,29 +20,58 @@ import org.springframework.stereotype.Component;
 
 import java.util.List;
 import java.util.Map;
-
+import java.util.Optional;
+
+/**
+ * Correlates a message with the one process waiting for it.
+ * <p>
+ * Waiting processes are read from their message subscriptions with one indexed lookup, and only the subscribed
+ * message events are triggered. Processes started before subscriptions existed hold none: with
+ * {@code leorces.correlation.process-scan-fallback} enabled, a message without subscriptions falls back to searching
+ * processes by business key and correlation keys.
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class CorrelateMessageCommandHandler implements CommandHandler<CorrelateMessageCommand> {
 
+    private static final int SUBSCRIPTION_LIMIT = 100;
+
     private final ProcessPersistence processPersistence;
+    private final MessageSubscriptionService subscriptionService;
     private final CommandDispatcher dispatcher;
+    private final CorrelationProperties properties;
 
     @Override
     public void handle(CorrelateMessageCommand command) {
         var messageName = command.messageName();
-        var businessKey = command.businessKey();
-        var correlationKeys = command.correlationKeys();
-        var processVariables = command.processVariables();
+        var subscriptions = subscriptionService.find(messageName, command.businessKey(), command.correlationKeys(), SUBSCRIPTION_LIMIT);
 
-        var correlatedProcesses = findCorrelatedProcesses(messageName, businessKey, correlationKeys);
-        validateCorrelatedProcesses(messageName, correlatedProcesses);
+        if (subscriptions.isEmpty() && properties.processScanFallback()) {
+            correlateByProcesses(command);
+            return;
+        }
 
-        var correlatedProcess = correlatedProcesses.getFirst();
-        var correlatedActivities = correlateActivities(messageName, correlatedProcess);
+        if (subscriptions.isEmpty()) {
+            throw noProcessCorrelated(messageName);
+        }
 
-        setVariables(correlatedProcess, processVariables);
+        var processIds = subscriptions.stream()
+                .map(MessageSubscription::processId)
+                .distinct()
+                .toList();
+        validateCorrelatedProcesses(messageName, processIds.size());
+
+        var correlatedProcess = processPersistence.findById(processIds.getFirst())
+                .orElseThrow(() -> noProcessCorrelated(messageName));
+        var correlatedActivities = subscriptions.stream()
+                .map(MessageSubscription::definitionId)
+                .distinct()
+                .map(correlatedProcess.definition()::getActivityById)
+                .flatMap(Optional::stream)
+                .toList();
+
+        setVariables(correlatedProcess, command.processVariables());
         triggerActivities(correlatedProcess, correlatedActivities);
     }
 
@@ -47,6 +80,18 @@ public class CorrelateMessageCommandHandler implements CommandHandler<CorrelateM
         return CorrelateMessageCommand.class;
     }
 
+    private void correlateByProcesses(CorrelateMessageCommand command) {
+        var messageName = command.messageName();
+        var correlatedProcesses = findCorrelatedProcesses(messageName, command.businessKey(), command.correlationKeys());
+        validateCorrelatedProcesses(messageName, correlatedProcesses.size());
+
+        var correlatedProcess = correlatedProcesses.getFirst();
+        var correlatedActivities = correlateActivities(messageName, correlatedProcess);
+
+        setVariables(correlatedProcess, command.processVariables());
+        triggerActivities(correlatedProcess, correlatedActivities);
+    }
+
     private List<Process> findCorrelatedProcesses(String messageName,
                                                   String businessKey,
                                                   Map<String, Object> correlationKeys) {
@@ -69,18 +114,22 @@ public class CorrelateMessageCommandHandler implements CommandHandler<CorrelateM
                 .anyMatch(messageName::equals);
     }
 
-    private void validateCorrelatedProcesses(String messageName, List<Process> processes) {
-        if (processes.isEmpty()) {
-            log.warn("No process correlated with message: {}", messageName);
-            throw ExecutionException.of("Message correlation error", "No process correlated with message: %s".formatted(messageName));
+    private void validateCorrelatedProcesses(String messageName, int correlatedCount) {
+        if (correlatedCount == 0) {
+            throw noProcessCorrelated(messageName);
         }
 
-        if (processes.size() > 1) {
+        if (correlatedCount > 1) {
             log.warn("Found more than one process correlated with message: {}", messageName);
             throw ExecutionException.of("Message correlation error", "Found more than one process correlated with message: %s".formatted(messageName));
         }
     }
 
+    private ExecutionException noProcessCorrelated(String messageName) {
+        log.warn("No process correlated with message: {}", messageName);
+        return ExecutionException.of("Message correlation error", "No process correlated with message: %s".formatted(messageName));
+    }
+
     private List<MessageActivityDefinition> correlateActivities(String messageName, Process process) {
         return process.definition().activities().stream()
                 .filter(MessageActivityDefinition.class::isInstance)
@@ -95,7 +144,7 @@ public class CorrelateMessageCommandHandler implements CommandHandler<CorrelateM
         }
     }
 
-    private void triggerActivities(Process process, List<MessageActivityDefinition> activities) {
+    private void triggerActivities(Process process, List<? extends ActivityDefinition> activities) {
         activities.stream()
                 .map(definition -> TriggerActivityCommand.of(process, definition))
                 .forEach(dispatcher::dispatchAsync);
@@ -0,0 +1,258 @@
+package com.leorces.engine.correlation.handler;
+
+import com.leorces.engine.activity.command.TriggerActivityCommand;
+import com.leorces.engine.configuration.properties.CorrelationProperties;
+import com.leorces.engine.core.CommandDispatcher;
+import com.leorces.engine.core.ResultCommandHandler;
+import com.leorces.engine.correlation.MessageSubscriptionService;
+import com.leorces.engine.correlation.command.CorrelateMessagesCommand;
+import com.leorces.engine.variables.command.SetVariablesCommand;
+import com.leorces.model.definition.activity.ActivityDefinition;
+import com.leorces.model.definition.activity.MessageActivityDefinition;
+import com.leorces.model.runtime.message.CorrelationRequest;
+import com.leorces.model.runtime.message.CorrelationResult;
+import com.leorces.model.runtime.message.CorrelationStatus;
+import com.leorces.model.runtime.message.MessageSubscription;
+import com.leorces.model.runtime.process.Process;
+import com.leorces.model.search.ProcessFilter;
+import com.leorces.persistence.ProcessPersistence;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Correlates a batch of messages, each with the one process waiting for it.
+ * <p>
+ * All messages are resolved with one subscription lookup for the whole batch, matching business keys and
+ * correlation keys alike, and their processes are loaded with one more. Variables of all messages sent to
+ * the same process are merged in batch order and written once. Messages that match no subscription fall back
+ * to a process search when {@code leorces.correlation.process-scan-fallback} is enabled, like single
+ * correlation. A message that can't be correlated gets its own outcome and never fails the batch.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CorrelateMessagesCommandHandler implements ResultCommandHandler<CorrelateMessagesCommand, List<CorrelationResult>> {
+
+    private static final int SUBSCRIPTION_LIMIT = 100;
+
+    private final ProcessPersistence processPersistence;
+    private final MessageSubscriptionService subscriptionService;
+    private final CommandDispatcher dispatcher;
+    private final CorrelationProperties properties;
+
+    @Override
+    public List<CorrelationResult> execute(CorrelateMessagesCommand command) {
+        var requests = command.requests();
+        if (requests == null || requests.isEmpty()) {
+            return List.of();
+        }
+
+        log.debug("Correlate {} messages", requests.size());
+        var processes = new HashMap<String, Process>();
+        var subscriptions = findSubscriptions(requests);
+        var correlations = IntStream.range(0, requests.size())
+                .mapToObj(i -> correlate(requests.get(i), subscriptions.get(i), processes))
+                .toList();
+
+        loadProcesses(correlations, processes);
+        var results = correlations.stream()
+                .map(correlation -> toResult(correlation, processes))
+                .collect(Collectors.toCollection(ArrayList::new));
+
+        setVariables(requests, results, processes);
+        triggerActivities(correlations, results, processes);
+        return results;
+    }
+
+    @Override
+    public Class<CorrelateMessagesCommand> getCommandType() {
+        return CorrelateMessagesCommand.class;
+    }
+
+    /**
+     * Reads the subscriptions of all messages with a name with one lookup, at the position of each message.
+     */
+    private List<List<MessageSubscription>> findSubscriptions(List<CorrelationRequest> requests) {
+        var positions = IntStream.range(0, requests.size())
+                .filter(i -> hasMessageName(requests.get(i)))
+                .boxed()
+                .toList();
+        var subscriptions = new ArrayList<List<MessageSubscription>>(Collections.nCopies(requests.size(), List.of()));
+        if (positions.isEmpty()) {
+            return subscriptions;
+        }
+
+        var found = subscriptionService.find(positions.stream().map(requests::get).toList(), SUBSCRIPTION_LIMIT);
+        for (int i = 0; i < positions.size(); i++) {
+            subscriptions.set(positions.get(i), found.get(i));
+        }
+        return subscriptions;
+    }
+
+    private Correlation correlate(CorrelationRequest request,
+                                  List<MessageSubscription> subscriptions,
+                                  Map<String, Process> processes) {
+        if (!hasMessageName(request)) {
+            return Correlation.failed(request, CorrelationStatus.FAILED);
+        }
+
+        if (!subscriptions.isEmpty()) {
+            return correlateBySubscriptions(request, subscriptions);
+        }
+
+        return properties.processScanFallback()
+                ? correlateByProcesses(request, processes)
+                : Correlation.failed(request, CorrelationStatus.NOT_FOUND);
+    }
+
+    private Correlation correlateBySubscriptions(CorrelationRequest request, List<MessageSubscription> subscriptions) {
+        var processIds = subscriptions.stream()
+                .map(MessageSubscription::processId)
+                .distinct()
+                .toList();
+        if (processIds.size() > 1) {
+            return Correlation.failed(request, CorrelationStatus.AMBIGUOUS);
+        }
+
+        var definitionIds = subscriptions.stream()
+                .map(MessageSubscription::definitionId)
+                .distinct()
+                .toList();
+        return new Correlation(request, processIds.getFirst(), definitionIds, null);
+    }
+
+    private Correlation correlateByProcesses(CorrelationRequest request, Map<String, Process> processes) {
+        var messageName = request.messageName();
+        var correlatedProcesses = processPersistence.findAll(ProcessFilter.builder()
+                        .businessKey(request.businessKey())
+                        .variables(request.correlationKeys())
+                        .build())
+                .stream()
+                .filter(process -> process.definition().messages().contains(messageName))
+                .toList();
+        if (correlatedProcesses.isEmpty()) {
+            return Correlation.failed(request, CorrelationStatus.NOT_FOUND);
+        }
+        if (correlatedProcesses.size() > 1) {
+            return Correlation.failed(request, CorrelationStatus.AMBIGUOUS);
+        }
+
+        var process = correlatedProcesses.getFirst();
+        processes.put(process.id(), process);
+        var definitionIds = process.definition().activities().stream()
+                .filter(MessageActivityDefinition.class::isInstance)
+                .map(MessageActivityDefinition.class::cast)
+                .filter(definition -> messageName.equals(definition.messageReference()))
+                .map(ActivityDefinition::id)
+                .toList();
+        return new Correlation(request, process.id(), definitionIds, null);
+    }
+
+    private void loadProcesses(List<Correlation> correlations, Map<String, Process> processes) {
+        var processIds = correlations.stream()
+                .map(Correlation::processId)
+                .filter(processId -> processId != null && !processes.containsKey(processId))
+                .distinct()
+                .toList();
+        if (!processIds.isEmpty()) {
+            processes.putAll(processPersistence.findAllByIds(processIds).stream()
+                    .collect(Collectors.toMap(Process::id, Function.identity())));
+        }
+    }
+
+    private CorrelationResult toResult(Correlation correlation, Map<String, Process> processes) {
+        if (correlation.status() != null) {
+            return CorrelationResult.failed(correlation.request(), correlation.status(), describe(correlation));
+        }
+        if (!processes.containsKey(correlation.processId())) {
+            return CorrelationResult.failed(correlation.request(), CorrelationStatus.NOT_FOUND, describe(correlation.request(), CorrelationStatus.NOT_FOUND));
+        }
+        return CorrelationResult.correlated(correlation.request(), correlation.processId());
+    }
+
+    /**
+     * Writes the variables of all messages correlated with a process at once, later messages of the batch win.
+     */
+    private void setVariables(List<CorrelationRequest> requests, List<CorrelationResult> results, Map<String, Process> processes) {
+        var variablesByProcess = new LinkedHashMap<String, Map<String, Object>>();
+        for (int i = 0; i < requests.size(); i++) {
+            var processVariables = requests.get(i).processVariables();
+            if (results.get(i).isCorrelated() && processVariables != null && !processVariables.isEmpty()) {
+                variablesByProcess.computeIfAbsent(results.get(i).processId(), processId -> new LinkedHashMap<>())
+                        .putAll(processVariables);
+            }
+        }
+
+        variablesByProcess.forEach((processId, variables) -> {
+            try {
+                dispatcher.dispatch(SetVariablesCommand.of(processes.get(processId), variables));
+            } catch (Exception e) {
+                log.warn("Can't set correlated variables of process: {}, error: {}", processId, e.getMessage());
+                failAll(requests, results, processId, e.getMessage());
+            }
+        });
+    }
+
+    private void triggerActivities(List<Correlation> correlations, List<CorrelationResult> results, Map<String, Process> processes) {
+        for (int i = 0; i < correlations.size(); i++) {
+            if (!results.get(i).isCorrelated()) {
+                continue;
+            }
+
+            var process = processes.get(results.get(i).processId());
+            correlations.get(i).definitionIds().stream()
+                    .map(process.definition()::getActivityById)
+                    .flatMap(Optional::stream)
+                    .map(definition -> TriggerActivityCommand.of(process, definition))
+                    .forEach(dispatcher::dispatchAsync);
+        }
+    }
+
+    private void failAll(List<CorrelationRequest> requests, List<CorrelationResult> results, String processId, String error) {
+        for (int i = 0; i < results.size(); i++) {
+            if (processId.equals(results.get(i).processId())) {
+                results.set(i, CorrelationResult.failed(requests.get(i), CorrelationStatus.FAILED, error));
+            }
+        }
+    }
+
+    private static String describe(Correlation correlation) {
+        return describe(correlation.request(), correlation.status());
+    }
+
+    private static String describe(CorrelationRequest request, CorrelationStatus status) {
+        return switch (status) {
+            case AMBIGUOUS -> "Found more than one process correlated with message: %s".formatted(request.messageName());
+            case FAILED -> "Message name cannot be null or blank";
+            default -> "No process correlated with message: %s".formatted(request.messageName());
+        };
+    }
+
+    private static boolean hasMessageName(CorrelationRequest request) {
+        return request.messageName() != null && !request.messageName().isBlank();
+    }
+
+    /**
+     * The process a message resolved to and the message events to trigger in it, or the status it failed with.
+     */
+    private record Correlation(CorrelationRequest request, String processId, List<String> definitionIds, CorrelationStatus status) {
+
+        static Correlation failed(CorrelationRequest request, CorrelationStatus status) {
+            return new Correlation(request, null, List.of(), status);
+        }
+
+    }
+
+}
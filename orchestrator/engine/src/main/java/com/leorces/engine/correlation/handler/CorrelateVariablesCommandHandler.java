@@ -31,19 +31,21 @@ public class CorrelateVariablesCommandHandler implements CommandHandler<Correlat
     @Override
     public void handle(CorrelateVariablesCommand command) {
         var process = command.process();
-        var variables = variablePersistence.findInProcess(process.id());
+        var processDefinition = process.definition();
+        var conditionalActivities = getAffectedConditionalActivities(processDefinition, command.variables());
 
+        // Nothing depends on the changed variables, so the process variables are not even loaded
+        if (conditionalActivities.isEmpty()) return;
+
+        var variables = variablePersistence.findInProcess(process.id());
 
         log.debug("Correlate variables with processId: {} and variables: {}", process.id(), variables);
         if (variables.isEmpty()) return;
 
-        var processDefinition = process.definition();
         var variablesByExecutionId = variables.stream()
                 .collect(Collectors.groupingBy(Variable::executionDefinitionId));
 
-        processDefinition.activities().stream()
-                .filter(ConditionalActivityDefinition.class::isInstance)
-                .map(ConditionalActivityDefinition.class::cast)
+        conditionalActivities.stream()
                 .filter(definition -> isConditionMet(definition, processDefinition, variablesByExecutionId))
                 .map(definition -> TriggerActivityCommand.of(process, definition))
                 .forEach(dispatcher::dispatch);
@@ -56,6 +58,19 @@ public class CorrelateVariablesCommandHandler implements CommandHandler<Correlat
         return CorrelateVariablesCommand.class;
     }
 
+    private List<ConditionalActivityDefinition> getAffectedConditionalActivities(ProcessDefinition processDefinition,
+                                                                                 List<Variable> changedVariables) {
+        var graph = processDefinition.graph();
+        if (changedVariables == null) {
+            return graph.getConditionalActivities();
+        }
+
+        var variableNames = changedVariables.stream()
+                .map(Variable::varKey)
+                .collect(Collectors.toSet());
+        return graph.getConditionalActivities(variableNames);
+    }
+
     private boolean isConditionMet(ConditionalActivityDefinition activityDefinition,
                                    ProcessDefinition processDefinition,
                                    Map<String, List<Variable>> variablesByExecutionId) {
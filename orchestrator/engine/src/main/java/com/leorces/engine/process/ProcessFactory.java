@@ -0,0 +1,59 @@
+package com.leorces.engine.process;
+
+import com.leorces.api.exception.ExecutionException;
+import com.leorces.common.mapper.VariablesMapper;
+import com.leorces.model.definition.ProcessDefinition;
+import com.leorces.model.runtime.process.Process;
+import com.leorces.persistence.DefinitionPersistence;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Resolves the definition a process is started from and builds the process before it runs.
+ */
+@Component
+@RequiredArgsConstructor
+public class ProcessFactory {
+
+    private final VariablesMapper variablesMapper;
+    private final DefinitionPersistence definitionPersistence;
+
+    /**
+     * Finds the definition by ID, or the latest definition of the key when no ID is given.
+     *
+     * @param definitionId  the process definition ID, may be {@code null}
+     * @param definitionKey the process definition key, may be {@code null}
+     * @return the process definition
+     * @throws ExecutionException if neither is given or no definition is found
+     */
+    public ProcessDefinition findDefinition(String definitionId, String definitionKey) {
+        if (definitionId != null) {
+            return definitionPersistence.findById(definitionId)
+                    .orElseThrow(() -> ExecutionException.of("Process definition not found", "Process definition not found by id: %s".formatted(definitionId)));
+        }
+        if (definitionKey != null) {
+            return definitionPersistence.findLatestByKey(definitionKey)
+                    .orElseThrow(() -> ExecutionException.of("Process definition not found", "Latest process definition not found for key: %s".formatted(definitionKey)));
+        }
+        throw ExecutionException.of("Can't find definition for key: %s or id: %s".formatted(definitionKey, definitionId));
+    }
+
+    /**
+     * Builds a process of the definition that is not stored yet.
+     *
+     * @param definition  the process definition
+     * @param businessKey the business key, may be {@code null}
+     * @param variables   the initial process variables
+     * @return the process to run
+     */
+    public Process create(ProcessDefinition definition, String businessKey, Map<String, Object> variables) {
+        return Process.builder()
+                .businessKey(businessKey)
+                .variables(variablesMapper.map(variables))
+                .definition(definition)
+                .build();
+    }
+
+}
@@ -0,0 +1,22 @@
+package com.leorces.engine.process.command;
+
+import com.leorces.engine.core.ExecutionResultCommand;
+import com.leorces.model.runtime.process.Process;
+import com.leorces.model.runtime.process.StartProcessRequest;
+
+import java.util.List;
+
+public record RunProcessesCommand(
+        List<StartProcessRequest> requests,
+        List<Process> processes
+) implements ExecutionResultCommand<List<Process>> {
+
+    public static RunProcessesCommand of(List<StartProcessRequest> requests) {
+        return new RunProcessesCommand(requests, null);
+    }
+
+    public static RunProcessesCommand byCallActivity(List<Process> processes) {
+        return new RunProcessesCommand(null, processes);
+    }
+
+}
@@ -4,6 +4,7 @@ import com.leorces.api.exception.ExecutionException;
 import com.leorces.engine.activity.command.CompleteActivityCommand;
 import com.leorces.engine.core.CommandDispatcher;
 import com.leorces.engine.core.CommandHandler;
+import com.leorces.engine.correlation.MessageSubscriptionService;
 import com.leorces.engine.process.command.CompleteProcessCommand;
 import com.leorces.engine.process.command.RecordProcessMetricCommand;
 import com.leorces.model.runtime.process.Process;
@@ -23,6 +24,7 @@ public class CompleteProcessCommandHandler implements CommandHandler<CompletePro
     private final ProcessPersistence processPersistence;
     private final ActivityPersistence activityPersistence;
     private final CommandDispatcher dispatcher;
+    private final MessageSubscriptionService subscriptionService;
 
     @Override
     public void handle(CompleteProcessCommand command) {
@@ -45,6 +47,7 @@ public class CompleteProcessCommandHandler implements CommandHandler<CompletePro
 
     private void completeProcess(Process process) {
         processPersistence.complete(process.id());
+        subscriptionService.cancelAll(process);
         dispatcher.dispatchAsync(RecordProcessMetricCommand.of(PROCESS_COMPLETED, process));
         if (process.isCallActivity()) {
             dispatcher.dispatchAsync(CompleteActivityCommand.of(process.id()));
@@ -5,6 +5,7 @@ import com.leorces.engine.activity.command.DeleteActivityCommand;
 import com.leorces.engine.activity.command.DeleteAllActivitiesCommand;
 import com.leorces.engine.core.CommandDispatcher;
 import com.leorces.engine.core.CommandHandler;
+import com.leorces.engine.correlation.MessageSubscriptionService;
 import com.leorces.engine.process.command.DeleteProcessCommand;
 import com.leorces.model.runtime.process.Process;
 import com.leorces.persistence.ActivityPersistence;
@@ -21,6 +22,7 @@ public class DeleteProcessCommandHandler implements CommandHandler<DeleteProcess
     private final ActivityPersistence activityPersistence;
     private final ProcessPersistence processPersistence;
     private final CommandDispatcher dispatcher;
+    private final MessageSubscriptionService subscriptionService;
 
     @Override
     public void handle(DeleteProcessCommand command) {
@@ -38,6 +40,7 @@ public class DeleteProcessCommandHandler implements CommandHandler<DeleteProcess
 
     private void deleteProcess(Process process, boolean deleteCallActivity) {
         processPersistence.delete(process.id());
+        subscriptionService.cancelAll(process);
         if (process.isCallActivity() && deleteCallActivity) {
             dispatcher.dispatch(DeleteActivityCommand.of(process.id()));
         }
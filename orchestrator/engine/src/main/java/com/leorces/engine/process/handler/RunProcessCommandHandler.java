@@ -1,9 +1,11 @@
 package com.leorces.engine.process.handler;
 
 import com.leorces.api.exception.ExecutionException;
+import com.leorces.engine.activity.GatewayJoinService;
 import com.leorces.engine.activity.command.RunActivityCommand;
 import com.leorces.engine.core.CommandDispatcher;
 import com.leorces.engine.core.ResultCommandHandler;
+import com.leorces.engine.correlation.MessageSubscriptionService;
 import com.leorces.engine.process.command.CreateProcessCommand;
 import com.leorces.engine.process.command.RecordProcessMetricCommand;
 import com.leorces.engine.process.command.RunProcessCommand;
@@ -13,6 +15,8 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 import static com.leorces.engine.constants.MetricConstants.PROCESS_STARTED;
 
 @Slf4j
@@ -22,6 +26,8 @@ public class RunProcessCommandHandler implements ResultCommandHandler<RunProcess
 
     private final ProcessPersistence processPersistence;
     private final CommandDispatcher dispatcher;
+    private final MessageSubscriptionService subscriptionService;
+    private final GatewayJoinService gatewayJoinService;
 
     @Override
     public Process execute(RunProcessCommand command) {
@@ -29,6 +35,8 @@ public class RunProcessCommandHandler implements ResultCommandHandler<RunProcess
 
         log.debug("Run process with definitionId: {}, definitionKey: {} and definition version: {}", process.definitionId(), process.definitionKey(), process.definition().version());
         var newProcess = processPersistence.run(process);
+        subscriptionService.subscribe(List.of(newProcess));
+        gatewayJoinService.createJoins(List.of(newProcess));
         dispatcher.dispatchAsync(RecordProcessMetricCommand.of(PROCESS_STARTED, newProcess));
         startInitialActivity(newProcess);
         return newProcess;
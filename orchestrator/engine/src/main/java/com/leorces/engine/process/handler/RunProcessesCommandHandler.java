@@ -0,0 +1,110 @@
+package com.leorces.engine.process.handler;
+
+import com.leorces.api.exception.ExecutionException;
+import com.leorces.engine.activity.GatewayJoinService;
+import com.leorces.engine.activity.command.RunActivityCommand;
+import com.leorces.engine.core.CommandDispatcher;
+import com.leorces.engine.core.ResultCommandHandler;
+import com.leorces.engine.correlation.MessageSubscriptionService;
+import com.leorces.engine.process.ProcessFactory;
+import com.leorces.engine.process.command.RecordProcessMetricCommand;
+import com.leorces.engine.process.command.RunProcessesCommand;
+import com.leorces.model.definition.ProcessDefinition;
+import com.leorces.model.definition.activity.ActivityDefinition;
+import com.leorces.model.runtime.process.Process;
+import com.leorces.model.runtime.process.StartProcessRequest;
+import com.leorces.persistence.ProcessPersistence;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.leorces.engine.constants.MetricConstants.PROCESS_STARTED;
+
+/**
+ * Starts many processes with one insert of processes and one insert of variables.
+ * The processes are either built from start requests or given ready-made, like those called by call activity instances.
+ * <p>
+ * Every definition is resolved once per batch. Start activities of requested processes are dispatched asynchronously,
+ * so the processes of a batch run in parallel instead of one after another on the caller thread. Processes called
+ * by call activity instances start like a single called process: their start activities run on the caller thread,
+ * in instance order, and a failing start fails the call activity before the remaining processes are started.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RunProcessesCommandHandler implements ResultCommandHandler<RunProcessesCommand, List<Process>> {
+
+    private final ProcessFactory processFactory;
+    private final ProcessPersistence processPersistence;
+    private final CommandDispatcher dispatcher;
+    private final MessageSubscriptionService subscriptionService;
+    private final GatewayJoinService gatewayJoinService;
+
+    @Override
+    public List<Process> execute(RunProcessesCommand command) {
+        var processes = getProcesses(command);
+        if (processes.isEmpty()) {
+            return List.of();
+        }
+
+        processes.forEach(this::getStartActivity);
+
+        log.debug("Run {} processes", processes.size());
+        var newProcesses = processPersistence.runAll(processes);
+        subscriptionService.subscribe(newProcesses);
+        gatewayJoinService.createJoins(newProcesses);
+        if (command.processes() != null) {
+            newProcesses.forEach(this::runInitialActivity);
+        } else {
+            newProcesses.forEach(this::startInitialActivity);
+        }
+        return newProcesses;
+    }
+
+    @Override
+    public Class<RunProcessesCommand> getCommandType() {
+        return RunProcessesCommand.class;
+    }
+
+    private List<Process> getProcesses(RunProcessesCommand command) {
+        if (command.processes() != null) {
+            return command.processes();
+        }
+        if (command.requests() == null) {
+            return List.of();
+        }
+
+        var definitions = new HashMap<String, ProcessDefinition>();
+        return command.requests().stream()
+                .map(request -> processFactory.create(getDefinition(request, definitions), request.businessKey(), request.variables()))
+                .toList();
+    }
+
+    private void startInitialActivity(Process process) {
+        dispatcher.dispatchAsync(RecordProcessMetricCommand.of(PROCESS_STARTED, process));
+        dispatcher.dispatchAsync(RunActivityCommand.of(process, getStartActivity(process)));
+    }
+
+    private void runInitialActivity(Process process) {
+        dispatcher.dispatchAsync(RecordProcessMetricCommand.of(PROCESS_STARTED, process));
+        dispatcher.dispatch(RunActivityCommand.of(process, getStartActivity(process)));
+    }
+
+    private ActivityDefinition getStartActivity(Process process) {
+        return process.definition().getStartActivity()
+                .orElseThrow(() -> ExecutionException.of("Can't start process", "Start event not found in process definition: %s".formatted(process.definitionId())));
+    }
+
+    private ProcessDefinition getDefinition(StartProcessRequest request, Map<String, ProcessDefinition> definitions) {
+        if (request.definitionId() != null) {
+            return definitions.computeIfAbsent(request.definitionId(), definitionId -> processFactory.findDefinition(definitionId, null));
+        }
+        // Keys and ids share the map, so a key is prefixed to never match an id
+        return definitions.computeIfAbsent("key:" + request.definitionKey(), key -> processFactory.findDefinition(null, request.definitionKey()));
+    }
+
+}
@@ -5,6 +5,7 @@ import com.leorces.engine.activity.command.TerminateActivityCommand;
 import com.leorces.engine.activity.command.TerminateAllActivitiesCommand;
 import com.leorces.engine.core.CommandDispatcher;
 import com.leorces.engine.core.CommandHandler;
+import com.leorces.engine.correlation.MessageSubscriptionService;
 import com.leorces.engine.process.command.RecordProcessMetricCommand;
 import com.leorces.engine.process.command.TerminateProcessCommand;
 import com.leorces.model.runtime.process.Process;
@@ -24,6 +25,7 @@ public class TerminateProcessCommandHandler implements CommandHandler<TerminateP
     private final ActivityPersistence activityPersistence;
     private final ProcessPersistence processPersistence;
     private final CommandDispatcher dispatcher;
+    private final MessageSubscriptionService subscriptionService;
 
     @Override
     public void handle(TerminateProcessCommand command) {
@@ -47,6 +49,7 @@ public class TerminateProcessCommandHandler implements CommandHandler<TerminateP
 
     private void terminateProcess(Process process, boolean terminateCallActivity) {
         processPersistence.terminate(process.id());
+        subscriptionService.cancelAll(process);
         dispatcher.dispatchAsync(RecordProcessMetricCommand.of(PROCESS_TERMINATED, process));
         if (process.isCallActivity() && terminateCallActivity) {
             dispatcher.dispatch(TerminateActivityCommand.of(process.id()));
@@ -0,0 +1,177 @@
+package com.leorces.engine.service;
+
+import com.leorces.model.runtime.activity.ActivityPollRequest;
+import com.leorces.persistence.ActivityScheduleListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+/**
+ * Completes long-poll waiters once an activity is scheduled for their topic, so a waiting poll holds no thread.
+ * <p>
+ * Every schedule signal takes the next value of the sequence of its (process definition key, topic) pair and
+ * stores it as the version of the pair. Pollers read the versions before querying persistence and wait for any
+ * of them to change, so a signal that arrives between an empty poll and the wait is never lost.
+ * <p>
+ * A pair is only tracked while somebody waits on it and is dropped when its last waiter leaves, so topics
+ * named by clients do not accumulate. Pairs share a fixed number of sequences by hash, and a pair tracked again
+ * starts at the current value of its sequence, which differs from any version read before a signal that found
+ * nobody waiting. Pairs sharing a sequence may wake each other's untracked pollers, which then poll once more.
+ */
+@Component
+public class ActivityPollNotifier implements ActivityScheduleListener {
+
+    private static final int SEQUENCES = 1024;
+
+    private final Map<String, TopicSignal> signals = new ConcurrentHashMap<>();
+    private final AtomicLongArray sequences = new AtomicLongArray(SEQUENCES);
+
+    /**
+     * Reads the versions of every (process definition key, topic) pair of the requests.
+     *
+     * @param requests the polled topics
+     * @return the version snapshot to pass to {@link #awaitAny(Map, Duration)}
+     */
+    public Map<String, Long> versions(List<ActivityPollRequest> requests) {
+        return requests.stream()
+                .map(request -> key(request.processDefinitionKey(), request.topic()))
+                .distinct()
+                .collect(Collectors.toMap(key -> key, this::version));
+    }
+
+    /**
+     * Waits until any of the pairs of the snapshot is signalled. The returned future is completed by the
+     * signalling thread or on timeout, its dependent stages should run on an executor of their own.
+     *
+     * @param versions the snapshot read before the poll
+     * @param timeout  the maximum time to wait
+     * @return a future completed with true if any pair was signalled, false if the timeout expired
+     */
+    public CompletableFuture<Boolean> awaitAny(Map<String, Long> versions, Duration timeout) {
+        var waiter = new CompletableFuture<Boolean>();
+        var topicSignals = versions.keySet().stream()
+                .collect(Collectors.toMap(key -> key, this::track));
+
+        // A signal that arrived before the waiter was registered
+        for (var entry : topicSignals.entrySet()) {
+            if (!entry.getValue().register(waiter) || entry.getValue().version() != versions.get(entry.getKey())) {
+                waiter.complete(true);
+                break;
+            }
+        }
+
+        waiter.whenComplete((signalled, error) -> topicSignals.forEach((key, signal) -> {
+            signal.unregister(waiter);
+            release(key, signal);
+        }));
+        return waiter.completeOnTimeout(false, timeout.toNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    public void signal(String processDefinitionKey, String topic) {
+        var key = key(processDefinitionKey, topic);
+        var version = sequences.incrementAndGet(sequence(key));
+
+        // Waiters complete on this thread and release their topics, which must not happen inside a map update.
+        // A pair tracked again meanwhile starts at the incremented sequence and is not missed.
+        var signal = signals.get(key);
+        if (signal != null) {
+            signal.signal(version);
+        }
+    }
+
+    @Override
+    public void onScheduled(String processDefinitionKey, String topic) {
+        signal(processDefinitionKey, topic);
+    }
+
+    int trackedTopics() {
+        return signals.size();
+    }
+
+    private long version(String key) {
+        var signal = signals.get(key);
+        return signal != null ? signal.version() : sequences.get(sequence(key));
+    }
+
+    private TopicSignal track(String key) {
+        return signals.computeIfAbsent(key, k -> new TopicSignal(sequences.get(sequence(k))));
+    }
+
+    private void release(String key, TopicSignal signal) {
+        signals.computeIfPresent(key, (k, current) -> current == signal && signal.retireIfIdle() ? null : current);
+    }
+
+    private int sequence(String key) {
+        return Math.floorMod(key.hashCode(), SEQUENCES);
+    }
+
+    private String key(String processDefinitionKey, String topic) {
+        return processDefinitionKey + ":" + topic;
+    }
+
+    private static final class TopicSignal {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Set<CompletableFuture<Boolean>> waiters = ConcurrentHashMap.newKeySet();
+        private long version;
+        private boolean retired;
+
+        private TopicSignal(long version) {
+            this.version = version;
+        }
+
+        private long version() {
+            lock.lock();
+            try {
+                return version;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void signal(long newVersion) {
+            lock.lock();
+            try {
+                version = newVersion;
+            } finally {
+                lock.unlock();
+            }
+            waiters.forEach(waiter -> waiter.complete(true));
+        }
+
+        private boolean register(CompletableFuture<Boolean> waiter) {
+            lock.lock();
+            try {
+                // Dropped between lookup and registration: signals go to its successor, so poll again
+                return !retired && waiters.add(waiter);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void unregister(CompletableFuture<Boolean> waiter) {
+            waiters.remove(waiter);
+        }
+
+        private boolean retireIfIdle() {
+            lock.lock();
+            try {
+                retired = waiters.isEmpty();
+                return retired;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+    }
+
+}
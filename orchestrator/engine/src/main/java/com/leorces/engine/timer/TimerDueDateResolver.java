@@ -0,0 +1,171 @@
+package com.leorces.engine.timer;
+
+import com.leorces.api.exception.ExecutionException;
+import com.leorces.common.utils.RelativeTimeParser;
+import com.leorces.juel.ExpressionEvaluator;
+import com.leorces.model.definition.activity.TimerActivityDefinition;
+import com.leorces.model.runtime.timer.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.*;
+import java.time.format.DateTimeParseException;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+/**
+ * Resolves due times of timer events.
+ * <p>
+ * Supports ISO 8601 dates ({@code 2030-01-01T10:00:00}, with or without offset), durations ({@code PT5M}, {@code P1D}),
+ * repeating intervals ({@code R3/PT10S}, {@code R/PT1H}, {@code R2/2030-01-01T10:00:00/PT1H}) and the relative
+ * format of {@link RelativeTimeParser} ({@code 1h 30m}). Values can be expressions over the scoped variables.
+ */
+@Component
+@RequiredArgsConstructor
+public class TimerDueDateResolver {
+
+    private static final Pattern CYCLE_PATTERN = Pattern.compile("R(\\d*)/(?:([^/]+)/)?(P[^/]+)");
+    private static final String UNBOUNDED_CYCLE = "R/%s";
+    private static final String BOUNDED_CYCLE = "R%d/%s";
+
+    private final ExpressionEvaluator expressionEvaluator;
+
+    /**
+     * Resolves the first firing of a timer event.
+     *
+     * @param definition the timer event definition
+     * @param variables  supplies the scoped variables, called only for expressions
+     * @return a timer with due time and remaining cycle set
+     */
+    public Timer resolve(TimerActivityDefinition definition, Supplier<Map<String, Object>> variables) {
+        var now = LocalDateTime.now();
+
+        if (hasText(definition.timeDate())) {
+            return Timer.builder()
+                    .dueAt(parseDate(evaluate(definition.timeDate(), variables)))
+                    .build();
+        }
+
+        if (hasText(definition.timeDuration())) {
+            var duration = evaluate(definition.timeDuration(), variables);
+            return Timer.builder()
+                    .dueAt(isIsoDuration(duration) ? plus(now, duration) : RelativeTimeParser.parseRelative(duration))
+                    .build();
+        }
+
+        if (hasText(definition.timeCycle())) {
+            var cycle = parseCycle(evaluate(definition.timeCycle(), variables));
+            return Timer.builder()
+                    .dueAt(cycle.start() != null ? cycle.start() : plus(now, cycle.interval()))
+                    .cycle(cycle.remaining())
+                    .build();
+        }
+
+        throw ExecutionException.of(
+                "Timer definition is empty",
+                "Timer event: %s has neither time date, duration nor cycle".formatted(definition.id())
+        );
+    }
+
+    /**
+     * Resolves the next firing of a cyclic timer.
+     *
+     * @param timer the fired timer
+     * @return the rescheduled timer, empty if the timer has no repetitions left
+     */
+    public Optional<Timer> next(Timer timer) {
+        if (!timer.isCyclic()) {
+            return Optional.empty();
+        }
+
+        var cycle = parseCycle(timer.cycle());
+        var now = LocalDateTime.now();
+        var dueAt = plus(timer.dueAt(), cycle.interval());
+
+        // A timer fired late keeps its rate but does not catch up on missed repetitions
+        if (dueAt.isBefore(now)) {
+            dueAt = plus(now, cycle.interval());
+        }
+
+        return Optional.of(timer.toBuilder()
+                .dueAt(dueAt)
+                .cycle(cycle.remaining())
+                .build());
+    }
+
+    private String evaluate(String value, Supplier<Map<String, Object>> variables) {
+        var trimmed = value.trim();
+        return expressionEvaluator.isExpression(trimmed)
+                ? expressionEvaluator.evaluateString(trimmed, variables.get())
+                : trimmed;
+    }
+
+    private boolean isIsoDuration(String duration) {
+        return duration.startsWith("P");
+    }
+
+    private LocalDateTime plus(LocalDateTime from, String duration) {
+        try {
+            var timeIndex = duration.indexOf('T');
+            if (timeIndex < 0) {
+                return from.plus(Period.parse(duration));
+            }
+            if (timeIndex == 1) {
+                return from.plus(Duration.parse(duration));
+            }
+            return from.plus(Period.parse(duration.substring(0, timeIndex)))
+                    .plus(Duration.parse("P" + duration.substring(timeIndex)));
+        } catch (DateTimeParseException e) {
+            throw ExecutionException.of("Invalid timer duration", "Can't parse timer duration: %s".formatted(duration));
+        }
+    }
+
+    private LocalDateTime parseDate(String date) {
+        try {
+            return OffsetDateTime.parse(date)
+                    .atZoneSameInstant(ZoneId.systemDefault())
+                    .toLocalDateTime();
+        } catch (DateTimeParseException e) {
+            // Fall back to a local date time
+        }
+
+        try {
+            return LocalDateTime.parse(date);
+        } catch (DateTimeParseException e) {
+            throw ExecutionException.of("Invalid timer date", "Can't parse timer date: %s".formatted(date));
+        }
+    }
+
+    private Cycle parseCycle(String cycle) {
+        var matcher = CYCLE_PATTERN.matcher(cycle);
+        if (!matcher.matches()) {
+            throw ExecutionException.of("Invalid timer cycle", "Can't parse timer cycle: %s".formatted(cycle));
+        }
+
+        var repetitions = matcher.group(1);
+        var start = matcher.group(2) != null ? parseDate(matcher.group(2)) : null;
+        var interval = matcher.group(3);
+
+        if (repetitions.isEmpty()) {
+            return new Cycle(start, interval, UNBOUNDED_CYCLE.formatted(interval));
+        }
+
+        var remaining = Integer.parseInt(repetitions) - 1;
+        return new Cycle(start, interval, remaining > 0 ? BOUNDED_CYCLE.formatted(remaining, interval) : null);
+    }
+
+    private boolean hasText(String value) {
+        return value != null && !value.isBlank();
+    }
+
+    private record Cycle(
+            LocalDateTime start,
+            String interval,
+            String remaining
+    ) {
+
+    }
+
+}
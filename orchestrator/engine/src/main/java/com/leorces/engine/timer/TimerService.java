@@ -0,0 +1,326 @@
+package com.leorces.engine.timer;
+
+import com.leorces.engine.configuration.properties.TimerProperties;
+import com.leorces.engine.core.CommandDispatcher;
+import com.leorces.engine.timer.command.FireTimersCommand;
+import com.leorces.engine.variables.command.GetScopedVariablesCommand;
+import com.leorces.model.definition.activity.ActivityType;
+import com.leorces.model.definition.activity.TimerActivityDefinition;
+import com.leorces.model.definition.activity.subprocess.CallActivity;
+import com.leorces.model.runtime.activity.ActivityExecution;
+import com.leorces.model.runtime.timer.Timer;
+import com.leorces.persistence.TimerPersistence;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Schedules, cancels and fires durable timers of timer boundary and intermediate catch events.
+ * <p>
+ * Timers are stored in the {@code timer} table. Every node keeps the timers due within the next
+ * {@code leorces.timers.preload-window} in a {@link TimingWheel} and fires them from a single tick thread,
+ * so the table is read once per preload by due time range and never scanned on a tick. Due timers are fired
+ * in batches through {@link FireTimersCommand}, which claims them first: when several nodes hold the same timer,
+ * only the node that wins the claim fires it.
+ * <p>
+ * Each preload also reads timers that are already due. These are timers scheduled by another node after this node
+ * passed their due time, and timers whose claiming node stopped before firing them.
+ */
+@Slf4j
+@Component
+public class TimerService implements SmartLifecycle {
+
+    private final TimerPersistence timerPersistence;
+    private final TimerDueDateResolver dueDateResolver;
+    private final CommandDispatcher dispatcher;
+    private final TimerProperties properties;
+    private final TimingWheel<Timer> wheel;
+    private final Set<String> wheelTimerIds = ConcurrentHashMap.newKeySet();
+
+    private volatile boolean running;
+    private volatile long horizonMillis;
+    private Timer preloadCursor;
+    private Thread tickThread;
+
+    public TimerService(TimerPersistence timerPersistence,
+                        TimerDueDateResolver dueDateResolver,
+                        CommandDispatcher dispatcher,
+                        TimerProperties properties) {
+        this.timerPersistence = timerPersistence;
+        this.dueDateResolver = dueDateResolver;
+        this.dispatcher = dispatcher;
+        this.properties = properties;
+        this.wheel = new TimingWheel<>(properties.tick().toMillis(), properties.wheelSize(), System.currentTimeMillis());
+    }
+
+    /**
+     * Schedules the timers of the timer boundary events attached to the activity.
+     * For a multi-instance call activity this is its body: the timers are bound to the execution of the body,
+     * so every run of the body has timers of its own, shared by all of its instances.
+     *
+     * @param activity the activity that started
+     */
+    public void scheduleBoundaryTimers(ActivityExecution activity) {
+        var timerEvents = findBoundaryTimers(activity);
+        if (timerEvents.isEmpty()) {
+            return;
+        }
+
+        // A persisted activity runs again, as on retry, and replaces its timers
+        if (activity.createdAt() != null) {
+            cancel(activity);
+        }
+        schedule(activity, timerEvents);
+    }
+
+    /**
+     * Schedules the timer of a timer intermediate catch event.
+     *
+     * @param timerEvent the waiting catch event
+     */
+    public void scheduleTimer(ActivityExecution timerEvent) {
+        schedule(timerEvent, List.of((TimerActivityDefinition) timerEvent.definition()));
+    }
+
+    /**
+     * Cancels the timers bound to the activity, if it has any.
+     * Instances of a multi-instance call activity leave the timers of their body alone,
+     * see {@link #cancelBodyTimers(ActivityExecution, String)}.
+     *
+     * @param activity the completed or terminated activity
+     */
+    public void cancelTimers(ActivityExecution activity) {
+        if (isMultiInstance(activity)) {
+            return;
+        }
+
+        if (ActivityType.TIMER_INTERMEDIATE_CATCH_EVENT.equals(activity.type()) || hasBoundaryTimers(activity)) {
+            cancel(activity);
+        }
+    }
+
+    /**
+     * Cancels the boundary timers of the body of a multi-instance call activity once its last instance ended.
+     * The timers were scheduled when the body ran and are bound to its execution.
+     *
+     * @param instance the last instance of the body
+     * @param bodyId   the execution ID of the body
+     */
+    public void cancelBodyTimers(ActivityExecution instance, String bodyId) {
+        if (hasBoundaryTimers(instance)) {
+            timerPersistence.cancel(bodyId);
+        }
+    }
+
+    /**
+     * Checks whether timer boundary events are attached to the activity.
+     *
+     * @param activity the activity
+     * @return true if the activity has timer boundary events
+     */
+    public boolean hasBoundaryTimers(ActivityExecution activity) {
+        return !findBoundaryTimers(activity).isEmpty();
+    }
+
+    /**
+     * Saves the next firing of cyclic timers.
+     *
+     * @param timers the rescheduled timers
+     */
+    public void reschedule(List<Timer> timers) {
+        offer(timerPersistence.save(timers));
+    }
+
+    @Override
+    public void start() {
+        if (!properties.enabled()) {
+            return;
+        }
+
+        running = true;
+        tickThread = Thread.ofPlatform()
+                .daemon()
+                .name("leorces-timers")
+                .start(this::tick);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (tickThread != null) {
+            tickThread.interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void schedule(ActivityExecution activity, List<TimerActivityDefinition> timerEvents) {
+        Supplier<Map<String, Object>> variables = () -> activity.getScopedVariables(
+                () -> dispatcher.execute(GetScopedVariablesCommand.of(activity))
+        );
+
+        var timers = timerEvents.stream()
+                .map(timerEvent -> dueDateResolver.resolve(timerEvent, variables).toBuilder()
+                        .processId(activity.processId())
+                        .definitionId(timerEvent.id())
+                        .activityDefinitionId(activity.definitionId())
+                        .activityId(activity.id())
+                        .build())
+                .toList();
+
+        offer(timerPersistence.save(timers));
+    }
+
+    private void cancel(ActivityExecution activity) {
+        timerPersistence.cancel(activity.id());
+    }
+
+    private boolean isMultiInstance(ActivityExecution activity) {
+        return activity.definition() instanceof CallActivity callActivity && callActivity.isMultiInstance();
+    }
+
+    private List<TimerActivityDefinition> findBoundaryTimers(ActivityExecution activity) {
+        return activity.processDefinition().graph().getBoundaryEvents(activity.definitionId()).stream()
+                .filter(TimerActivityDefinition.class::isInstance)
+                .map(TimerActivityDefinition.class::cast)
+                .toList();
+    }
+
+    /**
+     * Puts timers due within the preloaded window into the wheel right away.
+     * Later timers are picked up by the preload that reaches their due time.
+     */
+    private void offer(List<Timer> timers) {
+        if (!running) {
+            return;
+        }
+
+        var due = new ArrayList<Timer>();
+        for (var timer : timers) {
+            if (toMillis(timer.dueAt()) <= horizonMillis) {
+                add(timer, due);
+            }
+        }
+        fire(due);
+    }
+
+    private void tick() {
+        var tickMillis = properties.tick().toMillis();
+        var nextPreload = 0L;
+
+        while (running) {
+            try {
+                var now = System.currentTimeMillis();
+                if (now >= nextPreload) {
+                    preload(now);
+                    nextPreload = now + properties.preloadInterval().toMillis();
+                }
+
+                var due = new ArrayList<Timer>();
+                synchronized (wheel) {
+                    wheel.advance(now, due::add);
+                }
+                due.forEach(timer -> wheelTimerIds.remove(timer.id()));
+                fire(due);
+
+                Thread.sleep(tickMillis - now % tickMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                running = false;
+            } catch (Exception e) {
+                log.warn("Timer tick failed: {}", e.getMessage(), e);
+                pause(tickMillis);
+            }
+        }
+    }
+
+    private void preload(long now) {
+        var until = now + properties.preloadWindow().toMillis();
+        var due = new ArrayList<Timer>();
+
+        load(null, now, due);
+        preloadCursor = load(preloadCursor, until, due);
+        horizonMillis = until;
+
+        log.debug("Preloaded timers due until: {}, {} timers pending", toDateTime(until), wheelTimerIds.size());
+        fire(due);
+    }
+
+    /**
+     * Reads timers page by page and adds the ones not held yet to the wheel.
+     *
+     * @return the last timer read, or the given cursor if nothing was read
+     */
+    private Timer load(Timer cursor, long untilMillis, List<Timer> due) {
+        var until = toDateTime(untilMillis);
+        var batchSize = properties.batchSize();
+        List<Timer> page;
+
+        do {
+            page = timerPersistence.findDue(cursor, until, batchSize);
+            for (var timer : page) {
+                add(timer, due);
+            }
+            if (!page.isEmpty()) {
+                cursor = page.getLast();
+            }
+        } while (page.size() == batchSize && running);
+
+        return cursor;
+    }
+
+    private void add(Timer timer, List<Timer> due) {
+        if (!wheelTimerIds.add(timer.id())) {
+            return;
+        }
+
+        boolean added;
+        synchronized (wheel) {
+            added = wheel.add(toMillis(timer.dueAt()), timer);
+        }
+
+        if (!added) {
+            wheelTimerIds.remove(timer.id());
+            due.add(timer);
+        }
+    }
+
+    private void fire(List<Timer> timers) {
+        var batchSize = properties.batchSize();
+        for (int from = 0; from < timers.size(); from += batchSize) {
+            var batch = List.copyOf(timers.subList(from, Math.min(from + batchSize, timers.size())));
+            dispatcher.dispatchAsync(FireTimersCommand.of(batch));
+        }
+    }
+
+    private void pause(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+
+    private static long toMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private static LocalDateTime toDateTime(long millis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(millis), ZoneId.systemDefault());
+    }
+
+}
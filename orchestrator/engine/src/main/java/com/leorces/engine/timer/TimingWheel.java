@@ -0,0 +1,162 @@
+package com.leorces.engine.timer;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Hierarchical timing wheel.
+ * <p>
+ * Level {@code n} is a ring of {@code wheelSize} buckets, each covering {@code tick * wheelSize^n} milliseconds.
+ * An entry goes to the lowest level whose span covers its delay and cascades down one level each time the clock
+ * enters its bucket, so adding and expiring an entry cost constant time no matter how many entries are pending.
+ * Due times are rounded up to the next tick: entries never expire early and at most one tick late.
+ * <p>
+ * Not thread-safe, callers synchronize access.
+ *
+ * @param <T> the entry type
+ */
+public final class TimingWheel<T> {
+
+    private final long tickMillis;
+    private final int wheelSize;
+    private final List<Level<T>> levels = new ArrayList<>();
+
+    private long currentTime;
+    private int size;
+
+    /**
+     * @param tickMillis  the resolution of the lowest level
+     * @param wheelSize   the number of buckets per level
+     * @param startMillis the current time, rounded down to the tick
+     */
+    public TimingWheel(long tickMillis, int wheelSize, long startMillis) {
+        if (tickMillis <= 0 || wheelSize < 2) {
+            throw new IllegalArgumentException("Tick must be positive and wheel size at least 2");
+        }
+        this.tickMillis = tickMillis;
+        this.wheelSize = wheelSize;
+        this.currentTime = startMillis - Math.floorMod(startMillis, tickMillis);
+        this.levels.add(new Level<>(tickMillis, wheelSize));
+    }
+
+    /**
+     * Adds an entry.
+     *
+     * @param dueMillis the due time in epoch milliseconds
+     * @param value     the entry
+     * @return false if the entry is already due and was not added
+     */
+    public boolean add(long dueMillis, T value) {
+        var fireAt = roundUp(dueMillis);
+        if (fireAt <= currentTime) {
+            return false;
+        }
+
+        place(new Entry<>(fireAt, value));
+        size++;
+        return true;
+    }
+
+    /**
+     * Moves the clock forward tick by tick up to the given time and hands over the entries that became due.
+     *
+     * @param nowMillis the current time in epoch milliseconds
+     * @param expired   receives the due entries in due time order
+     */
+    public void advance(long nowMillis, Consumer<T> expired) {
+        while (currentTime + tickMillis <= nowMillis) {
+            currentTime += tickMillis;
+
+            // Cascade from the top so entries moved down can reach the lowest level within this tick
+            for (int i = levels.size() - 1; i > 0; i--) {
+                var level = levels.get(i);
+                if (currentTime % level.tickMillis == 0) {
+                    level.drain(currentTime, this::place);
+                }
+            }
+
+            levels.getFirst().drain(currentTime, entry -> {
+                size--;
+                expired.accept(entry.value());
+            });
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public long currentTime() {
+        return currentTime;
+    }
+
+    private void place(Entry<T> entry) {
+        var delay = entry.fireAt() - currentTime;
+        var level = 0;
+
+        while (delay >= levelAt(level).spanMillis) {
+            level++;
+        }
+
+        levelAt(level).add(entry);
+    }
+
+    private Level<T> levelAt(int index) {
+        while (levels.size() <= index) {
+            var top = levels.getLast();
+            var tick = top.spanMillis > Long.MAX_VALUE / wheelSize ? Long.MAX_VALUE / wheelSize : top.spanMillis;
+            levels.add(new Level<>(tick, wheelSize));
+        }
+        return levels.get(index);
+    }
+
+    private long roundUp(long millis) {
+        var remainder = Math.floorMod(millis, tickMillis);
+        return remainder == 0 ? millis : millis - remainder + tickMillis;
+    }
+
+    private record Entry<T>(long fireAt, T value) {
+
+    }
+
+    private static final class Level<T> {
+
+        private final long tickMillis;
+        private final long spanMillis;
+        private final ArrayDeque<Entry<T>>[] buckets;
+
+        @SuppressWarnings("unchecked")
+        private Level(long tickMillis, int wheelSize) {
+            this.tickMillis = tickMillis;
+            this.spanMillis = tickMillis * wheelSize;
+            this.buckets = new ArrayDeque[wheelSize];
+        }
+
+        private void add(Entry<T> entry) {
+            var index = index(entry.fireAt());
+            if (buckets[index] == null) {
+                buckets[index] = new ArrayDeque<>();
+            }
+            buckets[index].add(entry);
+        }
+
+        private void drain(long time, Consumer<Entry<T>> consumer) {
+            var index = index(time);
+            var bucket = buckets[index];
+            if (bucket == null) {
+                return;
+            }
+
+            buckets[index] = null;
+            bucket.forEach(consumer);
+        }
+
+        private int index(long time) {
+            return (int) Math.floorMod(time / tickMillis, (long) buckets.length);
+        }
+
+    }
+
+}
@@ -0,0 +1,16 @@
+package com.leorces.engine.timer.command;
+
+import com.leorces.engine.core.ExecutionCommand;
+import com.leorces.model.runtime.timer.Timer;
+
+import java.util.List;
+
+public record FireTimersCommand(
+        List<Timer> timers
+) implements ExecutionCommand {
+
+    public static FireTimersCommand of(List<Timer> timers) {
+        return new FireTimersCommand(timers);
+    }
+
+}
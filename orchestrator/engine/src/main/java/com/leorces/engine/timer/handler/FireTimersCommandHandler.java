@@ -0,0 +1,106 @@
+package com.leorces.engine.timer.handler;
+
+import com.leorces.engine.activity.command.TriggerActivityCommand;
+import com.leorces.engine.configuration.properties.TimerProperties;
+import com.leorces.engine.core.CommandDispatcher;
+import com.leorces.engine.core.CommandHandler;
+import com.leorces.engine.timer.TimerDueDateResolver;
+import com.leorces.engine.timer.TimerService;
+import com.leorces.engine.timer.command.FireTimersCommand;
+import com.leorces.model.runtime.process.Process;
+import com.leorces.model.runtime.timer.Timer;
+import com.leorces.persistence.ProcessPersistence;
+import com.leorces.persistence.TimerPersistence;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Optional;
+
+/**
+ * Claims due timers and runs their timer events. Each event runs synchronously on the firing path, and only once
+ * it has run is its timer deleted or, if cyclic, rescheduled. A node that stops in between leaves the timers to be
+ * fired again once the claim expires: timer events run at least once.
+ * <p>
+ * A timer whose event failed to run stays claimed and is fired again when its lease expires.
+ * Timers of processes that ended or events missing from the definition are dropped, they can never fire.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FireTimersCommandHandler implements CommandHandler<FireTimersCommand> {
+
+    private final TimerPersistence timerPersistence;
+    private final ProcessPersistence processPersistence;
+    private final TimerDueDateResolver dueDateResolver;
+    private final TimerService timerService;
+    private final CommandDispatcher dispatcher;
+    private final TimerProperties properties;
+
+    @Override
+    public void handle(FireTimersCommand command) {
+        var timerIds = command.timers().stream()
+                .map(Timer::id)
+                .toList();
+        var timers = timerPersistence.claim(timerIds, properties.lease());
+
+        if (timers.isEmpty()) {
+            log.debug("No timers claimed out of: {}", timerIds.size());
+            return;
+        }
+
+        var processes = new HashMap<String, Optional<Process>>();
+        var firedTimerIds = new ArrayList<String>();
+        var rescheduledTimers = new ArrayList<Timer>();
+
+        for (var timer : timers) {
+            var process = processes.computeIfAbsent(timer.processId(), processPersistence::findById)
+                    .filter(activeProcess -> !activeProcess.isInTerminalState());
+
+            if (process.isPresent() && !trigger(process.get(), timer)) {
+                continue;
+            }
+
+            process.flatMap(activeProcess -> dueDateResolver.next(timer))
+                    .ifPresentOrElse(rescheduledTimers::add, () -> firedTimerIds.add(timer.id()));
+        }
+
+        if (!firedTimerIds.isEmpty()) {
+            timerPersistence.delete(firedTimerIds);
+        }
+        if (!rescheduledTimers.isEmpty()) {
+            timerService.reschedule(rescheduledTimers);
+        }
+    }
+
+    @Override
+    public Class<FireTimersCommand> getCommandType() {
+        return FireTimersCommand.class;
+    }
+
+    /**
+     * Runs the timer event before returning, instead of queueing it like other triggers do.
+     *
+     * @return false if the event failed to run and the timer has to fire again
+     */
+    private boolean trigger(Process process, Timer timer) {
+        var definition = process.definition().getActivityById(timer.definitionId());
+
+        if (definition.isEmpty()) {
+            log.warn("Timer event: {} not found in process: {}", timer.definitionId(), process.id());
+            return true;
+        }
+
+        log.debug("Fire timer: {} of event: {} in process: {}", timer.id(), timer.definitionId(), process.id());
+        try {
+            dispatcher.dispatch(TriggerActivityCommand.of(process, definition.get(), true));
+            return true;
+        } catch (Exception e) {
+            log.error("Can't run timer event: {} in process: {}, it fires again once its lease expires", timer.definitionId(), process.id(), e);
+            return false;
+        }
+    }
+
+}
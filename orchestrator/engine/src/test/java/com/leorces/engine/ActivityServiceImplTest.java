@@ -1,10 +1,17 @@
 package com.leorces.engine;
 
 import com.leorces.engine.activity.command.*;
+import com.leorces.engine.configuration.properties.PollProperties;
 import com.leorces.engine.core.CommandDispatcher;
+import com.leorces.engine.service.ActivityPollNotifier;
+import com.leorces.engine.service.TaskExecutorService;
 import com.leorces.model.runtime.activity.Activity;
+import com.leorces.model.runtime.activity.ActivityCompleteRequest;
+import com.leorces.model.runtime.activity.ActivityUpdateResult;
+import com.leorces.model.runtime.activity.ActivityPollRequest;
 import com.leorces.model.runtime.activity.ActivityFailure;
 import com.leorces.persistence.ActivityPersistence;
+import com.leorces.persistence.VariablePersistence;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -12,8 +19,10 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.*;
@@ -25,9 +34,21 @@ class ActivityServiceImplTest {
     @Mock
     private ActivityPersistence activityPersistence;
 
+    @Mock
+    private VariablePersistence variablePersistence;
+
     @Mock
     private CommandDispatcher dispatcher;
 
+    @Mock
+    private ActivityPollNotifier pollNotifier;
+
+    @Mock
+    private TaskExecutorService taskExecutor;
+
+    @Mock
+    private PollProperties pollProperties;
+
     @InjectMocks
     private ActivityServiceImpl service;
 
@@ -62,6 +83,18 @@ class ActivityServiceImplTest {
         verifyNoMoreInteractions(dispatcher, activityPersistence);
     }
 
+    @Test
+    @DisplayName("completeAll should execute CompleteActivitiesCommand and return its results")
+    void completeAllExecutesCommand() {
+        var requests = List.of(ActivityCompleteRequest.of("act-1", Map.of()));
+        var results = List.of(ActivityUpdateResult.applied("act-1"));
+        when(dispatcher.execute(CompleteActivitiesCommand.of(requests))).thenReturn(results);
+
+        assertThat(service.completeAll(requests)).isEqualTo(results);
+        verify(dispatcher).execute(CompleteActivitiesCommand.of(requests));
+        verifyNoMoreInteractions(dispatcher, activityPersistence);
+    }
+
     @Test
     @DisplayName("fail should dispatch FailActivityCommand")
     void failDispatchesCommand() {
@@ -158,4 +191,141 @@ class ActivityServiceImplTest {
         verifyNoInteractions(dispatcher);
     }
 
+    @Test
+    @DisplayName("long poll should return immediately when activities are available")
+    void longPollReturnsAvailableActivities() {
+        var topic = "topic1";
+        var processKey = "procKey1";
+        var limit = 5;
+        List<Activity> activities = List.of(mock(Activity.class));
+
+        when(pollProperties.maxTimeout()).thenReturn(Duration.ofSeconds(30));
+        when(activityPersistence.poll(topic, processKey, limit)).thenReturn(activities);
+
+        var result = service.poll(topic, processKey, limit, Duration.ofSeconds(10));
+
+        assertThat(result).isEqualTo(activities);
+        verify(pollNotifier, never()).awaitAny(any(), any());
+        verifyNoInteractions(dispatcher);
+    }
+
+    @Test
+    @DisplayName("long poll should poll again after being signalled")
+    void longPollPollsAgainAfterSignal() {
+        var topic = "topic1";
+        var processKey = "procKey1";
+        var limit = 5;
+        List<Activity> activities = List.of(mock(Activity.class));
+
+        var versions = Map.of("procKey1:topic1", 1L);
+
+        when(pollProperties.maxTimeout()).thenReturn(Duration.ofSeconds(30));
+        when(pollNotifier.versions(List.of(ActivityPollRequest.of(topic, processKey, limit)))).thenReturn(versions);
+        when(pollNotifier.awaitAny(eq(versions), any())).thenReturn(CompletableFuture.completedFuture(true));
+        when(activityPersistence.poll(topic, processKey, limit)).thenReturn(List.of(), activities);
+        runTasksInline();
+
+        var result = service.poll(topic, processKey, limit, Duration.ofSeconds(10));
+
+        assertThat(result).isEqualTo(activities);
+        verify(activityPersistence, times(2)).poll(topic, processKey, limit);
+    }
+
+    @Test
+    @DisplayName("long poll should return empty list when timeout expires without signal")
+    void longPollReturnsEmptyOnTimeout() {
+        var topic = "topic1";
+        var processKey = "procKey1";
+        var limit = 5;
+
+        var versions = Map.of("procKey1:topic1", 1L);
+
+        when(pollProperties.maxTimeout()).thenReturn(Duration.ofSeconds(30));
+        when(pollNotifier.versions(List.of(ActivityPollRequest.of(topic, processKey, limit)))).thenReturn(versions);
+        when(pollNotifier.awaitAny(eq(versions), any())).thenReturn(CompletableFuture.completedFuture(false));
+        when(activityPersistence.poll(topic, processKey, limit)).thenReturn(List.of());
+        runTasksInline();
+
+        var result = service.poll(topic, processKey, limit, Duration.ofSeconds(10));
+
+        assertThat(result).isEmpty();
+        verify(activityPersistence).poll(topic, processKey, limit);
+    }
+
+    @Test
+    @DisplayName("poll of many topics should wait for any of them and poll again after being signalled")
+    void pollManyTopicsPollsAgainAfterSignal() {
+        var requests = List.of(
+                ActivityPollRequest.of("topic1", "procKey1", 5),
+                ActivityPollRequest.of("topic2", "procKey1", 3)
+        );
+        var versions = Map.of("procKey1:topic1", 1L, "procKey1:topic2", 1L);
+        List<Activity> activities = List.of(mock(Activity.class));
+
+        when(pollProperties.maxTimeout()).thenReturn(Duration.ofSeconds(30));
+        when(pollNotifier.versions(requests)).thenReturn(versions);
+        when(pollNotifier.awaitAny(eq(versions), any())).thenReturn(CompletableFuture.completedFuture(true));
+        when(activityPersistence.poll(requests)).thenReturn(List.of(), activities);
+        runTasksInline();
+
+        var result = service.poll(requests, Duration.ofSeconds(10));
+
+        assertThat(result).isEqualTo(activities);
+        verify(activityPersistence, times(2)).poll(requests);
+    }
+
+    @Test
+    @DisplayName("poll of many topics without timeout should return right away")
+    void pollManyTopicsWithoutTimeout() {
+        var requests = List.of(ActivityPollRequest.of("topic1", "procKey1", 5));
+
+        when(pollProperties.maxTimeout()).thenReturn(Duration.ofSeconds(30));
+        when(activityPersistence.poll(requests)).thenReturn(List.of());
+
+        var result = service.poll(requests, Duration.ZERO);
+
+        assertThat(result).isEmpty();
+        verify(pollNotifier, never()).awaitAny(any(), any());
+    }
+
+    @Test
+    @DisplayName("pollAsync should not wait on the caller thread")
+    void pollAsyncReturnsPendingFutureWhileWaiting() {
+        var requests = List.of(ActivityPollRequest.of("topic1", "procKey1", 5));
+        var versions = Map.of("procKey1:topic1", 1L);
+        var signal = new CompletableFuture<Boolean>();
+        List<Activity> activities = List.of(mock(Activity.class));
+
+        when(pollProperties.maxTimeout()).thenReturn(Duration.ofSeconds(30));
+        when(pollNotifier.versions(requests)).thenReturn(versions);
+        when(pollNotifier.awaitAny(eq(versions), any())).thenReturn(signal);
+        when(activityPersistence.poll(requests)).thenReturn(List.of(), activities);
+        runTasksInline();
+
+        var result = service.pollAsync(requests, Duration.ofSeconds(10));
+
+        assertThat(result).isNotDone();
+        signal.complete(true);
+        assertThat(result).isCompletedWithValue(activities);
+    }
+
+    @Test
+    @DisplayName("findVariableValues should read the values from persistence")
+    void findVariableValuesReadsValues() {
+        var variableIds = List.of("var-1");
+        when(variablePersistence.findValues(variableIds)).thenReturn(Map.of("var-1", "value"));
+
+        var result = service.findVariableValues(variableIds);
+
+        assertThat(result).containsEntry("var-1", "value");
+        verifyNoInteractions(dispatcher, activityPersistence);
+    }
+
+    private void runTasksInline() {
+        doAnswer(invocation -> {
+            invocation.<Runnable>getArgument(0).run();
+            return null;
+        }).when(taskExecutor).execute(any());
+    }
+
 }
@@ -43,4 +43,21 @@ class HistoryServiceImplTest {
         verifyNoMoreInteractions(historyPersistence);
     }
 
+    @Test
+    @DisplayName("findAllSummaries should delegate to historyPersistence")
+    void findAllSummariesDelegates() {
+        // Given
+        var pageable = new Pageable(0, 10);
+        PageableData<ProcessExecution> data = new PageableData<>(List.of(), 0);
+        when(historyPersistence.findAllSummaries(pageable)).thenReturn(data);
+
+        // When
+        var result = service.findAllSummaries(pageable);
+
+        // Then
+        assertThat(result).isEqualTo(data);
+        verify(historyPersistence).findAllSummaries(pageable);
+        verifyNoMoreInteractions(historyPersistence);
+    }
+
 }
@@ -3,9 +3,13 @@ package com.leorces.engine;
 import com.leorces.engine.activity.command.RetryAllActivitiesCommand;
 import com.leorces.engine.core.CommandDispatcher;
 import com.leorces.engine.correlation.command.CorrelateMessageCommand;
+import com.leorces.engine.correlation.command.CorrelateMessagesCommand;
 import com.leorces.engine.process.command.*;
 import com.leorces.engine.variables.command.SetVariablesCommand;
+import com.leorces.model.runtime.message.CorrelationRequest;
+import com.leorces.model.runtime.message.CorrelationResult;
 import com.leorces.model.runtime.process.Process;
+import com.leorces.model.runtime.process.StartProcessRequest;
 import com.leorces.model.search.ProcessFilter;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -15,6 +19,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.List;
 import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -66,6 +71,47 @@ class RuntimeServiceImplTest {
         verify(dispatcher).execute(RunProcessCommand.byDefinitionKey(key, businessKey, vars));
     }
 
+    @Test
+    @DisplayName("startProcesses delegates to dispatcher")
+    void startProcessesDelegates() {
+        // Given
+        var requests = List.of(
+                StartProcessRequest.byId("def1", "bk1", Map.of("a", 1)),
+                StartProcessRequest.byKey("key1", "bk2", Map.of())
+        );
+        var processes = List.of(mock(Process.class), mock(Process.class));
+        when(dispatcher.execute(any(RunProcessesCommand.class))).thenReturn(processes);
+
+        // When
+        var result = service.startProcesses(requests);
+
+        // Then
+        assertThat(result).isEqualTo(processes);
+        verify(dispatcher).execute(RunProcessesCommand.of(requests));
+    }
+
+    @Test
+    @DisplayName("correlateMessages delegates to dispatcher")
+    void correlateMessagesDelegates() {
+        // Given
+        var requests = List.of(
+                CorrelationRequest.of("paid", "bk1"),
+                CorrelationRequest.of("shipped", "bk2", Map.of("a", 1))
+        );
+        var results = List.of(
+                CorrelationResult.correlated(requests.get(0), "p1"),
+                CorrelationResult.correlated(requests.get(1), "p2")
+        );
+        when(dispatcher.execute(any(CorrelateMessagesCommand.class))).thenReturn(results);
+
+        // When
+        var result = service.correlateMessages(requests);
+
+        // Then
+        assertThat(result).isEqualTo(results);
+        verify(dispatcher).execute(CorrelateMessagesCommand.of(requests));
+    }
+
     @Test
     @DisplayName("setVariable delegates to dispatcher with correct command")
     void setVariableDelegates() {
@@ -0,0 +1,154 @@
+package com.leorces.engine.activity.behaviour.gateway;
+
+import com.leorces.engine.activity.command.CompleteActivityCommand;
+import com.leorces.engine.core.CommandDispatcher;
+import com.leorces.model.definition.activity.ActivityDefinition;
+import com.leorces.model.definition.activity.gateway.ParallelGateway;
+import com.leorces.model.runtime.activity.ActivityExecution;
+import com.leorces.persistence.ActivityPersistence;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("ParallelGatewayBehavior Tests")
+class ParallelGatewayBehaviorTest {
+
+    private static final String PROCESS_ID = "process-1";
+    private static final String GATEWAY_ID = "join";
+    private static final String EXECUTION_ID = "gateway-execution-1";
+
+    @Mock
+    private ActivityPersistence activityPersistence;
+
+    @Mock
+    private CommandDispatcher dispatcher;
+
+    @Mock
+    private ActivityExecution gateway;
+
+    private ParallelGatewayBehavior behavior;
+
+    @BeforeEach
+    void setUp() {
+        behavior = new ParallelGatewayBehavior(activityPersistence, dispatcher);
+        when(gateway.id()).thenReturn(EXECUTION_ID);
+        when(gateway.processId()).thenReturn(PROCESS_ID);
+        when(gateway.definitionId()).thenReturn(GATEWAY_ID);
+        when(gateway.definition()).thenReturn(parallelGateway("flow-a", "flow-b"));
+        var previousActivities = List.of(activity("task-a"), activity("task-b"));
+        when(gateway.previousActivities()).thenReturn(previousActivities);
+    }
+
+    @Test
+    @DisplayName("Should pass a gateway with one incoming flow without counting")
+    void shouldPassForkWithoutCounting() {
+        // Given
+        when(gateway.definition()).thenReturn(parallelGateway("flow-a"));
+
+        // When
+        behavior.run(gateway);
+
+        // Then
+        verify(dispatcher).dispatchAsync(any(CompleteActivityCommand.class));
+        verifyNoInteractions(activityPersistence);
+    }
+
+    @Test
+    @DisplayName("Should wait until the last incoming token arrives")
+    void shouldWaitForLastArrival() {
+        // Given
+        when(activityPersistence.join(PROCESS_ID, GATEWAY_ID, EXECUTION_ID)).thenReturn(1L);
+
+        // When
+        behavior.run(gateway);
+
+        // Then
+        verify(dispatcher, never()).dispatchAsync(any());
+    }
+
+    @Test
+    @DisplayName("Should pass the gateway once for every round of arrivals")
+    void shouldPassOnLastArrivalOfEachRound() {
+        // Given
+        when(activityPersistence.join(PROCESS_ID, GATEWAY_ID, EXECUTION_ID)).thenReturn(2L, 3L, 4L);
+
+        // When
+        behavior.run(gateway);
+        behavior.run(gateway);
+        behavior.run(gateway);
+
+        // Then
+        verify(dispatcher, times(2)).dispatchAsync(any(CompleteActivityCommand.class));
+    }
+
+    @Test
+    @DisplayName("Should not pass the gateway for an arrival recorded before")
+    void shouldIgnoreRepeatedArrival() {
+        // Given
+        when(activityPersistence.join(PROCESS_ID, GATEWAY_ID, EXECUTION_ID)).thenReturn(0L);
+
+        // When
+        behavior.run(gateway);
+
+        // Then
+        verify(dispatcher, never()).dispatchAsync(any());
+        verify(activityPersistence, never()).isAllCompleted(anyString(), anyList());
+    }
+
+    @Test
+    @DisplayName("Should pass the gateway of a process without counter once all incoming activities completed")
+    void shouldFallBackToCompletedIncomingActivities() {
+        // Given
+        when(activityPersistence.join(PROCESS_ID, GATEWAY_ID, EXECUTION_ID)).thenReturn(-1L);
+        when(activityPersistence.isAllCompleted(PROCESS_ID, List.of("task-a", "task-b"))).thenReturn(true);
+
+        // When
+        behavior.run(gateway);
+
+        // Then
+        verify(dispatcher).dispatchAsync(any(CompleteActivityCommand.class));
+    }
+
+    @Test
+    @DisplayName("Should wait at the gateway of a process without counter while incoming activities run")
+    void shouldWaitWhileIncomingActivitiesRun() {
+        // Given
+        when(activityPersistence.join(PROCESS_ID, GATEWAY_ID, EXECUTION_ID)).thenReturn(-1L);
+        when(activityPersistence.isAllCompleted(PROCESS_ID, List.of("task-a", "task-b"))).thenReturn(false);
+
+        // When
+        behavior.run(gateway);
+
+        // Then
+        verify(dispatcher, never()).dispatchAsync(any());
+    }
+
+    private ParallelGateway parallelGateway(String... incoming) {
+        return ParallelGateway.builder()
+                .id(GATEWAY_ID)
+                .incoming(List.of(incoming))
+                .outgoing(List.of("flow-out"))
+                .build();
+    }
+
+    private ActivityDefinition activity(String id) {
+        var activity = mock(ActivityDefinition.class);
+        when(activity.id()).thenReturn(id);
+        return activity;
+    }
+
+}
@@ -0,0 +1,249 @@
+package com.leorces.engine.activity.behaviour.subprocess;
+
+import com.leorces.engine.activity.command.GetCallActivityMappingsCommand;
+import com.leorces.engine.activity.command.HandleActivityCompletionCommand;
+import com.leorces.engine.activity.command.RunCallActivityInstancesCommand;
+import com.leorces.engine.configuration.properties.MultiInstanceProperties;
+import com.leorces.engine.core.CommandDispatcher;
+import com.leorces.engine.timer.TimerService;
+import com.leorces.juel.ExpressionEvaluator;
+import com.leorces.model.definition.activity.subprocess.CallActivity;
+import com.leorces.model.definition.attribute.MultiInstanceLoopCharacteristics;
+import com.leorces.model.runtime.activity.ActivityExecution;
+import com.leorces.model.runtime.process.Process;
+import com.leorces.persistence.ActivityPersistence;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("CallActivityBehavior Tests")
+class CallActivityBehaviorTest {
+
+    private static final String PROCESS_ID = "process-1";
+    private static final String INSTANCE_ID = "instance-1";
+    private static final String BODY_ID = "body-1";
+
+    @Mock
+    private ActivityPersistence activityPersistence;
+
+    @Mock
+    private CommandDispatcher dispatcher;
+
+    @Mock
+    private ExpressionEvaluator expressionEvaluator;
+
+    @Mock
+    private TimerService timerService;
+
+    @Mock
+    private ActivityExecution instance;
+
+    @Mock
+    private ActivityExecution finishedInstance;
+
+    @Mock
+    private Process process;
+
+    private CallActivityBehavior behavior;
+
+    @BeforeEach
+    void setUp() {
+        behavior = new CallActivityBehavior(activityPersistence, dispatcher, expressionEvaluator, new MultiInstanceProperties(10, 4), timerService);
+        when(instance.id()).thenReturn(INSTANCE_ID);
+        when(instance.processId()).thenReturn(PROCESS_ID);
+        when(instance.process()).thenReturn(process);
+        when(instance.definition()).thenReturn(callActivity(false));
+        when(process.isInTerminalState()).thenReturn(true);
+        when(finishedInstance.nextActivities()).thenReturn(List.of());
+        when(activityPersistence.complete(instance)).thenReturn(finishedInstance);
+        when(activityPersistence.terminate(instance)).thenReturn(finishedInstance);
+        when(activityPersistence.findInstanceBody(PROCESS_ID, INSTANCE_ID)).thenReturn(Optional.of(BODY_ID));
+        when(dispatcher.execute(any(GetCallActivityMappingsCommand.class))).thenReturn(Map.of());
+        when(expressionEvaluator.evaluate(anyString(), any(), eq(List.class))).thenReturn(List.of("a", "b", "c"));
+    }
+
+    @Test
+    @DisplayName("Should count the instances under the execution of their body")
+    void shouldStartInstancesForBody() {
+        // Given
+        when(instance.id()).thenReturn(BODY_ID);
+
+        // When
+        behavior.run(instance);
+
+        // Then
+        verify(activityPersistence).startInstances(PROCESS_ID, BODY_ID, 3);
+        verify(dispatcher).dispatch(any(RunCallActivityInstancesCommand.class));
+    }
+
+    @Test
+    @DisplayName("Should complete the body with its last instance")
+    void shouldCompleteBodyWithLastInstance() {
+        // Given
+        when(activityPersistence.completeInstance(PROCESS_ID, INSTANCE_ID)).thenReturn(0L);
+
+        // When
+        behavior.complete(instance, Map.of());
+
+        // Then
+        verify(dispatcher).dispatch(any(HandleActivityCompletionCommand.class));
+    }
+
+    @Test
+    @DisplayName("Should wait while other instances of the body run")
+    void shouldWaitForRunningInstances() {
+        // Given
+        when(activityPersistence.completeInstance(PROCESS_ID, INSTANCE_ID)).thenReturn(2L);
+
+        // When
+        behavior.complete(instance, Map.of());
+
+        // Then
+        verify(dispatcher, never()).dispatch(any(HandleActivityCompletionCommand.class));
+        verify(dispatcher, never()).dispatch(any(RunCallActivityInstancesCommand.class));
+    }
+
+    @Test
+    @DisplayName("Should start the next sequential instance for the same body")
+    void shouldRunNextSequentialInstanceOfBody() {
+        // Given
+        when(instance.definition()).thenReturn(callActivity(true));
+        when(activityPersistence.completeInstance(PROCESS_ID, INSTANCE_ID)).thenReturn(1L);
+
+        // When
+        behavior.complete(instance, Map.of());
+
+        // Then
+        var captor = ArgumentCaptor.forClass(RunCallActivityInstancesCommand.class);
+        verify(dispatcher).dispatch(captor.capture());
+        assertThat(captor.getValue().callActivity().id()).isEqualTo(BODY_ID);
+        assertThat(captor.getValue().elements()).isEqualTo(List.of("c"));
+    }
+
+    @Test
+    @DisplayName("Should complete the body of uncounted instances once all of them completed")
+    void shouldFallBackForUncountedInstances() {
+        // Given
+        when(activityPersistence.completeInstance(PROCESS_ID, INSTANCE_ID)).thenReturn(-1L);
+        when(activityPersistence.isAllCompleted(PROCESS_ID, List.of("call-activity"))).thenReturn(true);
+
+        // When
+        behavior.complete(instance, Map.of());
+
+        // Then
+        verify(dispatcher).dispatch(any(HandleActivityCompletionCommand.class));
+    }
+
+    @Test
+    @DisplayName("Should count a terminated instance and continue with the last one")
+    void shouldCountTerminatedInstance() {
+        // Given
+        when(activityPersistence.completeInstance(PROCESS_ID, INSTANCE_ID)).thenReturn(0L);
+
+        // When
+        behavior.terminate(instance, false);
+
+        // Then
+        verify(dispatcher).dispatch(any(HandleActivityCompletionCommand.class));
+    }
+
+    @Test
+    @DisplayName("Should count an interrupted instance without continuing")
+    void shouldCountInterruptedInstance() {
+        // Given
+        when(activityPersistence.completeInstance(PROCESS_ID, INSTANCE_ID)).thenReturn(0L);
+
+        // When
+        behavior.terminate(instance, true);
+
+        // Then
+        verify(activityPersistence).completeInstance(PROCESS_ID, INSTANCE_ID);
+        verify(dispatcher, never()).dispatch(any(HandleActivityCompletionCommand.class));
+    }
+
+    @Test
+    @DisplayName("Should cancel the boundary timers of the body with its last instance")
+    void shouldCancelBodyTimersWithLastInstance() {
+        // Given
+        when(timerService.hasBoundaryTimers(instance)).thenReturn(true);
+        when(activityPersistence.completeInstance(PROCESS_ID, INSTANCE_ID)).thenReturn(0L);
+
+        // When
+        behavior.complete(instance, Map.of());
+
+        // Then
+        var inOrder = inOrder(activityPersistence);
+        inOrder.verify(activityPersistence).findInstanceBody(PROCESS_ID, INSTANCE_ID);
+        inOrder.verify(activityPersistence).completeInstance(PROCESS_ID, INSTANCE_ID);
+        verify(timerService).cancelBodyTimers(instance, BODY_ID);
+    }
+
+    @Test
+    @DisplayName("Should keep the boundary timers of the body while other instances run")
+    void shouldKeepBodyTimersWhileInstancesRun() {
+        // Given
+        when(timerService.hasBoundaryTimers(instance)).thenReturn(true);
+        when(activityPersistence.completeInstance(PROCESS_ID, INSTANCE_ID)).thenReturn(2L);
+
+        // When
+        behavior.complete(instance, Map.of());
+
+        // Then
+        verify(timerService, never()).cancelBodyTimers(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should cancel the other boundary timers of the body with its last interrupted instance")
+    void shouldCancelBodyTimersWithLastInterruptedInstance() {
+        // Given
+        when(timerService.hasBoundaryTimers(instance)).thenReturn(true);
+        when(activityPersistence.completeInstance(PROCESS_ID, INSTANCE_ID)).thenReturn(0L);
+
+        // When
+        behavior.terminate(instance, true);
+
+        // Then
+        verify(timerService).cancelBodyTimers(instance, BODY_ID);
+    }
+
+    @Test
+    @DisplayName("Should count a deleted instance")
+    void shouldCountDeletedInstance() {
+        // When
+        behavior.delete(instance);
+
+        // Then
+        verify(activityPersistence).delete(instance);
+        verify(activityPersistence).completeInstance(PROCESS_ID, INSTANCE_ID);
+    }
+
+    private CallActivity callActivity(boolean sequential) {
+        return CallActivity.builder()
+                .id("call-activity")
+                .multiInstanceLoopCharacteristics(MultiInstanceLoopCharacteristics.builder()
+                        .collection("${items}")
+                        .elementVariable("item")
+                        .isSequential(sequential)
+                        .build())
+                .build();
+    }
+
+}
@@ -0,0 +1,207 @@
+package com.leorces.engine.activity.handler;
+
+import com.leorces.engine.activity.behaviour.ActivityBehavior;
+import com.leorces.engine.activity.behaviour.ActivityBehaviorResolver;
+import com.leorces.engine.activity.behaviour.task.ExternalTaskBehavior;
+import com.leorces.engine.activity.command.CompleteActivitiesCommand;
+import com.leorces.engine.activity.command.CompleteActivityCommand;
+import com.leorces.engine.activity.command.FailActivityCommand;
+import com.leorces.engine.core.CommandDispatcher;
+import com.leorces.engine.correlation.MessageSubscriptionService;
+import com.leorces.engine.timer.TimerService;
+import com.leorces.model.definition.activity.ActivityType;
+import com.leorces.model.runtime.activity.ActivityCompleteRequest;
+import com.leorces.model.runtime.activity.ActivityExecution;
+import com.leorces.model.runtime.activity.ActivityState;
+import com.leorces.model.runtime.activity.ActivityUpdateResult;
+import com.leorces.model.runtime.activity.ActivityUpdateStatus;
+import com.leorces.model.runtime.process.Process;
+import com.leorces.persistence.ActivityPersistence;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.isA;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("CompleteActivitiesCommandHandler Tests")
+class CompleteActivitiesCommandHandlerTest {
+
+    private static final Map<String, Object> VARIABLES = Map.of("var1", "val1");
+
+    @Mock
+    private ActivityPersistence activityPersistence;
+
+    @Mock
+    private ActivityBehaviorResolver behaviorResolver;
+
+    @Mock
+    private CommandDispatcher dispatcher;
+
+    @Mock
+    private TimerService timerService;
+
+    @Mock
+    private MessageSubscriptionService subscriptionService;
+
+    @Mock
+    private ExternalTaskBehavior externalTaskBehavior;
+
+    @Mock
+    private ActivityBehavior receiveTaskBehavior;
+
+    @Mock
+    private Process process;
+
+    @InjectMocks
+    private CompleteActivitiesCommandHandler handler;
+
+    @BeforeEach
+    void setUp() {
+        when(process.isInTerminalState()).thenReturn(false);
+        when(behaviorResolver.resolveBehavior(ActivityType.EXTERNAL_TASK)).thenReturn(externalTaskBehavior);
+        when(behaviorResolver.resolveBehavior(ActivityType.RECEIVE_TASK)).thenReturn(receiveTaskBehavior);
+    }
+
+    @Test
+    @DisplayName("Should return correct command type")
+    void shouldReturnCorrectCommandType() {
+        assertThat(handler.getCommandType()).isEqualTo(CompleteActivitiesCommand.class);
+    }
+
+    @Test
+    @DisplayName("Should store external tasks with one write and continue each process")
+    void shouldCompleteExternalTasksWithOneWrite() {
+        // Given
+        var task1 = activity("task-1", ActivityType.EXTERNAL_TASK, ActivityState.ACTIVE);
+        var task2 = activity("task-2", ActivityType.EXTERNAL_TASK, ActivityState.ACTIVE);
+        var completedTask1 = activity("task-1", ActivityType.EXTERNAL_TASK, ActivityState.COMPLETED);
+        var completedTask2 = activity("task-2", ActivityType.EXTERNAL_TASK, ActivityState.COMPLETED);
+        when(activityPersistence.findAllById(List.of("task-1", "task-2"))).thenReturn(List.of(task1, task2));
+        when(activityPersistence.completeAll(List.of(task1, task2))).thenReturn(List.of(completedTask1, completedTask2));
+
+        // When
+        var results = handler.execute(CompleteActivitiesCommand.of(List.of(
+                ActivityCompleteRequest.of("task-1", VARIABLES),
+                ActivityCompleteRequest.of("task-2", null)
+        )));
+
+        // Then
+        assertThat(results).containsExactly(ActivityUpdateResult.applied("task-1"), ActivityUpdateResult.applied("task-2"));
+        verify(activityPersistence).completeAll(List.of(task1, task2));
+        verify(activityPersistence, never()).complete(any());
+        verify(externalTaskBehavior).onComplete(completedTask1, VARIABLES);
+        verify(externalTaskBehavior).onComplete(completedTask2, Map.of());
+        verify(timerService).cancelTimers(task1);
+        verify(subscriptionService).cancel(task2);
+    }
+
+    @Test
+    @DisplayName("Should report unknown, finished and repeated activities")
+    void shouldReportUnknownFinishedAndRepeatedActivities() {
+        // Given
+        var task = activity("task-1", ActivityType.EXTERNAL_TASK, ActivityState.ACTIVE);
+        var finishedTask = activity("task-2", ActivityType.EXTERNAL_TASK, ActivityState.COMPLETED);
+        when(activityPersistence.findAllById(List.of("task-1", "task-2", "unknown"))).thenReturn(List.of(task, finishedTask));
+        when(activityPersistence.completeAll(List.of(task))).thenReturn(List.of(task));
+
+        // When
+        var results = handler.execute(CompleteActivitiesCommand.of(List.of(
+                ActivityCompleteRequest.of("task-1", null),
+                ActivityCompleteRequest.of("task-2", null),
+                ActivityCompleteRequest.of("unknown", null),
+                ActivityCompleteRequest.of("task-1", null)
+        )));
+
+        // Then
+        assertThat(results)
+                .extracting(ActivityUpdateResult::activityId, ActivityUpdateResult::status)
+                .containsExactly(
+                        tuple("task-1", ActivityUpdateStatus.APPLIED),
+                        tuple("task-2", ActivityUpdateStatus.NOT_ACTIVE),
+                        tuple("unknown", ActivityUpdateStatus.NOT_FOUND),
+                        tuple("task-1", ActivityUpdateStatus.NOT_ACTIVE)
+                );
+        verify(activityPersistence).completeAll(List.of(task));
+        verify(externalTaskBehavior, times(1)).onComplete(task, Map.of());
+    }
+
+    @Test
+    @DisplayName("Should fail only the activity whose process can't continue")
+    void shouldFailOnlyActivityWhoseProcessCannotContinue() {
+        // Given
+        var task1 = activity("task-1", ActivityType.EXTERNAL_TASK, ActivityState.ACTIVE);
+        var task2 = activity("task-2", ActivityType.EXTERNAL_TASK, ActivityState.ACTIVE);
+        when(activityPersistence.findAllById(anyList())).thenReturn(List.of(task1, task2));
+        when(activityPersistence.completeAll(List.of(task1, task2))).thenReturn(List.of(task1, task2));
+        doThrow(new IllegalStateException("Expression error")).when(externalTaskBehavior).onComplete(task1, Map.of());
+
+        // When
+        var results = handler.execute(CompleteActivitiesCommand.of(List.of(
+                ActivityCompleteRequest.of("task-1", null),
+                ActivityCompleteRequest.of("task-2", null)
+        )));
+
+        // Then
+        assertThat(results).containsExactly(
+                ActivityUpdateResult.failed("task-1", "Expression error"),
+                ActivityUpdateResult.applied("task-2")
+        );
+        verify(dispatcher).dispatch(isA(FailActivityCommand.class));
+        verify(timerService, never()).cancelTimers(task1);
+        verify(timerService).cancelTimers(task2);
+    }
+
+    @Test
+    @DisplayName("Should complete other activities one by one")
+    void shouldCompleteOtherActivitiesOneByOne() {
+        // Given
+        var receiveTask = activity("receive-task", ActivityType.RECEIVE_TASK, ActivityState.ACTIVE);
+        when(activityPersistence.findAllById(List.of("receive-task"))).thenReturn(List.of(receiveTask));
+
+        // When
+        var results = handler.execute(CompleteActivitiesCommand.of(List.of(ActivityCompleteRequest.of("receive-task", VARIABLES))));
+
+        // Then
+        assertThat(results).containsExactly(ActivityUpdateResult.applied("receive-task"));
+        verify(dispatcher).dispatch(CompleteActivityCommand.of(receiveTask, VARIABLES));
+        verify(activityPersistence, never()).completeAll(anyList());
+    }
+
+    @Test
+    @DisplayName("Should return no results for empty batch")
+    void shouldReturnNoResultsForEmptyBatch() {
+        // When
+        var results = handler.execute(CompleteActivitiesCommand.of(List.of()));
+
+        // Then
+        assertThat(results).isEmpty();
+        verifyNoInteractions(activityPersistence);
+    }
+
+    private ActivityExecution activity(String id, ActivityType type, ActivityState state) {
+        var activity = mock(ActivityExecution.class);
+        when(activity.id()).thenReturn(id);
+        when(activity.type()).thenReturn(type);
+        when(activity.state()).thenReturn(state);
+        when(activity.isInTerminalState()).thenReturn(state == ActivityState.COMPLETED || state == ActivityState.TERMINATED);
+        when(activity.process()).thenReturn(process);
+        return activity;
+    }
+
+}
@@ -7,6 +7,8 @@ import com.leorces.engine.activity.command.CompleteActivityCommand;
 import com.leorces.engine.activity.command.FailActivityCommand;
 import com.leorces.engine.activity.command.FindActivityCommand;
 import com.leorces.engine.core.CommandDispatcher;
+import com.leorces.engine.correlation.MessageSubscriptionService;
+import com.leorces.engine.timer.TimerService;
 import com.leorces.model.definition.activity.ActivityType;
 import com.leorces.model.runtime.activity.ActivityExecution;
 import com.leorces.model.runtime.activity.ActivityState;
@@ -52,6 +54,12 @@ class CompleteActivityCommandHandlerTest {
     @Mock
     private Process process;
 
+    @Mock
+    private TimerService timerService;
+
+    @Mock
+    private MessageSubscriptionService subscriptionService;
+
     @InjectMocks
     private CompleteActivityCommandHandler handler;
 
@@ -84,6 +92,7 @@ class CompleteActivityCommandHandlerTest {
         verify(behaviorResolver).resolveBehavior(ActivityType.EXTERNAL_TASK);
         verify(activityBehavior).complete(activityExecution, VARIABLES);
         verify(dispatcher, never()).dispatch(isA(FailActivityCommand.class));
+        verify(timerService).cancelTimers(activityExecution);
     }
 
     @Test
@@ -2,6 +2,7 @@ package com.leorces.engine.activity.handler;
 
 import com.leorces.engine.activity.command.FailActivitiesByTimeoutCommand;
 import com.leorces.engine.activity.command.FailActivityCommand;
+import com.leorces.engine.configuration.properties.job.ActivityTimeoutProperties;
 import com.leorces.engine.core.CommandDispatcher;
 import com.leorces.model.runtime.activity.ActivityExecution;
 import com.leorces.model.runtime.activity.ActivityFailure;
@@ -11,12 +12,12 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InOrder;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 
+import java.time.Duration;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -28,6 +29,7 @@ import static org.mockito.Mockito.*;
 class FailActivitiesByTimeoutCommandHandlerTest {
 
     private static final int BATCH_SIZE = 100;
+    private static final Duration LEASE = Duration.ofMinutes(5);
 
     @Mock
     private ActivityPersistence activityPersistence;
@@ -41,11 +43,15 @@ class FailActivitiesByTimeoutCommandHandlerTest {
     @Mock
     private ActivityExecution activity2;
 
-    @InjectMocks
     private FailActivitiesByTimeoutCommandHandler handler;
 
     @BeforeEach
     void setUp() {
+        handler = new FailActivitiesByTimeoutCommandHandler(
+                activityPersistence,
+                dispatcher,
+                new ActivityTimeoutProperties(BATCH_SIZE, LEASE)
+        );
         when(activity1.id()).thenReturn("activity-1");
         when(activity1.processId()).thenReturn("process-1");
         when(activity2.id()).thenReturn("activity-2");
@@ -66,14 +72,14 @@ class FailActivitiesByTimeoutCommandHandlerTest {
     @DisplayName("Should fail all timed out activities")
     void shouldFailAllTimedOutActivities() {
         // Given
-        when(activityPersistence.findTimedOut(BATCH_SIZE)).thenReturn(List.of(activity1, activity2));
+        when(activityPersistence.claimTimedOut(BATCH_SIZE, LEASE)).thenReturn(List.of(activity1, activity2));
         var command = new FailActivitiesByTimeoutCommand();
 
         // When
         handler.handle(command);
 
         // Then
-        verify(activityPersistence).findTimedOut(BATCH_SIZE);
+        verify(activityPersistence).claimTimedOut(BATCH_SIZE, LEASE);
         verify(dispatcher, times(2)).dispatchAsync(any(FailActivityCommand.class));
 
         // Verify that each command contains expected activity and failure
@@ -98,14 +104,14 @@ class FailActivitiesByTimeoutCommandHandlerTest {
     @DisplayName("Should handle empty timed out activity list without errors")
     void shouldHandleEmptyTimedOutActivities() {
         // Given
-        when(activityPersistence.findTimedOut(BATCH_SIZE)).thenReturn(List.of());
+        when(activityPersistence.claimTimedOut(BATCH_SIZE, LEASE)).thenReturn(List.of());
         var command = new FailActivitiesByTimeoutCommand();
 
         // When
         handler.handle(command);
 
         // Then
-        verify(activityPersistence).findTimedOut(BATCH_SIZE);
+        verify(activityPersistence).claimTimedOut(BATCH_SIZE, LEASE);
         verify(dispatcher, never()).dispatchAsync(any());
     }
 
@@ -113,7 +119,7 @@ class FailActivitiesByTimeoutCommandHandlerTest {
     @DisplayName("Should call failActivity() for each activity individually")
     void shouldCallFailActivityIndividually() {
         // Given
-        when(activityPersistence.findTimedOut(BATCH_SIZE)).thenReturn(List.of(activity1, activity2));
+        when(activityPersistence.claimTimedOut(BATCH_SIZE, LEASE)).thenReturn(List.of(activity1, activity2));
         var command = new FailActivitiesByTimeoutCommand();
 
         // When
@@ -137,7 +143,7 @@ class FailActivitiesByTimeoutCommandHandlerTest {
     @DisplayName("Should dispatch FailActivityCommand with Timeout failure reason")
     void shouldDispatchFailActivityCommandWithTimeoutFailure() {
         // Given
-        when(activityPersistence.findTimedOut(BATCH_SIZE)).thenReturn(List.of(activity1));
+        when(activityPersistence.claimTimedOut(BATCH_SIZE, LEASE)).thenReturn(List.of(activity1));
         var command = new FailActivitiesByTimeoutCommand();
 
         // When
@@ -153,4 +159,25 @@ class FailActivitiesByTimeoutCommandHandlerTest {
         }));
     }
 
+    @Test
+    @DisplayName("Should keep claiming while batches come back full")
+    void shouldKeepClaimingWhileBatchesAreFull() {
+        // Given
+        handler = new FailActivitiesByTimeoutCommandHandler(
+                activityPersistence,
+                dispatcher,
+                new ActivityTimeoutProperties(2, LEASE)
+        );
+        when(activityPersistence.claimTimedOut(2, LEASE))
+                .thenReturn(List.of(activity1, activity2))
+                .thenReturn(List.of(activity1));
+
+        // When
+        handler.handle(new FailActivitiesByTimeoutCommand());
+
+        // Then
+        verify(activityPersistence, times(2)).claimTimedOut(2, LEASE);
+        verify(dispatcher, times(3)).dispatchAsync(any(FailActivityCommand.class));
+    }
+
 }
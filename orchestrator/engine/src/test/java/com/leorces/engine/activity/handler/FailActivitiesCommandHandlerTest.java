@@ -0,0 +1,167 @@
+package com.leorces.engine.activity.handler;
+
+import com.leorces.engine.activity.behaviour.ActivityBehavior;
+import com.leorces.engine.activity.behaviour.ActivityBehaviorResolver;
+import com.leorces.engine.activity.behaviour.task.ExternalTaskBehavior;
+import com.leorces.engine.activity.command.FailActivitiesCommand;
+import com.leorces.engine.activity.command.FailActivityCommand;
+import com.leorces.engine.core.CommandDispatcher;
+import com.leorces.engine.process.command.IncidentProcessCommand;
+import com.leorces.model.definition.activity.ActivityType;
+import com.leorces.model.runtime.activity.ActivityExecution;
+import com.leorces.model.runtime.activity.ActivityFailRequest;
+import com.leorces.model.runtime.activity.ActivityFailure;
+import com.leorces.model.runtime.activity.ActivityState;
+import com.leorces.model.runtime.activity.ActivityUpdateResult;
+import com.leorces.model.runtime.activity.ActivityUpdateStatus;
+import com.leorces.model.runtime.process.Process;
+import com.leorces.persistence.ActivityPersistence;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("FailActivitiesCommandHandler Tests")
+class FailActivitiesCommandHandlerTest {
+
+    private static final String PROCESS_ID = "process-id";
+    private static final ActivityFailure FAILURE = ActivityFailure.of("Failure reason");
+
+    @Mock
+    private ActivityPersistence activityPersistence;
+
+    @Mock
+    private ActivityBehaviorResolver behaviorResolver;
+
+    @Mock
+    private CommandDispatcher dispatcher;
+
+    @Mock
+    private ExternalTaskBehavior externalTaskBehavior;
+
+    @Mock
+    private ActivityBehavior receiveTaskBehavior;
+
+    @Mock
+    private Process process;
+
+    @InjectMocks
+    private FailActivitiesCommandHandler handler;
+
+    @BeforeEach
+    void setUp() {
+        when(process.isInTerminalState()).thenReturn(false);
+        when(behaviorResolver.resolveBehavior(ActivityType.EXTERNAL_TASK)).thenReturn(externalTaskBehavior);
+        when(behaviorResolver.resolveBehavior(ActivityType.RECEIVE_TASK)).thenReturn(receiveTaskBehavior);
+    }
+
+    @Test
+    @DisplayName("Should return correct command type")
+    void shouldReturnCorrectCommandType() {
+        assertThat(handler.getCommandType()).isEqualTo(FailActivitiesCommand.class);
+    }
+
+    @Test
+    @DisplayName("Should retry tasks with retries left and store the others as failed with one write")
+    void shouldRetryOrFailExternalTasks() {
+        // Given
+        var retriedTask = activity("task-1", ActivityType.EXTERNAL_TASK, ActivityState.ACTIVE);
+        var failedTask1 = activity("task-2", ActivityType.EXTERNAL_TASK, ActivityState.ACTIVE);
+        var failedTask2 = activity("task-3", ActivityType.EXTERNAL_TASK, ActivityState.ACTIVE);
+        when(activityPersistence.findAllById(List.of("task-1", "task-2", "task-3")))
+                .thenReturn(List.of(retriedTask, failedTask1, failedTask2));
+        when(externalTaskBehavior.retryIfPossible(retriedTask)).thenReturn(true);
+        when(externalTaskBehavior.retryIfPossible(failedTask1)).thenReturn(false);
+        when(externalTaskBehavior.retryIfPossible(failedTask2)).thenReturn(false);
+
+        // When
+        var results = handler.execute(FailActivitiesCommand.of(List.of(
+                ActivityFailRequest.of("task-1", FAILURE, null),
+                ActivityFailRequest.of("task-2", FAILURE, null),
+                ActivityFailRequest.of("task-3", FAILURE, null)
+        )));
+
+        // Then
+        assertThat(results).containsExactly(
+                ActivityUpdateResult.applied("task-1"),
+                ActivityUpdateResult.applied("task-2"),
+                ActivityUpdateResult.applied("task-3")
+        );
+        verify(activityPersistence).failAll(List.of(failedTask1, failedTask2));
+        verify(activityPersistence, never()).fail(any());
+        verify(dispatcher, times(1)).dispatchAsync(IncidentProcessCommand.of(PROCESS_ID));
+    }
+
+    @Test
+    @DisplayName("Should report every task when storing failures fails")
+    void shouldReportEveryTaskWhenStoringFailuresFails() {
+        // Given
+        var task = activity("task-1", ActivityType.EXTERNAL_TASK, ActivityState.ACTIVE);
+        var unknownResult = ActivityUpdateResult.notFound("unknown");
+        when(activityPersistence.findAllById(anyList())).thenReturn(List.of(task));
+        when(externalTaskBehavior.retryIfPossible(task)).thenReturn(false);
+        when(activityPersistence.failAll(List.of(task))).thenThrow(new IllegalStateException("Connection lost"));
+
+        // When
+        var results = handler.execute(FailActivitiesCommand.of(List.of(
+                ActivityFailRequest.of("unknown", FAILURE, null),
+                ActivityFailRequest.of("task-1", FAILURE, null)
+        )));
+
+        // Then
+        assertThat(results).containsExactly(unknownResult, ActivityUpdateResult.failed("task-1", "Connection lost"));
+        verify(dispatcher, never()).dispatchAsync(any());
+    }
+
+    @Test
+    @DisplayName("Should fail other activities one by one")
+    void shouldFailOtherActivitiesOneByOne() {
+        // Given
+        var receiveTask = activity("receive-task", ActivityType.RECEIVE_TASK, ActivityState.ACTIVE);
+        var finishedTask = activity("task-1", ActivityType.EXTERNAL_TASK, ActivityState.TERMINATED);
+        when(activityPersistence.findAllById(List.of("receive-task", "task-1"))).thenReturn(List.of(receiveTask, finishedTask));
+
+        // When
+        var results = handler.execute(FailActivitiesCommand.of(List.of(
+                ActivityFailRequest.of("receive-task", FAILURE, null),
+                ActivityFailRequest.of("task-1", FAILURE, null)
+        )));
+
+        // Then
+        assertThat(results)
+                .extracting(ActivityUpdateResult::status)
+                .containsExactly(ActivityUpdateStatus.APPLIED, ActivityUpdateStatus.NOT_ACTIVE);
+        verify(dispatcher).dispatch(FailActivityCommand.of(receiveTask, FAILURE));
+        verify(activityPersistence, never()).failAll(anyList());
+    }
+
+    private ActivityExecution activity(String id, ActivityType type, ActivityState state) {
+        var activity = mock(ActivityExecution.class);
+        var builder = mock(ActivityExecution.ActivityExecutionBuilder.class);
+        when(activity.id()).thenReturn(id);
+        when(activity.processId()).thenReturn(PROCESS_ID);
+        when(activity.type()).thenReturn(type);
+        when(activity.state()).thenReturn(state);
+        when(activity.isInTerminalState()).thenReturn(state == ActivityState.COMPLETED || state == ActivityState.TERMINATED);
+        when(activity.process()).thenReturn(process);
+        when(activity.toBuilder()).thenReturn(builder);
+        when(builder.failure(any())).thenReturn(builder);
+        when(builder.build()).thenReturn(activity);
+        return activity;
+    }
+
+}
@@ -2,8 +2,10 @@ package com.leorces.engine.activity.handler;
 
 import com.leorces.engine.activity.command.FindActivityHandlerCommand;
 import com.leorces.model.definition.ProcessDefinition;
+import com.leorces.model.definition.ProcessDefinitionGraph;
 import com.leorces.model.definition.activity.*;
 import com.leorces.model.runtime.process.Process;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -36,6 +38,12 @@ class FindActivityHandlerCommandHandlerTest {
     @InjectMocks
     private FindActivityHandlerCommandHandler handler;
 
+    @BeforeEach
+    void setUp() {
+        // The graph is compiled from the stubbed activities
+        when(processDefinition.graph()).thenAnswer(invocation -> ProcessDefinitionGraph.of(processDefinition));
+    }
+
     @Test
     @DisplayName("Should find error boundary event by code")
     void shouldFindErrorBoundaryEventByCode() {
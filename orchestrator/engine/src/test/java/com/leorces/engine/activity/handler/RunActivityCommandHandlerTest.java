@@ -6,6 +6,8 @@ import com.leorces.engine.activity.command.CreateActivityCommand;
 import com.leorces.engine.activity.command.RunActivityCommand;
 import com.leorces.engine.core.CommandDispatcher;
 import com.leorces.engine.core.CommandHandler;
+import com.leorces.engine.correlation.MessageSubscriptionService;
+import com.leorces.engine.timer.TimerService;
 import com.leorces.engine.variables.command.EvaluateVariablesCommand;
 import com.leorces.model.definition.activity.ActivityDefinition;
 import com.leorces.model.definition.activity.ActivityType;
@@ -56,6 +58,12 @@ class RunActivityCommandHandlerTest {
     @Mock
     private ActivityExecution activityExecution;
 
+    @Mock
+    private TimerService timerService;
+
+    @Mock
+    private MessageSubscriptionService subscriptionService;
+
     @InjectMocks
     private RunActivityCommandHandler handler;
 
@@ -97,6 +105,27 @@ class RunActivityCommandHandlerTest {
 
         verify(dispatcher).execute(any(EvaluateVariablesCommand.class));
         verify(activityBehavior).run(any(ActivityExecution.class));
+        verify(timerService).scheduleBoundaryTimers(any(ActivityExecution.class));
+    }
+
+    @Test
+    @DisplayName("should schedule boundary timers before running activity")
+    void shouldScheduleBoundaryTimersBeforeRun() {
+        handler.handle(RunActivityCommand.of(activityExecution));
+
+        var inOrder = inOrder(timerService, activityBehavior);
+        inOrder.verify(timerService).scheduleBoundaryTimers(any(ActivityExecution.class));
+        inOrder.verify(activityBehavior).run(any(ActivityExecution.class));
+    }
+
+    @Test
+    @DisplayName("should subscribe to messages before running activity")
+    void shouldSubscribeBeforeRun() {
+        handler.handle(RunActivityCommand.of(activityExecution));
+
+        var inOrder = inOrder(subscriptionService, activityBehavior);
+        inOrder.verify(subscriptionService).subscribe(any(ActivityExecution.class));
+        inOrder.verify(activityBehavior).run(any(ActivityExecution.class));
     }
 
     @Test
@@ -0,0 +1,195 @@
+package com.leorces.engine.activity.handler;
+
+import com.leorces.engine.activity.command.FailActivityCommand;
+import com.leorces.engine.activity.command.RunCallActivityInstancesCommand;
+import com.leorces.engine.configuration.properties.MultiInstanceProperties;
+import com.leorces.engine.core.CommandDispatcher;
+import com.leorces.engine.process.command.CreateProcessByCallActivityCommand;
+import com.leorces.engine.process.command.RunProcessesCommand;
+import com.leorces.model.definition.activity.subprocess.CallActivity;
+import com.leorces.model.definition.attribute.MultiInstanceLoopCharacteristics;
+import com.leorces.model.runtime.activity.ActivityExecution;
+import com.leorces.model.runtime.process.Process;
+import com.leorces.persistence.ActivityPersistence;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("RunCallActivityInstancesCommandHandler Tests")
+class RunCallActivityInstancesCommandHandlerTest {
+
+    private static final String PROCESS_ID = "process-id";
+    private static final String BODY_ID = "body-id";
+    private static final String ELEMENT_VARIABLE = "item";
+
+    @Mock
+    private ActivityPersistence activityPersistence;
+
+    @Mock
+    private CommandDispatcher dispatcher;
+
+    @Mock
+    private ActivityExecution callActivity;
+
+    @Mock(answer = Answers.RETURNS_SELF)
+    private ActivityExecution.ActivityExecutionBuilder instanceBuilder;
+
+    private RunCallActivityInstancesCommandHandler handler;
+
+    @BeforeEach
+    void setUp() {
+        handler = new RunCallActivityInstancesCommandHandler(activityPersistence, dispatcher, new MultiInstanceProperties(2, 4));
+
+        var definition = CallActivity.builder()
+                .id("call-activity")
+                .multiInstanceLoopCharacteristics(MultiInstanceLoopCharacteristics.builder()
+                        .collection("${items}")
+                        .elementVariable(ELEMENT_VARIABLE)
+                        .build())
+                .build();
+        when(callActivity.definition()).thenReturn(definition);
+        when(callActivity.definitionId()).thenReturn("call-activity");
+        when(callActivity.processId()).thenReturn(PROCESS_ID);
+        when(callActivity.id()).thenReturn(BODY_ID);
+        when(callActivity.toBuilder()).thenReturn(instanceBuilder);
+        when(instanceBuilder.build()).thenReturn(callActivity);
+        when(activityPersistence.runAll(anyList())).thenAnswer(invocation -> {
+            List<ActivityExecution> activities = invocation.getArgument(0);
+            return activities.stream()
+                    .map(activity -> mock(ActivityExecution.class))
+                    .toList();
+        });
+        when(dispatcher.execute(any(CreateProcessByCallActivityCommand.class))).thenReturn(mock(Process.class));
+    }
+
+    @Test
+    @DisplayName("Should return correct command type")
+    void shouldReturnCorrectCommandType() {
+        assertThat(handler.getCommandType()).isEqualTo(RunCallActivityInstancesCommand.class);
+    }
+
+    @Test
+    @DisplayName("Should run instances and their processes in batches")
+    void shouldRunInstancesInBatches() {
+        // Given
+        var command = RunCallActivityInstancesCommand.of(callActivity, List.of("a", "b", "c", "d", "e"));
+
+        // When
+        handler.handle(command);
+
+        // Then
+        var activitiesCaptor = ArgumentCaptor.forClass(List.class);
+        verify(activityPersistence, times(3)).runAll(activitiesCaptor.capture());
+        assertThat(activitiesCaptor.getAllValues()).extracting(List::size).containsExactly(2, 2, 1);
+
+        var processesCaptor = ArgumentCaptor.forClass(RunProcessesCommand.class);
+        verify(dispatcher, times(3)).execute(processesCaptor.capture());
+        assertThat(processesCaptor.getAllValues())
+                .extracting(processesCommand -> processesCommand.processes().size())
+                .containsExactly(2, 2, 1);
+    }
+
+    @Test
+    @DisplayName("Should count instances under their own IDs for their body before running them")
+    void shouldCountInstancesForBody() {
+        // Given
+        var command = RunCallActivityInstancesCommand.of(callActivity, List.of("a", "b"));
+
+        // When
+        handler.handle(command);
+
+        // Then
+        var idsCaptor = ArgumentCaptor.forClass(String.class);
+        verify(instanceBuilder, times(2)).id(idsCaptor.capture());
+        assertThat(idsCaptor.getAllValues()).doesNotHaveDuplicates().doesNotContainNull().doesNotContain(BODY_ID);
+
+        var inOrder = inOrder(activityPersistence);
+        inOrder.verify(activityPersistence).addInstances(eq(PROCESS_ID), eq(BODY_ID), argThat(ids -> ids.size() == 2));
+        inOrder.verify(activityPersistence).runAll(anyList());
+    }
+
+    @Test
+    @DisplayName("Should pass each element to its instance")
+    void shouldPassElementToInstance() {
+        // Given
+        var command = RunCallActivityInstancesCommand.of(callActivity, List.of("a", "b"));
+
+        // When
+        handler.handle(command);
+
+        // Then
+        var captor = ArgumentCaptor.forClass(CreateProcessByCallActivityCommand.class);
+        verify(dispatcher, times(2)).execute(captor.capture());
+        assertThat(captor.getAllValues())
+                .extracting(CreateProcessByCallActivityCommand::additionalVariables)
+                .containsExactly(Map.of(ELEMENT_VARIABLE, "a"), Map.of(ELEMENT_VARIABLE, "b"));
+    }
+
+    @Test
+    @DisplayName("Should fail the call activity and stop when a batch fails")
+    void shouldFailCallActivityWhenBatchFails() {
+        // Given
+        var command = RunCallActivityInstancesCommand.of(callActivity, List.of("a", "b", "c"));
+        when(activityPersistence.runAll(anyList())).thenThrow(new IllegalStateException("Database unavailable"));
+        when(activityPersistence.findById(BODY_ID)).thenReturn(Optional.empty());
+
+        // When
+        handler.handle(command);
+
+        // Then
+        verify(activityPersistence).runAll(anyList());
+        var captor = ArgumentCaptor.forClass(FailActivityCommand.class);
+        verify(dispatcher).dispatch(captor.capture());
+        assertThat(captor.getValue().activity()).isSameAs(callActivity);
+        assertThat(captor.getValue().failure().reason()).isEqualTo("Database unavailable");
+    }
+
+    @Test
+    @DisplayName("Should fail a call activity already failed by another slice in place")
+    void shouldFailStoredCallActivityWhenBatchFails() {
+        // Given
+        var storedCallActivity = mock(ActivityExecution.class);
+        var command = RunCallActivityInstancesCommand.of(callActivity, List.of("a"));
+        when(activityPersistence.runAll(anyList())).thenThrow(new IllegalStateException("Database unavailable"));
+        when(activityPersistence.findById(BODY_ID)).thenReturn(Optional.of(storedCallActivity));
+
+        // When
+        handler.handle(command);
+
+        // Then
+        var captor = ArgumentCaptor.forClass(FailActivityCommand.class);
+        verify(dispatcher).dispatch(captor.capture());
+        assertThat(captor.getValue().activity()).isSameAs(storedCallActivity);
+    }
+
+    @Test
+    @DisplayName("Should do nothing without elements")
+    void shouldDoNothingWithoutElements() {
+        // When
+        handler.handle(RunCallActivityInstancesCommand.of(callActivity, List.of()));
+
+        // Then
+        verifyNoInteractions(activityPersistence, dispatcher);
+    }
+
+}
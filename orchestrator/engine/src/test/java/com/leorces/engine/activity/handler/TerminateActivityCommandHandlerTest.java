@@ -5,6 +5,8 @@ import com.leorces.engine.activity.behaviour.ActivityBehaviorResolver;
 import com.leorces.engine.activity.command.FindActivityCommand;
 import com.leorces.engine.activity.command.TerminateActivityCommand;
 import com.leorces.engine.core.CommandDispatcher;
+import com.leorces.engine.correlation.MessageSubscriptionService;
+import com.leorces.engine.timer.TimerService;
 import com.leorces.model.definition.activity.ActivityType;
 import com.leorces.model.runtime.activity.ActivityExecution;
 import com.leorces.model.runtime.process.Process;
@@ -45,6 +47,12 @@ class TerminateActivityCommandHandlerTest {
     @Mock
     private Process process;
 
+    @Mock
+    private TimerService timerService;
+
+    @Mock
+    private MessageSubscriptionService subscriptionService;
+
     @InjectMocks
     private TerminateActivityCommandHandler handler;
 
@@ -80,6 +88,7 @@ class TerminateActivityCommandHandlerTest {
         // then
         verify(behaviorResolver).resolveBehavior(ActivityType.EXTERNAL_TASK);
         verify(activityBehavior).terminate(activityExecution, false);
+        verify(timerService).cancelTimers(activityExecution);
     }
 
     @Test
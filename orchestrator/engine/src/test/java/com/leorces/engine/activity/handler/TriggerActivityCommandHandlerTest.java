@@ -55,13 +55,29 @@ class TriggerActivityCommandHandlerTest {
         when(behaviorResolver.resolveTriggerableBehavior(ActivityType.EXTERNAL_TASK))
                 .thenReturn(Optional.of(activityBehavior));
 
-        var command = new TriggerActivityCommand(process, definition);
+        var command = TriggerActivityCommand.of(process, definition);
 
         // When
         handler.handle(command);
 
         // Then
         verify(activityBehavior).trigger(process, definition);
+        verify(activityBehavior, never()).triggerSynchronously(any(), any());
+    }
+
+    @Test
+    @DisplayName("Handle should run the triggered work before returning for synchronous triggers")
+    void handleShouldTriggerSynchronously() {
+        // Given
+        when(behaviorResolver.resolveTriggerableBehavior(ActivityType.EXTERNAL_TASK))
+                .thenReturn(Optional.of(activityBehavior));
+
+        // When
+        handler.handle(TriggerActivityCommand.of(process, definition, true));
+
+        // Then
+        verify(activityBehavior).triggerSynchronously(process, definition);
+        verify(activityBehavior, never()).trigger(any(), any());
     }
 
     @Test
@@ -72,7 +88,7 @@ class TriggerActivityCommandHandlerTest {
         when(behaviorResolver.resolveTriggerableBehavior(ActivityType.EXTERNAL_TASK))
                 .thenReturn(Optional.empty());
 
-        var command = new TriggerActivityCommand(process, definition);
+        var command = TriggerActivityCommand.of(process, definition);
 
         // When
         handler.handle(command);
@@ -5,11 +5,8 @@ import com.leorces.engine.admin.compaction.command.CompactionCommand;
 import com.leorces.engine.configuration.properties.job.CompactionProperties;
 import com.leorces.engine.service.TaskExecutorService;
 import com.leorces.model.job.Job;
-import com.leorces.model.runtime.process.ProcessExecution;
-import com.leorces.persistence.AdminPersistence;
 import com.leorces.persistence.HistoryPersistence;
 import com.leorces.persistence.JobPersistence;
-import com.leorces.persistence.ProcessPersistence;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -17,10 +14,8 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import java.util.List;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
-import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
@@ -36,15 +31,9 @@ class CompactionCommandHandlerTest {
     @Mock
     private JobPersistence jobPersistence;
 
-    @Mock
-    private ProcessPersistence processPersistence;
-
     @Mock
     private HistoryPersistence historyPersistence;
 
-    @Mock
-    private AdminPersistence adminPersistence;
-
     @Mock
     private CompactionProperties properties;
 
@@ -66,11 +55,13 @@ class CompactionCommandHandlerTest {
     void shouldCompactProcesses() throws Exception {
         // Given
         var batchSize = 10;
+        var fetchSize = 5;
         var maxJobs = 2;
-        var job = mock(Job.class);
+        var job = Job.builder().id("job-1").build();
         var command = CompactionCommand.manual();
 
         when(properties.batchSize()).thenReturn(batchSize);
+        when(properties.fetchSize()).thenReturn(fetchSize);
         when(properties.maxJobs()).thenReturn(maxJobs);
 
         // Mock task executor to run immediately
@@ -79,33 +70,44 @@ class CompactionCommandHandlerTest {
             return CompletableFuture.completedFuture(callable.call());
         });
 
-        // Mock admin persistence to run immediately
-        when(adminPersistence.execute(any())).thenAnswer(invocation -> {
-            Supplier<Integer> supplier = invocation.getArgument(0);
-            return supplier.get();
-        });
-
-        var process1 = mock(ProcessExecution.class);
-        var process2 = mock(ProcessExecution.class);
-
         // Job 1, Batch 1: returns 10
         // Job 1, Batch 2: returns 5 (stops loop for job 1)
         // Job 2, Batch 1: returns 3 (stops loop for job 2)
-
-        when(processPersistence.findAllFullyCompletedForUpdate(batchSize))
-                .thenReturn(
-                        List.of(process1, process1, process1, process1, process1, process1, process1, process1, process1, process1),
-                        List.of(process1, process1, process1, process1, process1),
-                        List.of(process2, process2, process2)
-                );
+        when(historyPersistence.compact(batchSize, fetchSize)).thenReturn(10, 5, 3);
 
         // When
         var result = handler.execute(job, command);
 
         // Then
         assertThat(result).containsEntry(OUTPUT_KEY, 18L);
-        verify(processPersistence, times(3)).findAllFullyCompletedForUpdate(batchSize);
-        verify(historyPersistence, times(3)).save(anyList());
+        verify(historyPersistence, times(3)).compact(batchSize, fetchSize);
+    }
+
+    @Test
+    @DisplayName("should checkpoint the total after every compacted batch")
+    void shouldCheckpointProgress() throws Exception {
+        // Given
+        var batchSize = 10;
+        var fetchSize = 5;
+        var job = Job.builder().id("job-1").build();
+        var command = CompactionCommand.manual();
+
+        when(properties.batchSize()).thenReturn(batchSize);
+        when(properties.fetchSize()).thenReturn(fetchSize);
+        when(properties.maxJobs()).thenReturn(1);
+        when(taskExecutor.supplyAsync(any())).thenAnswer(invocation -> {
+            Callable<Long> callable = invocation.getArgument(0);
+            return CompletableFuture.completedFuture(callable.call());
+        });
+        when(historyPersistence.compact(batchSize, fetchSize)).thenReturn(10, 4);
+
+        // When
+        handler.execute(job, command);
+
+        // Then
+        var inOrder = inOrder(jobPersistence);
+        inOrder.verify(jobPersistence).checkpoint(argThat(j -> "job-1".equals(j.id()) && j.output().get(OUTPUT_KEY).equals(10L)));
+        inOrder.verify(jobPersistence).checkpoint(argThat(j -> j.output().get(OUTPUT_KEY).equals(14L)));
     }
 
     @Test
@@ -125,20 +127,15 @@ class CompactionCommandHandlerTest {
             return CompletableFuture.completedFuture(callable.call());
         });
 
-        when(adminPersistence.execute(any())).thenAnswer(invocation -> {
-            Supplier<Integer> supplier = invocation.getArgument(0);
-            return supplier.get();
-        });
-
-        when(processPersistence.findAllFullyCompletedForUpdate(batchSize)).thenReturn(List.of());
+        when(historyPersistence.compact(batchSize, 0)).thenReturn(0);
 
         // When
         var result = handler.execute(job, command);
 
         // Then
         assertThat(result).containsEntry(OUTPUT_KEY, 0L);
-        verify(processPersistence).findAllFullyCompletedForUpdate(batchSize);
-        verify(historyPersistence, never()).save(anyList());
+        verify(historyPersistence).compact(batchSize, 0);
+        verify(jobPersistence, never()).checkpoint(any());
     }
 
     @Test
@@ -161,12 +158,7 @@ class CompactionCommandHandlerTest {
             return CompletableFuture.completedFuture(callable.call());
         });
 
-        when(adminPersistence.execute(any())).thenAnswer(invocation -> {
-            Supplier<Integer> supplier = invocation.getArgument(0);
-            return supplier.get();
-        });
-
-        when(processPersistence.findAllFullyCompletedForUpdate(batchSize)).thenReturn(List.of());
+        when(historyPersistence.compact(batchSize, 0)).thenReturn(0);
 
         // When
         handler.handle(command);
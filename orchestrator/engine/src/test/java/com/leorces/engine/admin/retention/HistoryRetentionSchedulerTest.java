@@ -0,0 +1,95 @@
+package com.leorces.engine.admin.retention;
+
+import com.leorces.engine.admin.retention.command.HistoryRetentionCommand;
+import com.leorces.engine.configuration.properties.job.HistoryRetentionProperties;
+import com.leorces.engine.core.CommandDispatcher;
+import com.leorces.engine.scheduler.ShedlockService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("HistoryRetentionScheduler Tests")
+class HistoryRetentionSchedulerTest {
+
+    @Mock
+    private ShedlockService shedlockService;
+
+    @Mock
+    private CommandDispatcher dispatcher;
+
+    @Mock
+    private HistoryRetentionProperties historyRetentionProperties;
+
+    @InjectMocks
+    private HistoryRetentionScheduler scheduler;
+
+    @Test
+    @DisplayName("configureTasks should register cron task when enabled")
+    void configureTasksShouldRegisterTaskWhenEnabled() {
+        // Given
+        var registrar = mock(ScheduledTaskRegistrar.class);
+        var cron = "0 0 * * * *";
+        when(historyRetentionProperties.enabled()).thenReturn(true);
+        when(historyRetentionProperties.cron()).thenReturn(cron);
+
+        // When
+        scheduler.configureTasks(registrar);
+
+        // Then
+        verify(registrar).addCronTask(any(Runnable.class), eq(cron));
+    }
+
+    @Test
+    @DisplayName("configureTasks should not register task when disabled")
+    void configureTasksShouldNotRegisterTaskWhenDisabled() {
+        // Given
+        var registrar = mock(ScheduledTaskRegistrar.class);
+        when(historyRetentionProperties.enabled()).thenReturn(false);
+
+        // When
+        scheduler.configureTasks(registrar);
+
+        // Then
+        verifyNoInteractions(registrar);
+    }
+
+    @Test
+    @DisplayName("doHistoryRetention should execute with lock and dispatch command")
+    @SuppressWarnings("unchecked")
+    void doHistoryRetentionShouldExecuteWithLockAndDispatchCommand() {
+        // Given
+        var registrar = mock(ScheduledTaskRegistrar.class);
+        when(historyRetentionProperties.enabled()).thenReturn(true);
+        when(historyRetentionProperties.cron()).thenReturn("0 0 * * * *");
+
+        var taskCaptor = ArgumentCaptor.forClass(Runnable.class);
+        scheduler.configureTasks(registrar);
+        verify(registrar).addCronTask(taskCaptor.capture(), anyString());
+        var registeredTask = taskCaptor.getValue();
+
+        // When
+        registeredTask.run();
+
+        // Then
+        var supplierCaptor = ArgumentCaptor.forClass(Supplier.class);
+        verify(shedlockService).executeWithLock(eq("history-retention-job"), any(Duration.class), supplierCaptor.capture());
+
+        // Execute the task passed to shedlock
+        supplierCaptor.getValue().get();
+        verify(dispatcher).dispatch(any(HistoryRetentionCommand.class));
+    }
+
+}
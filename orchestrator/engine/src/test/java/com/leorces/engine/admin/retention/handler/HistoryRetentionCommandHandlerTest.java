@@ -0,0 +1,106 @@
+package com.leorces.engine.admin.retention.handler;
+
+import com.leorces.engine.admin.common.model.JobType;
+import com.leorces.engine.admin.retention.command.HistoryRetentionCommand;
+import com.leorces.engine.configuration.properties.job.HistoryRetentionProperties;
+import com.leorces.model.job.Job;
+import com.leorces.persistence.HistoryPersistence;
+import com.leorces.persistence.JobPersistence;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("HistoryRetentionCommandHandler Tests")
+class HistoryRetentionCommandHandlerTest {
+
+    private static final String OUTPUT_KEY = "Total removed processes";
+
+    @Mock
+    private JobPersistence jobPersistence;
+
+    @Mock
+    private HistoryPersistence historyPersistence;
+
+    @Mock
+    private HistoryRetentionProperties properties;
+
+    @InjectMocks
+    private HistoryRetentionCommandHandler handler;
+
+    @Test
+    @DisplayName("should return correct command type")
+    void shouldReturnCorrectCommandType() {
+        // When & Then
+        assertThat(handler.getCommandType()).isEqualTo(HistoryRetentionCommand.class);
+    }
+
+    @Test
+    @DisplayName("should purge history completed before the retention cutoff")
+    void shouldPurgeExpiredHistory() {
+        // Given
+        var job = mock(Job.class);
+        var command = HistoryRetentionCommand.cron();
+        when(properties.retention()).thenReturn(Duration.ofDays(30));
+        when(historyPersistence.purge(any())).thenReturn(42);
+
+        // When
+        var result = handler.execute(job, command);
+
+        // Then
+        var cutoffCaptor = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(historyPersistence).purge(cutoffCaptor.capture());
+        assertThat(cutoffCaptor.getValue()).isCloseTo(LocalDateTime.now().minusDays(30), within(Duration.ofMinutes(1)));
+        assertThat(result).containsEntry(OUTPUT_KEY, 42);
+    }
+
+    @Test
+    @DisplayName("should run and complete the history retention job")
+    void shouldHandleJob() {
+        // Given
+        var command = HistoryRetentionCommand.manual();
+        var job = mock(Job.class);
+        when(job.toBuilder()).thenReturn(Job.builder());
+        when(jobPersistence.run(any())).thenReturn(job);
+        when(properties.retention()).thenReturn(Duration.ofDays(365));
+
+        // When
+        handler.handle(command);
+
+        // Then
+        verify(jobPersistence).run(argThat(j -> j.type().equals(JobType.HISTORY_RETENTION.toString())));
+        verify(jobPersistence).complete(any());
+    }
+
+    @Test
+    @DisplayName("should fail job when purge fails")
+    void shouldHandleException() {
+        // Given
+        var command = HistoryRetentionCommand.manual();
+        var job = mock(Job.class);
+        when(job.toBuilder()).thenReturn(Job.builder());
+        when(jobPersistence.run(any())).thenReturn(job);
+        when(properties.retention()).thenReturn(Duration.ofDays(365));
+        when(historyPersistence.purge(any())).thenThrow(new RuntimeException("Test error"));
+
+        // When
+        handler.handle(command);
+
+        // Then
+        verify(jobPersistence).fail(argThat(j -> "Test error".equals(j.failureReason())));
+    }
+
+}
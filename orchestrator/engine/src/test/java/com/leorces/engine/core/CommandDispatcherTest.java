@@ -6,7 +6,6 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.context.ApplicationEventPublisher;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.*;
@@ -14,9 +13,6 @@ import static org.mockito.Mockito.*;
 @ExtendWith(MockitoExtension.class)
 class CommandDispatcherTest {
 
-    @Mock
-    private ApplicationEventPublisher publisher;
-
     @Mock
     private ExecutionDispatcher executionDispatcher;
 
@@ -24,8 +20,8 @@ class CommandDispatcherTest {
     private CommandDispatcher commandDispatcher;
 
     @Test
-    @DisplayName("Should publish event on dispatch")
-    void shouldPublishEventOnDispatch() {
+    @DisplayName("Should call execution dispatcher on dispatch")
+    void shouldCallExecutionDispatcherOnDispatch() {
         // Given
         var command = mock(ExecutionCommand.class);
 
@@ -33,12 +29,12 @@ class CommandDispatcherTest {
         commandDispatcher.dispatch(command);
 
         // Then
-        verify(publisher).publishEvent(command);
+        verify(executionDispatcher).dispatch(command);
     }
 
     @Test
-    @DisplayName("Should publish wrapped event on dispatchAsync")
-    void shouldPublishWrappedEventOnDispatchAsync() {
+    @DisplayName("Should call execution dispatcher on dispatchAsync")
+    void shouldCallExecutionDispatcherOnDispatchAsync() {
         // Given
         var command = mock(ExecutionCommand.class);
 
@@ -46,7 +42,7 @@ class CommandDispatcherTest {
         commandDispatcher.dispatchAsync(command);
 
         // Then
-        verify(publisher).publishEvent(any(AsyncExecutionCommandWrapper.class));
+        verify(executionDispatcher).dispatchAsync(command);
     }
 
     @Test
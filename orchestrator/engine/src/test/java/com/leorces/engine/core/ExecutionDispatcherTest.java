@@ -1,21 +1,38 @@
 package com.leorces.engine.core;
 
+import com.leorces.api.exception.ExecutionException;
+import com.leorces.common.service.MetricService;
+import com.leorces.engine.service.TaskExecutorService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.beans.factory.ObjectProvider;
 
+import java.time.Duration;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertNull;
+import static com.leorces.engine.constants.MetricConstants.COMMAND_DURATION;
+import static com.leorces.engine.constants.MetricConstants.COMMAND_QUEUE_DEPTH;
+import static com.leorces.engine.constants.MetricConstants.COMMAND_TYPE;
+import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class ExecutionDispatcherTest {
 
+    @Mock
+    private TaskExecutorService taskExecutorService;
+
+    @Mock
+    private MetricService metricService;
+
     @Test
     @DisplayName("Should dispatch command without result")
     void shouldDispatchCommandWithoutResult() {
@@ -23,10 +40,10 @@ class ExecutionDispatcherTest {
         var command = new TestCommand();
         CommandHandler<TestCommand> handler = mock(CommandHandler.class);
         when(handler.getCommandType()).thenAnswer(invocation -> TestCommand.class);
-        var dispatcher = new ExecutionDispatcher(mockProvider(List.of(handler)));
+        var dispatcher = dispatcher(handler);
 
         // When
-        dispatcher.handle(command);
+        dispatcher.dispatch(command);
 
         // Then
         verify(handler).handle(command);
@@ -41,7 +58,7 @@ class ExecutionDispatcherTest {
         ResultCommandHandler<TestResultCommand, String> handler = mock(ResultCommandHandler.class);
         when(handler.getCommandType()).thenAnswer(invocation -> TestResultCommand.class);
         when(handler.execute(command)).thenReturn(result);
-        var dispatcher = new ExecutionDispatcher(mockProvider(List.of(handler)));
+        var dispatcher = dispatcher(handler);
 
         // When
         var actualResult = dispatcher.execute(command);
@@ -58,7 +75,7 @@ class ExecutionDispatcherTest {
         var command = new TestResultCommand();
         CommandHandler<TestResultCommand> handler = mock(CommandHandler.class);
         when(handler.getCommandType()).thenAnswer(invocation -> TestResultCommand.class);
-        var dispatcher = new ExecutionDispatcher(mockProvider(List.of(handler)));
+        var dispatcher = dispatcher(handler);
 
         // When
         var actualResult = dispatcher.execute(command);
@@ -68,6 +85,83 @@ class ExecutionDispatcherTest {
         verify(handler).handle(command);
     }
 
+    @Test
+    @DisplayName("Should submit async command to task executor")
+    void shouldSubmitAsyncCommandToTaskExecutor() {
+        // Given
+        var command = new TestCommand();
+        CommandHandler<TestCommand> handler = mock(CommandHandler.class);
+        when(handler.getCommandType()).thenAnswer(invocation -> TestCommand.class);
+        var dispatcher = dispatcher(handler);
+        var taskCaptor = ArgumentCaptor.forClass(Runnable.class);
+
+        // When
+        dispatcher.dispatchAsync(command);
+
+        // Then
+        verify(taskExecutorService).execute(taskCaptor.capture());
+        verify(handler, never()).handle(command);
+
+        taskCaptor.getValue().run();
+        verify(handler).handle(command);
+    }
+
+    @Test
+    @DisplayName("Should record command latency and queue depth metrics")
+    void shouldRecordCommandMetrics() {
+        // Given
+        var command = new TestCommand();
+        var labels = Map.of(COMMAND_TYPE, TestCommand.class.getSimpleName());
+        var timer = mock(MetricService.TimerRecorder.class);
+        when(metricService.timer(COMMAND_DURATION, labels)).thenReturn(timer);
+        var queueDepth = new AtomicReference<Supplier<Number>>();
+        doAnswer(invocation -> {
+            queueDepth.set(invocation.getArgument(2));
+            return null;
+        }).when(metricService).registerGauge(eq(COMMAND_QUEUE_DEPTH), eq(labels), any());
+        var queueDepthWhileRunning = new AtomicReference<Number>();
+        CommandHandler<TestCommand> handler = mock(CommandHandler.class);
+        when(handler.getCommandType()).thenAnswer(invocation -> TestCommand.class);
+        var dispatcher = dispatcher(metricService, handler);
+        doAnswer(invocation -> {
+            queueDepthWhileRunning.set(queueDepth.get().get());
+            ((Runnable) invocation.getArgument(0)).run();
+            return null;
+        }).when(taskExecutorService).execute(any(Runnable.class));
+
+        // When
+        dispatcher.dispatchAsync(command);
+        dispatcher.dispatchAsync(command);
+
+        // Then
+        verify(metricService).registerGauge(eq(COMMAND_QUEUE_DEPTH), eq(labels), any());
+        verify(metricService).timer(COMMAND_DURATION, labels);
+        verify(timer, times(2)).record(any(Duration.class));
+        assertEquals(1L, queueDepthWhileRunning.get());
+        assertEquals(0L, queueDepth.get().get());
+    }
+
+    @Test
+    @DisplayName("Should throw exception when no handler is registered")
+    void shouldThrowExceptionWhenNoHandlerIsRegistered() {
+        // Given
+        var dispatcher = dispatcher();
+
+        // When & Then
+        assertThrows(ExecutionException.class, () -> dispatcher.dispatch(new TestCommand()));
+    }
+
+    private ExecutionDispatcher dispatcher(CommandHandler<?>... handlers) {
+        return dispatcher(null, handlers);
+    }
+
+    @SuppressWarnings("unchecked")
+    private ExecutionDispatcher dispatcher(MetricService metrics, CommandHandler<?>... handlers) {
+        ObjectProvider<MetricService> metricServiceProvider = mock(ObjectProvider.class);
+        when(metricServiceProvider.getIfAvailable()).thenReturn(metrics);
+        return new ExecutionDispatcher(mockProvider(List.of(handlers)), metricServiceProvider, taskExecutorService);
+    }
+
     @SuppressWarnings("unchecked")
     private ObjectProvider<List<CommandHandler<?>>> mockProvider(List<CommandHandler<?>> handlers) {
         ObjectProvider<List<CommandHandler<?>>> provider = mock(ObjectProvider.class);
@@ -0,0 +1,151 @@
+package com.leorces.engine.correlation.handler;
+
+import com.leorces.api.exception.ExecutionException;
+import com.leorces.engine.activity.command.TriggerActivityCommand;
+import com.leorces.engine.configuration.properties.CorrelationProperties;
+import com.leorces.engine.core.CommandDispatcher;
+import com.leorces.engine.correlation.MessageSubscriptionService;
+import com.leorces.engine.correlation.command.CorrelateMessageCommand;
+import com.leorces.model.definition.ProcessDefinition;
+import com.leorces.model.definition.activity.event.boundary.MessageBoundaryEvent;
+import com.leorces.model.definition.activity.event.intermediate.MessageIntermediateCatchEvent;
+import com.leorces.model.runtime.message.MessageSubscription;
+import com.leorces.model.runtime.process.Process;
+import com.leorces.model.search.ProcessFilter;
+import com.leorces.persistence.ProcessPersistence;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CorrelateMessageCommandHandler Tests")
+class CorrelateMessageCommandHandlerTest {
+
+    private static final String PROCESS_ID = "process-1";
+    private static final String BUSINESS_KEY = "order-1";
+    private static final String MESSAGE_NAME = "paid";
+
+    @Mock
+    private ProcessPersistence processPersistence;
+
+    @Mock
+    private MessageSubscriptionService subscriptionService;
+
+    @Mock
+    private CommandDispatcher dispatcher;
+
+    private CorrelateMessageCommandHandler handler;
+
+    private MessageIntermediateCatchEvent catchEvent;
+    private MessageBoundaryEvent boundaryEvent;
+    private Process process;
+
+    @BeforeEach
+    void setUp() {
+        handler = new CorrelateMessageCommandHandler(processPersistence, subscriptionService, dispatcher, new CorrelationProperties(true));
+        catchEvent = MessageIntermediateCatchEvent.builder()
+                .id("catchEvent")
+                .messageReference(MESSAGE_NAME)
+                .build();
+        boundaryEvent = MessageBoundaryEvent.builder()
+                .id("boundaryEvent")
+                .attachedToRef("task")
+                .messageReference(MESSAGE_NAME)
+                .build();
+        var definition = ProcessDefinition.builder()
+                .id("definition-1")
+                .key("order")
+                .messages(List.of(MESSAGE_NAME))
+                .activities(List.of(catchEvent, boundaryEvent))
+                .build();
+        process = Process.builder()
+                .id(PROCESS_ID)
+                .businessKey(BUSINESS_KEY)
+                .definition(definition)
+                .build();
+    }
+
+    @Test
+    @DisplayName("Should trigger only the subscribed message events without searching processes")
+    void shouldTriggerSubscribedEvents() {
+        // Given
+        when(subscriptionService.find(eq(MESSAGE_NAME), eq(BUSINESS_KEY), any(), anyInt()))
+                .thenReturn(List.of(subscription(PROCESS_ID, catchEvent.id())));
+        when(processPersistence.findById(PROCESS_ID)).thenReturn(Optional.of(process));
+
+        // When
+        handler.handle(CorrelateMessageCommand.of(MESSAGE_NAME, BUSINESS_KEY));
+
+        // Then
+        var captor = ArgumentCaptor.forClass(TriggerActivityCommand.class);
+        verify(dispatcher).dispatchAsync(captor.capture());
+        assertThat(captor.getValue().definition()).isEqualTo(catchEvent);
+        verify(processPersistence, never()).findAll(any(ProcessFilter.class));
+    }
+
+    @Test
+    @DisplayName("Should reject a message subscribed by more than one process")
+    void shouldRejectSeveralSubscribedProcesses() {
+        // Given
+        when(subscriptionService.find(eq(MESSAGE_NAME), eq(BUSINESS_KEY), any(), anyInt()))
+                .thenReturn(List.of(subscription(PROCESS_ID, catchEvent.id()), subscription("process-2", catchEvent.id())));
+
+        // When & Then
+        assertThatThrownBy(() -> handler.handle(CorrelateMessageCommand.of(MESSAGE_NAME, BUSINESS_KEY)))
+                .isInstanceOf(ExecutionException.class);
+        verifyNoInteractions(dispatcher);
+    }
+
+    @Test
+    @DisplayName("Should search processes when no subscription waits for the message")
+    void shouldFallBackToProcessSearch() {
+        // Given
+        when(subscriptionService.find(eq(MESSAGE_NAME), eq(BUSINESS_KEY), any(), anyInt())).thenReturn(List.of());
+        when(processPersistence.findAll(any(ProcessFilter.class))).thenReturn(List.of(process));
+
+        // When
+        handler.handle(CorrelateMessageCommand.of(MESSAGE_NAME, BUSINESS_KEY, Map.of(), Map.of()));
+
+        // Then
+        verify(dispatcher, times(2)).dispatchAsync(any(TriggerActivityCommand.class));
+    }
+
+    @Test
+    @DisplayName("Should not search processes when the process scan fallback is disabled")
+    void shouldNotFallBackToProcessSearchWhenDisabled() {
+        // Given
+        var handlerWithoutFallback = new CorrelateMessageCommandHandler(processPersistence, subscriptionService, dispatcher, new CorrelationProperties(false));
+        when(subscriptionService.find(eq(MESSAGE_NAME), eq(BUSINESS_KEY), any(), anyInt())).thenReturn(List.of());
+
+        // When & Then
+        assertThatThrownBy(() -> handlerWithoutFallback.handle(CorrelateMessageCommand.of(MESSAGE_NAME, BUSINESS_KEY)))
+                .isInstanceOf(ExecutionException.class);
+        verify(processPersistence, never()).findAll(any(ProcessFilter.class));
+        verifyNoInteractions(dispatcher);
+    }
+
+    private MessageSubscription subscription(String processId, String definitionId) {
+        return MessageSubscription.builder()
+                .processId(processId)
+                .businessKey(BUSINESS_KEY)
+                .messageName(MESSAGE_NAME)
+                .definitionId(definitionId)
+                .activityDefinitionId(definitionId)
+                .build();
+    }
+
+}
@@ -0,0 +1,254 @@
+package com.leorces.engine.correlation.handler;
+
+import com.leorces.engine.activity.command.TriggerActivityCommand;
+import com.leorces.engine.configuration.properties.CorrelationProperties;
+import com.leorces.engine.core.CommandDispatcher;
+import com.leorces.engine.correlation.MessageSubscriptionService;
+import com.leorces.engine.correlation.command.CorrelateMessagesCommand;
+import com.leorces.engine.variables.command.SetVariablesCommand;
+import com.leorces.model.definition.ProcessDefinition;
+import com.leorces.model.definition.activity.event.intermediate.MessageIntermediateCatchEvent;
+import com.leorces.model.runtime.message.CorrelationRequest;
+import com.leorces.model.runtime.message.CorrelationResult;
+import com.leorces.model.runtime.message.CorrelationStatus;
+import com.leorces.model.runtime.message.MessageSubscription;
+import com.leorces.model.runtime.process.Process;
+import com.leorces.model.search.ProcessFilter;
+import com.leorces.persistence.ProcessPersistence;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CorrelateMessagesCommandHandler Tests")
+class CorrelateMessagesCommandHandlerTest {
+
+    private static final String PAID = "paid";
+    private static final String SHIPPED = "shipped";
+
+    @Mock
+    private ProcessPersistence processPersistence;
+
+    @Mock
+    private MessageSubscriptionService subscriptionService;
+
+    @Mock
+    private CommandDispatcher dispatcher;
+
+    private CorrelateMessagesCommandHandler handler;
+
+    private MessageIntermediateCatchEvent paidEvent;
+    private MessageIntermediateCatchEvent shippedEvent;
+    private ProcessDefinition definition;
+
+    @BeforeEach
+    void setUp() {
+        handler = new CorrelateMessagesCommandHandler(processPersistence, subscriptionService, dispatcher, new CorrelationProperties(true));
+        paidEvent = MessageIntermediateCatchEvent.builder()
+                .id("paidEvent")
+                .messageReference(PAID)
+                .build();
+        shippedEvent = MessageIntermediateCatchEvent.builder()
+                .id("shippedEvent")
+                .messageReference(SHIPPED)
+                .build();
+        definition = ProcessDefinition.builder()
+                .id("definition-1")
+                .key("order")
+                .messages(List.of(PAID, SHIPPED))
+                .activities(List.of(paidEvent, shippedEvent))
+                .build();
+    }
+
+    @Test
+    @DisplayName("Should resolve all messages with one lookup and write variables once per process")
+    void shouldCorrelateBatch() {
+        // Given
+        var process1 = process("process-1", "order-1");
+        var process2 = process("process-2", "order-2");
+        var requests = List.of(
+                CorrelationRequest.of(PAID, "order-1", Map.of("amount", 10, "currency", "EUR")),
+                CorrelationRequest.of(SHIPPED, "order-1", Map.of("amount", 20)),
+                CorrelationRequest.of(PAID, "order-2")
+        );
+        when(subscriptionService.find(requests, 100))
+                .thenReturn(List.of(
+                        List.of(subscription("process-1", "order-1", PAID, paidEvent.id())),
+                        List.of(subscription("process-1", "order-1", SHIPPED, shippedEvent.id())),
+                        List.of(subscription("process-2", "order-2", PAID, paidEvent.id()))
+                ));
+        when(processPersistence.findAllByIds(List.of("process-1", "process-2"))).thenReturn(List.of(process1, process2));
+
+        // When
+        var results = handler.execute(CorrelateMessagesCommand.of(requests));
+
+        // Then
+        assertThat(results).extracting(CorrelationResult::status).containsOnly(CorrelationStatus.CORRELATED);
+        assertThat(results).extracting(CorrelationResult::processId).containsExactly("process-1", "process-1", "process-2");
+
+        var variablesCaptor = ArgumentCaptor.forClass(SetVariablesCommand.class);
+        verify(dispatcher).dispatch(variablesCaptor.capture());
+        assertThat(variablesCaptor.getValue().process()).isEqualTo(process1);
+        assertThat(variablesCaptor.getValue().variables()).isEqualTo(Map.of("amount", 20, "currency", "EUR"));
+
+        var triggerCaptor = ArgumentCaptor.forClass(TriggerActivityCommand.class);
+        verify(dispatcher, times(3)).dispatchAsync(triggerCaptor.capture());
+        assertThat(triggerCaptor.getAllValues()).extracting(TriggerActivityCommand::definition)
+                .containsExactly(paidEvent, shippedEvent, paidEvent);
+        verify(subscriptionService, never()).find(any(String.class), any(), any(), anyInt());
+        verify(processPersistence, never()).findAll(any(ProcessFilter.class));
+    }
+
+    @Test
+    @DisplayName("Should report messages that match no process or more than one without failing the batch")
+    void shouldReportUncorrelatedMessages() {
+        // Given
+        var process1 = process("process-1", "order-1");
+        var requests = List.of(
+                CorrelationRequest.of(PAID, "order-1"),
+                CorrelationRequest.of(PAID, "order-2"),
+                CorrelationRequest.of(PAID, "order-3")
+        );
+        when(subscriptionService.find(anyList(), anyInt()))
+                .thenReturn(List.of(
+                        List.of(subscription("process-1", "order-1", PAID, paidEvent.id())),
+                        List.of(
+                                subscription("process-2", "order-2", PAID, paidEvent.id()),
+                                subscription("process-3", "order-2", PAID, paidEvent.id())
+                        ),
+                        List.of()
+                ));
+        when(processPersistence.findAll(any(ProcessFilter.class))).thenReturn(List.of());
+        when(processPersistence.findAllByIds(List.of("process-1"))).thenReturn(List.of(process1));
+
+        // When
+        var results = handler.execute(CorrelateMessagesCommand.of(requests));
+
+        // Then
+        assertThat(results).extracting(CorrelationResult::status)
+                .containsExactly(CorrelationStatus.CORRELATED, CorrelationStatus.AMBIGUOUS, CorrelationStatus.NOT_FOUND);
+        assertThat(results.get(1).error()).isNotBlank();
+        verify(dispatcher).dispatchAsync(any(TriggerActivityCommand.class));
+    }
+
+    @Test
+    @DisplayName("Should resolve messages with correlation keys in the same lookup as the rest of the batch")
+    void shouldCorrelateByCorrelationKeys() {
+        // Given
+        var process1 = process("process-1", "order-1");
+        var byKeys = CorrelationRequest.builder()
+                .messageName(SHIPPED)
+                .correlationKeys(Map.of("orderId", "1"))
+                .build();
+        var byBusinessKey = CorrelationRequest.of(PAID, "order-1");
+        var requests = List.of(byKeys, byBusinessKey);
+        when(subscriptionService.find(requests, 100)).thenReturn(List.of(
+                List.of(subscription("process-1", "order-1", SHIPPED, shippedEvent.id())),
+                List.of(subscription("process-1", "order-1", PAID, paidEvent.id()))
+        ));
+        when(processPersistence.findAllByIds(List.of("process-1"))).thenReturn(List.of(process1));
+
+        // When
+        var results = handler.execute(CorrelateMessagesCommand.of(requests));
+
+        // Then
+        assertThat(results).containsExactly(
+                CorrelationResult.correlated(byKeys, "process-1"),
+                CorrelationResult.correlated(byBusinessKey, "process-1")
+        );
+        var triggerCaptor = ArgumentCaptor.forClass(TriggerActivityCommand.class);
+        verify(dispatcher, times(2)).dispatchAsync(triggerCaptor.capture());
+        assertThat(triggerCaptor.getAllValues()).extracting(TriggerActivityCommand::definition)
+                .containsExactly(shippedEvent, paidEvent);
+        verify(subscriptionService, never()).find(any(String.class), any(), any(), anyInt());
+        verify(processPersistence, never()).findAll(any(ProcessFilter.class));
+    }
+
+    @Test
+    @DisplayName("Should search processes for messages with correlation keys that match no subscription")
+    void shouldFallBackToProcessSearchForCorrelationKeys() {
+        // Given
+        var process1 = process("process-1", "order-1");
+        var request = CorrelationRequest.builder()
+                .messageName(SHIPPED)
+                .correlationKeys(Map.of("orderId", "1"))
+                .build();
+        when(subscriptionService.find(List.of(request), 100)).thenReturn(List.of(List.of()));
+        when(processPersistence.findAll(any(ProcessFilter.class))).thenReturn(List.of(process1));
+
+        // When
+        var results = handler.execute(CorrelateMessagesCommand.of(List.of(request)));
+
+        // Then
+        assertThat(results).containsExactly(CorrelationResult.correlated(request, "process-1"));
+        var triggerCaptor = ArgumentCaptor.forClass(TriggerActivityCommand.class);
+        verify(dispatcher).dispatchAsync(triggerCaptor.capture());
+        assertThat(triggerCaptor.getValue().definition()).isEqualTo(shippedEvent);
+        verify(processPersistence, never()).findAllByIds(anyList());
+    }
+
+    @Test
+    @DisplayName("Should report messages without subscriptions as not found when the process scan fallback is disabled")
+    void shouldNotFallBackToProcessSearchWhenDisabled() {
+        // Given
+        var handlerWithoutFallback = new CorrelateMessagesCommandHandler(processPersistence, subscriptionService, dispatcher, new CorrelationProperties(false));
+        var request = CorrelationRequest.of(PAID, "order-1");
+        when(subscriptionService.find(anyList(), anyInt())).thenReturn(List.of(List.of()));
+
+        // When
+        var results = handlerWithoutFallback.execute(CorrelateMessagesCommand.of(List.of(request)));
+
+        // Then
+        assertThat(results).extracting(CorrelationResult::status).containsExactly(CorrelationStatus.NOT_FOUND);
+        verify(processPersistence, never()).findAll(any(ProcessFilter.class));
+        verifyNoInteractions(dispatcher);
+    }
+
+    @Test
+    @DisplayName("Should fail messages without a name and correlate the rest of the batch")
+    void shouldFailMessagesWithoutName() {
+        // Given
+        var unnamed = CorrelationRequest.of(null, "order-1");
+        var request = CorrelationRequest.of(PAID, "order-2");
+        when(subscriptionService.find(List.of(request), 100)).thenReturn(List.of(List.of()));
+
+        // When
+        var results = handler.execute(CorrelateMessagesCommand.of(List.of(unnamed, request)));
+
+        // Then
+        assertThat(results).extracting(CorrelationResult::status)
+                .containsExactly(CorrelationStatus.FAILED, CorrelationStatus.NOT_FOUND);
+        verify(subscriptionService).find(List.of(request), 100);
+    }
+
+    private Process process(String id, String businessKey) {
+        return Process.builder()
+                .id(id)
+                .businessKey(businessKey)
+                .definition(definition)
+                .build();
+    }
+
+    private MessageSubscription subscription(String processId, String businessKey, String messageName, String definitionId) {
+        return MessageSubscription.builder()
+                .processId(processId)
+                .businessKey(businessKey)
+                .messageName(messageName)
+                .definitionId(definitionId)
+                .activityDefinitionId(definitionId)
+                .build();
+    }
+
+}
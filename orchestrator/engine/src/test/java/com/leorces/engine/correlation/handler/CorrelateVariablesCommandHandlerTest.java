@@ -0,0 +1,136 @@
+package com.leorces.engine.correlation.handler;
+
+import com.leorces.common.mapper.VariablesMapper;
+import com.leorces.engine.activity.command.TriggerActivityCommand;
+import com.leorces.engine.core.CommandDispatcher;
+import com.leorces.engine.correlation.command.CorrelateVariablesCommand;
+import com.leorces.juel.ExpressionEvaluator;
+import com.leorces.model.definition.ProcessDefinition;
+import com.leorces.model.definition.activity.event.boundary.ConditionalBoundaryEvent;
+import com.leorces.model.definition.activity.event.intermediate.IntermediateCatchEvent;
+import com.leorces.model.runtime.process.Process;
+import com.leorces.model.runtime.variable.Variable;
+import com.leorces.persistence.VariablePersistence;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CorrelateVariablesCommandHandler Tests")
+class CorrelateVariablesCommandHandlerTest {
+
+    private static final String PROCESS_ID = "process-1";
+    private static final String DEFINITION_ID = "correlate-variables-def";
+    private static final String AMOUNT_CONDITION = "${amount > 100}";
+    private static final String STATUS_CONDITION = "${status == 'approved'}";
+
+    @Mock
+    private VariablesMapper variablesMapper;
+
+    @Mock
+    private ExpressionEvaluator expressionEvaluator;
+
+    @Mock
+    private CommandDispatcher dispatcher;
+
+    @Mock
+    private VariablePersistence variablePersistence;
+
+    @InjectMocks
+    private CorrelateVariablesCommandHandler handler;
+
+    private IntermediateCatchEvent amountEvent;
+    private ConditionalBoundaryEvent statusBoundary;
+    private Process process;
+
+    @BeforeEach
+    void setUp() {
+        amountEvent = IntermediateCatchEvent.builder()
+                .id("amountEvent")
+                .condition(AMOUNT_CONDITION)
+                .build();
+        statusBoundary = ConditionalBoundaryEvent.builder()
+                .id("statusBoundary")
+                .condition(STATUS_CONDITION)
+                .build();
+        var definition = ProcessDefinition.builder()
+                .id(DEFINITION_ID)
+                .key("correlate-variables")
+                .activities(List.of(amountEvent, statusBoundary))
+                .build();
+        process = Process.builder()
+                .id(PROCESS_ID)
+                .definition(definition)
+                .build();
+    }
+
+    @Test
+    @DisplayName("Should evaluate only conditions referencing the changed variables")
+    void shouldEvaluateOnlyAffectedConditions() {
+        // Given
+        var amount = variable("amount", "150");
+        var variablesMap = Map.<String, Object>of("amount", 150);
+        when(variablePersistence.findInProcess(PROCESS_ID)).thenReturn(List.of(amount, variable("status", "new")));
+        when(variablesMapper.toMap(anyList())).thenReturn(variablesMap);
+        when(expressionEvaluator.evaluateBoolean(AMOUNT_CONDITION, variablesMap)).thenReturn(true);
+
+        // When
+        handler.handle(CorrelateVariablesCommand.of(process, List.of(amount)));
+
+        // Then
+        var captor = ArgumentCaptor.forClass(TriggerActivityCommand.class);
+        verify(dispatcher).dispatch(captor.capture());
+        assertThat(captor.getValue().definition()).isEqualTo(amountEvent);
+        verify(expressionEvaluator, never()).evaluateBoolean(eq(STATUS_CONDITION), any());
+    }
+
+    @Test
+    @DisplayName("Should not load variables when no condition references the changed variables")
+    void shouldSkipReloadWhenNoConditionIsAffected() {
+        // When
+        handler.handle(CorrelateVariablesCommand.of(process, List.of(variable("comment", "hello"))));
+
+        // Then
+        verifyNoInteractions(variablePersistence, expressionEvaluator, dispatcher);
+    }
+
+    @Test
+    @DisplayName("Should evaluate every condition when the changed variables are unknown")
+    void shouldEvaluateAllConditionsWhenChangedVariablesUnknown() {
+        // Given
+        when(variablePersistence.findInProcess(PROCESS_ID)).thenReturn(List.of(variable("status", "approved")));
+        when(variablesMapper.toMap(anyList())).thenReturn(Map.of("status", "approved"));
+        when(expressionEvaluator.evaluateBoolean(anyString(), anyMap())).thenReturn(false);
+
+        // When
+        handler.handle(CorrelateVariablesCommand.of(process, null));
+
+        // Then
+        verify(expressionEvaluator).evaluateBoolean(eq(AMOUNT_CONDITION), anyMap());
+        verify(expressionEvaluator).evaluateBoolean(eq(STATUS_CONDITION), anyMap());
+        verifyNoInteractions(dispatcher);
+    }
+
+    private Variable variable(String key, String value) {
+        return Variable.builder()
+                .processId(PROCESS_ID)
+                .executionId(PROCESS_ID)
+                .executionDefinitionId(DEFINITION_ID)
+                .varKey(key)
+                .varValue(value)
+                .build();
+    }
+
+}
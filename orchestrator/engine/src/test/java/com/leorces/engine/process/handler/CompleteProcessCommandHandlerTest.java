@@ -3,6 +3,7 @@ package com.leorces.engine.process.handler;
 import com.leorces.api.exception.ExecutionException;
 import com.leorces.engine.activity.command.CompleteActivityCommand;
 import com.leorces.engine.core.CommandDispatcher;
+import com.leorces.engine.correlation.MessageSubscriptionService;
 import com.leorces.engine.process.command.CompleteProcessCommand;
 import com.leorces.engine.process.command.RecordProcessMetricCommand;
 import com.leorces.model.runtime.process.Process;
@@ -39,6 +40,9 @@ class CompleteProcessCommandHandlerTest {
     @Mock
     private CommandDispatcher dispatcher;
 
+    @Mock
+    private MessageSubscriptionService subscriptionService;
+
     @InjectMocks
     private CompleteProcessCommandHandler handler;
 
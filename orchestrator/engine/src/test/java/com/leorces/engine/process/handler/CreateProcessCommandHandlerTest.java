@@ -3,16 +3,17 @@ package com.leorces.engine.process.handler;
 import com.leorces.api.exception.ExecutionException;
 import com.leorces.common.mapper.VariablesMapper;
 import com.leorces.engine.core.CommandDispatcher;
+import com.leorces.engine.process.ProcessFactory;
 import com.leorces.engine.process.command.CreateProcessByCallActivityCommand;
 import com.leorces.engine.process.command.CreateProcessCommand;
 import com.leorces.model.definition.ProcessDefinition;
 import com.leorces.model.runtime.activity.ActivityExecution;
 import com.leorces.model.runtime.process.Process;
 import com.leorces.persistence.DefinitionPersistence;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -40,9 +41,13 @@ class CreateProcessCommandHandlerTest {
     @Mock
     private CommandDispatcher dispatcher;
 
-    @InjectMocks
     private CreateProcessCommandHandler handler;
 
+    @BeforeEach
+    void setUp() {
+        handler = new CreateProcessCommandHandler(new ProcessFactory(variablesMapper, definitionPersistence), dispatcher);
+    }
+
     @Test
     @DisplayName("Should delegate to CreateProcessByCallActivityCommand when callActivity is present")
     void executeWithCallActivity() {
@@ -120,6 +125,16 @@ class CreateProcessCommandHandlerTest {
         assertThrows(ExecutionException.class, () -> handler.execute(command));
     }
 
+    @Test
+    @DisplayName("Should throw exception when neither definitionId nor definitionKey is provided")
+    void executeWithoutDefinition() {
+        // Given
+        var command = CreateProcessCommand.byDefinitionKey(null, BUSINESS_KEY, Map.of());
+
+        // When & Then
+        assertThrows(ExecutionException.class, () -> handler.execute(command));
+    }
+
     private void assertProcess(Process result, ProcessDefinition definition) {
         assertNotNull(result);
         assertEquals(definition, result.definition());
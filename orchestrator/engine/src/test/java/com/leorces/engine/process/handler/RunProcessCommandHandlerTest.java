@@ -1,6 +1,8 @@
 package com.leorces.engine.process.handler;
 
+import com.leorces.engine.activity.GatewayJoinService;
 import com.leorces.engine.core.CommandDispatcher;
+import com.leorces.engine.correlation.MessageSubscriptionService;
 import com.leorces.engine.process.command.CreateProcessCommand;
 import com.leorces.engine.process.command.RecordProcessMetricCommand;
 import com.leorces.engine.process.command.RunProcessCommand;
@@ -43,6 +45,12 @@ class RunProcessCommandHandlerTest {
     @Mock
     private CommandDispatcher dispatcher;
 
+    @Mock
+    private MessageSubscriptionService subscriptionService;
+
+    @Mock
+    private GatewayJoinService gatewayJoinService;
+
     @InjectMocks
     private RunProcessCommandHandler handler;
 
@@ -0,0 +1,248 @@
+package com.leorces.engine.process.handler;
+
+import com.leorces.api.exception.ExecutionException;
+import com.leorces.common.mapper.VariablesMapper;
+import com.leorces.engine.activity.GatewayJoinService;
+import com.leorces.engine.activity.command.RunActivityCommand;
+import com.leorces.engine.core.CommandDispatcher;
+import com.leorces.engine.correlation.MessageSubscriptionService;
+import com.leorces.engine.process.ProcessFactory;
+import com.leorces.engine.process.command.RecordProcessMetricCommand;
+import com.leorces.engine.process.command.RunProcessesCommand;
+import com.leorces.model.definition.ProcessDefinition;
+import com.leorces.model.definition.activity.ActivityDefinition;
+import com.leorces.model.definition.activity.ActivityType;
+import com.leorces.model.runtime.process.Process;
+import com.leorces.model.runtime.process.StartProcessRequest;
+import com.leorces.persistence.DefinitionPersistence;
+import com.leorces.persistence.ProcessPersistence;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static com.leorces.engine.constants.MetricConstants.PROCESS_STARTED;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("RunProcessesCommandHandler Tests")
+class RunProcessesCommandHandlerTest {
+
+    private static final String DEFINITION_ID = "definition-1";
+    private static final String DEFINITION_KEY = "def-key";
+    private static final Map<String, Object> VARIABLES = Map.of("key", "value");
+
+    @Mock
+    private VariablesMapper variablesMapper;
+
+    @Mock
+    private DefinitionPersistence definitionPersistence;
+
+    @Mock
+    private ProcessPersistence processPersistence;
+
+    @Mock
+    private CommandDispatcher dispatcher;
+
+    @Mock
+    private MessageSubscriptionService subscriptionService;
+
+    @Mock
+    private GatewayJoinService gatewayJoinService;
+
+    private RunProcessesCommandHandler handler;
+
+    private ProcessDefinition definition;
+    private ActivityDefinition startActivity;
+
+    @BeforeEach
+    void setUp() {
+        handler = new RunProcessesCommandHandler(
+                new ProcessFactory(variablesMapper, definitionPersistence),
+                processPersistence,
+                dispatcher,
+                subscriptionService,
+                gatewayJoinService
+        );
+        startActivity = mock(ActivityDefinition.class);
+        when(startActivity.id()).thenReturn("start");
+        when(startActivity.type()).thenReturn(ActivityType.START_EVENT);
+        when(startActivity.parentId()).thenReturn(null);
+        definition = ProcessDefinition.builder()
+                .id(DEFINITION_ID)
+                .key(DEFINITION_KEY)
+                .name("Test Definition")
+                .version(1)
+                .activities(List.of(startActivity))
+                .build();
+
+        when(definitionPersistence.findById(DEFINITION_ID)).thenReturn(Optional.of(definition));
+        when(definitionPersistence.findLatestByKey(DEFINITION_KEY)).thenReturn(Optional.of(definition));
+        when(variablesMapper.map(any())).thenReturn(List.of());
+        when(processPersistence.runAll(anyList())).thenAnswer(invocation -> {
+            List<Process> processes = invocation.getArgument(0);
+            return processes.stream()
+                    .map(process -> process.toBuilder().id("process-" + process.businessKey()).build())
+                    .toList();
+        });
+    }
+
+    @Test
+    @DisplayName("Should return correct command type")
+    void shouldReturnCorrectCommandType() {
+        assertThat(handler.getCommandType()).isEqualTo(RunProcessesCommand.class);
+    }
+
+    @Test
+    @DisplayName("Should run all processes with one persistence call and resolve each definition once")
+    void shouldRunAllProcessesAtOnce() {
+        // Given
+        var command = RunProcessesCommand.of(List.of(
+                StartProcessRequest.byId(DEFINITION_ID, "1", VARIABLES),
+                StartProcessRequest.byKey(DEFINITION_KEY, "2", VARIABLES),
+                StartProcessRequest.byKey(DEFINITION_KEY, "3", null)
+        ));
+
+        // When
+        var result = handler.execute(command);
+
+        // Then
+        assertThat(result).extracting(Process::id).containsExactly("process-1", "process-2", "process-3");
+        verify(definitionPersistence, times(1)).findById(DEFINITION_ID);
+        verify(definitionPersistence, times(1)).findLatestByKey(DEFINITION_KEY);
+
+        var captor = ArgumentCaptor.forClass(List.class);
+        verify(processPersistence, times(1)).runAll(captor.capture());
+        assertThat(captor.getValue()).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("Should dispatch start activities asynchronously")
+    void shouldDispatchStartActivitiesAsynchronously() {
+        // Given
+        var command = RunProcessesCommand.of(List.of(
+                StartProcessRequest.byId(DEFINITION_ID, "1", VARIABLES),
+                StartProcessRequest.byId(DEFINITION_ID, "2", VARIABLES)
+        ));
+
+        // When
+        var result = handler.execute(command);
+
+        // Then
+        for (var process : result) {
+            verify(dispatcher).dispatchAsync(RecordProcessMetricCommand.of(PROCESS_STARTED, process));
+            verify(dispatcher).dispatchAsync(RunActivityCommand.of(process, startActivity));
+        }
+        verify(dispatcher, never()).dispatch(any());
+    }
+
+    @Test
+    @DisplayName("Should run given processes without resolving definitions")
+    void shouldRunGivenProcesses() {
+        // Given
+        var command = RunProcessesCommand.byCallActivity(List.of(
+                Process.builder().id("call-1").businessKey("1").definition(definition).build(),
+                Process.builder().id("call-2").businessKey("2").definition(definition).build()
+        ));
+
+        // When
+        var result = handler.execute(command);
+
+        // Then
+        assertThat(result).hasSize(2);
+        verify(processPersistence, times(1)).runAll(command.processes());
+        verifyNoInteractions(definitionPersistence, variablesMapper);
+        verify(gatewayJoinService).createJoins(result);
+    }
+
+    @Test
+    @DisplayName("Should run start activities of called processes synchronously in instance order")
+    void shouldRunStartActivitiesOfCalledProcessesSynchronously() {
+        // Given
+        var command = RunProcessesCommand.byCallActivity(List.of(
+                Process.builder().id("call-1").businessKey("1").definition(definition).build(),
+                Process.builder().id("call-2").businessKey("2").definition(definition).build()
+        ));
+
+        // When
+        var result = handler.execute(command);
+
+        // Then
+        var inOrder = inOrder(dispatcher);
+        inOrder.verify(dispatcher).dispatch(RunActivityCommand.of(result.get(0), startActivity));
+        inOrder.verify(dispatcher).dispatch(RunActivityCommand.of(result.get(1), startActivity));
+        verify(dispatcher, never()).dispatchAsync(any(RunActivityCommand.class));
+    }
+
+    @Test
+    @DisplayName("Should not start remaining called processes when a start activity fails")
+    void shouldStopStartingCalledProcessesWhenStartActivityFails() {
+        // Given
+        var command = RunProcessesCommand.byCallActivity(List.of(
+                Process.builder().id("call-1").businessKey("1").definition(definition).build(),
+                Process.builder().id("call-2").businessKey("2").definition(definition).build()
+        ));
+        doThrow(ExecutionException.of("Can't run activity"))
+                .when(dispatcher).dispatch(argThat(cmd -> cmd instanceof RunActivityCommand run && run.process().id().equals("process-1")));
+
+        // When & Then
+        assertThatThrownBy(() -> handler.execute(command))
+                .isInstanceOf(ExecutionException.class);
+        verify(dispatcher, times(1)).dispatch(any(RunActivityCommand.class));
+    }
+
+    @Test
+    @DisplayName("Should return empty list for empty requests")
+    void shouldReturnEmptyListForEmptyRequests() {
+        // When
+        var result = handler.execute(RunProcessesCommand.of(List.of()));
+
+        // Then
+        assertThat(result).isEmpty();
+        verifyNoInteractions(processPersistence, dispatcher);
+    }
+
+    @Test
+    @DisplayName("Should not run any process when a definition is missing")
+    void shouldNotRunAnyProcessWhenDefinitionMissing() {
+        // Given
+        when(definitionPersistence.findById("missing")).thenReturn(Optional.empty());
+        var command = RunProcessesCommand.of(List.of(
+                StartProcessRequest.byId(DEFINITION_ID, "1", VARIABLES),
+                StartProcessRequest.byId("missing", "2", VARIABLES)
+        ));
+
+        // When & Then
+        assertThatThrownBy(() -> handler.execute(command))
+                .isInstanceOf(ExecutionException.class);
+        verifyNoInteractions(processPersistence, dispatcher);
+    }
+
+    @Test
+    @DisplayName("Should throw when request has neither definition id nor key")
+    void shouldThrowWhenRequestHasNoDefinition() {
+        // Given
+        var command = RunProcessesCommand.of(List.of(StartProcessRequest.builder().businessKey("1").build()));
+
+        // When & Then
+        assertThatThrownBy(() -> handler.execute(command))
+                .isInstanceOf(ExecutionException.class)
+                .hasMessageContaining("Can't find definition");
+        verifyNoInteractions(processPersistence);
+    }
+
+}
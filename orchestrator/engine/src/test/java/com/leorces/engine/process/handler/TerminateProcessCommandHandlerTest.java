@@ -1,6 +1,7 @@
 package com.leorces.engine.process.handler;
 
 import com.leorces.engine.core.CommandDispatcher;
+import com.leorces.engine.correlation.MessageSubscriptionService;
 import com.leorces.engine.process.command.RecordProcessMetricCommand;
 import com.leorces.engine.process.command.TerminateProcessCommand;
 import com.leorces.model.runtime.process.Process;
@@ -37,6 +38,9 @@ class TerminateProcessCommandHandlerTest {
     @Mock
     private CommandDispatcher dispatcher;
 
+    @Mock
+    private MessageSubscriptionService subscriptionService;
+
     @InjectMocks
     private TerminateProcessCommandHandler handler;
 
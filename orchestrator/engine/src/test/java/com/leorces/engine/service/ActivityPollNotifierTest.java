@@ -0,0 +1,139 @@
+package com.leorces.engine.service;
+
+import com.leorces.model.runtime.activity.ActivityPollRequest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ActivityPollNotifier Tests")
+class ActivityPollNotifierTest {
+
+    private static final String PROCESS_DEFINITION_KEY = "order-process";
+    private static final String TOPIC = "send-email";
+
+    private final ActivityPollNotifier notifier = new ActivityPollNotifier();
+
+    @Test
+    @DisplayName("awaitAny should time out when no signal arrives")
+    void awaitAnyTimesOutWithoutSignal() throws Exception {
+        // Given
+        var versions = versions(TOPIC);
+
+        // When
+        var waiter = notifier.awaitAny(versions, Duration.ofMillis(50));
+
+        // Then
+        assertThat(waiter.get(5, TimeUnit.SECONDS)).isFalse();
+    }
+
+    @Test
+    @DisplayName("awaitAny should complete at once when a signal arrived after versions were read")
+    void awaitAnyCompletesWhenSignalAlreadyArrived() {
+        // Given
+        var versions = versions(TOPIC);
+        notifier.signal(PROCESS_DEFINITION_KEY, TOPIC);
+
+        // When
+        var waiter = notifier.awaitAny(versions, Duration.ofSeconds(10));
+
+        // Then
+        assertThat(waiter).isCompletedWithValue(true);
+    }
+
+    @Test
+    @DisplayName("onScheduled should complete waiting pollers")
+    void onScheduledCompletesWaiters() {
+        // Given
+        var waiter = notifier.awaitAny(versions(TOPIC), Duration.ofSeconds(10));
+
+        // When
+        notifier.onScheduled(PROCESS_DEFINITION_KEY, TOPIC);
+
+        // Then
+        assertThat(waiter).isCompletedWithValue(true);
+    }
+
+    @Test
+    @DisplayName("signal should not affect other topics")
+    void signalIsScopedToTopic() {
+        // Given
+        var waiter = notifier.awaitAny(versions(TOPIC), Duration.ofSeconds(10));
+
+        // When
+        notifier.signal(PROCESS_DEFINITION_KEY, "other-topic");
+
+        // Then
+        assertThat(waiter).isNotDone();
+        waiter.cancel(false);
+    }
+
+    @Test
+    @DisplayName("awaitAny should be completed by a signal of any polled topic")
+    void awaitAnyCompletedBySignalOfAnyTopic() {
+        // Given
+        var waiter = notifier.awaitAny(versions(TOPIC, "other-topic"), Duration.ofSeconds(10));
+
+        // When
+        notifier.onScheduled(PROCESS_DEFINITION_KEY, "other-topic");
+
+        // Then
+        assertThat(waiter).isCompletedWithValue(true);
+    }
+
+    @Test
+    @DisplayName("awaitAny should stop tracking topics when it times out")
+    void awaitAnyDropsTopicsOnTimeout() throws Exception {
+        // Given
+        var versions = versions(TOPIC, "other-topic");
+
+        // When
+        notifier.awaitAny(versions, Duration.ofMillis(10)).get(5, TimeUnit.SECONDS);
+
+        // Then
+        assertThat(notifier.trackedTopics()).isZero();
+    }
+
+    @Test
+    @DisplayName("awaitAny should not track topics when a signal arrived before the topics were tracked")
+    void awaitAnyCompletesWhenSignalArrivedBeforeTracking() {
+        // Given
+        var versions = versions(TOPIC);
+        notifier.signal(PROCESS_DEFINITION_KEY, TOPIC);
+
+        // When
+        var waiter = notifier.awaitAny(versions, Duration.ofSeconds(10));
+
+        // Then
+        assertThat(waiter).isCompletedWithValue(true);
+        assertThat(notifier.trackedTopics()).isZero();
+    }
+
+    @Test
+    @DisplayName("waiting topic should stay tracked until its waiter completes")
+    void waitingTopicStaysTracked() {
+        // Given
+        var waiter = notifier.awaitAny(versions(TOPIC), Duration.ofSeconds(10));
+
+        // When
+        var trackedWhileWaiting = notifier.trackedTopics();
+        notifier.signal(PROCESS_DEFINITION_KEY, TOPIC);
+
+        // Then
+        assertThat(trackedWhileWaiting).isEqualTo(1);
+        assertThat(waiter).isCompletedWithValue(true);
+        assertThat(notifier.trackedTopics()).isZero();
+    }
+
+    private Map<String, Long> versions(String... topics) {
+        return notifier.versions(Arrays.stream(topics)
+                .map(topic -> ActivityPollRequest.of(topic, PROCESS_DEFINITION_KEY, 1))
+                .toList());
+    }
+
+}
@@ -0,0 +1,173 @@
+package com.leorces.engine.timer;
+
+import com.leorces.api.exception.ExecutionException;
+import com.leorces.juel.ExpressionEvaluator;
+import com.leorces.model.definition.activity.event.boundary.TimerBoundaryEvent;
+import com.leorces.model.runtime.timer.Timer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TimerDueDateResolver Tests")
+class TimerDueDateResolverTest {
+
+    private static final Map<String, Object> VARIABLES = Map.of("delay", "PT5M");
+
+    @Mock
+    private ExpressionEvaluator expressionEvaluator;
+
+    @InjectMocks
+    private TimerDueDateResolver resolver;
+
+    @Test
+    @DisplayName("Should resolve ISO duration")
+    void shouldResolveIsoDuration() {
+        // Given
+        when(expressionEvaluator.isExpression(anyString())).thenReturn(false);
+        var definition = TimerBoundaryEvent.builder().id("timer").timeDuration("P1DT2H").build();
+
+        // When
+        var timer = resolver.resolve(definition, Map::of);
+
+        // Then
+        assertThat(timer.dueAt()).isCloseTo(LocalDateTime.now().plusDays(1).plusHours(2), within(5, ChronoUnit.SECONDS));
+        assertThat(timer.cycle()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should resolve relative duration")
+    void shouldResolveRelativeDuration() {
+        // Given
+        when(expressionEvaluator.isExpression(anyString())).thenReturn(false);
+        var definition = TimerBoundaryEvent.builder().id("timer").timeDuration("1h 30m").build();
+
+        // When
+        var timer = resolver.resolve(definition, Map::of);
+
+        // Then
+        assertThat(timer.dueAt()).isCloseTo(LocalDateTime.now().plusMinutes(90), within(5, ChronoUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("Should resolve duration expression against scoped variables")
+    void shouldResolveDurationExpression() {
+        // Given
+        when(expressionEvaluator.isExpression("${delay}")).thenReturn(true);
+        when(expressionEvaluator.evaluateString("${delay}", VARIABLES)).thenReturn("PT5M");
+        var definition = TimerBoundaryEvent.builder().id("timer").timeDuration("${delay}").build();
+
+        // When
+        var timer = resolver.resolve(definition, () -> VARIABLES);
+
+        // Then
+        assertThat(timer.dueAt()).isCloseTo(LocalDateTime.now().plusMinutes(5), within(5, ChronoUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("Should resolve date")
+    void shouldResolveDate() {
+        // Given
+        when(expressionEvaluator.isExpression(anyString())).thenReturn(false);
+        var definition = TimerBoundaryEvent.builder().id("timer").timeDate("2030-01-01T10:00:00").build();
+
+        // When
+        var timer = resolver.resolve(definition, Map::of);
+
+        // Then
+        assertThat(timer.dueAt()).isEqualTo(LocalDateTime.of(2030, 1, 1, 10, 0));
+    }
+
+    @Test
+    @DisplayName("Should count down bounded cycle repetitions")
+    void shouldCountDownBoundedCycle() {
+        // Given
+        when(expressionEvaluator.isExpression(anyString())).thenReturn(false);
+        var definition = TimerBoundaryEvent.builder().id("timer").timeCycle("R3/PT10S").build();
+
+        // When
+        var first = resolver.resolve(definition, Map::of);
+        var second = resolver.next(first).orElseThrow();
+        var third = resolver.next(second).orElseThrow();
+
+        // Then
+        assertThat(first.cycle()).isEqualTo("R2/PT10S");
+        assertThat(second.cycle()).isEqualTo("R1/PT10S");
+        assertThat(second.dueAt()).isEqualTo(first.dueAt().plusSeconds(10));
+        assertThat(third.cycle()).isNull();
+        assertThat(resolver.next(third)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should keep unbounded cycle")
+    void shouldKeepUnboundedCycle() {
+        // Given
+        when(expressionEvaluator.isExpression(anyString())).thenReturn(false);
+        var definition = TimerBoundaryEvent.builder().id("timer").timeCycle("R/2030-01-01T10:00:00/PT1H").build();
+
+        // When
+        var first = resolver.resolve(definition, Map::of);
+        var second = resolver.next(first).orElseThrow();
+
+        // Then
+        assertThat(first.dueAt()).isEqualTo(LocalDateTime.of(2030, 1, 1, 10, 0));
+        assertThat(first.cycle()).isEqualTo("R/PT1H");
+        assertThat(second.dueAt()).isEqualTo(LocalDateTime.of(2030, 1, 1, 11, 0));
+        assertThat(second.cycle()).isEqualTo("R/PT1H");
+    }
+
+    @Test
+    @DisplayName("Should not catch up on missed repetitions")
+    void shouldNotCatchUpOnMissedRepetitions() {
+        // Given
+        var timer = Timer.builder()
+                .dueAt(LocalDateTime.now().minusHours(5))
+                .cycle("R/PT1H")
+                .build();
+
+        // When
+        var next = resolver.next(timer).orElseThrow();
+
+        // Then
+        assertThat(next.dueAt()).isCloseTo(LocalDateTime.now().plusHours(1), within(5, ChronoUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("Should throw ExecutionException for invalid cycle")
+    void shouldThrowForInvalidCycle() {
+        // Given
+        when(expressionEvaluator.isExpression(anyString())).thenReturn(false);
+        var definition = TimerBoundaryEvent.builder().id("timer").timeCycle("0 0 * * * ?").build();
+
+        // When & Then
+        assertThatThrownBy(() -> resolver.resolve(definition, Map::of))
+                .isInstanceOf(ExecutionException.class)
+                .hasMessageContaining("Invalid timer cycle");
+    }
+
+    @Test
+    @DisplayName("Should throw ExecutionException for empty definition")
+    void shouldThrowForEmptyDefinition() {
+        // Given
+        var definition = TimerBoundaryEvent.builder().id("timer").build();
+
+        // When & Then
+        assertThatThrownBy(() -> resolver.resolve(definition, Map::of))
+                .isInstanceOf(ExecutionException.class)
+                .hasMessageContaining("Timer definition is empty");
+    }
+
+}
@@ -0,0 +1,162 @@
+package com.leorces.engine.timer;
+
+import com.leorces.engine.configuration.properties.TimerProperties;
+import com.leorces.engine.core.CommandDispatcher;
+import com.leorces.model.definition.ProcessDefinition;
+import com.leorces.model.definition.activity.event.boundary.TimerBoundaryEvent;
+import com.leorces.model.definition.activity.subprocess.CallActivity;
+import com.leorces.model.definition.attribute.MultiInstanceLoopCharacteristics;
+import com.leorces.model.runtime.activity.ActivityExecution;
+import com.leorces.model.runtime.process.Process;
+import com.leorces.model.runtime.timer.Timer;
+import com.leorces.persistence.TimerPersistence;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("TimerService Tests")
+class TimerServiceTest {
+
+    private static final String PROCESS_ID = "process-1";
+    private static final String CALL_ACTIVITY_ID = "call-activity";
+    private static final String TIMER_EVENT_ID = "timer-boundary";
+    private static final String BODY_ID = "body-1";
+    private static final LocalDateTime DUE_AT = LocalDateTime.of(2030, 1, 1, 0, 0);
+
+    @Mock
+    private TimerPersistence timerPersistence;
+
+    @Mock
+    private TimerDueDateResolver dueDateResolver;
+
+    @Mock
+    private CommandDispatcher dispatcher;
+
+    private TimerService timerService;
+    private Process process;
+
+    @BeforeEach
+    void setUp() {
+        var properties = new TimerProperties(false, Duration.ofMillis(100), 512, Duration.ofMinutes(1), Duration.ofSeconds(10), 1000, Duration.ofMinutes(1));
+        timerService = new TimerService(timerPersistence, dueDateResolver, dispatcher, properties);
+        process = Process.builder()
+                .id(PROCESS_ID)
+                .definition(multiInstanceDefinition())
+                .build();
+        when(dueDateResolver.resolve(any(), any())).thenReturn(Timer.builder().dueAt(DUE_AT).build());
+        when(timerPersistence.save(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @Test
+    @DisplayName("Should bind the boundary timers of a multi-instance call activity to the execution of its body")
+    void shouldBindMultiInstanceTimersToBody() {
+        // Given
+        var body = execution(BODY_ID);
+
+        // When
+        timerService.scheduleBoundaryTimers(body);
+
+        // Then
+        var captor = ArgumentCaptor.<List<Timer>>captor();
+        verify(timerPersistence).save(captor.capture());
+        assertThat(captor.getValue()).singleElement().satisfies(timer -> {
+            assertThat(timer.processId()).isEqualTo(PROCESS_ID);
+            assertThat(timer.definitionId()).isEqualTo(TIMER_EVENT_ID);
+            assertThat(timer.activityDefinitionId()).isEqualTo(CALL_ACTIVITY_ID);
+            assertThat(timer.activityId()).isEqualTo(BODY_ID);
+        });
+        verify(timerPersistence, never()).cancel(any());
+    }
+
+    @Test
+    @DisplayName("Should give every run of a multi-instance call activity timers of its own")
+    void shouldScheduleTimersPerBody() {
+        // When
+        timerService.scheduleBoundaryTimers(execution(BODY_ID));
+        timerService.scheduleBoundaryTimers(execution("body-2"));
+
+        // Then
+        var captor = ArgumentCaptor.<List<Timer>>captor();
+        verify(timerPersistence, times(2)).save(captor.capture());
+        assertThat(captor.getAllValues())
+                .flatMap(timers -> timers)
+                .extracting(Timer::activityId)
+                .containsExactly(BODY_ID, "body-2");
+    }
+
+    @Test
+    @DisplayName("Should keep the timers of the body when one of its instances ends")
+    void shouldKeepBodyTimersWhenInstanceEnds() {
+        // Given
+        var instance = execution("instance-1").toBuilder()
+                .createdAt(DUE_AT.minusDays(1))
+                .build();
+
+        // When
+        timerService.cancelTimers(instance);
+
+        // Then
+        verifyNoInteractions(timerPersistence);
+    }
+
+    @Test
+    @DisplayName("Should cancel the timers of the body by its execution ID")
+    void shouldCancelBodyTimers() {
+        // Given
+        var instance = execution("instance-1");
+
+        // When
+        timerService.cancelBodyTimers(instance, BODY_ID);
+
+        // Then
+        verify(timerPersistence).cancel(BODY_ID);
+    }
+
+    private ActivityExecution execution(String id) {
+        return ActivityExecution.builder()
+                .id(id)
+                .definitionId(CALL_ACTIVITY_ID)
+                .process(process)
+                .build();
+    }
+
+    private ProcessDefinition multiInstanceDefinition() {
+        var callActivity = CallActivity.builder()
+                .id(CALL_ACTIVITY_ID)
+                .multiInstanceLoopCharacteristics(MultiInstanceLoopCharacteristics.builder()
+                        .collection("${items}")
+                        .elementVariable("item")
+                        .isSequential(false)
+                        .build())
+                .build();
+        var timerBoundary = TimerBoundaryEvent.builder()
+                .id(TIMER_EVENT_ID)
+                .attachedToRef(CALL_ACTIVITY_ID)
+                .timeDuration("PT1H")
+                .build();
+
+        return ProcessDefinition.builder()
+                .id("definition-1")
+                .key("multi-instance-process")
+                .version(1)
+                .activities(List.of(callActivity, timerBoundary))
+                .build();
+    }
+
+}
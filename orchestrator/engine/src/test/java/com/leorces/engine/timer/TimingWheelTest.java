@@ -0,0 +1,122 @@
+package com.leorces.engine.timer;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("TimingWheel Tests")
+class TimingWheelTest {
+
+    private static final long TICK = 10;
+    private static final int WHEEL_SIZE = 4;
+    private static final long START = 1_000;
+
+    private final TimingWheel<String> wheel = new TimingWheel<>(TICK, WHEEL_SIZE, START);
+
+    @Test
+    @DisplayName("Should expire entry on the tick it is due")
+    void shouldExpireEntryOnDueTick() {
+        // Given
+        wheel.add(START + 20, "timer");
+
+        // When
+        var beforeDue = advance(START + 19);
+        var atDue = advance(START + 20);
+
+        // Then
+        assertThat(beforeDue).isEmpty();
+        assertThat(atDue).containsExactly("timer");
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should round due time up to the next tick")
+    void shouldRoundDueTimeUp() {
+        // Given
+        wheel.add(START + 11, "timer");
+
+        // When
+        var beforeDue = advance(START + 19);
+        var atDue = advance(START + 20);
+
+        // Then
+        assertThat(beforeDue).isEmpty();
+        assertThat(atDue).containsExactly("timer");
+    }
+
+    @Test
+    @DisplayName("Should reject entry that is already due")
+    void shouldRejectDueEntry() {
+        // When
+        var added = wheel.add(START - 5, "timer");
+
+        // Then
+        assertThat(added).isFalse();
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should cascade entries from higher levels")
+    void shouldCascadeEntriesFromHigherLevels() {
+        // Given
+        wheel.add(START + 50, "level-1");
+        wheel.add(START + 170, "level-2");
+        wheel.add(START + 700, "level-3");
+
+        // When
+        var expired = new ArrayList<List<String>>();
+        for (long time = START + TICK; time <= START + 700; time += TICK) {
+            var due = advance(time);
+            if (!due.isEmpty()) {
+                expired.add(List.of(String.valueOf(time - START), due.getFirst()));
+            }
+        }
+
+        // Then
+        assertThat(expired).containsExactly(
+                List.of("50", "level-1"),
+                List.of("170", "level-2"),
+                List.of("700", "level-3")
+        );
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should expire every entry passed when advancing over several ticks")
+    void shouldExpireAllPassedEntries() {
+        // Given
+        wheel.add(START + 30, "first");
+        wheel.add(START + 30, "second");
+        wheel.add(START + 90, "third");
+        wheel.add(START + 500, "later");
+
+        // When
+        var expired = advance(START + 100);
+
+        // Then
+        assertThat(expired).containsExactly("first", "second", "third");
+        assertThat(wheel.size()).isEqualTo(1);
+        assertThat(wheel.currentTime()).isEqualTo(START + 100);
+    }
+
+    @Test
+    @DisplayName("Should reject invalid configuration")
+    void shouldRejectInvalidConfiguration() {
+        assertThatThrownBy(() -> new TimingWheel<>(0, WHEEL_SIZE, START))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new TimingWheel<>(TICK, 1, START))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private List<String> advance(long now) {
+        var expired = new ArrayList<String>();
+        wheel.advance(now, expired::add);
+        return expired;
+    }
+
+}
@@ -0,0 +1,200 @@
+package com.leorces.engine.timer.handler;
+
+import com.leorces.engine.activity.command.TriggerActivityCommand;
+import com.leorces.engine.configuration.properties.TimerProperties;
+import com.leorces.engine.core.CommandDispatcher;
+import com.leorces.engine.timer.TimerDueDateResolver;
+import com.leorces.engine.timer.TimerService;
+import com.leorces.engine.timer.command.FireTimersCommand;
+import com.leorces.model.definition.ProcessDefinition;
+import com.leorces.model.definition.activity.ActivityDefinition;
+import com.leorces.model.runtime.process.Process;
+import com.leorces.model.runtime.timer.Timer;
+import com.leorces.persistence.ProcessPersistence;
+import com.leorces.persistence.TimerPersistence;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("FireTimersCommandHandler Tests")
+class FireTimersCommandHandlerTest {
+
+    private static final String PROCESS_ID = "process-1";
+    private static final String TIMER_EVENT_ID = "timer-event";
+    private static final Duration LEASE = Duration.ofMinutes(1);
+
+    @Mock
+    private TimerPersistence timerPersistence;
+
+    @Mock
+    private ProcessPersistence processPersistence;
+
+    @Mock
+    private TimerDueDateResolver dueDateResolver;
+
+    @Mock
+    private TimerService timerService;
+
+    @Mock
+    private CommandDispatcher dispatcher;
+
+    @Mock
+    private Process process;
+
+    @Mock
+    private ProcessDefinition processDefinition;
+
+    @Mock
+    private ActivityDefinition timerEvent;
+
+    private FireTimersCommandHandler handler;
+
+    @BeforeEach
+    void setUp() {
+        var properties = new TimerProperties(true, Duration.ofMillis(100), 512, Duration.ofMinutes(1), Duration.ofSeconds(10), 1000, LEASE);
+        handler = new FireTimersCommandHandler(timerPersistence, processPersistence, dueDateResolver, timerService, dispatcher, properties);
+
+        when(process.id()).thenReturn(PROCESS_ID);
+        when(process.definition()).thenReturn(processDefinition);
+        when(process.isInTerminalState()).thenReturn(false);
+        when(processDefinition.getActivityById(TIMER_EVENT_ID)).thenReturn(Optional.of(timerEvent));
+        when(processPersistence.findById(PROCESS_ID)).thenReturn(Optional.of(process));
+        when(dueDateResolver.next(any())).thenReturn(Optional.empty());
+    }
+
+    @Test
+    @DisplayName("Should return correct command type")
+    void shouldReturnCorrectCommandType() {
+        assertThat(handler.getCommandType()).isEqualTo(FireTimersCommand.class);
+    }
+
+    @Test
+    @DisplayName("Should do nothing when no timer is claimed")
+    void shouldDoNothingWhenNoTimerClaimed() {
+        // Given
+        var timer = timer("timer-1", null);
+        when(timerPersistence.claim(List.of("timer-1"), LEASE)).thenReturn(List.of());
+
+        // When
+        handler.handle(FireTimersCommand.of(List.of(timer)));
+
+        // Then
+        verifyNoInteractions(processPersistence, dispatcher, timerService);
+        verify(timerPersistence, never()).delete(any());
+    }
+
+    @Test
+    @DisplayName("Should run timer events synchronously and delete fired timers")
+    void shouldTriggerAndDeleteFiredTimers() {
+        // Given
+        var first = timer("timer-1", null);
+        var second = timer("timer-2", null);
+        when(timerPersistence.claim(List.of("timer-1", "timer-2"), LEASE)).thenReturn(List.of(first, second));
+
+        // When
+        handler.handle(FireTimersCommand.of(List.of(first, second)));
+
+        // Then
+        verify(processPersistence, times(1)).findById(PROCESS_ID);
+        verify(dispatcher, times(2)).dispatch(TriggerActivityCommand.of(process, timerEvent, true));
+        verify(timerPersistence).delete(List.of("timer-1", "timer-2"));
+        verify(timerService, never()).reschedule(any());
+    }
+
+    @Test
+    @DisplayName("Should reschedule cyclic timers")
+    void shouldRescheduleCyclicTimers() {
+        // Given
+        var timer = timer("timer-1", "R/PT1H");
+        var next = timer.toBuilder().dueAt(timer.dueAt().plusHours(1)).build();
+        when(timerPersistence.claim(List.of("timer-1"), LEASE)).thenReturn(List.of(timer));
+        when(dueDateResolver.next(timer)).thenReturn(Optional.of(next));
+
+        // When
+        handler.handle(FireTimersCommand.of(List.of(timer)));
+
+        // Then
+        verify(dispatcher).dispatch(TriggerActivityCommand.of(process, timerEvent, true));
+        verify(timerService).reschedule(List.of(next));
+        verify(timerPersistence, never()).delete(any());
+    }
+
+    @Test
+    @DisplayName("Should delete timers of terminated processes without triggering them")
+    void shouldDeleteTimersOfTerminatedProcesses() {
+        // Given
+        var timer = timer("timer-1", "R/PT1H");
+        when(process.isInTerminalState()).thenReturn(true);
+        when(timerPersistence.claim(List.of("timer-1"), LEASE)).thenReturn(List.of(timer));
+
+        // When
+        handler.handle(FireTimersCommand.of(List.of(timer)));
+
+        // Then
+        verifyNoInteractions(dispatcher, dueDateResolver);
+        verify(timerPersistence).delete(List.of("timer-1"));
+    }
+
+    @Test
+    @DisplayName("Should keep timer claimed when triggering fails")
+    void shouldKeepTimerClaimedWhenTriggerFails() {
+        // Given
+        var timer = timer("timer-1", "R/PT1H");
+        when(timerPersistence.claim(List.of("timer-1"), LEASE)).thenReturn(List.of(timer));
+        doThrow(new RuntimeException("failure")).when(dispatcher).dispatch(any());
+
+        // When
+        handler.handle(FireTimersCommand.of(List.of(timer)));
+
+        // Then
+        verify(timerPersistence, never()).delete(any());
+        verify(timerService, never()).reschedule(any());
+        verifyNoInteractions(dueDateResolver);
+    }
+
+    @Test
+    @DisplayName("Should delete only the timers that fired")
+    void shouldDeleteOnlyFiredTimers() {
+        // Given
+        var failing = timer("timer-1", null);
+        var firing = timer("timer-2", null).toBuilder().definitionId("another-timer-event").build();
+        var anotherTimerEvent = mock(ActivityDefinition.class);
+        when(processDefinition.getActivityById("another-timer-event")).thenReturn(Optional.of(anotherTimerEvent));
+        when(timerPersistence.claim(List.of("timer-1", "timer-2"), LEASE)).thenReturn(List.of(failing, firing));
+        doThrow(new RuntimeException("failure")).when(dispatcher).dispatch(TriggerActivityCommand.of(process, timerEvent, true));
+
+        // When
+        handler.handle(FireTimersCommand.of(List.of(failing, firing)));
+
+        // Then
+        verify(dispatcher).dispatch(TriggerActivityCommand.of(process, anotherTimerEvent, true));
+        verify(timerPersistence).delete(List.of("timer-2"));
+    }
+
+    private Timer timer(String id, String cycle) {
+        return Timer.builder()
+                .id(id)
+                .processId(PROCESS_ID)
+                .definitionId(TIMER_EVENT_ID)
+                .dueAt(LocalDateTime.now())
+                .cycle(cycle)
+                .build();
+    }
+
+}
@@ -3,6 +3,10 @@ dependencies {
     implementation(libs.spring.boot.starter)
     implementation(libs.spring.boot.starter.logging)
 
+    // Cache and metrics
+    implementation(libs.guava)
+    implementation(libs.micrometer.core)
+
     // Lombok
     compileOnly(libs.lombok)
     annotationProcessor(libs.lombok)
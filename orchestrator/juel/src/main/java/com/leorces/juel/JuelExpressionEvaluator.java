@@ -1,13 +1,15 @@
 package com.leorces.juel;
 
 
+import com.leorces.juel.cache.ExpressionCache;
+import com.leorces.juel.context.VariablesEvaluationContext;
 import com.leorces.juel.converter.LiteralValueConverter;
 import com.leorces.juel.converter.SpelExpressionConverter;
 import com.leorces.juel.exception.ExpressionEvaluationException;
 import com.leorces.juel.processor.ExpressionDataProcessor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.expression.Expression;
 import org.springframework.expression.ExpressionParser;
-import org.springframework.expression.spel.support.StandardEvaluationContext;
 import org.springframework.stereotype.Component;
 
 import java.util.Map;
@@ -25,8 +27,6 @@ import java.util.regex.Pattern;
 public class JuelExpressionEvaluator implements ExpressionEvaluator {
 
     private static final Pattern DOLLAR_PATTERN = Pattern.compile("\\$\\{[^}]+}");
-    private static final Pattern HASH_PATTERN = Pattern.compile("#\\{[^}]+}");
-    private static final Pattern BRACE_PATTERN = Pattern.compile("\\{[^}]+}");
     private static final Pattern DOLLAR_CAPTURE_PATTERN = Pattern.compile("\\$\\{([^}]+)}");
     private static final String EMPTY_STRING = "";
 
@@ -34,14 +34,17 @@ public class JuelExpressionEvaluator implements ExpressionEvaluator {
     private final SpelExpressionConverter expressionConverter;
     private final ExpressionDataProcessor dataProcessor;
     private final LiteralValueConverter literalValueConverter;
+    private final ExpressionCache expressionCache;
 
 
     public JuelExpressionEvaluator(ExpressionParser parser,
                                    SpelExpressionConverter expressionConverter,
-                                   LiteralValueConverter literalValueConverter) {
+                                   LiteralValueConverter literalValueConverter,
+                                   ExpressionCache expressionCache) {
         this.parser = parser;
         this.literalValueConverter = literalValueConverter;
         this.expressionConverter = expressionConverter;
+        this.expressionCache = expressionCache;
         this.dataProcessor = new ExpressionDataProcessor(this);
     }
 
@@ -103,15 +106,25 @@ public class JuelExpressionEvaluator implements ExpressionEvaluator {
     /**
      * Checks if the given string is an expression (contains expression syntax).
      * Supports ${variable}, #{variable}, and {variable} syntax.
+     * All three contain a non-empty {...} block, so a single scan for one is enough.
      */
     @Override
     public boolean isExpression(String value) {
-        if (value == null || value.trim().isEmpty()) {
+        if (value == null) {
             return false;
         }
-        return DOLLAR_PATTERN.matcher(value).find() ||
-                HASH_PATTERN.matcher(value).find() ||
-                BRACE_PATTERN.matcher(value).find();
+        var open = value.indexOf('{');
+        while (open >= 0) {
+            var close = value.indexOf('}', open + 1);
+            if (close < 0) {
+                return false;
+            }
+            if (close > open + 1) {
+                return true;
+            }
+            open = value.indexOf('{', close + 1);
+        }
+        return false;
     }
 
     /**
@@ -183,26 +196,13 @@ public class JuelExpressionEvaluator implements ExpressionEvaluator {
     private <T> T evaluateSpelExpression(String expression,
                                          Map<String, Object> variables,
                                          Class<T> resultType) {
-        var spelExpression = expressionConverter.convertToSpelExpression(expression);
-        var context = createEvaluationContext(variables);
-        return parser.parseExpression(spelExpression).getValue(context, resultType);
-    }
-
-    private StandardEvaluationContext createEvaluationContext(Map<String, Object> variables) {
-        var context = new StandardEvaluationContext();
-        setVariablesInContext(context, variables);
-        setRootObjectIfNeeded(context, variables);
-        return context;
+        var context = new VariablesEvaluationContext(variables);
+        return expressionCache.get(expression, this::parseExpression).getValue(context, resultType);
     }
 
-    private void setVariablesInContext(StandardEvaluationContext context, Map<String, Object> variables) {
-        variables.forEach(context::setVariable);
-    }
-
-    private void setRootObjectIfNeeded(StandardEvaluationContext context, Map<String, Object> variables) {
-        if (!variables.isEmpty()) {
-            context.setRootObject(variables);
-        }
+    private Expression parseExpression(String expression) {
+        var spelExpression = expressionConverter.convertToSpelExpression(expression);
+        return parser.parseExpression(spelExpression);
     }
 
 }
\ No newline at end of file
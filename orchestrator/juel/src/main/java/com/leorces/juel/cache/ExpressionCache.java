@@ -0,0 +1,78 @@
+package com.leorces.juel.cache;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.leorces.juel.configuration.properties.JuelProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
+import org.springframework.expression.Expression;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Function;
+
+/**
+ * Bounded cache of parsed expressions keyed by their source text.
+ * <p>
+ * Gateway conditions, input/output mappings and conditional events evaluate the same few expressions over and over,
+ * so conversion and parsing are paid once per distinct source. Parsed SpEL expressions are thread-safe and keep
+ * their compiled form, which lets {@code MIXED} compilation kick in for hot expressions.
+ * <p>
+ * Registered as a {@link MeterBinder}, so Spring Boot exposes {@code cache.gets}, {@code cache.size} and
+ * {@code cache.evictions} tagged {@code cache=leorces.expression}, plus {@value #HIT_RATIO}.
+ */
+@Component
+public class ExpressionCache implements MeterBinder {
+
+    public static final String CACHE_NAME = "leorces.expression";
+    public static final String HIT_RATIO = CACHE_NAME + ".cache.hit.ratio";
+
+    private final Cache<String, Expression> cache;
+
+    public ExpressionCache(JuelProperties properties) {
+        this.cache = CacheBuilder.newBuilder()
+                .maximumSize(properties.cacheSize())
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Returns the parsed expression for the given source, parsing it on a miss.
+     * Failures are not cached and propagate unchanged.
+     *
+     * @param source the expression source text
+     * @param parser parses the source on a miss
+     * @return the parsed expression
+     */
+    public Expression get(String source, Function<String, Expression> parser) {
+        var expression = cache.getIfPresent(source);
+        if (expression == null) {
+            expression = parser.apply(source);
+            cache.put(source, expression);
+        }
+        return expression;
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    public long size() {
+        return cache.size();
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        GuavaCacheMetrics.monitor(registry, cache, CACHE_NAME);
+        Gauge.builder(HIT_RATIO, cache, value -> value.stats().hitRate())
+                .description("Share of expression evaluations served from the parsed expression cache")
+                .register(registry);
+    }
+
+}
@@ -1,18 +1,23 @@
 package com.leorces.juel.configuration;
 
 
+import com.leorces.juel.configuration.properties.JuelProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.expression.ExpressionParser;
+import org.springframework.expression.spel.SpelParserConfiguration;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
 
 
 @Configuration
+@EnableConfigurationProperties(JuelProperties.class)
 public class JuelConfiguration {
 
     @Bean
-    public ExpressionParser expressionParser() {
-        return new SpelExpressionParser();
+    public ExpressionParser expressionParser(JuelProperties properties) {
+        var configuration = new SpelParserConfiguration(properties.compilerMode(), getClass().getClassLoader());
+        return new SpelExpressionParser(configuration);
     }
 
 }
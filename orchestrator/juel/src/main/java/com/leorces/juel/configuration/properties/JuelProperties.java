@@ -0,0 +1,20 @@
+package com.leorces.juel.configuration.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.expression.spel.SpelCompilerMode;
+
+/**
+ * Expression evaluation settings.
+ *
+ * @param cacheSize    maximum number of parsed expressions kept, keyed by their source text
+ * @param compilerMode SpEL compiler mode; {@code MIXED} compiles hot expressions to bytecode and falls back
+ *                     to interpretation when a compiled expression fails
+ */
+@ConfigurationProperties(prefix = "leorces.expression")
+public record JuelProperties(
+        @DefaultValue("10000") int cacheSize,
+        @DefaultValue("MIXED") SpelCompilerMode compilerMode
+) {
+
+}
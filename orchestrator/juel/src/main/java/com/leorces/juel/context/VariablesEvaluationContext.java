@@ -0,0 +1,49 @@
+package com.leorces.juel.context;
+
+import org.springframework.expression.MethodResolver;
+import org.springframework.expression.PropertyAccessor;
+import org.springframework.expression.TypeConverter;
+import org.springframework.expression.TypeLocator;
+import org.springframework.expression.spel.support.ReflectiveMethodResolver;
+import org.springframework.expression.spel.support.ReflectivePropertyAccessor;
+import org.springframework.expression.spel.support.StandardEvaluationContext;
+import org.springframework.expression.spel.support.StandardTypeConverter;
+import org.springframework.expression.spel.support.StandardTypeLocator;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Evaluation context that reads variables straight from the given map instead of copying them.
+ * <p>
+ * Property accessors, method resolvers, the type locator and the type converter are stateless or thread-safe,
+ * so they are shared across all contexts along with their reflection caches. Variables assigned by the
+ * expression itself shadow the map and never write through to it.
+ */
+public class VariablesEvaluationContext extends StandardEvaluationContext {
+
+    private static final List<PropertyAccessor> PROPERTY_ACCESSORS = List.of(new ReflectivePropertyAccessor());
+    private static final List<MethodResolver> METHOD_RESOLVERS = List.of(new ReflectiveMethodResolver());
+    private static final TypeLocator TYPE_LOCATOR = new StandardTypeLocator(VariablesEvaluationContext.class.getClassLoader());
+    private static final TypeConverter TYPE_CONVERTER = new StandardTypeConverter();
+
+    private final Map<String, Object> variables;
+
+    public VariablesEvaluationContext(Map<String, Object> variables) {
+        this.variables = variables;
+        setPropertyAccessors(PROPERTY_ACCESSORS);
+        setMethodResolvers(METHOD_RESOLVERS);
+        setTypeLocator(TYPE_LOCATOR);
+        setTypeConverter(TYPE_CONVERTER);
+        if (!variables.isEmpty()) {
+            setRootObject(variables);
+        }
+    }
+
+    @Override
+    public Object lookupVariable(String name) {
+        var value = super.lookupVariable(name);
+        return value != null ? value : variables.get(name);
+    }
+
+}
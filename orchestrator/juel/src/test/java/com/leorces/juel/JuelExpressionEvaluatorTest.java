@@ -1,6 +1,8 @@
 package com.leorces.juel;
 
 
+import com.leorces.juel.cache.ExpressionCache;
+import com.leorces.juel.configuration.properties.JuelProperties;
 import com.leorces.juel.converter.LiteralValueConverter;
 import com.leorces.juel.converter.SpelExpressionConverter;
 import com.leorces.juel.exception.ExpressionEvaluationException;
@@ -11,6 +13,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.expression.ExpressionParser;
+import org.springframework.expression.spel.SpelCompilerMode;
 import org.springframework.expression.spel.standard.SpelExpression;
 import org.springframework.expression.spel.support.StandardEvaluationContext;
 
@@ -47,7 +50,8 @@ class JuelExpressionEvaluatorTest {
 
     @BeforeEach
     void setUp() {
-        evaluator = new JuelExpressionEvaluator(mockParser, mockExpressionConverter, mockLiteralConverter);
+        var expressionCache = new ExpressionCache(new JuelProperties(100, SpelCompilerMode.OFF));
+        evaluator = new JuelExpressionEvaluator(mockParser, mockExpressionConverter, mockLiteralConverter, expressionCache);
     }
 
     @Test
@@ -359,6 +363,49 @@ class JuelExpressionEvaluatorTest {
         assertThat(evaluator.isExpression("${var.property}")).isTrue();
         assertThat(evaluator.isExpression("text ${var} more text")).isTrue();
         assertThat(evaluator.isExpression("no expressions here")).isFalse();
+        assertThat(evaluator.isExpression("#{var}")).isTrue();
+        assertThat(evaluator.isExpression("empty {} then {var}")).isTrue();
+        assertThat(evaluator.isExpression("empty {}")).isFalse();
+        assertThat(evaluator.isExpression("unclosed {var")).isFalse();
+        assertThat(evaluator.isExpression("reversed }var{")).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should parse each expression source only once")
+    void shouldParseEachExpressionSourceOnlyOnce() {
+        //Given
+        when(mockExpressionConverter.convertToSpelExpression(TEST_EXPRESSION)).thenReturn(CONVERTED_EXPRESSION);
+        when(mockParser.parseExpression(CONVERTED_EXPRESSION)).thenReturn(mockSpelExpression);
+        when(mockSpelExpression.getValue(any(StandardEvaluationContext.class), eq(String.class)))
+                .thenReturn(RESOLVED_VALUE);
+
+        //When
+        evaluator.evaluateString(TEST_EXPRESSION, TEST_VARIABLES);
+        evaluator.evaluateString(TEST_EXPRESSION, Map.of(SIMPLE_VARIABLE, "Jane Doe"));
+        var result = evaluator.evaluateString(TEST_EXPRESSION, TEST_VARIABLES);
+
+        //Then
+        assertThat(result).isEqualTo(RESOLVED_VALUE);
+        verify(mockExpressionConverter, times(1)).convertToSpelExpression(TEST_EXPRESSION);
+        verify(mockParser, times(1)).parseExpression(CONVERTED_EXPRESSION);
+        verify(mockSpelExpression, times(3)).getValue(any(StandardEvaluationContext.class), eq(String.class));
+    }
+
+    @Test
+    @DisplayName("Should not cache expressions that fail to parse")
+    void shouldNotCacheExpressionsThatFailToParse() {
+        //Given
+        when(mockExpressionConverter.convertToSpelExpression(TEST_EXPRESSION)).thenReturn(CONVERTED_EXPRESSION);
+        when(mockParser.parseExpression(CONVERTED_EXPRESSION)).thenThrow(new RuntimeException("Parse failed"));
+
+        //When
+        var first = evaluator.evaluateBoolean(TEST_EXPRESSION, TEST_VARIABLES);
+        var second = evaluator.evaluateBoolean(TEST_EXPRESSION, TEST_VARIABLES);
+
+        //Then
+        assertThat(first).isFalse();
+        assertThat(second).isFalse();
+        verify(mockParser, times(2)).parseExpression(CONVERTED_EXPRESSION);
     }
 
     @Test
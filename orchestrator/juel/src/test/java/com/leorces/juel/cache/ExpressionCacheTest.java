@@ -0,0 +1,90 @@
+package com.leorces.juel.cache;
+
+import com.leorces.juel.configuration.properties.JuelProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ExpressionCache Tests")
+class ExpressionCacheTest {
+
+    private final SpelExpressionParser parser = new SpelExpressionParser();
+    private ExpressionCache expressionCache;
+
+    @BeforeEach
+    void setUp() {
+        expressionCache = new ExpressionCache(new JuelProperties(2, SpelCompilerMode.OFF));
+    }
+
+    @Test
+    @DisplayName("Should parse a source once and serve repeated lookups from the cache")
+    void shouldParseSourceOnce() {
+        // Given
+        var parses = new AtomicInteger();
+
+        // When
+        var first = expressionCache.get("1 + 1", source -> {
+            parses.incrementAndGet();
+            return parser.parseExpression(source);
+        });
+        var second = expressionCache.get("1 + 1", source -> {
+            parses.incrementAndGet();
+            return parser.parseExpression(source);
+        });
+
+        // Then
+        assertThat(second).isSameAs(first);
+        assertThat(parses).hasValue(1);
+        assertThat(expressionCache.stats().hitCount()).isEqualTo(1);
+        assertThat(expressionCache.stats().missCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should not cache failed parses")
+    void shouldNotCacheFailedParses() {
+        // When & Then
+        assertThatThrownBy(() -> expressionCache.get("1 +", parser::parseExpression))
+                .isInstanceOf(RuntimeException.class);
+        assertThat(expressionCache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should stay within the configured size")
+    void shouldStayWithinConfiguredSize() {
+        // When
+        expressionCache.get("1", parser::parseExpression);
+        expressionCache.get("2", parser::parseExpression);
+        expressionCache.get("3", parser::parseExpression);
+
+        // Then
+        assertThat(expressionCache.size()).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should expose cache statistics and hit ratio as meters")
+    void shouldExposeMeters() {
+        // Given
+        var registry = new SimpleMeterRegistry();
+        expressionCache.bindTo(registry);
+
+        // When
+        expressionCache.get("1", parser::parseExpression);
+        expressionCache.get("1", parser::parseExpression);
+        expressionCache.get("1", parser::parseExpression);
+        expressionCache.get("2", parser::parseExpression);
+
+        // Then
+        assertThat(registry.get(ExpressionCache.HIT_RATIO).gauge().value()).isEqualTo(0.5);
+        assertThat(registry.get("cache.gets").tag("result", "hit").functionCounter().count()).isEqualTo(2);
+        assertThat(registry.get("cache.size").tag("cache", ExpressionCache.CACHE_NAME).gauge().value()).isEqualTo(2);
+    }
+
+}
@@ -1,17 +1,22 @@
 package com.leorces.juel.configuration;
 
 
+import com.leorces.juel.configuration.properties.JuelProperties;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.expression.ExpressionParser;
+import org.springframework.expression.spel.SpelCompilerMode;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import static org.junit.jupiter.api.Assertions.*;
 
 
 class JuelConfigurationTest {
 
+    private static final JuelProperties PROPERTIES = new JuelProperties(100, SpelCompilerMode.MIXED);
+
     private JuelConfiguration juelConfiguration;
 
     @BeforeEach
@@ -23,7 +28,7 @@ class JuelConfigurationTest {
     @DisplayName("Should create SpelExpressionParser bean")
     void shouldCreateSpelExpressionParserBean() {
         // When
-        var result = juelConfiguration.expressionParser();
+        var result = juelConfiguration.expressionParser(PROPERTIES);
 
         // Then
         assertNotNull(result);
@@ -35,8 +40,8 @@ class JuelConfigurationTest {
     @DisplayName("Should create new instances on multiple calls")
     void shouldCreateNewInstancesOnMultipleCalls() {
         // When
-        var parser1 = juelConfiguration.expressionParser();
-        var parser2 = juelConfiguration.expressionParser();
+        var parser1 = juelConfiguration.expressionParser(PROPERTIES);
+        var parser2 = juelConfiguration.expressionParser(PROPERTIES);
 
         // Then
         assertNotNull(parser1);
@@ -48,7 +53,7 @@ class JuelConfigurationTest {
     @DisplayName("Should create functional expression parser")
     void shouldCreateFunctionalExpressionParser() {
         // Given
-        var parser = juelConfiguration.expressionParser();
+        var parser = juelConfiguration.expressionParser(PROPERTIES);
         var expression = "'Hello ' + 'World'";
 
         // When
@@ -59,4 +64,22 @@ class JuelConfigurationTest {
         assertEquals("Hello World", result);
     }
 
+    @Test
+    @DisplayName("Should compile hot expressions in mixed mode")
+    void shouldCompileHotExpressionsInMixedMode() {
+        // Given
+        var parser = juelConfiguration.expressionParser(PROPERTIES);
+        var expression = parser.parseExpression("1 + 2");
+
+        // When
+        Integer result = null;
+        for (int i = 0; i < 200; i++) {
+            result = expression.getValue(Integer.class);
+        }
+
+        // Then
+        assertEquals(3, result);
+        assertNotNull(ReflectionTestUtils.getField(expression, "compiledAst"));
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,75 @@
+package com.leorces.juel.context;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("VariablesEvaluationContext Tests")
+class VariablesEvaluationContextTest {
+
+    private final SpelExpressionParser parser = new SpelExpressionParser();
+
+    @Test
+    @DisplayName("Should resolve variables from the backing map")
+    void shouldResolveVariablesFromMap() {
+        // Given
+        var context = new VariablesEvaluationContext(Map.of("amount", 150, "client", Map.of("name", "John")));
+
+        // When
+        var approved = parser.parseExpression("#amount > 100").getValue(context, Boolean.class);
+        var name = parser.parseExpression("#client['name'].toUpperCase()").getValue(context, String.class);
+
+        // Then
+        assertThat(approved).isTrue();
+        assertThat(name).isEqualTo("JOHN");
+    }
+
+    @Test
+    @DisplayName("Should return null for missing and null variables")
+    void shouldReturnNullForMissingVariables() {
+        // Given
+        var variables = new HashMap<String, Object>();
+        variables.put("empty", null);
+        var context = new VariablesEvaluationContext(variables);
+
+        // When & Then
+        assertThat(context.lookupVariable("empty")).isNull();
+        assertThat(context.lookupVariable("missing")).isNull();
+    }
+
+    @Test
+    @DisplayName("Should use the variables as root object")
+    void shouldUseVariablesAsRootObject() {
+        // Given
+        var variables = Map.<String, Object>of("key", "value");
+
+        // When
+        var context = new VariablesEvaluationContext(variables);
+
+        // Then
+        assertThat(context.getRootObject().getValue()).isSameAs(variables);
+        assertThat(new VariablesEvaluationContext(Map.of()).getRootObject().getValue()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should keep assigned variables out of the backing map")
+    void shouldKeepAssignedVariablesOutOfMap() {
+        // Given
+        var variables = new HashMap<String, Object>(Map.of("counter", 1));
+        var context = new VariablesEvaluationContext(variables);
+
+        // When
+        var result = parser.parseExpression("#counter = #counter + 1").getValue(context, Integer.class);
+
+        // Then
+        assertThat(result).isEqualTo(2);
+        assertThat(context.lookupVariable("counter")).isEqualTo(2);
+        assertThat(variables).containsEntry("counter", 1);
+    }
+
+}
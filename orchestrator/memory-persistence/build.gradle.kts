@@ -0,0 +1,17 @@
+dependencies {
+    // Project
+    implementation(project(":orchestrator:model"))
+    implementation(project(":orchestrator:persistence-api"))
+
+    // Spring Boot
+    implementation(libs.spring.boot.starter)
+    implementation(libs.spring.boot.autoconfigure)
+    annotationProcessor(libs.spring.boot.configuration.processor)
+
+    // Development Tools
+    compileOnly(libs.lombok)
+    annotationProcessor(libs.lombok)
+
+    // Testing
+    testImplementation(libs.bundles.testing)
+}
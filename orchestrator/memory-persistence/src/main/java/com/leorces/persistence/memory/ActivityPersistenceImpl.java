@@ -0,0 +1,361 @@
+package com.leorces.persistence.memory;
+
+import com.leorces.model.definition.activity.ExternalTaskDefinition;
+import com.leorces.model.runtime.activity.Activity;
+import com.leorces.model.runtime.activity.ActivityExecution;
+import com.leorces.model.runtime.activity.ActivityPollRequest;
+import com.leorces.model.runtime.activity.ActivityState;
+import com.leorces.persistence.ActivityPersistence;
+import com.leorces.persistence.ActivityScheduleListener;
+import com.leorces.persistence.VariablePersistence;
+import com.leorces.persistence.memory.lock.ProcessLocks;
+import com.leorces.persistence.memory.store.ActivityStore;
+import com.leorces.persistence.utils.ActivityStateTransition;
+import com.leorces.persistence.utils.IdGenerator;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+@Slf4j
+@Service
+@AllArgsConstructor
+public class ActivityPersistenceImpl implements ActivityPersistence {
+
+    private static final Set<ActivityState> ACTIVE_STATES = EnumSet.of(ActivityState.SCHEDULED, ActivityState.ACTIVE, ActivityState.FAILED);
+    private static final Set<ActivityState> COMPLETED_STATES = EnumSet.of(ActivityState.COMPLETED, ActivityState.TERMINATED);
+
+    private final VariablePersistence variablePersistence;
+    private final ActivityStore activityStore;
+    private final ProcessLocks processLocks;
+    private final ObjectProvider<ActivityScheduleListener> scheduleListeners;
+
+    @Override
+    public ActivityExecution schedule(ActivityExecution activity) {
+        log.debug("Schedule activity: {} for process: {}", activity.definitionId(), activity.processId());
+        var scheduledActivity = processLocks.withLock(activity.processId(), () -> {
+            var saved = save(activity, ActivityState.SCHEDULED);
+            var newVariables = variablePersistence.save(saved);
+            return saved.toBuilder()
+                    .variables(newVariables)
+                    .build();
+        });
+        // Queued once its variables are saved, so a poll never takes it without them
+        activityStore.enqueue(scheduledActivity);
+        notifyScheduled(scheduledActivity);
+        return scheduledActivity;
+    }
+
+    @Override
+    public ActivityExecution run(ActivityExecution activity) {
+        log.debug("Run activity: {} for process: {}", activity.definitionId(), activity.processId());
+        return processLocks.withLock(activity.processId(), () -> {
+            var newActivity = save(activity, ActivityState.ACTIVE);
+            var newVariables = variablePersistence.save(newActivity);
+            return newActivity.toBuilder()
+                    .variables(newVariables)
+                    .build();
+        });
+    }
+
+    @Override
+    public List<ActivityExecution> runAll(List<ActivityExecution> activities) {
+        log.debug("Run {} activities", activities.size());
+        return activities.stream()
+                .map(this::run)
+                .toList();
+    }
+
+    @Override
+    public ActivityExecution complete(ActivityExecution activity) {
+        log.debug("Complete activity: {} for process: {}", activity.definitionId(), activity.processId());
+        return processLocks.withLock(activity.processId(), () -> save(activity, ActivityState.COMPLETED));
+    }
+
+    @Override
+    public List<ActivityExecution> completeAll(List<ActivityExecution> activities) {
+        log.debug("Complete {} activities", activities.size());
+        return activities.stream()
+                .map(this::complete)
+                .toList();
+    }
+
+    @Override
+    public ActivityExecution terminate(ActivityExecution activity) {
+        log.debug("Terminate activity: {} for process: {}", activity.definitionId(), activity.processId());
+        return processLocks.withLock(activity.processId(), () -> save(activity, ActivityState.TERMINATED));
+    }
+
+    @Override
+    public ActivityExecution fail(ActivityExecution activity) {
+        log.debug("Fail activity: {} for process: {}", activity.definitionId(), activity.processId());
+        return processLocks.withLock(activity.processId(), () -> save(activity, ActivityState.FAILED));
+    }
+
+    @Override
+    public List<ActivityExecution> failAll(List<ActivityExecution> activities) {
+        log.debug("Fail {} activities", activities.size());
+        return activities.stream()
+                .map(this::fail)
+                .toList();
+    }
+
+    @Override
+    public void changeState(String activityId, ActivityState state) {
+        log.debug("Change activity: {} state to: {}", activityId, state);
+        activityStore.findById(activityId).ifPresent(activity -> processLocks.withLock(activity.processId(), () ->
+                activityStore.update(activityId, existing -> existing.toBuilder()
+                                .state(state)
+                                .updatedAt(LocalDateTime.now())
+                                .build())
+                        .filter(ActivityExecution::isScheduled)
+                        .ifPresent(activityStore::enqueue)
+        ));
+    }
+
+    @Override
+    public void delete(ActivityExecution activity) {
+        log.debug("Delete activity: {} for process: {}", activity.definitionId(), activity.processId());
+        processLocks.withLock(activity.processId(), () -> {
+            activityStore.remove(activity.id());
+            variablePersistence.deleteByExecutionId(activity.id());
+        });
+    }
+
+    @Override
+    public void deleteAllActive(String processId, List<String> definitionIds) {
+        log.debug("Delete all active activities for process: {} and definition ids: {}", processId, definitionIds);
+        var ids = new HashSet<>(definitionIds);
+        processLocks.withLock(processId, () -> activityStore.findAll(processId)
+                .filter(activity -> ids.contains(activity.definitionId()))
+                .filter(activity -> activity.isScheduled() || activity.isActive())
+                .forEach(activity -> {
+                    activityStore.remove(activity.id());
+                    variablePersistence.deleteByExecutionId(activity.id());
+                }));
+    }
+
+    @Override
+    public Optional<ActivityExecution> findById(String id) {
+        log.debug("Finding activity by id: {}", id);
+        return activityStore.findById(id)
+                .map(this::withProcessVariables);
+    }
+
+    @Override
+    public List<ActivityExecution> findAllById(List<String> ids) {
+        log.debug("Finding all activities with process variables by ids: {}", ids);
+        return ids.stream()
+                .distinct()
+                .map(activityStore::findById)
+                .flatMap(Optional::stream)
+                .map(this::withProcessVariables)
+                .toList();
+    }
+
+    @Override
+    public Optional<ActivityExecution> findByDefinitionId(String processId, String definitionId) {
+        log.debug("Finding activity by definition id: {} for process: {}", definitionId, processId);
+        // An activity that runs more than once has several executions, the one still running is preferred
+        return activityStore.findAll(processId)
+                .filter(activity -> activity.definitionId().equals(definitionId))
+                .reduce((first, second) -> first.isInTerminalState() || !second.isInTerminalState() ? second : first)
+                .map(this::withProcessVariables);
+    }
+
+    @Override
+    public List<ActivityExecution> findAll(List<String> ids) {
+        log.debug("Finding all activities by ids: {}", ids);
+        return ids.stream()
+                .map(activityStore::findById)
+                .flatMap(Optional::stream)
+                .toList();
+    }
+
+    @Override
+    public List<ActivityExecution> findAll(String processId) {
+        log.debug("Finding all activities for process: {}", processId);
+        return activityStore.findAll(processId).toList();
+    }
+
+    @Override
+    public List<ActivityExecution> findActive(String processId, List<String> definitionIds) {
+        log.debug("Finding all active activities for process: {} and definition ids: {}", processId, definitionIds);
+        var ids = new HashSet<>(definitionIds);
+        return findInStates(processId, ACTIVE_STATES)
+                .filter(activity -> ids.contains(activity.definitionId()))
+                .toList();
+    }
+
+    @Override
+    public List<ActivityExecution> findActive(String processId) {
+        log.debug("Finding all active activities for process: {}", processId);
+        return findInStates(processId, ACTIVE_STATES).toList();
+    }
+
+    @Override
+    public List<ActivityExecution> findFailed(String processId) {
+        log.debug("Finding all failed activities for process: {}", processId);
+        return findInStates(processId, EnumSet.of(ActivityState.FAILED)).toList();
+    }
+
+    @Override
+    public List<ActivityExecution> claimTimedOut(int limit, Duration lease) {
+        log.debug("Claiming timed out activities with limit: {} and lease: {}", limit, lease);
+        var now = LocalDateTime.now();
+        return activityStore.claimTimedOut(now, now.plus(lease), limit);
+    }
+
+    @Override
+    public List<Activity> poll(String topic, String processDefinitionKey, int limit) {
+        return activityStore.poll(topic, processDefinitionKey, limit, this::start).stream()
+                .map(activity -> toActivity(activity, topic))
+                .toList();
+    }
+
+    @Override
+    public List<Activity> poll(List<ActivityPollRequest> requests) {
+        return requests.stream()
+                .flatMap(request -> poll(request.topic(), request.processDefinitionKey(), request.limit()).stream())
+                .toList();
+    }
+
+    @Override
+    public boolean isAnyFailed(String processId) {
+        log.debug("Checking if any activity failed for process: {}", processId);
+        return activityStore.findAll(processId).anyMatch(ActivityExecution::isFailed);
+    }
+
+    @Override
+    public boolean isAllCompleted(String processId) {
+        log.debug("Checking if all activity completed for process: {}", processId);
+        return processLocks.withLock(processId, () -> isAllCompleted(activityStore.findAll(processId)));
+    }
+
+    @Override
+    public boolean isAllCompleted(String processId, List<String> definitionIds) {
+        log.debug("Checking if all activity completed for process: {} and definition ids: {}", processId, definitionIds);
+        var ids = new HashSet<>(definitionIds);
+        return processLocks.withLock(processId, () -> isAllCompleted(activityStore.findAll(processId)
+                .filter(activity -> ids.contains(activity.definitionId()))));
+    }
+
+    @Override
+    public void createJoins(List<String> processIds, List<String> definitionIds) {
+        log.debug("Create {} gateway joins", processIds.size());
+        for (int i = 0; i < processIds.size(); i++) {
+            activityStore.createJoin(processIds.get(i), definitionIds.get(i));
+        }
+    }
+
+    @Override
+    public long join(String processId, String definitionId, String arrivalId) {
+        log.debug("Join at gateway: {} for process: {}", definitionId, processId);
+        return activityStore.join(processId, definitionId, arrivalId);
+    }
+
+    @Override
+    public void startInstances(String processId, String bodyId, long count) {
+        log.debug("Start {} instances of body: {} for process: {}", count, bodyId, processId);
+        activityStore.startInstances(processId, bodyId, count);
+    }
+
+    @Override
+    public void addInstances(String processId, String bodyId, List<String> instanceIds) {
+        log.debug("Add {} instances to body: {} for process: {}", instanceIds.size(), bodyId, processId);
+        activityStore.addInstances(processId, bodyId, instanceIds);
+    }
+
+    @Override
+    public long completeInstance(String processId, String instanceId) {
+        log.debug("Complete instance: {} for process: {}", instanceId, processId);
+        return activityStore.completeInstance(processId, instanceId);
+    }
+
+    @Override
+    public Optional<String> findInstanceBody(String processId, String instanceId) {
+        log.debug("Find body of instance: {} for process: {}", instanceId, processId);
+        return activityStore.findInstanceBody(processId, instanceId);
+    }
+
+    private boolean isAllCompleted(Stream<ActivityExecution> activities) {
+        return activities
+                .filter(activity -> !activity.isAsync())
+                .allMatch(activity -> COMPLETED_STATES.contains(activity.state()));
+    }
+
+    private Stream<ActivityExecution> findInStates(String processId, Set<ActivityState> states) {
+        return activityStore.findAll(processId)
+                .filter(activity -> states.contains(activity.state()));
+    }
+
+    private ActivityExecution start(ActivityExecution activity) {
+        var now = LocalDateTime.now();
+        return activity.toBuilder()
+                .state(ActivityState.ACTIVE)
+                .startedAt(now)
+                .updatedAt(now)
+                .build();
+    }
+
+    private ActivityExecution withProcessVariables(ActivityExecution activity) {
+        var variables = variablePersistence.findInProcessScope(activity.processId());
+        var scope = activity.scope();
+        return activity.toBuilder()
+                .process(activity.process().toBuilder().variables(variables).build())
+                .variables(variables.stream()
+                        .filter(variable -> scope.contains(variable.executionDefinitionId()))
+                        .toList())
+                .build();
+    }
+
+    private Activity toActivity(ActivityExecution activity, String topic) {
+        var variables = Stream.concat(
+                variablePersistence.findInProcessScope(activity.processId()).stream(),
+                variablePersistence.findInProcess(activity.processId()).stream()
+                        .filter(variable -> activity.id().equals(variable.executionId()))
+        ).toList();
+
+        return Activity.builder()
+                .id(activity.id())
+                .processId(activity.processId())
+                .processBusinessKey(activity.process().businessKey())
+                .processDefinitionKey(activity.processDefinitionKey())
+                .topic(topic)
+                .definitionId(activity.definitionId())
+                .variables(variables)
+                .state(activity.state())
+                .retries(activity.retries())
+                .timeout(activity.timeout())
+                .failure(activity.failure())
+                .createdAt(activity.createdAt())
+                .updatedAt(activity.updatedAt())
+                .startedAt(activity.startedAt())
+                .completedAt(activity.completedAt())
+                .build();
+    }
+
+    private void notifyScheduled(ActivityExecution activity) {
+        if (activity.definition() instanceof ExternalTaskDefinition externalTask && externalTask.topic() != null) {
+            scheduleListeners.forEach(listener -> listener.onScheduled(activity.processDefinitionKey(), externalTask.topic()));
+        }
+    }
+
+    private ActivityExecution save(ActivityExecution activity, ActivityState state) {
+        var newActivity = ActivityStateTransition.to(state).apply(activity.id() == null
+                ? activity.toBuilder().id(IdGenerator.getNewId()).build()
+                : activity);
+        activityStore.put(newActivity);
+        return newActivity;
+    }
+
+}
@@ -0,0 +1,18 @@
+package com.leorces.persistence.memory;
+
+import com.leorces.persistence.AdminPersistence;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.function.Supplier;
+
+@Slf4j
+@Service
+public class AdminPersistenceImpl implements AdminPersistence {
+
+    @Override
+    public <T> T execute(Supplier<T> action) {
+        return action.get();
+    }
+
+}
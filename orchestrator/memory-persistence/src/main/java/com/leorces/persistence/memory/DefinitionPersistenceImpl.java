@@ -0,0 +1,163 @@
+package com.leorces.persistence.memory;
+
+import com.leorces.model.definition.ProcessDefinition;
+import com.leorces.model.pagination.Pageable;
+import com.leorces.model.pagination.PageableData;
+import com.leorces.persistence.DefinitionPersistence;
+import com.leorces.persistence.utils.IdGenerator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Predicate;
+
+@Slf4j
+@Service
+public class DefinitionPersistenceImpl implements DefinitionPersistence {
+
+    private static final String SORT_BY_NAME = "definition_name";
+
+    private final Map<String, ProcessDefinition> definitions = new ConcurrentHashMap<>();
+    private final Map<String, NavigableMap<Integer, String>> idsByKey = new ConcurrentHashMap<>();
+
+    @Override
+    public synchronized List<ProcessDefinition> save(List<ProcessDefinition> definitions) {
+        return definitions.stream()
+                .map(this::save)
+                .toList();
+    }
+
+    @Override
+    public Optional<ProcessDefinition> findById(String definitionId) {
+        return Optional.ofNullable(definitions.get(definitionId));
+    }
+
+    @Override
+    public Optional<ProcessDefinition> findFullById(String id) {
+        return findById(id);
+    }
+
+    @Override
+    public Optional<ProcessDefinition> findLatestByKey(String key) {
+        return Optional.ofNullable(idsByKey.get(key))
+                .map(NavigableMap::lastEntry)
+                .map(Map.Entry::getValue)
+                .flatMap(this::findById);
+    }
+
+    @Override
+    public Optional<ProcessDefinition> findByKeyAndVersion(String key, Integer version) {
+        return Optional.ofNullable(idsByKey.get(key))
+                .map(versions -> versions.get(version))
+                .flatMap(this::findById);
+    }
+
+    @Override
+    public PageableData<ProcessDefinition> findAll(Pageable pageable) {
+        var filtered = definitions.values().stream()
+                .filter(matches(pageable.filter()))
+                .toList();
+        var keyOrder = SORT_BY_NAME.equals(pageable.sortByField())
+                ? Comparator.comparing(ProcessDefinition::name, Comparator.nullsLast(Comparator.naturalOrder()))
+                : Comparator.comparing(ProcessDefinition::key);
+        if (pageable.order() != null && pageable.order().isDescending()) {
+            keyOrder = keyOrder.reversed();
+        }
+
+        var keys = filtered.stream()
+                .sorted(keyOrder)
+                .map(ProcessDefinition::key)
+                .distinct()
+                .skip(pageable.offset())
+                .limit(pageable.limit())
+                .toList();
+        var data = keys.stream()
+                .flatMap(key -> filtered.stream()
+                        .filter(definition -> definition.key().equals(key))
+                        .sorted(Comparator.comparing(ProcessDefinition::version)))
+                .toList();
+        return new PageableData<>(data, filtered.size());
+    }
+
+    @Override
+    public void suspendById(String definitionId) {
+        log.debug("Suspend definition by id: {}", definitionId);
+        setSuspended(definitionId, true);
+    }
+
+    @Override
+    public void suspendByKey(String definitionKey) {
+        log.debug("Suspend definition by key: {}", definitionKey);
+        findIdsByKey(definitionKey).forEach(definitionId -> setSuspended(definitionId, true));
+    }
+
+    @Override
+    public void resumeById(String definitionId) {
+        log.debug("Resume definition by id: {}", definitionId);
+        setSuspended(definitionId, false);
+    }
+
+    @Override
+    public void resumeByKey(String definitionKey) {
+        log.debug("Resume definition by key: {}", definitionKey);
+        findIdsByKey(definitionKey).forEach(definitionId -> setSuspended(definitionId, false));
+    }
+
+    private ProcessDefinition save(ProcessDefinition definition) {
+        return findLatestByKey(definition.key())
+                .map(existing -> isSchemaChanged(existing, definition)
+                        ? createNewProcessDefinition(definition, existing.version() + 1)
+                        : existing)
+                .orElseGet(() -> createNewProcessDefinition(definition, 1));
+    }
+
+    private ProcessDefinition createNewProcessDefinition(ProcessDefinition definition, int version) {
+        var now = LocalDateTime.now();
+        var newDefinition = definition.toBuilder()
+                .id(IdGenerator.getNewId())
+                .version(version)
+                .suspended(false)
+                .createdAt(definition.createdAt() == null ? now : definition.createdAt())
+                .updatedAt(now)
+                .build();
+        definitions.put(newDefinition.id(), newDefinition);
+        idsByKey.computeIfAbsent(newDefinition.key(), key -> new ConcurrentSkipListMap<>())
+                .put(version, newDefinition.id());
+        return newDefinition;
+    }
+
+    private void setSuspended(String definitionId, boolean suspended) {
+        definitions.computeIfPresent(definitionId, (id, definition) -> definition.toBuilder()
+                .suspended(suspended)
+                .updatedAt(LocalDateTime.now())
+                .build());
+    }
+
+    private List<String> findIdsByKey(String definitionKey) {
+        return List.copyOf(idsByKey.getOrDefault(definitionKey, new ConcurrentSkipListMap<>()).values());
+    }
+
+    private boolean isSchemaChanged(ProcessDefinition existingDefinition, ProcessDefinition newDefinition) {
+        return !existingDefinition.metadata().schema().equals(newDefinition.metadata().schema());
+    }
+
+    private static Predicate<ProcessDefinition> matches(String filter) {
+        if (filter == null || filter.isBlank()) {
+            return definition -> true;
+        }
+
+        var value = filter.toLowerCase(Locale.ROOT);
+        return definition -> "%s %s %s".formatted(definition.id(), definition.key(), definition.name())
+                .toLowerCase(Locale.ROOT)
+                .contains(value);
+    }
+
+}
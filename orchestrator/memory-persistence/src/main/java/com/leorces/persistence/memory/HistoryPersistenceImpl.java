@@ -0,0 +1,112 @@
+package com.leorces.persistence.memory;
+
+import com.leorces.model.pagination.Pageable;
+import com.leorces.model.pagination.PageableData;
+import com.leorces.model.runtime.activity.Activity;
+import com.leorces.model.runtime.message.MessageSubscription;
+import com.leorces.model.runtime.process.ProcessExecution;
+import com.leorces.model.runtime.variable.Variable;
+import com.leorces.persistence.HistoryPersistence;
+import com.leorces.persistence.ProcessPersistence;
+import com.leorces.persistence.memory.lock.ProcessLocks;
+import com.leorces.persistence.memory.store.ActivityStore;
+import com.leorces.persistence.memory.store.MessageSubscriptionStore;
+import com.leorces.persistence.memory.store.ProcessStore;
+import com.leorces.persistence.memory.store.VariableStore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class HistoryPersistenceImpl implements HistoryPersistence {
+
+    private final ProcessPersistence processPersistence;
+    private final ProcessStore processStore;
+    private final ActivityStore activityStore;
+    private final VariableStore variableStore;
+    private final MessageSubscriptionStore subscriptionStore;
+    private final ProcessLocks processLocks;
+    private final Map<String, ProcessExecution> history = new ConcurrentHashMap<>();
+
+    @Override
+    public void save(List<ProcessExecution> processes) {
+        processes.forEach(process -> processLocks.withLock(process.id(), () -> move(process)));
+    }
+
+    @Override
+    public int compact(int limit, int fetchSize) {
+        // Processes are already in memory, so there is nothing to read in chunks
+        return (int) processPersistence.findAllFullyCompletedForUpdate(limit).stream()
+                .filter(process -> processLocks.withLock(process.id(), () -> processStore.findById(process.id())
+                        .map(existing -> move(process))
+                        .orElse(false)))
+                .count();
+    }
+
+    @Override
+    public int purge(LocalDateTime completedBefore) {
+        log.debug("Purging history of processes completed before: {}", completedBefore);
+        var expired = history.values().stream()
+                .filter(process -> process.completedAt() != null && process.completedAt().isBefore(completedBefore))
+                .map(ProcessExecution::id)
+                .toList();
+        expired.forEach(history::remove);
+        return expired.size();
+    }
+
+    @Override
+    public PageableData<ProcessExecution> findAll(Pageable pageable) {
+        return Pages.page(history.values().stream(), pageable, ProcessExecution::createdAt, ProcessExecution::id);
+    }
+
+    @Override
+    public PageableData<ProcessExecution> findAllSummaries(Pageable pageable) {
+        return findAll(pageable).map(processes -> processes.stream()
+                .map(this::withoutVariables)
+                .toList());
+    }
+
+    private boolean move(ProcessExecution process) {
+        history.put(process.id(), process);
+        processStore.remove(process.id());
+        process.activities().stream()
+                .map(Activity::id)
+                .forEach(activityStore::remove);
+        extractVariableIds(process).forEach(variableStore::remove);
+        activityStore.removeCounters(process.id());
+        subscriptionStore.findByProcessId(process.id())
+                .map(MessageSubscription::id)
+                .toList()
+                .forEach(subscriptionStore::remove);
+        return true;
+    }
+
+    // Same as a summary read from Postgres: variables are not loaded rather than empty
+    private ProcessExecution withoutVariables(ProcessExecution process) {
+        return process.toBuilder()
+                .variables(null)
+                .activities(process.activities().stream()
+                        .map(activity -> activity.toBuilder().variables(null).build())
+                        .toList())
+                .build();
+    }
+
+    private Stream<String> extractVariableIds(ProcessExecution process) {
+        return Stream.concat(
+                        process.variables().stream(),
+                        process.activities().stream()
+                                .flatMap(activity -> activity.variables().stream())
+                )
+                .map(Variable::id)
+                .distinct();
+    }
+
+}
@@ -0,0 +1,89 @@
+package com.leorces.persistence.memory;
+
+import com.leorces.model.job.Job;
+import com.leorces.model.job.JobState;
+import com.leorces.model.pagination.Pageable;
+import com.leorces.model.pagination.PageableData;
+import com.leorces.persistence.JobPersistence;
+import com.leorces.persistence.utils.IdGenerator;
+import com.leorces.persistence.utils.JobStateTransition;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Slf4j
+@Service
+public class JobPersistenceImpl implements JobPersistence {
+
+    private final Map<String, Job> jobs = new ConcurrentHashMap<>();
+
+    @Override
+    public Job create(Job job) {
+        log.debug("Create job: {}", job);
+        return save(job, JobState.CREATED);
+    }
+
+    @Override
+    public Job run(Job job) {
+        log.debug("Run job: {}", job);
+        return save(job, JobState.RUNNING);
+    }
+
+    @Override
+    public Job complete(Job job) {
+        log.debug("Complete job: {}", job);
+        return save(job, JobState.COMPLETED);
+    }
+
+    @Override
+    public Job fail(Job job) {
+        log.debug("Fail job: {}", job);
+        return save(job, JobState.FAILED);
+    }
+
+    @Override
+    public Job checkpoint(Job job) {
+        log.debug("Checkpoint job: {}", job);
+        var checkpoint = job.toBuilder()
+                .updatedAt(LocalDateTime.now())
+                .build();
+        jobs.put(checkpoint.id(), checkpoint);
+        return checkpoint;
+    }
+
+    @Override
+    public PageableData<Job> findAll(Pageable pageable) {
+        log.debug("Finding all jobs with pageable: {}", pageable);
+        var filter = pageable.filter() == null ? "" : pageable.filter().toLowerCase(Locale.ROOT);
+        var filtered = jobs.values().stream()
+                .filter(job -> "%s %s %s".formatted(job.id(), job.type(), job.state())
+                        .toLowerCase(Locale.ROOT)
+                        .contains(filter))
+                .filter(job -> isAnyState(pageable.state()) || pageable.state().equalsIgnoreCase(job.state().name()));
+        return Pages.page(filtered, pageable, Job::createdAt, Job::id);
+    }
+
+    @Override
+    public Optional<Job> findJobById(String jobId) {
+        log.debug("Finding job by id: {}", jobId);
+        return Optional.ofNullable(jobs.get(jobId));
+    }
+
+    private Job save(Job job, JobState state) {
+        var newJob = JobStateTransition.to(state).apply(job.id() == null
+                ? job.toBuilder().id(IdGenerator.getNewId()).build()
+                : job);
+        jobs.put(newJob.id(), newJob);
+        return newJob;
+    }
+
+    private static boolean isAnyState(String state) {
+        return state == null || state.isBlank() || "all".equalsIgnoreCase(state);
+    }
+
+}
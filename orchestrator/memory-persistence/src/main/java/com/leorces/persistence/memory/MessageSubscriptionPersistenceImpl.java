@@ -0,0 +1,98 @@
+package com.leorces.persistence.memory;
+
+import com.leorces.model.runtime.message.CorrelationRequest;
+import com.leorces.model.runtime.message.MessageSubscription;
+import com.leorces.model.runtime.variable.Variable;
+import com.leorces.persistence.MessageSubscriptionPersistence;
+import com.leorces.persistence.VariablePersistence;
+import com.leorces.persistence.memory.store.MessageSubscriptionStore;
+import com.leorces.persistence.utils.IdGenerator;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+@Slf4j
+@Service
+@AllArgsConstructor
+public class MessageSubscriptionPersistenceImpl implements MessageSubscriptionPersistence {
+
+    private final VariablePersistence variablePersistence;
+    private final MessageSubscriptionStore subscriptionStore;
+
+    @Override
+    public void save(List<MessageSubscription> subscriptions) {
+        log.debug("Save {} message subscriptions", subscriptions.size());
+        var now = LocalDateTime.now();
+        subscriptions.forEach(subscription -> subscriptionStore.putIfAbsent(subscription.toBuilder()
+                .id(subscription.id() == null ? IdGenerator.getNewId() : subscription.id())
+                .createdAt(subscription.createdAt() == null ? now : subscription.createdAt())
+                .build()));
+    }
+
+    @Override
+    public List<MessageSubscription> findByMessage(String messageName,
+                                                   String businessKey,
+                                                   Map<String, Object> correlationKeys,
+                                                   int limit) {
+        log.debug("Finding subscriptions to message: {} with business key: {}", messageName, businessKey);
+        var variables = correlationKeys == null ? Map.<String, Object>of() : correlationKeys;
+        return subscriptionStore.findByMessageName(messageName)
+                .filter(subscription -> businessKey == null || businessKey.equals(subscription.businessKey()))
+                .filter(subscription -> hasVariables(subscription.processId(), variables))
+                .limit(limit)
+                .toList();
+    }
+
+    @Override
+    public List<List<MessageSubscription>> findByMessages(List<CorrelationRequest> requests, int limit) {
+        log.debug("Finding subscriptions to {} messages", requests.size());
+        return requests.stream()
+                .map(request -> findByMessage(
+                        request.messageName(),
+                        request.businessKey() == null || request.businessKey().isBlank() ? null : request.businessKey(),
+                        request.correlationKeys(),
+                        limit
+                ))
+                .toList();
+    }
+
+    @Override
+    public void cancel(String processId, String activityDefinitionId) {
+        log.debug("Cancel message subscriptions of activity: {} in process: {}", activityDefinitionId, processId);
+        subscriptionStore.findByProcessId(processId)
+                .filter(subscription -> Objects.equals(activityDefinitionId, subscription.activityDefinitionId()))
+                .map(MessageSubscription::id)
+                .toList()
+                .forEach(subscriptionStore::remove);
+    }
+
+    @Override
+    public void cancelAll(String processId) {
+        log.debug("Cancel all message subscriptions of process: {}", processId);
+        subscriptionStore.findByProcessId(processId)
+                .map(MessageSubscription::id)
+                .toList()
+                .forEach(subscriptionStore::remove);
+    }
+
+    private boolean hasVariables(String processId, Map<String, Object> correlationKeys) {
+        if (correlationKeys.isEmpty()) {
+            return true;
+        }
+
+        var variables = variablePersistence.findInProcessScope(processId);
+        return correlationKeys.entrySet().stream()
+                .allMatch(entry -> variables.stream().anyMatch(variable -> matches(variable, entry)));
+    }
+
+    private static boolean matches(Variable variable, Map.Entry<String, Object> correlationKey) {
+        return variable.varKey().equals(correlationKey.getKey())
+                && Objects.equals(variable.varValue(), String.valueOf(correlationKey.getValue()));
+    }
+
+}
@@ -0,0 +1,37 @@
+package com.leorces.persistence.memory;
+
+import com.leorces.model.pagination.PageCursor;
+import com.leorces.model.pagination.Pageable;
+import com.leorces.model.pagination.PageableData;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Pages items from newest to oldest by creation time and id, like the Postgres listings.
+ * Totals are always exact, counting in memory is cheap.
+ */
+final class Pages {
+
+    private Pages() {
+    }
+
+    static <T> PageableData<T> page(Stream<T> items,
+                                    Pageable pageable,
+                                    Function<T, LocalDateTime> createdAt,
+                                    Function<T, String> id) {
+        var sorted = items
+                .sorted(Comparator.comparing(createdAt).thenComparing(id).reversed())
+                .toList();
+        var after = pageable.after();
+        var data = sorted.stream()
+                .filter(item -> after == null || after.isFollowedBy(createdAt.apply(item), id.apply(item)))
+                .skip(pageable.isKeyset() ? 0 : pageable.offset())
+                .limit(pageable.limit())
+                .toList();
+        return PageableData.of(data, sorted.size(), pageable.limit(), item -> new PageCursor(createdAt.apply(item), id.apply(item)));
+    }
+
+}
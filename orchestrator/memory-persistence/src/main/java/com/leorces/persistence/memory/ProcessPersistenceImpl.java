@@ -0,0 +1,393 @@
+package com.leorces.persistence.memory;
+
+import com.leorces.model.pagination.Pageable;
+import com.leorces.model.pagination.PageableData;
+import com.leorces.model.runtime.activity.Activity;
+import com.leorces.model.runtime.activity.ActivityExecution;
+import com.leorces.model.runtime.activity.ActivityState;
+import com.leorces.model.runtime.process.Process;
+import com.leorces.model.runtime.process.ProcessExecution;
+import com.leorces.model.runtime.process.ProcessState;
+import com.leorces.model.runtime.variable.Variable;
+import com.leorces.model.search.ProcessFilter;
+import com.leorces.persistence.DefinitionPersistence;
+import com.leorces.persistence.ProcessPersistence;
+import com.leorces.persistence.VariablePersistence;
+import com.leorces.persistence.memory.lock.ProcessLocks;
+import com.leorces.persistence.memory.store.ActivityStore;
+import com.leorces.persistence.memory.store.ProcessStore;
+import com.leorces.persistence.utils.IdGenerator;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+@Slf4j
+@Service
+@AllArgsConstructor
+public class ProcessPersistenceImpl implements ProcessPersistence {
+
+    private static final int FILTER_LIMIT = 100;
+    private static final Set<ProcessState> RUNNING_STATES = EnumSet.of(ProcessState.ACTIVE, ProcessState.INCIDENT);
+    private static final Set<ProcessState> FINISHED_STATES = EnumSet.of(ProcessState.COMPLETED, ProcessState.TERMINATED);
+    private static final Set<ActivityState> FINISHED_ACTIVITY_STATES = EnumSet.of(ActivityState.COMPLETED, ActivityState.TERMINATED);
+
+    private final VariablePersistence variablePersistence;
+    private final DefinitionPersistence definitionPersistence;
+    private final ProcessStore processStore;
+    private final ActivityStore activityStore;
+    private final ProcessLocks processLocks;
+
+    @Override
+    public Process run(Process process) {
+        log.debug("Run process: {}", process.definitionKey());
+        var newProcess = toNewProcess(process);
+        return processLocks.withLock(newProcess.id(), () -> {
+            processStore.put(newProcess);
+            var newVariables = variablePersistence.save(newProcess);
+            return newProcess.toBuilder()
+                    .variables(newVariables)
+                    .build();
+        });
+    }
+
+    @Override
+    public List<Process> runAll(List<Process> processes) {
+        log.debug("Run {} processes", processes.size());
+        return processes.stream()
+                .map(this::run)
+                .toList();
+    }
+
+    @Override
+    public void complete(String processId) {
+        log.debug("Complete process: {}", processId);
+        finish(processId, ProcessState.COMPLETED);
+    }
+
+    @Override
+    public void terminate(String processId) {
+        log.debug("Terminate process: {}", processId);
+        finish(processId, ProcessState.TERMINATED);
+    }
+
+    @Override
+    public void delete(String processId) {
+        log.debug("Delete process: {}", processId);
+        processLocks.withLock(processId, () -> {
+            processStore.remove(processId);
+            variablePersistence.deleteByExecutionId(processId);
+        });
+    }
+
+    @Override
+    public void incident(String processId) {
+        log.debug("Incident process: {}", processId);
+        changeState(processId, ProcessState.INCIDENT);
+    }
+
+    @Override
+    public void suspendById(String processId) {
+        log.debug("Suspend process by id: {}", processId);
+        processStore.findById(processId)
+                .filter(isRunning(false))
+                .ifPresent(process -> setSuspended(process.id(), true));
+    }
+
+    @Override
+    public int suspendByDefinitionId(String definitionId, int batchSize) {
+        log.debug("Suspend processes by definition id: {}, batchSize: {}", definitionId, batchSize);
+        return setSuspended(process -> process.definitionId().equals(definitionId), batchSize, true);
+    }
+
+    @Override
+    public int suspendByDefinitionKey(String definitionKey, int batchSize) {
+        log.debug("Suspend processes by definition key: {}, batchSize: {}", definitionKey, batchSize);
+        return setSuspended(process -> process.definitionKey().equals(definitionKey), batchSize, true);
+    }
+
+    @Override
+    public void resumeById(String processId) {
+        log.debug("Resume process by id: {}", processId);
+        processStore.findById(processId)
+                .filter(isRunning(true))
+                .ifPresent(process -> setSuspended(process.id(), false));
+    }
+
+    @Override
+    public int resumeByDefinitionId(String definitionId, int batchSize) {
+        log.debug("Resume processes by definition id: {}", definitionId);
+        return setSuspended(process -> process.definitionId().equals(definitionId), batchSize, false);
+    }
+
+    @Override
+    public int resumeByDefinitionKey(String definitionKey, int batchSize) {
+        log.debug("Resume processes by definition key: {}", definitionKey);
+        return setSuspended(process -> process.definitionKey().equals(definitionKey), batchSize, false);
+    }
+
+    @Override
+    public void changeState(String processId, ProcessState state) {
+        log.debug("Change process: {} state to: {}", processId, state);
+        update(processId, process -> process.toBuilder()
+                .state(state)
+                .updatedAt(LocalDateTime.now())
+                .build());
+    }
+
+    @Override
+    public int updateDefinitionId(String fromDefinitionId, String toDefinitionId, int batchSize) {
+        log.debug("Updating definition id from: {} to: {} with batch size: {}", fromDefinitionId, toDefinitionId, batchSize);
+        var processIds = processStore.findAll()
+                .filter(process -> process.definitionId().equals(fromDefinitionId))
+                .sorted(Comparator.comparing(Process::createdAt))
+                .limit(batchSize)
+                .map(Process::id)
+                .toList();
+        return updateDefinitionId(toDefinitionId, processIds);
+    }
+
+    @Override
+    public int updateDefinitionId(String toDefinitionId, List<String> processIds) {
+        log.debug("Updating definition id to: {} for processes: {}", toDefinitionId, processIds);
+        var definition = definitionPersistence.findById(toDefinitionId).orElseThrow();
+        var updatedProcessIds = processIds.stream()
+                .filter(processId -> update(processId, process -> process.toBuilder()
+                        .definition(definition)
+                        .updatedAt(LocalDateTime.now())
+                        .build()))
+                .toList();
+        variablePersistence.updateDefinitionId(toDefinitionId, updatedProcessIds);
+        return updatedProcessIds.size();
+    }
+
+    @Override
+    public Optional<Process> findById(String processId) {
+        log.debug("Finding process by id: {}", processId);
+        return processStore.findById(processId)
+                .map(this::withVariables);
+    }
+
+    @Override
+    public List<Process> findAllByIds(List<String> processIds) {
+        log.debug("Finding {} processes by ids", processIds.size());
+        return processIds.stream()
+                .distinct()
+                .map(this::findById)
+                .flatMap(Optional::stream)
+                .toList();
+    }
+
+    @Override
+    public Optional<ProcessExecution> findExecutionById(String processId) {
+        log.debug("Finding process execution by id: {}", processId);
+        return processStore.findById(processId)
+                .map(this::toExecution);
+    }
+
+    @Override
+    public List<ProcessExecution> findExecutionsForUpdate(String definitionId, int limit) {
+        log.debug("Finding process executions for update by definition id: {}", definitionId);
+        return processStore.findAll()
+                .filter(process -> process.definitionId().equals(definitionId))
+                .limit(limit)
+                .map(this::toExecution)
+                .toList();
+    }
+
+    @Override
+    public List<Process> findAll(ProcessFilter filter) {
+        if (filter.isEmpty()) {
+            return List.of();
+        }
+
+        var variables = filter.variables() == null ? Map.<String, Object>of() : filter.variables();
+        return processStore.findAll()
+                .filter(process -> matches(filter.processId(), process.id()))
+                .filter(process -> matches(filter.processDefinitionKey(), process.definitionKey()))
+                .filter(process -> matches(filter.processDefinitionId(), process.definitionId()))
+                .filter(process -> matches(filter.businessKey(), process.businessKey()))
+                .map(this::withVariables)
+                .filter(process -> hasVariables(process, variables))
+                .limit(FILTER_LIMIT)
+                .toList();
+    }
+
+    @Override
+    public PageableData<Process> findAll(Pageable pageable) {
+        log.debug("Finding all processes with pageable: {}", pageable);
+        var processes = processStore.findAll()
+                .filter(process -> isBlank(pageable.filter())
+                        || pageable.filter().equals(process.id())
+                        || pageable.filter().equals(process.definitionKey())
+                        || pageable.filter().equals(process.businessKey()))
+                .filter(process -> isBlank(pageable.state())
+                        || "all".equals(pageable.state())
+                        || pageable.state().equals(process.state().name()));
+        return Pages.page(processes, pageable, Process::createdAt, Process::id);
+    }
+
+    @Override
+    public List<ProcessExecution> findAllFullyCompletedForUpdate(int limit) {
+        log.debug("Finding all fully completed processes with limit: {} for update", limit);
+        return processStore.findAll()
+                .filter(process -> FINISHED_STATES.contains(process.state()))
+                .filter(process -> process.rootProcessId() == null || processStore.findById(process.rootProcessId())
+                        .map(root -> !RUNNING_STATES.contains(root.state()))
+                        .orElse(true))
+                .filter(process -> activityStore.findAll(process.id())
+                        .allMatch(activity -> FINISHED_ACTIVITY_STATES.contains(activity.state())))
+                .sorted(Comparator.comparing(Process::completedAt, Comparator.nullsLast(Comparator.naturalOrder())))
+                .limit(limit)
+                .map(this::toExecution)
+                .toList();
+    }
+
+    private Process toNewProcess(Process process) {
+        var now = LocalDateTime.now();
+        var definitionSuspended = definitionPersistence.findById(process.definitionId())
+                .map(definition -> definition.suspended())
+                .orElse(false);
+        return process.toBuilder()
+                .id(process.id() == null ? IdGenerator.getNewId() : process.id())
+                .businessKey(process.businessKey() != null ? process.businessKey() : IdGenerator.getNewId())
+                .state(ProcessState.ACTIVE)
+                .suspended(process.suspended() || definitionSuspended)
+                .createdAt(now)
+                .updatedAt(now)
+                .startedAt(now)
+                .completedAt(null)
+                .build();
+    }
+
+    private void finish(String processId, ProcessState state) {
+        update(processId, process -> {
+            var now = LocalDateTime.now();
+            return process.toBuilder()
+                    .state(state)
+                    .suspended(false)
+                    .updatedAt(now)
+                    .completedAt(now)
+                    .build();
+        });
+    }
+
+    private boolean update(String processId, UnaryOperator<Process> update) {
+        return processLocks.withLock(processId, () -> processStore.update(processId, update).isPresent());
+    }
+
+    private int setSuspended(Predicate<Process> filter, int batchSize, boolean suspended) {
+        return processStore.findAll()
+                .filter(filter)
+                .filter(isRunning(!suspended))
+                .sorted(Comparator.comparing(Process::id))
+                .limit(batchSize)
+                .mapToInt(process -> setSuspended(process.id(), suspended))
+                .sum();
+    }
+
+    /**
+     * Suspends or resumes the process and its running call activity processes.
+     *
+     * @return the number of updated processes
+     */
+    private int setSuspended(String processId, boolean suspended) {
+        var updated = update(processId, process -> process.toBuilder()
+                .suspended(suspended)
+                .updatedAt(LocalDateTime.now())
+                .build()) ? 1 : 0;
+
+        return updated + processStore.findChildIds(processId).stream()
+                .map(processStore::findById)
+                .flatMap(Optional::stream)
+                .filter(child -> RUNNING_STATES.contains(child.state()))
+                .mapToInt(child -> setSuspended(child.id(), suspended))
+                .sum();
+    }
+
+    private Predicate<Process> isRunning(boolean suspended) {
+        return process -> RUNNING_STATES.contains(process.state()) && process.suspended() == suspended;
+    }
+
+    private Process withVariables(Process process) {
+        return process.toBuilder()
+                .variables(findProcessVariables(process))
+                .build();
+    }
+
+    private List<Variable> findProcessVariables(Process process) {
+        return variablePersistence.findInProcessScope(process.id()).stream()
+                .filter(variable -> process.definitionId().equals(variable.executionDefinitionId()))
+                .toList();
+    }
+
+    private ProcessExecution toExecution(Process process) {
+        var processVariables = findProcessVariables(process);
+        var variables = variablePersistence.findInProcess(process.id());
+        var activities = activityStore.findAll(process.id())
+                .map(activity -> toActivity(activity, variables))
+                .toList();
+
+        return ProcessExecution.builder()
+                .id(process.id())
+                .rootProcessId(process.rootProcessId())
+                .parentId(process.parentId())
+                .businessKey(process.businessKey())
+                .state(process.state())
+                .suspended(process.suspended())
+                .createdAt(process.createdAt())
+                .updatedAt(process.updatedAt())
+                .startedAt(process.startedAt())
+                .completedAt(process.completedAt())
+                .definition(process.definition())
+                .variables(processVariables)
+                .activities(activities)
+                .build();
+    }
+
+    private Activity toActivity(ActivityExecution activity, List<Variable> variables) {
+        return Activity.builder()
+                .id(activity.id())
+                .definitionId(activity.definitionId())
+                .processId(activity.processId())
+                .variables(variables.stream()
+                        .filter(variable -> activity.id().equals(variable.executionId()))
+                        .filter(variable -> activity.definitionId().equals(variable.executionDefinitionId()))
+                        .toList())
+                .state(activity.state())
+                .retries(activity.retries())
+                .timeout(activity.timeout())
+                .failure(activity.failure())
+                .createdAt(activity.createdAt())
+                .updatedAt(activity.updatedAt())
+                .startedAt(activity.startedAt())
+                .completedAt(activity.completedAt())
+                .build();
+    }
+
+    private boolean hasVariables(Process process, Map<String, Object> variables) {
+        return variables.entrySet().stream()
+                .allMatch(entry -> process.variables().stream()
+                        .anyMatch(variable -> variable.varKey().equals(entry.getKey())
+                                && Objects.equals(variable.varValue(), String.valueOf(entry.getValue()))));
+    }
+
+    private static boolean matches(String expected, String actual) {
+        return isBlank(expected) || expected.equals(actual);
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+}
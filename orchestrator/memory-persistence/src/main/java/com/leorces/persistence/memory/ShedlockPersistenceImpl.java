@@ -0,0 +1,34 @@
+package com.leorces.persistence.memory;
+
+import com.leorces.persistence.ShedlockPersistence;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Service
+public class ShedlockPersistenceImpl implements ShedlockPersistence {
+
+    private final Map<String, Instant> locks = new ConcurrentHashMap<>();
+
+    @Override
+    public boolean tryAcquireLock(String name, Instant lockUntil, String lockedBy) {
+        var now = Instant.now();
+        var acquired = new boolean[1];
+        locks.compute(name, (key, existingLockUntil) -> {
+            if (existingLockUntil != null && existingLockUntil.isAfter(now)) {
+                return existingLockUntil;
+            }
+            acquired[0] = true;
+            return lockUntil;
+        });
+        return acquired[0];
+    }
+
+    @Override
+    public void releaseLock(String name) {
+        locks.computeIfPresent(name, (key, lockUntil) -> Instant.now());
+    }
+
+}
@@ -0,0 +1,119 @@
+package com.leorces.persistence.memory;
+
+import com.leorces.model.runtime.timer.Timer;
+import com.leorces.persistence.TimerPersistence;
+import com.leorces.persistence.utils.IdGenerator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * Timers kept in a set ordered by due time and ID, so due timers are read from its head
+ * and a page continues right after the last timer of the previous one.
+ */
+@Slf4j
+@Service
+public class TimerPersistenceImpl implements TimerPersistence {
+
+    private static final Comparator<Timer> DUE_ORDER = Comparator.comparing(Timer::dueAt)
+            .thenComparing(Timer::id);
+
+    private final Map<String, LeasedTimer> timers = new ConcurrentHashMap<>();
+    private final NavigableSet<Timer> dueTimers = new ConcurrentSkipListSet<>(DUE_ORDER);
+
+    @Override
+    public List<Timer> save(List<Timer> timers) {
+        log.debug("Save {} timers", timers.size());
+        return timers.stream()
+                .map(this::save)
+                .toList();
+    }
+
+    @Override
+    public List<Timer> findDue(Timer after, LocalDateTime until, int limit) {
+        log.debug("Finding timers due until: {}", until);
+        var now = LocalDateTime.now();
+        var candidates = after == null ? dueTimers : dueTimers.tailSet(after, false);
+        return candidates.stream()
+                .takeWhile(timer -> !timer.dueAt().isAfter(until))
+                .map(timer -> timers.get(timer.id()))
+                .filter(Objects::nonNull)
+                .filter(leased -> !leased.isLocked(now))
+                .map(LeasedTimer::timer)
+                .limit(limit)
+                .toList();
+    }
+
+    @Override
+    public List<Timer> claim(List<String> timerIds, Duration lease) {
+        log.debug("Claim {} timers", timerIds.size());
+        var now = LocalDateTime.now();
+        var claimed = new ArrayList<Timer>();
+        timerIds.forEach(timerId -> timers.computeIfPresent(timerId, (id, leased) -> {
+            if (leased.isLocked(now)) {
+                return leased;
+            }
+            claimed.add(leased.timer());
+            return new LeasedTimer(leased.timer(), now.plus(lease));
+        }));
+        return claimed;
+    }
+
+    @Override
+    public void delete(List<String> timerIds) {
+        log.debug("Delete {} timers", timerIds.size());
+        timerIds.forEach(this::delete);
+    }
+
+    @Override
+    public void cancel(String activityId) {
+        log.debug("Cancel timers of activity: {}", activityId);
+        timers.values().stream()
+                .map(LeasedTimer::timer)
+                .filter(timer -> timer.activityId().equals(activityId))
+                .map(Timer::id)
+                .toList()
+                .forEach(this::delete);
+    }
+
+    private Timer save(Timer timer) {
+        var newTimer = timer.toBuilder()
+                .id(timer.id() == null ? IdGenerator.getNewId() : timer.id())
+                .createdAt(timer.createdAt() == null ? LocalDateTime.now() : timer.createdAt())
+                .build();
+        timers.compute(newTimer.id(), (id, existing) -> {
+            if (existing != null) {
+                dueTimers.remove(existing.timer());
+            }
+            dueTimers.add(newTimer);
+            return new LeasedTimer(newTimer, null);
+        });
+        return newTimer;
+    }
+
+    private void delete(String timerId) {
+        timers.computeIfPresent(timerId, (id, leased) -> {
+            dueTimers.remove(leased.timer());
+            return null;
+        });
+    }
+
+    private record LeasedTimer(Timer timer, LocalDateTime lockedUntil) {
+
+        boolean isLocked(LocalDateTime now) {
+            return lockedUntil != null && !lockedUntil.isBefore(now);
+        }
+
+    }
+
+}
@@ -0,0 +1,133 @@
+package com.leorces.persistence.memory;
+
+import com.leorces.model.runtime.activity.ActivityExecution;
+import com.leorces.model.runtime.process.Process;
+import com.leorces.model.runtime.variable.Variable;
+import com.leorces.persistence.VariablePersistence;
+import com.leorces.persistence.memory.store.VariableStore;
+import com.leorces.persistence.utils.IdGenerator;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@AllArgsConstructor
+public class VariablePersistenceImpl implements VariablePersistence {
+
+    private final VariableStore variableStore;
+
+    @Override
+    public List<Variable> save(Process process) {
+        log.debug("Save variables for process: {}", process.id());
+        return saveIfAnyNew(process.variables(), variable -> variable.toBuilder()
+                .processId(process.id())
+                .executionId(process.id())
+                .executionDefinitionId(process.definitionId())
+                .build());
+    }
+
+    @Override
+    public List<Variable> save(ActivityExecution activity) {
+        log.debug("Save variables for activity: {}", activity.id());
+        return saveIfAnyNew(activity.variables(), variable -> variable.toBuilder()
+                .processId(activity.processId())
+                .executionId(activity.id())
+                .executionDefinitionId(activity.definitionId())
+                .build());
+    }
+
+    @Override
+    public List<Variable> update(List<Variable> variables) {
+        log.debug("Update variables: {}", variables);
+        return variables.stream()
+                .map(this::save)
+                .toList();
+    }
+
+    @Override
+    public List<Variable> findInScope(String processId, List<String> scope) {
+        log.debug("Finding variables in scope for process: {} and scope: {}", processId, scope);
+        var definitionIds = new HashSet<>(scope);
+        return variableStore.findByProcessId(processId)
+                .filter(variable -> definitionIds.contains(variable.executionDefinitionId()))
+                .toList();
+    }
+
+    @Override
+    public List<Variable> findInProcessScope(String processId) {
+        log.debug("Finding variables in process scope: {}", processId);
+        return variableStore.findByExecutionId(processId)
+                .filter(variable -> processId.equals(variable.processId()))
+                .toList();
+    }
+
+    @Override
+    public List<Variable> findInProcess(String processId) {
+        log.debug("Finding variables in process: {}", processId);
+        return variableStore.findByProcessId(processId).toList();
+    }
+
+    @Override
+    public Map<String, String> findValues(List<String> variableIds) {
+        log.debug("Finding values of variables: {}", variableIds);
+        return variableIds.stream()
+                .distinct()
+                .map(variableStore::findById)
+                .flatMap(Optional::stream)
+                .filter(variable -> variable.varValue() != null)
+                .collect(Collectors.toMap(Variable::id, Variable::varValue));
+    }
+
+    @Override
+    public void updateDefinitionId(String definitionId, List<String> processIds) {
+        log.debug("Updating definition id to: {} for {} processes", definitionId, processIds.size());
+        processIds.forEach(processId -> findInProcessScope(processId).forEach(variable -> save(variable.toBuilder()
+                .executionDefinitionId(definitionId)
+                .build())));
+    }
+
+    @Override
+    public void deleteByExecutionId(String executionId) {
+        log.debug("Deleting variables by execution id: {}", executionId);
+        variableStore.removeByExecutionId(executionId);
+    }
+
+    @Override
+    public void deleteByExecutionIds(List<String> executionIds) {
+        log.debug("Deleting variables by execution ids: {}", executionIds);
+        executionIds.forEach(variableStore::removeByExecutionId);
+    }
+
+    // Like the Postgres implementation, all variables are saved once any of them is new
+    private List<Variable> saveIfAnyNew(List<Variable> variables, UnaryOperator<Variable> toExecution) {
+        if (variables.stream().noneMatch(variable -> variable.id() == null)) {
+            return List.of();
+        }
+
+        return variables.stream()
+                .map(toExecution)
+                .map(this::save)
+                .toList();
+    }
+
+    private Variable save(Variable variable) {
+        var now = LocalDateTime.now();
+        var saved = variable.toBuilder()
+                .id(variable.id() == null ? IdGenerator.getNewId() : variable.id())
+                .createdAt(variable.createdAt() == null ? now : variable.createdAt())
+                .updatedAt(now)
+                .build();
+        variableStore.put(saved);
+        return saved;
+    }
+
+}
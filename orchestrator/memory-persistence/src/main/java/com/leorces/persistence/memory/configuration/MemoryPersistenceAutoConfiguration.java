@@ -0,0 +1,11 @@
+package com.leorces.persistence.memory.configuration;
+
+import com.leorces.persistence.memory.configuration.properties.MemoryPersistenceProperties;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+
+@AutoConfiguration
+@EnableConfigurationProperties(MemoryPersistenceProperties.class)
+public class MemoryPersistenceAutoConfiguration {
+
+}
@@ -0,0 +1,11 @@
+package com.leorces.persistence.memory.configuration.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "leorces.persistence.memory")
+public record MemoryPersistenceProperties(
+        @DefaultValue("256") int lockStripes
+) {
+
+}
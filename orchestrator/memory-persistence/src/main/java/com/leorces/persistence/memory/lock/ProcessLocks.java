@@ -0,0 +1,49 @@
+package com.leorces.persistence.memory.lock;
+
+import com.leorces.persistence.memory.configuration.properties.MemoryPersistenceProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Striped locks that serialize the writes of one process instance.
+ * <p>
+ * Every process ID maps to one of {@code leorces.persistence.memory.lock-stripes} locks, so the activities,
+ * variables and state of one process always change together while writes of different processes rarely contend.
+ * Reads go to the concurrent maps of the stores and never take a lock.
+ */
+@Component
+public class ProcessLocks {
+
+    private final ReentrantLock[] stripes;
+
+    public ProcessLocks(MemoryPersistenceProperties properties) {
+        if (properties.lockStripes() < 1) {
+            throw new IllegalArgumentException("Lock stripes must be positive: " + properties.lockStripes());
+        }
+
+        this.stripes = new ReentrantLock[properties.lockStripes()];
+        for (int i = 0; i < stripes.length; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+    }
+
+    public <T> T withLock(String processId, Supplier<T> action) {
+        var lock = stripes[Math.floorMod(processId.hashCode(), stripes.length)];
+        lock.lock();
+        try {
+            return action.get();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void withLock(String processId, Runnable action) {
+        withLock(processId, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+}
@@ -0,0 +1,352 @@
+package com.leorces.persistence.memory.store;
+
+import com.leorces.model.definition.activity.ExternalTaskDefinition;
+import com.leorces.model.runtime.activity.ActivityExecution;
+import com.leorces.model.runtime.activity.ActivityState;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+
+/**
+ * Activity executions without their variables, indexed by process, by timeout and by external task topic.
+ * <p>
+ * Timeouts of scheduled and active activities are kept in a set ordered by due time, so timed out activities
+ * are read from its head instead of scanning every activity. Scheduled external tasks are queued per process
+ * definition key and topic in lock-free queues. A poll takes IDs from the head of the queue and starts
+ * the activities that are still scheduled; IDs of activities that left the scheduled state are dropped,
+ * and IDs of activities of suspended processes go back to the tail. A topic nobody polls drops those IDs
+ * whenever its queue has doubled since it was last pruned, so it holds at most twice as many IDs as scheduled activities.
+ * <p>
+ * Arrivals at joining gateways and running instances of multi-instance activities are counted per process and definition.
+ * <p>
+ * Activities are returned with the current state of their process.
+ */
+@Component
+@RequiredArgsConstructor
+public class ActivityStore {
+
+    private static final Set<ActivityState> TIMEOUT_STATES = EnumSet.of(ActivityState.SCHEDULED, ActivityState.ACTIVE);
+    private static final int MIN_PRUNE_SIZE = 1024;
+
+    private final ProcessStore processStore;
+    private final Map<String, ActivityExecution> activities = new ConcurrentHashMap<>();
+    private final MultiIndex idsByProcessId = new MultiIndex();
+    private final NavigableSet<Deadline> deadlines = new ConcurrentSkipListSet<>();
+    private final Map<TopicKey, TopicQueue> scheduledByTopic = new ConcurrentHashMap<>();
+    private final Map<String, Map<String, Long>> countersByProcessId = new ConcurrentHashMap<>();
+    private final Map<String, Set<Arrival>> arrivalsByProcessId = new ConcurrentHashMap<>();
+    private final Map<String, Map<String, Long>> instanceCountersByProcessId = new ConcurrentHashMap<>();
+    private final Map<String, Map<String, String>> instanceBodiesByProcessId = new ConcurrentHashMap<>();
+
+    public void put(ActivityExecution activity) {
+        var stored = activity.toBuilder()
+                .variables(null)
+                .scopedVariables(null)
+                .process(activity.process().toBuilder().variables(null).build())
+                .build();
+
+        activities.compute(activity.id(), (id, existing) -> {
+            replaceDeadline(existing, stored);
+            return stored;
+        });
+        idsByProcessId.add(activity.processId(), activity.id());
+    }
+
+    public Optional<ActivityExecution> update(String activityId, UnaryOperator<ActivityExecution> update) {
+        return Optional.ofNullable(activities.computeIfPresent(activityId, (id, existing) -> {
+                    var updated = update.apply(existing);
+                    replaceDeadline(existing, updated);
+                    return updated;
+                }))
+                .map(this::withCurrentProcess);
+    }
+
+    public void remove(String activityId) {
+        activities.computeIfPresent(activityId, (id, activity) -> {
+            replaceDeadline(activity, null);
+            idsByProcessId.remove(activity.processId(), id);
+            return null;
+        });
+    }
+
+    public void createJoin(String processId, String definitionId) {
+        countersOf(processId).putIfAbsent(definitionId, 0L);
+    }
+
+    /**
+     * Counts an arrival unless it was counted before. The arrival is recorded while the counter is held,
+     * so a repeated arrival racing the first one is never counted twice.
+     */
+    public long join(String processId, String definitionId, String arrivalId) {
+        var arrivals = arrivalsOf(processId);
+        var joined = new long[]{0};
+        var counter = countersOf(processId).computeIfPresent(definitionId, (id, count) -> {
+            if (arrivals.add(new Arrival(definitionId, arrivalId))) {
+                joined[0] = count + 1;
+                return count + 1;
+            }
+            return count;
+        });
+        return counter == null ? -1 : joined[0];
+    }
+
+    public void startInstances(String processId, String bodyId, long count) {
+        instanceCountersOf(processId).put(bodyId, count);
+    }
+
+    public void addInstances(String processId, String bodyId, List<String> instanceIds) {
+        var bodies = instanceBodiesOf(processId);
+        instanceIds.forEach(instanceId -> bodies.putIfAbsent(instanceId, bodyId));
+    }
+
+    public long completeInstance(String processId, String instanceId) {
+        var bodyId = instanceBodiesOf(processId).remove(instanceId);
+        if (bodyId == null) {
+            return -1;
+        }
+
+        var remaining = instanceCountersOf(processId).computeIfPresent(bodyId, (id, count) -> count - 1);
+        return remaining == null ? -1 : remaining;
+    }
+
+    public Optional<String> findInstanceBody(String processId, String instanceId) {
+        return Optional.ofNullable(instanceBodiesOf(processId).get(instanceId));
+    }
+
+    public void removeCounters(String processId) {
+        countersByProcessId.remove(processId);
+        arrivalsByProcessId.remove(processId);
+        instanceCountersByProcessId.remove(processId);
+        instanceBodiesByProcessId.remove(processId);
+    }
+
+    public Optional<ActivityExecution> findById(String activityId) {
+        return Optional.ofNullable(activities.get(activityId))
+                .map(this::withCurrentProcess);
+    }
+
+    public Stream<ActivityExecution> findAll(String processId) {
+        return idsByProcessId.get(processId).stream()
+                .map(activities::get)
+                .filter(Objects::nonNull)
+                .sorted(Comparator.comparing(ActivityExecution::createdAt, Comparator.nullsLast(Comparator.naturalOrder())))
+                .map(this::withCurrentProcess);
+    }
+
+    /**
+     * Moves the timeout of timed out activities to the end of the lease.
+     *
+     * @return the claimed activities with the timeout they had before the claim
+     */
+    public List<ActivityExecution> claimTimedOut(LocalDateTime now, LocalDateTime leaseUntil, int limit) {
+        var claimed = new ArrayList<ActivityExecution>();
+
+        for (var deadline : timedOut(now)) {
+            if (claimed.size() >= limit) {
+                break;
+            }
+
+            activities.computeIfPresent(deadline.activityId(), (id, activity) -> {
+                if (!deadline.equals(deadlineOf(activity))) {
+                    return activity;
+                }
+                var leased = activity.toBuilder().timeout(leaseUntil).build();
+                replaceDeadline(activity, leased);
+                claimed.add(activity);
+                return leased;
+            });
+        }
+
+        return claimed.stream()
+                .map(this::withCurrentProcess)
+                .toList();
+    }
+
+    /**
+     * Queues a scheduled external task for polling. Other activities are ignored.
+     */
+    public void enqueue(ActivityExecution activity) {
+        if (activity.definition() instanceof ExternalTaskDefinition externalTask && externalTask.topic() != null) {
+            var queue = scheduledByTopic.computeIfAbsent(new TopicKey(activity.processDefinitionKey(), externalTask.topic()), key -> new TopicQueue());
+            queue.offer(activity.id());
+            if (queue.isPruneDue()) {
+                queue.prune(this::isScheduled);
+            }
+        }
+    }
+
+    /**
+     * Takes up to {@code limit} scheduled external tasks of the topic and starts them.
+     *
+     * @param start the transition applied to each taken activity
+     * @return the started activities
+     */
+    public List<ActivityExecution> poll(String topic, String processDefinitionKey, int limit, UnaryOperator<ActivityExecution> start) {
+        var queue = scheduledByTopic.get(new TopicKey(processDefinitionKey, topic));
+        if (queue == null) {
+            return List.of();
+        }
+
+        var polled = new ArrayList<ActivityExecution>();
+        var suspended = new ArrayList<String>();
+        String activityId;
+
+        while (polled.size() < limit && (activityId = queue.poll()) != null) {
+            var activity = findById(activityId);
+            if (activity.isEmpty() || !activity.get().isScheduled()) {
+                continue;
+            }
+            if (activity.get().process().suspended()) {
+                suspended.add(activityId);
+                continue;
+            }
+            startIfScheduled(activityId, start).ifPresent(polled::add);
+        }
+
+        suspended.forEach(queue::offer);
+        return polled;
+    }
+
+    /**
+     * Returns the number of IDs queued for the topic, including IDs of activities that are no longer scheduled.
+     */
+    int countQueued(String topic, String processDefinitionKey) {
+        var queue = scheduledByTopic.get(new TopicKey(processDefinitionKey, topic));
+        return queue == null ? 0 : queue.size();
+    }
+
+    private Map<String, Long> countersOf(String processId) {
+        return countersByProcessId.computeIfAbsent(processId, id -> new ConcurrentHashMap<>());
+    }
+
+    private Set<Arrival> arrivalsOf(String processId) {
+        return arrivalsByProcessId.computeIfAbsent(processId, id -> ConcurrentHashMap.newKeySet());
+    }
+
+    private Map<String, Long> instanceCountersOf(String processId) {
+        return instanceCountersByProcessId.computeIfAbsent(processId, id -> new ConcurrentHashMap<>());
+    }
+
+    private Map<String, String> instanceBodiesOf(String processId) {
+        return instanceBodiesByProcessId.computeIfAbsent(processId, id -> new ConcurrentHashMap<>());
+    }
+
+    private Optional<ActivityExecution> startIfScheduled(String activityId, UnaryOperator<ActivityExecution> start) {
+        var started = new ActivityExecution[1];
+        activities.computeIfPresent(activityId, (id, activity) -> {
+            if (!activity.isScheduled()) {
+                return activity;
+            }
+            started[0] = start.apply(activity);
+            replaceDeadline(activity, started[0]);
+            return started[0];
+        });
+        return Optional.ofNullable(started[0])
+                .map(this::withCurrentProcess);
+    }
+
+    private boolean isScheduled(String activityId) {
+        var activity = activities.get(activityId);
+        return activity != null && activity.isScheduled();
+    }
+
+    private NavigableSet<Deadline> timedOut(LocalDateTime now) {
+        return deadlines.headSet(new Deadline(now, ""), false);
+    }
+
+    private void replaceDeadline(ActivityExecution existing, ActivityExecution updated) {
+        var existingDeadline = deadlineOf(existing);
+        if (existingDeadline != null) {
+            deadlines.remove(existingDeadline);
+        }
+
+        var updatedDeadline = deadlineOf(updated);
+        if (updatedDeadline != null) {
+            deadlines.add(updatedDeadline);
+        }
+    }
+
+    private Deadline deadlineOf(ActivityExecution activity) {
+        return activity != null && activity.timeout() != null && TIMEOUT_STATES.contains(activity.state())
+                ? new Deadline(activity.timeout(), activity.id())
+                : null;
+    }
+
+    private ActivityExecution withCurrentProcess(ActivityExecution activity) {
+        return processStore.findById(activity.processId())
+                .map(process -> activity.toBuilder().process(process).build())
+                .orElse(activity);
+    }
+
+    private record Deadline(LocalDateTime timeout, String activityId) implements Comparable<Deadline> {
+
+        @Override
+        public int compareTo(Deadline other) {
+            var result = timeout.compareTo(other.timeout);
+            return result != 0 ? result : activityId.compareTo(other.activityId);
+        }
+
+    }
+
+    private record TopicKey(String processDefinitionKey, String topic) {
+
+    }
+
+    private static final class TopicQueue {
+
+        private final Queue<String> activityIds = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger size = new AtomicInteger();
+        private volatile int pruneAt = MIN_PRUNE_SIZE;
+
+        void offer(String activityId) {
+            activityIds.offer(activityId);
+            size.incrementAndGet();
+        }
+
+        String poll() {
+            var activityId = activityIds.poll();
+            if (activityId != null) {
+                size.decrementAndGet();
+            }
+            return activityId;
+        }
+
+        int size() {
+            return size.get();
+        }
+
+        boolean isPruneDue() {
+            return size.get() >= pruneAt;
+        }
+
+        synchronized void prune(Predicate<String> isScheduled) {
+            if (!isPruneDue()) {
+                return;
+            }
+
+            activityIds.removeIf(activityId -> {
+                if (isScheduled.test(activityId)) {
+                    return false;
+                }
+                size.decrementAndGet();
+                return true;
+            });
+            pruneAt = Math.max(MIN_PRUNE_SIZE, size.get() * 2);
+        }
+
+    }
+
+    private record Arrival(String definitionId, String arrivalId) {
+
+    }
+
+}
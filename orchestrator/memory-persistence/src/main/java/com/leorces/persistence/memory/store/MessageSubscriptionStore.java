@@ -0,0 +1,61 @@
+package com.leorces.persistence.memory.store;
+
+import com.leorces.model.runtime.message.MessageSubscription;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * Message subscriptions indexed by message name and by process, one per message event of a process.
+ */
+@Component
+public class MessageSubscriptionStore {
+
+    private final Map<String, MessageSubscription> subscriptions = new ConcurrentHashMap<>();
+    private final Map<String, String> idsByEvent = new ConcurrentHashMap<>();
+    private final MultiIndex idsByMessageName = new MultiIndex();
+    private final MultiIndex idsByProcessId = new MultiIndex();
+
+    /**
+     * Adds the subscription unless its process already holds one for the same message event.
+     */
+    public void putIfAbsent(MessageSubscription subscription) {
+        idsByEvent.computeIfAbsent(eventKey(subscription), key -> {
+            subscriptions.put(subscription.id(), subscription);
+            idsByMessageName.add(subscription.messageName(), subscription.id());
+            idsByProcessId.add(subscription.processId(), subscription.id());
+            return subscription.id();
+        });
+    }
+
+    public void remove(String subscriptionId) {
+        subscriptions.computeIfPresent(subscriptionId, (id, subscription) -> {
+            idsByEvent.remove(eventKey(subscription), id);
+            idsByMessageName.remove(subscription.messageName(), id);
+            idsByProcessId.remove(subscription.processId(), id);
+            return null;
+        });
+    }
+
+    public Stream<MessageSubscription> findByMessageName(String messageName) {
+        return find(idsByMessageName.get(messageName).stream());
+    }
+
+    public Stream<MessageSubscription> findByProcessId(String processId) {
+        return find(idsByProcessId.get(processId).stream());
+    }
+
+    private Stream<MessageSubscription> find(Stream<String> subscriptionIds) {
+        return subscriptionIds
+                .map(subscriptions::get)
+                .filter(Objects::nonNull);
+    }
+
+    private static String eventKey(MessageSubscription subscription) {
+        return subscription.processId() + "/" + subscription.definitionId();
+    }
+
+}
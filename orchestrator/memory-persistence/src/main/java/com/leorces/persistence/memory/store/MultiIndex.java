@@ -0,0 +1,33 @@
+package com.leorces.persistence.memory.store;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Secondary index from a key to the IDs of the entries that share it. Empty ID sets are removed.
+ */
+class MultiIndex {
+
+    private final Map<String, Set<String>> ids = new ConcurrentHashMap<>();
+
+    void add(String key, String id) {
+        ids.compute(key, (k, keyIds) -> {
+            var result = keyIds == null ? ConcurrentHashMap.<String>newKeySet() : keyIds;
+            result.add(id);
+            return result;
+        });
+    }
+
+    void remove(String key, String id) {
+        ids.computeIfPresent(key, (k, keyIds) -> {
+            keyIds.remove(id);
+            return keyIds.isEmpty() ? null : keyIds;
+        });
+    }
+
+    Set<String> get(String key) {
+        return ids.getOrDefault(key, Set.of());
+    }
+
+}
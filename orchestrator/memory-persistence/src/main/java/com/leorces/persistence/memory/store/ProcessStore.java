@@ -0,0 +1,68 @@
+package com.leorces.persistence.memory.store;
+
+import com.leorces.model.runtime.process.Process;
+import com.leorces.persistence.DefinitionPersistence;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+
+/**
+ * Process instances without their variables, indexed by parent process.
+ * <p>
+ * Processes are returned with the current version of their definition, so definition suspension
+ * and migration are visible the same way a join on the definition table makes them visible.
+ */
+@Component
+@RequiredArgsConstructor
+public class ProcessStore {
+
+    private final DefinitionPersistence definitionPersistence;
+    private final Map<String, Process> processes = new ConcurrentHashMap<>();
+    private final MultiIndex idsByParentId = new MultiIndex();
+
+    public void put(Process process) {
+        processes.put(process.id(), process.toBuilder().variables(null).build());
+        if (process.parentId() != null) {
+            idsByParentId.add(process.parentId(), process.id());
+        }
+    }
+
+    public Optional<Process> update(String processId, UnaryOperator<Process> update) {
+        return Optional.ofNullable(processes.computeIfPresent(processId, (id, process) -> update.apply(process)))
+                .map(this::withCurrentDefinition);
+    }
+
+    public void remove(String processId) {
+        var process = processes.remove(processId);
+        if (process != null && process.parentId() != null) {
+            idsByParentId.remove(process.parentId(), processId);
+        }
+    }
+
+    public Optional<Process> findById(String processId) {
+        return Optional.ofNullable(processes.get(processId))
+                .map(this::withCurrentDefinition);
+    }
+
+    public List<String> findChildIds(String processId) {
+        return List.copyOf(idsByParentId.get(processId));
+    }
+
+    public Stream<Process> findAll() {
+        return processes.values().stream()
+                .map(this::withCurrentDefinition);
+    }
+
+    private Process withCurrentDefinition(Process process) {
+        return definitionPersistence.findById(process.definitionId())
+                .map(definition -> process.toBuilder().definition(definition).build())
+                .orElse(process);
+    }
+
+}
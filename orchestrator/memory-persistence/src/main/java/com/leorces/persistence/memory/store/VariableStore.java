@@ -0,0 +1,67 @@
+package com.leorces.persistence.memory.store;
+
+import com.leorces.model.runtime.variable.Variable;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * Variables indexed by process and by execution.
+ */
+@Component
+public class VariableStore {
+
+    private final Map<String, Variable> variables = new ConcurrentHashMap<>();
+    private final MultiIndex idsByProcessId = new MultiIndex();
+    private final MultiIndex idsByExecutionId = new MultiIndex();
+
+    public void put(Variable variable) {
+        variables.compute(variable.id(), (id, existing) -> {
+            if (existing != null) {
+                unindex(existing);
+            }
+            idsByProcessId.add(variable.processId(), id);
+            idsByExecutionId.add(variable.executionId(), id);
+            return variable;
+        });
+    }
+
+    public void remove(String variableId) {
+        variables.computeIfPresent(variableId, (id, variable) -> {
+            unindex(variable);
+            return null;
+        });
+    }
+
+    public void removeByExecutionId(String executionId) {
+        idsByExecutionId.get(executionId).forEach(this::remove);
+    }
+
+    public Optional<Variable> findById(String variableId) {
+        return Optional.ofNullable(variables.get(variableId));
+    }
+
+    public Stream<Variable> findByProcessId(String processId) {
+        return find(idsByProcessId.get(processId).stream());
+    }
+
+    public Stream<Variable> findByExecutionId(String executionId) {
+        return find(idsByExecutionId.get(executionId).stream());
+    }
+
+    private Stream<Variable> find(Stream<String> variableIds) {
+        return variableIds
+                .map(variables::get)
+                .filter(Objects::nonNull);
+    }
+
+    private void unindex(Variable variable) {
+        idsByProcessId.remove(variable.processId(), variable.id());
+        idsByExecutionId.remove(variable.executionId(), variable.id());
+    }
+
+}
@@ -0,0 +1,300 @@
+package com.leorces.persistence.memory;
+
+import com.leorces.model.definition.ProcessDefinition;
+import com.leorces.model.definition.ProcessDefinitionMetadata;
+import com.leorces.model.definition.activity.event.start.StartEvent;
+import com.leorces.model.definition.activity.task.ExternalTask;
+import com.leorces.model.runtime.activity.Activity;
+import com.leorces.model.runtime.activity.ActivityExecution;
+import com.leorces.model.runtime.activity.ActivityState;
+import com.leorces.model.runtime.process.Process;
+import com.leorces.persistence.ActivityScheduleListener;
+import com.leorces.persistence.memory.configuration.properties.MemoryPersistenceProperties;
+import com.leorces.persistence.memory.lock.ProcessLocks;
+import com.leorces.persistence.memory.store.ActivityStore;
+import com.leorces.persistence.memory.store.ProcessStore;
+import com.leorces.persistence.memory.store.VariableStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ActivityPersistenceImplTest {
+
+    private static final String TOPIC = "notification";
+
+    private ProcessPersistenceImpl processPersistence;
+    private ActivityPersistenceImpl activityPersistence;
+    private ProcessDefinition definition;
+
+    @BeforeEach
+    void setUp() {
+        var definitionPersistence = new DefinitionPersistenceImpl();
+        var variablePersistence = new VariablePersistenceImpl(new VariableStore());
+        var processStore = new ProcessStore(definitionPersistence);
+        var activityStore = new ActivityStore(processStore);
+        var processLocks = new ProcessLocks(new MemoryPersistenceProperties(16));
+        var listeners = new StaticListableBeanFactory().getBeanProvider(ActivityScheduleListener.class);
+
+        processPersistence = new ProcessPersistenceImpl(variablePersistence, definitionPersistence, processStore, activityStore, processLocks);
+        activityPersistence = new ActivityPersistenceImpl(variablePersistence, activityStore, processLocks, listeners);
+        definition = definitionPersistence.save(List.of(createDefinition())).getFirst();
+    }
+
+    @Test
+    @DisplayName("Should poll each scheduled external task of the topic once")
+    void poll() {
+        // Given
+        var process = runProcess();
+        var scheduled = List.of(schedule(process), schedule(process), schedule(process));
+
+        // When
+        var firstPoll = activityPersistence.poll(TOPIC, definition.key(), 2);
+        var secondPoll = activityPersistence.poll(TOPIC, definition.key(), 2);
+
+        // Then
+        assertEquals(2, firstPoll.size());
+        assertEquals(1, secondPoll.size());
+        assertEquals(
+                scheduled.stream().map(ActivityExecution::id).sorted().toList(),
+                concat(firstPoll, secondPoll).stream().map(Activity::id).sorted().toList()
+        );
+        assertTrue(concat(firstPoll, secondPoll).stream().allMatch(activity -> activity.state() == ActivityState.ACTIVE));
+        assertTrue(activityPersistence.poll(TOPIC, definition.key(), 2).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should count concurrent arrivals at a joining gateway exactly once each")
+    void join() {
+        // Given
+        var process = runProcess();
+        activityPersistence.createJoins(List.of(process.id(), process.id()), List.of("join", "another-join"));
+
+        // When
+        var arrivals = IntStream.range(0, 1000).parallel()
+                .mapToLong(i -> activityPersistence.join(process.id(), "join", "arrival-" + i))
+                .sorted()
+                .toArray();
+
+        // Then
+        assertArrayEquals(LongStream.rangeClosed(1, 1000).toArray(), arrivals);
+        assertEquals(1, activityPersistence.join(process.id(), "another-join", "arrival-0"));
+    }
+
+    @Test
+    @DisplayName("Should count a repeated arrival once and report gateways without counter")
+    void joinRepeatedArrival() {
+        // Given
+        var process = runProcess();
+        activityPersistence.createJoins(List.of(process.id()), List.of("join"));
+
+        // When
+        var first = activityPersistence.join(process.id(), "join", "arrival-1");
+        var repeated = activityPersistence.join(process.id(), "join", "arrival-1");
+        var second = activityPersistence.join(process.id(), "join", "arrival-2");
+        var withoutCounter = activityPersistence.join(process.id(), "legacy-join", "arrival-1");
+
+        // Then
+        assertEquals(1, first);
+        assertEquals(0, repeated);
+        assertEquals(2, second);
+        assertEquals(-1, withoutCounter);
+    }
+
+    @Test
+    @DisplayName("Should count down running instances until the last one completes")
+    void completeInstance() {
+        // Given
+        var process = runProcess();
+        var instanceIds = IntStream.range(0, 1000).mapToObj(i -> "instance-" + i).toList();
+        activityPersistence.startInstances(process.id(), "body", 1000);
+        activityPersistence.addInstances(process.id(), "body", instanceIds);
+
+        // When
+        var remaining = instanceIds.parallelStream()
+                .mapToLong(instanceId -> activityPersistence.completeInstance(process.id(), instanceId))
+                .sorted()
+                .toArray();
+
+        // Then
+        assertArrayEquals(LongStream.range(0, 1000).toArray(), remaining);
+        assertEquals(-1, activityPersistence.completeInstance(process.id(), "instance-0"));
+        assertEquals(-1, activityPersistence.completeInstance(process.id(), "legacy-instance"));
+    }
+
+    @Test
+    @DisplayName("Should count instances of each body execution on their own")
+    void completeInstanceOfBody() {
+        // Given
+        var process = runProcess();
+        activityPersistence.startInstances(process.id(), "body-1", 1);
+        activityPersistence.startInstances(process.id(), "body-2", 2);
+        activityPersistence.addInstances(process.id(), "body-1", List.of("instance-1"));
+        activityPersistence.addInstances(process.id(), "body-2", List.of("instance-2", "instance-3"));
+
+        // When
+        var body = activityPersistence.findInstanceBody(process.id(), "instance-2");
+        var lastOfFirstBody = activityPersistence.completeInstance(process.id(), "instance-1");
+        var firstOfSecondBody = activityPersistence.completeInstance(process.id(), "instance-2");
+
+        // Then
+        assertEquals(Optional.of("body-2"), body);
+        assertEquals(0, lastOfFirstBody);
+        assertEquals(1, firstOfSecondBody);
+        assertEquals(Optional.empty(), activityPersistence.findInstanceBody(process.id(), "instance-2"));
+    }
+
+    @Test
+    @DisplayName("Should run each given activity as a new execution")
+    void runAll() {
+        // Given
+        var process = runProcess();
+
+        // When
+        var activities = activityPersistence.runAll(List.of(activity(process), activity(process)));
+
+        // Then
+        assertEquals(2, activities.stream().map(ActivityExecution::id).distinct().count());
+        assertTrue(activities.stream().allMatch(activity -> activity.state() == ActivityState.ACTIVE));
+        assertEquals(2, activityPersistence.findAll(process.id()).size());
+    }
+
+    @Test
+    @DisplayName("Should complete all given activities and find them by IDs")
+    void completeAllAndFindAllById() {
+        // Given
+        var process = runProcess();
+        var activities = activityPersistence.runAll(List.of(activity(process), activity(process)));
+
+        // When
+        var completed = activityPersistence.completeAll(activities);
+
+        // Then
+        assertTrue(completed.stream().allMatch(activity -> activity.state() == ActivityState.COMPLETED));
+        var found = activityPersistence.findAllById(List.of(activities.get(0).id(), activities.get(1).id(), "unknown"));
+        assertEquals(2, found.size());
+        assertTrue(found.stream().allMatch(activity -> activity.state() == ActivityState.COMPLETED));
+    }
+
+    @Test
+    @DisplayName("Should not poll external tasks of suspended processes until they are resumed")
+    void pollSuspended() {
+        // Given
+        var process = runProcess();
+        var scheduled = schedule(process);
+        processPersistence.suspendById(process.id());
+
+        // When
+        var suspendedPoll = activityPersistence.poll(TOPIC, definition.key(), 10);
+        processPersistence.resumeById(process.id());
+        var resumedPoll = activityPersistence.poll(TOPIC, definition.key(), 10);
+
+        // Then
+        assertTrue(suspendedPoll.isEmpty());
+        assertEquals(List.of(scheduled.id()), resumedPoll.stream().map(Activity::id).toList());
+    }
+
+    @Test
+    @DisplayName("Should claim timed out activities once until the lease expires")
+    void claimTimedOut() {
+        // Given
+        var process = runProcess();
+        var timeout = LocalDateTime.now().minusSeconds(1);
+        var scheduled = activityPersistence.schedule(activity(process).toBuilder().timeout(timeout).build());
+
+        // When
+        var claimed = activityPersistence.claimTimedOut(10, Duration.ofMinutes(1));
+        var claimedAgain = activityPersistence.claimTimedOut(10, Duration.ofMinutes(1));
+
+        // Then
+        assertEquals(List.of(scheduled.id()), claimed.stream().map(ActivityExecution::id).toList());
+        assertEquals(timeout, claimed.getFirst().timeout());
+        assertTrue(claimedAgain.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should drop the timeout of completed activities")
+    void completeClearsTimeout() {
+        // Given
+        var process = runProcess();
+        var scheduled = activityPersistence.schedule(activity(process).toBuilder()
+                .timeout(LocalDateTime.now().minusSeconds(1))
+                .build());
+
+        // When
+        activityPersistence.complete(scheduled);
+
+        // Then
+        assertTrue(activityPersistence.claimTimedOut(10, Duration.ofMinutes(1)).isEmpty());
+    }
+
+    private Process runProcess() {
+        return processPersistence.run(Process.builder()
+                .definition(definition)
+                .variables(List.of())
+                .build());
+    }
+
+    private ActivityExecution schedule(Process process) {
+        return activityPersistence.schedule(activity(process));
+    }
+
+    private ActivityExecution activity(Process process) {
+        return ActivityExecution.builder()
+                .definitionId("Notification")
+                .process(process)
+                .variables(List.of())
+                .retries(3)
+                .build();
+    }
+
+    private static List<Activity> concat(List<Activity> first, List<Activity> second) {
+        return Stream.concat(first.stream(), second.stream()).toList();
+    }
+
+    private static ProcessDefinition createDefinition() {
+        var startEvent = StartEvent.builder()
+                .id("StartEvent")
+                .name("")
+                .incoming(List.of())
+                .outgoing(List.of("Notification"))
+                .build();
+        var notification = ExternalTask.builder()
+                .id("Notification")
+                .name("Notification")
+                .topic(TOPIC)
+                .retries(3)
+                .incoming(List.of("StartEvent"))
+                .outgoing(List.of())
+                .inputs(Map.of())
+                .outputs(Map.of())
+                .build();
+
+        return ProcessDefinition.builder()
+                .key("notification-process")
+                .name("Notification process")
+                .activities(List.of(startEvent, notification))
+                .messages(List.of())
+                .errors(List.of())
+                .metadata(ProcessDefinitionMetadata.builder()
+                        .schema("schema")
+                        .origin("test")
+                        .deployment("test")
+                        .build())
+                .build();
+    }
+
+}
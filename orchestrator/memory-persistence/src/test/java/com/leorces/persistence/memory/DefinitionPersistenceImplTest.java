@@ -0,0 +1,92 @@
+package com.leorces.persistence.memory;
+
+import com.leorces.model.definition.ProcessDefinition;
+import com.leorces.model.definition.ProcessDefinitionMetadata;
+import com.leorces.model.pagination.Pageable;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DefinitionPersistenceImplTest {
+
+    private final DefinitionPersistenceImpl definitionPersistence = new DefinitionPersistenceImpl();
+
+    @Test
+    @DisplayName("Should return the latest version when the schema is unchanged")
+    void saveUnchanged() {
+        // Given
+        var saved = definitionPersistence.save(List.of(definition("order", "schema-1"))).getFirst();
+
+        // When
+        var savedAgain = definitionPersistence.save(List.of(definition("order", "schema-1"))).getFirst();
+
+        // Then
+        assertEquals(saved, savedAgain);
+        assertEquals(1, savedAgain.version());
+    }
+
+    @Test
+    @DisplayName("Should create a new version when the schema changes")
+    void saveChanged() {
+        // Given
+        var first = definitionPersistence.save(List.of(definition("order", "schema-1"))).getFirst();
+
+        // When
+        var second = definitionPersistence.save(List.of(definition("order", "schema-2"))).getFirst();
+
+        // Then
+        assertEquals(2, second.version());
+        assertEquals(second, definitionPersistence.findLatestByKey("order").orElseThrow());
+        assertEquals(first, definitionPersistence.findByKeyAndVersion("order", 1).orElseThrow());
+    }
+
+    @Test
+    @DisplayName("Should suspend every version of a key")
+    void suspendByKey() {
+        // Given
+        definitionPersistence.save(List.of(definition("order", "schema-1")));
+        definitionPersistence.save(List.of(definition("order", "schema-2")));
+
+        // When
+        definitionPersistence.suspendByKey("order");
+
+        // Then
+        var definitions = definitionPersistence.findAll(new Pageable(0, 10)).data();
+        assertEquals(2, definitions.size());
+        assertTrue(definitions.stream().allMatch(ProcessDefinition::suspended));
+    }
+
+    @Test
+    @DisplayName("Should page by definition key and return every version of the page keys")
+    void findAll() {
+        // Given
+        definitionPersistence.save(List.of(definition("a", "schema-1")));
+        definitionPersistence.save(List.of(definition("a", "schema-2")));
+        definitionPersistence.save(List.of(definition("b", "schema-1")));
+
+        // When
+        var page = definitionPersistence.findAll(new Pageable(0, 1));
+
+        // Then
+        assertEquals(List.of("a", "a"), page.data().stream().map(ProcessDefinition::key).toList());
+        assertEquals(3, page.total());
+    }
+
+    private ProcessDefinition definition(String key, String schema) {
+        return ProcessDefinition.builder()
+                .key(key)
+                .name(key)
+                .activities(List.of())
+                .messages(List.of())
+                .errors(List.of())
+                .metadata(ProcessDefinitionMetadata.builder()
+                        .schema(schema)
+                        .build())
+                .build();
+    }
+
+}
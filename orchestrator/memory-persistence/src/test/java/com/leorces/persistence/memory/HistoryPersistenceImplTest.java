@@ -0,0 +1,186 @@
+package com.leorces.persistence.memory;
+
+import com.leorces.model.definition.ProcessDefinition;
+import com.leorces.model.definition.ProcessDefinitionMetadata;
+import com.leorces.model.definition.activity.event.start.StartEvent;
+import com.leorces.model.definition.activity.task.ExternalTask;
+import com.leorces.model.pagination.Pageable;
+import com.leorces.model.runtime.activity.ActivityExecution;
+import com.leorces.model.runtime.process.Process;
+import com.leorces.model.runtime.process.ProcessExecution;
+import com.leorces.model.runtime.variable.Variable;
+import com.leorces.persistence.ActivityScheduleListener;
+import com.leorces.persistence.memory.configuration.properties.MemoryPersistenceProperties;
+import com.leorces.persistence.memory.lock.ProcessLocks;
+import com.leorces.persistence.memory.store.ActivityStore;
+import com.leorces.persistence.memory.store.MessageSubscriptionStore;
+import com.leorces.persistence.memory.store.ProcessStore;
+import com.leorces.persistence.memory.store.VariableStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HistoryPersistenceImplTest {
+
+    private VariablePersistenceImpl variablePersistence;
+    private ProcessPersistenceImpl processPersistence;
+    private ActivityPersistenceImpl activityPersistence;
+    private HistoryPersistenceImpl historyPersistence;
+    private ProcessDefinition definition;
+
+    @BeforeEach
+    void setUp() {
+        var definitionPersistence = new DefinitionPersistenceImpl();
+        var variableStore = new VariableStore();
+        var processStore = new ProcessStore(definitionPersistence);
+        var activityStore = new ActivityStore(processStore);
+        var processLocks = new ProcessLocks(new MemoryPersistenceProperties(16));
+        var listeners = new StaticListableBeanFactory().getBeanProvider(ActivityScheduleListener.class);
+
+        variablePersistence = new VariablePersistenceImpl(variableStore);
+        processPersistence = new ProcessPersistenceImpl(variablePersistence, definitionPersistence, processStore, activityStore, processLocks);
+        activityPersistence = new ActivityPersistenceImpl(variablePersistence, activityStore, processLocks, listeners);
+        historyPersistence = new HistoryPersistenceImpl(processPersistence, processStore, activityStore, variableStore, new MessageSubscriptionStore(), processLocks);
+        definition = definitionPersistence.save(List.of(createDefinition())).getFirst();
+    }
+
+    @Test
+    @DisplayName("Should move fully completed processes with their activities and variables to history")
+    void compact() {
+        // Given
+        var completed = runProcess();
+        var activity = activityPersistence.complete(activityPersistence.run(activity(completed)));
+        processPersistence.complete(completed.id());
+        var running = runProcess();
+
+        // When
+        var compacted = historyPersistence.compact(10, 10);
+
+        // Then
+        assertEquals(1, compacted);
+        assertTrue(processPersistence.findById(completed.id()).isEmpty());
+        assertTrue(activityPersistence.findById(activity.id()).isEmpty());
+        assertTrue(variablePersistence.findInProcess(completed.id()).isEmpty());
+        assertTrue(processPersistence.findById(running.id()).isPresent());
+
+        var history = historyPersistence.findAll(new Pageable(0, 10));
+        assertEquals(List.of(completed.id()), history.data().stream().map(ProcessExecution::id).toList());
+        assertEquals(List.of("amount"), history.data().getFirst().variables().stream().map(Variable::varKey).toList());
+        assertEquals(0, historyPersistence.compact(10, 10));
+    }
+
+    @Test
+    @DisplayName("Should find history summaries without process and activity variables")
+    void findAllSummaries() {
+        // Given
+        var completed = runProcess();
+        activityPersistence.complete(activityPersistence.run(activity(completed)));
+        processPersistence.complete(completed.id());
+        historyPersistence.compact(10, 10);
+
+        // When
+        var summaries = historyPersistence.findAllSummaries(new Pageable(0, 10));
+
+        // Then
+        assertEquals(1, summaries.total());
+        var summary = summaries.data().getFirst();
+        assertEquals(completed.id(), summary.id());
+        assertNull(summary.variables());
+        assertEquals(1, summary.activities().size());
+        assertNull(summary.activities().getFirst().variables());
+        assertEquals(1, historyPersistence.findAll(new Pageable(0, 10)).data().getFirst().variables().size());
+    }
+
+    @Test
+    @DisplayName("Should purge history of processes completed before the cutoff")
+    void purge() {
+        // Given
+        var now = LocalDateTime.now();
+        historyPersistence.save(List.of(
+                execution("expired", now.minusDays(2)),
+                execution("kept", now)
+        ));
+
+        // When
+        var purged = historyPersistence.purge(now.minusDays(1));
+
+        // Then
+        assertEquals(1, purged);
+        assertEquals(List.of("kept"), historyPersistence.findAll(new Pageable(0, 10)).data().stream()
+                .map(ProcessExecution::id)
+                .toList());
+    }
+
+    private Process runProcess() {
+        return processPersistence.run(Process.builder()
+                .definition(definition)
+                .variables(List.of(Variable.builder()
+                        .varKey("amount")
+                        .varValue("10")
+                        .type("integer")
+                        .build()))
+                .build());
+    }
+
+    private ActivityExecution activity(Process process) {
+        return ActivityExecution.builder()
+                .definitionId("Notification")
+                .process(process)
+                .variables(List.of())
+                .retries(3)
+                .build();
+    }
+
+    private ProcessExecution execution(String id, LocalDateTime completedAt) {
+        return ProcessExecution.builder()
+                .id(id)
+                .definition(definition)
+                .variables(List.of())
+                .activities(List.of())
+                .createdAt(completedAt)
+                .completedAt(completedAt)
+                .build();
+    }
+
+    private static ProcessDefinition createDefinition() {
+        var startEvent = StartEvent.builder()
+                .id("StartEvent")
+                .name("")
+                .incoming(List.of())
+                .outgoing(List.of("Notification"))
+                .build();
+        var notification = ExternalTask.builder()
+                .id("Notification")
+                .name("Notification")
+                .topic("notification")
+                .retries(3)
+                .incoming(List.of("StartEvent"))
+                .outgoing(List.of())
+                .inputs(Map.of())
+                .outputs(Map.of())
+                .build();
+
+        return ProcessDefinition.builder()
+                .key("history-process")
+                .name("History process")
+                .activities(List.of(startEvent, notification))
+                .messages(List.of())
+                .errors(List.of())
+                .metadata(ProcessDefinitionMetadata.builder()
+                        .schema("schema")
+                        .origin("test")
+                        .deployment("test")
+                        .build())
+                .build();
+    }
+
+}
@@ -0,0 +1,62 @@
+package com.leorces.persistence.memory;
+
+import com.leorces.model.job.Job;
+import com.leorces.model.job.JobState;
+import com.leorces.model.pagination.Pageable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JobPersistenceImplTest {
+
+    private JobPersistenceImpl jobPersistence;
+
+    @BeforeEach
+    void setUp() {
+        jobPersistence = new JobPersistenceImpl();
+    }
+
+    @Test
+    @DisplayName("Should keep the latest state of a job through its lifecycle")
+    void lifecycle() {
+        // Given
+        var created = jobPersistence.create(Job.builder().type("COMPACTION").build());
+
+        // When
+        var running = jobPersistence.run(created);
+        var completed = jobPersistence.complete(running);
+
+        // Then
+        assertNotNull(created.id());
+        assertEquals(JobState.CREATED, created.state());
+        assertNotNull(running.startedAt());
+        assertNotNull(completed.completedAt());
+        assertEquals(completed, jobPersistence.findJobById(created.id()).orElseThrow());
+        assertTrue(jobPersistence.findJobById("unknown").isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should find jobs by text filter and state")
+    void findAll() {
+        // Given
+        var compaction = jobPersistence.fail(jobPersistence.create(Job.builder().type("COMPACTION").build()));
+        var retention = jobPersistence.create(Job.builder().type("HISTORY_RETENTION").build());
+
+        // When
+        var byType = jobPersistence.findAll(new Pageable(0, 10, "retention"));
+        var byState = jobPersistence.findAll(new Pageable(0, 10, "", "failed"));
+        var all = jobPersistence.findAll(new Pageable(0, 10, "", "all"));
+
+        // Then
+        assertEquals(List.of(retention.id()), byType.data().stream().map(Job::id).toList());
+        assertEquals(List.of(compaction.id()), byState.data().stream().map(Job::id).toList());
+        assertEquals(2, all.total());
+    }
+
+}
@@ -0,0 +1,214 @@
+package com.leorces.persistence.memory;
+
+import com.leorces.model.definition.ProcessDefinition;
+import com.leorces.model.runtime.message.CorrelationRequest;
+import com.leorces.model.runtime.message.MessageSubscription;
+import com.leorces.model.runtime.process.Process;
+import com.leorces.model.runtime.variable.Variable;
+import com.leorces.persistence.memory.store.MessageSubscriptionStore;
+import com.leorces.persistence.memory.store.VariableStore;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MessageSubscriptionPersistenceImplTest {
+
+    private final VariablePersistenceImpl variablePersistence = new VariablePersistenceImpl(new VariableStore());
+    private final MessageSubscriptionPersistenceImpl subscriptionPersistence =
+            new MessageSubscriptionPersistenceImpl(variablePersistence, new MessageSubscriptionStore());
+
+    @Test
+    @DisplayName("Should find subscriptions by message name and business key")
+    void findByMessage() {
+        // Given
+        subscriptionPersistence.save(List.of(
+                subscription("process-1", "order-1", "paid", "catch"),
+                subscription("process-2", "order-2", "paid", "catch"),
+                subscription("process-3", "order-1", "cancelled", "catch")
+        ));
+
+        // When
+        var byBusinessKey = subscriptionPersistence.findByMessage("paid", "order-1", Map.of(), 10);
+        var byMessage = subscriptionPersistence.findByMessage("paid", null, Map.of(), 10);
+
+        // Then
+        assertEquals(List.of("process-1"), byBusinessKey.stream().map(MessageSubscription::processId).toList());
+        assertEquals(2, byMessage.size());
+    }
+
+    @Test
+    @DisplayName("Should match correlation keys against process variables")
+    void findByMessageWithCorrelationKeys() {
+        // Given
+        variablePersistence.save(process("process-1", "EUR"));
+        variablePersistence.save(process("process-2", "USD"));
+        subscriptionPersistence.save(List.of(
+                subscription("process-1", null, "paid", "catch"),
+                subscription("process-2", null, "paid", "catch")
+        ));
+
+        // When
+        var subscriptions = subscriptionPersistence.findByMessage("paid", null, Map.of("currency", "USD"), 10);
+
+        // Then
+        assertEquals(List.of("process-2"), subscriptions.stream().map(MessageSubscription::processId).toList());
+    }
+
+    @Test
+    @DisplayName("Should find subscriptions of several messages at once")
+    void findByMessages() {
+        // Given
+        subscriptionPersistence.save(List.of(
+                subscription("process-1", "order-1", "paid", "catch"),
+                subscription("process-2", "order-2", "paid", "catch"),
+                subscription("process-2", "order-2", "shipped", "catch"),
+                subscription("process-3", "order-3", "paid", "catch")
+        ));
+
+        // When
+        var subscriptions = subscriptionPersistence.findByMessages(List.of(
+                CorrelationRequest.of("paid", "order-1"),
+                CorrelationRequest.of("shipped", "order-2")
+        ), 10);
+
+        // Then
+        assertEquals(List.of(List.of("process-1:paid"), List.of("process-2:shipped")), subscriptions.stream()
+                .map(found -> found.stream()
+                        .map(subscription -> subscription.processId() + ":" + subscription.messageName())
+                        .toList())
+                .toList());
+    }
+
+    @Test
+    @DisplayName("Should limit subscriptions of several messages per message")
+    void findByMessagesLimitsEachMessage() {
+        // Given
+        subscriptionPersistence.save(List.of(
+                subscription("process-1", "order-1", "paid", "catch"),
+                subscription("process-2", "order-1", "paid", "catch"),
+                subscription("process-3", "order-2", "shipped", "catch")
+        ));
+
+        // When
+        var subscriptions = subscriptionPersistence.findByMessages(List.of(
+                CorrelationRequest.of("paid", "order-1"),
+                CorrelationRequest.of("shipped", "order-2")
+        ), 1);
+
+        // Then
+        assertEquals(List.of(1, 1), subscriptions.stream().map(List::size).toList());
+    }
+
+    @Test
+    @DisplayName("Should match correlation keys of several messages in one lookup")
+    void findByMessagesWithCorrelationKeys() {
+        // Given
+        variablePersistence.save(process("process-1", "EUR"));
+        variablePersistence.save(process("process-2", "USD"));
+        subscriptionPersistence.save(List.of(
+                subscription("process-1", null, "paid", "catch"),
+                subscription("process-2", null, "paid", "catch"),
+                subscription("process-3", "order-3", "shipped", "catch")
+        ));
+
+        // When
+        var subscriptions = subscriptionPersistence.findByMessages(List.of(
+                correlation("paid", null, Map.of("currency", "USD")),
+                correlation("paid", "", Map.of("currency", "GBP")),
+                correlation("shipped", "order-3", null)
+        ), 10);
+
+        // Then
+        assertEquals(List.of(List.of("process-2"), List.of(), List.of("process-3")), subscriptions.stream()
+                .map(found -> found.stream().map(MessageSubscription::processId).toList())
+                .toList());
+    }
+
+    @Test
+    @DisplayName("Should keep one subscription per message event of a process")
+    void saveIsIdempotent() {
+        // Given
+        subscriptionPersistence.save(List.of(subscription("process-1", "order-1", "paid", "catch")));
+
+        // When
+        subscriptionPersistence.save(List.of(subscription("process-1", "order-1", "paid", "catch")));
+
+        // Then
+        assertEquals(1, subscriptionPersistence.findByMessage("paid", "order-1", Map.of(), 10).size());
+    }
+
+    @Test
+    @DisplayName("Should cancel only the subscriptions bound to the activity")
+    void cancel() {
+        // Given
+        subscriptionPersistence.save(List.of(
+                subscription("process-1", "order-1", "paid", "catch"),
+                subscription("process-1", "order-1", "cancelled", "task")
+        ));
+
+        // When
+        subscriptionPersistence.cancel("process-1", "catch");
+
+        // Then
+        assertTrue(subscriptionPersistence.findByMessage("paid", "order-1", Map.of(), 10).isEmpty());
+        assertEquals(1, subscriptionPersistence.findByMessage("cancelled", "order-1", Map.of(), 10).size());
+    }
+
+    @Test
+    @DisplayName("Should cancel all subscriptions of the process")
+    void cancelAll() {
+        // Given
+        subscriptionPersistence.save(List.of(
+                subscription("process-1", "order-1", "paid", "catch"),
+                subscription("process-1", "order-1", "cancelled", null),
+                subscription("process-2", "order-2", "paid", "catch")
+        ));
+
+        // When
+        subscriptionPersistence.cancelAll("process-1");
+
+        // Then
+        assertTrue(subscriptionPersistence.findByMessage("cancelled", null, Map.of(), 10).isEmpty());
+        assertEquals(List.of("process-2"), subscriptionPersistence.findByMessage("paid", null, Map.of(), 10).stream()
+                .map(MessageSubscription::processId)
+                .toList());
+    }
+
+    private static CorrelationRequest correlation(String messageName, String businessKey, Map<String, Object> correlationKeys) {
+        return CorrelationRequest.builder()
+                .messageName(messageName)
+                .businessKey(businessKey)
+                .correlationKeys(correlationKeys)
+                .build();
+    }
+
+    private MessageSubscription subscription(String processId,
+                                             String businessKey,
+                                             String messageName,
+                                             String activityDefinitionId) {
+        return MessageSubscription.builder()
+                .processId(processId)
+                .businessKey(businessKey)
+                .messageName(messageName)
+                .definitionId(messageName + "-event")
+                .activityDefinitionId(activityDefinitionId)
+                .build();
+    }
+
+    private Process process(String processId, String currency) {
+        return Process.builder()
+                .id(processId)
+                .definition(ProcessDefinition.builder().id("definition-id").build())
+                .variables(List.of(Variable.builder()
+                        .varKey("currency")
+                        .varValue(currency)
+                        .build()))
+                .build();
+    }
+
+}
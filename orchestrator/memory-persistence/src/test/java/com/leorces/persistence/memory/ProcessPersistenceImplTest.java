@@ -0,0 +1,213 @@
+package com.leorces.persistence.memory;
+
+import com.leorces.model.definition.ProcessDefinition;
+import com.leorces.model.definition.ProcessDefinitionMetadata;
+import com.leorces.model.definition.activity.event.start.StartEvent;
+import com.leorces.model.definition.activity.task.ExternalTask;
+import com.leorces.model.runtime.activity.ActivityExecution;
+import com.leorces.model.runtime.process.Process;
+import com.leorces.model.runtime.process.ProcessExecution;
+import com.leorces.model.runtime.process.ProcessState;
+import com.leorces.model.runtime.variable.Variable;
+import com.leorces.model.search.ProcessFilter;
+import com.leorces.persistence.ActivityScheduleListener;
+import com.leorces.persistence.memory.configuration.properties.MemoryPersistenceProperties;
+import com.leorces.persistence.memory.lock.ProcessLocks;
+import com.leorces.persistence.memory.store.ActivityStore;
+import com.leorces.persistence.memory.store.ProcessStore;
+import com.leorces.persistence.memory.store.VariableStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ProcessPersistenceImplTest {
+
+    private DefinitionPersistenceImpl definitionPersistence;
+    private ProcessPersistenceImpl processPersistence;
+    private ActivityPersistenceImpl activityPersistence;
+    private ProcessDefinition definition;
+
+    @BeforeEach
+    void setUp() {
+        definitionPersistence = new DefinitionPersistenceImpl();
+        var variablePersistence = new VariablePersistenceImpl(new VariableStore());
+        var processStore = new ProcessStore(definitionPersistence);
+        var activityStore = new ActivityStore(processStore);
+        var processLocks = new ProcessLocks(new MemoryPersistenceProperties(16));
+        var listeners = new StaticListableBeanFactory().getBeanProvider(ActivityScheduleListener.class);
+
+        processPersistence = new ProcessPersistenceImpl(variablePersistence, definitionPersistence, processStore, activityStore, processLocks);
+        activityPersistence = new ActivityPersistenceImpl(variablePersistence, activityStore, processLocks, listeners);
+        definition = definitionPersistence.save(List.of(createDefinition("order-process"))).getFirst();
+    }
+
+    @Test
+    @DisplayName("Should run a process with its variables")
+    void run() {
+        // When
+        var process = runProcess(null, variable("amount", "10"));
+
+        // Then
+        var found = processPersistence.findById(process.id()).orElseThrow();
+        assertEquals(ProcessState.ACTIVE, found.state());
+        assertNotNull(found.businessKey());
+        assertNotNull(found.startedAt());
+        assertEquals(List.of("amount:10"), found.variables().stream()
+                .map(variable -> variable.varKey() + ":" + variable.varValue())
+                .toList());
+    }
+
+    @Test
+    @DisplayName("Should suspend and resume a process with its running call activity processes")
+    void suspendById() {
+        // Given
+        var parent = runProcess(null);
+        var child = runProcess(parent);
+        var finishedChild = runProcess(parent);
+        processPersistence.complete(finishedChild.id());
+
+        // When
+        processPersistence.suspendById(parent.id());
+        var suspended = List.of(isSuspended(parent), isSuspended(child), isSuspended(finishedChild));
+        processPersistence.resumeById(parent.id());
+
+        // Then
+        assertEquals(List.of(true, true, false), suspended);
+        assertFalse(isSuspended(parent));
+        assertFalse(isSuspended(child));
+    }
+
+    @Test
+    @DisplayName("Should find processes by business key and variables")
+    void findAllByFilter() {
+        // Given
+        var matching = runProcess(null, variable("region", "eu"));
+        runProcess(null, variable("region", "us"));
+
+        // When
+        var byBusinessKey = processPersistence.findAll(ProcessFilter.builder()
+                .businessKey(matching.businessKey())
+                .build());
+        var byVariables = processPersistence.findAll(ProcessFilter.builder()
+                .variables(Map.of("region", "eu"))
+                .build());
+
+        // Then
+        assertEquals(List.of(matching.id()), byBusinessKey.stream().map(Process::id).toList());
+        assertEquals(List.of(matching.id()), byVariables.stream().map(Process::id).toList());
+        assertTrue(processPersistence.findAll(ProcessFilter.builder().build()).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should find fully completed processes only once their root and activities are finished")
+    void findAllFullyCompletedForUpdate() {
+        // Given
+        var completed = runProcess(null);
+        activityPersistence.complete(activityPersistence.run(activity(completed)));
+        processPersistence.complete(completed.id());
+
+        var withActiveActivity = runProcess(null);
+        activityPersistence.run(activity(withActiveActivity));
+        processPersistence.complete(withActiveActivity.id());
+
+        var runningRoot = runProcess(null);
+        var childOfRunningRoot = runProcess(runningRoot);
+        processPersistence.complete(childOfRunningRoot.id());
+
+        // When
+        var fullyCompleted = processPersistence.findAllFullyCompletedForUpdate(10);
+
+        // Then
+        assertEquals(List.of(completed.id()), fullyCompleted.stream().map(ProcessExecution::id).toList());
+        assertEquals(1, fullyCompleted.getFirst().activities().size());
+    }
+
+    @Test
+    @DisplayName("Should move processes and their process variables to another definition")
+    void updateDefinitionId() {
+        // Given
+        var process = runProcess(null, variable("amount", "10"));
+        var target = definitionPersistence.save(List.of(createDefinition("order-process-v2"))).getFirst();
+
+        // When
+        var updated = processPersistence.updateDefinitionId(definition.id(), target.id(), 10);
+
+        // Then
+        var found = processPersistence.findById(process.id()).orElseThrow();
+        assertEquals(1, updated);
+        assertEquals(target.id(), found.definitionId());
+        assertEquals(List.of("amount"), found.variables().stream().map(Variable::varKey).toList());
+    }
+
+    private Process runProcess(Process parent, Variable... variables) {
+        return processPersistence.run(Process.builder()
+                .rootProcessId(parent == null ? null : parent.id())
+                .parentId(parent == null ? null : parent.id())
+                .definition(definition)
+                .variables(List.of(variables))
+                .build());
+    }
+
+    private boolean isSuspended(Process process) {
+        return processPersistence.findById(process.id()).orElseThrow().suspended();
+    }
+
+    private ActivityExecution activity(Process process) {
+        return ActivityExecution.builder()
+                .definitionId("Notification")
+                .process(process)
+                .variables(List.of())
+                .retries(3)
+                .build();
+    }
+
+    private static Variable variable(String key, String value) {
+        return Variable.builder()
+                .varKey(key)
+                .varValue(value)
+                .type("string")
+                .build();
+    }
+
+    private static ProcessDefinition createDefinition(String key) {
+        var startEvent = StartEvent.builder()
+                .id("StartEvent")
+                .name("")
+                .incoming(List.of())
+                .outgoing(List.of("Notification"))
+                .build();
+        var notification = ExternalTask.builder()
+                .id("Notification")
+                .name("Notification")
+                .topic("notification")
+                .retries(3)
+                .incoming(List.of("StartEvent"))
+                .outgoing(List.of())
+                .inputs(Map.of())
+                .outputs(Map.of())
+                .build();
+
+        return ProcessDefinition.builder()
+                .key(key)
+                .name("Order process")
+                .activities(List.of(startEvent, notification))
+                .messages(List.of())
+                .errors(List.of())
+                .metadata(ProcessDefinitionMetadata.builder()
+                        .schema("schema")
+                        .origin("test")
+                        .deployment("test")
+                        .build())
+                .build();
+    }
+
+}
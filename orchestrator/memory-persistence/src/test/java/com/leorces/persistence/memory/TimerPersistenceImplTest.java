@@ -0,0 +1,116 @@
+package com.leorces.persistence.memory;
+
+import com.leorces.model.runtime.timer.Timer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TimerPersistenceImplTest {
+
+    private final TimerPersistenceImpl timerPersistence = new TimerPersistenceImpl();
+
+    @Test
+    @DisplayName("Should find unclaimed due timers page by page in due time order")
+    void findDue() {
+        // Given
+        var now = LocalDateTime.now();
+        timerPersistence.save(List.of(
+                timer("process-1", "task", now.plusSeconds(20)),
+                timer("process-2", "task", now.minusSeconds(10)),
+                timer("process-3", "task", now.plusSeconds(5)),
+                timer("process-4", "task", now.plusHours(1))
+        ));
+
+        // When
+        var firstPage = timerPersistence.findDue(null, now.plusMinutes(1), 2);
+        var secondPage = timerPersistence.findDue(firstPage.getLast(), now.plusMinutes(1), 2);
+
+        // Then
+        assertEquals(List.of("process-2", "process-3"), firstPage.stream().map(Timer::processId).toList());
+        assertEquals(List.of("process-1"), secondPage.stream().map(Timer::processId).toList());
+    }
+
+    @Test
+    @DisplayName("Should claim a timer once until its lease expires")
+    void claim() {
+        // Given
+        var timers = timerPersistence.save(List.of(timer("process-1", "task", LocalDateTime.now())));
+        var timerIds = timers.stream().map(Timer::id).toList();
+
+        // When
+        var claimed = timerPersistence.claim(timerIds, Duration.ofMinutes(1));
+        var claimedAgain = timerPersistence.claim(timerIds, Duration.ofMinutes(1));
+
+        // Then
+        assertEquals(timerIds, claimed.stream().map(Timer::id).toList());
+        assertTrue(claimedAgain.isEmpty());
+        assertTrue(timerPersistence.findDue(null, LocalDateTime.now().plusMinutes(1), 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should release the claim when a timer is rescheduled")
+    void rescheduleReleasesClaim() {
+        // Given
+        var timer = timerPersistence.save(List.of(timer("process-1", "task", LocalDateTime.now()))).getFirst();
+        timerPersistence.claim(List.of(timer.id()), Duration.ofMinutes(1));
+
+        // When
+        timerPersistence.save(List.of(timer.toBuilder().dueAt(LocalDateTime.now().minusSeconds(1)).build()));
+
+        // Then
+        assertEquals(List.of(timer.id()), timerPersistence.findDue(null, LocalDateTime.now(), 10).stream().map(Timer::id).toList());
+    }
+
+    @Test
+    @DisplayName("Should cancel only the timers bound to the activity")
+    void cancel() {
+        // Given
+        var now = LocalDateTime.now();
+        timerPersistence.save(List.of(
+                timer("process-1", "task", now),
+                timer("process-1", "other-task", now)
+        ));
+
+        // When
+        timerPersistence.cancel("task-1");
+
+        // Then
+        var due = timerPersistence.findDue(null, now.plusMinutes(1), 10);
+        assertEquals(List.of("other-task"), due.stream().map(Timer::activityDefinitionId).toList());
+    }
+
+    @Test
+    @DisplayName("Should cancel the timers of one execution and keep the timers of other executions of the activity")
+    void cancelByExecution() {
+        // Given
+        var now = LocalDateTime.now();
+        var timers = timerPersistence.save(List.of(
+                timer("process-1", "task", now).toBuilder().activityId("activity-1").build(),
+                timer("process-1", "task", now).toBuilder().activityId("activity-2").build()
+        ));
+
+        // When
+        timerPersistence.cancel("activity-1");
+
+        // Then
+        var due = timerPersistence.findDue(null, now.plusMinutes(1), 10);
+        assertEquals(List.of(timers.getLast().id()), due.stream().map(Timer::id).toList());
+    }
+
+    private Timer timer(String processId, String activityDefinitionId, LocalDateTime dueAt) {
+        return Timer.builder()
+                .processId(processId)
+                .definitionId(activityDefinitionId + "-timer")
+                .activityDefinitionId(activityDefinitionId)
+                .activityId(activityDefinitionId + "-1")
+                .dueAt(dueAt)
+                .build();
+    }
+
+}
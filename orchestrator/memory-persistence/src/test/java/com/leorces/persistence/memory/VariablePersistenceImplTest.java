@@ -0,0 +1,122 @@
+package com.leorces.persistence.memory;
+
+import com.leorces.model.definition.ProcessDefinition;
+import com.leorces.model.runtime.activity.ActivityExecution;
+import com.leorces.model.runtime.process.Process;
+import com.leorces.model.runtime.variable.Variable;
+import com.leorces.persistence.memory.store.VariableStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class VariablePersistenceImplTest {
+
+    private static final String PROCESS_ID = "process-1";
+    private static final String DEFINITION_ID = "definition-1";
+    private static final String ACTIVITY_ID = "activity-1";
+
+    private VariablePersistenceImpl variablePersistence;
+
+    @BeforeEach
+    void setUp() {
+        variablePersistence = new VariablePersistenceImpl(new VariableStore());
+    }
+
+    @Test
+    @DisplayName("Should save variables of a process only when any of them is new")
+    void saveProcess() {
+        // Given
+        var saved = variablePersistence.save(process(variable("amount", "10")));
+
+        // When
+        var savedAgain = variablePersistence.save(process(saved.toArray(Variable[]::new)));
+
+        // Then
+        assertEquals(1, saved.size());
+        assertEquals(PROCESS_ID, saved.getFirst().executionId());
+        assertEquals(DEFINITION_ID, saved.getFirst().executionDefinitionId());
+        assertTrue(savedAgain.isEmpty());
+        assertEquals(saved, variablePersistence.findInProcessScope(PROCESS_ID));
+    }
+
+    @Test
+    @DisplayName("Should find variables of a process by the scope of their execution")
+    void findInScope() {
+        // Given
+        variablePersistence.save(process(variable("amount", "10")));
+        variablePersistence.save(activity(variable("approved", "true")));
+
+        // When
+        var processScope = variablePersistence.findInScope(PROCESS_ID, List.of(DEFINITION_ID));
+        var fullScope = variablePersistence.findInScope(PROCESS_ID, List.of("Approve", DEFINITION_ID));
+
+        // Then
+        assertEquals(List.of("amount"), processScope.stream().map(Variable::varKey).toList());
+        assertEquals(List.of("amount", "approved"), fullScope.stream().map(Variable::varKey).sorted().toList());
+        assertEquals(2, variablePersistence.findInProcess(PROCESS_ID).size());
+    }
+
+    @Test
+    @DisplayName("Should find values of variables by ID and skip unknown variables")
+    void findValues() {
+        // Given
+        var saved = variablePersistence.save(process(variable("amount", "10"), variable("note", null)));
+        var ids = new ArrayList<>(saved.stream().map(Variable::id).toList());
+        ids.add("unknown");
+
+        // When
+        var values = variablePersistence.findValues(ids);
+
+        // Then
+        var amountId = saved.stream().filter(variable -> variable.varKey().equals("amount")).findFirst().orElseThrow().id();
+        assertEquals(Map.of(amountId, "10"), values);
+        assertTrue(variablePersistence.findValues(List.of()).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should delete variables of executions")
+    void deleteByExecutionIds() {
+        // Given
+        variablePersistence.save(process(variable("amount", "10")));
+        variablePersistence.save(activity(variable("approved", "true")));
+
+        // When
+        variablePersistence.deleteByExecutionIds(List.of(ACTIVITY_ID));
+
+        // Then
+        assertEquals(List.of("amount"), variablePersistence.findInProcess(PROCESS_ID).stream().map(Variable::varKey).toList());
+    }
+
+    private Process process(Variable... variables) {
+        return Process.builder()
+                .id(PROCESS_ID)
+                .definition(ProcessDefinition.builder().id(DEFINITION_ID).build())
+                .variables(List.of(variables))
+                .build();
+    }
+
+    private ActivityExecution activity(Variable... variables) {
+        return ActivityExecution.builder()
+                .id(ACTIVITY_ID)
+                .definitionId("Approve")
+                .process(process())
+                .variables(List.of(variables))
+                .build();
+    }
+
+    private static Variable variable(String key, String value) {
+        return Variable.builder()
+                .varKey(key)
+                .varValue(value)
+                .type("string")
+                .build();
+    }
+
+}
@@ -0,0 +1,53 @@
+package com.leorces.persistence.memory.lock;
+
+import com.leorces.persistence.memory.configuration.properties.MemoryPersistenceProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ProcessLocksTest {
+
+    @Test
+    @DisplayName("Should reject a non-positive number of lock stripes")
+    void rejectNonPositiveStripes() {
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> new ProcessLocks(new MemoryPersistenceProperties(0)));
+    }
+
+    @Test
+    @DisplayName("Should serialize concurrent writes of one process")
+    void withLockSerializesProcess() throws Exception {
+        // Given
+        var processLocks = new ProcessLocks(new MemoryPersistenceProperties(4));
+        var counter = new int[1];
+
+        // When
+        try (var executor = Executors.newFixedThreadPool(8)) {
+            IntStream.range(0, 10_000).forEach(i -> executor.submit(() -> processLocks.withLock("process-1", () -> {
+                counter[0]++;
+            })));
+        }
+
+        // Then
+        assertEquals(10_000, counter[0]);
+    }
+
+    @Test
+    @DisplayName("Should let a write take a lock stripe it already holds")
+    void withLockIsReentrant() {
+        // Given
+        var processLocks = new ProcessLocks(new MemoryPersistenceProperties(1));
+
+        // When
+        var result = processLocks.withLock("process-1", () -> processLocks.withLock("process-2", () -> "nested"));
+
+        // Then
+        assertEquals("nested", result);
+    }
+
+}
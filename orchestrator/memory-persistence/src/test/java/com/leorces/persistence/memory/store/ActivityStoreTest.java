@@ -0,0 +1,113 @@
+package com.leorces.persistence.memory.store;
+
+import com.leorces.model.definition.ProcessDefinition;
+import com.leorces.model.definition.ProcessDefinitionMetadata;
+import com.leorces.model.definition.activity.task.ExternalTask;
+import com.leorces.model.runtime.activity.ActivityExecution;
+import com.leorces.model.runtime.activity.ActivityState;
+import com.leorces.model.runtime.process.Process;
+import com.leorces.model.runtime.process.ProcessState;
+import com.leorces.persistence.memory.DefinitionPersistenceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ActivityStoreTest {
+
+    private static final String TOPIC = "notification";
+
+    private ActivityStore activityStore;
+    private Process process;
+
+    @BeforeEach
+    void setUp() {
+        var definitionPersistence = new DefinitionPersistenceImpl();
+        var processStore = new ProcessStore(definitionPersistence);
+        var definition = definitionPersistence.save(List.of(createDefinition())).getFirst();
+        process = Process.builder()
+                .id("process-1")
+                .definition(definition)
+                .variables(List.of())
+                .state(ProcessState.ACTIVE)
+                .build();
+        processStore.put(process);
+        activityStore = new ActivityStore(processStore);
+    }
+
+    @Test
+    @DisplayName("Should drop IDs of activities that left the scheduled state from a topic nobody polls")
+    void enqueuePrunesTopicNobodyPolls() {
+        // Given
+        IntStream.range(0, 1023).forEach(i -> {
+            var activity = schedule("activity-" + i);
+            activityStore.update(activity.id(), existing -> existing.toBuilder().state(ActivityState.TERMINATED).build());
+        });
+
+        // When
+        var scheduled = schedule("activity-scheduled");
+
+        // Then
+        assertEquals(1, activityStore.countQueued(TOPIC, process.definitionKey()));
+        assertEquals(List.of(scheduled.id()), activityStore.poll(TOPIC, process.definitionKey(), 10, activity -> activity.toBuilder()
+                        .state(ActivityState.ACTIVE)
+                        .build()).stream()
+                .map(ActivityExecution::id)
+                .toList());
+    }
+
+    @Test
+    @DisplayName("Should keep IDs of scheduled activities when pruning a topic")
+    void enqueueKeepsScheduled() {
+        // When
+        IntStream.range(0, 1024).forEach(i -> schedule("activity-" + i));
+
+        // Then
+        assertEquals(1024, activityStore.countQueued(TOPIC, process.definitionKey()));
+    }
+
+    private ActivityExecution schedule(String id) {
+        var activity = ActivityExecution.builder()
+                .id(id)
+                .definitionId("Notification")
+                .process(process)
+                .variables(List.of())
+                .state(ActivityState.SCHEDULED)
+                .build();
+        activityStore.put(activity);
+        activityStore.enqueue(activity);
+        return activity;
+    }
+
+    private static ProcessDefinition createDefinition() {
+        var notification = ExternalTask.builder()
+                .id("Notification")
+                .name("Notification")
+                .topic(TOPIC)
+                .retries(3)
+                .incoming(List.of())
+                .outgoing(List.of())
+                .inputs(Map.of())
+                .outputs(Map.of())
+                .build();
+
+        return ProcessDefinition.builder()
+                .key("notification-process")
+                .name("Notification process")
+                .activities(List.of(notification))
+                .messages(List.of())
+                .errors(List.of())
+                .metadata(ProcessDefinitionMetadata.builder()
+                        .schema("schema")
+                        .origin("test")
+                        .deployment("test")
+                        .build())
+                .build();
+    }
+
+}
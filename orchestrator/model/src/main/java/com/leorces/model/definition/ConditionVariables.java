@@ -0,0 +1,112 @@
+package com.leorces.model.definition;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Extracts the root variable names a condition expression refers to, e.g. {@code customer} and {@code amount}
+ * for {@code ${customer.vip && amount > 100}}.
+ * <p>
+ * The result is an over-approximation: method names and function calls may be reported as variables,
+ * which only costs an extra evaluation. When no reference can be found, or the expression blocks can't be
+ * told apart cleanly, the condition is reported as unknown, so callers keep evaluating it on every change.
+ * <p>
+ * Blocks are found by matching braces by depth outside string literals, so braces in strings and in inline
+ * lists such as {@code {'a','b'}} do not end a block.
+ */
+final class ConditionVariables {
+
+    private static final char NO_QUOTE = 0;
+    private static final Pattern IDENTIFIER_PATTERN = Pattern.compile("(?<![\\w.])[a-zA-Z_][a-zA-Z0-9_]*");
+    private static final Set<String> RESERVED_KEYWORDS = Set.of(
+            "true", "false", "null", "and", "or", "not",
+            "eq", "ne", "lt", "le", "gt", "ge"
+    );
+
+    private ConditionVariables() {
+    }
+
+    /**
+     * Returns the variable names referenced by the condition.
+     *
+     * @param condition the condition expression
+     * @return the referenced root variable names, or empty when the condition has no detectable references
+     */
+    static Optional<Set<String>> of(String condition) {
+        if (condition == null) {
+            return Optional.empty();
+        }
+
+        var blocks = blocks(condition);
+        if (blocks.isEmpty()) {
+            return Optional.empty();
+        }
+
+        var variables = new LinkedHashSet<String>();
+        for (var block : blocks.get()) {
+            var identifiers = IDENTIFIER_PATTERN.matcher(block);
+            while (identifiers.find()) {
+                var identifier = identifiers.group();
+                if (!RESERVED_KEYWORDS.contains(identifier)) {
+                    variables.add(identifier);
+                }
+            }
+        }
+
+        return variables.isEmpty()
+                ? Optional.empty()
+                : Optional.of(Set.copyOf(variables));
+    }
+
+    /**
+     * Splits the condition into the contents of its top-level blocks, with string literals replaced by
+     * {@code ''}.
+     *
+     * @param condition the condition expression
+     * @return the block contents, or empty when a quote or a brace is left unbalanced
+     */
+    private static Optional<List<String>> blocks(String condition) {
+        var blocks = new ArrayList<String>();
+        var block = new StringBuilder();
+        var depth = 0;
+        var quote = NO_QUOTE;
+
+        for (var i = 0; i < condition.length(); i++) {
+            var c = condition.charAt(i);
+            if (quote != NO_QUOTE) {
+                // A doubled quote escapes itself and reads as two adjacent literals
+                if (c == quote) {
+                    quote = NO_QUOTE;
+                }
+            } else if (c == '{') {
+                if (depth++ > 0) {
+                    block.append(c);
+                }
+            } else if (c == '}') {
+                if (depth == 0) {
+                    return Optional.empty();
+                }
+                if (--depth == 0) {
+                    blocks.add(block.toString());
+                    block.setLength(0);
+                } else {
+                    block.append(c);
+                }
+            } else if (depth > 0 && (c == '\'' || c == '"')) {
+                quote = c;
+                block.append("''");
+            } else if (depth > 0) {
+                block.append(c);
+            }
+        }
+
+        return quote == NO_QUOTE && depth == 0
+                ? Optional.of(blocks)
+                : Optional.empty();
+    }
+
+}
@@ -4,11 +4,9 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.leorces.model.definition.activity.ActivityDefinition;
 import com.leorces.model.definition.activity.ActivityDefinitionDeserializer;
-import com.leorces.model.definition.activity.ActivityType;
 import lombok.Builder;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -25,69 +23,46 @@ public record ProcessDefinition(
         ProcessDefinitionMetadata metadata,
         boolean suspended,
         LocalDateTime createdAt,
-        LocalDateTime updatedAt
+        LocalDateTime updatedAt,
+        @JsonIgnore
+        ProcessDefinitionGraph graph
 ) {
 
+    /**
+     * Copies the activities and compiles the navigation graph of the definition.
+     * A graph passed in, e.g. by {@code toBuilder()}, is kept only if it was compiled from the same ID and activities.
+     */
+    public ProcessDefinition {
+        activities = activities == null ? null : List.copyOf(activities);
+        if (graph == null || !graph.isCompiledFrom(id, activities)) {
+            graph = ProcessDefinitionGraph.of(id, activities);
+        }
+    }
+
     @JsonIgnore
     public Optional<ActivityDefinition> getStartActivity() {
-        return activities.stream()
-                .filter(activity -> ActivityType.START_EVENT.equals(activity.type()))
-                .filter(activity -> activity.parentId() == null)
-                .findFirst();
+        return graph().getStartActivity();
     }
 
     @JsonIgnore
     public Optional<ActivityDefinition> getActivityById(String definitionId) {
-        return activities.stream()
-                .filter(activity -> activity.id().equals(definitionId))
-                .findFirst();
+        return graph().getActivityById(definitionId);
     }
 
     @JsonIgnore
     public List<String> scope(String activityDefinitionId) {
-        var activityDefinition = getActivityById(activityDefinitionId)
-                .orElseThrow(() -> new IllegalArgumentException("Activity definition not found: %s".formatted(activityDefinitionId)));
-
-        var scopeActivities = new ArrayList<String>();
-        scopeActivities.add(activityDefinitionId);
+        var scope = graph().getScope(activityDefinitionId);
 
-        var parentActivityDefinitionIds = findParentActivities(activityDefinition).stream()
-                .map(ActivityDefinition::id)
-                .toList();
-
-        scopeActivities.addAll(parentActivityDefinitionIds);
-        scopeActivities.add(id);
+        if (scope.isEmpty()) {
+            throw new IllegalArgumentException("Activity definition not found: %s".formatted(activityDefinitionId));
+        }
 
-        return scopeActivities;
+        return scope;
     }
 
     @JsonIgnore
     public List<ActivityDefinition> findChildActivities(String parentDefinitionId) {
-        return activities.stream()
-                .filter(activity -> activity.parentId() != null)
-                .filter(activity -> activity.parentId().equals(parentDefinitionId))
-                .toList();
-    }
-
-    private List<ActivityDefinition> findParentActivities(ActivityDefinition activityDefinition) {
-        var parentActivities = new ArrayList<ActivityDefinition>();
-        var currentActivity = activityDefinition;
-
-        // Traverse up the parent chain until we reach the root (activity with no parent)
-        while (currentActivity.parentId() != null) {
-            var parentActivity = getActivityById(currentActivity.parentId());
-
-            if (parentActivity.isEmpty()) {
-                // Parent activity not found, break the chain
-                break;
-            }
-
-            var parent = parentActivity.get();
-            parentActivities.add(parent);
-            currentActivity = parent;
-        }
-
-        return parentActivities;
+        return graph().getChildActivities(parentDefinitionId);
     }
 
 }
@@ -0,0 +1,388 @@
+package com.leorces.model.definition;
+
+import com.leorces.model.definition.activity.ActivityDefinition;
+import com.leorces.model.definition.activity.ActivityType;
+import com.leorces.model.definition.activity.BoundaryEventDefinition;
+import com.leorces.model.definition.activity.ConditionalActivityDefinition;
+import com.leorces.model.definition.activity.MessageActivityDefinition;
+
+import java.util.*;
+
+/**
+ * Immutable, pre-computed navigation structure of a {@link ProcessDefinition}.
+ * <p>
+ * The graph is built once per definition and answers activity lookups, sequence flow navigation, child lookups,
+ * boundary event lookups, message subscription lookups, scope resolution and variable-to-condition lookups
+ * in constant time. Results keep the order of {@link ProcessDefinition#activities()}.
+ * <p>
+ * Two graphs are equal when they are compiled from equal definition IDs and activities.
+ */
+public final class ProcessDefinitionGraph {
+
+    private final String definitionId;
+    private final List<ActivityDefinition> definitionActivities;
+    private final Map<String, ActivityDefinition> activitiesById;
+    private final Map<String, List<ActivityDefinition>> nextActivities;
+    private final Map<String, List<ActivityDefinition>> previousActivities;
+    private final Map<String, List<ActivityDefinition>> childActivities;
+    private final Map<ActivityType, List<ActivityDefinition>> activitiesByType;
+    private final List<ActivityDefinition> joiningGateways;
+    private final Map<String, List<ActivityDefinition>> boundaryEvents;
+    private final Map<String, List<MessageActivityDefinition>> messageEvents;
+    private final List<MessageActivityDefinition> processMessageEvents;
+    private final Map<String, List<ActivityDefinition>> parentActivities;
+    private final Map<String, List<String>> scopes;
+    private final Set<String> asyncActivities;
+    private final List<ConditionalActivityDefinition> conditionalActivities;
+    private final Map<String, List<String>> conditionalActivitiesByVariable;
+    private final Set<String> unindexedConditionalActivities;
+    private final ActivityDefinition startActivity;
+
+    private ProcessDefinitionGraph(String definitionId, List<ActivityDefinition> definitionActivities) {
+        this.definitionId = definitionId;
+        this.definitionActivities = definitionActivities;
+        var activities = definitionActivities == null ? List.<ActivityDefinition>of() : definitionActivities;
+
+        var size = activities.size();
+        var byId = HashMap.<String, ActivityDefinition>newHashMap(size);
+        var positions = HashMap.<String, Integer>newHashMap(size);
+        var children = new HashMap<String, List<ActivityDefinition>>();
+        var byType = new EnumMap<ActivityType, List<ActivityDefinition>>(ActivityType.class);
+        var boundaries = new HashMap<String, List<ActivityDefinition>>();
+        ActivityDefinition start = null;
+
+        for (int i = 0; i < size; i++) {
+            var activity = activities.get(i);
+            byId.putIfAbsent(activity.id(), activity);
+            positions.putIfAbsent(activity.id(), i);
+            if (activity.type() != null) {
+                byType.computeIfAbsent(activity.type(), type -> new ArrayList<>()).add(activity);
+            }
+            if (activity instanceof BoundaryEventDefinition boundaryEvent && boundaryEvent.attachedToRef() != null) {
+                boundaries.computeIfAbsent(boundaryEvent.attachedToRef(), id -> new ArrayList<>()).add(activity);
+            }
+
+            if (activity.parentId() != null) {
+                children.computeIfAbsent(activity.parentId(), id -> new ArrayList<>()).add(activity);
+            } else if (start == null && ActivityType.START_EVENT.equals(activity.type())) {
+                start = activity;
+            }
+        }
+
+        this.activitiesById = Collections.unmodifiableMap(byId);
+        this.startActivity = start;
+        this.childActivities = freeze(children);
+        this.activitiesByType = freeze(byType);
+        this.joiningGateways = activitiesByType.getOrDefault(ActivityType.PARALLEL_GATEWAY, List.of()).stream()
+                .filter(gateway -> gateway.incoming() != null && gateway.incoming().size() > 1)
+                .toList();
+        this.boundaryEvents = freeze(boundaries);
+
+        var next = HashMap.<String, List<ActivityDefinition>>newHashMap(size);
+        var previous = HashMap.<String, List<ActivityDefinition>>newHashMap(size);
+        var parents = HashMap.<String, List<ActivityDefinition>>newHashMap(size);
+        var scopeChains = HashMap.<String, List<String>>newHashMap(size);
+        var async = new HashSet<String>();
+
+        for (var activity : byId.values()) {
+            next.put(activity.id(), resolve(activity.outgoing(), byId, positions));
+            previous.put(activity.id(), resolve(activity.incoming(), byId, positions));
+
+            var parentChain = buildParentChain(activity, byId);
+            parents.put(activity.id(), parentChain);
+            scopeChains.put(activity.id(), buildScope(activity, parentChain, definitionId));
+
+            if (ActivityType.EVENT_SUBPROCESS.equals(activity.type())
+                    || parentChain.stream().anyMatch(parent -> ActivityType.EVENT_SUBPROCESS.equals(parent.type()))) {
+                async.add(activity.id());
+            }
+        }
+
+        this.nextActivities = Collections.unmodifiableMap(next);
+        this.previousActivities = Collections.unmodifiableMap(previous);
+        this.parentActivities = Collections.unmodifiableMap(parents);
+        this.scopes = Collections.unmodifiableMap(scopeChains);
+        this.asyncActivities = Collections.unmodifiableSet(async);
+
+        var messages = new HashMap<String, List<MessageActivityDefinition>>();
+        var processMessages = new ArrayList<MessageActivityDefinition>();
+
+        for (var activity : activities) {
+            if (!(activity instanceof MessageActivityDefinition message) || activity.type() == null) {
+                continue;
+            }
+            switch (activity.type()) {
+                case MESSAGE_INTERMEDIATE_CATCH_EVENT, RECEIVE_TASK ->
+                        messages.computeIfAbsent(activity.id(), id -> new ArrayList<>()).add(message);
+                case MESSAGE_BOUNDARY_EVENT -> {
+                    var attachedToRef = ((BoundaryEventDefinition) activity).attachedToRef();
+                    if (attachedToRef != null) {
+                        messages.computeIfAbsent(attachedToRef, id -> new ArrayList<>()).add(message);
+                    }
+                }
+                case MESSAGE_START_EVENT -> {
+                    // A message start event of an event subprocess listens as long as the scope around the event subprocess runs
+                    var eventSubprocess = activity.parentId() == null ? null : byId.get(activity.parentId());
+                    if (eventSubprocess == null || !ActivityType.EVENT_SUBPROCESS.equals(eventSubprocess.type())) {
+                        continue;
+                    }
+                    if (eventSubprocess.parentId() == null) {
+                        processMessages.add(message);
+                    } else {
+                        messages.computeIfAbsent(eventSubprocess.parentId(), id -> new ArrayList<>()).add(message);
+                    }
+                }
+                default -> {
+                    // Throw and end events send messages and never wait for one
+                }
+            }
+        }
+
+        var frozenMessages = HashMap.<String, List<MessageActivityDefinition>>newHashMap(messages.size());
+        messages.forEach((id, events) -> frozenMessages.put(id, List.copyOf(events)));
+        this.messageEvents = Collections.unmodifiableMap(frozenMessages);
+        this.processMessageEvents = List.copyOf(processMessages);
+
+        var conditionals = new ArrayList<ConditionalActivityDefinition>();
+        var byVariable = new HashMap<String, List<String>>();
+        var unindexed = new HashSet<String>();
+
+        for (var activity : byId.values()) {
+            if (!(activity instanceof ConditionalActivityDefinition conditional)) {
+                continue;
+            }
+            conditionals.add(conditional);
+            ConditionVariables.of(conditional.condition()).ifPresentOrElse(
+                    variables -> variables.forEach(variable ->
+                            byVariable.computeIfAbsent(variable, name -> new ArrayList<>()).add(conditional.id())),
+                    () -> unindexed.add(conditional.id())
+            );
+        }
+
+        conditionals.sort(Comparator.comparingInt(activity -> positions.get(activity.id())));
+        this.conditionalActivities = List.copyOf(conditionals);
+        this.conditionalActivitiesByVariable = Collections.unmodifiableMap(byVariable);
+        this.unindexedConditionalActivities = Collections.unmodifiableSet(unindexed);
+    }
+
+    /**
+     * Compiles the graph of the given definition.
+     * Use {@link ProcessDefinition#graph()} to get the graph the definition has already compiled.
+     *
+     * @param definition the process definition to compile
+     * @return the compiled graph
+     */
+    public static ProcessDefinitionGraph of(ProcessDefinition definition) {
+        return of(definition.id(), definition.activities());
+    }
+
+    static ProcessDefinitionGraph of(String definitionId, List<ActivityDefinition> activities) {
+        return new ProcessDefinitionGraph(definitionId, activities);
+    }
+
+    public Optional<ActivityDefinition> getStartActivity() {
+        return Optional.ofNullable(startActivity);
+    }
+
+    public Optional<ActivityDefinition> getActivityById(String definitionId) {
+        return Optional.ofNullable(activitiesById.get(definitionId));
+    }
+
+    public List<ActivityDefinition> getNextActivities(String definitionId) {
+        return nextActivities.getOrDefault(definitionId, List.of());
+    }
+
+    public List<ActivityDefinition> getPreviousActivities(String definitionId) {
+        return previousActivities.getOrDefault(definitionId, List.of());
+    }
+
+    public List<ActivityDefinition> getChildActivities(String parentDefinitionId) {
+        return childActivities.getOrDefault(parentDefinitionId, List.of());
+    }
+
+    public List<ActivityDefinition> getActivitiesByType(ActivityType type) {
+        return activitiesByType.getOrDefault(type, List.of());
+    }
+
+    /**
+     * Returns the parallel gateways that join more than one incoming flow.
+     *
+     * @return the joining gateways, empty if there are none
+     */
+    public List<ActivityDefinition> getJoiningGateways() {
+        return joiningGateways;
+    }
+
+    /**
+     * Returns the boundary events attached to the activity.
+     *
+     * @param attachedToRef the definition ID of the activity the events are attached to
+     * @return the attached boundary events, empty if there are none
+     */
+    public List<ActivityDefinition> getBoundaryEvents(String attachedToRef) {
+        return boundaryEvents.getOrDefault(attachedToRef, List.of());
+    }
+
+    /**
+     * Returns the message events that wait while the activity runs: the activity itself for message catch events
+     * and receive tasks, its message boundary events and the message start events of event subprocesses inside it.
+     *
+     * @param definitionId the activity definition ID
+     * @return the message events bound to the activity, empty if there are none
+     */
+    public List<MessageActivityDefinition> getMessageEvents(String definitionId) {
+        return messageEvents.getOrDefault(definitionId, List.of());
+    }
+
+    /**
+     * Returns the message start events of event subprocesses at process level, which wait as long as the process runs.
+     *
+     * @return the process level message events
+     */
+    public List<MessageActivityDefinition> getProcessMessageEvents() {
+        return processMessageEvents;
+    }
+
+    /**
+     * Returns the ancestors of the activity, from the closest parent up to the root.
+     *
+     * @param definitionId the activity definition ID
+     * @return the parent chain, empty for top-level or unknown activities
+     */
+    public List<ActivityDefinition> getParentActivities(String definitionId) {
+        return parentActivities.getOrDefault(definitionId, List.of());
+    }
+
+    /**
+     * Returns the variable scope of the activity: the activity itself, its ancestors and the process definition.
+     *
+     * @param definitionId the activity definition ID
+     * @return the scope chain or an empty list for unknown activities
+     */
+    public List<String> getScope(String definitionId) {
+        return scopes.getOrDefault(definitionId, List.of());
+    }
+
+    /**
+     * Checks whether the activity is an event subprocess or runs inside one.
+     *
+     * @param definitionId the activity definition ID
+     * @return true if the activity executes asynchronously
+     */
+    public boolean isAsync(String definitionId) {
+        return asyncActivities.contains(definitionId);
+    }
+
+    /**
+     * Returns all activities that wait for a condition, such as conditional boundary and intermediate events.
+     *
+     * @return the conditional activities
+     */
+    public List<ConditionalActivityDefinition> getConditionalActivities() {
+        return conditionalActivities;
+    }
+
+    /**
+     * Returns the conditional activities whose condition may change when the given variables change:
+     * those referencing one of the variables and those whose references could not be determined.
+     *
+     * @param variableNames the names of the changed variables
+     * @return the affected conditional activities
+     */
+    public List<ConditionalActivityDefinition> getConditionalActivities(Collection<String> variableNames) {
+        if (conditionalActivities.isEmpty()) {
+            return List.of();
+        }
+
+        var affected = new HashSet<>(unindexedConditionalActivities);
+        for (var variableName : variableNames) {
+            affected.addAll(conditionalActivitiesByVariable.getOrDefault(variableName, List.of()));
+        }
+
+        if (affected.isEmpty()) {
+            return List.of();
+        }
+
+        return conditionalActivities.stream()
+                .filter(activity -> affected.contains(activity.id()))
+                .toList();
+    }
+
+    boolean isCompiledFrom(String definitionId, List<ActivityDefinition> activities) {
+        return definitionActivities == activities && Objects.equals(this.definitionId, definitionId);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof ProcessDefinitionGraph other)) {
+            return false;
+        }
+        return Objects.equals(definitionId, other.definitionId)
+                && Objects.equals(definitionActivities, other.definitionActivities);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(definitionId, definitionActivities);
+    }
+
+    @Override
+    public String toString() {
+        return "ProcessDefinitionGraph[definitionId=%s]".formatted(definitionId);
+    }
+
+    private static List<ActivityDefinition> resolve(List<String> flowIds,
+                                                    Map<String, ActivityDefinition> byId,
+                                                    Map<String, Integer> positions) {
+        if (flowIds == null || flowIds.isEmpty()) {
+            return List.of();
+        }
+
+        return flowIds.stream()
+                .distinct()
+                .filter(byId::containsKey)
+                .sorted(Comparator.comparingInt(positions::get))
+                .map(byId::get)
+                .toList();
+    }
+
+    private static List<ActivityDefinition> buildParentChain(ActivityDefinition activity,
+                                                             Map<String, ActivityDefinition> byId) {
+        var parents = new ArrayList<ActivityDefinition>();
+        var current = activity;
+
+        while (current.parentId() != null) {
+            var parent = byId.get(current.parentId());
+
+            // Guard against broken or cyclic parent references
+            if (parent == null || parents.contains(parent)) {
+                break;
+            }
+
+            parents.add(parent);
+            current = parent;
+        }
+
+        return List.copyOf(parents);
+    }
+
+    private static List<String> buildScope(ActivityDefinition activity,
+                                           List<ActivityDefinition> parents,
+                                           String processDefinitionId) {
+        var scope = new ArrayList<String>(parents.size() + 2);
+        scope.add(activity.id());
+        parents.forEach(parent -> scope.add(parent.id()));
+        scope.add(processDefinitionId);
+        return Collections.unmodifiableList(scope);
+    }
+
+    private static <K> Map<K, List<ActivityDefinition>> freeze(Map<K, List<ActivityDefinition>> source) {
+        var frozen = HashMap.<K, List<ActivityDefinition>>newHashMap(source.size());
+        source.forEach((key, value) -> frozen.put(key, List.copyOf(value)));
+        return Collections.unmodifiableMap(frozen);
+    }
+
+}
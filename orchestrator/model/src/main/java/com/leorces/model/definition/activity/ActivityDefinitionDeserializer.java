@@ -11,6 +11,7 @@ import com.leorces.model.definition.activity.event.intermediate.EscalationInterm
 import com.leorces.model.definition.activity.event.intermediate.IntermediateCatchEvent;
 import com.leorces.model.definition.activity.event.intermediate.MessageIntermediateCatchEvent;
 import com.leorces.model.definition.activity.event.intermediate.MessageIntermediateThrowEvent;
+import com.leorces.model.definition.activity.event.intermediate.TimerIntermediateCatchEvent;
 import com.leorces.model.definition.activity.event.start.ErrorStartEvent;
 import com.leorces.model.definition.activity.event.start.EscalationStartEvent;
 import com.leorces.model.definition.activity.event.start.MessageStartEvent;
@@ -61,6 +62,7 @@ public class ActivityDefinitionDeserializer extends JsonDeserializer<ActivityDef
             case EVENT_SUBPROCESS -> mapper.treeToValue(node, EventSubprocess.class);
             case INTERMEDIATE_CATCH_EVENT -> mapper.treeToValue(node, IntermediateCatchEvent.class);
             case MESSAGE_INTERMEDIATE_CATCH_EVENT -> mapper.treeToValue(node, MessageIntermediateCatchEvent.class);
+            case TIMER_INTERMEDIATE_CATCH_EVENT -> mapper.treeToValue(node, TimerIntermediateCatchEvent.class);
             case EVENT_BASED_GATEWAY -> mapper.treeToValue(node, EventBasedGateway.class);
             case CALL_ACTIVITY -> mapper.treeToValue(node, CallActivity.class);
             case ESCALATION_END_EVENT -> mapper.treeToValue(node, EscalationEndEvent.class);
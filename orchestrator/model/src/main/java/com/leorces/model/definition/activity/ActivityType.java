@@ -20,6 +20,7 @@ public enum ActivityType {
     END_EVENT,
     INTERMEDIATE_CATCH_EVENT,
     MESSAGE_INTERMEDIATE_CATCH_EVENT,
+    TIMER_INTERMEDIATE_CATCH_EVENT,
     ERROR_END_EVENT,
     ERROR_START_EVENT,
     TERMINATE_END_EVENT,
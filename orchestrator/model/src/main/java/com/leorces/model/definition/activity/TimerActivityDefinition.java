@@ -0,0 +1,11 @@
+package com.leorces.model.definition.activity;
+
+public interface TimerActivityDefinition extends ActivityDefinition {
+
+    String timeDuration();
+
+    String timeDate();
+
+    String timeCycle();
+
+}
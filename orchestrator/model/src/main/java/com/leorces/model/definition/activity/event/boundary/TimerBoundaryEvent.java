@@ -2,6 +2,7 @@ package com.leorces.model.definition.activity.event.boundary;
 
 import com.leorces.model.definition.activity.ActivityType;
 import com.leorces.model.definition.activity.BoundaryEventDefinition;
+import com.leorces.model.definition.activity.TimerActivityDefinition;
 import lombok.Builder;
 
 import java.util.List;
@@ -22,7 +23,7 @@ public record TimerBoundaryEvent(
         List<String> outgoing,
         Map<String, Object> inputs,
         Map<String, Object> outputs
-) implements BoundaryEventDefinition {
+) implements BoundaryEventDefinition, TimerActivityDefinition {
 
     @Override
     public ActivityType type() {
@@ -0,0 +1,30 @@
+package com.leorces.model.definition.activity.event.intermediate;
+
+import com.leorces.model.definition.activity.ActivityType;
+import com.leorces.model.definition.activity.TimerActivityDefinition;
+import lombok.Builder;
+
+import java.util.List;
+import java.util.Map;
+
+@Builder(toBuilder = true)
+public record TimerIntermediateCatchEvent(
+        String id,
+        String parentId,
+        String name,
+        String timeDuration,
+        String timeDate,
+        String timeCycle,
+        ActivityType type,
+        List<String> incoming,
+        List<String> outgoing,
+        Map<String, Object> inputs,
+        Map<String, Object> outputs
+) implements TimerActivityDefinition {
+
+    @Override
+    public ActivityType type() {
+        return ActivityType.TIMER_INTERMEDIATE_CATCH_EVENT;
+    }
+
+}
@@ -0,0 +1,64 @@
+package com.leorces.model.pagination;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * Position of the last item of a page in a listing ordered from newest to oldest by creation time and id.
+ * <p>
+ * The next page starts right after the cursor, so it is read from an index instead of skipping the
+ * items of all previous pages. The cursor is exchanged as an opaque URL-safe token.
+ */
+public record PageCursor(
+        LocalDateTime createdAt,
+        String id
+) {
+
+    private static final String SEPARATOR = "|";
+
+    public PageCursor {
+        if (createdAt == null || id == null) {
+            throw new IllegalArgumentException("Page cursor requires both creation time and id");
+        }
+    }
+
+    /**
+     * Reads a cursor from its token.
+     *
+     * @return the cursor, {@code null} for a blank token
+     * @throws IllegalArgumentException if the token is not a cursor
+     */
+    @JsonCreator
+    public static PageCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+
+        try {
+            var value = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            var separator = value.indexOf(SEPARATOR);
+            return new PageCursor(LocalDateTime.parse(value.substring(0, separator)), value.substring(separator + 1));
+        } catch (Exception e) {
+            throw new IllegalArgumentException("Invalid page cursor " + token, e);
+        }
+    }
+
+    @JsonValue
+    public String encode() {
+        var value = createdAt + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Checks whether an item comes after the cursor in newest to oldest order.
+     */
+    public boolean isFollowedBy(LocalDateTime itemCreatedAt, String itemId) {
+        var result = itemCreatedAt.compareTo(createdAt);
+        return result < 0 || result == 0 && itemId.compareTo(id) < 0;
+    }
+
+}
@@ -11,9 +11,16 @@ public record Pageable(
         String filter,
         String state,
         String sortByField,
-        Direction order
+        Direction order,
+        PageCursor after,
+        Total total
 ) {
 
+    /**
+     * Upper bound of {@link Total#CAPPED} counts.
+     */
+    public static final long TOTAL_CAP = 10_000L;
+
     public Pageable() {
         this(0L, 0, "", "", null, null);
     }
@@ -30,6 +37,58 @@ public record Pageable(
         this(offset, limit, filter, state, null, null);
     }
 
+    public Pageable(long offset, int limit, String filter, String state, String sortByField, Direction order) {
+        this(offset, limit, filter, state, sortByField, order, null, Total.EXACT);
+    }
+
+    /**
+     * Whether the page starts after a cursor instead of at an offset. The offset is ignored then.
+     */
+    public boolean isKeyset() {
+        return after != null;
+    }
+
+    /**
+     * Whether the filter or the state narrows the listing.
+     */
+    public boolean isFiltered() {
+        return filter != null && !filter.isBlank()
+                || state != null && !state.isBlank() && !"all".equalsIgnoreCase(state);
+    }
+
+    public Total totalOrDefault() {
+        return total != null ? total : Total.EXACT;
+    }
+
+    /**
+     * How the total number of matching items is computed.
+     */
+    public enum Total {
+        /**
+         * Counts all matching items.
+         */
+        EXACT,
+        /**
+         * Counts matching items up to {@link #TOTAL_CAP}.
+         */
+        CAPPED,
+        /**
+         * Takes the row count from table statistics, falls back to {@link #CAPPED} for filtered listings.
+         */
+        ESTIMATED;
+
+        public static Total fromString(String value) {
+            try {
+                return valueOf(value.toUpperCase(Locale.US));
+            } catch (Exception e) {
+                throw new IllegalArgumentException(
+                        "Invalid value " + value + " for total given! Has to be one of 'exact', 'capped' or 'estimated' (case insensitive).",
+                        e
+                );
+            }
+        }
+    }
+
     public enum Direction {
         ASC, DESC;
 
@@ -1,11 +1,37 @@
 package com.leorces.model.pagination;
 
 import java.util.List;
+import java.util.function.Function;
 
+/**
+ * A page of items.
+ *
+ * @param data  the items of the page
+ * @param total the number of matching items, exact or estimated as requested by {@link Pageable#total()}
+ * @param next  the cursor of the next page, {@code null} when the page is not full
+ */
 public record PageableData<T>(
         List<T> data,
-        long total
+        long total,
+        PageCursor next
 ) {
 
-}
+    public PageableData(List<T> data, long total) {
+        this(data, total, null);
+    }
+
+    /**
+     * Creates a page with the cursor of its last item when the page is full.
+     */
+    public static <T> PageableData<T> of(List<T> data, long total, int limit, Function<T, PageCursor> cursor) {
+        var next = limit > 0 && data.size() == limit
+                ? cursor.apply(data.getLast())
+                : null;
+        return new PageableData<>(data, total, next);
+    }
 
+    public <R> PageableData<R> map(Function<List<T>, List<R>> mapper) {
+        return new PageableData<>(mapper.apply(data), total, next);
+    }
+
+}
@@ -0,0 +1,23 @@
+package com.leorces.model.runtime.activity;
+
+import lombok.Builder;
+
+import java.util.Map;
+
+/**
+ * An activity to complete as part of a batch.
+ *
+ * @param activityId the ID of the activity to complete
+ * @param variables  the variables to set, may be {@code null}
+ */
+@Builder
+public record ActivityCompleteRequest(
+        String activityId,
+        Map<String, Object> variables
+) {
+
+    public static ActivityCompleteRequest of(String activityId, Map<String, Object> variables) {
+        return new ActivityCompleteRequest(activityId, variables);
+    }
+
+}
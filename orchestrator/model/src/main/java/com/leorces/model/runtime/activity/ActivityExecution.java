@@ -68,7 +68,7 @@ public class ActivityExecution {
     @JsonIgnore
     public ActivityDefinition getDefinition() {
         return Optional.ofNullable(getProcessDefinition())
-                .flatMap(processDefinition -> processDefinition.getActivityById(definitionId))
+                .flatMap(processDefinition -> processDefinition.graph().getActivityById(definitionId))
                 .orElseThrow();
     }
 
@@ -129,10 +129,7 @@ public class ActivityExecution {
      */
     @JsonIgnore
     public List<ActivityDefinition> getNextActivities() {
-        var outgoingFlows = getDefinition().outgoing();
-        return getProcessDefinition().activities().stream()
-                .filter(activity -> outgoingFlows.contains(activity.id()))
-                .toList();
+        return getProcessDefinition().graph().getNextActivities(getDefinition().id());
     }
 
     /**
@@ -142,10 +139,7 @@ public class ActivityExecution {
      */
     @JsonIgnore
     public List<ActivityDefinition> getPreviousActivities() {
-        var incomingFlows = getDefinition().incoming();
-        return getProcessDefinition().activities().stream()
-                .filter(activity -> incomingFlows.contains(activity.id()))
-                .toList();
+        return getProcessDefinition().graph().getPreviousActivities(getDefinition().id());
     }
 
     /**
@@ -155,9 +149,7 @@ public class ActivityExecution {
      */
     @JsonIgnore
     public List<ActivityDefinition> getChildActivities() {
-        return getProcessDefinition().activities().stream()
-                .filter(activity -> activity.parentId() != null && activity.parentId().equals(definitionId))
-                .toList();
+        return getProcessDefinition().graph().getChildActivities(definitionId);
     }
 
     /**
@@ -0,0 +1,25 @@
+package com.leorces.model.runtime.activity;
+
+import lombok.Builder;
+
+import java.util.Map;
+
+/**
+ * An activity to fail as part of a batch.
+ *
+ * @param activityId the ID of the activity to fail
+ * @param failure    the failure details, may be {@code null}
+ * @param variables  the variables to set, may be {@code null}
+ */
+@Builder
+public record ActivityFailRequest(
+        String activityId,
+        ActivityFailure failure,
+        Map<String, Object> variables
+) {
+
+    public static ActivityFailRequest of(String activityId, ActivityFailure failure, Map<String, Object> variables) {
+        return new ActivityFailRequest(activityId, failure, variables);
+    }
+
+}
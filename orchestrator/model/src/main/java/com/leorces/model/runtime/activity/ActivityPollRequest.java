@@ -0,0 +1,23 @@
+package com.leorces.model.runtime.activity;
+
+import lombok.Builder;
+
+/**
+ * One entry of a poll request: the external tasks of a topic in processes of a definition key.
+ *
+ * @param topic                the topic to poll activities for
+ * @param processDefinitionKey the key of the process definition
+ * @param limit                the maximum number of activities to return for this entry
+ */
+@Builder
+public record ActivityPollRequest(
+        String topic,
+        String processDefinitionKey,
+        int limit
+) {
+
+    public static ActivityPollRequest of(String topic, String processDefinitionKey, int limit) {
+        return new ActivityPollRequest(topic, processDefinitionKey, limit);
+    }
+
+}
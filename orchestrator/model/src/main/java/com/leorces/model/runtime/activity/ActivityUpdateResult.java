@@ -0,0 +1,46 @@
+package com.leorces.model.runtime.activity;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+/**
+ * The outcome of completing or failing one activity of a batch.
+ *
+ * @param activityId the ID of the activity
+ * @param status     the outcome
+ * @param error      why the update was not applied, {@code null} if it was
+ */
+public record ActivityUpdateResult(
+        String activityId,
+        ActivityUpdateStatus status,
+        String error
+) {
+
+    public static ActivityUpdateResult applied(String activityId) {
+        return new ActivityUpdateResult(activityId, ActivityUpdateStatus.APPLIED, null);
+    }
+
+    public static ActivityUpdateResult notFound(String activityId) {
+        return new ActivityUpdateResult(activityId, ActivityUpdateStatus.NOT_FOUND, "Activity not found: %s".formatted(activityId));
+    }
+
+    public static ActivityUpdateResult notActive(ActivityExecution activity) {
+        var error = activity.isInTerminalState()
+                ? "Activity is already %s".formatted(activity.state())
+                : "Process is already %s".formatted(activity.process().state());
+        return notActive(activity.id(), error);
+    }
+
+    public static ActivityUpdateResult notActive(String activityId, String error) {
+        return new ActivityUpdateResult(activityId, ActivityUpdateStatus.NOT_ACTIVE, error);
+    }
+
+    public static ActivityUpdateResult failed(String activityId, String error) {
+        return new ActivityUpdateResult(activityId, ActivityUpdateStatus.FAILED, error);
+    }
+
+    @JsonIgnore
+    public boolean isApplied() {
+        return status == ActivityUpdateStatus.APPLIED;
+    }
+
+}
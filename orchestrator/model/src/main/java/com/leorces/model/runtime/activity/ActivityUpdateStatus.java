@@ -0,0 +1,10 @@
+package com.leorces.model.runtime.activity;
+
+public enum ActivityUpdateStatus {
+
+    APPLIED,
+    NOT_FOUND,
+    NOT_ACTIVE,
+    FAILED
+
+}
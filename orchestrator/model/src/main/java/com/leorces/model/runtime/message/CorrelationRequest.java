@@ -0,0 +1,40 @@
+package com.leorces.model.runtime.message;
+
+import lombok.Builder;
+
+import java.util.Map;
+
+/**
+ * A message to correlate as part of a batch.
+ *
+ * @param messageName      the name of the message
+ * @param businessKey      the business key of the process to correlate with, may be {@code null}
+ * @param correlationKeys  process variables the process must hold with the given values, may be {@code null}
+ * @param processVariables the variables to set in the correlated process, may be {@code null}
+ */
+@Builder
+public record CorrelationRequest(
+        String messageName,
+        String businessKey,
+        Map<String, Object> correlationKeys,
+        Map<String, Object> processVariables
+) {
+
+    public static CorrelationRequest of(String messageName, String businessKey) {
+        return CorrelationRequest.builder()
+                .messageName(messageName)
+                .businessKey(businessKey)
+                .build();
+    }
+
+    public static CorrelationRequest of(String messageName,
+                                        String businessKey,
+                                        Map<String, Object> processVariables) {
+        return CorrelationRequest.builder()
+                .messageName(messageName)
+                .businessKey(businessKey)
+                .processVariables(processVariables)
+                .build();
+    }
+
+}
@@ -0,0 +1,47 @@
+package com.leorces.model.runtime.message;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.Builder;
+
+/**
+ * The outcome of correlating one message of a batch.
+ *
+ * @param messageName the name of the message
+ * @param businessKey the business key the message was correlated by
+ * @param processId   the correlated process, {@code null} unless the message was correlated
+ * @param status      the outcome
+ * @param error       why the message was not correlated, {@code null} if it was
+ */
+@Builder
+public record CorrelationResult(
+        String messageName,
+        String businessKey,
+        String processId,
+        CorrelationStatus status,
+        String error
+) {
+
+    public static CorrelationResult correlated(CorrelationRequest request, String processId) {
+        return CorrelationResult.builder()
+                .messageName(request.messageName())
+                .businessKey(request.businessKey())
+                .processId(processId)
+                .status(CorrelationStatus.CORRELATED)
+                .build();
+    }
+
+    public static CorrelationResult failed(CorrelationRequest request, CorrelationStatus status, String error) {
+        return CorrelationResult.builder()
+                .messageName(request.messageName())
+                .businessKey(request.businessKey())
+                .status(status)
+                .error(error)
+                .build();
+    }
+
+    @JsonIgnore
+    public boolean isCorrelated() {
+        return status == CorrelationStatus.CORRELATED;
+    }
+
+}
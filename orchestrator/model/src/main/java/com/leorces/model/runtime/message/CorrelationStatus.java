@@ -0,0 +1,10 @@
+package com.leorces.model.runtime.message;
+
+public enum CorrelationStatus {
+
+    CORRELATED,
+    NOT_FOUND,
+    AMBIGUOUS,
+    FAILED
+
+}
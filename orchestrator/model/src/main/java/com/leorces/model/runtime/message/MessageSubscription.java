@@ -0,0 +1,32 @@
+package com.leorces.model.runtime.message;
+
+import lombok.Builder;
+
+import java.time.LocalDateTime;
+
+/**
+ * A message a process instance is waiting for.
+ *
+ * @param id                   the subscription ID
+ * @param processId            the process the subscription belongs to
+ * @param businessKey          the business key of the process
+ * @param messageName          the name of the awaited message
+ * @param definitionId         the definition ID of the message event or receive task to trigger
+ * @param activityDefinitionId the definition ID of the activity that bounds the subscription's lifetime:
+ *                             the attached activity for boundary events, the event itself for catch events and receive tasks,
+ *                             the enclosing subprocess for message start events of event subprocesses,
+ *                             or {@code null} for event subprocesses at process level
+ * @param createdAt            the creation time
+ */
+@Builder(toBuilder = true)
+public record MessageSubscription(
+        String id,
+        String processId,
+        String businessKey,
+        String messageName,
+        String definitionId,
+        String activityDefinitionId,
+        LocalDateTime createdAt
+) {
+
+}
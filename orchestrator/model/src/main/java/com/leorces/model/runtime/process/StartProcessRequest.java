@@ -0,0 +1,35 @@
+package com.leorces.model.runtime.process;
+
+import lombok.Builder;
+
+import java.util.Map;
+
+@Builder
+public record StartProcessRequest(
+        String definitionId,
+        String definitionKey,
+        String businessKey,
+        Map<String, Object> variables
+) {
+
+    public static StartProcessRequest byId(String definitionId,
+                                           String businessKey,
+                                           Map<String, Object> variables) {
+        return StartProcessRequest.builder()
+                .definitionId(definitionId)
+                .businessKey(businessKey)
+                .variables(variables)
+                .build();
+    }
+
+    public static StartProcessRequest byKey(String definitionKey,
+                                            String businessKey,
+                                            Map<String, Object> variables) {
+        return StartProcessRequest.builder()
+                .definitionKey(definitionKey)
+                .businessKey(businessKey)
+                .variables(variables)
+                .build();
+    }
+
+}
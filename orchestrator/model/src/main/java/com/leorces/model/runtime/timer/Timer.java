@@ -0,0 +1,37 @@
+package com.leorces.model.runtime.timer;
+
+import lombok.Builder;
+
+import java.time.LocalDateTime;
+
+/**
+ * A pending timer of a process instance.
+ *
+ * @param id                   the timer ID
+ * @param processId            the process the timer belongs to
+ * @param definitionId         the definition ID of the timer event to trigger
+ * @param activityDefinitionId the definition ID of the activity that bounds the timer's lifetime:
+ *                             the attached activity for boundary events, the event itself for catch events
+ * @param activityId           the execution ID of that activity
+ * @param dueAt                the time the timer fires
+ * @param cycle                the remaining repetitions after this firing, such as {@code R2/PT10S},
+ *                             or {@code null} for a timer that fires once
+ * @param createdAt            the creation time
+ */
+@Builder(toBuilder = true)
+public record Timer(
+        String id,
+        String processId,
+        String definitionId,
+        String activityDefinitionId,
+        String activityId,
+        LocalDateTime dueAt,
+        String cycle,
+        LocalDateTime createdAt
+) {
+
+    public boolean isCyclic() {
+        return cycle != null;
+    }
+
+}
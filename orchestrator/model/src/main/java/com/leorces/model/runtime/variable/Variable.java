@@ -4,6 +4,12 @@ import lombok.Builder;
 
 import java.time.LocalDateTime;
 
+/**
+ * A variable of a process or activity execution.
+ * <p>
+ * An {@code offloaded} variable is a reference: its value is stored apart from the variable and left out of
+ * {@code varValue}. Polled activities carry such references, their values are read by variable ID.
+ */
 @Builder(toBuilder = true)
 public record Variable(
         String id,
@@ -12,6 +18,7 @@ public record Variable(
         String executionDefinitionId,
         String varKey,
         String varValue,
+        boolean offloaded,
         String type,
         LocalDateTime createdAt,
         LocalDateTime updatedAt
@@ -0,0 +1,291 @@
+package com.leorces.model.definition;
+
+import com.leorces.model.definition.activity.ActivityDefinition;
+import com.leorces.model.definition.activity.ActivityType;
+import com.leorces.model.definition.activity.event.boundary.ConditionalBoundaryEvent;
+import com.leorces.model.definition.activity.event.boundary.MessageBoundaryEvent;
+import com.leorces.model.definition.activity.event.boundary.TimerBoundaryEvent;
+import com.leorces.model.definition.activity.event.intermediate.IntermediateCatchEvent;
+import com.leorces.model.definition.activity.event.intermediate.MessageIntermediateCatchEvent;
+import com.leorces.model.definition.activity.event.start.MessageStartEvent;
+import com.leorces.model.definition.activity.event.start.StartEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ProcessDefinitionGraph Tests")
+class ProcessDefinitionGraphTest {
+
+    private static final String TEST_ID = "process-graph-def";
+
+    @Test
+    @DisplayName("Should resolve next and previous activities in definition order")
+    void shouldResolveNextAndPreviousActivities() {
+        // Given
+        var start = activity("start", ActivityType.START_EVENT, null, List.of(), List.of("gateway"));
+        var gateway = activity("gateway", ActivityType.PARALLEL_GATEWAY, null, List.of("start"), List.of("taskB", "taskA"));
+        var taskA = activity("taskA", ActivityType.EXTERNAL_TASK, null, List.of("gateway"), List.of());
+        var taskB = activity("taskB", ActivityType.EXTERNAL_TASK, null, List.of("gateway"), List.of());
+        var graph = definition(List.of(start, gateway, taskA, taskB)).graph();
+
+        // When & Then
+        assertEquals(List.of(gateway), graph.getNextActivities("start"));
+        assertEquals(List.of(taskA, taskB), graph.getNextActivities("gateway"));
+        assertEquals(List.of(gateway), graph.getPreviousActivities("taskB"));
+        assertTrue(graph.getNextActivities("unknown").isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should resolve start activity, children, scopes and async flag")
+    void shouldResolveHierarchy() {
+        // Given
+        var start = activity("start", ActivityType.START_EVENT, null, List.of(), List.of());
+        var eventSubprocess = activity("eventSub", ActivityType.EVENT_SUBPROCESS, null, List.of(), List.of());
+        var subStart = activity("subStart", ActivityType.START_EVENT, "eventSub", List.of(), List.of());
+        var subTask = activity("subTask", ActivityType.EXTERNAL_TASK, "eventSub", List.of(), List.of());
+        var graph = definition(List.of(subStart, start, eventSubprocess, subTask)).graph();
+
+        // When & Then
+        assertEquals(start, graph.getStartActivity().orElseThrow());
+        assertEquals(List.of(subStart, subTask), graph.getChildActivities("eventSub"));
+        assertEquals(List.of("subTask", "eventSub", TEST_ID), graph.getScope("subTask"));
+        assertEquals(List.of(eventSubprocess), graph.getParentActivities("subTask"));
+        assertEquals(List.of(subStart, start), graph.getActivitiesByType(ActivityType.START_EVENT));
+        assertTrue(graph.isAsync("subTask"));
+        assertFalse(graph.isAsync("start"));
+    }
+
+    @Test
+    @DisplayName("Should share graph for the same definition and rebuild when activities change")
+    void shouldShareGraphPerDefinition() {
+        // Given
+        var activities = List.of(activity("start", ActivityType.START_EVENT, null, List.of(), List.of()));
+        var definition = definition(activities);
+        var changedDefinition = definition.toBuilder()
+                .activities(List.of(activity("other", ActivityType.START_EVENT, null, List.of(), List.of())))
+                .build();
+
+        // When & Then
+        assertSame(definition.graph(), definition.toBuilder().suspended(true).build().graph());
+        assertTrue(changedDefinition.graph().getActivityById("other").isPresent());
+        assertTrue(changedDefinition.graph().getActivityById("start").isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should keep the graph in line with the activities when the passed list changes afterwards")
+    void shouldCopyActivities() {
+        // Given
+        var activities = new ArrayList<ActivityDefinition>();
+        activities.add(activity("start", ActivityType.START_EVENT, null, List.of(), List.of()));
+        var definition = definition(activities);
+
+        // When
+        activities.add(activity("late", ActivityType.EXTERNAL_TASK, null, List.of(), List.of()));
+
+        // Then
+        assertEquals(1, definition.activities().size());
+        assertTrue(definition.graph().getActivityById("late").isEmpty());
+        assertThrows(UnsupportedOperationException.class, () -> definition.activities().add(activities.get(1)));
+    }
+
+    @Test
+    @DisplayName("Should compile the graph once per definition and separately for definitions read separately")
+    void shouldCompileGraphOncePerDefinition() {
+        // Given
+        var definition = definition(List.of(StartEvent.builder().id("start").build()));
+        var separateRead = definition(List.of(StartEvent.builder().id("start").build()));
+        var copyWithOtherId = definition.toBuilder()
+                .id("other-definition")
+                .build();
+
+        // When
+        var graph = definition.graph();
+
+        // Then
+        assertSame(graph, definition.graph());
+        assertNotSame(graph, separateRead.graph());
+        assertSame(separateRead.graph(), separateRead.graph());
+        assertEquals(List.of("start", "other-definition"), copyWithOtherId.graph().getScope("start"));
+        assertEquals(definition, separateRead);
+    }
+
+    @Test
+    @DisplayName("Should index conditional activities by referenced variable")
+    void shouldIndexConditionalActivitiesByVariable() {
+        // Given
+        var amountEvent = IntermediateCatchEvent.builder()
+                .id("amountEvent")
+                .condition("${amount > 100 && customer.vip}")
+                .build();
+        var statusBoundary = ConditionalBoundaryEvent.builder()
+                .id("statusBoundary")
+                .condition("${status == 'approved'}")
+                .build();
+        var constantEvent = IntermediateCatchEvent.builder()
+                .id("constantEvent")
+                .condition("${true}")
+                .build();
+        var start = activity("start", ActivityType.START_EVENT, null, List.of(), List.of());
+        var graph = definition(List.of(statusBoundary, start, amountEvent, constantEvent)).graph();
+
+        // When & Then
+        assertEquals(List.of(statusBoundary, amountEvent, constantEvent), graph.getConditionalActivities());
+        assertEquals(List.of(amountEvent, constantEvent), graph.getConditionalActivities(Set.of("customer")));
+        assertEquals(List.of(statusBoundary, amountEvent, constantEvent), graph.getConditionalActivities(Set.of("status", "amount")));
+        assertEquals(List.of(constantEvent), graph.getConditionalActivities(Set.of("approved", "vip")));
+    }
+
+    @Test
+    @DisplayName("Should index boundary events by attached activity")
+    void shouldIndexBoundaryEventsByAttachedActivity() {
+        // Given
+        var task = activity("task", ActivityType.EXTERNAL_TASK, null, List.of(), List.of());
+        var timerBoundary = TimerBoundaryEvent.builder()
+                .id("timerBoundary")
+                .attachedToRef("task")
+                .timeDuration("PT5M")
+                .build();
+        var statusBoundary = ConditionalBoundaryEvent.builder()
+                .id("statusBoundary")
+                .attachedToRef("task")
+                .condition("${status == 'approved'}")
+                .build();
+        var graph = definition(List.of(timerBoundary, task, statusBoundary)).graph();
+
+        // When & Then
+        assertEquals(List.of(timerBoundary, statusBoundary), graph.getBoundaryEvents("task"));
+        assertTrue(graph.getBoundaryEvents("timerBoundary").isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should index message events by the activity that bounds their subscription")
+    void shouldIndexMessageEventsBySubscriptionOwner() {
+        // Given
+        var task = activity("task", ActivityType.EXTERNAL_TASK, null, List.of(), List.of());
+        var messageBoundary = MessageBoundaryEvent.builder()
+                .id("messageBoundary")
+                .attachedToRef("task")
+                .messageReference("cancelled")
+                .build();
+        var catchEvent = MessageIntermediateCatchEvent.builder()
+                .id("catchEvent")
+                .messageReference("paid")
+                .build();
+        var subprocess = activity("subprocess", ActivityType.SUBPROCESS, null, List.of(), List.of());
+        var nestedEventSubprocess = activity("nestedEventSubprocess", ActivityType.EVENT_SUBPROCESS, "subprocess", List.of(), List.of());
+        var nestedStart = MessageStartEvent.builder()
+                .id("nestedStart")
+                .parentId("nestedEventSubprocess")
+                .messageReference("updated")
+                .build();
+        var eventSubprocess = activity("eventSubprocess", ActivityType.EVENT_SUBPROCESS, null, List.of(), List.of());
+        var processStart = MessageStartEvent.builder()
+                .id("processStart")
+                .parentId("eventSubprocess")
+                .messageReference("closed")
+                .build();
+        var graph = definition(List.of(task, messageBoundary, catchEvent, subprocess, nestedEventSubprocess, nestedStart, eventSubprocess, processStart)).graph();
+
+        // When & Then
+        assertEquals(List.of(messageBoundary), graph.getMessageEvents("task"));
+        assertEquals(List.of(catchEvent), graph.getMessageEvents("catchEvent"));
+        assertEquals(List.of(nestedStart), graph.getMessageEvents("subprocess"));
+        assertTrue(graph.getMessageEvents("messageBoundary").isEmpty());
+        assertEquals(List.of(processStart), graph.getProcessMessageEvents());
+    }
+
+    @Test
+    @DisplayName("Should extract root variables from conditions")
+    void shouldExtractConditionVariables() {
+        // When & Then
+        assertEquals(Optional.of(Set.of("order", "limit")), ConditionVariables.of("${order.total.amount gt limit}"));
+        assertEquals(Optional.of(Set.of("name")), ConditionVariables.of("{name.startsWith(\"and\") or name == 'x y'}"));
+        assertEquals(Optional.of(Set.of("items")), ConditionVariables.of("${items.size() > 0 and not false}"));
+        assertEquals(Optional.empty(), ConditionVariables.of("${1 == 1}"));
+        assertEquals(Optional.empty(), ConditionVariables.of("true"));
+        assertEquals(Optional.empty(), ConditionVariables.of(null));
+    }
+
+    @Test
+    @DisplayName("Should not end a condition block at braces inside strings or inline lists")
+    void shouldMatchConditionBlockBraces() {
+        // When & Then
+        assertEquals(Optional.of(Set.of("name", "amount")), ConditionVariables.of("${name == '}' && amount > 100}"));
+        assertEquals(Optional.of(Set.of("status", "flag")), ConditionVariables.of("${ {'a','b'}.contains(status) && flag }"));
+        assertEquals(Optional.of(Set.of("note")), ConditionVariables.of("${note == 'it''s {x}'}"));
+    }
+
+    @Test
+    @DisplayName("Should report conditions with unbalanced braces or quotes as unknown")
+    void shouldReportUnbalancedConditionAsUnknown() {
+        // When & Then
+        assertEquals(Optional.empty(), ConditionVariables.of("${name == 'x}"));
+        assertEquals(Optional.empty(), ConditionVariables.of("${ {'a'}.contains(status)"));
+        assertEquals(Optional.empty(), ConditionVariables.of("${status} }"));
+    }
+
+    private ProcessDefinition definition(List<ActivityDefinition> activities) {
+        return ProcessDefinition.builder()
+                .id(TEST_ID)
+                .key("graph-process")
+                .version(1)
+                .activities(activities)
+                .build();
+    }
+
+    private ActivityDefinition activity(String id,
+                                        ActivityType type,
+                                        String parentId,
+                                        List<String> incoming,
+                                        List<String> outgoing) {
+        return new ActivityDefinition() {
+            @Override
+            public String id() {
+                return id;
+            }
+
+            @Override
+            public String parentId() {
+                return parentId;
+            }
+
+            @Override
+            public String name() {
+                return id + "-name";
+            }
+
+            @Override
+            public ActivityType type() {
+                return type;
+            }
+
+            @Override
+            public List<String> incoming() {
+                return incoming;
+            }
+
+            @Override
+            public List<String> outgoing() {
+                return outgoing;
+            }
+
+            @Override
+            public Map<String, Object> inputs() {
+                return Map.of();
+            }
+
+            @Override
+            public Map<String, Object> outputs() {
+                return Map.of();
+            }
+        };
+    }
+
+}
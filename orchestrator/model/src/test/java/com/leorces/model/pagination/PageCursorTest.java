@@ -0,0 +1,80 @@
+package com.leorces.model.pagination;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Page Cursor Tests")
+class PageCursorTest {
+
+    private static final LocalDateTime TEST_CREATED_AT = LocalDateTime.of(2026, 10, 18, 12, 30, 15, 123_456_000);
+    private static final String TEST_ID = "process-1";
+
+    @Test
+    @DisplayName("Should decode encoded cursor")
+    void shouldDecodeEncodedCursor() {
+        // Given
+        var cursor = new PageCursor(TEST_CREATED_AT, TEST_ID);
+
+        // When
+        var decoded = PageCursor.decode(cursor.encode());
+
+        // Then
+        assertEquals(cursor, decoded);
+    }
+
+    @Test
+    @DisplayName("Should encode cursor as URL safe token")
+    void shouldEncodeCursorAsUrlSafeToken() {
+        // When
+        var token = new PageCursor(TEST_CREATED_AT, "a/b+c=d").encode();
+
+        // Then
+        assertTrue(token.matches("[A-Za-z0-9_-]+"));
+    }
+
+    @ParameterizedTest
+    @NullAndEmptySource
+    @ValueSource(strings = " ")
+    @DisplayName("Should decode blank token to no cursor")
+    void shouldDecodeBlankTokenToNoCursor(String token) {
+        // When & Then
+        assertNull(PageCursor.decode(token));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"not a cursor", "bm90LWEtZGF0ZXxpZA"})
+    @DisplayName("Should reject invalid token")
+    void shouldRejectInvalidToken(String token) {
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> PageCursor.decode(token));
+    }
+
+    @Test
+    @DisplayName("Should reject cursor without id")
+    void shouldRejectCursorWithoutId() {
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> new PageCursor(TEST_CREATED_AT, null));
+    }
+
+    @Test
+    @DisplayName("Should be followed by older items and same time items with lower id")
+    void shouldBeFollowedByOlderItems() {
+        // Given
+        var cursor = new PageCursor(TEST_CREATED_AT, TEST_ID);
+
+        // When & Then
+        assertTrue(cursor.isFollowedBy(TEST_CREATED_AT.minusNanos(1000), "process-9"));
+        assertTrue(cursor.isFollowedBy(TEST_CREATED_AT, "process-0"));
+        assertFalse(cursor.isFollowedBy(TEST_CREATED_AT, TEST_ID));
+        assertFalse(cursor.isFollowedBy(TEST_CREATED_AT, "process-2"));
+        assertFalse(cursor.isFollowedBy(TEST_CREATED_AT.plusSeconds(1), "process-0"));
+    }
+
+}
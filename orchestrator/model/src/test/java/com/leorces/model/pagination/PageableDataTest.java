@@ -3,6 +3,7 @@ package com.leorces.model.pagination;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -12,6 +13,7 @@ class PageableDataTest {
 
     private static final List<String> TEST_DATA = List.of("item1", "item2", "item3");
     private static final long TEST_TOTAL = 100L;
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2026, 10, 18, 12, 0);
 
     @Test
     @DisplayName("Should create PageableData with data and total")
@@ -140,4 +142,41 @@ class PageableDataTest {
         assertEquals(negativeTotal, pageableData.total());
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("Should point next cursor at last item of full page")
+    void shouldPointNextCursorAtLastItemOfFullPage() {
+        // When
+        var pageableData = PageableData.of(TEST_DATA, TEST_TOTAL, TEST_DATA.size(), item -> new PageCursor(CREATED_AT, item));
+
+        // Then
+        assertEquals(new PageCursor(CREATED_AT, "item3"), pageableData.next());
+    }
+
+    @Test
+    @DisplayName("Should have no next cursor for last page")
+    void shouldHaveNoNextCursorForLastPage() {
+        // When
+        var pageableData = PageableData.of(TEST_DATA, TEST_TOTAL, TEST_DATA.size() + 1, item -> new PageCursor(CREATED_AT, item));
+
+        // Then
+        assertNull(pageableData.next());
+        assertNull(PageableData.of(List.<String>of(), 0L, 0, item -> new PageCursor(CREATED_AT, item)).next());
+    }
+
+    @Test
+    @DisplayName("Should keep total and next cursor when mapping data")
+    void shouldKeepTotalAndNextCursorWhenMappingData() {
+        // Given
+        var cursor = new PageCursor(CREATED_AT, "item3");
+        var pageableData = new PageableData<>(TEST_DATA, TEST_TOTAL, cursor);
+
+        // When
+        var mapped = pageableData.map(data -> data.stream().map(String::length).toList());
+
+        // Then
+        assertEquals(List.of(5, 5, 5), mapped.data());
+        assertEquals(TEST_TOTAL, mapped.total());
+        assertEquals(cursor, mapped.next());
+    }
+
+}
@@ -6,6 +6,8 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
 import org.junit.jupiter.params.provider.ValueSource;
 
+import java.time.LocalDateTime;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 @DisplayName("Pageable Tests")
@@ -200,6 +202,58 @@ class PageableTest {
         assertEquals(direction.name(), toString);
     }
 
+    @Test
+    @DisplayName("Should page after cursor when cursor is set")
+    void shouldPageAfterCursorWhenCursorIsSet() {
+        // Given
+        var cursor = new PageCursor(LocalDateTime.of(2026, 10, 18, 12, 0), "process-1");
+
+        // When
+        var pageable = new Pageable(TEST_OFFSET, TEST_LIMIT).toBuilder()
+                .after(cursor)
+                .build();
+
+        // Then
+        assertTrue(pageable.isKeyset());
+        assertFalse(new Pageable(TEST_OFFSET, TEST_LIMIT).isKeyset());
+    }
+
+    @Test
+    @DisplayName("Should treat blank filter and all states as unfiltered")
+    void shouldTreatBlankFilterAndAllStatesAsUnfiltered() {
+        // When & Then
+        assertFalse(new Pageable(TEST_OFFSET, TEST_LIMIT).isFiltered());
+        assertFalse(new Pageable(TEST_OFFSET, TEST_LIMIT, " ", "all").isFiltered());
+        assertTrue(new Pageable(TEST_OFFSET, TEST_LIMIT, TEST_FILTER).isFiltered());
+        assertTrue(new Pageable(TEST_OFFSET, TEST_LIMIT, "", TEST_STATE).isFiltered());
+    }
+
+    @Test
+    @DisplayName("Should count exactly by default")
+    void shouldCountExactlyByDefault() {
+        // When & Then
+        assertEquals(Pageable.Total.EXACT, new Pageable(TEST_OFFSET, TEST_LIMIT).totalOrDefault());
+        assertEquals(Pageable.Total.EXACT, Pageable.builder().build().totalOrDefault());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"exact", "CAPPED", "Estimated"})
+    @DisplayName("Should parse total case insensitively")
+    void shouldParseTotalCaseInsensitively(String value) {
+        // When
+        var total = Pageable.Total.fromString(value);
+
+        // Then
+        assertEquals(value.toUpperCase(), total.name());
+    }
+
+    @Test
+    @DisplayName("Should reject unknown total")
+    void shouldRejectUnknownTotal() {
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> Pageable.Total.fromString("approximate"));
+    }
+
     private boolean contains(Pageable.Direction[] directions, Pageable.Direction target) {
         for (Pageable.Direction direction : directions) {
             if (direction == target) {
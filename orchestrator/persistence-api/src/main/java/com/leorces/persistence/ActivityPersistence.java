@@ -2,8 +2,10 @@ package com.leorces.persistence;
 
 import com.leorces.model.runtime.activity.Activity;
 import com.leorces.model.runtime.activity.ActivityExecution;
+import com.leorces.model.runtime.activity.ActivityPollRequest;
 import com.leorces.model.runtime.activity.ActivityState;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
 
@@ -29,6 +31,15 @@ public interface ActivityPersistence {
      */
     ActivityExecution run(ActivityExecution activity);
 
+    /**
+     * Runs several activities at once, like the instances of a multi-instance activity.
+     * The activities are stored together; their own variables are saved like with {@link #run(ActivityExecution)}.
+     *
+     * @param activities the activities to run
+     * @return the running activities, in the order they were given
+     */
+    List<ActivityExecution> runAll(List<ActivityExecution> activities);
+
     /**
      * Completes an activity successfully.
      *
@@ -37,6 +48,15 @@ public interface ActivityPersistence {
      */
     ActivityExecution complete(ActivityExecution activity);
 
+    /**
+     * Completes several activities at once, like the external tasks of a batch.
+     * The activities are stored together.
+     *
+     * @param activities the activities to complete
+     * @return the completed activities, in the given order
+     */
+    List<ActivityExecution> completeAll(List<ActivityExecution> activities);
+
     /**
      * Terminates an activity forcefully.
      *
@@ -53,6 +73,15 @@ public interface ActivityPersistence {
      */
     ActivityExecution fail(ActivityExecution activity);
 
+    /**
+     * Marks several activities as failed at once, like the external tasks of a batch.
+     * The activities are stored together.
+     *
+     * @param activities the activities to mark as failed
+     * @return the failed activities, in the given order
+     */
+    List<ActivityExecution> failAll(List<ActivityExecution> activities);
+
     /**
      * Changes the state of an activity by its identifier.
      *
@@ -84,6 +113,15 @@ public interface ActivityPersistence {
      */
     Optional<ActivityExecution> findById(String id);
 
+    /**
+     * Finds several activities by their unique identifiers at once.
+     * Each activity carries the variables of its process like with {@link #findById(String)}.
+     *
+     * @param ids the unique identifiers of the activities
+     * @return the activities found, unknown identifiers are skipped
+     */
+    List<ActivityExecution> findAllById(List<String> ids);
+
     /**
      * Finds an activity by process ID and definition ID.
      *
@@ -135,12 +173,17 @@ public interface ActivityPersistence {
     List<ActivityExecution> findFailed(String processId);
 
     /**
-     * Finds all timed out activities.
+     * Claims timed out activities, oldest timeout first.
+     * <p>
+     * Claimed activities get their timeout pushed out by the lease, so concurrent callers never claim the same
+     * activity twice and an activity whose failure was never recorded is claimed again once the lease expires.
+     * The returned activities carry their original timeout.
      *
-     * @param limit the maximum number of activities to retrieve
-     * @return the list of timed-out activities
+     * @param limit the maximum number of activities to claim
+     * @param lease how long the claim hides the activities from other callers
+     * @return the claimed activities
      */
-    List<ActivityExecution> findTimedOut(int limit);
+    List<ActivityExecution> claimTimedOut(int limit, Duration lease);
 
     /**
      * Polls for available activities to execute from a specific topic.
@@ -152,6 +195,14 @@ public interface ActivityPersistence {
      */
     List<Activity> poll(String topic, String processDefinitionKey, int limit);
 
+    /**
+     * Polls for available activities of several topics and process definition keys at once.
+     *
+     * @param requests the topics and process definition keys to poll, each with its own limit
+     * @return the list of available activities for execution, across all requests
+     */
+    List<Activity> poll(List<ActivityPollRequest> requests);
+
     /**
      * Checks if any activity within a process has failed.
      *
@@ -177,4 +228,66 @@ public interface ActivityPersistence {
      */
     boolean isAllCompleted(String processId, List<String> definitionIds);
 
+    /**
+     * Creates the arrival counters of joining gateways of started processes.
+     * The process ID and gateway definition ID at the same position form one counter.
+     *
+     * @param processIds    the process identifiers
+     * @param definitionIds the definition identifiers of the gateways
+     */
+    void createJoins(List<String> processIds, List<String> definitionIds);
+
+    /**
+     * Records a token arriving at a joining gateway of a process.
+     * Each arrival is recorded once, so an arrival that is retried or delivered again isn't counted twice.
+     * The counter is incremented atomically, so concurrent arrivals each get their own count.
+     *
+     * @param processId    the process identifier
+     * @param definitionId the definition identifier of the gateway
+     * @param arrivalId    the identifier of the arrival, the ID of the gateway execution the token arrived with
+     * @return the number of tokens that have arrived at the gateway so far, including this one,
+     * {@code 0} if the arrival was recorded before, or {@code -1} if the gateway has no counter,
+     * e.g. because its process was started by an earlier version
+     */
+    long join(String processId, String definitionId, String arrivalId);
+
+    /**
+     * Sets the number of running instances of a multi-instance activity, replacing any count left from an earlier run.
+     *
+     * @param processId the process identifier
+     * @param bodyId    the identifier of the multi-instance body execution the instances belong to
+     * @param count     the number of instances started
+     */
+    void startInstances(String processId, String bodyId, long count);
+
+    /**
+     * Adds instances to the body of a multi-instance activity, so their completion is counted for that body.
+     *
+     * @param processId   the process identifier
+     * @param bodyId      the identifier of the multi-instance body execution
+     * @param instanceIds the identifiers of the instance executions
+     */
+    void addInstances(String processId, String bodyId, List<String> instanceIds);
+
+    /**
+     * Records an instance of a multi-instance activity that completed, was terminated or was deleted.
+     * The count of its body is decremented atomically, so exactly one instance sees it drop to zero.
+     * Every instance is counted once.
+     *
+     * @param processId  the process identifier
+     * @param instanceId the identifier of the instance execution
+     * @return the number of instances of the body still running, or {@code -1} if the instance wasn't counted,
+     * e.g. because it was started by an earlier version or was counted before
+     */
+    long completeInstance(String processId, String instanceId);
+
+    /**
+     * Finds the body of a running instance of a multi-instance activity.
+     *
+     * @param processId  the process identifier
+     * @param instanceId the identifier of the instance execution
+     * @return the identifier of the body execution, or empty if the instance isn't counted
+     */
+    Optional<String> findInstanceBody(String processId, String instanceId);
+
 }
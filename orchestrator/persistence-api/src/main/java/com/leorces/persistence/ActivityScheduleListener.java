@@ -0,0 +1,18 @@
+package com.leorces.persistence;
+
+/**
+ * Callback notified by the persistence layer when an external activity becomes available for polling.
+ * Implementations that span several nodes (e.g. database notifications) use it to propagate
+ * schedule events committed by other engine instances.
+ */
+public interface ActivityScheduleListener {
+
+    /**
+     * Called after an activity has been scheduled for the given topic.
+     *
+     * @param processDefinitionKey the key of the process definition the activity belongs to
+     * @param topic                the topic the activity was scheduled for
+     */
+    void onScheduled(String processDefinitionKey, String topic);
+
+}
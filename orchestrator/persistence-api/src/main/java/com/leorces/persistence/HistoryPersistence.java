@@ -4,6 +4,7 @@ import com.leorces.model.pagination.Pageable;
 import com.leorces.model.pagination.PageableData;
 import com.leorces.model.runtime.process.ProcessExecution;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -19,6 +20,25 @@ public interface HistoryPersistence {
      */
     void save(List<ProcessExecution> processes);
 
+    /**
+     * Moves fully completed processes with their activities and variables from the runtime storage to history.
+     * Processes are read and written {@code fetchSize} at a time, so memory use does not grow with {@code limit}.
+     *
+     * @param limit     the maximum number of processes moved in one transaction
+     * @param fetchSize the number of processes read and written at a time
+     * @return the number of moved processes
+     */
+    int compact(int limit, int fetchSize);
+
+    /**
+     * Removes the history of processes completed before the given time.
+     * Storage that keeps history in time ranges removes a range only once all of it is older than the cutoff.
+     *
+     * @param completedBefore the retention cutoff
+     * @return the number of removed processes
+     */
+    int purge(LocalDateTime completedBefore);
+
     /**
      * Retrieves all historical process executions with pagination support.
      *
@@ -27,4 +47,13 @@ public interface HistoryPersistence {
      */
     PageableData<ProcessExecution> findAll(Pageable pageable);
 
+    /**
+     * Retrieves all historical process executions with pagination support, without process and activity variables.
+     * Storage that keeps variables in a section of their own doesn't read them.
+     *
+     * @param pageable the pagination parameters
+     * @return pageable data containing historical process executions without variables and total count
+     */
+    PageableData<ProcessExecution> findAllSummaries(Pageable pageable);
+
 }
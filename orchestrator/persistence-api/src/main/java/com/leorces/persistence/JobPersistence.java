@@ -16,6 +16,8 @@ public interface JobPersistence {
 
     Job fail(Job job);
 
+    Job checkpoint(Job job);
+
     PageableData<Job> findAll(Pageable pageable);
 
     Optional<Job> findJobById(String jobId);
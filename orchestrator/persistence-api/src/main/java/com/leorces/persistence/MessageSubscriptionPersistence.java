@@ -0,0 +1,63 @@
+package com.leorces.persistence;
+
+import com.leorces.model.runtime.message.CorrelationRequest;
+import com.leorces.model.runtime.message.MessageSubscription;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Persistence layer for the messages process instances wait for.
+ * Subscriptions are indexed by message name and business key, so a message is correlated
+ * with one lookup instead of a scan over the processes that could receive it.
+ */
+public interface MessageSubscriptionPersistence {
+
+    /**
+     * Saves new subscriptions. A process holds one subscription per message event,
+     * subscriptions that already exist are kept as they are.
+     *
+     * @param subscriptions the subscriptions to save
+     */
+    void save(List<MessageSubscription> subscriptions);
+
+    /**
+     * Finds the subscriptions waiting for a message.
+     *
+     * @param messageName     the message name
+     * @param businessKey     the business key of the process, {@code null} to match any process
+     * @param correlationKeys process variables the process must hold with the given values, may be empty
+     * @param limit           the maximum number of subscriptions to return
+     * @return the matching subscriptions
+     */
+    List<MessageSubscription> findByMessage(String messageName,
+                                            String businessKey,
+                                            Map<String, Object> correlationKeys,
+                                            int limit);
+
+    /**
+     * Finds the subscriptions waiting for several messages with one lookup.
+     * Each message is matched like {@link #findByMessage}, a blank business key matches any process.
+     *
+     * @param requests the messages to find subscriptions for
+     * @param limit    the maximum number of subscriptions to return for each message
+     * @return the subscriptions of each message, at the position of the message
+     */
+    List<List<MessageSubscription>> findByMessages(List<CorrelationRequest> requests, int limit);
+
+    /**
+     * Cancels the subscriptions bound to an activity of a process.
+     *
+     * @param processId            the process ID
+     * @param activityDefinitionId the definition ID of the activity the subscriptions are bound to
+     */
+    void cancel(String processId, String activityDefinitionId);
+
+    /**
+     * Cancels all subscriptions of a process.
+     *
+     * @param processId the process ID
+     */
+    void cancelAll(String processId);
+
+}
@@ -24,6 +24,14 @@ public interface ProcessPersistence {
      */
     Process run(Process process);
 
+    /**
+     * Transitions many processes to running state at once, together with their variables.
+     *
+     * @param processes the processes to run
+     * @return the processes in running state, in the given order
+     */
+    List<Process> runAll(List<Process> processes);
+
     /**
      * Completes a process successfully.
      *
@@ -165,6 +173,14 @@ public interface ProcessPersistence {
      */
     Optional<Process> findById(String processId);
 
+    /**
+     * Finds processes by their unique identifiers with one lookup.
+     *
+     * @param processIds the process identifiers
+     * @return the found processes, missing identifiers are skipped
+     */
+    List<Process> findAllByIds(List<String> processIds);
+
     /**
      * Finds a process execution by its unique identifier.
      *
@@ -0,0 +1,59 @@
+package com.leorces.persistence;
+
+import com.leorces.model.runtime.timer.Timer;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Persistence layer for durable process timers.
+ * Timers are claimed with a lease before they fire, so every engine node can load and fire them
+ * while each due timer is fired by one node at a time.
+ */
+public interface TimerPersistence {
+
+    /**
+     * Saves new timers and reschedules existing ones. A rescheduled timer loses its lease.
+     *
+     * @param timers the timers to save
+     * @return the saved timers with their IDs
+     */
+    List<Timer> save(List<Timer> timers);
+
+    /**
+     * Finds unclaimed timers due up to the given time, ordered by due time and ID.
+     * Pass the last timer of the previous page to read the next page.
+     *
+     * @param after the timer to continue after, {@code null} to start with the earliest timer
+     * @param until the upper bound of the due time, inclusive
+     * @param limit the maximum number of timers to return
+     * @return the due timers
+     */
+    List<Timer> findDue(Timer after, LocalDateTime until, int limit);
+
+    /**
+     * Claims the given timers unless another node holds them. Timers leased by a node that stopped
+     * become claimable again once the lease expires.
+     *
+     * @param timerIds the timer IDs to claim
+     * @param lease    how long the claim is held
+     * @return the claimed timers, missing IDs were claimed elsewhere or deleted
+     */
+    List<Timer> claim(List<String> timerIds, Duration lease);
+
+    /**
+     * Deletes fired timers.
+     *
+     * @param timerIds the timer IDs to delete
+     */
+    void delete(List<String> timerIds);
+
+    /**
+     * Cancels the timers bound to an activity execution.
+     *
+     * @param activityId the execution ID of the activity the timers are bound to
+     */
+    void cancel(String activityId);
+
+}
@@ -5,6 +5,7 @@ import com.leorces.model.runtime.process.Process;
 import com.leorces.model.runtime.variable.Variable;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * Persistence layer for managing process and activity variables.
@@ -61,6 +62,15 @@ public interface VariablePersistence {
      */
     List<Variable> findInProcess(String processId);
 
+    /**
+     * Finds the values of variables by their IDs. Used to read the values of offloaded variables
+     * that polled activities carry by reference.
+     *
+     * @param variableIds the variable identifiers
+     * @return the values by variable ID, without entries for unknown variables
+     */
+    Map<String, String> findValues(List<String> variableIds);
+
     /**
      * Updates the definition ID for variables associated with specified process IDs.
      *
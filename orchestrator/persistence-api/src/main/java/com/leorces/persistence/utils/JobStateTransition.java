@@ -1,4 +1,4 @@
-package com.leorces.persistence.postgres.utils;
+package com.leorces.persistence.utils;
 
 import com.leorces.model.job.Job;
 import com.leorces.model.job.JobState;
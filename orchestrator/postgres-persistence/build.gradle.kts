@@ -15,6 +15,10 @@ dependencies {
 
     // JSON Processing
     implementation(libs.bundles.jackson)
+    implementation(libs.jackson.dataformat.smile)
+
+    // Compression
+    implementation(libs.lz4.java)
 
     // Cache
     implementation(libs.guava)
@@ -1,29 +1,51 @@
 package com.leorces.persistence.postgres;
 
+import com.leorces.model.definition.activity.ExternalTaskDefinition;
 import com.leorces.model.runtime.activity.Activity;
 import com.leorces.model.runtime.activity.ActivityExecution;
+import com.leorces.model.runtime.activity.ActivityPollRequest;
 import com.leorces.model.runtime.activity.ActivityState;
 import com.leorces.persistence.ActivityPersistence;
+import com.leorces.persistence.ActivityScheduleListener;
 import com.leorces.persistence.VariablePersistence;
 import com.leorces.persistence.postgres.mapper.ActivityMapper;
+import com.leorces.persistence.postgres.notification.ActivityScheduleNotificationListener;
 import com.leorces.persistence.postgres.repository.ActivityRepository;
-import com.leorces.persistence.postgres.utils.ActivityStateTransition;
+import com.leorces.persistence.utils.ActivityStateTransition;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.Duration;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static com.leorces.persistence.postgres.repository.query.activity.NOTIFY_SCHEDULED.NOTIFY_SCHEDULED_QUERY;
 
 @Slf4j
 @Service
 @AllArgsConstructor
 public class ActivityPersistenceImpl implements ActivityPersistence {
 
+    private static final String SCHEDULED_SEPARATOR = ":";
+    private static final Object PENDING_SCHEDULED = new Object();
+
     private final VariablePersistence variablePersistence;
     private final ActivityRepository activityRepository;
     private final ActivityMapper activityMapper;
+    private final VariableValueLoader variableValueLoader;
+    private final ObjectProvider<ActivityScheduleListener> scheduleListeners;
+    private final ObjectProvider<ActivityScheduleNotificationListener> notificationListener;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
 
     @Override
     @Transactional
@@ -31,6 +53,7 @@ public class ActivityPersistenceImpl implements ActivityPersistence {
         log.debug("Schedule activity: {} for process: {}", activity.definitionId(), activity.processId());
         var scheduledActivity = save(activity, ActivityState.SCHEDULED);
         var newVariables = variablePersistence.save(scheduledActivity);
+        notifyScheduled(scheduledActivity);
         return scheduledActivity.toBuilder()
                 .variables(newVariables)
                 .build();
@@ -47,12 +70,42 @@ public class ActivityPersistenceImpl implements ActivityPersistence {
                 .build();
     }
 
+    @Override
+    @Transactional
+    public List<ActivityExecution> runAll(List<ActivityExecution> activities) {
+        log.debug("Run {} activities", activities.size());
+        var transition = ActivityStateTransition.to(ActivityState.ACTIVE);
+        var newActivities = activities.stream()
+                .map(transition::apply)
+                .toList();
+        var entities = IntStream.range(0, activities.size())
+                .mapToObj(i -> activityMapper.toExecutionEntity(newActivities.get(i), isNew(activities.get(i))))
+                .toList();
+        activityRepository.saveAll(entities);
+
+        return IntStream.range(0, newActivities.size())
+                .mapToObj(i -> newActivities.get(i).toBuilder()
+                        .id(entities.get(i).getId())
+                        .build())
+                .map(activity -> activity.toBuilder()
+                        .variables(variablePersistence.save(activity))
+                        .build())
+                .toList();
+    }
+
     @Override
     public ActivityExecution complete(ActivityExecution activity) {
         log.debug("Complete activity: {} for process: {}", activity.definitionId(), activity.processId());
         return save(activity, ActivityState.COMPLETED);
     }
 
+    @Override
+    @Transactional
+    public List<ActivityExecution> completeAll(List<ActivityExecution> activities) {
+        log.debug("Complete {} activities", activities.size());
+        return saveAll(activities, ActivityState.COMPLETED);
+    }
+
     @Override
     public ActivityExecution terminate(ActivityExecution activity) {
         log.debug("Terminate activity: {} for process: {}", activity.definitionId(), activity.processId());
@@ -65,6 +118,13 @@ public class ActivityPersistenceImpl implements ActivityPersistence {
         return save(activity, ActivityState.FAILED);
     }
 
+    @Override
+    @Transactional
+    public List<ActivityExecution> failAll(List<ActivityExecution> activities) {
+        log.debug("Fail {} activities", activities.size());
+        return saveAll(activities, ActivityState.FAILED);
+    }
+
     @Override
     public void changeState(String activityId, ActivityState state) {
         log.debug("Change activity: {} state to: {}", activityId, state);
@@ -90,7 +150,21 @@ public class ActivityPersistenceImpl implements ActivityPersistence {
     public Optional<ActivityExecution> findById(String id) {
         log.debug("Finding activity by id: {}", id);
         return activityRepository.findById(id)
-                .map(activityMapper::toExecution);
+                .map(activityMapper::toExecution)
+                .map(variableValueLoader::load);
+    }
+
+    @Override
+    public List<ActivityExecution> findAllById(List<String> ids) {
+        log.debug("Finding all activities with process variables by ids: {}", ids);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        var activities = activityRepository.findAllWithVariablesByIds(ids.toArray(String[]::new)).stream()
+                .map(activityMapper::toExecution)
+                .toList();
+        return variableValueLoader.loadActivities(activities);
     }
 
     @Override
@@ -98,57 +172,50 @@ public class ActivityPersistenceImpl implements ActivityPersistence {
         log.debug("Finding activity by definition id: {} for process: {}", definitionId, processId);
         return activityRepository.findByDefinitionId(processId, definitionId).stream()
                 .map(activityMapper::toExecution)
-                .findFirst();
+                .findFirst()
+                .map(variableValueLoader::load);
     }
 
     @Override
     public List<ActivityExecution> findAll(List<String> ids) {
         log.debug("Finding all activities by ids: {}", ids);
-        return activityRepository.findAllByIds(ids.toArray(new String[0])).stream()
-                .map(activityMapper::toBaseExecution)
-                .toList();
+        return activityMapper.toBaseExecutions(activityRepository.findAllByIds(ids.toArray(new String[0])));
     }
 
     @Override
     public List<ActivityExecution> findAll(String processId) {
         log.debug("Finding all activities for process: {}", processId);
-        return activityRepository.findAllByProcessId(processId).stream()
-                .map(activityMapper::toBaseExecution)
-                .toList();
+        return activityMapper.toBaseExecutions(activityRepository.findAllByProcessId(processId));
     }
 
     @Override
     public List<ActivityExecution> findActive(String processId, List<String> definitionIds) {
         log.debug("Finding all active activities for process: {} and definition ids: {}", processId, definitionIds);
-        return activityRepository.findActive(processId, definitionIds.toArray(definitionIds.toArray(new String[0]))).stream()
-                .map(activityMapper::toBaseExecution)
-                .toList();
+        return activityMapper.toBaseExecutions(activityRepository.findActive(processId, definitionIds.toArray(definitionIds.toArray(new String[0]))));
     }
 
     @Override
     public List<ActivityExecution> findActive(String processId) {
         log.debug("Finding all active activities for process: {}", processId);
-        return activityRepository.findActive(processId).stream()
-                .map(activityMapper::toBaseExecution)
-                .toList();
+        return activityMapper.toBaseExecutions(activityRepository.findActive(processId));
     }
 
     @Override
     public List<ActivityExecution> findFailed(String processId) {
         log.debug("Finding all failed activities for process: {}", processId);
-        return activityRepository.findFailed(processId).stream()
-                .map(activityMapper::toBaseExecution)
-                .toList();
+        return activityMapper.toBaseExecutions(activityRepository.findFailed(processId));
     }
 
     @Override
-    public List<ActivityExecution> findTimedOut(int limit) {
-        log.debug("Finding all timed out activities with limit: {}", limit);
-        return activityRepository.findTimedOut(limit).stream()
-                .map(activityMapper::toExecution)
-                .toList();
+    @Transactional
+    public List<ActivityExecution> claimTimedOut(int limit, Duration lease) {
+        log.debug("Claiming timed out activities with limit: {} and lease: {}", limit, lease);
+        return activityMapper.toExecutions(activityRepository.claimTimedOut(limit, lease.toSeconds()));
     }
 
+    /**
+     * Polled activities carry offloaded variables by reference, workers read the values they need by variable ID.
+     */
     @Override
     @Transactional
     public List<Activity> poll(String topic, String processDefinitionKey, int limit) {
@@ -157,6 +224,21 @@ public class ActivityPersistenceImpl implements ActivityPersistence {
                 .toList();
     }
 
+    @Override
+    @Transactional
+    public List<Activity> poll(List<ActivityPollRequest> requests) {
+        if (requests.isEmpty()) {
+            return List.of();
+        }
+
+        var topics = requests.stream().map(ActivityPollRequest::topic).toArray(String[]::new);
+        var processDefinitionKeys = requests.stream().map(ActivityPollRequest::processDefinitionKey).toArray(String[]::new);
+        var limits = requests.stream().map(ActivityPollRequest::limit).toArray(Integer[]::new);
+        return activityRepository.pollAll(topics, processDefinitionKeys, limits).stream()
+                .map(activityMapper::toActivity)
+                .toList();
+    }
+
     @Override
     public boolean isAnyFailed(String processId) {
         log.debug("Checking if any activity failed for process: {}", processId);
@@ -175,16 +257,152 @@ public class ActivityPersistenceImpl implements ActivityPersistence {
         return activityRepository.isAllCompleted(processId, definitionIds.toArray(String[]::new));
     }
 
+    @Override
+    public void createJoins(List<String> processIds, List<String> definitionIds) {
+        log.debug("Create {} gateway joins", processIds.size());
+        activityRepository.createJoins(processIds.toArray(String[]::new), definitionIds.toArray(String[]::new));
+    }
+
+    @Override
+    public long join(String processId, String definitionId, String arrivalId) {
+        log.debug("Join at gateway: {} for process: {}", definitionId, processId);
+        return activityRepository.join(processId, definitionId, arrivalId);
+    }
+
+    @Override
+    public void startInstances(String processId, String bodyId, long count) {
+        log.debug("Start {} instances of body: {} for process: {}", count, bodyId, processId);
+        activityRepository.startInstances(processId, bodyId, count);
+    }
+
+    @Override
+    public void addInstances(String processId, String bodyId, List<String> instanceIds) {
+        log.debug("Add {} instances to body: {} for process: {}", instanceIds.size(), bodyId, processId);
+        activityRepository.addInstances(processId, bodyId, instanceIds.toArray(String[]::new));
+    }
+
+    @Override
+    public long completeInstance(String processId, String instanceId) {
+        log.debug("Complete instance: {} for process: {}", instanceId, processId);
+        return activityRepository.completeInstance(processId, instanceId).orElse(-1L);
+    }
+
+    @Override
+    public Optional<String> findInstanceBody(String processId, String instanceId) {
+        log.debug("Find body of instance: {} for process: {}", instanceId, processId);
+        return activityRepository.findInstanceBody(processId, instanceId);
+    }
+
+    /**
+     * Signals a scheduled activity once the schedule is committed, once per definition key and topic per transaction.
+     * With notifications enabled a single NOTIFY reaches every node, this one included, otherwise only local long
+     * polls are woken up.
+     */
+    private void notifyScheduled(ActivityExecution activity) {
+        if (!(activity.definition() instanceof ExternalTaskDefinition externalTask) || externalTask.topic() == null) {
+            return;
+        }
+
+        var payload = activity.processDefinitionKey() + SCHEDULED_SEPARATOR + externalTask.topic();
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            publishScheduled(Set.of(payload));
+            signalScheduled(Set.of(payload));
+            return;
+        }
+
+        @SuppressWarnings("unchecked")
+        var pending = (Set<String>) TransactionSynchronizationManager.getResource(PENDING_SCHEDULED);
+        if (pending == null) {
+            var payloads = new LinkedHashSet<String>();
+            TransactionSynchronizationManager.bindResource(PENDING_SCHEDULED, payloads);
+            TransactionSynchronizationManager.registerSynchronization(new ScheduledSynchronization(payloads));
+            pending = payloads;
+        }
+        pending.add(payload);
+    }
+
+    private void publishScheduled(Set<String> payloads) {
+        if (notificationListener.getIfAvailable() != null) {
+            jdbcTemplate.queryForList(
+                    NOTIFY_SCHEDULED_QUERY,
+                    new MapSqlParameterSource("payloads", payloads.toArray(String[]::new))
+            );
+        }
+    }
+
+    private void signalScheduled(Set<String> payloads) {
+        if (notificationListener.getIfAvailable() != null) {
+            return;
+        }
+
+        payloads.forEach(payload -> {
+            var separatorIndex = payload.indexOf(SCHEDULED_SEPARATOR);
+            var processDefinitionKey = payload.substring(0, separatorIndex);
+            var topic = payload.substring(separatorIndex + 1);
+            scheduleListeners.forEach(listener -> listener.onScheduled(processDefinitionKey, topic));
+        });
+    }
+
+    private List<ActivityExecution> saveAll(List<ActivityExecution> activities, ActivityState state) {
+        var transition = ActivityStateTransition.to(state);
+        var newActivities = activities.stream()
+                .map(transition::apply)
+                .toList();
+        var entities = IntStream.range(0, activities.size())
+                .mapToObj(i -> activityMapper.toExecutionEntity(newActivities.get(i), isNew(activities.get(i))))
+                .toList();
+        activityRepository.saveAll(entities);
+
+        return IntStream.range(0, newActivities.size())
+                .mapToObj(i -> newActivities.get(i).toBuilder()
+                        .id(entities.get(i).getId())
+                        .build())
+                .toList();
+    }
+
     private ActivityExecution save(ActivityExecution activity, ActivityState state) {
-        return save(ActivityStateTransition.to(state).apply(activity));
+        return save(ActivityStateTransition.to(state).apply(activity), isNew(activity));
     }
 
-    private ActivityExecution save(ActivityExecution activity) {
-        var entity = activityMapper.toExecutionEntity(activity);
+    private ActivityExecution save(ActivityExecution activity, boolean isNew) {
+        var entity = activityMapper.toExecutionEntity(activity, isNew);
         var savedEntity = activityRepository.save(entity);
         return activity.toBuilder()
                 .id(savedEntity.getId())
                 .build();
     }
 
-}
\ No newline at end of file
+    /**
+     * An activity is new until it is stored for the first time, its ID may be assigned before that.
+     */
+    private boolean isNew(ActivityExecution activity) {
+        return activity.id() == null || activity.createdAt() == null;
+    }
+
+    private final class ScheduledSynchronization implements TransactionSynchronization {
+
+        private final Set<String> payloads;
+
+        private ScheduledSynchronization(Set<String> payloads) {
+            this.payloads = payloads;
+        }
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            // NOTIFY has to be part of the transaction to be delivered with its commit
+            publishScheduled(payloads);
+        }
+
+        @Override
+        public void afterCommit() {
+            signalScheduled(payloads);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(PENDING_SCHEDULED);
+        }
+
+    }
+
+}
@@ -1,23 +1,31 @@
 package com.leorces.persistence.postgres;
 
+import com.google.common.collect.Lists;
 import com.leorces.model.pagination.Pageable;
 import com.leorces.model.pagination.PageableData;
-import com.leorces.model.runtime.activity.Activity;
 import com.leorces.model.runtime.process.ProcessExecution;
-import com.leorces.model.runtime.variable.Variable;
 import com.leorces.persistence.HistoryPersistence;
 import com.leorces.persistence.postgres.mapper.HistoryMapper;
+import com.leorces.persistence.postgres.mapper.ProcessMapper;
+import com.leorces.persistence.postgres.partition.HistoryPartitionManager;
 import com.leorces.persistence.postgres.repository.ActivityRepository;
 import com.leorces.persistence.postgres.repository.HistoryRepository;
+import com.leorces.persistence.postgres.repository.MessageSubscriptionRepository;
 import com.leorces.persistence.postgres.repository.ProcessRepository;
 import com.leorces.persistence.postgres.repository.VariableRepository;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.namedparam.BeanPropertySqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
-import java.util.stream.Stream;
+
+import static com.leorces.persistence.postgres.repository.query.history.INSERT.INSERT_QUERY;
 
 @Slf4j
 @Service
@@ -28,53 +36,73 @@ public class HistoryPersistenceImpl implements HistoryPersistence {
     private final ProcessRepository processRepository;
     private final ActivityRepository activityRepository;
     private final VariableRepository variableRepository;
+    private final MessageSubscriptionRepository subscriptionRepository;
     private final HistoryMapper historyMapper;
+    private final ProcessMapper processMapper;
+    private final VariableValueLoader variableValueLoader;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final HistoryPartitionManager partitionManager;
 
     @Override
     @Transactional
     public void save(List<ProcessExecution> processes) {
-        var processIds = extractProcessIds(processes);
-        var activityIds = extractActivityIds(processes);
-        var variableIds = extractVariableIds(processes);
+        insertAll(processes);
+        deleteAll(processes.stream()
+                .map(ProcessExecution::id)
+                .toArray(String[]::new));
+    }
+
+    @Override
+    @Transactional
+    public int compact(int limit, int fetchSize) {
+        partitionManager.ensureUpcoming(LocalDate.now());
+
+        // Only the IDs of the whole batch are kept, executions are read and written a chunk at a time
+        var processIds = processRepository.lockFullyCompleted(limit);
+        if (processIds.isEmpty()) {
+            return 0;
+        }
 
-        historyRepository.saveAll(historyMapper.toEntities(processes));
-        processRepository.deleteAllById(processIds);
-        activityRepository.deleteAllById(activityIds);
-        variableRepository.deleteAllById(variableIds);
+        log.debug("Compacting {} processes in chunks of {}", processIds.size(), fetchSize);
+        Lists.partition(processIds, fetchSize).forEach(chunk -> insertAll(variableValueLoader.loadExecutions(processMapper.toExecutions(
+                processRepository.findAllExecutionsByIds(chunk.toArray(String[]::new))
+        ))));
+        deleteAll(processIds.toArray(String[]::new));
+        return processIds.size();
+    }
+
+    @Override
+    public int purge(LocalDateTime completedBefore) {
+        log.debug("Purging history of processes completed before: {}", completedBefore);
+        return partitionManager.dropExpired(completedBefore);
     }
 
     @Override
     public PageableData<ProcessExecution> findAll(Pageable pageable) {
         var pageableResult = historyRepository.findAll(pageable);
-        return new PageableData<>(historyMapper.toExecutions(pageableResult.data()), pageableResult.total());
+        return pageableResult.map(historyMapper::toExecutions);
     }
 
-    private List<String> extractProcessIds(List<ProcessExecution> processes) {
-        return processes.stream()
-                .map(ProcessExecution::id)
-                .toList();
+    @Override
+    public PageableData<ProcessExecution> findAllSummaries(Pageable pageable) {
+        var pageableResult = historyRepository.findAll(pageable);
+        return pageableResult.map(historyMapper::toSummaries);
     }
 
-    private List<String> extractActivityIds(List<ProcessExecution> processes) {
-        return processes.stream()
-                .map(ProcessExecution::activities)
-                .flatMap(List::stream)
-                .map(Activity::id)
-                .toList();
+    private void insertAll(List<ProcessExecution> processes) {
+        var parameters = processes.stream()
+                .map(historyMapper::toEntity)
+                .map(BeanPropertySqlParameterSource::new)
+                .toArray(SqlParameterSource[]::new);
+        jdbcTemplate.batchUpdate(INSERT_QUERY, parameters);
     }
 
-    private List<String> extractVariableIds(List<ProcessExecution> processes) {
-        return Stream.concat(
-                        processes.stream()
-                                .flatMap(process -> process.variables().stream())
-                                .map(Variable::id),
-                        processes.stream()
-                                .flatMap(process -> process.activities().stream())
-                                .flatMap(activity -> activity.variables().stream())
-                                .map(Variable::id)
-                )
-                .distinct()
-                .toList();
+    private void deleteAll(String[] processIds) {
+        variableRepository.deleteAllByProcessIds(processIds);
+        activityRepository.deleteAllByProcessIds(processIds);
+        activityRepository.deleteAllJoinsByProcessIds(processIds);
+        subscriptionRepository.deleteAllByProcessIds(processIds);
+        processRepository.deleteAllByIds(processIds);
     }
 
 }
@@ -7,11 +7,12 @@ import com.leorces.model.pagination.PageableData;
 import com.leorces.persistence.JobPersistence;
 import com.leorces.persistence.postgres.mapper.JobMapper;
 import com.leorces.persistence.postgres.repository.JobRepository;
-import com.leorces.persistence.postgres.utils.JobStateTransition;
+import com.leorces.persistence.utils.JobStateTransition;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 @Slf4j
@@ -46,11 +47,19 @@ public class JobPersistenceImpl implements JobPersistence {
         return save(job, JobState.FAILED);
     }
 
+    @Override
+    public Job checkpoint(Job job) {
+        log.debug("Checkpoint job: {}", job);
+        return save(job.toBuilder()
+                .updatedAt(LocalDateTime.now())
+                .build());
+    }
+
     @Override
     public PageableData<Job> findAll(Pageable pageable) {
         log.debug("Finding all jobs with pageable: {}", pageable);
         var result = jobRepository.findAll(pageable);
-        return new PageableData<>(jobMapper.toJobs(result.data()), result.total());
+        return result.map(jobMapper::toJobs);
     }
 
     @Override
@@ -0,0 +1,132 @@
+package com.leorces.persistence.postgres;
+
+import com.leorces.model.runtime.message.CorrelationRequest;
+import com.leorces.model.runtime.message.MessageSubscription;
+import com.leorces.persistence.MessageSubscriptionPersistence;
+import com.leorces.persistence.postgres.entity.MessageSubscriptionEntity;
+import com.leorces.persistence.postgres.mapper.MessageSubscriptionMapper;
+import com.leorces.persistence.postgres.repository.MessageSubscriptionRepository;
+import com.leorces.persistence.utils.IdGenerator;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+@Slf4j
+@Service
+@AllArgsConstructor
+public class MessageSubscriptionPersistenceImpl implements MessageSubscriptionPersistence {
+
+    private final MessageSubscriptionRepository subscriptionRepository;
+    private final MessageSubscriptionMapper subscriptionMapper;
+
+    @Override
+    public void save(List<MessageSubscription> subscriptions) {
+        if (subscriptions.isEmpty()) {
+            return;
+        }
+
+        log.debug("Save {} message subscriptions", subscriptions.size());
+        subscriptionRepository.insertAll(
+                subscriptions.stream()
+                        .map(subscription -> subscription.id() == null ? IdGenerator.getNewId() : subscription.id())
+                        .toArray(String[]::new),
+                extract(subscriptions, MessageSubscription::processId),
+                extract(subscriptions, MessageSubscription::businessKey),
+                extract(subscriptions, MessageSubscription::messageName),
+                extract(subscriptions, MessageSubscription::definitionId),
+                extract(subscriptions, MessageSubscription::activityDefinitionId),
+                LocalDateTime.now()
+        );
+    }
+
+    @Override
+    public List<MessageSubscription> findByMessage(String messageName,
+                                                   String businessKey,
+                                                   Map<String, Object> correlationKeys,
+                                                   int limit) {
+        log.debug("Finding subscriptions to message: {} with business key: {}", messageName, businessKey);
+        var entries = correlationKeys == null ? List.<Map.Entry<String, Object>>of() : List.copyOf(correlationKeys.entrySet());
+        var variableKeys = entries.stream()
+                .map(Map.Entry::getKey)
+                .toArray(String[]::new);
+        var variableValues = entries.stream()
+                .map(entry -> String.valueOf(entry.getValue()))
+                .toArray(String[]::new);
+
+        // Separate statements keep the business key an equality the index can always use,
+        // and match correlation keys with one join instead of a lookup per subscription
+        List<MessageSubscriptionEntity> entities;
+        if (businessKey != null) {
+            entities = subscriptionRepository.findByMessage(messageName, businessKey, variableKeys, variableValues, entries.size(), limit);
+        } else if (entries.isEmpty()) {
+            entities = subscriptionRepository.findByMessage(messageName, limit);
+        } else {
+            entities = subscriptionRepository.findByMessageAndVariables(messageName, variableKeys, variableValues, entries.size(), limit);
+        }
+        return subscriptionMapper.toSubscriptions(entities);
+    }
+
+    @Override
+    public List<List<MessageSubscription>> findByMessages(List<CorrelationRequest> requests, int limit) {
+        log.debug("Finding subscriptions to {} messages", requests.size());
+        var keyPositions = new ArrayList<Integer>();
+        var variableKeys = new ArrayList<String>();
+        var variableValues = new ArrayList<String>();
+        for (int i = 0; i < requests.size(); i++) {
+            var correlationKeys = requests.get(i).correlationKeys();
+            if (correlationKeys == null) {
+                continue;
+            }
+            for (var entry : correlationKeys.entrySet()) {
+                // Positions are 1-based like the ordinality of the message they belong to
+                keyPositions.add(i + 1);
+                variableKeys.add(entry.getKey());
+                variableValues.add(String.valueOf(entry.getValue()));
+            }
+        }
+
+        var entities = subscriptionRepository.findByMessages(
+                requests.stream()
+                        .map(CorrelationRequest::messageName)
+                        .toArray(String[]::new),
+                requests.stream()
+                        .map(request -> request.businessKey() == null || request.businessKey().isBlank() ? null : request.businessKey())
+                        .toArray(String[]::new),
+                keyPositions.toArray(Integer[]::new),
+                variableKeys.toArray(String[]::new),
+                variableValues.toArray(String[]::new),
+                limit
+        );
+
+        var subscriptions = new ArrayList<List<MessageSubscription>>(requests.size());
+        requests.forEach(request -> subscriptions.add(new ArrayList<>()));
+        entities.forEach(entity -> subscriptions.get(entity.getPosition() - 1).add(subscriptionMapper.toSubscription(entity)));
+        return subscriptions;
+    }
+
+    @Override
+    public void cancel(String processId, String activityDefinitionId) {
+        log.debug("Cancel message subscriptions of activity: {} in process: {}", activityDefinitionId, processId);
+        subscriptionRepository.cancel(processId, activityDefinitionId);
+    }
+
+    @Override
+    public void cancelAll(String processId) {
+        log.debug("Cancel all message subscriptions of process: {}", processId);
+        subscriptionRepository.cancelAll(processId);
+    }
+
+    private static String[] extract(List<MessageSubscription> subscriptions,
+                                    Function<MessageSubscription, String> field) {
+        return subscriptions.stream()
+                .map(field)
+                .toArray(String[]::new);
+    }
+
+}
@@ -5,11 +5,12 @@ import com.leorces.model.pagination.PageableData;
 import com.leorces.model.runtime.process.Process;
 import com.leorces.model.runtime.process.ProcessExecution;
 import com.leorces.model.runtime.process.ProcessState;
+import com.leorces.model.runtime.variable.Variable;
 import com.leorces.model.search.ProcessFilter;
 import com.leorces.persistence.ProcessPersistence;
 import com.leorces.persistence.postgres.mapper.ProcessMapper;
 import com.leorces.persistence.postgres.repository.ProcessRepository;
-import com.leorces.persistence.postgres.utils.IdGenerator;
+import com.leorces.persistence.utils.IdGenerator;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
@@ -17,12 +18,17 @@ import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.ResultSet;
+import java.sql.SQLException;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static com.leorces.persistence.postgres.repository.query.process.RUN.RUN_QUERY;
+import static com.leorces.persistence.postgres.repository.query.process.RUN_ALL.RUN_ALL_QUERY;
 
 @Slf4j
 @Service
@@ -32,6 +38,7 @@ public class ProcessPersistenceImpl implements ProcessPersistence {
     private final VariablePersistenceImpl variablePersistence;
     private final ProcessRepository processRepository;
     private final ProcessMapper processMapper;
+    private final VariableValueLoader variableValueLoader;
     private final NamedParameterJdbcTemplate jdbcTemplate;
 
     @Override
@@ -45,6 +52,24 @@ public class ProcessPersistenceImpl implements ProcessPersistence {
                 .build();
     }
 
+    @Override
+    @Transactional
+    public List<Process> runAll(List<Process> processes) {
+        if (processes.isEmpty()) {
+            return List.of();
+        }
+
+        log.debug("Run {} processes", processes.size());
+        var newProcesses = saveNewProcesses(processes);
+        var newVariables = variablePersistence.saveAll(newProcesses).stream()
+                .collect(Collectors.groupingBy(Variable::processId));
+        return newProcesses.stream()
+                .map(process -> process.toBuilder()
+                        .variables(newVariables.getOrDefault(process.id(), List.of()))
+                        .build())
+                .toList();
+    }
+
     @Override
     public void complete(String processId) {
         log.debug("Complete process: {}", processId);
@@ -117,22 +142,28 @@ public class ProcessPersistenceImpl implements ProcessPersistence {
     public Optional<Process> findById(String processId) {
         log.debug("Finding process by id: {}", processId);
         return processRepository.findById(processId)
-                .map(processMapper::toProcess);
+                .map(processMapper::toProcess)
+                .map(variableValueLoader::load);
+    }
+
+    @Override
+    public List<Process> findAllByIds(List<String> processIds) {
+        log.debug("Finding {} processes by ids", processIds.size());
+        return variableValueLoader.loadProcesses(processMapper.toProcesses(processRepository.findAllByIds(processIds.toArray(String[]::new))));
     }
 
     @Override
     public Optional<ProcessExecution> findExecutionById(String processId) {
         log.debug("Finding process execution by id: {}", processId);
         return processRepository.findExecutionById(processId)
-                .map(processMapper::toExecution);
+                .map(processMapper::toExecution)
+                .map(variableValueLoader::load);
     }
 
     @Override
     public List<ProcessExecution> findExecutionsForUpdate(String definitionId, int limit) {
         log.debug("Finding process executions for update by definition id: {}", definitionId);
-        return processRepository.findExecutionsForUpdate(definitionId, limit).stream()
-                .map(processMapper::toExecution)
-                .toList();
+        return variableValueLoader.loadExecutions(processMapper.toExecutions(processRepository.findExecutionsForUpdate(definitionId, limit)));
     }
 
     @Override
@@ -142,25 +173,22 @@ public class ProcessPersistenceImpl implements ProcessPersistence {
         }
 
         var variables = filter.variables() == null ? Map.<String, Object>of() : filter.variables();
-        return processRepository.findAll(
-                        filter.processId(),
-                        filter.processDefinitionKey(),
-                        filter.processDefinitionId(),
-                        filter.businessKey(),
-                        extractVariableKeys(variables),
-                        extractVariableValues(variables),
-                        variables.size()
-                ).stream()
-                .map(processMapper::toProcess)
-                .toList();
+        var entities = processRepository.findAll(
+                filter.processId(),
+                filter.processDefinitionKey(),
+                filter.processDefinitionId(),
+                filter.businessKey(),
+                extractVariableKeys(variables),
+                extractVariableValues(variables),
+                variables.size()
+        );
+        return variableValueLoader.loadProcesses(processMapper.toProcesses(entities));
     }
 
     @Override
     public List<ProcessExecution> findAllFullyCompletedForUpdate(int limit) {
         log.debug("Finding all fully completed processes with limit: {} for update", limit);
-        return processRepository.findAllFullyCompletedForUpdate(limit).stream()
-                .map(processMapper::toExecution)
-                .toList();
+        return variableValueLoader.loadExecutions(processMapper.toExecutions(processRepository.findAllFullyCompletedForUpdate(limit)));
     }
 
     @Override
@@ -185,7 +213,7 @@ public class ProcessPersistenceImpl implements ProcessPersistence {
     public PageableData<Process> findAll(Pageable pageable) {
         log.debug("Finding all processes with pageable: {}", pageable);
         var result = processRepository.findAll(pageable);
-        return new PageableData<>(processMapper.toProcesses(result.data()), result.total());
+        return result.map(processMapper::toProcesses);
     }
 
     private Process saveNewProcess(Process process) {
@@ -199,20 +227,52 @@ public class ProcessPersistenceImpl implements ProcessPersistence {
                         .addValue("definitionId", process.definitionId())
                         .addValue("definitionKey", process.definitionKey())
                         .addValue("suspended", process.suspended()),
-                (rs, rowNum) ->
-                        process.toBuilder()
-                                .id(rs.getString("process_id"))
-                                .businessKey(rs.getString("process_business_key"))
-                                .state(ProcessState.ACTIVE)
-                                .suspended(rs.getBoolean("process_suspended"))
-                                .createdAt(rs.getObject("process_created_at", LocalDateTime.class))
-                                .updatedAt(rs.getObject("process_updated_at", LocalDateTime.class))
-                                .startedAt(rs.getObject("process_started_at", LocalDateTime.class))
-                                .completedAt(rs.getObject("process_completed_at", LocalDateTime.class))
-                                .build()
+                (rs, rowNum) -> toNewProcess(process, rs)
         );
     }
 
+    private List<Process> saveNewProcesses(List<Process> processes) {
+        var withIds = processes.stream()
+                .map(process -> process.toBuilder()
+                        .id(process.id() == null ? IdGenerator.getNewId() : process.id())
+                        .businessKey(process.businessKey() != null ? process.businessKey() : IdGenerator.getNewId())
+                        .build())
+                .toList();
+        var processesById = withIds.stream()
+                .collect(Collectors.toMap(Process::id, Function.identity()));
+
+        var saved = jdbcTemplate.query(
+                RUN_ALL_QUERY,
+                new MapSqlParameterSource()
+                        .addValue("processIds", withIds.stream().map(Process::id).toArray(String[]::new))
+                        .addValue("businessKeys", withIds.stream().map(Process::businessKey).toArray(String[]::new))
+                        .addValue("rootProcessIds", withIds.stream().map(Process::rootProcessId).toArray(String[]::new))
+                        .addValue("parentProcessIds", withIds.stream().map(Process::parentId).toArray(String[]::new))
+                        .addValue("definitionIds", withIds.stream().map(Process::definitionId).toArray(String[]::new))
+                        .addValue("definitionKeys", withIds.stream().map(Process::definitionKey).toArray(String[]::new))
+                        .addValue("suspended", withIds.stream().map(Process::suspended).toArray(Boolean[]::new)),
+                (rs, rowNum) -> toNewProcess(processesById.get(rs.getString("process_id")), rs)
+        ).stream().collect(Collectors.toMap(Process::id, Function.identity()));
+
+        // RETURNING does not guarantee the input order
+        return withIds.stream()
+                .map(process -> saved.get(process.id()))
+                .toList();
+    }
+
+    private Process toNewProcess(Process process, ResultSet rs) throws SQLException {
+        return process.toBuilder()
+                .id(rs.getString("process_id"))
+                .businessKey(rs.getString("process_business_key"))
+                .state(ProcessState.ACTIVE)
+                .suspended(rs.getBoolean("process_suspended"))
+                .createdAt(rs.getObject("process_created_at", LocalDateTime.class))
+                .updatedAt(rs.getObject("process_updated_at", LocalDateTime.class))
+                .startedAt(rs.getObject("process_started_at", LocalDateTime.class))
+                .completedAt(rs.getObject("process_completed_at", LocalDateTime.class))
+                .build();
+    }
+
     private String[] extractVariableKeys(Map<String, Object> variables) {
         return variables.keySet().toArray(new String[0]);
     }
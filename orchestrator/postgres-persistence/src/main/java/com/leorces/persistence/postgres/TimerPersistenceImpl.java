@@ -0,0 +1,61 @@
+package com.leorces.persistence.postgres;
+
+import com.leorces.model.runtime.timer.Timer;
+import com.leorces.persistence.TimerPersistence;
+import com.leorces.persistence.postgres.mapper.TimerMapper;
+import com.leorces.persistence.postgres.repository.TimerRepository;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Slf4j
+@Service
+@AllArgsConstructor
+public class TimerPersistenceImpl implements TimerPersistence {
+
+    private final TimerRepository timerRepository;
+    private final TimerMapper timerMapper;
+
+    @Override
+    @Transactional
+    public List<Timer> save(List<Timer> timers) {
+        log.debug("Save {} timers", timers.size());
+        var entities = timerMapper.toEntities(timers);
+        timerRepository.saveAll(entities);
+        return timerMapper.toTimers(entities);
+    }
+
+    @Override
+    public List<Timer> findDue(Timer after, LocalDateTime until, int limit) {
+        log.debug("Finding timers due until: {}", until);
+        var entities = after == null
+                ? timerRepository.findDue(until, limit)
+                : timerRepository.findDueAfter(after.dueAt(), after.id(), until, limit);
+        return timerMapper.toTimers(entities);
+    }
+
+    @Override
+    @Transactional
+    public List<Timer> claim(List<String> timerIds, Duration lease) {
+        log.debug("Claim {} timers", timerIds.size());
+        return timerMapper.toTimers(timerRepository.claim(timerIds.toArray(String[]::new), lease.toSeconds()));
+    }
+
+    @Override
+    public void delete(List<String> timerIds) {
+        log.debug("Delete {} timers", timerIds.size());
+        timerRepository.deleteAllByIds(timerIds.toArray(String[]::new));
+    }
+
+    @Override
+    public void cancel(String activityId) {
+        log.debug("Cancel timers of activity: {}", activityId);
+        timerRepository.cancel(activityId);
+    }
+
+}
@@ -4,13 +4,17 @@ import com.leorces.model.runtime.activity.ActivityExecution;
 import com.leorces.model.runtime.process.Process;
 import com.leorces.model.runtime.variable.Variable;
 import com.leorces.persistence.VariablePersistence;
+import com.leorces.persistence.postgres.entity.VariableEntity;
 import com.leorces.persistence.postgres.mapper.VariableMapper;
+import com.leorces.persistence.postgres.repository.VariableBlobRepository;
 import com.leorces.persistence.postgres.repository.VariableRepository;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 @Slf4j
 @Service
@@ -18,13 +22,15 @@ import java.util.List;
 public class VariablePersistenceImpl implements VariablePersistence {
 
     private final VariableRepository variableRepository;
+    private final VariableBlobRepository variableBlobRepository;
     private final VariableMapper variableMapper;
+    private final VariableValueLoader variableValueLoader;
 
     @Override
     public List<Variable> save(Process process) {
         log.debug("Save variables for process: {}", process.id());
         var entities = variableMapper.toEntities(process);
-        variableRepository.saveAll(entities);
+        saveEntities(entities);
         return variableMapper.toVariables(entities);
     }
 
@@ -32,7 +38,7 @@ public class VariablePersistenceImpl implements VariablePersistence {
     public List<Variable> save(ActivityExecution activity) {
         log.debug("Save variables for activity: {}", activity.id());
         var entities = variableMapper.toEntities(activity);
-        variableRepository.saveAll(entities);
+        saveEntities(entities);
         return variableMapper.toVariables(entities);
     }
 
@@ -40,7 +46,7 @@ public class VariablePersistenceImpl implements VariablePersistence {
     public List<Variable> update(List<Variable> variables) {
         log.debug("Update variables: {}", variables);
         var variableEntities = variableMapper.toEntities(variables);
-        variableRepository.saveAll(variableEntities);
+        saveEntities(variableEntities);
         return variableMapper.toVariables(variableEntities);
     }
 
@@ -48,21 +54,63 @@ public class VariablePersistenceImpl implements VariablePersistence {
     public List<Variable> findInScope(String processId, List<String> scope) {
         log.debug("Finding variables in scope for process: {} and scope: {}", processId, scope);
         var variableEntities = variableRepository.findInScope(processId, scope.toArray(String[]::new));
-        return variableMapper.toVariables(variableEntities);
+        return variableValueLoader.load(variableMapper.toVariables(variableEntities));
     }
 
     @Override
     public List<Variable> findInProcessScope(String processId) {
         log.debug("Finding variables in process scope: {}", processId);
         var variableEntities = variableRepository.findInProcessScope(processId);
-        return variableMapper.toVariables(variableEntities);
+        return variableValueLoader.load(variableMapper.toVariables(variableEntities));
     }
 
     @Override
     public List<Variable> findInProcess(String processId) {
         log.debug("Finding variables in process: {}", processId);
         var variableEntities = variableRepository.findInProcess(processId);
-        return variableMapper.toVariables(variableEntities);
+        return variableValueLoader.load(variableMapper.toVariables(variableEntities));
+    }
+
+    @Override
+    public Map<String, String> findValues(List<String> variableIds) {
+        log.debug("Finding values of variables: {}", variableIds);
+        return variableValueLoader.findValues(variableIds);
+    }
+
+    /**
+     * Saves the new variables of many processes with a single multi-row insert.
+     *
+     * @param processes the new processes
+     * @return the saved variables of all processes
+     */
+    public List<Variable> saveAll(List<Process> processes) {
+        var createdAt = LocalDateTime.now();
+        var entities = processes.stream()
+                .flatMap(process -> variableMapper.toEntities(process).stream())
+                .peek(entity -> {
+                    entity.setCreatedAt(createdAt);
+                    entity.setUpdatedAt(createdAt);
+                })
+                .toList();
+
+        if (entities.isEmpty()) {
+            return List.of();
+        }
+
+        log.debug("Save {} variables for {} processes", entities.size(), processes.size());
+        variableRepository.insertAll(
+                entities.stream().map(VariableEntity::getId).toArray(String[]::new),
+                entities.stream().map(VariableEntity::getProcessId).toArray(String[]::new),
+                entities.stream().map(VariableEntity::getExecutionId).toArray(String[]::new),
+                entities.stream().map(VariableEntity::getExecutionDefinitionId).toArray(String[]::new),
+                entities.stream().map(VariableEntity::getVarKey).toArray(String[]::new),
+                entities.stream().map(VariableEntity::getVarValue).toArray(String[]::new),
+                entities.stream().map(VariableEntity::isOffloaded).toArray(Boolean[]::new),
+                entities.stream().map(VariableEntity::getType).toArray(String[]::new),
+                createdAt
+        );
+        saveBlobs(entities);
+        return variableMapper.toVariables(entities);
     }
 
     public void updateDefinitionId(String definitionId, List<String> processIds) {
@@ -80,4 +128,30 @@ public class VariablePersistenceImpl implements VariablePersistence {
         variableRepository.deleteByExecutionIds(executionIds.toArray(String[]::new));
     }
 
+    private void saveEntities(List<VariableEntity> entities) {
+        variableRepository.saveAll(entities);
+        saveBlobs(entities);
+    }
+
+    private void saveBlobs(List<VariableEntity> entities) {
+        var offloaded = entities.stream()
+                .filter(entity -> entity.isOffloaded() && entity.getBlobValue() != null)
+                .toList();
+        if (!offloaded.isEmpty()) {
+            variableBlobRepository.upsertAll(
+                    offloaded.stream().map(VariableEntity::getId).toArray(String[]::new),
+                    offloaded.stream().map(VariableEntity::getBlobValue).toArray(String[]::new)
+            );
+        }
+
+        // An updated value that fits the row again leaves its previous blob behind
+        var inlinedIds = entities.stream()
+                .filter(entity -> !entity.isNew() && !entity.isOffloaded())
+                .map(VariableEntity::getId)
+                .toArray(String[]::new);
+        if (inlinedIds.length > 0) {
+            variableBlobRepository.deleteAllByIds(inlinedIds);
+        }
+    }
+
 }
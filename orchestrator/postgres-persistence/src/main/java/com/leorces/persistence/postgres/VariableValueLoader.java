@@ -0,0 +1,125 @@
+package com.leorces.persistence.postgres;
+
+import com.leorces.model.runtime.activity.ActivityExecution;
+import com.leorces.model.runtime.process.Process;
+import com.leorces.model.runtime.process.ProcessExecution;
+import com.leorces.model.runtime.variable.Variable;
+import com.leorces.persistence.postgres.entity.VariableBlobEntity;
+import com.leorces.persistence.postgres.repository.VariableBlobRepository;
+import lombok.AllArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Reads the values of offloaded variables.
+ * <p>
+ * Queries aggregate offloaded variables as references without their value. The values of a whole result set
+ * are read with one query by variable ID; result sets without offloaded variables cost no query.
+ */
+@Component
+@AllArgsConstructor
+public class VariableValueLoader {
+
+    private final VariableBlobRepository variableBlobRepository;
+
+    public Map<String, String> findValues(List<String> variableIds) {
+        if (variableIds.isEmpty()) {
+            return Map.of();
+        }
+
+        return variableBlobRepository.findAllByIds(variableIds.stream().distinct().toArray(String[]::new)).stream()
+                .collect(Collectors.toMap(VariableBlobEntity::getVariableId, VariableBlobEntity::getValue));
+    }
+
+    public List<Variable> load(List<Variable> variables) {
+        var values = findValues(variables.stream());
+        return values.isEmpty() ? variables : withValues(variables, values);
+    }
+
+    public Process load(Process process) {
+        return loadProcesses(List.of(process)).getFirst();
+    }
+
+    public ActivityExecution load(ActivityExecution activity) {
+        return loadActivities(List.of(activity)).getFirst();
+    }
+
+    public ProcessExecution load(ProcessExecution execution) {
+        return loadExecutions(List.of(execution)).getFirst();
+    }
+
+    public List<Process> loadProcesses(List<Process> processes) {
+        var values = findValues(processes.stream().flatMap(process -> process.variables().stream()));
+        if (values.isEmpty()) {
+            return processes;
+        }
+
+        return processes.stream()
+                .map(process -> withValues(process, values))
+                .toList();
+    }
+
+    public List<ActivityExecution> loadActivities(List<ActivityExecution> activities) {
+        var values = findValues(activities.stream().flatMap(activity -> Stream.concat(
+                activity.variables().stream(),
+                activity.process().variables().stream()
+        )));
+        if (values.isEmpty()) {
+            return activities;
+        }
+
+        return activities.stream()
+                .map(activity -> activity.toBuilder()
+                        .variables(withValues(activity.variables(), values))
+                        .process(withValues(activity.process(), values))
+                        .build())
+                .toList();
+    }
+
+    public List<ProcessExecution> loadExecutions(List<ProcessExecution> executions) {
+        var values = findValues(executions.stream().flatMap(execution -> Stream.concat(
+                execution.variables().stream(),
+                execution.activities().stream().flatMap(activity -> activity.variables().stream())
+        )));
+        if (values.isEmpty()) {
+            return executions;
+        }
+
+        return executions.stream()
+                .map(execution -> execution.toBuilder()
+                        .variables(withValues(execution.variables(), values))
+                        .activities(execution.activities().stream()
+                                .map(activity -> activity.toBuilder()
+                                        .variables(withValues(activity.variables(), values))
+                                        .build())
+                                .toList())
+                        .build())
+                .toList();
+    }
+
+    private Map<String, String> findValues(Stream<Variable> variables) {
+        return findValues(variables
+                .filter(Variable::offloaded)
+                .map(Variable::id)
+                .toList());
+    }
+
+    private Process withValues(Process process, Map<String, String> values) {
+        return process.toBuilder()
+                .variables(withValues(process.variables(), values))
+                .build();
+    }
+
+    private List<Variable> withValues(List<Variable> variables, Map<String, String> values) {
+        return variables.stream()
+                .map(variable -> variable.offloaded() && values.containsKey(variable.id())
+                        ? variable.toBuilder().varValue(values.get(variable.id())).offloaded(false).build()
+                        : variable)
+                .toList();
+    }
+
+}
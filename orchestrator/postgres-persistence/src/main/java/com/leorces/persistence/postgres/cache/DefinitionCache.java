@@ -5,6 +5,8 @@ import com.google.common.cache.CacheBuilder;
 import com.leorces.model.definition.ProcessDefinition;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 
@@ -20,6 +22,11 @@ public class DefinitionCache {
             .expireAfterAccess(1, TimeUnit.MINUTES)
             .build();
 
+    // Activities, messages and errors never change for a definition ID, so they are kept until evicted by size
+    private final Cache<String, ProcessDefinition> dataCache = CacheBuilder.newBuilder()
+            .maximumSize(1000)
+            .build();
+
     public Optional<ProcessDefinition> findById(String definitionId) {
         return Optional.ofNullable(cache.getIfPresent(FIND_BY_ID_CACHE_NAME.formatted(definitionId)));
     }
@@ -45,13 +52,27 @@ public class DefinitionCache {
     }
 
     public void putLatest(ProcessDefinition definition) {
+        putData(definition);
         putById(definition.id(), definition);
         putLatestByKey(definition.key(), definition);
         putByKeyAndVersion(definition.key(), definition.version(), definition);
     }
 
+    public Optional<ProcessDefinition> findDataById(String definitionId) {
+        return Optional.ofNullable(dataCache.getIfPresent(definitionId));
+    }
+
+    public Map<String, ProcessDefinition> findAllDataByIds(Collection<String> definitionIds) {
+        return dataCache.getAllPresent(definitionIds);
+    }
+
+    public void putData(ProcessDefinition definition) {
+        dataCache.put(definition.id(), definition);
+    }
+
     public void invalidateAll() {
         cache.invalidateAll();
+        dataCache.invalidateAll();
     }
 
 }
@@ -0,0 +1,47 @@
+package com.leorces.persistence.postgres.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.leorces.model.runtime.process.ProcessExecution;
+import lombok.AllArgsConstructor;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+@AllArgsConstructor
+public class GzipJsonHistoryCodec implements HistoryCodec {
+
+    private static final byte GZIP_MAGIC_FIRST = (byte) 0x1f;
+    private static final byte GZIP_MAGIC_SECOND = (byte) 0x8b;
+
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public HistoryFormat format() {
+        return HistoryFormat.GZIP_JSON;
+    }
+
+    @Override
+    public boolean canDecode(byte[] data) {
+        return data.length > 1 && data[0] == GZIP_MAGIC_FIRST && data[1] == GZIP_MAGIC_SECOND;
+    }
+
+    @Override
+    public byte[] encode(ProcessExecution execution) throws IOException {
+        var baos = new ByteArrayOutputStream();
+        try (var gzip = new GZIPOutputStream(baos)) {
+            objectMapper.writeValue(gzip, execution);
+        }
+        return baos.toByteArray();
+    }
+
+    @Override
+    public ProcessExecution decode(byte[] data) throws IOException {
+        try (var gzip = new GZIPInputStream(new ByteArrayInputStream(data))) {
+            return objectMapper.readValue(gzip.readAllBytes(), ProcessExecution.class);
+        }
+    }
+
+}
@@ -0,0 +1,40 @@
+package com.leorces.persistence.postgres.codec;
+
+import com.leorces.model.runtime.process.ProcessExecution;
+
+import java.io.IOException;
+
+/**
+ * Encodes completed process executions into the {@code history_data} column and back.
+ */
+public interface HistoryCodec {
+
+    HistoryFormat format();
+
+    /**
+     * Checks whether the data was written by this codec.
+     */
+    boolean canDecode(byte[] data);
+
+    byte[] encode(ProcessExecution execution) throws IOException;
+
+    ProcessExecution decode(byte[] data) throws IOException;
+
+    /**
+     * Decodes the execution and its activities without variables.
+     * Codecs without a separate variable section decode everything and drop the variables.
+     */
+    default ProcessExecution decodeSummary(byte[] data) throws IOException {
+        return withoutVariables(decode(data));
+    }
+
+    static ProcessExecution withoutVariables(ProcessExecution execution) {
+        return execution.toBuilder()
+                .variables(null)
+                .activities(execution.activities() == null ? null : execution.activities().stream()
+                        .map(activity -> activity.toBuilder().variables(null).build())
+                        .toList())
+                .build();
+    }
+
+}
@@ -0,0 +1,37 @@
+package com.leorces.persistence.postgres.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.leorces.persistence.postgres.configuration.HistoryCodecProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * New history is written in the configured format, existing history is read in the format it was written in.
+ */
+@Component
+public class HistoryCodecs {
+
+    private final List<HistoryCodec> codecs;
+    private final HistoryCodec encoder;
+
+    public HistoryCodecs(ObjectMapper objectMapper, HistoryCodecProperties properties) {
+        this.codecs = List.of(new SmileLz4HistoryCodec(objectMapper), new GzipJsonHistoryCodec(objectMapper));
+        this.encoder = codecs.stream()
+                .filter(codec -> codec.format() == properties.format())
+                .findFirst()
+                .orElseThrow();
+    }
+
+    public HistoryCodec encoder() {
+        return encoder;
+    }
+
+    public HistoryCodec decoderOf(byte[] data) {
+        return codecs.stream()
+                .filter(codec -> codec.canDecode(data))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown history data format"));
+    }
+
+}
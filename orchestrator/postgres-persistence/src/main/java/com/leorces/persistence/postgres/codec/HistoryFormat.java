@@ -0,0 +1,12 @@
+package com.leorces.persistence.postgres.codec;
+
+public enum HistoryFormat {
+    /**
+     * Gzip compressed JSON, the format of history written before codecs were versioned.
+     */
+    GZIP_JSON,
+    /**
+     * LZ4 compressed Smile in a summary section and a variable section.
+     */
+    SMILE_LZ4
+}
@@ -0,0 +1,143 @@
+package com.leorces.persistence.postgres.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.leorces.model.runtime.activity.Activity;
+import com.leorces.model.runtime.process.ProcessExecution;
+import com.leorces.model.runtime.variable.Variable;
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4SafeDecompressor;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes history as two LZ4 compressed Smile sections:
+ * <pre>
+ * byte     format version
+ * int, int summary section length before and after compression, summary section
+ * int, int variable section length before and after compression, variable section
+ * </pre>
+ * The summary section holds the execution and its activities without variables, so it is decoded
+ * without reading the variable section. Lengths are big-endian.
+ */
+public class SmileLz4HistoryCodec implements HistoryCodec {
+
+    static final byte VERSION = 1;
+
+    private static final int SECTION_HEADER_SIZE = 2 * Integer.BYTES;
+
+    private final ObjectMapper smileMapper;
+    private final LZ4Compressor compressor;
+    private final LZ4SafeDecompressor decompressor;
+
+    public SmileLz4HistoryCodec(ObjectMapper objectMapper) {
+        // Same modules and deserializers as the JSON mapper
+        this.smileMapper = objectMapper.copyWith(new SmileFactory());
+        var lz4 = LZ4Factory.fastestJavaInstance();
+        this.compressor = lz4.fastCompressor();
+        this.decompressor = lz4.safeDecompressor();
+    }
+
+    @Override
+    public HistoryFormat format() {
+        return HistoryFormat.SMILE_LZ4;
+    }
+
+    @Override
+    public boolean canDecode(byte[] data) {
+        return data.length > 0 && data[0] == VERSION;
+    }
+
+    @Override
+    public byte[] encode(ProcessExecution execution) throws IOException {
+        var summary = compress(smileMapper.writeValueAsBytes(HistoryCodec.withoutVariables(execution)));
+        var variables = compress(smileMapper.writeValueAsBytes(HistoryVariables.of(execution)));
+
+        var buffer = ByteBuffer.allocate(1 + summary.length + variables.length);
+        return buffer.put(VERSION)
+                .put(summary)
+                .put(variables)
+                .array();
+    }
+
+    @Override
+    public ProcessExecution decode(byte[] data) throws IOException {
+        var buffer = ByteBuffer.wrap(data, 1, data.length - 1);
+        var summary = smileMapper.readValue(decompress(buffer), ProcessExecution.class);
+        var variables = smileMapper.readValue(decompress(buffer), HistoryVariables.class);
+        return variables.applyTo(summary);
+    }
+
+    @Override
+    public ProcessExecution decodeSummary(byte[] data) throws IOException {
+        var buffer = ByteBuffer.wrap(data, 1, data.length - 1);
+        return smileMapper.readValue(decompress(buffer), ProcessExecution.class);
+    }
+
+    private byte[] compress(byte[] raw) {
+        var section = new byte[SECTION_HEADER_SIZE + compressor.maxCompressedLength(raw.length)];
+        var compressedLength = compressor.compress(raw, 0, raw.length, section, SECTION_HEADER_SIZE);
+        ByteBuffer.wrap(section)
+                .putInt(raw.length)
+                .putInt(compressedLength);
+        return Arrays.copyOf(section, SECTION_HEADER_SIZE + compressedLength);
+    }
+
+    private byte[] decompress(ByteBuffer buffer) throws IOException {
+        var rawLength = buffer.getInt();
+        var compressedLength = buffer.getInt();
+        if (rawLength < 0 || compressedLength < 0 || compressedLength > buffer.remaining()) {
+            throw new IOException("Corrupted history section");
+        }
+
+        var raw = new byte[rawLength];
+        var decompressedLength = decompressor.decompress(buffer.array(), buffer.position(), compressedLength, raw, 0, rawLength);
+        if (decompressedLength != rawLength) {
+            throw new IOException("Corrupted history section");
+        }
+        buffer.position(buffer.position() + compressedLength);
+        return raw;
+    }
+
+    /**
+     * Variables of the execution and of its activities by activity id.
+     */
+    record HistoryVariables(
+            List<Variable> process,
+            Map<String, List<Variable>> activities
+    ) {
+
+        static HistoryVariables of(ProcessExecution execution) {
+            var activities = new HashMap<String, List<Variable>>();
+            if (execution.activities() != null) {
+                execution.activities().stream()
+                        .filter(activity -> activity.id() != null && activity.variables() != null)
+                        .forEach(activity -> activities.put(activity.id(), activity.variables()));
+            }
+            return new HistoryVariables(execution.variables(), activities);
+        }
+
+        ProcessExecution applyTo(ProcessExecution summary) {
+            return summary.toBuilder()
+                    .variables(process)
+                    .activities(summary.activities() == null ? null : summary.activities().stream()
+                            .map(this::applyTo)
+                            .toList())
+                    .build();
+        }
+
+        private Activity applyTo(Activity activity) {
+            return activities == null || !activities.containsKey(activity.id())
+                    ? activity
+                    : activity.toBuilder().variables(activities.get(activity.id())).build();
+        }
+
+    }
+
+}
@@ -0,0 +1,12 @@
+package com.leorces.persistence.postgres.configuration;
+
+import com.leorces.persistence.postgres.codec.HistoryFormat;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "leorces.persistence.postgres.history")
+public record HistoryCodecProperties(
+        @DefaultValue("GZIP_JSON") HistoryFormat format
+) {
+
+}
@@ -0,0 +1,14 @@
+package com.leorces.persistence.postgres.configuration;
+
+import com.leorces.persistence.postgres.partition.PartitionInterval;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "leorces.persistence.postgres.history.partitions")
+public record HistoryPartitionProperties(
+        @DefaultValue("MONTH") PartitionInterval interval,
+        @DefaultValue("3") int premake,
+        @DefaultValue("1000") int moveBatchSize
+) {
+
+}
@@ -18,7 +18,7 @@ import org.springframework.data.jdbc.repository.config.EnableJdbcRepositories;
 import javax.sql.DataSource;
 
 @AutoConfiguration
-@EnableConfigurationProperties(LiquibaseProperties.class)
+@EnableConfigurationProperties({LiquibaseProperties.class, HistoryPartitionProperties.class, HistoryCodecProperties.class, VariableStorageProperties.class})
 @EnableJdbcRepositories(basePackages = "com.leorces.persistence.postgres.repository")
 public class PostgresPersistenceAutoConfiguration {
 
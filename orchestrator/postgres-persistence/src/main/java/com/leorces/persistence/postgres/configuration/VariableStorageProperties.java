@@ -0,0 +1,11 @@
+package com.leorces.persistence.postgres.configuration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "leorces.persistence.postgres.variables")
+public record VariableStorageProperties(
+        @DefaultValue("1024") int offloadThreshold
+) {
+
+}
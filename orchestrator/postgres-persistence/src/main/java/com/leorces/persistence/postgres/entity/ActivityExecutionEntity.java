@@ -138,9 +138,6 @@ public class ActivityExecutionEntity implements Persistable<String> {
     @ReadOnlyProperty
     private boolean definitionSuspended;
 
-    @ReadOnlyProperty
-    private PGobject definitionData;
-
     @Override
     public boolean isNew() {
         return isNew;
@@ -0,0 +1,46 @@
+package com.leorces.persistence.postgres.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+
+import java.time.LocalDateTime;
+
+/**
+ * A subscription found for a message of a batch, with the position of the message in the batch.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder(toBuilder = true)
+public class MessageCorrelationEntity {
+
+    @Column("correlation_position")
+    private int position;
+
+    @Id
+    @Column("subscription_id")
+    private String id;
+
+    @Column("process_id")
+    private String processId;
+
+    @Column("process_business_key")
+    private String businessKey;
+
+    @Column("subscription_message_name")
+    private String messageName;
+
+    @Column("subscription_definition_id")
+    private String definitionId;
+
+    @Column("subscription_activity_definition_id")
+    private String activityDefinitionId;
+
+    @Column("subscription_created_at")
+    private LocalDateTime createdAt;
+
+}
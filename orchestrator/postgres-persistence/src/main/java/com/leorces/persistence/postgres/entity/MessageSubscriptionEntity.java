@@ -0,0 +1,42 @@
+package com.leorces.persistence.postgres.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder(toBuilder = true)
+@Table(name = "message_subscription")
+public class MessageSubscriptionEntity {
+
+    @Id
+    @Column("subscription_id")
+    private String id;
+
+    @Column("process_id")
+    private String processId;
+
+    @Column("process_business_key")
+    private String businessKey;
+
+    @Column("subscription_message_name")
+    private String messageName;
+
+    @Column("subscription_definition_id")
+    private String definitionId;
+
+    @Column("subscription_activity_definition_id")
+    private String activityDefinitionId;
+
+    @Column("subscription_created_at")
+    private LocalDateTime createdAt;
+
+}
@@ -91,9 +91,6 @@ public class ProcessEntity implements Persistable<String> {
     @ReadOnlyProperty
     private boolean definitionSuspended;
 
-    @ReadOnlyProperty
-    private PGobject definitionData;
-
     @Transient
     private boolean isNew;
 
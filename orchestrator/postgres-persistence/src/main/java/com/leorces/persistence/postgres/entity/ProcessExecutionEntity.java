@@ -94,7 +94,4 @@ public class ProcessExecutionEntity {
     @ReadOnlyProperty
     private boolean definitionSuspended;
 
-    @ReadOnlyProperty
-    private PGobject definitionData;
-
 }
@@ -0,0 +1,58 @@
+package com.leorces.persistence.postgres.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Transient;
+import org.springframework.data.domain.Persistable;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder(toBuilder = true)
+@Table(name = "timer")
+public class TimerEntity implements Persistable<String> {
+
+    @Id
+    @Column("timer_id")
+    private String id;
+
+    @Column("process_id")
+    private String processId;
+
+    @Column("timer_definition_id")
+    private String definitionId;
+
+    @Column("timer_activity_definition_id")
+    private String activityDefinitionId;
+
+    @Column("timer_activity_id")
+    private String activityId;
+
+    @Column("timer_due_at")
+    private LocalDateTime dueAt;
+
+    @Column("timer_cycle")
+    private String cycle;
+
+    @Column("timer_locked_until")
+    private LocalDateTime lockedUntil;
+
+    @Column("timer_created_at")
+    private LocalDateTime createdAt;
+
+    @Transient
+    private boolean isNew;
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+}
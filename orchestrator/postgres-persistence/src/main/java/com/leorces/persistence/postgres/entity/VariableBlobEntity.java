@@ -0,0 +1,25 @@
+package com.leorces.persistence.postgres.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "variable_blob")
+public class VariableBlobEntity {
+
+    @Id
+    @Column("variable_id")
+    private String variableId;
+
+    @Column("blob_value")
+    private String value;
+
+}
@@ -46,6 +46,10 @@ public class VariableEntity implements Persistable<String> {
     @JsonProperty("var_value")
     private String varValue;
 
+    @Column("variable_offloaded")
+    @JsonProperty("offloaded")
+    private boolean offloaded;
+
     @Column("variable_type")
     @JsonProperty("type")
     private String type;
@@ -62,6 +66,11 @@ public class VariableEntity implements Persistable<String> {
     @JsonIgnore
     private boolean isNew;
 
+    // Value of an offloaded variable, stored in the variable_blob table
+    @Transient
+    @JsonIgnore
+    private String blobValue;
+
     @Override
     @JsonIgnore
     public boolean isNew() {
@@ -12,7 +12,7 @@ import com.leorces.model.runtime.process.Process;
 import com.leorces.model.runtime.variable.Variable;
 import com.leorces.persistence.postgres.entity.ActivityEntity;
 import com.leorces.persistence.postgres.entity.ActivityExecutionEntity;
-import com.leorces.persistence.postgres.utils.IdGenerator;
+import com.leorces.persistence.utils.IdGenerator;
 import org.postgresql.util.PGobject;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Component;
@@ -24,20 +24,26 @@ import java.util.List;
 public class ActivityMapper {
 
     private final ProcessMapper processMapper;
+    private final DefinitionMapper definitionMapper;
     private final VariableMapper variableMapper;
     private final ObjectMapper objectMapper;
 
     public ActivityMapper(@Lazy ProcessMapper processMapper,
+                          DefinitionMapper definitionMapper,
                           VariableMapper variableMapper,
                           ObjectMapper objectMapper) {
         this.processMapper = processMapper;
+        this.definitionMapper = definitionMapper;
         this.variableMapper = variableMapper;
         this.objectMapper = objectMapper;
     }
 
-    public ActivityExecutionEntity toExecutionEntity(ActivityExecution activity) {
+    /**
+     * @param isNew whether the activity is inserted, an activity created by the engine already has an ID
+     */
+    public ActivityExecutionEntity toExecutionEntity(ActivityExecution activity, boolean isNew) {
         return ActivityExecutionEntity.builder()
-                .isNew(activity.id() == null)
+                .isNew(isNew)
                 .id(activity.id() == null ? IdGenerator.getNewId() : activity.id())
                 .processId(activity.processId())
                 .activityDefinitionId(activity.definitionId())
@@ -58,6 +64,13 @@ public class ActivityMapper {
                 .build();
     }
 
+    public List<ActivityExecution> toExecutions(List<ActivityExecutionEntity> entities) {
+        prefetchDefinitions(entities);
+        return entities.stream()
+                .map(this::toExecution)
+                .toList();
+    }
+
     public ActivityExecution toExecution(ActivityExecutionEntity entity) {
         var variables = variableMapper.toVariables(entity.getVariablesJson());
         var failure = new ActivityFailure(entity.getFailureReason(), entity.getFailureTrace());
@@ -80,6 +93,13 @@ public class ActivityMapper {
                 .build();
     }
 
+    public List<ActivityExecution> toBaseExecutions(List<ActivityExecutionEntity> entities) {
+        prefetchDefinitions(entities);
+        return entities.stream()
+                .map(this::toBaseExecution)
+                .toList();
+    }
+
     public ActivityExecution toBaseExecution(ActivityExecutionEntity entity) {
         var failure = new ActivityFailure(entity.getFailureReason(), entity.getFailureTrace());
         return ActivityExecution.builder()
@@ -104,6 +124,7 @@ public class ActivityMapper {
                 .id(entity.getId())
                 .processId(entity.getProcessId())
                 .processBusinessKey(entity.getProcessBusinessKey())
+                .processDefinitionKey(entity.getProcessDefinitionKey())
                 .topic(entity.getTopic())
                 .definitionId(entity.getDefinitionId())
                 .variables(variables)
@@ -160,6 +181,10 @@ public class ActivityMapper {
                 .build();
     }
 
+    private void prefetchDefinitions(List<ActivityExecutionEntity> entities) {
+        definitionMapper.prefetch(entities.stream().map(ActivityExecutionEntity::getDefinitionId).toList());
+    }
+
     private List<Variable> mapVariables(List<Variable> variables, ActivityExecution activity) {
         var variableScope = activity.scope();
         return variables.stream()
@@ -8,13 +8,15 @@ import com.leorces.model.definition.ProcessDefinition;
 import com.leorces.model.definition.ProcessDefinitionMetadata;
 import com.leorces.model.definition.activity.ActivityDefinition;
 import com.leorces.model.definition.activity.ActivityDefinitionDeserializer;
+import com.leorces.persistence.postgres.cache.DefinitionCache;
 import com.leorces.persistence.postgres.entity.ActivityExecutionEntity;
 import com.leorces.persistence.postgres.entity.ProcessDefinitionEntity;
 import com.leorces.persistence.postgres.entity.ProcessEntity;
 import com.leorces.persistence.postgres.entity.ProcessExecutionEntity;
 import com.leorces.persistence.postgres.exception.DefinitionDeserializationException;
 import com.leorces.persistence.postgres.exception.DefinitionSerializationException;
-import com.leorces.persistence.postgres.utils.IdGenerator;
+import com.leorces.persistence.postgres.repository.DefinitionRepository;
+import com.leorces.persistence.utils.IdGenerator;
 import lombok.AllArgsConstructor;
 import org.postgresql.util.PGobject;
 import org.springframework.stereotype.Component;
@@ -22,13 +24,18 @@ import org.springframework.stereotype.Component;
 import java.io.IOException;
 import java.sql.SQLException;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
 
 @Component
 @AllArgsConstructor
 public class DefinitionMapper {
 
     private final ObjectMapper objectMapper;
+    private final DefinitionCache cache;
+    private final DefinitionRepository definitionRepository;
 
     public ProcessDefinitionEntity toNewEntity(ProcessDefinition processDefinition, int version) {
         return ProcessDefinitionEntity.builder()
@@ -74,70 +81,44 @@ public class DefinitionMapper {
     }
 
     public ProcessDefinition toDefinition(ProcessEntity entity) {
-        if (entity.getDefinitionData() == null) {
-            return null;
-        }
-
-        var data = fromJson(entity.getDefinitionData());
-        return ProcessDefinition.builder()
-                .id(entity.getProcessDefinitionId())
-                .key(entity.getProcessDefinitionKey())
-                .name(entity.getDefinitionName())
-                .version(entity.getDefinitionVersion())
-                .suspended(entity.isSuspended())
-                .activities(data.activities())
-                .messages(data.messages())
-                .errors(data.errors())
-                .createdAt(entity.getDefinitionCreatedAt())
-                .updatedAt(entity.getDefinitionUpdatedAt())
-                .metadata(ProcessDefinitionMetadata.builder()
-                        .schema(entity.getDefinitionSchema())
-                        .origin(entity.getDefinitionOrigin())
-                        .deployment(entity.getDefinitionDeployment())
-                        .build())
-                .build();
+        return toDefinition(entity.getDefinitionId(), entity.isSuspended(), entity.getDefinitionUpdatedAt());
     }
 
     public ProcessDefinition toDefinition(ProcessExecutionEntity entity) {
-        var data = fromJson(entity.getDefinitionData());
-        return ProcessDefinition.builder()
-                .id(entity.getProcessDefinitionId())
-                .key(entity.getProcessDefinitionKey())
-                .name(entity.getDefinitionName())
-                .version(entity.getDefinitionVersion())
-                .suspended(entity.isSuspended())
-                .activities(data.activities())
-                .messages(data.messages())
-                .errors(data.errors())
-                .createdAt(entity.getDefinitionCreatedAt())
-                .updatedAt(entity.getDefinitionUpdatedAt())
-                .metadata(ProcessDefinitionMetadata.builder()
-                        .schema(entity.getDefinitionSchema())
-                        .origin(entity.getDefinitionOrigin())
-                        .deployment(entity.getDefinitionDeployment())
-                        .build())
-                .build();
+        return toDefinition(entity.getDefinitionId(), entity.isSuspended(), entity.getDefinitionUpdatedAt());
     }
 
     public ProcessDefinition toDefinition(ActivityExecutionEntity entity) {
-        var data = fromJson(entity.getDefinitionData());
-        return ProcessDefinition.builder()
-                .id(entity.getDefinitionId())
-                .key(entity.getProcessDefinitionKey())
-                .name(entity.getDefinitionName())
-                .version(entity.getDefinitionVersion())
-                .suspended(entity.isDefinitionSuspended())
-                .activities(data.activities())
-                .messages(data.messages())
-                .errors(data.errors())
-                .createdAt(entity.getDefinitionCreatedAt())
-                .updatedAt(entity.getDefinitionUpdatedAt())
-                .metadata(ProcessDefinitionMetadata.builder()
-                        .schema(entity.getDefinitionSchema())
-                        .origin(entity.getDefinitionOrigin())
-                        .deployment(entity.getDefinitionDeployment())
-                        .build())
-                .build();
+        return toDefinition(entity.getDefinitionId(), entity.isDefinitionSuspended(), entity.getDefinitionUpdatedAt());
+    }
+
+    /**
+     * Loads the definitions that are not cached yet with a single query,
+     * so mapping a batch of rows never hits the database per row.
+     *
+     * @param definitionIds the definition IDs referenced by the rows about to be mapped
+     */
+    public void prefetch(Collection<String> definitionIds) {
+        var ids = definitionIds.stream()
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+
+        if (ids.isEmpty()) {
+            return;
+        }
+
+        var cachedIds = cache.findAllDataByIds(ids).keySet();
+        var missingIds = ids.stream()
+                .filter(id -> !cachedIds.contains(id))
+                .toArray(String[]::new);
+
+        if (missingIds.length == 0) {
+            return;
+        }
+
+        definitionRepository.findAllByIds(missingIds).stream()
+                .map(this::toDefinition)
+                .forEach(cache::putData);
     }
 
     public PGobject toJson(ProcessDefinition processDefinition) {
@@ -157,6 +138,35 @@ public class DefinitionMapper {
         }
     }
 
+    private ProcessDefinition toDefinition(String definitionId, boolean suspended, LocalDateTime updatedAt) {
+        if (definitionId == null) {
+            return null;
+        }
+
+        var definition = findData(definitionId);
+        if (definition == null) {
+            return null;
+        }
+
+        return definition.toBuilder()
+                .suspended(suspended)
+                .updatedAt(updatedAt == null ? definition.updatedAt() : updatedAt)
+                .build();
+    }
+
+    private ProcessDefinition findData(String definitionId) {
+        return cache.findDataById(definitionId).orElseGet(() -> {
+            var definition = definitionRepository.findById(definitionId)
+                    .map(this::toDefinition)
+                    .orElse(null);
+
+            if (definition != null) {
+                cache.putData(definition);
+            }
+            return definition;
+        });
+    }
+
     private ProcessDefinitionData fromJson(PGobject jsonData) {
         if (jsonData == null) {
             return null;
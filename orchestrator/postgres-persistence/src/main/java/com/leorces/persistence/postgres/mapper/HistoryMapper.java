@@ -1,23 +1,21 @@
 package com.leorces.persistence.postgres.mapper;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.leorces.model.runtime.process.ProcessExecution;
+import com.leorces.persistence.postgres.codec.HistoryCodecs;
 import com.leorces.persistence.postgres.entity.HistoryEntity;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
-import java.io.ByteArrayOutputStream;
-import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
 import java.util.List;
-import java.util.zip.GZIPOutputStream;
 
 @Slf4j
 @Component
 @AllArgsConstructor
 public class HistoryMapper {
 
-    private final ObjectMapper objectMapper;
+    private final HistoryCodecs historyCodecs;
 
     public List<HistoryEntity> toEntities(List<ProcessExecution> executions) {
         return executions.stream()
@@ -31,11 +29,11 @@ public class HistoryMapper {
                 .rootProcessId(process.rootProcessId())
                 .parentProcessId(process.parentId())
                 .businessKey(process.businessKey())
-                .data(toGzip(process))
+                .data(encode(process))
                 .createdAt(process.createdAt())
                 .updatedAt(process.updatedAt())
                 .startedAt(process.startedAt())
-                .completedAt(process.completedAt())
+                .completedAt(completedAt(process))
                 .isNew(true)
                 .build();
     }
@@ -46,35 +44,50 @@ public class HistoryMapper {
                 .toList();
     }
 
+    public List<ProcessExecution> toSummaries(List<HistoryEntity> entities) {
+        return entities.stream()
+                .map(this::toSummary)
+                .toList();
+    }
+
     public ProcessExecution toExecution(HistoryEntity entity) {
-        return fromGzip(entity.getData());
+        return decode(entity.getData(), false);
+    }
+
+    /**
+     * Maps the entity to an execution without process and activity variables.
+     */
+    public ProcessExecution toSummary(HistoryEntity entity) {
+        return decode(entity.getData(), true);
     }
 
-    private byte[] toGzip(ProcessExecution execution) {
+    // Partition key of the history table, processes deleted without completion are kept by their last change
+    private LocalDateTime completedAt(ProcessExecution process) {
+        if (process.completedAt() != null) {
+            return process.completedAt();
+        }
+        return process.updatedAt() != null ? process.updatedAt() : process.createdAt();
+    }
+
+    private byte[] encode(ProcessExecution execution) {
         try {
-            var json = objectMapper.writeValueAsString(execution);
-            var baos = new ByteArrayOutputStream();
-            try (var gzip = new GZIPOutputStream(baos)) {
-                gzip.write(json.getBytes(StandardCharsets.UTF_8));
-            }
-            return baos.toByteArray();
+            return historyCodecs.encoder().encode(execution);
         } catch (Exception e) {
-            log.error("Failed to serialize process data to json", e);
+            log.error("Failed to encode process data", e);
             return null;
         }
     }
 
-    private ProcessExecution fromGzip(byte[] compressedData) {
-        if (compressedData == null || compressedData.length == 0) {
+    private ProcessExecution decode(byte[] data, boolean summary) {
+        if (data == null || data.length == 0) {
             return null;
         }
 
-        try (var bais = new java.io.ByteArrayInputStream(compressedData);
-             var gzip = new java.util.zip.GZIPInputStream(bais)) {
-            var jsonBytes = gzip.readAllBytes();
-            return objectMapper.readValue(jsonBytes, ProcessExecution.class);
+        try {
+            var codec = historyCodecs.decoderOf(data);
+            return summary ? codec.decodeSummary(data) : codec.decode(data);
         } catch (Exception e) {
-            log.error("Failed to deserialize process data from gzip", e);
+            log.error("Failed to decode process data", e);
             return null;
         }
     }
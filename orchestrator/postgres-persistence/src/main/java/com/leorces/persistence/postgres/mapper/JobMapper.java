@@ -7,7 +7,7 @@ import com.leorces.model.job.Job;
 import com.leorces.model.job.JobState;
 import com.leorces.persistence.postgres.entity.JobEntity;
 import com.leorces.persistence.postgres.exception.JobMetadataSerializationException;
-import com.leorces.persistence.postgres.utils.IdGenerator;
+import com.leorces.persistence.utils.IdGenerator;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.postgresql.util.PGobject;
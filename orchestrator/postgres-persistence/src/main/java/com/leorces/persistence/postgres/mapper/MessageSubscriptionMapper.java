@@ -0,0 +1,43 @@
+package com.leorces.persistence.postgres.mapper;
+
+import com.leorces.model.runtime.message.MessageSubscription;
+import com.leorces.persistence.postgres.entity.MessageCorrelationEntity;
+import com.leorces.persistence.postgres.entity.MessageSubscriptionEntity;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+public class MessageSubscriptionMapper {
+
+    public List<MessageSubscription> toSubscriptions(List<MessageSubscriptionEntity> entities) {
+        return entities.stream()
+                .map(this::toSubscription)
+                .toList();
+    }
+
+    public MessageSubscription toSubscription(MessageSubscriptionEntity entity) {
+        return MessageSubscription.builder()
+                .id(entity.getId())
+                .processId(entity.getProcessId())
+                .businessKey(entity.getBusinessKey())
+                .messageName(entity.getMessageName())
+                .definitionId(entity.getDefinitionId())
+                .activityDefinitionId(entity.getActivityDefinitionId())
+                .createdAt(entity.getCreatedAt())
+                .build();
+    }
+
+    public MessageSubscription toSubscription(MessageCorrelationEntity entity) {
+        return MessageSubscription.builder()
+                .id(entity.getId())
+                .processId(entity.getProcessId())
+                .businessKey(entity.getBusinessKey())
+                .messageName(entity.getMessageName())
+                .definitionId(entity.getDefinitionId())
+                .activityDefinitionId(entity.getActivityDefinitionId())
+                .createdAt(entity.getCreatedAt())
+                .build();
+    }
+
+}
@@ -20,6 +20,7 @@ public class ProcessMapper {
     private final VariableMapper variableMapper;
 
     public List<Process> toProcesses(List<ProcessEntity> entities) {
+        definitionMapper.prefetch(entities.stream().map(ProcessEntity::getDefinitionId).toList());
         return entities.stream()
                 .map(this::toProcess)
                 .toList();
@@ -76,6 +77,13 @@ public class ProcessMapper {
                 .build();
     }
 
+    public List<ProcessExecution> toExecutions(List<ProcessExecutionEntity> entities) {
+        definitionMapper.prefetch(entities.stream().map(ProcessExecutionEntity::getDefinitionId).toList());
+        return entities.stream()
+                .map(this::toExecution)
+                .toList();
+    }
+
     public ProcessExecution toExecution(ProcessExecutionEntity entity) {
         var process = toProcess(entity);
         var activities = activityMapper.toActivities(entity.getActivitiesJson(), process);
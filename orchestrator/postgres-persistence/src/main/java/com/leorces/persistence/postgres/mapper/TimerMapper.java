@@ -0,0 +1,53 @@
+package com.leorces.persistence.postgres.mapper;
+
+import com.leorces.model.runtime.timer.Timer;
+import com.leorces.persistence.postgres.entity.TimerEntity;
+import com.leorces.persistence.utils.IdGenerator;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Component
+public class TimerMapper {
+
+    public List<TimerEntity> toEntities(List<Timer> timers) {
+        return timers.stream()
+                .map(this::toEntity)
+                .toList();
+    }
+
+    public TimerEntity toEntity(Timer timer) {
+        return TimerEntity.builder()
+                .isNew(timer.id() == null)
+                .id(timer.id() == null ? IdGenerator.getNewId() : timer.id())
+                .processId(timer.processId())
+                .definitionId(timer.definitionId())
+                .activityDefinitionId(timer.activityDefinitionId())
+                .activityId(timer.activityId())
+                .dueAt(timer.dueAt())
+                .cycle(timer.cycle())
+                .createdAt(timer.createdAt() == null ? LocalDateTime.now() : timer.createdAt())
+                .build();
+    }
+
+    public List<Timer> toTimers(List<TimerEntity> entities) {
+        return entities.stream()
+                .map(this::toTimer)
+                .toList();
+    }
+
+    public Timer toTimer(TimerEntity entity) {
+        return Timer.builder()
+                .id(entity.getId())
+                .processId(entity.getProcessId())
+                .definitionId(entity.getDefinitionId())
+                .activityDefinitionId(entity.getActivityDefinitionId())
+                .activityId(entity.getActivityId())
+                .dueAt(entity.getDueAt())
+                .cycle(entity.getCycle())
+                .createdAt(entity.getCreatedAt())
+                .build();
+    }
+
+}
@@ -6,8 +6,9 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.leorces.model.runtime.activity.ActivityExecution;
 import com.leorces.model.runtime.process.Process;
 import com.leorces.model.runtime.variable.Variable;
+import com.leorces.persistence.postgres.configuration.VariableStorageProperties;
 import com.leorces.persistence.postgres.entity.VariableEntity;
-import com.leorces.persistence.postgres.utils.IdGenerator;
+import com.leorces.persistence.utils.IdGenerator;
 import lombok.AllArgsConstructor;
 import org.postgresql.util.PGobject;
 import org.springframework.stereotype.Component;
@@ -21,6 +22,7 @@ import java.util.List;
 public class VariableMapper {
 
     private final ObjectMapper objectMapper;
+    private final VariableStorageProperties properties;
 
     public List<VariableEntity> toEntities(Process process) {
         var variables = process.variables().stream()
@@ -77,7 +79,7 @@ public class VariableMapper {
 
     public VariableEntity toEntity(Process process, Variable variable) {
         var now = LocalDateTime.now();
-        return VariableEntity.builder()
+        return offloadIfLarge(VariableEntity.builder()
                 .isNew(variable.id() == null)
                 .id(variable.id() == null ? IdGenerator.getNewId() : variable.id())
                 .processId(process.id())
@@ -85,15 +87,16 @@ public class VariableMapper {
                 .executionDefinitionId(process.definitionId())
                 .varKey(variable.varKey())
                 .varValue(variable.varValue())
+                .offloaded(isReference(variable))
                 .type(variable.type())
                 .createdAt(variable.createdAt() == null ? now : variable.createdAt())
                 .updatedAt(now)
-                .build();
+                .build());
     }
 
     public VariableEntity toEntity(ActivityExecution activity, Variable variable) {
         var now = LocalDateTime.now();
-        return VariableEntity.builder()
+        return offloadIfLarge(VariableEntity.builder()
                 .isNew(variable.id() == null)
                 .id(variable.id() == null ? IdGenerator.getNewId() : variable.id())
                 .processId(activity.processId())
@@ -101,15 +104,16 @@ public class VariableMapper {
                 .executionDefinitionId(activity.definitionId())
                 .varKey(variable.varKey())
                 .varValue(variable.varValue())
+                .offloaded(isReference(variable))
                 .type(variable.type())
                 .createdAt(variable.createdAt() == null ? now : variable.createdAt())
                 .updatedAt(now)
-                .build();
+                .build());
     }
 
     public VariableEntity toEntity(Variable variable) {
         var now = LocalDateTime.now();
-        return VariableEntity.builder()
+        return offloadIfLarge(VariableEntity.builder()
                 .isNew(variable.id() == null)
                 .id(variable.id() == null ? IdGenerator.getNewId() : variable.id())
                 .processId(variable.processId())
@@ -117,10 +121,11 @@ public class VariableMapper {
                 .executionDefinitionId(variable.executionDefinitionId())
                 .varKey(variable.varKey())
                 .varValue(variable.varValue())
+                .offloaded(isReference(variable))
                 .type(variable.type())
                 .createdAt(variable.createdAt() == null ? now : variable.createdAt())
                 .updatedAt(now)
-                .build();
+                .build());
     }
 
     public List<Variable> toVariables(PGobject json) {
@@ -141,7 +146,8 @@ public class VariableMapper {
                 .executionId(entity.getExecutionId())
                 .executionDefinitionId(entity.getExecutionDefinitionId())
                 .varKey(entity.getVarKey())
-                .varValue(entity.getVarValue())
+                .varValue(entity.isOffloaded() ? entity.getBlobValue() : entity.getVarValue())
+                .offloaded(entity.isOffloaded() && entity.getBlobValue() == null)
                 .type(entity.getType())
                 .createdAt(entity.getCreatedAt())
                 .updatedAt(entity.getUpdatedAt())
@@ -177,4 +183,19 @@ public class VariableMapper {
         return Collections.emptyList();
     }
 
+    private VariableEntity offloadIfLarge(VariableEntity entity) {
+        var value = entity.getVarValue();
+        if (value != null && value.length() > properties.offloadThreshold()) {
+            entity.setVarValue(null);
+            entity.setBlobValue(value);
+            entity.setOffloaded(true);
+        }
+        return entity;
+    }
+
+    // A variable read by reference is saved without its value, so the stored value is kept
+    private boolean isReference(Variable variable) {
+        return variable.offloaded() && variable.varValue() == null;
+    }
+
 }
@@ -0,0 +1,123 @@
+package com.leorces.persistence.postgres.notification;
+
+import com.leorces.persistence.ActivityScheduleListener;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+
+/**
+ * Listens on the {@code leorces_activity_scheduled} channel and forwards activities scheduled
+ * by any engine node to the local {@link ActivityScheduleListener} beans.
+ * <p>
+ * Notifications are sent by {@code ActivityPersistenceImpl} before the transaction that schedules activities commits,
+ * once per {@code <processDefinitionKey>:<topic>}. They are only sent while this listener runs.
+ * <p>
+ * The listener holds one connection of the pool for as long as it runs, so it is opt-in. Without it every node
+ * only wakes up its own long polls.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "leorces.persistence.postgres.notifications.enabled", havingValue = "true")
+public class ActivityScheduleNotificationListener implements SmartLifecycle {
+
+    private static final String CHANNEL = "leorces_activity_scheduled";
+    private static final String SEPARATOR = ":";
+    private static final int RECEIVE_TIMEOUT_MILLIS = 1000;
+    private static final long RECONNECT_DELAY_MILLIS = 5000;
+
+    private final DataSource dataSource;
+    private final ObjectProvider<ActivityScheduleListener> listeners;
+
+    private volatile boolean running;
+    private Thread listenerThread;
+
+    public ActivityScheduleNotificationListener(DataSource dataSource,
+                                                ObjectProvider<ActivityScheduleListener> listeners) {
+        this.dataSource = dataSource;
+        this.listeners = listeners;
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        listenerThread = Thread.ofPlatform()
+                .daemon()
+                .name("leorces-activity-notifications")
+                .start(this::listen);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (listenerThread != null) {
+            listenerThread.interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void listen() {
+        while (running) {
+            try (var connection = dataSource.getConnection()) {
+                var pgConnection = connection.unwrap(PGConnection.class);
+
+                try (var statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + CHANNEL);
+                }
+                if (!connection.getAutoCommit()) {
+                    connection.commit();
+                }
+
+                log.debug("Listening for activity schedule notifications on channel: {}", CHANNEL);
+                while (running) {
+                    var notifications = pgConnection.getNotifications(RECEIVE_TIMEOUT_MILLIS);
+                    if (notifications != null) {
+                        for (var notification : notifications) {
+                            dispatch(notification);
+                        }
+                    }
+                }
+            } catch (SQLException e) {
+                if (running) {
+                    log.warn("Activity schedule notification listener failed, reconnecting in {} ms: {}", RECONNECT_DELAY_MILLIS, e.getMessage());
+                    pause();
+                }
+            }
+        }
+    }
+
+    private void dispatch(PGNotification notification) {
+        var payload = notification.getParameter();
+        // Process definition keys are XML NCNames and never contain the separator
+        var separatorIndex = payload.indexOf(SEPARATOR);
+
+        if (separatorIndex < 0) {
+            log.warn("Skip malformed activity schedule notification: {}", payload);
+            return;
+        }
+
+        var processDefinitionKey = payload.substring(0, separatorIndex);
+        var topic = payload.substring(separatorIndex + 1);
+        listeners.forEach(listener -> listener.onScheduled(processDefinitionKey, topic));
+    }
+
+    private void pause() {
+        try {
+            Thread.sleep(RECONNECT_DELAY_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+
+}
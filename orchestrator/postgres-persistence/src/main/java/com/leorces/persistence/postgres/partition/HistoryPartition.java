@@ -0,0 +1,23 @@
+package com.leorces.persistence.postgres.partition;
+
+import java.time.LocalDateTime;
+
+/**
+ * A range partition of the {@code history} table, holding processes completed from {@code from} inclusive
+ * to {@code to} exclusive.
+ */
+public record HistoryPartition(
+        String name,
+        LocalDateTime from,
+        LocalDateTime to
+) {
+
+    public boolean overlaps(LocalDateTime otherFrom, LocalDateTime otherTo) {
+        return from.isBefore(otherTo) && otherFrom.isBefore(to);
+    }
+
+    public boolean isExpired(LocalDateTime completedBefore) {
+        return !to.isAfter(completedBefore);
+    }
+
+}
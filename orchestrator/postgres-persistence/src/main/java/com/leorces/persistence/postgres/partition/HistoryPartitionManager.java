@@ -0,0 +1,273 @@
+package com.leorces.persistence.postgres.partition;
+
+import com.leorces.persistence.postgres.configuration.HistoryPartitionProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+import static com.leorces.persistence.postgres.repository.query.history.ATTACH_PARTITION.ATTACH_PARTITION_QUERY;
+import static com.leorces.persistence.postgres.repository.query.history.CREATE_PARTITION.CREATE_PARTITION_QUERY;
+import static com.leorces.persistence.postgres.repository.query.history.DELETE_EXPIRED_FROM_DEFAULT_PARTITION.DELETE_EXPIRED_FROM_DEFAULT_PARTITION_QUERY;
+import static com.leorces.persistence.postgres.repository.query.history.DELETE_PARTITION_KEYS.DELETE_PARTITION_KEYS_QUERY;
+import static com.leorces.persistence.postgres.repository.query.history.DETACH_PARTITION.DETACH_PARTITION_QUERY;
+import static com.leorces.persistence.postgres.repository.query.history.DROP_PARTITION.DROP_PARTITION_QUERY;
+import static com.leorces.persistence.postgres.repository.query.history.DROP_UNPARTITIONED.DROP_UNPARTITIONED_QUERY;
+import static com.leorces.persistence.postgres.repository.query.history.EXISTS_UNPARTITIONED.EXISTS_UNPARTITIONED_QUERY;
+import static com.leorces.persistence.postgres.repository.query.history.FIND_PARTITIONS.FIND_PARTITIONS_QUERY;
+import static com.leorces.persistence.postgres.repository.query.history.FIND_UNPARTITIONED_RANGE.FIND_UNPARTITIONED_RANGE_QUERY;
+import static com.leorces.persistence.postgres.repository.query.history.IS_UNPARTITIONED.IS_UNPARTITIONED_QUERY;
+import static com.leorces.persistence.postgres.repository.query.history.LOCK_PARTITIONS.LOCK_PARTITIONS_QUERY;
+import static com.leorces.persistence.postgres.repository.query.history.MOVE_FROM_DEFAULT_PARTITION.MOVE_FROM_DEFAULT_PARTITION_QUERY;
+import static com.leorces.persistence.postgres.repository.query.history.MOVE_UNPARTITIONED.MOVE_UNPARTITIONED_QUERY;
+
+/**
+ * Keeps the range partitions of the {@code history} table.
+ * <p>
+ * Partitions for the current and the next {@code premake} periods are created at startup and whenever
+ * compaction reaches a period that is not covered yet. Rows that landed in the default partition while
+ * their period had no partition are moved into the new partition before it is attached.
+ * <p>
+ * Expired history is removed by dropping the partitions whose whole range is older than the retention
+ * cutoff, so no history rows are deleted one by one. Only rows left in the default partition are deleted.
+ * <p>
+ * The primary key of a partitioned table must contain the partition key, so {@code history_key} keeps
+ * {@code process_id} unique across partitions. Its rows are deleted together with the history they belong to.
+ * <p>
+ * History written before the table was partitioned is moved into the partitions of its periods at startup,
+ * a batch per transaction. It is listed again once it has been moved.
+ */
+@Slf4j
+@Component
+public class HistoryPartitionManager {
+
+    private static final String TABLE = "history";
+    private static final Pattern RANGE_BOUND = Pattern.compile("FROM \\('([^']+)'\\) TO \\('([^']+)'\\)");
+    private static final DateTimeFormatter BOUND_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final HistoryPartitionProperties properties;
+    private final TransactionTemplate newTransaction;
+
+    private volatile LocalDate ensuredPeriod;
+
+    public HistoryPartitionManager(NamedParameterJdbcTemplate jdbcTemplate,
+                                   HistoryPartitionProperties properties,
+                                   PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.properties = properties;
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        try {
+            ensureUpcoming(LocalDate.now());
+        } catch (Exception e) {
+            // History still goes to the default partition, creation is retried by the next compaction
+            log.warn("Failed to create upcoming history partitions", e);
+        }
+
+        try {
+            moveUnpartitioned();
+        } catch (Exception e) {
+            // Moved batches are committed, the remaining rows are moved on the next startup
+            log.warn("Failed to move history written before partitioning", e);
+        }
+    }
+
+    /**
+     * Creates the missing partitions of the current and the next {@code premake} periods in a transaction
+     * of their own. Does nothing until the next period starts once they were created.
+     */
+    public void ensureUpcoming(LocalDate today) {
+        // Checked again once the next period starts, which adds the partition of the period after the last one
+        var period = properties.interval().start(today);
+        if (period.equals(ensuredPeriod)) {
+            return;
+        }
+
+        newTransaction.executeWithoutResult(status -> createUpcoming(today));
+        ensuredPeriod = period;
+    }
+
+    /**
+     * Moves history written before the table was partitioned into the partitions of its periods and drops
+     * the old table once it is empty. Partitions are created for the periods that hold rows, then the rows
+     * are moved {@code moveBatchSize} at a time, each batch in a transaction of its own. Nodes starting
+     * at the same time share the work.
+     */
+    public void moveUnpartitioned() {
+        if (!Boolean.TRUE.equals(jdbcTemplate.getJdbcOperations().queryForObject(IS_UNPARTITIONED_QUERY, Boolean.class))) {
+            return;
+        }
+
+        newTransaction.executeWithoutResult(status -> createForUnpartitioned());
+        var parameters = new MapSqlParameterSource("limit", properties.moveBatchSize());
+        var moved = 0L;
+        int batch;
+        do {
+            batch = Optional.ofNullable(newTransaction.execute(status -> jdbcTemplate.update(MOVE_UNPARTITIONED_QUERY, parameters)))
+                    .orElse(0);
+            moved += batch;
+        } while (batch > 0);
+
+        log.info("Moved {} processes written before partitioning into history partitions", moved);
+        newTransaction.executeWithoutResult(status -> dropUnpartitionedIfEmpty());
+    }
+
+    /**
+     * Drops the partitions that only hold processes completed before the cutoff and deletes such processes
+     * from the default partition.
+     *
+     * @return the number of removed processes
+     */
+    @Transactional
+    public int dropExpired(LocalDateTime completedBefore) {
+        lock();
+        var removed = 0;
+        for (var partition : findPartitions()) {
+            if (partition.isExpired(completedBefore)) {
+                removed += drop(partition);
+            }
+        }
+
+        removed += jdbcTemplate.update(
+                DELETE_EXPIRED_FROM_DEFAULT_PARTITION_QUERY,
+                new MapSqlParameterSource("completedBefore", completedBefore)
+        );
+        return removed;
+    }
+
+    private void createUpcoming(LocalDate today) {
+        lock();
+        var interval = properties.interval();
+        var partitions = findPartitions();
+        var start = interval.start(today);
+        for (int i = 0; i <= properties.premake(); i++) {
+            createIfMissing(partitions, start);
+            start = interval.next(start);
+        }
+    }
+
+    private void createForUnpartitioned() {
+        lock();
+        var range = findUnpartitionedRange();
+        if (range.isEmpty()) {
+            return;
+        }
+
+        var interval = properties.interval();
+        var partitions = findPartitions();
+        var last = range.get().last().toLocalDate();
+        for (var start = interval.start(range.get().first().toLocalDate()); !start.isAfter(last); start = interval.next(start)) {
+            if (hasUnpartitioned(start.atStartOfDay(), interval.next(start).atStartOfDay())) {
+                createIfMissing(partitions, start);
+            }
+        }
+    }
+
+    private void dropUnpartitionedIfEmpty() {
+        lock();
+        // Rows still being moved by another node are visible here, that node drops the table after its last batch
+        if (findUnpartitionedRange().isEmpty()) {
+            log.info("Dropping history table written before partitioning");
+            jdbcTemplate.getJdbcOperations().execute(DROP_UNPARTITIONED_QUERY);
+        }
+    }
+
+    private void createIfMissing(List<HistoryPartition> partitions, LocalDate start) {
+        var from = start.atStartOfDay();
+        var to = properties.interval().next(start).atStartOfDay();
+        if (partitions.stream().noneMatch(partition -> partition.overlaps(from, to))) {
+            create(properties.interval().partitionName(TABLE, start), from, to);
+        }
+    }
+
+    private void create(String name, LocalDateTime from, LocalDateTime to) {
+        log.info("Creating history partition: {} from: {} to: {}", name, from, to);
+        var jdbc = jdbcTemplate.getJdbcOperations();
+        jdbc.execute(CREATE_PARTITION_QUERY.formatted(name));
+        var moved = jdbcTemplate.update(MOVE_FROM_DEFAULT_PARTITION_QUERY.formatted(name), range(from, to));
+        if (moved > 0) {
+            log.info("Moved {} processes from the default history partition to: {}", moved, name);
+        }
+        jdbc.execute(ATTACH_PARTITION_QUERY.formatted(name, BOUND_FORMAT.format(from), BOUND_FORMAT.format(to)));
+    }
+
+    private int drop(HistoryPartition partition) {
+        var jdbc = jdbcTemplate.getJdbcOperations();
+        var count = jdbcTemplate.update(DELETE_PARTITION_KEYS_QUERY, range(partition.from(), partition.to()));
+        log.info("Dropping history partition: {} with {} processes completed before: {}", partition.name(), count, partition.to());
+        jdbc.execute(DETACH_PARTITION_QUERY.formatted(partition.name()));
+        jdbc.execute(DROP_PARTITION_QUERY.formatted(partition.name()));
+        return count;
+    }
+
+    private void lock() {
+        jdbcTemplate.getJdbcOperations().execute(LOCK_PARTITIONS_QUERY);
+    }
+
+    private Optional<CompletionRange> findUnpartitionedRange() {
+        var range = jdbcTemplate.getJdbcOperations().queryForObject(
+                FIND_UNPARTITIONED_RANGE_QUERY,
+                (rs, rowNum) -> new CompletionRange(
+                        rs.getObject("min_completed_at", LocalDateTime.class),
+                        rs.getObject("max_completed_at", LocalDateTime.class)
+                )
+        );
+        // MIN and MAX of an empty table are null
+        return Optional.ofNullable(range).filter(found -> found.first() != null);
+    }
+
+    private boolean hasUnpartitioned(LocalDateTime from, LocalDateTime to) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(EXISTS_UNPARTITIONED_QUERY, range(from, to), Boolean.class));
+    }
+
+    private List<HistoryPartition> findPartitions() {
+        return jdbcTemplate.getJdbcOperations().query(
+                        FIND_PARTITIONS_QUERY,
+                        (rs, rowNum) -> toPartition(rs.getString("partition_name"), rs.getString("partition_bound"))
+                ).stream()
+                .flatMap(Optional::stream)
+                .toList();
+    }
+
+    // The default partition has no range and is never dropped
+    private static Optional<HistoryPartition> toPartition(String name, String bound) {
+        var matcher = RANGE_BOUND.matcher(bound);
+        if (!matcher.find()) {
+            return Optional.empty();
+        }
+        return Optional.of(new HistoryPartition(name, parseBound(matcher.group(1)), parseBound(matcher.group(2))));
+    }
+
+    private static MapSqlParameterSource range(LocalDateTime from, LocalDateTime to) {
+        return new MapSqlParameterSource()
+                .addValue("from", from)
+                .addValue("to", to);
+    }
+
+    private static LocalDateTime parseBound(String bound) {
+        return LocalDateTime.parse(bound, BOUND_FORMAT);
+    }
+
+    private record CompletionRange(LocalDateTime first, LocalDateTime last) {
+
+    }
+
+}
@@ -0,0 +1,53 @@
+package com.leorces.persistence.postgres.partition;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalAdjusters;
+
+public enum PartitionInterval {
+
+    DAY(DateTimeFormatter.ofPattern("yyyy_MM_dd")) {
+        @Override
+        public LocalDate start(LocalDate date) {
+            return date;
+        }
+
+        @Override
+        public LocalDate next(LocalDate start) {
+            return start.plusDays(1);
+        }
+    },
+
+    MONTH(DateTimeFormatter.ofPattern("yyyy_MM")) {
+        @Override
+        public LocalDate start(LocalDate date) {
+            return date.with(TemporalAdjusters.firstDayOfMonth());
+        }
+
+        @Override
+        public LocalDate next(LocalDate start) {
+            return start.plusMonths(1);
+        }
+    };
+
+    private final DateTimeFormatter suffix;
+
+    PartitionInterval(DateTimeFormatter suffix) {
+        this.suffix = suffix;
+    }
+
+    /**
+     * Returns the first day of the period that contains the date.
+     */
+    public abstract LocalDate start(LocalDate date);
+
+    /**
+     * Returns the first day of the period after the one starting at {@code start}.
+     */
+    public abstract LocalDate next(LocalDate start);
+
+    public String partitionName(String table, LocalDate start) {
+        return table + "_p" + suffix.format(start);
+    }
+
+}
@@ -10,20 +10,30 @@ import org.springframework.stereotype.Repository;
 import java.util.List;
 import java.util.Optional;
 
+import static com.leorces.persistence.postgres.repository.query.activity.ADD_INSTANCES.ADD_INSTANCES_QUERY;
 import static com.leorces.persistence.postgres.repository.query.activity.CHANGE_STATE.CHANGE_STATE_QUERY;
+import static com.leorces.persistence.postgres.repository.query.activity.CLAIM_TIMED_OUT.CLAIM_TIMED_OUT_QUERY;
+import static com.leorces.persistence.postgres.repository.query.activity.COMPLETE_INSTANCE.COMPLETE_INSTANCE_QUERY;
+import static com.leorces.persistence.postgres.repository.query.activity.CREATE_JOINS.CREATE_JOINS_QUERY;
 import static com.leorces.persistence.postgres.repository.query.activity.DELETE_ALL_ACTIVE_BY_DEFINITION_IDS.DELETE_ALL_ACTIVE_BY_DEFINITION_IDS_QUERY;
+import static com.leorces.persistence.postgres.repository.query.activity.DELETE_ALL_BY_PROCESS_IDS.DELETE_ALL_BY_PROCESS_IDS_QUERY;
+import static com.leorces.persistence.postgres.repository.query.activity.DELETE_ALL_JOINS_BY_PROCESS_IDS.DELETE_ALL_JOINS_BY_PROCESS_IDS_QUERY;
 import static com.leorces.persistence.postgres.repository.query.activity.FIND_ALL_ACTIVE_BY_DEFINITION_IDS.FIND_ALL_ACTIVE_BY_DEFINITION_IDS_QUERY;
 import static com.leorces.persistence.postgres.repository.query.activity.FIND_ALL_ACTIVE_BY_PROCESS_ID.FIND_ALL_ACTIVE_BY_PROCESS_ID_QUERY;
 import static com.leorces.persistence.postgres.repository.query.activity.FIND_ALL_BY_IDS.FIND_ALL_BY_IDS_QUERY;
 import static com.leorces.persistence.postgres.repository.query.activity.FIND_ALL_BY_PROCESS_ID.FIND_ALL_BY_PROCESS_ID_QUERY;
 import static com.leorces.persistence.postgres.repository.query.activity.FIND_ALL_FAILED_BY_PROCESS_ID.FIND_ALL_FAILED_BY_PROCESS_ID_QUERY;
+import static com.leorces.persistence.postgres.repository.query.activity.FIND_ALL_WITH_VARIABLES_BY_IDS.FIND_ALL_WITH_VARIABLES_BY_IDS_QUERY;
 import static com.leorces.persistence.postgres.repository.query.activity.FIND_BY_DEFINITION_ID.FIND_BY_DEFINITION_ID_QUERY;
 import static com.leorces.persistence.postgres.repository.query.activity.FIND_BY_ID.FIND_BY_ID_QUERY;
-import static com.leorces.persistence.postgres.repository.query.activity.FIND_TIMED_OUT.FIND_TIMED_OUT_QUERY;
+import static com.leorces.persistence.postgres.repository.query.activity.FIND_INSTANCE_BODY.FIND_INSTANCE_BODY_QUERY;
 import static com.leorces.persistence.postgres.repository.query.activity.IS_ALL_COMPLETED_BY_DEFINITION_IDS.IS_ALL_COMPLETED_BY_DEFINITION_IDS_QUERY;
 import static com.leorces.persistence.postgres.repository.query.activity.IS_ALL_COMPLETED_BY_PROCESS_ID.IS_ALL_COMPLETED_BY_PROCESS_ID_QUERY;
 import static com.leorces.persistence.postgres.repository.query.activity.IS_ANY_FAILED.IS_ANY_FAILED_QUERY;
+import static com.leorces.persistence.postgres.repository.query.activity.JOIN.JOIN_QUERY;
 import static com.leorces.persistence.postgres.repository.query.activity.POLL.POLL_QUERY;
+import static com.leorces.persistence.postgres.repository.query.activity.POLL_ALL.POLL_ALL_QUERY;
+import static com.leorces.persistence.postgres.repository.query.activity.START_INSTANCES.START_INSTANCES_QUERY;
 
 @Repository
 public interface ActivityRepository extends CrudRepository<ActivityExecutionEntity, String> {
@@ -40,9 +50,17 @@ public interface ActivityRepository extends CrudRepository<ActivityExecutionEnti
                                        @Param("processDefinitionKey") String processDefinitionKey,
                                        @Param("limit") int limit);
 
+    @Query(POLL_ALL_QUERY)
+    List<ActivityExecutionEntity> pollAll(@Param("topics") String[] topics,
+                                          @Param("processDefinitionKeys") String[] processDefinitionKeys,
+                                          @Param("limits") Integer[] limits);
+
     @Query(FIND_ALL_BY_IDS_QUERY)
     List<ActivityExecutionEntity> findAllByIds(@Param("ids") String[] activityIds);
 
+    @Query(FIND_ALL_WITH_VARIABLES_BY_IDS_QUERY)
+    List<ActivityExecutionEntity> findAllWithVariablesByIds(@Param("ids") String[] activityIds);
+
     @Query(FIND_ALL_BY_PROCESS_ID_QUERY)
     List<ActivityExecutionEntity> findAllByProcessId(@Param("processId") String processId);
 
@@ -56,8 +74,9 @@ public interface ActivityRepository extends CrudRepository<ActivityExecutionEnti
     @Query(FIND_ALL_FAILED_BY_PROCESS_ID_QUERY)
     List<ActivityExecutionEntity> findFailed(@Param("processId") String processId);
 
-    @Query(FIND_TIMED_OUT_QUERY)
-    List<ActivityExecutionEntity> findTimedOut(@Param("limit") int limit);
+    @Query(CLAIM_TIMED_OUT_QUERY)
+    List<ActivityExecutionEntity> claimTimedOut(@Param("limit") int limit,
+                                                @Param("leaseSeconds") long leaseSeconds);
 
     @Query(IS_ANY_FAILED_QUERY)
     boolean isAnyFailed(@Param("processId") String processId);
@@ -69,11 +88,49 @@ public interface ActivityRepository extends CrudRepository<ActivityExecutionEnti
     boolean isAllCompleted(@Param("processId") String processId,
                            @Param("definitionIds") String[] definitionIds);
 
+    @Modifying
+    @Query(CREATE_JOINS_QUERY)
+    void createJoins(@Param("processIds") String[] processIds,
+                     @Param("definitionIds") String[] definitionIds);
+
+    @Query(JOIN_QUERY)
+    long join(@Param("processId") String processId,
+              @Param("definitionId") String definitionId,
+              @Param("arrivalId") String arrivalId);
+
+    @Modifying
+    @Query(START_INSTANCES_QUERY)
+    void startInstances(@Param("processId") String processId,
+                        @Param("bodyId") String bodyId,
+                        @Param("count") long count);
+
+    @Modifying
+    @Query(ADD_INSTANCES_QUERY)
+    void addInstances(@Param("processId") String processId,
+                      @Param("bodyId") String bodyId,
+                      @Param("instanceIds") String[] instanceIds);
+
+    @Query(COMPLETE_INSTANCE_QUERY)
+    Optional<Long> completeInstance(@Param("processId") String processId,
+                                    @Param("instanceId") String instanceId);
+
+    @Query(FIND_INSTANCE_BODY_QUERY)
+    Optional<String> findInstanceBody(@Param("processId") String processId,
+                                      @Param("instanceId") String instanceId);
+
     @Modifying
     @Query(CHANGE_STATE_QUERY)
     void changeState(@Param("activityId") String activityId,
                      @Param("state") String state);
 
+    @Modifying
+    @Query(DELETE_ALL_BY_PROCESS_IDS_QUERY)
+    void deleteAllByProcessIds(@Param("processIds") String[] processIds);
+
+    @Modifying
+    @Query(DELETE_ALL_JOINS_BY_PROCESS_IDS_QUERY)
+    void deleteAllJoinsByProcessIds(@Param("processIds") String[] processIds);
+
     @Query(DELETE_ALL_ACTIVE_BY_DEFINITION_IDS_QUERY)
     List<String> deleteAllActive(@Param("processId") String activityId,
                                  @Param("definitionIds") String[] definitionIds);
@@ -13,6 +13,7 @@ import java.util.List;
 import java.util.Optional;
 
 import static com.leorces.persistence.postgres.repository.query.definition.COUNT_ALL_WITH_FILTERS.COUNT_ALL_WITH_FILTERS_QUERY;
+import static com.leorces.persistence.postgres.repository.query.definition.FIND_ALL_BY_IDS.FIND_ALL_BY_IDS_QUERY;
 import static com.leorces.persistence.postgres.repository.query.definition.FIND_ALL_WITH_PAGINATION.FIND_ALL_WITH_PAGINATION_QUERY;
 import static com.leorces.persistence.postgres.repository.query.definition.FIND_BY_KEY_AND_VERSION.FIND_BY_KEY_AND_VERSION_QUERY;
 import static com.leorces.persistence.postgres.repository.query.definition.FIND_FULL_BY_ID.FIND_FULL_BY_ID_QUERY;
@@ -28,6 +29,9 @@ public interface DefinitionRepository extends CrudRepository<ProcessDefinitionEn
     @Query(FIND_FULL_BY_ID_QUERY)
     Optional<ProcessDefinitionEntity> findFullById(@Param("definitionId") String id);
 
+    @Query(FIND_ALL_BY_IDS_QUERY)
+    List<ProcessDefinitionEntity> findAllByIds(@Param("definitionIds") String[] definitionIds);
+
     @Query(FIND_LATEST_BY_KEY_QUERY)
     Optional<ProcessDefinitionEntity> findLatestByKey(@Param("definitionKey") String definitionKey);
 
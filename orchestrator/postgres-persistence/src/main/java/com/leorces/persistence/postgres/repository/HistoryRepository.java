@@ -1,5 +1,6 @@
 package com.leorces.persistence.postgres.repository;
 
+import com.leorces.model.pagination.PageCursor;
 import com.leorces.model.pagination.Pageable;
 import com.leorces.model.pagination.PageableData;
 import com.leorces.persistence.postgres.entity.HistoryEntity;
@@ -8,8 +9,13 @@ import org.springframework.data.repository.CrudRepository;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
+import static com.leorces.persistence.postgres.repository.query.history.COUNT_CAPPED.COUNT_CAPPED_QUERY;
+import static com.leorces.persistence.postgres.repository.query.history.ESTIMATE_COUNT.ESTIMATE_COUNT_QUERY;
+import static com.leorces.persistence.postgres.repository.query.history.FIND_ALL_AFTER.FIND_ALL_AFTER_QUERY;
 import static com.leorces.persistence.postgres.repository.query.history.FIND_ALL_WITH_PAGINATION.FIND_ALL_WITH_PAGINATION_QUERY;
 
 @Repository
@@ -19,11 +25,33 @@ public interface HistoryRepository extends CrudRepository<HistoryEntity, String>
     List<HistoryEntity> findAllWithPagination(@Param("offset") long offset,
                                               @Param("limit") int limit);
 
+    @Query(FIND_ALL_AFTER_QUERY)
+    List<HistoryEntity> findAllAfter(@Param("afterCreatedAt") LocalDateTime afterCreatedAt,
+                                     @Param("afterId") String afterId,
+                                     @Param("limit") int limit);
+
+    @Query(COUNT_CAPPED_QUERY)
+    long countCapped(@Param("cap") long cap);
+
+    @Query(ESTIMATE_COUNT_QUERY)
+    Long estimateCount();
+
     default PageableData<HistoryEntity> findAll(Pageable pageable) {
-        var data = findAllWithPagination(pageable.offset(), pageable.limit());
-        var total = count();
+        var data = pageable.isKeyset()
+                ? findAllAfter(pageable.after().createdAt(), pageable.after().id(), pageable.limit())
+                : findAllWithPagination(pageable.offset(), pageable.limit());
+
+        return PageableData.of(data, countAll(pageable), pageable.limit(), history -> new PageCursor(history.getCreatedAt(), history.getProcessId()));
+    }
 
-        return new PageableData<>(data, total);
+    // History listings are not filtered
+    default long countAll(Pageable pageable) {
+        return switch (pageable.totalOrDefault()) {
+            case EXACT -> count();
+            case CAPPED -> countCapped(Pageable.TOTAL_CAP);
+            case ESTIMATED -> Optional.ofNullable(estimateCount())
+                    .orElseGet(() -> countCapped(Pageable.TOTAL_CAP));
+        };
     }
 
 }
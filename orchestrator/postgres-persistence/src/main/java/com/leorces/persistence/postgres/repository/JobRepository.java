@@ -1,5 +1,6 @@
 package com.leorces.persistence.postgres.repository;
 
+import com.leorces.model.pagination.PageCursor;
 import com.leorces.model.pagination.Pageable;
 import com.leorces.model.pagination.PageableData;
 import com.leorces.persistence.postgres.entity.JobEntity;
@@ -8,9 +9,14 @@ import org.springframework.data.repository.CrudRepository;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 import static com.leorces.persistence.postgres.repository.query.job.COUNT_ALL_WITH_FILTERS.COUNT_ALL_WITH_FILTERS_QUERY;
+import static com.leorces.persistence.postgres.repository.query.job.COUNT_CAPPED_WITH_FILTERS.COUNT_CAPPED_WITH_FILTERS_QUERY;
+import static com.leorces.persistence.postgres.repository.query.job.ESTIMATE_COUNT.ESTIMATE_COUNT_QUERY;
+import static com.leorces.persistence.postgres.repository.query.job.FIND_ALL_AFTER.FIND_ALL_AFTER_QUERY;
 import static com.leorces.persistence.postgres.repository.query.job.FIND_ALL_WITH_PAGINATION.FIND_ALL_WITH_PAGINATION_QUERY;
 
 @Repository
@@ -24,24 +30,40 @@ public interface JobRepository extends CrudRepository<JobEntity, String> {
                                           @Param("filter") String filter,
                                           @Param("state") String state);
 
+    @Query(FIND_ALL_AFTER_QUERY)
+    List<JobEntity> findAllAfter(@Param("afterCreatedAt") LocalDateTime afterCreatedAt,
+                                 @Param("afterId") String afterId,
+                                 @Param("limit") int limit,
+                                 @Param("filter") String filter,
+                                 @Param("state") String state);
+
     @Query(COUNT_ALL_WITH_FILTERS_QUERY)
     long countAllWithFilters(@Param("filter") String filter, @Param("state") String state);
 
+    @Query(COUNT_CAPPED_WITH_FILTERS_QUERY)
+    long countCappedWithFilters(@Param("filter") String filter, @Param("state") String state, @Param("cap") long cap);
+
+    @Query(ESTIMATE_COUNT_QUERY)
+    Long estimateCount();
+
     default PageableData<JobEntity> findAll(Pageable pageable) {
         var orderName = pageable.order() != null ? pageable.order().name() : "DESC";
         var sortField = pageable.sortByField() != null ? pageable.sortByField() : "job_created_at";
 
-        var data = findAllWithPagination(
-                pageable.offset(),
-                pageable.limit(),
-                orderName,
-                sortField,
-                pageable.filter(),
-                pageable.state()
-        );
-
-        var total = countAllWithFilters(pageable.filter(), pageable.state());
-        return new PageableData<>(data, total);
+        var data = pageable.isKeyset()
+                ? findAllAfter(pageable.after().createdAt(), pageable.after().id(), pageable.limit(), pageable.filter(), pageable.state())
+                : findAllWithPagination(pageable.offset(), pageable.limit(), orderName, sortField, pageable.filter(), pageable.state());
+
+        return PageableData.of(data, countAll(pageable), pageable.limit(), job -> new PageCursor(job.getCreatedAt(), job.getId()));
+    }
+
+    default long countAll(Pageable pageable) {
+        return switch (pageable.totalOrDefault()) {
+            case EXACT -> countAllWithFilters(pageable.filter(), pageable.state());
+            case CAPPED -> countCappedWithFilters(pageable.filter(), pageable.state(), Pageable.TOTAL_CAP);
+            case ESTIMATED -> Optional.ofNullable(pageable.isFiltered() ? null : estimateCount())
+                    .orElseGet(() -> countCappedWithFilters(pageable.filter(), pageable.state(), Pageable.TOTAL_CAP));
+        };
     }
 
 }
@@ -0,0 +1,76 @@
+package com.leorces.persistence.postgres.repository;
+
+import com.leorces.persistence.postgres.entity.MessageCorrelationEntity;
+import com.leorces.persistence.postgres.entity.MessageSubscriptionEntity;
+import org.springframework.data.jdbc.repository.query.Modifying;
+import org.springframework.data.jdbc.repository.query.Query;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.leorces.persistence.postgres.repository.query.subscription.CANCEL.CANCEL_QUERY;
+import static com.leorces.persistence.postgres.repository.query.subscription.CANCEL_ALL.CANCEL_ALL_QUERY;
+import static com.leorces.persistence.postgres.repository.query.subscription.DELETE_ALL_BY_PROCESS_IDS.DELETE_ALL_BY_PROCESS_IDS_QUERY;
+import static com.leorces.persistence.postgres.repository.query.subscription.FIND_BY_MESSAGE.FIND_BY_MESSAGE_QUERY;
+import static com.leorces.persistence.postgres.repository.query.subscription.FIND_BY_MESSAGE_AND_BUSINESS_KEY.FIND_BY_MESSAGE_AND_BUSINESS_KEY_QUERY;
+import static com.leorces.persistence.postgres.repository.query.subscription.FIND_BY_MESSAGE_AND_VARIABLES.FIND_BY_MESSAGE_AND_VARIABLES_QUERY;
+import static com.leorces.persistence.postgres.repository.query.subscription.FIND_BY_MESSAGES.FIND_BY_MESSAGES_QUERY;
+import static com.leorces.persistence.postgres.repository.query.subscription.INSERT_ALL.INSERT_ALL_QUERY;
+
+@Repository
+public interface MessageSubscriptionRepository extends CrudRepository<MessageSubscriptionEntity, String> {
+
+    @Modifying
+    @Query(INSERT_ALL_QUERY)
+    void insertAll(@Param("ids") String[] ids,
+                   @Param("processIds") String[] processIds,
+                   @Param("businessKeys") String[] businessKeys,
+                   @Param("messageNames") String[] messageNames,
+                   @Param("definitionIds") String[] definitionIds,
+                   @Param("activityDefinitionIds") String[] activityDefinitionIds,
+                   @Param("createdAt") LocalDateTime createdAt);
+
+    @Query(FIND_BY_MESSAGE_QUERY)
+    List<MessageSubscriptionEntity> findByMessage(@Param("messageName") String messageName,
+                                                  @Param("limit") int limit);
+
+    @Query(FIND_BY_MESSAGE_AND_VARIABLES_QUERY)
+    List<MessageSubscriptionEntity> findByMessageAndVariables(@Param("messageName") String messageName,
+                                                              @Param("variableKeys") String[] variableKeys,
+                                                              @Param("variableValues") String[] variableValues,
+                                                              @Param("variableCount") int variableCount,
+                                                              @Param("limit") int limit);
+
+    @Query(FIND_BY_MESSAGE_AND_BUSINESS_KEY_QUERY)
+    List<MessageSubscriptionEntity> findByMessage(@Param("messageName") String messageName,
+                                                  @Param("businessKey") String businessKey,
+                                                  @Param("variableKeys") String[] variableKeys,
+                                                  @Param("variableValues") String[] variableValues,
+                                                  @Param("variableCount") int variableCount,
+                                                  @Param("limit") int limit);
+
+    @Query(FIND_BY_MESSAGES_QUERY)
+    List<MessageCorrelationEntity> findByMessages(@Param("messageNames") String[] messageNames,
+                                                  @Param("businessKeys") String[] businessKeys,
+                                                  @Param("keyPositions") Integer[] keyPositions,
+                                                  @Param("variableKeys") String[] variableKeys,
+                                                  @Param("variableValues") String[] variableValues,
+                                                  @Param("limit") int limit);
+
+    @Modifying
+    @Query(CANCEL_QUERY)
+    void cancel(@Param("processId") String processId,
+                @Param("activityDefinitionId") String activityDefinitionId);
+
+    @Modifying
+    @Query(CANCEL_ALL_QUERY)
+    void cancelAll(@Param("processId") String processId);
+
+    @Modifying
+    @Query(DELETE_ALL_BY_PROCESS_IDS_QUERY)
+    void deleteAllByProcessIds(@Param("processIds") String[] processIds);
+
+}
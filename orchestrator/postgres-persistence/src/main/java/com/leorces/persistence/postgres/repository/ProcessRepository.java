@@ -1,5 +1,6 @@
 package com.leorces.persistence.postgres.repository;
 
+import com.leorces.model.pagination.PageCursor;
 import com.leorces.model.pagination.Pageable;
 import com.leorces.model.pagination.PageableData;
 import com.leorces.persistence.postgres.entity.ProcessEntity;
@@ -10,6 +11,7 @@ import org.springframework.data.repository.CrudRepository;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,14 +19,21 @@ import static com.leorces.persistence.postgres.repository.query.process.BATCH_UP
 import static com.leorces.persistence.postgres.repository.query.process.CHANGE_STATE.CHANGE_STATE_QUERY;
 import static com.leorces.persistence.postgres.repository.query.process.COMPLETE.COMPLETE_QUERY;
 import static com.leorces.persistence.postgres.repository.query.process.COUNT_ALL_WITH_FILTERS.COUNT_ALL_WITH_FILTERS_QUERY;
+import static com.leorces.persistence.postgres.repository.query.process.COUNT_CAPPED_WITH_FILTERS.COUNT_CAPPED_WITH_FILTERS_QUERY;
 import static com.leorces.persistence.postgres.repository.query.process.DELETE.DELETE_QUERY;
+import static com.leorces.persistence.postgres.repository.query.process.DELETE_ALL_BY_IDS.DELETE_ALL_BY_IDS_QUERY;
+import static com.leorces.persistence.postgres.repository.query.process.ESTIMATE_COUNT.ESTIMATE_COUNT_QUERY;
+import static com.leorces.persistence.postgres.repository.query.process.FIND_ALL_AFTER.FIND_ALL_AFTER_QUERY;
 import static com.leorces.persistence.postgres.repository.query.process.FIND_ALL_BY_FILTERS.FIND_ALL_BY_FILTERS_QUERY;
+import static com.leorces.persistence.postgres.repository.query.process.FIND_ALL_BY_IDS.FIND_ALL_BY_IDS_QUERY;
+import static com.leorces.persistence.postgres.repository.query.process.FIND_ALL_EXECUTIONS_BY_IDS.FIND_ALL_EXECUTIONS_BY_IDS_QUERY;
 import static com.leorces.persistence.postgres.repository.query.process.FIND_ALL_FULLY_COMPLETED_FOR_UPDATE.FIND_ALL_FULLY_COMPLETED_FOR_UPDATE_QUERY;
 import static com.leorces.persistence.postgres.repository.query.process.FIND_ALL_WITH_PAGINATION.FIND_ALL_WITH_PAGINATION_QUERY;
 import static com.leorces.persistence.postgres.repository.query.process.FIND_BY_ID.FIND_BY_ID_QUERY;
 import static com.leorces.persistence.postgres.repository.query.process.FIND_EXECUTIONS_FOR_UPDATE.FIND_EXECUTIONS_FOR_UPDATE_QUERY;
 import static com.leorces.persistence.postgres.repository.query.process.FIND_EXECUTION_BY_ID.FIND_EXECUTION_BY_ID_QUERY;
 import static com.leorces.persistence.postgres.repository.query.process.INCIDENT.INCIDENT_QUERY;
+import static com.leorces.persistence.postgres.repository.query.process.LOCK_FULLY_COMPLETED.LOCK_FULLY_COMPLETED_QUERY;
 import static com.leorces.persistence.postgres.repository.query.process.RESUME_BY_DEFINITION_ID.RESUME_BY_DEFINITION_ID_QUERY;
 import static com.leorces.persistence.postgres.repository.query.process.RESUME_BY_DEFINITION_KEY.RESUME_BY_DEFINITION_KEY_QUERY;
 import static com.leorces.persistence.postgres.repository.query.process.RESUME_BY_ID.RESUME_BY_ID_QUERY;
@@ -41,6 +50,9 @@ public interface ProcessRepository extends CrudRepository<ProcessEntity, String>
     @Query(FIND_BY_ID_QUERY)
     Optional<ProcessEntity> findById(@Param("processId") String processId);
 
+    @Query(FIND_ALL_BY_IDS_QUERY)
+    List<ProcessEntity> findAllByIds(@Param("processIds") String[] processIds);
+
     @Query(FIND_ALL_WITH_PAGINATION_QUERY)
     List<ProcessEntity> findAllWithPagination(@Param("offset") long offset,
                                               @Param("limit") int limit,
@@ -49,6 +61,13 @@ public interface ProcessRepository extends CrudRepository<ProcessEntity, String>
                                               @Param("filter") String filter,
                                               @Param("state") String state);
 
+    @Query(FIND_ALL_AFTER_QUERY)
+    List<ProcessEntity> findAllAfter(@Param("afterCreatedAt") LocalDateTime afterCreatedAt,
+                                     @Param("afterId") String afterId,
+                                     @Param("limit") int limit,
+                                     @Param("filter") String filter,
+                                     @Param("state") String state);
+
     @Query(FIND_ALL_BY_FILTERS_QUERY)
     List<ProcessEntity> findAll(@Param("processId") String processId,
                                 @Param("processDefinitionKey") String processDefinitionKey,
@@ -68,9 +87,25 @@ public interface ProcessRepository extends CrudRepository<ProcessEntity, String>
     @Query(FIND_ALL_FULLY_COMPLETED_FOR_UPDATE_QUERY)
     List<ProcessExecutionEntity> findAllFullyCompletedForUpdate(@Param("limit") int limit);
 
+    @Query(LOCK_FULLY_COMPLETED_QUERY)
+    List<String> lockFullyCompleted(@Param("limit") int limit);
+
+    @Query(FIND_ALL_EXECUTIONS_BY_IDS_QUERY)
+    List<ProcessExecutionEntity> findAllExecutionsByIds(@Param("processIds") String[] processIds);
+
+    @Modifying
+    @Query(DELETE_ALL_BY_IDS_QUERY)
+    void deleteAllByIds(@Param("processIds") String[] processIds);
+
     @Query(COUNT_ALL_WITH_FILTERS_QUERY)
     long countAllWithFilters(@Param("filter") String filter, @Param("state") String state);
 
+    @Query(COUNT_CAPPED_WITH_FILTERS_QUERY)
+    long countCappedWithFilters(@Param("filter") String filter, @Param("state") String state, @Param("cap") long cap);
+
+    @Query(ESTIMATE_COUNT_QUERY)
+    Long estimateCount();
+
     @Modifying
     @Query(CHANGE_STATE_QUERY)
     void changeState(@Param("processId") String processId, @Param("state") String state);
@@ -135,17 +170,20 @@ public interface ProcessRepository extends CrudRepository<ProcessEntity, String>
 
     default PageableData<ProcessEntity> findAll(Pageable pageable) {
         var orderName = pageable.order() != null ? pageable.order().name() : Pageable.Direction.DESC.name();
-        var data = findAllWithPagination(
-                pageable.offset(),
-                pageable.limit(),
-                orderName,
-                pageable.sortByField(),
-                pageable.filter(),
-                pageable.state()
-        );
-        var total = countAllWithFilters(pageable.filter(), pageable.state());
-
-        return new PageableData<>(data, total);
+        var data = pageable.isKeyset()
+                ? findAllAfter(pageable.after().createdAt(), pageable.after().id(), pageable.limit(), pageable.filter(), pageable.state())
+                : findAllWithPagination(pageable.offset(), pageable.limit(), orderName, pageable.sortByField(), pageable.filter(), pageable.state());
+
+        return PageableData.of(data, countAll(pageable), pageable.limit(), process -> new PageCursor(process.getCreatedAt(), process.getId()));
+    }
+
+    default long countAll(Pageable pageable) {
+        return switch (pageable.totalOrDefault()) {
+            case EXACT -> countAllWithFilters(pageable.filter(), pageable.state());
+            case CAPPED -> countCappedWithFilters(pageable.filter(), pageable.state(), Pageable.TOTAL_CAP);
+            case ESTIMATED -> Optional.ofNullable(pageable.isFiltered() ? null : estimateCount())
+                    .orElseGet(() -> countCappedWithFilters(pageable.filter(), pageable.state(), Pageable.TOTAL_CAP));
+        };
     }
 
 }
@@ -0,0 +1,44 @@
+package com.leorces.persistence.postgres.repository;
+
+import com.leorces.persistence.postgres.entity.TimerEntity;
+import org.springframework.data.jdbc.repository.query.Modifying;
+import org.springframework.data.jdbc.repository.query.Query;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.leorces.persistence.postgres.repository.query.timer.CANCEL.CANCEL_QUERY;
+import static com.leorces.persistence.postgres.repository.query.timer.CLAIM.CLAIM_QUERY;
+import static com.leorces.persistence.postgres.repository.query.timer.DELETE_ALL_BY_IDS.DELETE_ALL_BY_IDS_QUERY;
+import static com.leorces.persistence.postgres.repository.query.timer.FIND_DUE.FIND_DUE_QUERY;
+import static com.leorces.persistence.postgres.repository.query.timer.FIND_DUE_AFTER.FIND_DUE_AFTER_QUERY;
+
+@Repository
+public interface TimerRepository extends CrudRepository<TimerEntity, String> {
+
+    @Query(FIND_DUE_QUERY)
+    List<TimerEntity> findDue(@Param("until") LocalDateTime until,
+                              @Param("limit") int limit);
+
+    @Query(FIND_DUE_AFTER_QUERY)
+    List<TimerEntity> findDueAfter(@Param("afterDueAt") LocalDateTime afterDueAt,
+                                   @Param("afterId") String afterId,
+                                   @Param("until") LocalDateTime until,
+                                   @Param("limit") int limit);
+
+    @Query(CLAIM_QUERY)
+    List<TimerEntity> claim(@Param("ids") String[] timerIds,
+                            @Param("leaseSeconds") long leaseSeconds);
+
+    @Modifying
+    @Query(DELETE_ALL_BY_IDS_QUERY)
+    void deleteAllByIds(@Param("ids") String[] timerIds);
+
+    @Modifying
+    @Query(CANCEL_QUERY)
+    void cancel(@Param("activityId") String activityId);
+
+}
@@ -0,0 +1,31 @@
+package com.leorces.persistence.postgres.repository;
+
+import com.leorces.persistence.postgres.entity.VariableBlobEntity;
+import org.springframework.data.jdbc.repository.query.Modifying;
+import org.springframework.data.jdbc.repository.query.Query;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+import static com.leorces.persistence.postgres.repository.query.variable.DELETE_ALL_BLOBS_BY_IDS.DELETE_ALL_BLOBS_BY_IDS_QUERY;
+import static com.leorces.persistence.postgres.repository.query.variable.FIND_ALL_BLOBS_BY_IDS.FIND_ALL_BLOBS_BY_IDS_QUERY;
+import static com.leorces.persistence.postgres.repository.query.variable.UPSERT_ALL_BLOBS.UPSERT_ALL_BLOBS_QUERY;
+
+@Repository
+public interface VariableBlobRepository extends CrudRepository<VariableBlobEntity, String> {
+
+    @Query(FIND_ALL_BLOBS_BY_IDS_QUERY)
+    List<VariableBlobEntity> findAllByIds(@Param("ids") String[] ids);
+
+    @Modifying
+    @Query(UPSERT_ALL_BLOBS_QUERY)
+    void upsertAll(@Param("ids") String[] ids,
+                   @Param("values") String[] values);
+
+    @Modifying
+    @Query(DELETE_ALL_BLOBS_BY_IDS_QUERY)
+    void deleteAllByIds(@Param("ids") String[] ids);
+
+}
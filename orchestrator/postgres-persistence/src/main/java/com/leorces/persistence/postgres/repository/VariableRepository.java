@@ -7,13 +7,16 @@ import org.springframework.data.repository.CrudRepository;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
+import static com.leorces.persistence.postgres.repository.query.variable.DELETE_ALL_BY_PROCESS_IDS.DELETE_ALL_BY_PROCESS_IDS_QUERY;
 import static com.leorces.persistence.postgres.repository.query.variable.DELETE_BY_EXECUTION_ID.DELETE_BY_PROCESS_ID_QUERY;
 import static com.leorces.persistence.postgres.repository.query.variable.DELETE_BY_EXECUTION_IDS.DELETE_BY_PROCESS_IDS_QUERY;
 import static com.leorces.persistence.postgres.repository.query.variable.FIND_ALL_PROCESS_SCOPE_VARIABLES.FIND_ALL_PROCESS_SCOPE_VARIABLES_QUERY;
 import static com.leorces.persistence.postgres.repository.query.variable.FIND_ALL_PROCESS_VARIABLES.FIND_ALL_PROCESS_VARIABLES_QUERY;
 import static com.leorces.persistence.postgres.repository.query.variable.FIND_ALL_VARIABLES_WITHIN_SCOPE.FIND_ALL_VARIABLES_WITHIN_SCOPE_QUERY;
+import static com.leorces.persistence.postgres.repository.query.variable.INSERT_ALL.INSERT_ALL_QUERY;
 import static com.leorces.persistence.postgres.repository.query.variable.UPDATE_DEFINITION_ID.UPDATE_DEFINITION_ID_QUERY;
 
 @Repository
@@ -30,6 +33,18 @@ public interface VariableRepository extends CrudRepository<VariableEntity, Strin
     @Query(FIND_ALL_PROCESS_VARIABLES_QUERY)
     List<VariableEntity> findInProcess(@Param("processId") String processId);
 
+    @Modifying
+    @Query(INSERT_ALL_QUERY)
+    void insertAll(@Param("ids") String[] ids,
+                   @Param("processIds") String[] processIds,
+                   @Param("executionIds") String[] executionIds,
+                   @Param("executionDefinitionIds") String[] executionDefinitionIds,
+                   @Param("keys") String[] keys,
+                   @Param("values") String[] values,
+                   @Param("offloaded") Boolean[] offloaded,
+                   @Param("types") String[] types,
+                   @Param("createdAt") LocalDateTime createdAt);
+
     @Modifying
     @Query(UPDATE_DEFINITION_ID_QUERY)
     void updateDefinitionId(@Param("toDefinitionId") String toDefinitionId,
@@ -43,4 +58,8 @@ public interface VariableRepository extends CrudRepository<VariableEntity, Strin
     @Query(DELETE_BY_PROCESS_IDS_QUERY)
     void deleteByExecutionIds(@Param("executionIds") String[] executionIds);
 
+    @Modifying
+    @Query(DELETE_ALL_BY_PROCESS_IDS_QUERY)
+    void deleteAllByProcessIds(@Param("processIds") String[] processIds);
+
 }
@@ -0,0 +1,16 @@
+package com.leorces.persistence.postgres.repository.query.activity;
+
+public class ADD_INSTANCES {
+
+    public static final String ADD_INSTANCES_QUERY = """
+            INSERT INTO activity_instance (process_id, instance_id, body_id)
+            SELECT :processId, instance.instance_id, :bodyId
+            FROM UNNEST(CAST(:instanceIds AS TEXT[])) AS instance(instance_id)
+            ON CONFLICT (process_id, instance_id) DO NOTHING;
+            """;
+
+    private ADD_INSTANCES() {
+        // Index: pk_activity_instance
+    }
+
+}
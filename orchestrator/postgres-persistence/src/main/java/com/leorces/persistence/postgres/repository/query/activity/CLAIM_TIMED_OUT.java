@@ -0,0 +1,56 @@
+package com.leorces.persistence.postgres.repository.query.activity;
+
+public class CLAIM_TIMED_OUT {
+
+    public static final String CLAIM_TIMED_OUT_QUERY = """
+            WITH candidates AS (SELECT activity.activity_id,
+                                       activity.activity_timeout
+                                FROM activity
+                                WHERE activity.activity_timeout < CURRENT_TIMESTAMP
+                                  AND activity.activity_state IN ('ACTIVE', 'SCHEDULED')
+                                ORDER BY activity.activity_timeout
+                                LIMIT :limit FOR UPDATE SKIP LOCKED),
+                 claimed AS (
+                     UPDATE activity
+                         SET activity_timeout = CURRENT_TIMESTAMP + :leaseSeconds * INTERVAL '1 second'
+                         FROM candidates
+                         WHERE activity.activity_id = candidates.activity_id
+                         RETURNING activity.*, candidates.activity_timeout AS claimed_timeout)
+            SELECT claimed.activity_id,
+                   claimed.process_id,
+                   claimed.activity_definition_id,
+                   claimed.activity_parent_definition_id,
+                   claimed.process_definition_key,
+                   claimed.activity_type,
+                   claimed.activity_state,
+                   claimed.activity_retries,
+                   claimed.claimed_timeout AS activity_timeout,
+                   claimed.activity_failure_reason,
+                   claimed.activity_failure_trace,
+                   claimed.activity_async,
+                   claimed.activity_created_at,
+                   claimed.activity_updated_at,
+                   claimed.activity_started_at,
+                   claimed.activity_completed_at,
+            
+                   process.root_process_id,
+                   process.process_parent_id,
+                   process.process_business_key,
+                   process.process_state,
+                   process.process_suspended,
+            
+                   definition.definition_id,
+                   definition.definition_key,
+                   definition.definition_version,
+                   definition.definition_suspended
+            FROM claimed
+                     LEFT JOIN process ON claimed.process_id = process.process_id
+                     LEFT JOIN definition ON process.process_definition_id = definition.definition_id
+            ORDER BY claimed.claimed_timeout;
+            """;
+
+    private CLAIM_TIMED_OUT() {
+        // Index: idx_activity_timeout_state
+    }
+
+}
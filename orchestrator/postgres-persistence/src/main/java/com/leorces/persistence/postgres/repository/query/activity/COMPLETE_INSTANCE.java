@@ -0,0 +1,24 @@
+package com.leorces.persistence.postgres.repository.query.activity;
+
+public class COMPLETE_INSTANCE {
+
+    // Removing the instance row first counts every instance once
+    public static final String COMPLETE_INSTANCE_QUERY = """
+            WITH instance AS (DELETE
+                FROM activity_instance
+                WHERE process_id = :processId
+                  AND instance_id = :instanceId
+                RETURNING process_id, body_id)
+            UPDATE activity_instance_counter
+            SET instances_remaining = activity_instance_counter.instances_remaining - 1
+            FROM instance
+            WHERE activity_instance_counter.process_id = instance.process_id
+              AND activity_instance_counter.body_id = instance.body_id
+            RETURNING activity_instance_counter.instances_remaining;
+            """;
+
+    private COMPLETE_INSTANCE() {
+        // Index: pk_activity_instance, pk_activity_instance_counter
+    }
+
+}
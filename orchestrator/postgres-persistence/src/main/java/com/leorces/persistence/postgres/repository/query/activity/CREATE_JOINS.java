@@ -0,0 +1,17 @@
+package com.leorces.persistence.postgres.repository.query.activity;
+
+public class CREATE_JOINS {
+
+    public static final String CREATE_JOINS_QUERY = """
+            INSERT INTO activity_join (process_id, activity_definition_id, join_arrivals)
+            SELECT gateway.process_id, gateway.activity_definition_id, 0
+            FROM UNNEST(CAST(:processIds AS TEXT[]), CAST(:definitionIds AS TEXT[]))
+                     AS gateway(process_id, activity_definition_id)
+            ON CONFLICT (process_id, activity_definition_id) DO NOTHING;
+            """;
+
+    private CREATE_JOINS() {
+        // Index: pk_activity_join
+    }
+
+}
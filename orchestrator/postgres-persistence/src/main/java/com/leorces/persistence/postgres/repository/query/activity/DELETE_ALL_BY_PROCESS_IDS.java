@@ -0,0 +1,16 @@
+package com.leorces.persistence.postgres.repository.query.activity;
+
+public class DELETE_ALL_BY_PROCESS_IDS {
+
+    public static final String DELETE_ALL_BY_PROCESS_IDS_QUERY = """
+            DELETE
+            FROM activity
+            USING UNNEST(CAST(:processIds AS TEXT[])) AS compacted(process_id)
+            WHERE activity.process_id = compacted.process_id;
+            """;
+
+    private DELETE_ALL_BY_PROCESS_IDS() {
+        // Index: idx_activity_process_state
+    }
+
+}
@@ -0,0 +1,29 @@
+package com.leorces.persistence.postgres.repository.query.activity;
+
+public class DELETE_ALL_JOINS_BY_PROCESS_IDS {
+
+    // Removes the gateway and multi-instance counters of the processes
+    public static final String DELETE_ALL_JOINS_BY_PROCESS_IDS_QUERY = """
+            WITH arrival AS (DELETE
+                FROM activity_join_arrival
+                    USING UNNEST(CAST(:processIds AS TEXT[])) AS compacted(process_id)
+                WHERE activity_join_arrival.process_id = compacted.process_id),
+                 instance AS (DELETE
+                     FROM activity_instance
+                         USING UNNEST(CAST(:processIds AS TEXT[])) AS compacted(process_id)
+                     WHERE activity_instance.process_id = compacted.process_id),
+                 instance_counter AS (DELETE
+                     FROM activity_instance_counter
+                         USING UNNEST(CAST(:processIds AS TEXT[])) AS compacted(process_id)
+                     WHERE activity_instance_counter.process_id = compacted.process_id)
+            DELETE
+            FROM activity_join
+            USING UNNEST(CAST(:processIds AS TEXT[])) AS compacted(process_id)
+            WHERE activity_join.process_id = compacted.process_id;
+            """;
+
+    private DELETE_ALL_JOINS_BY_PROCESS_IDS() {
+        // Index: pk_activity_join, pk_activity_join_arrival, pk_activity_instance, pk_activity_instance_counter
+    }
+
+}
@@ -29,8 +29,7 @@ public class FIND_ALL_ACTIVE_BY_PROCESS_ID {
                    definition.definition_id,
                    definition.definition_key,
                    definition.definition_version,
-                   definition.definition_suspended,
-                   definition.definition_data
+                   definition.definition_suspended
             FROM activity
                      LEFT JOIN process ON activity.process_id = process.process_id
                      LEFT JOIN definition ON process.process_definition_id = definition.definition_id
@@ -1,8 +1,8 @@
 package com.leorces.persistence.postgres.repository.query.activity;
 
-public class FIND_TIMED_OUT {
+public class FIND_ALL_WITH_VARIABLES_BY_IDS {
 
-    public static final String FIND_TIMED_OUT_QUERY = """
+    public static final String FIND_ALL_WITH_VARIABLES_BY_IDS_QUERY = """
             SELECT activity.activity_id,
                    activity.process_id,
                    activity.activity_definition_id,
@@ -30,18 +30,35 @@ public class FIND_TIMED_OUT {
                    definition.definition_key,
                    definition.definition_version,
                    definition.definition_suspended,
-                   definition.definition_data
+            
+                   COALESCE(variables.variables_json, '[]'::json) AS variables_json
             FROM activity
                      LEFT JOIN process ON activity.process_id = process.process_id
                      LEFT JOIN definition ON process.process_definition_id = definition.definition_id
-            WHERE activity.activity_timeout < CURRENT_TIMESTAMP
-              AND activity.activity_state IN ('ACTIVE', 'SCHEDULED')
-            ORDER BY activity.activity_timeout
-            LIMIT :limit;
+                     LEFT JOIN LATERAL (
+                SELECT json_agg(
+                               jsonb_build_object(
+                                       'id', variable.variable_id,
+                                       'process_id', variable.process_id,
+                                       'execution_id', variable.execution_id,
+                                       'execution_definition_id', variable.execution_definition_id,
+                                       'var_key', variable.variable_key,
+                                       'var_value', variable.variable_value,
+                                       'offloaded', variable.variable_offloaded,
+                                       'type', variable.variable_type,
+                                       'created_at', variable.variable_created_at,
+                                       'updated_at', variable.variable_updated_at
+                               )
+                       ) AS variables_json
+                FROM variable
+                WHERE variable.execution_id = activity.process_id
+                ) AS variables ON TRUE
+            WHERE activity.activity_id = ANY (:ids)
+              AND activity.activity_state != 'DELETED'
             """;
 
-    private FIND_TIMED_OUT() {
-        // Index: idx_activity_timeout_state
+    private FIND_ALL_WITH_VARIABLES_BY_IDS() {
+        // Index: pk_activity
     }
 
 }
@@ -30,7 +30,6 @@ public class FIND_BY_ID {
                    definition.definition_key,
                    definition.definition_version,
                    definition.definition_suspended,
-                   definition.definition_data,
             
                    COALESCE(variables.variables_json, '[]'::json) AS variables_json
             FROM activity
@@ -45,7 +44,10 @@ public class FIND_BY_ID {
                                        'execution_definition_id', variable.execution_definition_id,
                                        'var_key', variable.variable_key,
                                        'var_value', variable.variable_value,
-                                       'type', variable.variable_type
+                                       'offloaded', variable.variable_offloaded,
+                                       'type', variable.variable_type,
+                                       'created_at', variable.variable_created_at,
+                                       'updated_at', variable.variable_updated_at
                                )
                        ) AS variables_json
                 FROM variable
@@ -0,0 +1,16 @@
+package com.leorces.persistence.postgres.repository.query.activity;
+
+public class FIND_INSTANCE_BODY {
+
+    public static final String FIND_INSTANCE_BODY_QUERY = """
+            SELECT body_id
+            FROM activity_instance
+            WHERE process_id = :processId
+              AND instance_id = :instanceId;
+            """;
+
+    private FIND_INSTANCE_BODY() {
+        // Index: pk_activity_instance
+    }
+
+}
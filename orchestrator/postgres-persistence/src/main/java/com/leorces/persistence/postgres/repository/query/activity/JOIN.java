@@ -0,0 +1,33 @@
+package com.leorces.persistence.postgres.repository.query.activity;
+
+public class JOIN {
+
+    // Returns the arrival count, 0 for an arrival recorded before and -1 for a gateway without counter
+    public static final String JOIN_QUERY = """
+            WITH counter AS (SELECT activity_join.process_id,
+                                    activity_join.activity_definition_id
+                             FROM activity_join
+                             WHERE activity_join.process_id = :processId
+                               AND activity_join.activity_definition_id = :definitionId
+                                 FOR UPDATE),
+                 arrival AS (INSERT INTO activity_join_arrival (process_id, activity_definition_id, arrival_id)
+                     SELECT counter.process_id, counter.activity_definition_id, :arrivalId
+                     FROM counter
+                     ON CONFLICT DO NOTHING
+                     RETURNING process_id, activity_definition_id),
+                 joined AS (UPDATE activity_join
+                     SET join_arrivals = activity_join.join_arrivals + 1
+                     FROM arrival
+                     WHERE activity_join.process_id = arrival.process_id
+                       AND activity_join.activity_definition_id = arrival.activity_definition_id
+                     RETURNING activity_join.join_arrivals)
+            SELECT COALESCE((SELECT joined.join_arrivals FROM joined),
+                            (SELECT 0 FROM counter),
+                            -1);
+            """;
+
+    private JOIN() {
+        // Index: pk_activity_join, pk_activity_join_arrival
+    }
+
+}
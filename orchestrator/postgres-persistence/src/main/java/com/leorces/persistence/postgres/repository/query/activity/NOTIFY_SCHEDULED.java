@@ -0,0 +1,14 @@
+package com.leorces.persistence.postgres.repository.query.activity;
+
+public class NOTIFY_SCHEDULED {
+
+    // Postgres delivers the notifications when the transaction commits and drops them on rollback
+    public static final String NOTIFY_SCHEDULED_QUERY = """
+            SELECT pg_notify('leorces_activity_scheduled', payload)
+            FROM unnest(CAST(:payloads AS TEXT[])) AS payload;
+            """;
+
+    private NOTIFY_SCHEDULED() {
+    }
+
+}
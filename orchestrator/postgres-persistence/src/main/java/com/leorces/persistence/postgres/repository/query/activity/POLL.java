@@ -35,7 +35,10 @@ public class POLL {
                                        'execution_definition_id', variable.execution_definition_id,
                                        'var_key', variable.variable_key,
                                        'var_value', variable.variable_value,
-                                       'type', variable.variable_type
+                                       'offloaded', variable.variable_offloaded,
+                                       'type', variable.variable_type,
+                                       'created_at', variable.variable_created_at,
+                                       'updated_at', variable.variable_updated_at
                                )
                        ) AS variables_json
                 FROM variable
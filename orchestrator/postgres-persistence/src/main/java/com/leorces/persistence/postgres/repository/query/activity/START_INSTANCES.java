@@ -0,0 +1,16 @@
+package com.leorces.persistence.postgres.repository.query.activity;
+
+public class START_INSTANCES {
+
+    public static final String START_INSTANCES_QUERY = """
+            INSERT INTO activity_instance_counter (process_id, body_id, instances_remaining)
+            VALUES (:processId, :bodyId, :count)
+            ON CONFLICT (process_id, body_id)
+                DO UPDATE SET instances_remaining = :count;
+            """;
+
+    private START_INSTANCES() {
+        // Index: pk_activity_instance_counter
+    }
+
+}
@@ -0,0 +1,15 @@
+package com.leorces.persistence.postgres.repository.query.definition;
+
+public class FIND_ALL_BY_IDS {
+
+    public static final String FIND_ALL_BY_IDS_QUERY = """
+            SELECT *
+            FROM definition
+            WHERE definition_id = ANY (:definitionIds);
+            """;
+
+    private FIND_ALL_BY_IDS() {
+        // Index: pk_definition
+    }
+
+}
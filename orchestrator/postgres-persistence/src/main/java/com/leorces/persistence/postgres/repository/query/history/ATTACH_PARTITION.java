@@ -0,0 +1,12 @@
+package com.leorces.persistence.postgres.repository.query.history;
+
+public class ATTACH_PARTITION {
+
+    public static final String ATTACH_PARTITION_QUERY = """
+            ALTER TABLE history ATTACH PARTITION %s FOR VALUES FROM ('%s') TO ('%s');
+            """;
+
+    private ATTACH_PARTITION() {
+    }
+
+}
@@ -0,0 +1,15 @@
+package com.leorces.persistence.postgres.repository.query.history;
+
+public final class COUNT_CAPPED {
+
+    public static final String COUNT_CAPPED_QUERY = """
+            SELECT COUNT(*)
+            FROM (SELECT 1
+                  FROM history
+                  LIMIT :cap) capped
+            """;
+
+    private COUNT_CAPPED() {
+    }
+
+}
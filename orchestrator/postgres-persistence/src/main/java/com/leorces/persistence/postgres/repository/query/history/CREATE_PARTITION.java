@@ -0,0 +1,12 @@
+package com.leorces.persistence.postgres.repository.query.history;
+
+public class CREATE_PARTITION {
+
+    public static final String CREATE_PARTITION_QUERY = """
+            CREATE TABLE %s (LIKE history INCLUDING DEFAULTS);
+            """;
+
+    private CREATE_PARTITION() {
+    }
+
+}
@@ -0,0 +1,20 @@
+package com.leorces.persistence.postgres.repository.query.history;
+
+public class DELETE_EXPIRED_FROM_DEFAULT_PARTITION {
+
+    public static final String DELETE_EXPIRED_FROM_DEFAULT_PARTITION_QUERY = """
+            WITH expired AS (DELETE
+                FROM history_default
+                    WHERE process_completed_at < :completedBefore
+                    RETURNING process_id)
+            DELETE
+            FROM history_key
+            USING expired
+            WHERE history_key.process_id = expired.process_id;
+            """;
+
+    private DELETE_EXPIRED_FROM_DEFAULT_PARTITION() {
+        // Index: pk_history_key
+    }
+
+}
@@ -0,0 +1,17 @@
+package com.leorces.persistence.postgres.repository.query.history;
+
+public class DELETE_PARTITION_KEYS {
+
+    // Dropping a partition deletes no rows, so the keys of its range are deleted with this query
+    public static final String DELETE_PARTITION_KEYS_QUERY = """
+            DELETE
+            FROM history_key
+            WHERE process_completed_at >= :from
+              AND process_completed_at < :to;
+            """;
+
+    private DELETE_PARTITION_KEYS() {
+        // Index: idx_history_key_completed_at
+    }
+
+}
@@ -0,0 +1,12 @@
+package com.leorces.persistence.postgres.repository.query.history;
+
+public class DETACH_PARTITION {
+
+    public static final String DETACH_PARTITION_QUERY = """
+            ALTER TABLE history DETACH PARTITION %s;
+            """;
+
+    private DETACH_PARTITION() {
+    }
+
+}
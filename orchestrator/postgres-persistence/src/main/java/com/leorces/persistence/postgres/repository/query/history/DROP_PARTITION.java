@@ -0,0 +1,12 @@
+package com.leorces.persistence.postgres.repository.query.history;
+
+public class DROP_PARTITION {
+
+    public static final String DROP_PARTITION_QUERY = """
+            DROP TABLE %s;
+            """;
+
+    private DROP_PARTITION() {
+    }
+
+}
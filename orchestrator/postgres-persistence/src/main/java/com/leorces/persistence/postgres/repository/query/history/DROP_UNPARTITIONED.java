@@ -0,0 +1,12 @@
+package com.leorces.persistence.postgres.repository.query.history;
+
+public class DROP_UNPARTITIONED {
+
+    public static final String DROP_UNPARTITIONED_QUERY = """
+            DROP TABLE IF EXISTS history_unpartitioned;
+            """;
+
+    private DROP_UNPARTITIONED() {
+    }
+
+}
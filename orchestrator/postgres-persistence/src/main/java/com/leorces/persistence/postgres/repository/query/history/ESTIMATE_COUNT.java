@@ -0,0 +1,17 @@
+package com.leorces.persistence.postgres.repository.query.history;
+
+public final class ESTIMATE_COUNT {
+
+    // Statistics are kept per partition, NULL until any partition is analyzed
+    public static final String ESTIMATE_COUNT_QUERY = """
+            SELECT CAST(SUM(child.reltuples) AS BIGINT)
+            FROM pg_inherits inheritance
+                     JOIN pg_class child ON child.oid = inheritance.inhrelid
+            WHERE inheritance.inhparent = CAST('history' AS REGCLASS)
+              AND child.reltuples >= 0
+            """;
+
+    private ESTIMATE_COUNT() {
+    }
+
+}
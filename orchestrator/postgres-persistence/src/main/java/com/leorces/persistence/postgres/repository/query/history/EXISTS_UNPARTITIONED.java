@@ -0,0 +1,16 @@
+package com.leorces.persistence.postgres.repository.query.history;
+
+public class EXISTS_UNPARTITIONED {
+
+    public static final String EXISTS_UNPARTITIONED_QUERY = """
+            SELECT EXISTS (SELECT 1
+                           FROM history_unpartitioned
+                           WHERE process_completed_at >= :from
+                             AND process_completed_at < :to);
+            """;
+
+    private EXISTS_UNPARTITIONED() {
+        // Index: idx_history_unpartitioned_completed_at
+    }
+
+}
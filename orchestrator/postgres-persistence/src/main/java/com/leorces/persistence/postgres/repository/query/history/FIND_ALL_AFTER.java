@@ -0,0 +1,17 @@
+package com.leorces.persistence.postgres.repository.query.history;
+
+public final class FIND_ALL_AFTER {
+
+    public static final String FIND_ALL_AFTER_QUERY = """
+            SELECT *
+            FROM history
+            WHERE (process_created_at, process_id) < (:afterCreatedAt, :afterId)
+            ORDER BY process_created_at DESC, process_id DESC
+            LIMIT :limit;
+            """;
+
+    private FIND_ALL_AFTER() {
+        // Index: idx_history_created_at_id
+    }
+
+}
@@ -5,12 +5,12 @@ public final class FIND_ALL_WITH_PAGINATION {
     public static final String FIND_ALL_WITH_PAGINATION_QUERY = """
             SELECT *
             FROM history
-            ORDER BY process_created_at DESC
+            ORDER BY process_created_at DESC, process_id DESC
             OFFSET :offset LIMIT :limit;
             """;
 
     private FIND_ALL_WITH_PAGINATION() {
-        // Index: idx_history_created_at
+        // Index: idx_history_created_at_id
     }
 
 }
@@ -0,0 +1,16 @@
+package com.leorces.persistence.postgres.repository.query.history;
+
+public class FIND_PARTITIONS {
+
+    public static final String FIND_PARTITIONS_QUERY = """
+            SELECT child.relname                                  AS partition_name,
+                   pg_get_expr(child.relpartbound, child.oid, TRUE) AS partition_bound
+            FROM pg_inherits
+                     JOIN pg_class child ON child.oid = pg_inherits.inhrelid
+            WHERE pg_inherits.inhparent = 'history'::regclass;
+            """;
+
+    private FIND_PARTITIONS() {
+    }
+
+}
@@ -0,0 +1,15 @@
+package com.leorces.persistence.postgres.repository.query.history;
+
+public class FIND_UNPARTITIONED_RANGE {
+
+    public static final String FIND_UNPARTITIONED_RANGE_QUERY = """
+            SELECT MIN(process_completed_at) AS min_completed_at,
+                   MAX(process_completed_at) AS max_completed_at
+            FROM history_unpartitioned;
+            """;
+
+    private FIND_UNPARTITIONED_RANGE() {
+        // Index: idx_history_unpartitioned_completed_at
+    }
+
+}
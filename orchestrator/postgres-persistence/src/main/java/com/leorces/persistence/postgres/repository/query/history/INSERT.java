@@ -0,0 +1,36 @@
+package com.leorces.persistence.postgres.repository.query.history;
+
+public class INSERT {
+
+    // Every process also gets a row in history_key, so a process stored twice fails whatever its completion time
+    public static final String INSERT_QUERY = """
+            WITH new_key AS (INSERT INTO history_key (process_id,
+                                                      process_completed_at)
+                VALUES (:processId,
+                        :completedAt))
+            INSERT
+            INTO history (process_id,
+                          root_process_id,
+                          process_parent_id,
+                          process_business_key,
+                          history_data,
+                          process_created_at,
+                          process_updated_at,
+                          process_started_at,
+                          process_completed_at)
+            VALUES (:processId,
+                    :rootProcessId,
+                    :parentProcessId,
+                    :businessKey,
+                    :data,
+                    :createdAt,
+                    :updatedAt,
+                    :startedAt,
+                    :completedAt);
+            """;
+
+    private INSERT() {
+        // Index: pk_history_key, pk_history_item
+    }
+
+}
@@ -0,0 +1,12 @@
+package com.leorces.persistence.postgres.repository.query.history;
+
+public class IS_UNPARTITIONED {
+
+    public static final String IS_UNPARTITIONED_QUERY = """
+            SELECT to_regclass('history_unpartitioned') IS NOT NULL;
+            """;
+
+    private IS_UNPARTITIONED() {
+    }
+
+}
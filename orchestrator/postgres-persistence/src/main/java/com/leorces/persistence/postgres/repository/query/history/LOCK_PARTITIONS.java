@@ -0,0 +1,13 @@
+package com.leorces.persistence.postgres.repository.query.history;
+
+public class LOCK_PARTITIONS {
+
+    public static final String LOCK_PARTITIONS_QUERY = """
+            SELECT pg_advisory_xact_lock(hashtext('history_partitions'));
+            """;
+
+    private LOCK_PARTITIONS() {
+        // Serializes partition changes of all nodes until the end of the transaction
+    }
+
+}
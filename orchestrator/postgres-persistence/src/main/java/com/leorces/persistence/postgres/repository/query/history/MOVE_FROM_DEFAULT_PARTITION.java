@@ -0,0 +1,20 @@
+package com.leorces.persistence.postgres.repository.query.history;
+
+public class MOVE_FROM_DEFAULT_PARTITION {
+
+    public static final String MOVE_FROM_DEFAULT_PARTITION_QUERY = """
+            WITH moved AS (
+                DELETE FROM history_default
+                    WHERE process_completed_at >= :from
+                      AND process_completed_at < :to
+                    RETURNING *)
+            INSERT
+            INTO %s
+            SELECT *
+            FROM moved;
+            """;
+
+    private MOVE_FROM_DEFAULT_PARTITION() {
+    }
+
+}
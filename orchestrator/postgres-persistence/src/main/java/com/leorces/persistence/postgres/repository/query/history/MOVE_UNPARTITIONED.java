@@ -0,0 +1,44 @@
+package com.leorces.persistence.postgres.repository.query.history;
+
+public class MOVE_UNPARTITIONED {
+
+    // Moves a batch of history written before partitioning, rows are routed to the partition of their period
+    public static final String MOVE_UNPARTITIONED_QUERY = """
+            WITH moved AS (DELETE
+                FROM history_unpartitioned
+                    WHERE process_id IN (SELECT process_id
+                                         FROM history_unpartitioned
+                                         LIMIT :limit FOR UPDATE SKIP LOCKED)
+                    RETURNING *),
+                 new_key AS (INSERT INTO history_key (process_id,
+                                                      process_completed_at)
+                     SELECT process_id,
+                            process_completed_at
+                     FROM moved)
+            INSERT
+            INTO history (process_id,
+                          root_process_id,
+                          process_parent_id,
+                          process_business_key,
+                          history_data,
+                          process_created_at,
+                          process_updated_at,
+                          process_started_at,
+                          process_completed_at)
+            SELECT process_id,
+                   root_process_id,
+                   process_parent_id,
+                   process_business_key,
+                   history_data,
+                   process_created_at,
+                   process_updated_at,
+                   process_started_at,
+                   process_completed_at
+            FROM moved;
+            """;
+
+    private MOVE_UNPARTITIONED() {
+        // Index: pk_history_unpartitioned, pk_history_key, pk_history_item
+    }
+
+}
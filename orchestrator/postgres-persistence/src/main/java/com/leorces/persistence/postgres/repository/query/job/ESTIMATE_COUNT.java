@@ -0,0 +1,16 @@
+package com.leorces.persistence.postgres.repository.query.job;
+
+public class ESTIMATE_COUNT {
+
+    // NULL until the table is analyzed
+    public static final String ESTIMATE_COUNT_QUERY = """
+            SELECT CAST(reltuples AS BIGINT)
+            FROM pg_class
+            WHERE oid = CAST('job' AS REGCLASS)
+              AND reltuples >= 0
+            """;
+
+    private ESTIMATE_COUNT() {
+    }
+
+}
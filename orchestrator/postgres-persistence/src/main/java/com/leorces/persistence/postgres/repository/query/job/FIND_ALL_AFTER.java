@@ -0,0 +1,28 @@
+package com.leorces.persistence.postgres.repository.query.job;
+
+public class FIND_ALL_AFTER {
+
+    public static final String FIND_ALL_AFTER_QUERY = """
+            SELECT *
+            FROM job
+            WHERE (
+                :state IS NULL
+                    OR :state = 'all'
+                    OR job_state = :state
+                )
+              AND (
+                :filter IS NULL
+                    OR job_id ILIKE '%' || :filter || '%'
+                    OR job_type ILIKE '%' || :filter || '%'
+                    OR job_state ILIKE '%' || :filter || '%'
+                )
+              AND (job_created_at, job_id) < (:afterCreatedAt, :afterId)
+            ORDER BY job_created_at DESC, job_id DESC
+            LIMIT :limit;
+            """;
+
+    private FIND_ALL_AFTER() {
+        // Index: idx_job_created_at_id
+    }
+
+}
@@ -16,7 +16,7 @@ public class FIND_ALL_WITH_PAGINATION {
                     OR job_type ILIKE '%' || :filter || '%'
                     OR job_state ILIKE '%' || :filter || '%'
                 )
-            ORDER BY job_created_at DESC
+            ORDER BY job_created_at DESC, job_id DESC
             OFFSET :offset LIMIT :limit;
             """;
 
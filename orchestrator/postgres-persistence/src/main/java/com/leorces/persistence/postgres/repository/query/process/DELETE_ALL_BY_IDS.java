@@ -0,0 +1,16 @@
+package com.leorces.persistence.postgres.repository.query.process;
+
+public class DELETE_ALL_BY_IDS {
+
+    public static final String DELETE_ALL_BY_IDS_QUERY = """
+            DELETE
+            FROM process
+            USING UNNEST(CAST(:processIds AS TEXT[])) AS compacted(process_id)
+            WHERE process.process_id = compacted.process_id;
+            """;
+
+    private DELETE_ALL_BY_IDS() {
+        // Index: pk_process
+    }
+
+}
@@ -21,7 +21,6 @@ public class FIND_ALL_BY_FILTERS {
                    definition.definition_name,
                    definition.definition_version,
                    definition.definition_suspended,
-                   definition.definition_data,
             
                    COALESCE(variables.variables_json, '[]'::json) AS variables_json
             FROM process
@@ -35,7 +34,10 @@ public class FIND_ALL_BY_FILTERS {
                                        'execution_definition_id', v.execution_definition_id,
                                        'var_key', v.variable_key,
                                        'var_value', v.variable_value,
-                                       'type', v.variable_type
+                                       'offloaded', v.variable_offloaded,
+                                       'type', v.variable_type,
+                                       'created_at', v.variable_created_at,
+                                       'updated_at', v.variable_updated_at
                                )
                        ) AS variables_json
                 FROM variable v
@@ -0,0 +1,105 @@
+package com.leorces.persistence.postgres.repository.query.process;
+
+public class FIND_ALL_EXECUTIONS_BY_IDS {
+
+    public static final String FIND_ALL_EXECUTIONS_BY_IDS_QUERY = """
+            SELECT compacted_process.process_id,
+                   compacted_process.root_process_id,
+                   compacted_process.process_parent_id,
+                   compacted_process.process_definition_id,
+                   compacted_process.process_definition_key,
+                   compacted_process.process_business_key,
+                   compacted_process.process_state,
+                   compacted_process.process_suspended,
+                   compacted_process.process_created_at,
+                   compacted_process.process_updated_at,
+                   compacted_process.process_started_at,
+                   compacted_process.process_completed_at,
+            
+                   definition.definition_id,
+                   definition.definition_key,
+                   definition.definition_name,
+                   definition.definition_version,
+                   definition.definition_suspended,
+                   definition.definition_schema,
+                   definition.definition_origin,
+                   definition.definition_deployment,
+                   definition.definition_created_at,
+                   definition.definition_updated_at,
+            
+                   COALESCE(process_variables.variables_json, '[]'::json)    AS variables_json,
+                   COALESCE(activity_aggregates.activities_json, '[]'::json) AS activities_json
+            FROM process compacted_process
+                     LEFT JOIN definition
+                               ON definition.definition_id = compacted_process.process_definition_id
+                     LEFT JOIN LATERAL (
+                SELECT json_agg(
+                               jsonb_build_object(
+                                       'id', variable.variable_id,
+                                       'process_id', variable.process_id,
+                                       'execution_id', variable.execution_id,
+                                       'execution_definition_id', variable.execution_definition_id,
+                                       'var_key', variable.variable_key,
+                                       'var_value', variable.variable_value,
+                                       'offloaded', variable.variable_offloaded,
+                                       'type', variable.variable_type,
+                                       'created_at', variable.variable_created_at,
+                                       'updated_at', variable.variable_updated_at
+                               )
+                       ) AS variables_json
+                FROM variable
+                WHERE variable.execution_id = compacted_process.process_id
+                  AND variable.execution_definition_id = compacted_process.process_definition_id
+                ) process_variables ON TRUE
+                     LEFT JOIN LATERAL (
+                SELECT json_agg(
+                               jsonb_build_object(
+                                       'id', activity.activity_id,
+                                       'process_id', activity.process_id,
+                                       'activity_definition_id', activity.activity_definition_id,
+                                       'parent_activity_definition_id', activity.activity_parent_definition_id,
+                                       'process_definition_key', activity.process_definition_key,
+                                       'type', activity.activity_type,
+                                       'state', activity.activity_state,
+                                       'retries', activity.activity_retries,
+                                       'activity_timeout', activity.activity_timeout,
+                                       'activity_failure_reason', activity.activity_failure_reason,
+                                       'activity_failure_trace', activity.activity_failure_trace,
+                                       'created_at', activity.activity_created_at,
+                                       'updated_at', activity.activity_updated_at,
+                                       'started_at', activity.activity_started_at,
+                                       'completed_at', activity.activity_completed_at,
+                                       'async', activity.activity_async,
+                                       'variablesJson', COALESCE(activity_variables.variables_json, '[]'::json)
+                               )
+                       ) AS activities_json
+                FROM activity
+                         LEFT JOIN LATERAL (
+                    SELECT json_agg(
+                                   jsonb_build_object(
+                                           'id', variable.variable_id,
+                                           'process_id', variable.process_id,
+                                           'execution_id', variable.execution_id,
+                                           'execution_definition_id', variable.execution_definition_id,
+                                           'var_key', variable.variable_key,
+                                           'var_value', variable.variable_value,
+                                           'offloaded', variable.variable_offloaded,
+                                           'type', variable.variable_type,
+                                           'created_at', variable.variable_created_at,
+                                           'updated_at', variable.variable_updated_at
+                                   )
+                           ) AS variables_json
+                    FROM variable
+                    WHERE variable.execution_id = activity.activity_id
+                      AND variable.execution_definition_id = activity.activity_definition_id
+                    ) activity_variables ON TRUE
+                WHERE activity.process_id = compacted_process.process_id
+                ) activity_aggregates ON TRUE
+            WHERE compacted_process.process_id = ANY (CAST(:processIds AS TEXT[]));
+            """;
+
+    private FIND_ALL_EXECUTIONS_BY_IDS() {
+        // Index: pk_process
+    }
+
+}
@@ -41,7 +41,6 @@ public class FIND_ALL_FULLY_COMPLETED_FOR_UPDATE {
                    definition.definition_deployment,
                    definition.definition_created_at,
                    definition.definition_updated_at,
-                   definition.definition_data,
             
                    COALESCE(process_variables.variables_json, '[]'::json)    AS variables_json,
                    COALESCE(activity_aggregates.activities_json, '[]'::json) AS activities_json
@@ -57,6 +56,7 @@ public class FIND_ALL_FULLY_COMPLETED_FOR_UPDATE {
                                        'execution_definition_id', variable.execution_definition_id,
                                        'var_key', variable.variable_key,
                                        'var_value', variable.variable_value,
+                                       'offloaded', variable.variable_offloaded,
                                        'type', variable.variable_type,
                                        'created_at', variable.variable_created_at,
                                        'updated_at', variable.variable_updated_at
@@ -98,6 +98,7 @@ public class FIND_ALL_FULLY_COMPLETED_FOR_UPDATE {
                                            'execution_definition_id', variable.execution_definition_id,
                                            'var_key', variable.variable_key,
                                            'var_value', variable.variable_value,
+                                           'offloaded', variable.variable_offloaded,
                                            'type', variable.variable_type,
                                            'created_at', variable.variable_created_at,
                                            'updated_at', variable.variable_updated_at
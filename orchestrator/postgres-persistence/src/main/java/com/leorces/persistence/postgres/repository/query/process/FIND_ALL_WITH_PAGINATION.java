@@ -20,8 +20,7 @@ public class FIND_ALL_WITH_PAGINATION {
                    definition_key,
                    definition_name,
                    definition_version,
-                   definition_suspended,
-                   definition_data
+                   definition_suspended
             FROM process
                      LEFT JOIN definition ON process_definition_id = definition_id
             WHERE (
@@ -33,12 +32,12 @@ public class FIND_ALL_WITH_PAGINATION {
               AND (
                 :state IS NULL OR :state = '' OR :state = 'all' OR process_state = :state
                 )
-            ORDER BY process_created_at DESC
+            ORDER BY process_created_at DESC, process_id DESC
             OFFSET :offset LIMIT :limit;
             """;
 
     private FIND_ALL_WITH_PAGINATION() {
-        // Index: idx_process_created_at, pk_process, idx_process_definition_key, idx_process_business_key
+        // Index: idx_process_created_at_id, pk_process, idx_process_definition_key, idx_process_business_key
     }
 
 }
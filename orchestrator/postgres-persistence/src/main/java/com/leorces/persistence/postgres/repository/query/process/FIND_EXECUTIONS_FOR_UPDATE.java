@@ -31,7 +31,6 @@ public class FIND_EXECUTIONS_FOR_UPDATE {
                    d.definition_deployment,
                    d.definition_created_at,
                    d.definition_updated_at,
-                   d.definition_data,
             
                    COALESCE(proc_vars.variables_json, '[]'::json) AS variables_json,
                    COALESCE(acts.activities_json, '[]'::json)     AS activities_json
@@ -48,6 +47,7 @@ public class FIND_EXECUTIONS_FOR_UPDATE {
                                        'execution_definition_id', v.execution_definition_id,
                                        'var_key', v.variable_key,
                                        'var_value', v.variable_value,
+                                       'offloaded', v.variable_offloaded,
                                        'type', v.variable_type,
                                        'created_at', v.variable_created_at,
                                        'updated_at', v.variable_updated_at
@@ -90,6 +90,7 @@ public class FIND_EXECUTIONS_FOR_UPDATE {
                                            'execution_definition_id', av.execution_definition_id,
                                            'var_key', av.variable_key,
                                            'var_value', av.variable_value,
+                                           'offloaded', av.variable_offloaded,
                                            'type', av.variable_type,
                                            'created_at', av.variable_created_at,
                                            'updated_at', av.variable_updated_at
@@ -0,0 +1,29 @@
+package com.leorces.persistence.postgres.repository.query.process;
+
+public class LOCK_FULLY_COMPLETED {
+
+    public static final String LOCK_FULLY_COMPLETED_QUERY = """
+            SELECT process.process_id
+            FROM process
+            WHERE process.process_state IN ('COMPLETED', 'TERMINATED', 'DELETED')
+              AND (
+                process.root_process_id IS NULL
+                    OR NOT EXISTS (SELECT 1
+                                   FROM process rp
+                                   WHERE rp.process_id = process.root_process_id
+                                     AND rp.process_state IN ('ACTIVE', 'INCIDENT'))
+                )
+              AND NOT EXISTS (SELECT 1
+                              FROM activity
+                              WHERE activity.process_id = process.process_id
+                                AND activity.activity_state NOT IN ('COMPLETED', 'TERMINATED', 'DELETED'))
+            ORDER BY process.process_completed_at
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED;
+            """;
+
+    private LOCK_FULLY_COMPLETED() {
+        // Index: idx_process_eligible
+    }
+
+}
@@ -0,0 +1,54 @@
+package com.leorces.persistence.postgres.repository.query.process;
+
+public class RUN_ALL {
+
+    public static final String RUN_ALL_QUERY = """
+            INSERT INTO process (process_id,
+                                 root_process_id,
+                                 process_parent_id,
+                                 process_definition_id,
+                                 process_definition_key,
+                                 process_business_key,
+                                 process_state,
+                                 process_suspended,
+                                 process_created_at,
+                                 process_updated_at,
+                                 process_started_at)
+            SELECT p.process_id,
+                   p.root_process_id,
+                   p.process_parent_id,
+                   p.process_definition_id,
+                   p.process_definition_key,
+                   p.process_business_key,
+                   'ACTIVE',
+                   CASE
+                       WHEN p.process_suspended = TRUE THEN TRUE
+                       ELSE COALESCE(d.definition_suspended, FALSE)
+                       END,
+                   NOW(),
+                   NOW(),
+                   NOW()
+            FROM UNNEST(CAST(:processIds AS TEXT[]),
+                        CAST(:rootProcessIds AS TEXT[]),
+                        CAST(:parentProcessIds AS TEXT[]),
+                        CAST(:definitionIds AS TEXT[]),
+                        CAST(:definitionKeys AS TEXT[]),
+                        CAST(:businessKeys AS TEXT[]),
+                        CAST(:suspended AS BOOLEAN[]))
+                     AS p(process_id,
+                          root_process_id,
+                          process_parent_id,
+                          process_definition_id,
+                          process_definition_key,
+                          process_business_key,
+                          process_suspended)
+                     LEFT JOIN definition d
+                               ON d.definition_id = p.process_definition_id
+            RETURNING *;
+            """;
+
+    private RUN_ALL() {
+        // Index: pk_definition
+    }
+
+}
@@ -0,0 +1,15 @@
+package com.leorces.persistence.postgres.repository.query.subscription;
+
+public class CANCEL {
+
+    public static final String CANCEL_QUERY = """
+            DELETE FROM message_subscription
+            WHERE process_id = :processId
+              AND subscription_activity_definition_id = :activityDefinitionId;
+            """;
+
+    private CANCEL() {
+        // Index: idx_message_subscription_process_definition
+    }
+
+}
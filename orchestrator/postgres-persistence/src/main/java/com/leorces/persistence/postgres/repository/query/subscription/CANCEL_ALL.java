@@ -0,0 +1,14 @@
+package com.leorces.persistence.postgres.repository.query.subscription;
+
+public class CANCEL_ALL {
+
+    public static final String CANCEL_ALL_QUERY = """
+            DELETE FROM message_subscription
+            WHERE process_id = :processId;
+            """;
+
+    private CANCEL_ALL() {
+        // Index: idx_message_subscription_process_definition
+    }
+
+}
@@ -0,0 +1,14 @@
+package com.leorces.persistence.postgres.repository.query.subscription;
+
+public class DELETE_ALL_BY_PROCESS_IDS {
+
+    public static final String DELETE_ALL_BY_PROCESS_IDS_QUERY = """
+            DELETE FROM message_subscription
+            WHERE process_id = ANY (CAST(:processIds AS TEXT[]));
+            """;
+
+    private DELETE_ALL_BY_PROCESS_IDS() {
+        // Index: idx_message_subscription_process_definition
+    }
+
+}
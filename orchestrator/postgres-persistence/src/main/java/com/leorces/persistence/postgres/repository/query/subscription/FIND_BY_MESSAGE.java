@@ -0,0 +1,22 @@
+package com.leorces.persistence.postgres.repository.query.subscription;
+
+public class FIND_BY_MESSAGE {
+
+    public static final String FIND_BY_MESSAGE_QUERY = """
+            SELECT message_subscription.subscription_id,
+                   message_subscription.process_id,
+                   message_subscription.process_business_key,
+                   message_subscription.subscription_message_name,
+                   message_subscription.subscription_definition_id,
+                   message_subscription.subscription_activity_definition_id,
+                   message_subscription.subscription_created_at
+            FROM message_subscription
+            WHERE message_subscription.subscription_message_name = :messageName
+            LIMIT :limit
+            """;
+
+    private FIND_BY_MESSAGE() {
+        // Index: idx_message_subscription_message_business_key
+    }
+
+}
@@ -0,0 +1,60 @@
+package com.leorces.persistence.postgres.repository.query.subscription;
+
+public class FIND_BY_MESSAGES {
+
+    public static final String FIND_BY_MESSAGES_QUERY = """
+            SELECT CAST(correlation.correlation_position AS INTEGER) AS correlation_position,
+                   message_subscription.subscription_id,
+                   message_subscription.process_id,
+                   message_subscription.process_business_key,
+                   message_subscription.subscription_message_name,
+                   message_subscription.subscription_definition_id,
+                   message_subscription.subscription_activity_definition_id,
+                   message_subscription.subscription_created_at
+            FROM (SELECT message.correlation_position,
+                         message.message_name,
+                         message.business_key,
+                         correlation_key.variable_keys,
+                         correlation_key.variable_values
+                  FROM UNNEST(CAST(:messageNames AS TEXT[]),
+                              CAST(:businessKeys AS TEXT[]))
+                           WITH ORDINALITY AS message(message_name, business_key, correlation_position)
+                           LEFT JOIN (SELECT key_position,
+                                             ARRAY_AGG(variable_key)   AS variable_keys,
+                                             ARRAY_AGG(variable_value) AS variable_values
+                                      FROM UNNEST(CAST(:keyPositions AS INTEGER[]),
+                                                  CAST(:variableKeys AS TEXT[]),
+                                                  CAST(:variableValues AS TEXT[]))
+                                               AS correlation_key(key_position, variable_key, variable_value)
+                                      GROUP BY key_position) AS correlation_key
+                                     ON correlation_key.key_position = message.correlation_position) AS correlation
+                     CROSS JOIN LATERAL (
+                SELECT subscription.*
+                FROM (SELECT *
+                      FROM message_subscription
+                      WHERE correlation.business_key IS NOT NULL
+                        AND message_subscription.subscription_message_name = correlation.message_name
+                        AND message_subscription.process_business_key = correlation.business_key
+                      UNION ALL
+                      SELECT *
+                      FROM message_subscription
+                      WHERE correlation.business_key IS NULL
+                        AND message_subscription.subscription_message_name = correlation.message_name) AS subscription
+                WHERE COALESCE(CARDINALITY(correlation.variable_keys), 0) = (
+                    SELECT COUNT(DISTINCT variable.variable_key)
+                    FROM UNNEST(correlation.variable_keys, correlation.variable_values)
+                             AS correlation_key(variable_key, variable_value)
+                             JOIN variable
+                                  ON variable.execution_id = subscription.process_id
+                                      AND variable.process_id = subscription.process_id
+                                      AND variable.variable_key = correlation_key.variable_key
+                                      AND variable.variable_value = correlation_key.variable_value)
+                LIMIT :limit
+                ) AS message_subscription
+            """;
+
+    private FIND_BY_MESSAGES() {
+        // Index: idx_message_subscription_message_business_key, idx_variable_execution_lookup
+    }
+
+}
@@ -0,0 +1,35 @@
+package com.leorces.persistence.postgres.repository.query.subscription;
+
+public class FIND_BY_MESSAGE_AND_BUSINESS_KEY {
+
+    public static final String FIND_BY_MESSAGE_AND_BUSINESS_KEY_QUERY = """
+            SELECT message_subscription.subscription_id,
+                   message_subscription.process_id,
+                   message_subscription.process_business_key,
+                   message_subscription.subscription_message_name,
+                   message_subscription.subscription_definition_id,
+                   message_subscription.subscription_activity_definition_id,
+                   message_subscription.subscription_created_at
+            FROM message_subscription
+            WHERE message_subscription.subscription_message_name = :messageName
+              AND message_subscription.process_business_key = :businessKey
+              AND (
+                :variableCount = 0
+                    OR (SELECT COUNT(DISTINCT v.variable_key)
+                        FROM variable v
+                        WHERE v.execution_id = message_subscription.process_id
+                          AND v.process_id = message_subscription.process_id
+                          AND (v.variable_key, v.variable_value) IN (SELECT correlation_key.variable_key,
+                                                                            correlation_key.variable_value
+                                                                     FROM UNNEST(CAST(:variableKeys AS TEXT[]),
+                                                                                 CAST(:variableValues AS TEXT[]))
+                                                                              AS correlation_key(variable_key, variable_value))) = :variableCount
+                )
+            LIMIT :limit
+            """;
+
+    private FIND_BY_MESSAGE_AND_BUSINESS_KEY() {
+        // Index: idx_message_subscription_message_business_key, idx_variable_execution_lookup
+    }
+
+}
@@ -0,0 +1,31 @@
+package com.leorces.persistence.postgres.repository.query.subscription;
+
+public class FIND_BY_MESSAGE_AND_VARIABLES {
+
+    public static final String FIND_BY_MESSAGE_AND_VARIABLES_QUERY = """
+            SELECT message_subscription.subscription_id,
+                   message_subscription.process_id,
+                   message_subscription.process_business_key,
+                   message_subscription.subscription_message_name,
+                   message_subscription.subscription_definition_id,
+                   message_subscription.subscription_activity_definition_id,
+                   message_subscription.subscription_created_at
+            FROM message_subscription
+                     JOIN variable
+                          ON variable.execution_id = message_subscription.process_id
+                              AND variable.process_id = message_subscription.process_id
+                     JOIN UNNEST(CAST(:variableKeys AS TEXT[]), CAST(:variableValues AS TEXT[]))
+                AS correlation_key(variable_key, variable_value)
+                          ON variable.variable_key = correlation_key.variable_key
+                              AND variable.variable_value = correlation_key.variable_value
+            WHERE message_subscription.subscription_message_name = :messageName
+            GROUP BY message_subscription.subscription_id
+            HAVING COUNT(DISTINCT variable.variable_key) = :variableCount
+            LIMIT :limit
+            """;
+
+    private FIND_BY_MESSAGE_AND_VARIABLES() {
+        // Index: idx_message_subscription_message_business_key, idx_variable_execution_lookup
+    }
+
+}
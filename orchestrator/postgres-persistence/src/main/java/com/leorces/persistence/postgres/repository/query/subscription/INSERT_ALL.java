@@ -0,0 +1,39 @@
+package com.leorces.persistence.postgres.repository.query.subscription;
+
+public class INSERT_ALL {
+
+    public static final String INSERT_ALL_QUERY = """
+            INSERT INTO message_subscription (subscription_id,
+                                              process_id,
+                                              process_business_key,
+                                              subscription_message_name,
+                                              subscription_definition_id,
+                                              subscription_activity_definition_id,
+                                              subscription_created_at)
+            SELECT s.subscription_id,
+                   s.process_id,
+                   s.process_business_key,
+                   s.subscription_message_name,
+                   s.subscription_definition_id,
+                   s.subscription_activity_definition_id,
+                   :createdAt
+            FROM UNNEST(CAST(:ids AS TEXT[]),
+                        CAST(:processIds AS TEXT[]),
+                        CAST(:businessKeys AS TEXT[]),
+                        CAST(:messageNames AS TEXT[]),
+                        CAST(:definitionIds AS TEXT[]),
+                        CAST(:activityDefinitionIds AS TEXT[]))
+                     AS s(subscription_id,
+                          process_id,
+                          process_business_key,
+                          subscription_message_name,
+                          subscription_definition_id,
+                          subscription_activity_definition_id)
+            ON CONFLICT (process_id, subscription_definition_id) DO NOTHING;
+            """;
+
+    private INSERT_ALL() {
+        // Index: idx_message_subscription_process_definition
+    }
+
+}
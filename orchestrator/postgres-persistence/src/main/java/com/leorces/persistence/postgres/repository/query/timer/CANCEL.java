@@ -0,0 +1,14 @@
+package com.leorces.persistence.postgres.repository.query.timer;
+
+public class CANCEL {
+
+    public static final String CANCEL_QUERY = """
+            DELETE FROM timer
+            WHERE timer_activity_id = :activityId;
+            """;
+
+    private CANCEL() {
+        // Index: idx_timer_activity_id
+    }
+
+}
@@ -0,0 +1,30 @@
+package com.leorces.persistence.postgres.repository.query.timer;
+
+public class CLAIM {
+
+    public static final String CLAIM_QUERY = """
+            WITH candidates AS (SELECT timer.timer_id
+                                FROM timer
+                                WHERE timer.timer_id = ANY (:ids)
+                                  AND (timer.timer_locked_until IS NULL OR timer.timer_locked_until < CURRENT_TIMESTAMP)
+                                    FOR UPDATE SKIP LOCKED)
+            UPDATE timer
+            SET timer_locked_until = CURRENT_TIMESTAMP + :leaseSeconds * INTERVAL '1 second'
+            FROM candidates
+            WHERE timer.timer_id = candidates.timer_id
+            RETURNING timer.timer_id,
+                      timer.process_id,
+                      timer.timer_definition_id,
+                      timer.timer_activity_definition_id,
+                      timer.timer_activity_id,
+                      timer.timer_due_at,
+                      timer.timer_cycle,
+                      timer.timer_locked_until,
+                      timer.timer_created_at;
+            """;
+
+    private CLAIM() {
+        // Index: pk_timer
+    }
+
+}
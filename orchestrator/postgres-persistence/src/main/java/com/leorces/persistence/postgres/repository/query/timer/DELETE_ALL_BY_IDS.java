@@ -0,0 +1,14 @@
+package com.leorces.persistence.postgres.repository.query.timer;
+
+public class DELETE_ALL_BY_IDS {
+
+    public static final String DELETE_ALL_BY_IDS_QUERY = """
+            DELETE FROM timer
+            WHERE timer_id = ANY (:ids);
+            """;
+
+    private DELETE_ALL_BY_IDS() {
+        // Index: pk_timer
+    }
+
+}
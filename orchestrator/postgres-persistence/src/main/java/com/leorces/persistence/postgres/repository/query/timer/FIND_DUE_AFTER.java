@@ -0,0 +1,27 @@
+package com.leorces.persistence.postgres.repository.query.timer;
+
+public class FIND_DUE_AFTER {
+
+    public static final String FIND_DUE_AFTER_QUERY = """
+            SELECT timer.timer_id,
+                   timer.process_id,
+                   timer.timer_definition_id,
+                   timer.timer_activity_definition_id,
+                   timer.timer_activity_id,
+                   timer.timer_due_at,
+                   timer.timer_cycle,
+                   timer.timer_locked_until,
+                   timer.timer_created_at
+            FROM timer
+            WHERE (timer.timer_due_at, timer.timer_id) > (:afterDueAt, :afterId)
+              AND timer.timer_due_at <= :until
+              AND (timer.timer_locked_until IS NULL OR timer.timer_locked_until < CURRENT_TIMESTAMP)
+            ORDER BY timer.timer_due_at, timer.timer_id
+            LIMIT :limit
+            """;
+
+    private FIND_DUE_AFTER() {
+        // Index: idx_timer_due_at_id
+    }
+
+}
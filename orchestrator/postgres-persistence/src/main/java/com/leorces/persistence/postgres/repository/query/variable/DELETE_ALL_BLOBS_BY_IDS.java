@@ -0,0 +1,15 @@
+package com.leorces.persistence.postgres.repository.query.variable;
+
+public class DELETE_ALL_BLOBS_BY_IDS {
+
+    public static final String DELETE_ALL_BLOBS_BY_IDS_QUERY = """
+            DELETE
+            FROM variable_blob
+            WHERE variable_id = ANY(CAST(:ids AS TEXT[]));
+            """;
+
+    private DELETE_ALL_BLOBS_BY_IDS() {
+        // Index: pk_variable_blob
+    }
+
+}
@@ -0,0 +1,23 @@
+package com.leorces.persistence.postgres.repository.query.variable;
+
+public class DELETE_ALL_BY_PROCESS_IDS {
+
+    public static final String DELETE_ALL_BY_PROCESS_IDS_QUERY = """
+            WITH deleted AS (
+                DELETE
+                    FROM variable
+                        USING UNNEST(CAST(:processIds AS TEXT[])) AS compacted(process_id)
+                    WHERE variable.process_id = compacted.process_id
+                    RETURNING variable.variable_id, variable.variable_offloaded)
+            DELETE
+            FROM variable_blob
+            USING deleted
+            WHERE deleted.variable_offloaded
+              AND variable_blob.variable_id = deleted.variable_id;
+            """;
+
+    private DELETE_ALL_BY_PROCESS_IDS() {
+        // Index: idx_variable_process_scope
+    }
+
+}
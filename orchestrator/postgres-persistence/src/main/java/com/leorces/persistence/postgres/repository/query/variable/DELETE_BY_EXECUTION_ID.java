@@ -3,8 +3,15 @@ package com.leorces.persistence.postgres.repository.query.variable;
 public class DELETE_BY_EXECUTION_ID {
 
     public static final String DELETE_BY_PROCESS_ID_QUERY = """
-            DELETE FROM variable
-            WHERE execution_id = :executionId;
+            WITH deleted AS (
+                DELETE FROM variable
+                    WHERE execution_id = :executionId
+                    RETURNING variable_id, variable_offloaded)
+            DELETE
+            FROM variable_blob
+            USING deleted
+            WHERE deleted.variable_offloaded
+              AND variable_blob.variable_id = deleted.variable_id;
             """;
 
     private DELETE_BY_EXECUTION_ID() {
@@ -3,8 +3,15 @@ package com.leorces.persistence.postgres.repository.query.variable;
 public class DELETE_BY_EXECUTION_IDS {
 
     public static final String DELETE_BY_PROCESS_IDS_QUERY = """
-            DELETE FROM variable
-            WHERE execution_id = ANY(:executionIds);
+            WITH deleted AS (
+                DELETE FROM variable
+                    WHERE execution_id = ANY(:executionIds)
+                    RETURNING variable_id, variable_offloaded)
+            DELETE
+            FROM variable_blob
+            USING deleted
+            WHERE deleted.variable_offloaded
+              AND variable_blob.variable_id = deleted.variable_id;
             """;
 
     private DELETE_BY_EXECUTION_IDS() {
@@ -0,0 +1,15 @@
+package com.leorces.persistence.postgres.repository.query.variable;
+
+public final class FIND_ALL_BLOBS_BY_IDS {
+
+    public static final String FIND_ALL_BLOBS_BY_IDS_QUERY = """
+            SELECT *
+            FROM variable_blob
+            WHERE variable_id = ANY(CAST(:ids AS TEXT[]))
+            """;
+
+    private FIND_ALL_BLOBS_BY_IDS() {
+        // Index: pk_variable_blob
+    }
+
+}
@@ -0,0 +1,47 @@
+package com.leorces.persistence.postgres.repository.query.variable;
+
+public class INSERT_ALL {
+
+    public static final String INSERT_ALL_QUERY = """
+            INSERT INTO variable (variable_id,
+                                  process_id,
+                                  execution_id,
+                                  execution_definition_id,
+                                  variable_key,
+                                  variable_value,
+                                  variable_offloaded,
+                                  variable_type,
+                                  variable_created_at,
+                                  variable_updated_at)
+            SELECT v.variable_id,
+                   v.process_id,
+                   v.execution_id,
+                   v.execution_definition_id,
+                   v.variable_key,
+                   v.variable_value,
+                   v.variable_offloaded,
+                   v.variable_type,
+                   :createdAt,
+                   :createdAt
+            FROM UNNEST(CAST(:ids AS TEXT[]),
+                        CAST(:processIds AS TEXT[]),
+                        CAST(:executionIds AS TEXT[]),
+                        CAST(:executionDefinitionIds AS TEXT[]),
+                        CAST(:keys AS TEXT[]),
+                        CAST(:values AS TEXT[]),
+                        CAST(:offloaded AS BOOLEAN[]),
+                        CAST(:types AS TEXT[]))
+                     AS v(variable_id,
+                          process_id,
+                          execution_id,
+                          execution_definition_id,
+                          variable_key,
+                          variable_value,
+                          variable_offloaded,
+                          variable_type);
+            """;
+
+    private INSERT_ALL() {
+    }
+
+}
@@ -0,0 +1,19 @@
+package com.leorces.persistence.postgres.repository.query.variable;
+
+public class UPSERT_ALL_BLOBS {
+
+    public static final String UPSERT_ALL_BLOBS_QUERY = """
+            INSERT INTO variable_blob (variable_id, blob_value)
+            SELECT b.variable_id, b.blob_value
+            FROM UNNEST(CAST(:ids AS TEXT[]),
+                        CAST(:values AS TEXT[]))
+                     AS b(variable_id, blob_value)
+            ON CONFLICT (variable_id) DO UPDATE
+                SET blob_value = EXCLUDED.blob_value;
+            """;
+
+    private UPSERT_ALL_BLOBS() {
+        // Index: pk_variable_blob
+    }
+
+}
@@ -0,0 +1,29 @@
+--liquibase formatted sql
+
+--changeset leorces:2
+
+-- ============================
+-- Table: timer
+-- ============================
+CREATE TABLE IF NOT EXISTS timer
+(
+    timer_id                     TEXT      NOT NULL,
+    timer_definition_id          TEXT      NOT NULL,
+    timer_activity_definition_id TEXT      NOT NULL,
+    timer_activity_id            TEXT      NOT NULL,
+    timer_due_at                 TIMESTAMP NOT NULL,
+    timer_cycle                  TEXT,
+    timer_locked_until           TIMESTAMP,
+    timer_created_at             TIMESTAMP NOT NULL,
+    process_id                   TEXT      NOT NULL,
+
+    CONSTRAINT pk_timer PRIMARY KEY (timer_id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_timer_due_at_id
+    ON timer (timer_due_at, timer_id);
+
+CREATE INDEX IF NOT EXISTS idx_timer_activity_id
+    ON timer (timer_activity_id);
+
+-- End of changeset
@@ -0,0 +1,60 @@
+--liquibase formatted sql
+
+--changeset leorces:3
+
+-- ============================
+-- Table: history, range partitioned by process_completed_at
+-- ============================
+ALTER TABLE history RENAME TO history_unpartitioned;
+ALTER TABLE history_unpartitioned RENAME CONSTRAINT pk_history_item TO pk_history_unpartitioned;
+DROP INDEX IF EXISTS idx_history_created_at;
+DROP INDEX IF EXISTS idx_history_business_key;
+
+-- Existing rows are moved into their range partitions in batches by HistoryPartitionManager at startup
+UPDATE history_unpartitioned
+SET process_completed_at = COALESCE(process_updated_at, process_created_at)
+WHERE process_completed_at IS NULL;
+
+CREATE INDEX IF NOT EXISTS idx_history_unpartitioned_completed_at
+    ON history_unpartitioned (process_completed_at);
+
+CREATE TABLE IF NOT EXISTS history
+(
+    process_id           TEXT      NOT NULL,
+    root_process_id      TEXT,
+    process_parent_id    TEXT,
+    process_business_key TEXT,
+    history_data         BYTEA,
+    process_created_at   TIMESTAMP NOT NULL,
+    process_updated_at   TIMESTAMP,
+    process_started_at   TIMESTAMP,
+    process_completed_at TIMESTAMP NOT NULL,
+
+    -- Must contain the partition key, process_id alone is kept unique by history_key
+    CONSTRAINT pk_history_item PRIMARY KEY (process_id, process_completed_at)
+) PARTITION BY RANGE (process_completed_at);
+
+-- Holds rows of periods without a partition until one is created for them
+CREATE TABLE IF NOT EXISTS history_default PARTITION OF history DEFAULT;
+
+CREATE INDEX IF NOT EXISTS idx_history_created_at
+    ON history (process_created_at DESC);
+
+CREATE INDEX IF NOT EXISTS idx_history_business_key
+    ON history (process_business_key);
+
+-- ============================
+-- Table: history_key, one row per history row across all partitions
+-- ============================
+CREATE TABLE IF NOT EXISTS history_key
+(
+    process_id           TEXT      NOT NULL,
+    process_completed_at TIMESTAMP NOT NULL,
+
+    CONSTRAINT pk_history_key PRIMARY KEY (process_id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_history_key_completed_at
+    ON history_key (process_completed_at);
+
+-- End of changeset
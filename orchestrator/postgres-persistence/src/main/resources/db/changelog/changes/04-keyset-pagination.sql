@@ -0,0 +1,20 @@
+--liquibase formatted sql
+
+--changeset leorces:4
+
+-- ============================
+-- Listings are ordered by creation time and id, pages after a cursor are read from these indexes
+-- ============================
+DROP INDEX IF EXISTS idx_process_created_at;
+CREATE INDEX IF NOT EXISTS idx_process_created_at_id
+    ON process (process_created_at DESC, process_id DESC);
+
+DROP INDEX IF EXISTS idx_history_created_at;
+CREATE INDEX IF NOT EXISTS idx_history_created_at_id
+    ON history (process_created_at DESC, process_id DESC);
+
+DROP INDEX IF EXISTS idx_job_created_at;
+CREATE INDEX IF NOT EXISTS idx_job_created_at_id
+    ON job (job_created_at DESC, job_id DESC);
+
+-- End of changeset
@@ -0,0 +1,22 @@
+--liquibase formatted sql
+
+--changeset leorces:5
+
+-- ============================
+-- Values above the offload threshold are kept out of the variable row, its lookup index and every aggregation
+-- ============================
+ALTER TABLE variable
+    ADD COLUMN IF NOT EXISTS variable_offloaded BOOLEAN NOT NULL DEFAULT FALSE;
+
+-- ============================
+-- Table: variable_blob
+-- ============================
+CREATE TABLE IF NOT EXISTS variable_blob
+(
+    variable_id TEXT NOT NULL,
+    blob_value  TEXT NOT NULL,
+
+    CONSTRAINT pk_variable_blob PRIMARY KEY (variable_id)
+);
+
+-- End of changeset
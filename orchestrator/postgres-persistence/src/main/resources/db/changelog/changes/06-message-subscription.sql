@@ -0,0 +1,81 @@
+--liquibase formatted sql
+
+--changeset leorces:6
+
+-- ============================
+-- Table: message_subscription
+-- ============================
+CREATE TABLE IF NOT EXISTS message_subscription
+(
+    subscription_id                     TEXT      NOT NULL,
+    subscription_message_name           TEXT      NOT NULL,
+    subscription_definition_id          TEXT      NOT NULL,
+    subscription_activity_definition_id TEXT,
+    subscription_created_at             TIMESTAMP NOT NULL,
+    process_id                          TEXT      NOT NULL,
+    process_business_key                TEXT,
+
+    CONSTRAINT pk_message_subscription PRIMARY KEY (subscription_id)
+);
+
+CREATE UNIQUE INDEX IF NOT EXISTS idx_message_subscription_process_definition
+    ON message_subscription (process_id, subscription_definition_id);
+
+CREATE INDEX IF NOT EXISTS idx_message_subscription_message_business_key
+    ON message_subscription (subscription_message_name, process_business_key);
+
+-- Processes already waiting for messages get the subscriptions they would have written when their scopes started
+WITH definition_activity AS (SELECT d.definition_id,
+                                    a ->> 'id'               AS activity_id,
+                                    a ->> 'type'             AS activity_type,
+                                    a ->> 'parentId'         AS parent_id,
+                                    a ->> 'attachedToRef'    AS attached_to_ref,
+                                    a ->> 'messageReference' AS message_name
+                             FROM definition d
+                                      CROSS JOIN LATERAL jsonb_array_elements(d.definition_data -> 'activities') AS a),
+     message_event AS (SELECT e.definition_id,
+                              e.activity_id  AS event_id,
+                              e.message_name,
+                              -- Activity whose run starts the wait, NULL for event subprocesses at process level
+                              CASE e.activity_type
+                                  WHEN 'MESSAGE_BOUNDARY_EVENT' THEN e.attached_to_ref
+                                  WHEN 'MESSAGE_START_EVENT' THEN s.parent_id
+                                  ELSE e.activity_id
+                                  END        AS scope_id
+                       FROM definition_activity e
+                                LEFT JOIN definition_activity s
+                                          ON s.definition_id = e.definition_id
+                                              AND s.activity_id = e.parent_id
+                                              AND s.activity_type = 'EVENT_SUBPROCESS'
+                       WHERE e.message_name IS NOT NULL
+                         AND (e.activity_type IN ('MESSAGE_INTERMEDIATE_CATCH_EVENT', 'RECEIVE_TASK')
+                           OR (e.activity_type = 'MESSAGE_BOUNDARY_EVENT' AND e.attached_to_ref IS NOT NULL)
+                           OR (e.activity_type = 'MESSAGE_START_EVENT' AND s.activity_id IS NOT NULL)))
+INSERT
+INTO message_subscription (subscription_id,
+                           subscription_message_name,
+                           subscription_definition_id,
+                           subscription_activity_definition_id,
+                           subscription_created_at,
+                           process_id,
+                           process_business_key)
+SELECT md5(p.process_id || ':' || m.event_id),
+       m.message_name,
+       m.event_id,
+       m.scope_id,
+       LOCALTIMESTAMP,
+       p.process_id,
+       p.process_business_key
+FROM message_event m
+         JOIN process p
+              ON p.process_definition_id = m.definition_id
+                  AND p.process_state IN ('ACTIVE', 'INCIDENT')
+WHERE m.scope_id IS NULL
+   OR EXISTS (SELECT 1
+              FROM activity a
+              WHERE a.process_id = p.process_id
+                AND a.activity_definition_id = m.scope_id
+                AND a.activity_state NOT IN ('COMPLETED', 'TERMINATED'))
+ON CONFLICT (process_id, subscription_definition_id) DO NOTHING;
+
+-- End of changeset
@@ -0,0 +1,30 @@
+--liquibase formatted sql
+
+--changeset leorces:7
+
+-- ============================
+-- Table: activity_join
+-- ============================
+CREATE TABLE IF NOT EXISTS activity_join
+(
+    process_id             TEXT   NOT NULL,
+    activity_definition_id TEXT   NOT NULL,
+    join_arrivals          BIGINT NOT NULL,
+
+    CONSTRAINT pk_activity_join PRIMARY KEY (process_id, activity_definition_id)
+);
+
+-- ============================
+-- Table: activity_join_arrival
+-- ============================
+-- Arrivals counted at a joining gateway, so a retried or redelivered arrival is counted once
+CREATE TABLE IF NOT EXISTS activity_join_arrival
+(
+    process_id             TEXT NOT NULL,
+    activity_definition_id TEXT NOT NULL,
+    arrival_id             TEXT NOT NULL,
+
+    CONSTRAINT pk_activity_join_arrival PRIMARY KEY (process_id, activity_definition_id, arrival_id)
+);
+
+-- End of changeset
@@ -0,0 +1,31 @@
+--liquibase formatted sql
+
+--changeset leorces:8
+
+-- ============================
+-- Table: activity_instance_counter
+-- ============================
+-- Running instances of a multi-instance body execution
+CREATE TABLE IF NOT EXISTS activity_instance_counter
+(
+    process_id          TEXT   NOT NULL,
+    body_id             TEXT   NOT NULL,
+    instances_remaining BIGINT NOT NULL,
+
+    CONSTRAINT pk_activity_instance_counter PRIMARY KEY (process_id, body_id)
+);
+
+-- ============================
+-- Table: activity_instance
+-- ============================
+-- Instances not counted yet, each pointing to the body it is counted for
+CREATE TABLE IF NOT EXISTS activity_instance
+(
+    process_id  TEXT NOT NULL,
+    instance_id TEXT NOT NULL,
+    body_id     TEXT NOT NULL,
+
+    CONSTRAINT pk_activity_instance PRIMARY KEY (process_id, instance_id)
+);
+
+-- End of changeset
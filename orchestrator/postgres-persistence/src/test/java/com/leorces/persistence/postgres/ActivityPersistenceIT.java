@@ -1,11 +1,14 @@
 package com.leorces.persistence.postgres;
 
+import com.leorces.model.runtime.activity.ActivityExecution;
 import com.leorces.model.runtime.activity.ActivityState;
 import com.leorces.persistence.postgres.utils.ActivityTestData;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -171,8 +174,8 @@ class ActivityPersistenceIT extends RepositoryIT {
     }
 
     @Test
-    @DisplayName("Should find all timed out activities")
-    void findTimedOut() {
+    @DisplayName("Should claim all timed out activities")
+    void claimAllTimedOut() {
         // Given
         var process = runOrderSubmittedProcess();
         var activity1 = ActivityTestData.createNotificationToClientActivityExecution(process).toBuilder()
@@ -186,12 +189,42 @@ class ActivityPersistenceIT extends RepositoryIT {
         activityPersistence.run(activity2);
 
         // When
-        var result = activityPersistence.findTimedOut(10);
+        var result = activityPersistence.claimTimedOut(10, Duration.ofMinutes(5));
 
         // Then
         assertThat(result).hasSize(2);
     }
 
+    @Test
+    @DisplayName("Should claim timed out activities once until the lease expires")
+    void claimTimedOut() {
+        // Given
+        var process = runOrderSubmittedProcess();
+        var timeout = LocalDateTime.now().minusMinutes(1).truncatedTo(ChronoUnit.MILLIS);
+        var activity1 = ActivityTestData.createNotificationToClientActivityExecution(process).toBuilder()
+                .timeout(timeout)
+                .build();
+        var activity2 = ActivityTestData.createNotificationToSellerActivityExecution(process).toBuilder()
+                .timeout(timeout.minusMinutes(1))
+                .build();
+
+        activityPersistence.run(activity1);
+        activityPersistence.run(activity2);
+
+        // When
+        var first = activityPersistence.claimTimedOut(1, Duration.ofMinutes(5));
+        var second = activityPersistence.claimTimedOut(10, Duration.ofMinutes(5));
+        var third = activityPersistence.claimTimedOut(10, Duration.ofMinutes(5));
+
+        // Then
+        assertThat(first).hasSize(1);
+        assertThat(first.getFirst().definitionId()).isEqualTo(activity2.definitionId());
+        assertThat(first.getFirst().timeout()).isBefore(timeout);
+        assertThat(second).hasSize(1);
+        assertThat(second.getFirst().definitionId()).isEqualTo(activity1.definitionId());
+        assertThat(third).isEmpty();
+    }
+
     @Test
     @DisplayName("Should poll activities by topic and process definition key")
     void poll() {
@@ -259,6 +292,115 @@ class ActivityPersistenceIT extends RepositoryIT {
         assertThat(resultAfterCompletion).isTrue();
     }
 
+    @Test
+    @DisplayName("Should count arrivals at a joining gateway per process and gateway")
+    void join() {
+        // Given
+        var process = runOrderSubmittedProcess();
+        activityPersistence.createJoins(List.of(process.id(), process.id()), List.of("join", "another-join"));
+
+        // When
+        var first = activityPersistence.join(process.id(), "join", "arrival-1");
+        var repeated = activityPersistence.join(process.id(), "join", "arrival-1");
+        var second = activityPersistence.join(process.id(), "join", "arrival-2");
+        var otherGateway = activityPersistence.join(process.id(), "another-join", "arrival-1");
+        var withoutCounter = activityPersistence.join(process.id(), "legacy-join", "arrival-1");
+
+        // Then
+        assertThat(first).isEqualTo(1);
+        assertThat(repeated).isZero();
+        assertThat(second).isEqualTo(2);
+        assertThat(otherGateway).isEqualTo(1);
+        assertThat(withoutCounter).isEqualTo(-1);
+    }
+
+    @Test
+    @DisplayName("Should count down running instances per body execution")
+    void completeInstance() {
+        // Given
+        var process = runOrderSubmittedProcess();
+        activityPersistence.startInstances(process.id(), "body-1", 2);
+        activityPersistence.startInstances(process.id(), "body-2", 1);
+        activityPersistence.addInstances(process.id(), "body-1", List.of("instance-1", "instance-2"));
+        activityPersistence.addInstances(process.id(), "body-2", List.of("instance-3"));
+
+        // When
+        var body = activityPersistence.findInstanceBody(process.id(), "instance-1");
+        var first = activityPersistence.completeInstance(process.id(), "instance-1");
+        var repeated = activityPersistence.completeInstance(process.id(), "instance-1");
+        var otherBody = activityPersistence.completeInstance(process.id(), "instance-3");
+        var second = activityPersistence.completeInstance(process.id(), "instance-2");
+        var notCounted = activityPersistence.completeInstance(process.id(), "legacy-instance");
+
+        // Then
+        assertThat(body).contains("body-1");
+        assertThat(first).isEqualTo(1);
+        assertThat(repeated).isEqualTo(-1);
+        assertThat(otherBody).isZero();
+        assertThat(second).isZero();
+        assertThat(notCounted).isEqualTo(-1);
+    }
+
+    @Test
+    @DisplayName("Should run all activities with their variables")
+    void runAll() {
+        // Given
+        var process = runOrderSubmittedProcess();
+
+        // When
+        var activities = activityPersistence.runAll(List.of(
+                ActivityTestData.createNotificationToClientActivityExecution(process),
+                ActivityTestData.createNotificationToSellerActivityExecution(process)
+        ));
+
+        // Then
+        assertThat(activities).hasSize(2);
+        assertThat(activities).allMatch(activity -> activity.state() == ActivityState.ACTIVE);
+        assertThat(activities).extracting(ActivityExecution::id).doesNotContainNull().doesNotHaveDuplicates();
+        assertThat(activityPersistence.findAll(activities.stream().map(ActivityExecution::id).toList())).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("Should find activities by IDs with the variables of their process")
+    void findAllById() {
+        // Given
+        var process = runOrderSubmittedProcess();
+        var activities = activityPersistence.runAll(List.of(
+                ActivityTestData.createNotificationToClientActivityExecution(process),
+                ActivityTestData.createNotificationToSellerActivityExecution(process)
+        ));
+        var ids = activities.stream().map(ActivityExecution::id).toList();
+
+        // When
+        var result = activityPersistence.findAllById(List.of(ids.get(0), ids.get(1), "unknown"));
+
+        // Then
+        assertThat(result).extracting(ActivityExecution::id).containsExactlyInAnyOrderElementsOf(ids);
+        assertThat(result).allSatisfy(activity -> assertThat(activity.process().variables())
+                .hasSameSizeAs(activityPersistence.findById(activity.id()).orElseThrow().process().variables()));
+    }
+
+    @Test
+    @DisplayName("Should complete and fail all activities with one write each")
+    void completeAllAndFailAll() {
+        // Given
+        var process = runOrderSubmittedProcess();
+        var activities = activityPersistence.runAll(List.of(
+                ActivityTestData.createNotificationToClientActivityExecution(process),
+                ActivityTestData.createNotificationToSellerActivityExecution(process)
+        ));
+
+        // When
+        var completed = activityPersistence.completeAll(List.of(activities.get(0)));
+        var failed = activityPersistence.failAll(List.of(activities.get(1)));
+
+        // Then
+        assertThat(completed).extracting(ActivityExecution::id).containsExactly(activities.get(0).id());
+        assertThat(failed).extracting(ActivityExecution::id).containsExactly(activities.get(1).id());
+        assertThat(activityPersistence.findById(activities.get(0).id()).orElseThrow().state()).isEqualTo(ActivityState.COMPLETED);
+        assertThat(activityPersistence.findById(activities.get(1).id()).orElseThrow().state()).isEqualTo(ActivityState.FAILED);
+    }
+
     @Test
     @DisplayName("Should change activity state by ID and update timestamp")
     void changeState() {
@@ -354,8 +496,8 @@ class ActivityPersistenceIT extends RepositoryIT {
     }
 
     @Test
-    @DisplayName("Should find only past timed-out activities and honor limit")
-    void findTimedOutWithBoundariesAndLimit() {
+    @DisplayName("Should claim only past timed-out activities and honor limit")
+    void claimTimedOutWithBoundariesAndLimit() {
         // Given
         var process = runOrderSubmittedProcess();
         var pastActivity = ActivityTestData.createNotificationToClientActivityExecution(process).toBuilder()
@@ -369,16 +511,16 @@ class ActivityPersistenceIT extends RepositoryIT {
         activityPersistence.run(futureActivity);
 
         // When
-        var limitedResults = activityPersistence.findTimedOut(1);
+        var limitedResults = activityPersistence.claimTimedOut(1, Duration.ofMinutes(5));
 
         // Then
         assertThat(limitedResults).hasSize(1);
         assertThat(limitedResults.getFirst().timeout()).isBefore(LocalDateTime.now());
 
-        // When & Then - fetch all
-        var allResults = activityPersistence.findTimedOut(10);
-        assertThat(allResults).allSatisfy(activity -> assertThat(activity.timeout()).isBefore(LocalDateTime.now()));
-        assertThat(allResults.size()).isLessThanOrEqualTo(2);
+        // When & Then - claim the rest
+        var remainingResults = activityPersistence.claimTimedOut(10, Duration.ofMinutes(5));
+        assertThat(remainingResults).allSatisfy(activity -> assertThat(activity.timeout()).isBefore(LocalDateTime.now()));
+        assertThat(remainingResults.size()).isLessThanOrEqualTo(1);
     }
 
     @Test
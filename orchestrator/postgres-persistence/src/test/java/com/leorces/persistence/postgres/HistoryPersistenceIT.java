@@ -8,9 +8,13 @@ import com.leorces.model.runtime.process.ProcessExecution;
 import com.leorces.model.runtime.process.ProcessState;
 import com.leorces.model.runtime.variable.Variable;
 import com.leorces.persistence.postgres.entity.HistoryEntity;
+import com.leorces.persistence.postgres.partition.HistoryPartitionManager;
 import com.leorces.persistence.postgres.utils.ProcessDefinitionTestData;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
 
 import java.time.LocalDateTime;
 import java.util.Collections;
@@ -18,6 +22,7 @@ import java.util.List;
 import java.util.stream.StreamSupport;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @DisplayName("History Persistence Integration Tests")
 class HistoryPersistenceIT extends RepositoryIT {
@@ -27,6 +32,11 @@ class HistoryPersistenceIT extends RepositoryIT {
     private static final String TEST_BUSINESS_KEY = "test-business-key";
     private static final String TEST_ACTIVITY_ID = "test-activity-id";
 
+    @Autowired
+    private HistoryPartitionManager historyPartitionManager;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     @Test
     @DisplayName("Should successfully save single process execution to history")
     void saveSingleProcessExecution() {
@@ -95,6 +105,23 @@ class HistoryPersistenceIT extends RepositoryIT {
         assertThat(processRepository.existsById(processExecution2.id())).isFalse();
     }
 
+    @Test
+    @DisplayName("Should reject a process stored in history twice with another completion time")
+    void saveSameProcessTwice() {
+        // Given
+        var process = createTestProcess();
+        var processExecution = createTestProcessExecution(process);
+        historyPersistence.save(List.of(processExecution));
+        var completedLater = processExecution.toBuilder()
+                .completedAt(processExecution.completedAt().plusYears(1))
+                .build();
+
+        // When & Then
+        assertThatThrownBy(() -> historyPersistence.save(List.of(completedLater)))
+                .isInstanceOf(DuplicateKeyException.class);
+        assertThat(historyRepository.count()).isEqualTo(1);
+    }
+
     @Test
     @DisplayName("Should handle empty process execution list gracefully")
     void saveEmptyProcessExecutionList() {
@@ -109,6 +136,130 @@ class HistoryPersistenceIT extends RepositoryIT {
         assertThat(historyEntities).isEmpty();
     }
 
+    @Test
+    @DisplayName("Should move fully completed processes to history in chunks")
+    void compact() {
+        // Given
+        var process1 = processPersistence.run(createOrderSubmittedProcess());
+        var process2 = processPersistence.run(createOrderSubmittedProcess());
+        var process3 = processPersistence.run(createOrderSubmittedProcess());
+        processPersistence.complete(process1.id());
+        processPersistence.complete(process2.id());
+
+        // When
+        var compacted = historyPersistence.compact(10, 1);
+
+        // Then
+        assertThat(compacted).isEqualTo(2);
+        assertThat(historyRepository.findAllById(List.of(process1.id(), process2.id()))).hasSize(2);
+        assertThat(processRepository.existsById(process1.id())).isFalse();
+        assertThat(processRepository.existsById(process2.id())).isFalse();
+        assertThat(processRepository.existsById(process3.id())).isTrue();
+        assertThat(variablePersistence.findInProcess(process1.id())).isEmpty();
+        assertThat(historyPersistence.findAll(new Pageable(0, 10)).data())
+                .extracting(ProcessExecution::id)
+                .contains(process1.id(), process2.id());
+    }
+
+    @Test
+    @DisplayName("Should compact nothing when no process is fully completed")
+    void compactWithoutCompletedProcesses() {
+        // Given
+        processPersistence.run(createOrderSubmittedProcess());
+
+        // When
+        var compacted = historyPersistence.compact(10, 5);
+
+        // Then
+        assertThat(compacted).isZero();
+        assertThat(historyRepository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should drop expired history partitions and keep recent history")
+    void purgeDropsExpiredPartitions() {
+        // Given
+        var expiredAt = LocalDateTime.now().minusYears(2);
+        historyPartitionManager.ensureUpcoming(expiredAt.toLocalDate());
+        var process = createTestProcess();
+        var expired = createTestProcessExecution(process).toBuilder()
+                .id("expired-process")
+                .completedAt(expiredAt)
+                .build();
+        var recent = createTestProcessExecution(process).toBuilder()
+                .id("recent-process")
+                .build();
+        historyPersistence.save(List.of(expired, recent));
+
+        // When
+        var removed = historyPersistence.purge(LocalDateTime.now().minusYears(1));
+
+        // Then
+        assertThat(removed).isEqualTo(1);
+        assertThat(historyRepository.existsById(expired.id())).isFalse();
+        assertThat(historyRepository.existsById(recent.id())).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should delete expired history kept in the default partition")
+    void purgeDeletesExpiredHistoryWithoutPartition() {
+        // Given
+        var process = createTestProcess();
+        var expired = createTestProcessExecution(process).toBuilder()
+                .id("expired-process")
+                .completedAt(LocalDateTime.now().minusYears(10))
+                .build();
+        historyPersistence.save(List.of(expired));
+
+        // When
+        var removed = historyPersistence.purge(LocalDateTime.now().minusYears(9));
+
+        // Then
+        assertThat(removed).isEqualTo(1);
+        assertThat(historyRepository.existsById(expired.id())).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should move history from the default partition into a new partition")
+    void ensureUpcomingMovesHistoryFromDefaultPartition() {
+        // Given
+        var completedAt = LocalDateTime.now().minusYears(5);
+        var process = createTestProcess();
+        var execution = createTestProcessExecution(process).toBuilder()
+                .completedAt(completedAt)
+                .build();
+        historyPersistence.save(List.of(execution));
+
+        // When
+        historyPartitionManager.ensureUpcoming(completedAt.toLocalDate());
+
+        // Then
+        assertThat(historyPersistence.purge(completedAt.minusDays(40))).isZero();
+        assertThat(historyRepository.existsById(execution.id())).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should move history written before partitioning into the partitions of its periods")
+    void moveUnpartitionedHistory() {
+        // Given
+        var now = LocalDateTime.now();
+        jdbcTemplate.execute("CREATE TABLE history_unpartitioned (LIKE history INCLUDING DEFAULTS)");
+        insertUnpartitioned("old-process-1", now.minusYears(3));
+        insertUnpartitioned("old-process-2", now.minusYears(2));
+        insertUnpartitioned("old-process-3", now);
+
+        // When
+        historyPartitionManager.moveUnpartitioned();
+
+        // Then
+        assertThat(historyRepository.count()).isEqualTo(3);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM history_key", Long.class)).isEqualTo(3);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM history_default", Long.class)).isZero();
+        assertThat(jdbcTemplate.queryForObject("SELECT to_regclass('history_unpartitioned') IS NULL", Boolean.class)).isTrue();
+        assertThat(historyPersistence.purge(now.minusYears(1))).isEqualTo(2);
+        assertThat(historyRepository.existsById("old-process-3")).isTrue();
+    }
+
     @Test
     @DisplayName("Should successfully find all process executions with default pagination")
     void findAllWithDefaultPagination() {
@@ -133,6 +284,27 @@ class HistoryPersistenceIT extends RepositoryIT {
         assertThat(foundExecution.state()).isEqualTo(processExecution.state());
     }
 
+    @Test
+    @DisplayName("Should find process execution summaries without variables")
+    void findAllSummaries() {
+        // Given
+        var process = createTestProcess();
+        var processExecution = createTestProcessExecution(process);
+        historyPersistence.save(List.of(processExecution));
+
+        // When
+        var result = historyPersistence.findAllSummaries(new Pageable(0, 10));
+
+        // Then
+        assertThat(result.total()).isEqualTo(1L);
+        var summary = result.data().getFirst();
+        assertThat(summary.id()).isEqualTo(processExecution.id());
+        assertThat(summary.state()).isEqualTo(processExecution.state());
+        assertThat(summary.variables()).isNull();
+        assertThat(summary.activities()).extracting(Activity::id).containsExactly(TEST_ACTIVITY_ID);
+        assertThat(summary.activities()).extracting(Activity::variables).containsOnlyNulls();
+    }
+
     @Test
     @DisplayName("Should find all process executions with custom pagination")
     void findAllWithCustomPagination() {
@@ -159,6 +331,39 @@ class HistoryPersistenceIT extends RepositoryIT {
         assertThat(result.total()).isEqualTo(5L);
     }
 
+    @Test
+    @DisplayName("Should find all process executions after cursor with estimated total")
+    void findAllAfterCursor() {
+        // Given
+        var process = createTestProcess();
+        for (int i = 1; i <= 5; i++) {
+            historyPersistence.save(List.of(createTestProcessExecution(process).toBuilder()
+                    .id("process-" + i)
+                    .businessKey("business-key-" + i)
+                    .build()));
+        }
+        jdbcTemplate.execute("ANALYZE history");
+        var pageable = Pageable.builder()
+                .limit(3)
+                .total(Pageable.Total.ESTIMATED)
+                .build();
+
+        // When
+        var firstPage = historyPersistence.findAll(pageable);
+        var secondPage = historyPersistence.findAll(pageable.toBuilder()
+                .after(firstPage.next())
+                .build());
+
+        // Then
+        assertThat(firstPage.data()).hasSize(3);
+        assertThat(firstPage.next()).isNotNull();
+        assertThat(secondPage.data()).hasSize(2);
+        assertThat(secondPage.next()).isNull();
+        assertThat(List.of(firstPage.data(), secondPage.data())).flatExtracting(page -> page.stream().map(ProcessExecution::id).toList())
+                .containsExactlyInAnyOrder("process-1", "process-2", "process-3", "process-4", "process-5");
+        assertThat(firstPage.total()).isEqualTo(5L);
+    }
+
     @Test
     @DisplayName("Should return empty result when no history exists")
     void findAllFromEmptyHistory() {
@@ -212,6 +417,15 @@ class HistoryPersistenceIT extends RepositoryIT {
         assertThat(result.total()).isEqualTo(1L);
     }
 
+    private void insertUnpartitioned(String processId, LocalDateTime completedAt) {
+        jdbcTemplate.update(
+                "INSERT INTO history_unpartitioned (process_id, process_created_at, process_completed_at) VALUES (?, ?, ?)",
+                processId,
+                completedAt.minusHours(1),
+                completedAt
+        );
+    }
+
     private Process createTestProcess() {
         var processDefinition = definitionPersistence.save(
                 List.of(ProcessDefinitionTestData.createOrderSubmittedProcessDefinition())
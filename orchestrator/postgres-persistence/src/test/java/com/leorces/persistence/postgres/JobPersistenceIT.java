@@ -85,6 +85,24 @@ class JobPersistenceIT extends RepositoryIT {
         assertThat(foundJob.get().getCompletedAt()).isNotNull();
     }
 
+    @Test
+    @DisplayName("Should checkpoint job output without changing its state")
+    void checkpoint() {
+        // Given
+        var job = jobPersistence.run(createTestJob());
+
+        // When
+        jobPersistence.checkpoint(job.toBuilder()
+                .output(Map.of("progress", 10))
+                .build());
+
+        // Then
+        var foundJob = jobPersistence.findJobById(job.id());
+        assertThat(foundJob).isPresent();
+        assertThat(foundJob.get().state()).isEqualTo(JobState.RUNNING);
+        assertThat(foundJob.get().output()).containsEntry("progress", 10);
+    }
+
     @Test
     @DisplayName("Should find job by ID")
     void findById() {
@@ -0,0 +1,178 @@
+package com.leorces.persistence.postgres;
+
+import com.leorces.model.runtime.message.CorrelationRequest;
+import com.leorces.model.runtime.message.MessageSubscription;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MessageSubscriptionPersistenceIT extends RepositoryIT {
+
+    @Test
+    @DisplayName("Should find subscriptions by message name and business key")
+    void findByMessage() {
+        // Given
+        messageSubscriptionPersistence.save(List.of(
+                subscription("process-1", "order-1", "paid", "catch"),
+                subscription("process-2", "order-2", "paid", "catch"),
+                subscription("process-3", "order-1", "cancelled", "catch")
+        ));
+
+        // When
+        var byBusinessKey = messageSubscriptionPersistence.findByMessage("paid", "order-1", Map.of(), 10);
+        var byMessage = messageSubscriptionPersistence.findByMessage("paid", null, Map.of(), 10);
+
+        // Then
+        assertEquals(List.of("process-1"), byBusinessKey.stream().map(MessageSubscription::processId).toList());
+        assertEquals("paid-event", byBusinessKey.getFirst().definitionId());
+        assertNotNull(byBusinessKey.getFirst().createdAt());
+        assertEquals(2, byMessage.size());
+    }
+
+    @Test
+    @DisplayName("Should match correlation keys against process variables")
+    void findByMessageWithCorrelationKeys() {
+        // Given
+        var process = runOrderSubmittedProcess();
+        messageSubscriptionPersistence.save(List.of(
+                subscription(process.id(), null, "paid", "catch"),
+                subscription("process-2", null, "paid", "catch")
+        ));
+
+        // When
+        var matching = messageSubscriptionPersistence.findByMessage("paid", null, Map.of("order", "{\"number\":1234}"), 10);
+        var notMatching = messageSubscriptionPersistence.findByMessage("paid", null, Map.of("order", "{\"number\":1}"), 10);
+
+        // Then
+        assertEquals(List.of(process.id()), matching.stream().map(MessageSubscription::processId).toList());
+        assertTrue(notMatching.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should find subscriptions of several messages at once")
+    void findByMessages() {
+        // Given
+        messageSubscriptionPersistence.save(List.of(
+                subscription("process-1", "order-1", "paid", "catch"),
+                subscription("process-2", "order-2", "paid", "catch"),
+                subscription("process-2", "order-2", "shipped", "catch"),
+                subscription("process-3", "order-3", "paid", "catch")
+        ));
+
+        // When
+        var subscriptions = messageSubscriptionPersistence.findByMessages(List.of(
+                CorrelationRequest.of("paid", "order-1"),
+                CorrelationRequest.of("shipped", "order-2")
+        ), 10);
+
+        // Then
+        assertEquals(List.of(List.of("process-1:paid"), List.of("process-2:shipped")), subscriptions.stream()
+                .map(found -> found.stream()
+                        .map(subscription -> subscription.processId() + ":" + subscription.messageName())
+                        .toList())
+                .toList());
+    }
+
+    @Test
+    @DisplayName("Should limit subscriptions of several messages per message")
+    void findByMessagesLimitsEachMessage() {
+        // Given
+        messageSubscriptionPersistence.save(List.of(
+                subscription("process-1", "order-1", "paid", "catch"),
+                subscription("process-2", "order-1", "paid", "catch"),
+                subscription("process-3", "order-2", "shipped", "catch")
+        ));
+
+        // When
+        var subscriptions = messageSubscriptionPersistence.findByMessages(List.of(
+                CorrelationRequest.of("paid", "order-1"),
+                CorrelationRequest.of("shipped", "order-2")
+        ), 1);
+
+        // Then
+        assertEquals(List.of(1, 1), subscriptions.stream().map(List::size).toList());
+    }
+
+    @Test
+    @DisplayName("Should match correlation keys of several messages in one lookup")
+    void findByMessagesWithCorrelationKeys() {
+        // Given
+        var process = runOrderSubmittedProcess();
+        messageSubscriptionPersistence.save(List.of(
+                subscription(process.id(), null, "paid", "catch"),
+                subscription("process-2", null, "paid", "catch"),
+                subscription("process-3", "order-3", "shipped", "catch")
+        ));
+
+        // When
+        var subscriptions = messageSubscriptionPersistence.findByMessages(List.of(
+                correlation("paid", null, Map.of("order", "{\"number\":1234}")),
+                correlation("paid", "", Map.of("order", "{\"number\":1}")),
+                correlation("shipped", "order-3", null)
+        ), 10);
+
+        // Then
+        assertEquals(List.of(List.of(process.id()), List.of(), List.of("process-3")), subscriptions.stream()
+                .map(found -> found.stream().map(MessageSubscription::processId).toList())
+                .toList());
+    }
+
+    @Test
+    @DisplayName("Should keep one subscription per message event of a process")
+    void saveIsIdempotent() {
+        // Given
+        messageSubscriptionPersistence.save(List.of(subscription("process-1", "order-1", "paid", "catch")));
+
+        // When
+        messageSubscriptionPersistence.save(List.of(subscription("process-1", "order-1", "paid", "catch")));
+
+        // Then
+        assertEquals(1, messageSubscriptionPersistence.findByMessage("paid", "order-1", Map.of(), 10).size());
+    }
+
+    @Test
+    @DisplayName("Should cancel the subscriptions of an activity and of a process")
+    void cancel() {
+        // Given
+        messageSubscriptionPersistence.save(List.of(
+                subscription("process-1", "order-1", "paid", "catch"),
+                subscription("process-1", "order-1", "cancelled", "task"),
+                subscription("process-2", "order-2", "closed", null)
+        ));
+
+        // When
+        messageSubscriptionPersistence.cancel("process-1", "catch");
+        messageSubscriptionPersistence.cancelAll("process-2");
+
+        // Then
+        assertTrue(messageSubscriptionPersistence.findByMessage("paid", null, Map.of(), 10).isEmpty());
+        assertTrue(messageSubscriptionPersistence.findByMessage("closed", null, Map.of(), 10).isEmpty());
+        assertEquals(1, messageSubscriptionPersistence.findByMessage("cancelled", "order-1", Map.of(), 10).size());
+    }
+
+    private static CorrelationRequest correlation(String messageName, String businessKey, Map<String, Object> correlationKeys) {
+        return CorrelationRequest.builder()
+                .messageName(messageName)
+                .businessKey(businessKey)
+                .correlationKeys(correlationKeys)
+                .build();
+    }
+
+    private MessageSubscription subscription(String processId,
+                                             String businessKey,
+                                             String messageName,
+                                             String activityDefinitionId) {
+        return MessageSubscription.builder()
+                .processId(processId)
+                .businessKey(businessKey)
+                .messageName(messageName)
+                .definitionId(messageName + "-event")
+                .activityDefinitionId(activityDefinitionId)
+                .build();
+    }
+
+}
@@ -67,6 +67,29 @@ class ProcessPersistenceIT extends RepositoryIT {
         });
     }
 
+    @Test
+    @DisplayName("Should run many new processes at once in the given order")
+    void runAll() {
+        // Given
+        var processes = List.of(createOrderSubmittedProcess(), createOrderSubmittedProcess(), createOrderSubmittedProcess());
+
+        // When
+        var result = processPersistence.runAll(processes);
+
+        // Then
+        assertThat(result).hasSize(processes.size());
+        for (int i = 0; i < processes.size(); i++) {
+            var process = result.get(i);
+            assertThat(process.id()).isNotNull();
+            assertThat(process.businessKey()).isEqualTo(processes.get(i).businessKey());
+            assertThat(process.state()).isEqualTo(ProcessState.ACTIVE);
+            assertThat(process.startedAt()).isNotNull();
+            assertThat(process.variables()).hasSize(processes.get(i).variables().size());
+            assertThat(process.variables()).allSatisfy(variable -> assertThat(variable.processId()).isEqualTo(process.id()));
+            assertThat(processPersistence.findById(process.id())).isPresent();
+        }
+    }
+
     @Test
     @DisplayName("Should complete an active process successfully")
     void complete() {
@@ -85,6 +108,22 @@ class ProcessPersistenceIT extends RepositoryIT {
         assertThat(result.updatedAt()).isNotNull();
     }
 
+    @Test
+    @DisplayName("Should find several processes by ids at once")
+    void findAllByIds() {
+        // Given
+        var process1 = processPersistence.run(createOrderSubmittedProcess());
+        var process2 = processPersistence.run(createOrderSubmittedProcess());
+        processPersistence.run(createOrderSubmittedProcess());
+
+        // When
+        var result = processPersistence.findAllByIds(List.of(process1.id(), process2.id(), "missing-id"));
+
+        // Then
+        assertThat(result).extracting(Process::id).containsExactlyInAnyOrder(process1.id(), process2.id());
+        assertThat(result).allSatisfy(process -> assertThat(process.definition()).isNotNull());
+    }
+
     @Test
     @DisplayName("Should terminate an active process successfully")
     void terminate() {
@@ -534,4 +573,35 @@ class ProcessPersistenceIT extends RepositoryIT {
         assertThat(limitedResult.total()).isEqualTo(result.total());
     }
 
+    @Test
+    @DisplayName("Should find all processes page by page after cursor")
+    void findAllAfterCursor() {
+        // Given
+        var process1 = processPersistence.run(createOrderSubmittedProcess());
+        var process2 = processPersistence.run(createOrderSubmittedProcess());
+        var process3 = processPersistence.run(createOrderSubmittedProcess());
+        var firstPageable = Pageable.builder()
+                .limit(2)
+                .total(Pageable.Total.CAPPED)
+                .build();
+
+        // When
+        var firstPage = processPersistence.findAll(firstPageable);
+        var secondPage = processPersistence.findAll(firstPageable.toBuilder()
+                .after(firstPage.next())
+                .build());
+
+        // Then
+        assertThat(firstPage.data()).hasSize(2);
+        assertThat(firstPage.next()).isNotNull();
+        assertThat(firstPage.total()).isEqualTo(3L);
+        assertThat(secondPage.data()).hasSize(1);
+        assertThat(secondPage.next()).isNull();
+        assertThat(secondPage.total()).isEqualTo(3L);
+        assertThat(firstPage.data()).extracting(Process::id)
+                .doesNotContainAnyElementsOf(secondPage.data().stream().map(Process::id).toList());
+        assertThat(List.of(firstPage.data(), secondPage.data())).flatExtracting(page -> page.stream().map(Process::id).toList())
+                .containsExactlyInAnyOrder(process1.id(), process2.id(), process3.id());
+    }
+
 }
\ No newline at end of file
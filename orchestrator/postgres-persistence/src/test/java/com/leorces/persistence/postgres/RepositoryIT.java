@@ -9,6 +9,7 @@ import com.leorces.persistence.postgres.utils.ProcessTestData;
 import org.junit.jupiter.api.AfterEach;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
 import org.springframework.test.context.TestConstructor;
@@ -44,6 +45,10 @@ public abstract class RepositoryIT {
     @Autowired
     protected AdminPersistence adminPersistence;
     @Autowired
+    protected TimerPersistence timerPersistence;
+    @Autowired
+    protected MessageSubscriptionPersistence messageSubscriptionPersistence;
+    @Autowired
     protected DefinitionRepository definitionRepository;
     @Autowired
     protected ProcessRepository processRepository;
@@ -58,7 +63,13 @@ public abstract class RepositoryIT {
     @Autowired
     protected JobRepository jobRepository;
     @Autowired
+    protected TimerRepository timerRepository;
+    @Autowired
+    protected MessageSubscriptionRepository messageSubscriptionRepository;
+    @Autowired
     protected DefinitionCache definitionCache;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
 
     @DynamicPropertySource
     private static void properties(DynamicPropertyRegistry registry) {
@@ -94,7 +105,10 @@ public abstract class RepositoryIT {
         variableRepository.deleteAll();
         shedlockRepository.deleteAll();
         historyRepository.deleteAll();
+        jdbcTemplate.execute("DELETE FROM history_key");
         jobRepository.deleteAll();
+        timerRepository.deleteAll();
+        messageSubscriptionRepository.deleteAll();
         definitionCache.invalidateAll();
     }
 
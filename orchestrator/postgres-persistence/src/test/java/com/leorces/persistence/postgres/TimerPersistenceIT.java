@@ -0,0 +1,107 @@
+package com.leorces.persistence.postgres;
+
+import com.leorces.model.runtime.timer.Timer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TimerPersistenceIT extends RepositoryIT {
+
+    @Test
+    @DisplayName("Should find unclaimed due timers page by page in due time order")
+    void findDue() {
+        // Given
+        var now = LocalDateTime.now();
+        timerPersistence.save(List.of(
+                timer("process-1", "task", now.plusSeconds(20)),
+                timer("process-2", "task", now.minusSeconds(10)),
+                timer("process-3", "task", now.plusSeconds(5)),
+                timer("process-4", "task", now.plusHours(1))
+        ));
+
+        // When
+        var firstPage = timerPersistence.findDue(null, now.plusMinutes(1), 2);
+        var secondPage = timerPersistence.findDue(firstPage.getLast(), now.plusMinutes(1), 2);
+
+        // Then
+        assertEquals(List.of("process-2", "process-3"), firstPage.stream().map(Timer::processId).toList());
+        assertEquals(List.of("process-1"), secondPage.stream().map(Timer::processId).toList());
+    }
+
+    @Test
+    @DisplayName("Should claim a timer once until its lease expires")
+    void claim() {
+        // Given
+        var timers = timerPersistence.save(List.of(timer("process-1", "task", LocalDateTime.now())));
+        var timerIds = timers.stream().map(Timer::id).toList();
+
+        // When
+        var claimed = timerPersistence.claim(timerIds, Duration.ofMinutes(1));
+        var claimedAgain = timerPersistence.claim(timerIds, Duration.ofMinutes(1));
+
+        // Then
+        assertEquals(timerIds, claimed.stream().map(Timer::id).toList());
+        assertTrue(claimedAgain.isEmpty());
+        assertTrue(timerPersistence.findDue(null, LocalDateTime.now().plusMinutes(1), 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should release the claim when a timer is rescheduled")
+    void rescheduleReleasesClaim() {
+        // Given
+        var timer = timerPersistence.save(List.of(timer("process-1", "task", LocalDateTime.now()))).getFirst();
+        timerPersistence.claim(List.of(timer.id()), Duration.ofMinutes(1));
+
+        // When
+        var dueAt = LocalDateTime.now().plusSeconds(10);
+        timerPersistence.save(List.of(timer.toBuilder().dueAt(dueAt).cycle("R/PT10S").build()));
+
+        // Then
+        var found = timerPersistence.findDue(null, dueAt, 10);
+        assertEquals(1, found.size());
+        assertEquals(timer.id(), found.getFirst().id());
+        assertEquals("R/PT10S", found.getFirst().cycle());
+    }
+
+    @Test
+    @DisplayName("Should delete fired timers and cancel timers of an activity")
+    void deleteAndCancel() {
+        // Given
+        var timers = timerPersistence.save(List.of(
+                timer("process-1", "task-a", LocalDateTime.now()),
+                timer("process-1", "task-b", LocalDateTime.now()),
+                timer("process-1", "task-b", LocalDateTime.now()).toBuilder().activityId("activity-b1").build(),
+                timer("process-1", "task-b", LocalDateTime.now()).toBuilder().activityId("activity-b2").build(),
+                timer("process-2", "task-a", LocalDateTime.now())
+        ));
+
+        // When
+        timerPersistence.delete(List.of(timers.getFirst().id()));
+        timerPersistence.cancel("activity-b1");
+
+        // Then
+        var remaining = timerPersistence.findDue(null, LocalDateTime.now().plusMinutes(1), 10);
+        assertEquals(
+                Set.of(timers.get(1).id(), timers.get(3).id(), timers.getLast().id()),
+                remaining.stream().map(Timer::id).collect(Collectors.toSet())
+        );
+    }
+
+    private Timer timer(String processId, String activityDefinitionId, LocalDateTime dueAt) {
+        return Timer.builder()
+                .processId(processId)
+                .definitionId("timer-event")
+                .activityDefinitionId(activityDefinitionId)
+                .activityId(processId + "-" + activityDefinitionId)
+                .dueAt(dueAt)
+                .build();
+    }
+
+}
@@ -3,9 +3,12 @@ package com.leorces.persistence.postgres;
 import com.leorces.model.runtime.activity.ActivityExecution;
 import com.leorces.model.runtime.process.Process;
 import com.leorces.model.runtime.variable.Variable;
+import com.leorces.persistence.postgres.utils.ActivityTestData;
 import com.leorces.persistence.postgres.utils.VariableTestData;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
 
 import java.util.List;
 
@@ -15,6 +18,9 @@ import static org.junit.jupiter.api.Assertions.*;
 @DisplayName("VariablePersistenceIT Tests")
 class VariablePersistenceIT extends RepositoryIT {
 
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     @Test
     @DisplayName("Should save variables from process and return them with generated IDs")
     void saveByProcess() {
@@ -268,6 +274,101 @@ class VariablePersistenceIT extends RepositoryIT {
         assertThat(variables).isEmpty();
     }
 
+    @Test
+    @DisplayName("Should offload large values and read them back in full")
+    void saveLargeValue() {
+        // Given
+        var process = runProcess();
+        var payload = createPayloadVariable("x".repeat(5_000));
+
+        // When
+        var saved = variablePersistence.save(process.toBuilder().variables(List.of(payload)).build());
+
+        // Then
+        assertThat(saved).extracting(Variable::varValue).containsExactly(payload.varValue());
+        assertThat(variablePersistence.findInProcess(process.id()))
+                .extracting(Variable::varValue)
+                .containsExactly(payload.varValue());
+        assertThat(processPersistence.findById(process.id()).orElseThrow().variables())
+                .extracting(Variable::varValue)
+                .containsExactly(payload.varValue());
+        assertThat(countBlobs(saved.getFirst().id())).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT variable_value FROM variable WHERE variable_id = ?", String.class, saved.getFirst().id()
+        )).isNull();
+    }
+
+    @Test
+    @DisplayName("Should drop the blob when an offloaded value is updated to a small one")
+    void updateLargeValueToSmall() {
+        // Given
+        var process = runProcess();
+        var saved = variablePersistence.save(process.toBuilder()
+                .variables(List.of(createPayloadVariable("x".repeat(5_000))))
+                .build());
+
+        // When
+        var updated = variablePersistence.update(List.of(saved.getFirst().toBuilder().varValue("small").build()));
+
+        // Then
+        assertThat(updated).extracting(Variable::varValue).containsExactly("small");
+        assertThat(variablePersistence.findInProcess(process.id()))
+                .extracting(Variable::varValue)
+                .containsExactly("small");
+        assertThat(countBlobs(saved.getFirst().id())).isZero();
+    }
+
+    @Test
+    @DisplayName("Should delete blobs of deleted variables")
+    void deleteLargeValueByExecutionId() {
+        // Given
+        var process = runProcess();
+        var saved = variablePersistence.save(process.toBuilder()
+                .variables(List.of(createPayloadVariable("x".repeat(5_000))))
+                .build());
+
+        // When
+        variablePersistence.deleteByExecutionId(process.id());
+
+        // Then
+        assertThat(countBlobs(saved.getFirst().id())).isZero();
+    }
+
+    @Test
+    @DisplayName("Should poll offloaded values by reference and read them by variable ID")
+    void pollLargeValueByReference() {
+        // Given
+        var process = runProcess();
+        var saved = variablePersistence.save(process.toBuilder()
+                .variables(List.of(createPayloadVariable("x".repeat(5_000))))
+                .build());
+        activityPersistence.schedule(ActivityTestData.createNotificationToClientActivityExecution(process));
+
+        // When
+        var polled = activityPersistence.poll("notification", "order-submitted-process", 1);
+
+        // Then
+        var reference = polled.getFirst().variables().getFirst();
+        assertThat(reference.offloaded()).isTrue();
+        assertThat(reference.varValue()).isNull();
+        assertThat(variablePersistence.findValues(List.of(reference.id())))
+                .containsEntry(saved.getFirst().id(), "x".repeat(5_000));
+    }
+
+    private Integer countBlobs(String variableId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM variable_blob WHERE variable_id = ?", Integer.class, variableId
+        );
+    }
+
+    private Variable createPayloadVariable(String value) {
+        return Variable.builder()
+                .varKey("payload")
+                .varValue(value)
+                .type("string")
+                .build();
+    }
+
     private Process runProcess() {
         var process = createOrderSubmittedProcess().toBuilder()
                 .variables(List.of())
@@ -0,0 +1,134 @@
+package com.leorces.persistence.postgres.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.leorces.model.runtime.activity.Activity;
+import com.leorces.model.runtime.activity.ActivityState;
+import com.leorces.model.runtime.process.ProcessExecution;
+import com.leorces.model.runtime.process.ProcessState;
+import com.leorces.persistence.postgres.configuration.HistoryCodecProperties;
+import com.leorces.persistence.postgres.configuration.PostgresPersistenceAutoConfiguration;
+import com.leorces.persistence.postgres.utils.ProcessDefinitionTestData;
+import com.leorces.persistence.postgres.utils.VariableTestData;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("History Codecs Tests")
+class HistoryCodecsTest {
+
+    private static final String TEST_PROCESS_ID = "test-process-id";
+
+    private final ObjectMapper objectMapper = new PostgresPersistenceAutoConfiguration().persistenceObjectMapper();
+
+    @ParameterizedTest
+    @EnumSource(HistoryFormat.class)
+    @DisplayName("Should decode history written in each format")
+    void decodeEachFormat(HistoryFormat format) throws Exception {
+        // Given
+        var codecs = createCodecs(format);
+        var execution = createProcessExecution();
+
+        // When
+        var data = codecs.encoder().encode(execution);
+        var decoded = codecs.decoderOf(data).decode(data);
+
+        // Then
+        assertThat(codecs.decoderOf(data).format()).isEqualTo(format);
+        assertThat(decoded).isEqualTo(execution);
+    }
+
+    @ParameterizedTest
+    @EnumSource(HistoryFormat.class)
+    @DisplayName("Should decode summary without variables in each format")
+    void decodeSummaryEachFormat(HistoryFormat format) throws Exception {
+        // Given
+        var codecs = createCodecs(format);
+        var execution = createProcessExecution();
+        var data = codecs.encoder().encode(execution);
+
+        // When
+        var summary = codecs.decoderOf(data).decodeSummary(data);
+
+        // Then
+        assertThat(summary.id()).isEqualTo(execution.id());
+        assertThat(summary.state()).isEqualTo(execution.state());
+        assertThat(summary.definition()).isEqualTo(execution.definition());
+        assertThat(summary.variables()).isNull();
+        assertThat(summary.activities()).extracting(Activity::id).containsExactly("activity-1", "activity-2");
+        assertThat(summary.activities()).extracting(Activity::variables).containsOnlyNulls();
+    }
+
+    @Test
+    @DisplayName("Should decode gzip JSON history when writing another format")
+    void decodeLegacyFormat() throws Exception {
+        // Given
+        var execution = createProcessExecution();
+        var legacyData = createCodecs(HistoryFormat.GZIP_JSON).encoder().encode(execution);
+        var codecs = createCodecs(HistoryFormat.SMILE_LZ4);
+
+        // When
+        var decoded = codecs.decoderOf(legacyData).decode(legacyData);
+
+        // Then
+        assertThat(decoded).isEqualTo(execution);
+    }
+
+    @Test
+    @DisplayName("Should reject data of unknown format")
+    void rejectUnknownFormat() {
+        // Given
+        var codecs = createCodecs(HistoryFormat.SMILE_LZ4);
+
+        // When & Then
+        assertThatThrownBy(() -> codecs.decoderOf(new byte[]{42, 0, 0}))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private HistoryCodecs createCodecs(HistoryFormat format) {
+        return new HistoryCodecs(objectMapper, new HistoryCodecProperties(format));
+    }
+
+    // Read back once, so values filled in on deserialization (like activity types) are part of the expectation
+    private ProcessExecution createProcessExecution() throws IOException {
+        var now = LocalDateTime.of(2026, 10, 18, 12, 0);
+        var execution = ProcessExecution.builder()
+                .id(TEST_PROCESS_ID)
+                .businessKey("test-business-key")
+                .definition(ProcessDefinitionTestData.createOrderSubmittedProcessDefinition())
+                .state(ProcessState.COMPLETED)
+                .variables(List.of(VariableTestData.createOrderVariable()))
+                .activities(List.of(
+                        createActivity("activity-1", now).toBuilder()
+                                .variables(List.of(VariableTestData.createClientVariable()))
+                                .build(),
+                        createActivity("activity-2", now)
+                ))
+                .createdAt(now)
+                .updatedAt(now)
+                .startedAt(now)
+                .completedAt(now)
+                .build();
+        return objectMapper.readValue(objectMapper.writeValueAsBytes(execution), ProcessExecution.class);
+    }
+
+    private Activity createActivity(String id, LocalDateTime now) {
+        return Activity.builder()
+                .id(id)
+                .definitionId(id)
+                .processId(TEST_PROCESS_ID)
+                .state(ActivityState.COMPLETED)
+                .variables(List.of())
+                .createdAt(now)
+                .completedAt(now)
+                .build();
+    }
+
+}
@@ -0,0 +1,162 @@
+package com.leorces.persistence.postgres.mapper;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.leorces.model.definition.ProcessDefinition;
+import com.leorces.persistence.postgres.cache.DefinitionCache;
+import com.leorces.persistence.postgres.configuration.PostgresPersistenceAutoConfiguration;
+import com.leorces.persistence.postgres.entity.ActivityExecutionEntity;
+import com.leorces.persistence.postgres.entity.ProcessDefinitionEntity;
+import com.leorces.persistence.postgres.entity.ProcessEntity;
+import com.leorces.persistence.postgres.repository.DefinitionRepository;
+import com.leorces.persistence.postgres.utils.ProcessDefinitionTestData;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@DisplayName("DefinitionMapper Tests")
+class DefinitionMapperTest {
+
+    private static final String CACHED_DEFINITION_ID = "cached-definition-id";
+    private static final String MISSING_DEFINITION_ID = "missing-definition-id";
+    private static final LocalDateTime DEFINITION_UPDATED_AT = LocalDateTime.of(2025, 1, 1, 0, 0);
+    private static final LocalDateTime ROW_UPDATED_AT = LocalDateTime.of(2025, 6, 1, 12, 0);
+
+    private ObjectMapper objectMapper;
+    private DefinitionCache cache;
+    private DefinitionRepository definitionRepository;
+    private DefinitionMapper mapper;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = spy(new PostgresPersistenceAutoConfiguration().persistenceObjectMapper());
+        cache = new DefinitionCache();
+        definitionRepository = mock(DefinitionRepository.class);
+        mapper = new DefinitionMapper(objectMapper, cache, definitionRepository);
+    }
+
+    @Test
+    @DisplayName("prefetch should load only uncached definitions with a single query")
+    void prefetchLoadsOnlyUncachedDefinitions() {
+        // Given
+        var missingEntity = createEntity(MISSING_DEFINITION_ID);
+        cache.putData(createDefinition(CACHED_DEFINITION_ID));
+        when(definitionRepository.findAllByIds(any())).thenReturn(List.of(missingEntity));
+
+        // When
+        mapper.prefetch(Arrays.asList(CACHED_DEFINITION_ID, MISSING_DEFINITION_ID, MISSING_DEFINITION_ID, null));
+        var definition = mapper.toDefinition(createActivityEntity(MISSING_DEFINITION_ID));
+
+        // Then
+        verify(definitionRepository).findAllByIds(new String[]{MISSING_DEFINITION_ID});
+        verify(definitionRepository, never()).findById(anyString());
+        assertThat(definition.id()).isEqualTo(MISSING_DEFINITION_ID);
+    }
+
+    @Test
+    @DisplayName("prefetch should not query when every definition is cached")
+    void prefetchSkipsQueryWhenCached() {
+        // Given
+        cache.putData(createDefinition(CACHED_DEFINITION_ID));
+
+        // When
+        mapper.prefetch(List.of(CACHED_DEFINITION_ID));
+
+        // Then
+        verifyNoInteractions(definitionRepository);
+    }
+
+    @Test
+    @DisplayName("toDefinition should reuse a cached definition without parsing it")
+    void toDefinitionSkipsParsingOnCacheHit() throws Exception {
+        // Given
+        var cached = createDefinition(CACHED_DEFINITION_ID);
+        cache.putData(cached);
+
+        // When
+        var definition = mapper.toDefinition(createActivityEntity(CACHED_DEFINITION_ID));
+
+        // Then
+        assertThat(definition.activities()).isSameAs(cached.activities());
+        verify(objectMapper, never()).readValue(anyString(), any(Class.class));
+        verifyNoInteractions(definitionRepository);
+    }
+
+    @Test
+    @DisplayName("toDefinition should parse a missing definition once and cache it")
+    void toDefinitionParsesMissingDefinitionOnce() {
+        // Given
+        var missingEntity = createEntity(MISSING_DEFINITION_ID);
+        when(definitionRepository.findById(MISSING_DEFINITION_ID)).thenReturn(Optional.of(missingEntity));
+
+        // When
+        var first = mapper.toDefinition(createActivityEntity(MISSING_DEFINITION_ID));
+        var second = mapper.toDefinition(createActivityEntity(MISSING_DEFINITION_ID));
+
+        // Then
+        verify(definitionRepository).findById(MISSING_DEFINITION_ID);
+        assertThat(second.activities()).isSameAs(first.activities());
+    }
+
+    @Test
+    @DisplayName("toDefinition should take suspended and updated at from the row")
+    void toDefinitionTakesRowState() {
+        // Given
+        cache.putData(createDefinition(CACHED_DEFINITION_ID));
+        var activityEntity = createActivityEntity(CACHED_DEFINITION_ID);
+        activityEntity.setDefinitionSuspended(true);
+        activityEntity.setDefinitionUpdatedAt(ROW_UPDATED_AT);
+        var processEntity = ProcessEntity.builder()
+                .definitionId(CACHED_DEFINITION_ID)
+                .suspended(true)
+                .build();
+
+        // When
+        var activityDefinition = mapper.toDefinition(activityEntity);
+        var processDefinition = mapper.toDefinition(processEntity);
+
+        // Then
+        assertThat(activityDefinition.suspended()).isTrue();
+        assertThat(activityDefinition.updatedAt()).isEqualTo(ROW_UPDATED_AT);
+        assertThat(processDefinition.suspended()).isTrue();
+        assertThat(processDefinition.updatedAt()).isEqualTo(DEFINITION_UPDATED_AT);
+        assertThat(cache.findDataById(CACHED_DEFINITION_ID))
+                .hasValueSatisfying(cached -> assertThat(cached.suspended()).isFalse());
+    }
+
+    private ProcessDefinition createDefinition(String definitionId) {
+        return ProcessDefinitionTestData.createOrderFulfillmentProcessDefinition().toBuilder()
+                .id(definitionId)
+                .suspended(false)
+                .updatedAt(DEFINITION_UPDATED_AT)
+                .build();
+    }
+
+    private ProcessDefinitionEntity createEntity(String definitionId) {
+        var definition = createDefinition(definitionId);
+        return ProcessDefinitionEntity.builder()
+                .id(definitionId)
+                .key(definition.key())
+                .name(definition.name())
+                .version(definition.version())
+                .updatedAt(DEFINITION_UPDATED_AT)
+                .data(mapper.toJson(definition))
+                .build();
+    }
+
+    private ActivityExecutionEntity createActivityEntity(String definitionId) {
+        return ActivityExecutionEntity.builder()
+                .definitionId(definitionId)
+                .build();
+    }
+
+}
@@ -2,14 +2,23 @@ package com.leorces.rest.client;
 
 import com.leorces.api.ActivityService;
 import com.leorces.model.runtime.activity.Activity;
+import com.leorces.model.runtime.activity.ActivityCompleteRequest;
+import com.leorces.model.runtime.activity.ActivityFailRequest;
 import com.leorces.model.runtime.activity.ActivityFailure;
+import com.leorces.model.runtime.activity.ActivityPollRequest;
+import com.leorces.model.runtime.activity.ActivityUpdateResult;
 import com.leorces.rest.client.client.ActivityClient;
+import com.leorces.rest.client.model.request.ActivityBatchRequest;
+import com.leorces.rest.client.model.request.CompleteActivityItem;
+import com.leorces.rest.client.model.request.FailActivityItem;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 @Slf4j
 @RequiredArgsConstructor
@@ -53,6 +62,22 @@ public class ActivityServiceImpl implements ActivityService {
         activityClient.fail(activityId, failure, variables);
     }
 
+    @Override
+    public List<ActivityUpdateResult> completeAll(List<ActivityCompleteRequest> requests) {
+        var completions = requests.stream()
+                .map(request -> new CompleteActivityItem(request.activityId(), request.variables()))
+                .toList();
+        return activityClient.batch(new ActivityBatchRequest(completions, List.of())).results();
+    }
+
+    @Override
+    public List<ActivityUpdateResult> failAll(List<ActivityFailRequest> requests) {
+        var failures = requests.stream()
+                .map(request -> new FailActivityItem(request.activityId(), request.failure(), request.variables()))
+                .toList();
+        return activityClient.batch(new ActivityBatchRequest(List.of(), failures)).results();
+    }
+
     @Override
     public void terminate(String activityId) {
         activityClient.terminate(activityId);
@@ -68,4 +93,29 @@ public class ActivityServiceImpl implements ActivityService {
         return activityClient.poll(processDefinitionKey, topic, limit);
     }
 
+    @Override
+    public List<Activity> poll(String topic, String processDefinitionKey, int limit, Duration timeout) {
+        return activityClient.poll(processDefinitionKey, topic, limit, timeout.toMillis());
+    }
+
+    @Override
+    public List<Activity> poll(List<ActivityPollRequest> requests, Duration timeout) {
+        return activityClient.poll(requests, timeout.toMillis());
+    }
+
+    @Override
+    public CompletableFuture<List<Activity>> pollAsync(String topic, String processDefinitionKey, int limit, Duration timeout) {
+        return CompletableFuture.supplyAsync(() -> poll(topic, processDefinitionKey, limit, timeout), Thread::startVirtualThread);
+    }
+
+    @Override
+    public CompletableFuture<List<Activity>> pollAsync(List<ActivityPollRequest> requests, Duration timeout) {
+        return CompletableFuture.supplyAsync(() -> poll(requests, timeout), Thread::startVirtualThread);
+    }
+
+    @Override
+    public Map<String, String> findVariableValues(List<String> variableIds) {
+        return activityClient.findVariableValues(variableIds);
+    }
+
 }
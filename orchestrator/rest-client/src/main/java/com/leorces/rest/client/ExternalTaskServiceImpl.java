@@ -2,6 +2,7 @@ package com.leorces.rest.client;
 
 import com.leorces.model.runtime.activity.ActivityFailure;
 import com.leorces.rest.client.client.TaskRestClient;
+import com.leorces.rest.client.client.TaskUpdateBatcher;
 import com.leorces.rest.client.model.ExternalTask;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -17,6 +18,7 @@ import java.util.Objects;
 public class ExternalTaskServiceImpl implements ExternalTaskService {
 
     private final TaskRestClient taskRestClient;
+    private final TaskUpdateBatcher taskUpdateBatcher;
 
     @Override
     public boolean complete(ExternalTask externalTask) {
@@ -25,6 +27,10 @@ public class ExternalTaskServiceImpl implements ExternalTaskService {
 
     @Override
     public boolean complete(ExternalTask externalTask, Map<String, Object> variables) {
+        if (taskUpdateBatcher.isEnabled()) {
+            return taskUpdateBatcher.complete(externalTask.id(), Objects.requireNonNullElse(variables, Map.of()));
+        }
+
         try {
             var response = taskRestClient.complete(externalTask.id(), Objects.requireNonNullElse(variables, Map.of()));
             var isSuccessful = response.getStatusCode().is2xxSuccessful();
@@ -56,6 +62,10 @@ public class ExternalTaskServiceImpl implements ExternalTaskService {
 
     @Override
     public boolean fail(String taskId, ActivityFailure failure, Map<String, Object> variables) {
+        if (taskUpdateBatcher.isEnabled()) {
+            return taskUpdateBatcher.fail(taskId, failure, Objects.requireNonNullElse(variables, Map.of()));
+        }
+
         try {
             var response = taskRestClient.fail(taskId, failure, Objects.requireNonNullElse(variables, Map.of()));
             var isSuccessful = response.getStatusCode().is2xxSuccessful();
@@ -19,4 +19,9 @@ public class HistoryServiceImpl implements HistoryService {
         return historyClient.findAll(pageable);
     }
 
+    @Override
+    public PageableData<ProcessExecution> findAllSummaries(Pageable pageable) {
+        return historyClient.findAllSummaries(pageable);
+    }
+
 }
@@ -1,13 +1,17 @@
 package com.leorces.rest.client;
 
 import com.leorces.api.RuntimeService;
+import com.leorces.model.runtime.message.CorrelationRequest;
+import com.leorces.model.runtime.message.CorrelationResult;
 import com.leorces.model.runtime.process.Process;
+import com.leorces.model.runtime.process.StartProcessRequest;
 import com.leorces.model.search.ProcessFilter;
 import com.leorces.rest.client.client.RuntimeClient;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
 import java.util.Map;
 
 @Slf4j
@@ -57,6 +61,11 @@ public class RuntimeServiceImpl implements RuntimeService {
         return runtimeClient.startProcessByKey(key, businessKey, variables);
     }
 
+    @Override
+    public List<Process> startProcesses(List<StartProcessRequest> requests) {
+        return runtimeClient.startProcesses(requests);
+    }
+
     @Override
     public void terminateProcess(String processId) {
         runtimeClient.terminateProcess(processId);
@@ -132,4 +141,9 @@ public class RuntimeServiceImpl implements RuntimeService {
         runtimeClient.correlateMessage(messageName, businessKey, correlationKeys, processVariables);
     }
 
+    @Override
+    public List<CorrelationResult> correlateMessages(List<CorrelationRequest> requests) {
+        return runtimeClient.correlateMessages(requests);
+    }
+
 }
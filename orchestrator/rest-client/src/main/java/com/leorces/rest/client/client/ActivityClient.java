@@ -2,7 +2,11 @@ package com.leorces.rest.client.client;
 
 import com.leorces.model.runtime.activity.Activity;
 import com.leorces.model.runtime.activity.ActivityFailure;
+import com.leorces.model.runtime.activity.ActivityPollRequest;
+import com.leorces.rest.client.model.request.ActivityBatchRequest;
 import com.leorces.rest.client.model.request.FailActivityRequest;
+import com.leorces.rest.client.model.request.PollActivitiesRequest;
+import com.leorces.rest.client.model.response.ActivityBatchResponse;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.core.ParameterizedTypeReference;
@@ -23,6 +27,8 @@ public class ActivityClient {
 
     private static final ParameterizedTypeReference<List<Activity>> ACTIVITY_LIST_TYPE_REF = new ParameterizedTypeReference<>() {
     };
+    private static final ParameterizedTypeReference<Map<String, String>> VARIABLE_VALUES_TYPE_REF = new ParameterizedTypeReference<>() {
+    };
 
     private final RestClient leorcesRestClient;
 
@@ -74,6 +80,21 @@ public class ActivityClient {
         }
     }
 
+    public ActivityBatchResponse batch(ActivityBatchRequest request) {
+        try {
+            return leorcesRestClient.put()
+                    .uri(BATCH_ACTIVITIES_ENDPOINT)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .accept(MediaType.APPLICATION_JSON)
+                    .body(request)
+                    .retrieve()
+                    .body(ActivityBatchResponse.class);
+        } catch (Exception e) {
+            log.warn("Can't update activities in batch, error={}", e.getMessage());
+            throw e;
+        }
+    }
+
     public void terminate(String activityId) {
         try {
             leorcesRestClient.put()
@@ -103,11 +124,16 @@ public class ActivityClient {
     }
 
     public List<Activity> poll(String processDefinitionKey, String topic, int limit) {
+        return poll(processDefinitionKey, topic, limit, 0);
+    }
+
+    public List<Activity> poll(String processDefinitionKey, String topic, int limit, long timeoutMillis) {
         try {
             return leorcesRestClient.get()
                     .uri(uriBuilder -> uriBuilder
                             .path(POLL_ACTIVITIES_ENDPOINT.formatted(processDefinitionKey, topic))
                             .queryParam(SIZE_PARAM, limit)
+                            .queryParam(TIMEOUT_PARAM, timeoutMillis)
                             .build())
                     .retrieve()
                     .body(ACTIVITY_LIST_TYPE_REF);
@@ -120,4 +146,34 @@ public class ActivityClient {
         }
     }
 
+    public List<Activity> poll(List<ActivityPollRequest> requests, long timeoutMillis) {
+        try {
+            return leorcesRestClient.post()
+                    .uri(POLL_ALL_ACTIVITIES_ENDPOINT)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .accept(MediaType.APPLICATION_JSON)
+                    .body(new PollActivitiesRequest(requests, timeoutMillis))
+                    .retrieve()
+                    .body(ACTIVITY_LIST_TYPE_REF);
+        } catch (Exception e) {
+            log.warn("Can't poll activities of {} topics, error={}", requests.size(), e.getMessage());
+            throw e;
+        }
+    }
+
+    public Map<String, String> findVariableValues(List<String> variableIds) {
+        try {
+            return leorcesRestClient.post()
+                    .uri(VARIABLE_VALUES_ENDPOINT)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .accept(MediaType.APPLICATION_JSON)
+                    .body(variableIds)
+                    .retrieve()
+                    .body(VARIABLE_VALUES_TYPE_REF);
+        } catch (Exception e) {
+            log.warn("Can't find values of {} variables, error={}", variableIds.size(), e.getMessage());
+            throw e;
+        }
+    }
+
 }
@@ -2,6 +2,7 @@ package com.leorces.rest.client.client;
 
 import com.leorces.model.job.Job;
 import com.leorces.model.job.migration.ProcessMigrationPlan;
+import com.leorces.model.pagination.PageCursor;
 import com.leorces.model.pagination.Pageable;
 import com.leorces.model.pagination.PageableData;
 import com.leorces.rest.client.model.request.RunJobRequest;
@@ -57,6 +58,8 @@ public class AdminClient {
                             .queryParam("order", pageable.order() != null ? pageable.order().name().toLowerCase() : "asc")
                             .queryParam("filter", pageable.filter())
                             .queryParam("state", pageable.state())
+                            .queryParamIfPresent("after", Optional.ofNullable(pageable.after()).map(PageCursor::encode))
+                            .queryParam("total", pageable.totalOrDefault().name().toLowerCase())
                             .build())
                     .accept(MediaType.APPLICATION_JSON)
                     .retrieve()
@@ -1,5 +1,6 @@
 package com.leorces.rest.client.client;
 
+import com.leorces.model.pagination.PageCursor;
 import com.leorces.model.pagination.Pageable;
 import com.leorces.model.pagination.PageableData;
 import com.leorces.model.runtime.process.ProcessExecution;
@@ -10,7 +11,10 @@ import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestClient;
 
+import java.util.Optional;
+
 import static com.leorces.rest.client.constants.ApiConstants.HISTORY_ENDPOINT;
+import static com.leorces.rest.client.constants.ApiConstants.HISTORY_SUMMARIES_ENDPOINT;
 
 @Slf4j
 @Component
@@ -27,22 +31,37 @@ public class HistoryClient {
 
     public PageableData<ProcessExecution> findAll(Pageable pageable) {
         try {
-            return leorcesRestClient.get()
-                    .uri(uriBuilder -> uriBuilder
-                            .path(HISTORY_ENDPOINT)
-                            .queryParam("page", pageable.offset() / pageable.limit())
-                            .queryParam("size", pageable.limit())
-                            .queryParam("sortField", pageable.sortByField())
-                            .queryParam("order", pageable.order() != null ? pageable.order().name().toLowerCase() : "asc")
-                            .queryParam("filter", pageable.filter())
-                            .build())
-                    .accept(MediaType.APPLICATION_JSON)
-                    .retrieve()
-                    .body(PAGEABLE_PROCESS_EXECUTION_TYPE_REF);
+            return find(HISTORY_ENDPOINT, pageable);
         } catch (Exception e) {
             log.warn("Can't find all process executions: pageable={}, error={}", pageable, e.getMessage());
             throw e;
         }
     }
 
+    public PageableData<ProcessExecution> findAllSummaries(Pageable pageable) {
+        try {
+            return find(HISTORY_SUMMARIES_ENDPOINT, pageable);
+        } catch (Exception e) {
+            log.warn("Can't find all process summaries: pageable={}, error={}", pageable, e.getMessage());
+            throw e;
+        }
+    }
+
+    private PageableData<ProcessExecution> find(String endpoint, Pageable pageable) {
+        return leorcesRestClient.get()
+                .uri(uriBuilder -> uriBuilder
+                        .path(endpoint)
+                        .queryParam("page", pageable.offset() / pageable.limit())
+                        .queryParam("size", pageable.limit())
+                        .queryParam("sortField", pageable.sortByField())
+                        .queryParam("order", pageable.order() != null ? pageable.order().name().toLowerCase() : "asc")
+                        .queryParam("filter", pageable.filter())
+                        .queryParamIfPresent("after", Optional.ofNullable(pageable.after()).map(PageCursor::encode))
+                        .queryParam("total", pageable.totalOrDefault().name().toLowerCase())
+                        .build())
+                .accept(MediaType.APPLICATION_JSON)
+                .retrieve()
+                .body(PAGEABLE_PROCESS_EXECUTION_TYPE_REF);
+    }
+
 }
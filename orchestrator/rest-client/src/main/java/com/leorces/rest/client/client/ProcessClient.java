@@ -1,5 +1,6 @@
 package com.leorces.rest.client.client;
 
+import com.leorces.model.pagination.PageCursor;
 import com.leorces.model.pagination.Pageable;
 import com.leorces.model.pagination.PageableData;
 import com.leorces.model.runtime.process.Process;
@@ -41,6 +42,8 @@ public class ProcessClient {
                             .queryParam("order", pageable.order() != null ? pageable.order().name().toLowerCase() : "asc")
                             .queryParam("filter", pageable.filter())
                             .queryParam("state", pageable.state())
+                            .queryParamIfPresent("after", Optional.ofNullable(pageable.after()).map(PageCursor::encode))
+                            .queryParam("total", pageable.totalOrDefault().name().toLowerCase())
                             .build())
                     .accept(MediaType.APPLICATION_JSON)
                     .retrieve()
@@ -1,18 +1,25 @@
 package com.leorces.rest.client.client;
 
+import com.leorces.model.runtime.message.CorrelationRequest;
+import com.leorces.model.runtime.message.CorrelationResult;
 import com.leorces.model.runtime.process.Process;
+import com.leorces.model.runtime.process.StartProcessRequest;
 import com.leorces.model.search.ProcessFilter;
 import com.leorces.rest.client.model.request.CorrelateMessageRequest;
+import com.leorces.rest.client.model.request.CorrelateMessagesRequest;
 import com.leorces.rest.client.model.request.ProcessModificationRequest;
 import com.leorces.rest.client.model.request.StartProcessByIdRequest;
 import com.leorces.rest.client.model.request.StartProcessByKeyRequest;
+import com.leorces.rest.client.model.request.StartProcessesRequest;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestClient;
 
+import java.util.List;
 import java.util.Map;
 
 import static com.leorces.rest.client.constants.ApiConstants.*;
@@ -21,6 +28,11 @@ import static com.leorces.rest.client.constants.ApiConstants.*;
 @Component
 public class RuntimeClient {
 
+    private static final ParameterizedTypeReference<List<Process>> PROCESS_LIST_TYPE_REF = new ParameterizedTypeReference<>() {
+    };
+    private static final ParameterizedTypeReference<List<CorrelationResult>> CORRELATION_RESULT_LIST_TYPE_REF = new ParameterizedTypeReference<>() {
+    };
+
     private final RestClient leorcesRestClient;
 
     public RuntimeClient(@Qualifier("leorcesRestClient") RestClient leorcesRestClient) {
@@ -57,6 +69,21 @@ public class RuntimeClient {
         }
     }
 
+    public List<Process> startProcesses(List<StartProcessRequest> requests) {
+        try {
+            return leorcesRestClient.post()
+                    .uri(START_PROCESSES_ENDPOINT)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .accept(MediaType.APPLICATION_JSON)
+                    .body(new StartProcessesRequest(requests))
+                    .retrieve()
+                    .body(PROCESS_LIST_TYPE_REF);
+        } catch (Exception e) {
+            log.warn("Can't start processes: count={}, error={}", requests.size(), e.getMessage());
+            throw e;
+        }
+    }
+
     public void terminateProcess(String processId) {
         try {
             leorcesRestClient.put()
@@ -149,6 +176,21 @@ public class RuntimeClient {
         }
     }
 
+    public List<CorrelationResult> correlateMessages(List<CorrelationRequest> requests) {
+        try {
+            return leorcesRestClient.put()
+                    .uri(CORRELATE_MESSAGES_ENDPOINT)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .accept(MediaType.APPLICATION_JSON)
+                    .body(new CorrelateMessagesRequest(requests))
+                    .retrieve()
+                    .body(CORRELATION_RESULT_LIST_TYPE_REF);
+        } catch (Exception e) {
+            log.warn("Can't correlate messages: count={}, error={}", requests.size(), e.getMessage());
+            throw e;
+        }
+    }
+
     public void setVariables(String executionId, Map<String, Object> variables) {
         try {
             leorcesRestClient.put()
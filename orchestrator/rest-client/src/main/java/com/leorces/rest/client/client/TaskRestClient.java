@@ -1,8 +1,12 @@
 package com.leorces.rest.client.client;
 
 import com.leorces.model.runtime.activity.ActivityFailure;
+import com.leorces.model.runtime.activity.ActivityPollRequest;
 import com.leorces.rest.client.model.ExternalTask;
+import com.leorces.rest.client.model.request.ActivityBatchRequest;
 import com.leorces.rest.client.model.request.FailActivityRequest;
+import com.leorces.rest.client.model.request.PollActivitiesRequest;
+import com.leorces.rest.client.model.response.ActivityBatchResponse;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import io.github.resilience4j.retry.annotation.Retry;
 import lombok.extern.slf4j.Slf4j;
@@ -99,14 +103,64 @@ public class TaskRestClient {
         }
     }
 
+    @Retry(name = "task-update")
+    @CircuitBreaker(name = "task-update", fallbackMethod = "batchFallback")
+    public ResponseEntity<ActivityBatchResponse> batch(ActivityBatchRequest request) {
+        try {
+            return leorcesRestClient.put()
+                    .uri(BATCH_ACTIVITIES_ENDPOINT)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .accept(MediaType.APPLICATION_JSON)
+                    .body(request)
+                    .retrieve()
+                    .toEntity(ActivityBatchResponse.class);
+        } catch (HttpClientErrorException.BadRequest e) {
+            log.warn("Bad request for task batch update: error={}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (HttpServerErrorException.InternalServerError e) {
+            log.error("Server error during task batch update: error={}", e.getMessage());
+            throw e;
+        } catch (HttpServerErrorException.ServiceUnavailable e) {
+            log.error("Service unavailable during task batch update: error={}", e.getMessage());
+            throw e;
+        } catch (ResourceAccessException e) {
+            log.error("Connection error during task batch update: error={}", e.getMessage());
+            throw e;
+        }
+    }
+
     @CircuitBreaker(name = "task-poll", fallbackMethod = "pollFallback")
     public ResponseEntity<List<ExternalTask>> poll(String topic, String processDefinitionKey, int size) {
+        return doPoll(topic, processDefinitionKey, size, 0);
+    }
+
+    @CircuitBreaker(name = "task-poll", fallbackMethod = "longPollFallback")
+    public ResponseEntity<List<ExternalTask>> poll(String topic, String processDefinitionKey, int size, long timeoutMillis) {
+        return doPoll(topic, processDefinitionKey, size, timeoutMillis);
+    }
+
+    @CircuitBreaker(name = "task-poll", fallbackMethod = "pollAllFallback")
+    public ResponseEntity<List<ExternalTask>> poll(List<ActivityPollRequest> requests, long timeoutMillis) {
+        return leorcesRestClient.post()
+                .uri(POLL_ALL_ACTIVITIES_ENDPOINT)
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.APPLICATION_JSON)
+                .body(new PollActivitiesRequest(requests, timeoutMillis))
+                .retrieve()
+                .toEntity(TASK_LIST_TYPE_REF);
+    }
+
+    private ResponseEntity<List<ExternalTask>> doPoll(String topic, String processDefinitionKey, int size, long timeoutMillis) {
         try {
             return leorcesRestClient.get()
-                    .uri(uriBuilder -> uriBuilder
-                            .path(POLL_ACTIVITIES_ENDPOINT.formatted(processDefinitionKey, topic))
-                            .queryParam(SIZE_PARAM, size)
-                            .build())
+                    .uri(uriBuilder -> {
+                        uriBuilder.path(POLL_ACTIVITIES_ENDPOINT.formatted(processDefinitionKey, topic))
+                                .queryParam(SIZE_PARAM, size);
+                        if (timeoutMillis > 0) {
+                            uriBuilder.queryParam(TIMEOUT_PARAM, timeoutMillis);
+                        }
+                        return uriBuilder.build();
+                    })
                     .retrieve()
                     .toEntity(TASK_LIST_TYPE_REF);
         } catch (HttpClientErrorException.NotFound e) {
@@ -128,9 +182,31 @@ public class TaskRestClient {
         }
     }
 
+    private ResponseEntity<ActivityBatchResponse> batchFallback(ActivityBatchRequest request, Exception e) {
+        if (e instanceof HttpServerErrorException || e instanceof ResourceAccessException) {
+            log.error("Service unavailable for task batch update: error={}", e.getMessage());
+            return ResponseEntity.status(503).build();
+        } else if (e instanceof HttpClientErrorException clientError) {
+            log.warn("Client error for task batch update: status={}, error={}", clientError.getStatusCode(), e.getMessage());
+            return ResponseEntity.status(clientError.getStatusCode()).build();
+        } else {
+            log.error("Unexpected error for task batch update", e);
+            return ResponseEntity.status(500).build();
+        }
+    }
+
     private ResponseEntity<List<ExternalTask>> pollFallback(String topic, String processDefinitionKey, int size, Exception e) {
         log.warn("Failed to poll tasks for topic: {}, processDefinitionKey: {}, limit:{}. Fallback response", topic, processDefinitionKey, size, e);
         return ResponseEntity.ok(Collections.emptyList());
     }
 
+    private ResponseEntity<List<ExternalTask>> pollAllFallback(List<ActivityPollRequest> requests, long timeoutMillis, Exception e) {
+        log.warn("Failed to poll tasks of {} topics. Fallback response", requests.size(), e);
+        return ResponseEntity.ok(Collections.emptyList());
+    }
+
+    private ResponseEntity<List<ExternalTask>> longPollFallback(String topic, String processDefinitionKey, int size, long timeoutMillis, Exception e) {
+        return pollFallback(topic, processDefinitionKey, size, e);
+    }
+
 }
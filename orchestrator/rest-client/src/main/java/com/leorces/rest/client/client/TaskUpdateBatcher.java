@@ -0,0 +1,203 @@
+package com.leorces.rest.client.client;
+
+import com.leorces.model.runtime.activity.ActivityFailure;
+import com.leorces.rest.client.configuration.properties.rest.TaskBatchProperties;
+import com.leorces.rest.client.model.request.ActivityBatchRequest;
+import com.leorces.rest.client.model.request.CompleteActivityItem;
+import com.leorces.rest.client.model.request.FailActivityItem;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Coalesces external task completions and failures into batch requests.
+ * <p>
+ * Updates are buffered until {@code leorces.rest.batch.max-size} of them are pending or the oldest one has waited
+ * {@code leorces.rest.batch.max-delay}, then sent in a single request. The calling worker thread waits for
+ * the outcome of its own update: the orchestrator applies a batch before it responds, so an update of an unknown
+ * or already finished task is reported as not applied. A batch never holds more than {@value #MAX_BATCH_SIZE}
+ * updates, the most the orchestrator accepts per request. Once shut down, the batcher reports itself disabled and
+ * sends updates that still reach it with a request each.
+ */
+@Slf4j
+@Component
+public class TaskUpdateBatcher {
+
+    static final int MAX_BATCH_SIZE = 1000;
+
+    private final TaskRestClient taskRestClient;
+    private final TaskBatchProperties properties;
+    private final ScheduledExecutorService flusher;
+    private final Object lock = new Object();
+
+    private List<PendingUpdate> pending = new ArrayList<>();
+    private ScheduledFuture<?> scheduledFlush;
+    private volatile boolean closed;
+
+    public TaskUpdateBatcher(TaskRestClient taskRestClient, TaskBatchProperties properties) {
+        this.taskRestClient = taskRestClient;
+        this.properties = properties;
+        this.flusher = properties.enabled()
+                ? Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().daemon().name("task-update-batcher").factory())
+                : null;
+    }
+
+    public boolean isEnabled() {
+        return properties.enabled() && !closed;
+    }
+
+    /**
+     * Completes a task as part of the next batch.
+     *
+     * @param taskId    the task id
+     * @param variables the variables to set
+     * @return true if the orchestrator completed the task, false otherwise
+     */
+    public boolean complete(String taskId, Map<String, Object> variables) {
+        return submit(new PendingUpdate(new CompleteActivityItem(taskId, variables), null));
+    }
+
+    /**
+     * Fails a task as part of the next batch.
+     *
+     * @param taskId    the task id
+     * @param failure   the failure details
+     * @param variables the variables to set
+     * @return true if the orchestrator failed the task, false otherwise
+     */
+    public boolean fail(String taskId, ActivityFailure failure, Map<String, Object> variables) {
+        return submit(new PendingUpdate(null, new FailActivityItem(taskId, failure, variables)));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (flusher == null) {
+            return;
+        }
+        synchronized (lock) {
+            closed = true;
+        }
+        flush();
+        flusher.shutdown();
+    }
+
+    private boolean submit(PendingUpdate update) {
+        List<PendingUpdate> batch = null;
+
+        synchronized (lock) {
+            // The flusher no longer runs, nothing would send the update with a batch
+            if (closed) {
+                return sendDirectly(update);
+            }
+            pending.add(update);
+            if (pending.size() >= Math.min(properties.maxSize(), MAX_BATCH_SIZE)) {
+                batch = takePending();
+            } else if (pending.size() == 1) {
+                scheduledFlush = flusher.schedule(this::flush, properties.maxDelay().toMillis(), TimeUnit.MILLISECONDS);
+            }
+        }
+
+        // A full batch is sent by the thread that filled it, so throughput does not depend on the flusher thread
+        if (batch != null) {
+            send(batch);
+        }
+        return update.result().join();
+    }
+
+    private void flush() {
+        List<PendingUpdate> batch;
+        synchronized (lock) {
+            batch = takePending();
+        }
+        if (!batch.isEmpty()) {
+            send(batch);
+        }
+    }
+
+    private List<PendingUpdate> takePending() {
+        var batch = pending;
+        pending = new ArrayList<>();
+        if (scheduledFlush != null) {
+            scheduledFlush.cancel(false);
+            scheduledFlush = null;
+        }
+        return batch;
+    }
+
+    private void send(List<PendingUpdate> batch) {
+        var completions = batch.stream().filter(PendingUpdate::isCompletion).toList();
+        var failures = batch.stream().filter(update -> !update.isCompletion()).toList();
+        var ordered = new ArrayList<PendingUpdate>(batch.size());
+        ordered.addAll(completions);
+        ordered.addAll(failures);
+
+        try {
+            var request = new ActivityBatchRequest(
+                    completions.stream().map(PendingUpdate::completion).toList(),
+                    failures.stream().map(PendingUpdate::failure).toList()
+            );
+            var response = taskRestClient.batch(request);
+            var body = response.getBody();
+
+            if (!response.getStatusCode().is2xxSuccessful() || body == null || body.results().size() != ordered.size()) {
+                log.warn("ExternalTask batch update failed with status: {} for {} task(s)", response.getStatusCode(), ordered.size());
+                ordered.forEach(update -> update.result().complete(false));
+                return;
+            }
+
+            for (int i = 0; i < ordered.size(); i++) {
+                var result = body.results().get(i);
+                if (!result.isApplied()) {
+                    log.warn("ExternalTask update not applied for taskId: {}, status: {}, error: {}", result.activityId(), result.status(), result.error());
+                }
+                ordered.get(i).result().complete(result.isApplied());
+            }
+        } catch (Exception e) {
+            log.error("Exception during externalTask batch update for {} task(s)", ordered.size(), e);
+            ordered.forEach(update -> update.result().complete(false));
+        }
+    }
+
+    private boolean sendDirectly(PendingUpdate update) {
+        var taskId = update.isCompletion() ? update.completion().activityId() : update.failure().activityId();
+        try {
+            var response = update.isCompletion()
+                    ? taskRestClient.complete(taskId, update.completion().variables())
+                    : taskRestClient.fail(taskId, update.failure().failure(), update.failure().variables());
+            var isSuccessful = response.getStatusCode().is2xxSuccessful();
+            if (!isSuccessful) {
+                log.warn("ExternalTask update failed with status: {} for taskId: {}", response.getStatusCode(), taskId);
+            }
+            return isSuccessful;
+        } catch (Exception e) {
+            log.error("Exception during externalTask update for taskId: {}", taskId, e);
+            return false;
+        }
+    }
+
+    private record PendingUpdate(
+            CompleteActivityItem completion,
+            FailActivityItem failure,
+            CompletableFuture<Boolean> result
+    ) {
+
+        private PendingUpdate(CompleteActivityItem completion, FailActivityItem failure) {
+            this(completion, failure, new CompletableFuture<>());
+        }
+
+        private boolean isCompletion() {
+            return completion != null;
+        }
+
+    }
+
+}
@@ -11,6 +11,7 @@ import com.leorces.rest.client.configuration.properties.metrics.MetricsPropertie
 import com.leorces.rest.client.configuration.properties.process.ProcessConfigurationProperties;
 import com.leorces.rest.client.configuration.properties.resilence.ResilenceConfigurationProperties;
 import com.leorces.rest.client.configuration.properties.rest.RestClientProperties;
+import com.leorces.rest.client.configuration.properties.rest.TaskBatchProperties;
 import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
@@ -27,6 +28,7 @@ import org.springframework.web.client.RestClient;
 @EnableAspectJAutoProxy
 @EnableConfigurationProperties({
         RestClientProperties.class,
+        TaskBatchProperties.class,
         ProcessConfigurationProperties.class,
         ResilenceConfigurationProperties.class,
         MetricsProperties.class
@@ -0,0 +1,15 @@
+package com.leorces.rest.client.configuration.properties.rest;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "leorces.rest.batch")
+public record TaskBatchProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("100") int maxSize,
+        @DefaultValue("10ms") Duration maxDelay
+) {
+
+}
@@ -6,12 +6,14 @@ public final class ApiConstants {
     // =====================
     public static final String API_BASE_PATH = "/api/v1";
     public static final String SIZE_PARAM = "limit";
+    public static final String TIMEOUT_PARAM = "timeout";
     // =====================
     // Runtime endpoints
     // =====================
     public static final String RUNTIME_ENDPOINT = API_BASE_PATH + "/runtime";
     public static final String START_PROCESS_BY_KEY_ENDPOINT = RUNTIME_ENDPOINT + "/processes/key";
     public static final String START_PROCESS_BY_ID_ENDPOINT = RUNTIME_ENDPOINT + "/processes";
+    public static final String START_PROCESSES_ENDPOINT = RUNTIME_ENDPOINT + "/processes/batch";
     public static final String TERMINATE_PROCESS_BY_ID_ENDPOINT = RUNTIME_ENDPOINT + "/processes/%s/terminate";
     public static final String RESOLVE_INCIDENT_BY_PROCESS_ID = RUNTIME_ENDPOINT + "/processes/%s/resolve-incident";
     public static final String SUSPEND_PROCESS_BY_ID = RUNTIME_ENDPOINT + "/processes/%s/suspend";
@@ -22,6 +24,7 @@ public final class ApiConstants {
     public static final String RESUME_PROCESSES_BY_DEFINITION_KEY = RUNTIME_ENDPOINT + "/processes/key/%s/resume";
     public static final String MODIFY_PROCESS_BY_ID_ENDPOINT = RUNTIME_ENDPOINT + "/processes/%s/modification";
     public static final String CORRELATE_MESSAGE_ENDPOINT = RUNTIME_ENDPOINT + "/correlate";
+    public static final String CORRELATE_MESSAGES_ENDPOINT = RUNTIME_ENDPOINT + "/correlate/batch";
     public static final String SET_VARIABLES_ENDPOINT = RUNTIME_ENDPOINT + "/%s/variables";
     public static final String SET_VARIABLES_LOCAL_ENDPOINT = RUNTIME_ENDPOINT + "/%s/variables/local";
     public static final String FIND_PROCESS = RUNTIME_ENDPOINT + "/find/process";
@@ -30,11 +33,14 @@ public final class ApiConstants {
     // =====================
     public static final String ACTIVITIES_ENDPOINT = API_BASE_PATH + "/activities";
     public static final String POLL_ACTIVITIES_ENDPOINT = ACTIVITIES_ENDPOINT + "/poll/%s/%s";
+    public static final String POLL_ALL_ACTIVITIES_ENDPOINT = ACTIVITIES_ENDPOINT + "/poll";
     public static final String COMPLETE_ACTIVITY_ENDPOINT = ACTIVITIES_ENDPOINT + "/%s/complete";
     public static final String FAIL_ACTIVITY_ENDPOINT = ACTIVITIES_ENDPOINT + "/%s/fail";
     public static final String RUN_ACTIVITY_ENDPOINT = ACTIVITIES_ENDPOINT + "/%s/%s/run";
     public static final String TERMINATE_ACTIVITY_ENDPOINT = ACTIVITIES_ENDPOINT + "/%s/terminate";
     public static final String RETRY_ACTIVITY_ENDPOINT = ACTIVITIES_ENDPOINT + "/%s/retry";
+    public static final String BATCH_ACTIVITIES_ENDPOINT = ACTIVITIES_ENDPOINT + "/batch";
+    public static final String VARIABLE_VALUES_ENDPOINT = ACTIVITIES_ENDPOINT + "/variables/values";
     // =====================
     // Process endpoints
     // =====================
@@ -49,6 +55,7 @@ public final class ApiConstants {
     // History endpoints
     // =====================
     public static final String HISTORY_ENDPOINT = API_BASE_PATH + "/history";
+    public static final String HISTORY_SUMMARIES_ENDPOINT = HISTORY_ENDPOINT + "/summaries";
     // =====================
     // Admin endpoints
     // =====================
@@ -20,6 +20,7 @@ public record ExternalTask(
         @JsonProperty("id") String id,
         @JsonProperty("processId") String processId,
         @JsonProperty("processBusinessKey") String businessKey,
+        @JsonProperty("processDefinitionKey") String processDefinitionKey,
         @JsonProperty("topic") String topicName,
         @JsonProperty("state") ProcessState state,
         @JsonProperty("retries") int retries,
@@ -37,6 +38,7 @@ public record ExternalTask(
             @JsonProperty("id") String id,
             @JsonProperty("processId") String processId,
             @JsonProperty("processBusinessKey") String businessKey,
+            @JsonProperty("processDefinitionKey") String processDefinitionKey,
             @JsonProperty("topic") String topicName,
             @JsonProperty("state") ProcessState state,
             @JsonProperty("retries") int retries,
@@ -49,6 +51,7 @@ public record ExternalTask(
                 .id(id)
                 .processId(processId)
                 .businessKey(businessKey)
+                .processDefinitionKey(processDefinitionKey)
                 .topicName(topicName)
                 .state(state)
                 .retries(retries)
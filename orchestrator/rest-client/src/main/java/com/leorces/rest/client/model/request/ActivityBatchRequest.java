@@ -0,0 +1,10 @@
+package com.leorces.rest.client.model.request;
+
+import java.util.List;
+
+public record ActivityBatchRequest(
+        List<CompleteActivityItem> completions,
+        List<FailActivityItem> failures
+) {
+
+}
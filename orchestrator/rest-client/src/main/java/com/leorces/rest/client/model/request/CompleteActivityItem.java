@@ -0,0 +1,10 @@
+package com.leorces.rest.client.model.request;
+
+import java.util.Map;
+
+public record CompleteActivityItem(
+        String activityId,
+        Map<String, Object> variables
+) {
+
+}
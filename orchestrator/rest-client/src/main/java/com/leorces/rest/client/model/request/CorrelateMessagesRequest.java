@@ -0,0 +1,11 @@
+package com.leorces.rest.client.model.request;
+
+import com.leorces.model.runtime.message.CorrelationRequest;
+
+import java.util.List;
+
+public record CorrelateMessagesRequest(
+        List<CorrelationRequest> messages
+) {
+
+}
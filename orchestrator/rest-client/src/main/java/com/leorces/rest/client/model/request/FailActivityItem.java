@@ -0,0 +1,13 @@
+package com.leorces.rest.client.model.request;
+
+import com.leorces.model.runtime.activity.ActivityFailure;
+
+import java.util.Map;
+
+public record FailActivityItem(
+        String activityId,
+        ActivityFailure failure,
+        Map<String, Object> variables
+) {
+
+}
@@ -0,0 +1,12 @@
+package com.leorces.rest.client.model.request;
+
+import com.leorces.model.runtime.activity.ActivityPollRequest;
+
+import java.util.List;
+
+public record PollActivitiesRequest(
+        List<ActivityPollRequest> requests,
+        long timeout
+) {
+
+}
@@ -0,0 +1,11 @@
+package com.leorces.rest.client.model.request;
+
+import com.leorces.model.runtime.process.StartProcessRequest;
+
+import java.util.List;
+
+public record StartProcessesRequest(
+        List<StartProcessRequest> processes
+) {
+
+}
@@ -0,0 +1,16 @@
+package com.leorces.rest.client.model.response;
+
+import com.leorces.model.runtime.activity.ActivityUpdateResult;
+
+import java.util.List;
+
+/**
+ * Results of a batch of activity updates: completions first, then failures, each in request order.
+ *
+ * @param results the outcome of every update
+ */
+public record ActivityBatchResponse(
+        List<ActivityUpdateResult> results
+) {
+
+}
@@ -11,15 +11,51 @@ public record WorkerMetadata(
         TimeUnit timeUnit,
         double backoffMultiplier,
         long maxBackoffInterval,
-        double fillPercentThreshold
+        double fillPercentThreshold,
+        long longPollTimeout
 ) {
 
+    public WorkerMetadata(String topic,
+                          String processDefinitionKey,
+                          long interval,
+                          long initialDelay,
+                          int maxConcurrentTasks,
+                          TimeUnit timeUnit,
+                          double backoffMultiplier,
+                          long maxBackoffInterval,
+                          double fillPercentThreshold
+    ) {
+        this(
+                topic,
+                processDefinitionKey,
+                interval,
+                initialDelay,
+                maxConcurrentTasks,
+                timeUnit,
+                backoffMultiplier,
+                maxBackoffInterval,
+                fillPercentThreshold,
+                0
+        );
+    }
+
     public WorkerMetadata(String topic,
                           String processDefinitionKey,
                           long interval,
                           long initialDelay,
                           int maxConcurrentTasks,
                           TimeUnit timeUnit
+    ) {
+        this(topic, processDefinitionKey, interval, initialDelay, maxConcurrentTasks, timeUnit, 0);
+    }
+
+    public WorkerMetadata(String topic,
+                          String processDefinitionKey,
+                          long interval,
+                          long initialDelay,
+                          int maxConcurrentTasks,
+                          TimeUnit timeUnit,
+                          long longPollTimeout
     ) {
         this(
                 topic,
@@ -30,8 +66,13 @@ public record WorkerMetadata(
                 timeUnit,
                 2.0,
                 interval * 10,
-                70.0
+                70.0,
+                longPollTimeout
         );
     }
 
+    public boolean isLongPolling() {
+        return longPollTimeout > 0;
+    }
+
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package com.leorces.rest.client.model.worker;
 
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 
@@ -9,6 +10,7 @@ public class WorkerState {
     public final AtomicInteger activeTasks = new AtomicInteger(0);
     public final AtomicInteger consecutiveFailures = new AtomicInteger(0);
     public final AtomicLong currentBackoffInterval = new AtomicLong(0);
+    public final AtomicBoolean longPollInFlight = new AtomicBoolean(false);
     final AtomicLong lastSuccessfulPoll = new AtomicLong(System.currentTimeMillis());
     final AtomicLong lastPollTime = new AtomicLong(0);
 
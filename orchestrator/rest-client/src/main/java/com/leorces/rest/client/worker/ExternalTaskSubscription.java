@@ -24,4 +24,10 @@ public @interface ExternalTaskSubscription {
 
     int maxConcurrentTasks() default 1;
 
+    /**
+     * Maximum time, in {@link #timeUnit()}, a poll request waits on the server for new tasks.
+     * A value of {@code 0} disables long polling.
+     */
+    long longPollTimeout() default 0;
+
 }
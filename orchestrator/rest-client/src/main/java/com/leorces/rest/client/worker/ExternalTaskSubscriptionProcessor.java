@@ -3,35 +3,50 @@ package com.leorces.rest.client.worker;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.leorces.common.mapper.VariablesMapper;
 import com.leorces.model.runtime.activity.ActivityFailure;
+import com.leorces.model.runtime.activity.ActivityPollRequest;
+import com.leorces.model.runtime.variable.Variable;
 import com.leorces.rest.client.ExternalTaskService;
+import com.leorces.rest.client.client.ActivityClient;
 import com.leorces.rest.client.client.TaskRestClient;
 import com.leorces.rest.client.model.ExternalTask;
 import com.leorces.rest.client.model.worker.WorkerContext;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayDeque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Objects;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Slf4j
 @Component
 public class ExternalTaskSubscriptionProcessor {
 
     private final TaskRestClient client;
+    private final ActivityClient activityClient;
     private final ExternalTaskService service;
     private final VariablesMapper variablesMapper;
     private final ObjectMapper objectMapper;
     private final ExecutorService executor;
     private final WorkerMetrics workerMetrics;
+    private final AtomicBoolean isShuttingDown = new AtomicBoolean(false);
 
     public ExternalTaskSubscriptionProcessor(TaskRestClient client,
+                                             ActivityClient activityClient,
                                              ExternalTaskService service,
                                              VariablesMapper variablesMapper,
                                              ObjectMapper objectMapper,
                                              WorkerMetrics workerMetrics,
                                              @Qualifier("leorcesTaskExecutor") ExecutorService executor) {
         this.client = client;
+        this.activityClient = activityClient;
         this.service = service;
         this.variablesMapper = variablesMapper;
         this.objectMapper = objectMapper;
@@ -40,6 +55,74 @@ public class ExternalTaskSubscriptionProcessor {
     }
 
     public void process(WorkerContext context) {
+        var freeSlots = pollSize(context);
+        if (freeSlots <= 0) {
+            return;
+        }
+
+        if (context.metadata().isLongPolling()) {
+            longPollTasks(context);
+        } else {
+            pollTasks(context, freeSlots);
+        }
+    }
+
+    /**
+     * Polls the tasks of several workers with one request and hands every task to the worker
+     * of its process definition key and topic.
+     */
+    public void process(List<WorkerContext> contexts) {
+        var pollSizes = new LinkedHashMap<WorkerContext, Integer>();
+        contexts.forEach(context -> {
+            var size = pollSize(context);
+            if (size > 0) {
+                pollSizes.put(context, size);
+            }
+        });
+
+        if (pollSizes.isEmpty()) {
+            return;
+        }
+
+        var requests = pollSizes.entrySet().stream()
+                .map(entry -> ActivityPollRequest.of(entry.getKey().metadata().topic(), entry.getKey().metadata().processDefinitionKey(), entry.getValue()))
+                .toList();
+
+        try {
+            var response = client.poll(requests, 0);
+            if (response.getStatusCode() == HttpStatus.OK && response.getBody() != null) {
+                var tasksByWorker = response.getBody().stream()
+                        .collect(Collectors.groupingBy(task -> workerKey(task.processDefinitionKey(), task.topicName()),
+                                Collectors.toCollection(ArrayDeque::new)));
+                log.debug("Polled {} task(s) for {} topics", response.getBody().size(), requests.size());
+
+                pollSizes.forEach((context, size) -> {
+                    var queue = tasksByWorker.getOrDefault(workerKey(context.metadata().processDefinitionKey(), context.metadata().topic()), new ArrayDeque<>());
+                    var tasks = Stream.generate(queue::poll)
+                            .limit(size)
+                            .takeWhile(Objects::nonNull)
+                            .toList();
+                    onPolled(context, tasks);
+                });
+            } else {
+                log.warn("Polling returned {} for {} topics", response.getStatusCode(), requests.size());
+                pollSizes.keySet().forEach(this::onFailedPoll);
+            }
+        } catch (Exception e) {
+            log.error("Polling failed for {} topics", requests.size(), e);
+            pollSizes.keySet().forEach(this::onFailedPoll);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        isShuttingDown.set(true);
+    }
+
+    /**
+     * Gets the number of tasks to poll for the worker, or zero when the worker should not poll now.
+     */
+    private int pollSize(WorkerContext context) {
         var baseInterval = context.metadata().timeUnit().toMillis(context.metadata().interval());
         var state = context.state();
 
@@ -53,51 +136,89 @@ public class ExternalTaskSubscriptionProcessor {
 
         if (freeSlots <= 0) {
             log.debug("No free slots for worker '{}', skipping poll", context.metadata().topic());
-            return;
+            return 0;
         }
 
         if (!state.shouldPoll(baseInterval)) {
             log.debug("Worker '{}' backoff active, skipping poll. Next poll in {} ms",
                     context.metadata().topic(),
                     state.currentBackoffInterval.get() > 0 ? state.currentBackoffInterval.get() : baseInterval);
-            return;
+            return 0;
         }
 
-        if (fillPercent < context.metadata().fillPercentThreshold() || state.activeTasks.get() == 0) {
-            pollTasks(context, freeSlots);
-        }
+        return fillPercent < context.metadata().fillPercentThreshold() || state.activeTasks.get() == 0
+                ? freeSlots
+                : 0;
     }
 
-    private void pollTasks(WorkerContext context, int count) {
-        var baseInterval = context.metadata().timeUnit().toMillis(context.metadata().interval());
+    private void longPollTasks(WorkerContext context) {
         var state = context.state();
+
+        if (!state.longPollInFlight.compareAndSet(false, true)) {
+            log.debug("Worker '{}' long poll already in flight, skipping poll", context.metadata().topic());
+            return;
+        }
+
+        executor.execute(() -> {
+            try {
+                // Re-arm right away while there is capacity, so the worker stays parked on the server
+                while (!isShuttingDown.get()) {
+                    int freeSlots = state.maxCapacity - state.activeTasks.get();
+                    if (freeSlots <= 0 || !pollTasks(context, freeSlots)) {
+                        break;
+                    }
+                }
+            } finally {
+                state.longPollInFlight.set(false);
+            }
+        });
+    }
+
+    private boolean pollTasks(WorkerContext context, int count) {
         var metadata = context.metadata();
 
         try {
-            var response = client.poll(metadata.topic(), metadata.processDefinitionKey(), count);
+            var response = metadata.isLongPolling()
+                    ? client.poll(metadata.topic(), metadata.processDefinitionKey(), count, metadata.timeUnit().toMillis(metadata.longPollTimeout()))
+                    : client.poll(metadata.topic(), metadata.processDefinitionKey(), count);
             if (response.getStatusCode() == HttpStatus.OK && response.getBody() != null) {
-                var tasks = response.getBody();
-                log.debug("Polled {} task(s) for topic '{}'", tasks.size(), metadata.topic());
-
-                workerMetrics.recordTasksPolledMetrics(context, tasks.size());
-                state.recordSuccessfulPoll();
-                state.activeTasks.addAndGet(tasks.size());
-                log.debug("Worker '{}' activeTasks updated: {}/{}",
-                        metadata.topic(), state.activeTasks.get(), state.maxCapacity);
-
-                tasks.forEach(task -> executor.execute(() -> executeTask(context, task)));
+                onPolled(context, response.getBody());
+                return true;
             } else {
                 log.warn("Polling returned {} for topic '{}'", response.getStatusCode(), metadata.topic());
-                workerMetrics.recordFailedPollMetrics(context);
-                state.recordFailedPoll(baseInterval, metadata.backoffMultiplier(),
-                        metadata.timeUnit().toMillis(metadata.maxBackoffInterval()));
+                onFailedPoll(context);
             }
         } catch (Exception e) {
             log.error("Polling failed for topic '{}'", metadata.topic(), e);
-            workerMetrics.recordFailedPollMetrics(context);
-            state.recordFailedPoll(baseInterval, metadata.backoffMultiplier(),
-                    metadata.timeUnit().toMillis(metadata.maxBackoffInterval()));
+            onFailedPoll(context);
         }
+        return false;
+    }
+
+    private void onPolled(WorkerContext context, List<ExternalTask> tasks) {
+        var state = context.state();
+        var metadata = context.metadata();
+        log.debug("Polled {} task(s) for topic '{}'", tasks.size(), metadata.topic());
+
+        workerMetrics.recordTasksPolledMetrics(context, tasks.size());
+        state.recordSuccessfulPoll();
+        state.activeTasks.addAndGet(tasks.size());
+        log.debug("Worker '{}' activeTasks updated: {}/{}",
+                metadata.topic(), state.activeTasks.get(), state.maxCapacity);
+
+        tasks.forEach(task -> executor.execute(() -> executeTask(context, task)));
+    }
+
+    private void onFailedPoll(WorkerContext context) {
+        var metadata = context.metadata();
+        var baseInterval = metadata.timeUnit().toMillis(metadata.interval());
+        workerMetrics.recordFailedPollMetrics(context);
+        context.state().recordFailedPoll(baseInterval, metadata.backoffMultiplier(),
+                metadata.timeUnit().toMillis(metadata.maxBackoffInterval()));
+    }
+
+    private static String workerKey(String processDefinitionKey, String topic) {
+        return processDefinitionKey + ":" + topic;
     }
 
     private void executeTask(WorkerContext context, ExternalTask externalTask) {
@@ -107,6 +228,7 @@ public class ExternalTaskSubscriptionProcessor {
 
         try {
             var taskToHandle = externalTask.toBuilder()
+                    .variables(loadOffloadedValues(externalTask.variables()))
                     .objectMapper(objectMapper)
                     .variablesMapper(variablesMapper)
                     .build();
@@ -127,4 +249,29 @@ public class ExternalTaskSubscriptionProcessor {
         }
     }
 
+    /**
+     * Polls carry offloaded variables by reference. Their values are read with one request per task before
+     * the handler runs, so reading variables in the handler never goes back to the server.
+     */
+    private List<Variable> loadOffloadedValues(List<Variable> variables) {
+        if (variables == null) {
+            return null;
+        }
+
+        var offloadedIds = variables.stream()
+                .filter(Variable::offloaded)
+                .map(Variable::id)
+                .toList();
+        if (offloadedIds.isEmpty()) {
+            return variables;
+        }
+
+        var values = activityClient.findVariableValues(offloadedIds);
+        return variables.stream()
+                .map(variable -> variable.offloaded()
+                        ? variable.toBuilder().varValue(values.get(variable.id())).offloaded(false).build()
+                        : variable)
+                .toList();
+    }
+
 }
@@ -21,7 +21,8 @@ public class WorkerConfigResolver {
                     annotation.interval(),
                     annotation.initialDelay(),
                     annotation.maxConcurrentTasks(),
-                    annotation.timeUnit()
+                    annotation.timeUnit(),
+                    annotation.longPollTimeout()
             );
         }
 
@@ -32,7 +33,8 @@ public class WorkerConfigResolver {
                 workerConfig != null ? workerConfig.interval() : annotation.interval(),
                 workerConfig != null ? workerConfig.initialDelay() : annotation.initialDelay(),
                 workerConfig != null ? workerConfig.maxConcurrentTasks() : annotation.maxConcurrentTasks(),
-                workerConfig != null ? workerConfig.timeUnit() : annotation.timeUnit()
+                workerConfig != null ? workerConfig.timeUnit() : annotation.timeUnit(),
+                annotation.longPollTimeout()
         );
     }
 
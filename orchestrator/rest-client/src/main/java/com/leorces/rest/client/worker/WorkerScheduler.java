@@ -5,15 +5,26 @@ import jakarta.annotation.PreDestroy;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 
+/**
+ * Schedules the polling of task workers.
+ * <p>
+ * Workers with the same initial delay and interval share one fetch loop that polls all of their topics
+ * with a single request. Long-polling workers keep a loop of their own, since each of them waits on the server.
+ */
 @Component
 public class WorkerScheduler {
 
     private final ExternalTaskSubscriptionProcessor processor;
     private final ScheduledExecutorService scheduler;
+    private final Map<Schedule, List<WorkerContext>> fetchGroups = new ConcurrentHashMap<>();
     private final AtomicBoolean isShuttingDown = new AtomicBoolean(false);
 
     public WorkerScheduler(ExternalTaskSubscriptionProcessor processor,
@@ -27,11 +38,21 @@ public class WorkerScheduler {
         var initialDelay = metadata.timeUnit().toMillis(metadata.initialDelay());
         var interval = metadata.timeUnit().toMillis(metadata.interval());
 
-        scheduler.scheduleAtFixedRate(() -> {
-            if (!isShuttingDown.get()) {
-                processor.process(context);
-            }
-        }, initialDelay, interval, TimeUnit.MILLISECONDS);
+        if (metadata.isLongPolling()) {
+            schedule(() -> processor.process(context), initialDelay, interval);
+            return;
+        }
+
+        var created = new AtomicBoolean(false);
+        var group = fetchGroups.computeIfAbsent(new Schedule(initialDelay, interval), schedule -> {
+            created.set(true);
+            return new CopyOnWriteArrayList<>();
+        });
+        group.add(context);
+
+        if (created.get()) {
+            schedule(() -> fetch(group), initialDelay, interval);
+        }
     }
 
     @PreDestroy
@@ -46,4 +67,24 @@ public class WorkerScheduler {
         }
     }
 
+    private void fetch(List<WorkerContext> group) {
+        if (group.size() == 1) {
+            processor.process(group.getFirst());
+        } else {
+            processor.process(List.copyOf(group));
+        }
+    }
+
+    private void schedule(Runnable poll, long initialDelay, long interval) {
+        scheduler.scheduleAtFixedRate(() -> {
+            if (!isShuttingDown.get()) {
+                poll.run();
+            }
+        }, initialDelay, interval, TimeUnit.MILLISECONDS);
+    }
+
+    private record Schedule(long initialDelay, long interval) {
+
+    }
+
 }
@@ -10,8 +10,10 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.verify;
@@ -151,6 +153,22 @@ class ActivityServiceImplTest {
         assertThat(result).isEqualTo(expectedActivities);
     }
 
+    @Test
+    @DisplayName("Should long poll activities asynchronously")
+    void shouldLongPollActivitiesAsynchronously() throws Exception {
+        //Given
+        var expectedActivities = List.of(createActivity("activity-1"));
+        when(activityClient.poll(PROCESS_DEFINITION_KEY, TOPIC, LIMIT, 1000L))
+                .thenReturn(expectedActivities);
+
+        //When
+        var result = activityService.pollAsync(TOPIC, PROCESS_DEFINITION_KEY, LIMIT, Duration.ofSeconds(1));
+
+        //Then
+        assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo(expectedActivities);
+        verify(activityClient).poll(PROCESS_DEFINITION_KEY, TOPIC, LIMIT, 1000L);
+    }
+
     private Activity createActivity(String id) {
         return Activity.builder()
                 .id(id)
@@ -2,6 +2,7 @@ package com.leorces.rest.client;
 
 import com.leorces.model.runtime.activity.ActivityFailure;
 import com.leorces.rest.client.client.TaskRestClient;
+import com.leorces.rest.client.client.TaskUpdateBatcher;
 import com.leorces.rest.client.model.ExternalTask;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -17,6 +18,7 @@ import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -30,6 +32,9 @@ class ExternalTaskServiceImplTest {
     @Mock
     private TaskRestClient taskRestClient;
 
+    @Mock
+    private TaskUpdateBatcher taskUpdateBatcher;
+
     @InjectMocks
     private ExternalTaskServiceImpl taskService;
 
@@ -158,6 +163,38 @@ class ExternalTaskServiceImplTest {
         assertThat(result).isFalse();
     }
 
+    @Test
+    @DisplayName("Should complete task through batcher when batching is enabled")
+    void shouldCompleteTaskThroughBatcherWhenEnabled() {
+        //Given
+        var task = createTask();
+        when(taskUpdateBatcher.isEnabled()).thenReturn(true);
+        when(taskUpdateBatcher.complete(TASK_ID, VARIABLES)).thenReturn(true);
+
+        //When
+        var result = taskService.complete(task, VARIABLES);
+
+        //Then
+        verifyNoInteractions(taskRestClient);
+        assertThat(result).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should fail task through batcher when batching is enabled")
+    void shouldFailTaskThroughBatcherWhenEnabled() {
+        //Given
+        var failure = ActivityFailure.of("Failure reason");
+        when(taskUpdateBatcher.isEnabled()).thenReturn(true);
+        when(taskUpdateBatcher.fail(TASK_ID, failure, EMPTY_VARIABLES)).thenReturn(false);
+
+        //When
+        var result = taskService.fail(TASK_ID, failure);
+
+        //Then
+        verifyNoInteractions(taskRestClient);
+        assertThat(result).isFalse();
+    }
+
     private ExternalTask createTask() {
         return ExternalTask.builder()
                 .id(ExternalTaskServiceImplTest.TASK_ID)
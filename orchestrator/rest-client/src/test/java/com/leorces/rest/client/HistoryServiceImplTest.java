@@ -70,6 +70,22 @@ class HistoryServiceImplTest {
         assertThat(result.total()).isEqualTo(0L);
     }
 
+    @Test
+    @DisplayName("Should find process execution summaries through the history client")
+    void shouldFindProcessExecutionSummaries() {
+        //Given
+        var pageable = createPageable();
+        var expectedPageableData = new PageableData<>(List.of(createProcessExecution("execution-1")), 1L);
+        when(historyClient.findAllSummaries(pageable)).thenReturn(expectedPageableData);
+
+        //When
+        var result = historyService.findAllSummaries(pageable);
+
+        //Then
+        verify(historyClient).findAllSummaries(pageable);
+        assertThat(result).isEqualTo(expectedPageableData);
+    }
+
     private Pageable createPageable() {
         return Pageable.builder()
                 .offset(HistoryServiceImplTest.OFFSET)
@@ -1,6 +1,9 @@
 package com.leorces.rest.client;
 
+import com.leorces.model.runtime.message.CorrelationRequest;
+import com.leorces.model.runtime.message.CorrelationResult;
 import com.leorces.model.runtime.process.Process;
+import com.leorces.model.runtime.process.StartProcessRequest;
 import com.leorces.model.search.ProcessFilter;
 import com.leorces.rest.client.client.RuntimeClient;
 import org.junit.jupiter.api.DisplayName;
@@ -10,6 +13,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.List;
 import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -165,6 +169,38 @@ class RuntimeServiceImplTest {
         assertThat(result).isEqualTo(expectedProcess);
     }
 
+    @Test
+    @DisplayName("Should start processes")
+    void shouldStartProcesses() {
+        //Given
+        var requests = List.of(StartProcessRequest.byKey(PROCESS_KEY, BUSINESS_KEY, VARIABLES));
+        var expectedProcesses = List.of(createProcess("process-9"));
+        when(runtimeClient.startProcesses(requests)).thenReturn(expectedProcesses);
+
+        //When
+        var result = runtimeService.startProcesses(requests);
+
+        //Then
+        verify(runtimeClient).startProcesses(requests);
+        assertThat(result).isEqualTo(expectedProcesses);
+    }
+
+    @Test
+    @DisplayName("Should correlate messages")
+    void shouldCorrelateMessages() {
+        //Given
+        var requests = List.of(CorrelationRequest.of(MESSAGE_NAME, BUSINESS_KEY, VARIABLES));
+        var expectedResults = List.of(CorrelationResult.correlated(requests.getFirst(), "process-9"));
+        when(runtimeClient.correlateMessages(requests)).thenReturn(expectedResults);
+
+        //When
+        var result = runtimeService.correlateMessages(requests);
+
+        //Then
+        verify(runtimeClient).correlateMessages(requests);
+        assertThat(result).isEqualTo(expectedResults);
+    }
+
     @Test
     @DisplayName("Should terminate process by ID")
     void shouldTerminateProcess() {
@@ -81,6 +81,26 @@ class HistoryClientTest {
         verify(restClient).get();
     }
 
+    @Test
+    @DisplayName("Should find process execution summaries successfully")
+    void shouldFindProcessExecutionSummariesSuccessfully() {
+        // Given
+        var pageable = createTestPageable();
+        var expectedResult = new PageableData<>(TEST_PROCESS_EXECUTIONS, 2L);
+        when(restClient.get()).thenReturn(requestHeadersUriSpec);
+        when(requestHeadersUriSpec.uri(any(java.util.function.Function.class))).thenReturn(requestHeadersSpec);
+        when(requestHeadersSpec.accept(MediaType.APPLICATION_JSON)).thenReturn(requestHeadersSpec);
+        when(requestHeadersSpec.retrieve()).thenReturn(responseSpec);
+        when(responseSpec.body(any(ParameterizedTypeReference.class))).thenReturn(expectedResult);
+
+        // When
+        var result = historyClient.findAllSummaries(pageable);
+
+        // Then
+        assertEquals(expectedResult, result);
+        verify(restClient).get();
+    }
+
     @Test
     @DisplayName("Should throw server error when finding all process executions and server error occurs")
     void shouldThrowServerErrorWhenFindingAllProcessExecutionsAndServerErrorOccurs() {
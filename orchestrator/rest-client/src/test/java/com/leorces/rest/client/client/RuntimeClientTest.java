@@ -1,17 +1,23 @@
 package com.leorces.rest.client.client;
 
+import com.leorces.model.runtime.message.CorrelationRequest;
+import com.leorces.model.runtime.message.CorrelationResult;
 import com.leorces.model.runtime.process.Process;
+import com.leorces.model.runtime.process.StartProcessRequest;
 import com.leorces.model.search.ProcessFilter;
 import com.leorces.rest.client.model.request.CorrelateMessageRequest;
+import com.leorces.rest.client.model.request.CorrelateMessagesRequest;
 import com.leorces.rest.client.model.request.ProcessModificationRequest;
 import com.leorces.rest.client.model.request.StartProcessByIdRequest;
 import com.leorces.rest.client.model.request.StartProcessByKeyRequest;
+import com.leorces.rest.client.model.request.StartProcessesRequest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.web.client.HttpClientErrorException;
@@ -19,6 +25,7 @@ import org.springframework.web.client.HttpServerErrorException;
 import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestClient;
 
+import java.util.List;
 import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -108,6 +115,59 @@ class RuntimeClientTest {
         verify(requestBodySpec).body(any(StartProcessByIdRequest.class));
     }
 
+    @Test
+    @DisplayName("Should start processes successfully when valid requests are provided")
+    void shouldStartProcessesSuccessfullyWhenValidRequestsAreProvided() {
+        // Given
+        var requests = List.of(
+                StartProcessRequest.byKey(TEST_DEFINITION_KEY, TEST_BUSINESS_KEY, TEST_VARIABLES),
+                StartProcessRequest.byId(TEST_DEFINITION_ID, TEST_BUSINESS_KEY, TEST_VARIABLES)
+        );
+        var expectedProcesses = List.of(mock(Process.class), mock(Process.class));
+        when(restClient.post()).thenReturn(requestBodyUriSpec);
+        when(requestBodyUriSpec.uri(anyString())).thenReturn(requestBodySpec);
+        when(requestBodySpec.contentType(MediaType.APPLICATION_JSON)).thenReturn(requestBodySpec);
+        when(requestBodySpec.accept(MediaType.APPLICATION_JSON)).thenReturn(requestBodySpec);
+        when(requestBodySpec.body(any(StartProcessesRequest.class))).thenReturn(requestBodySpec);
+        when(requestBodySpec.retrieve()).thenReturn(responseSpec);
+        when(responseSpec.body(any(ParameterizedTypeReference.class))).thenReturn(expectedProcesses);
+
+        // When
+        var result = runtimeClient.startProcesses(requests);
+
+        // Then
+        assertEquals(expectedProcesses, result);
+        verify(requestBodySpec).body(new StartProcessesRequest(requests));
+    }
+
+    @Test
+    @DisplayName("Should correlate messages successfully when valid requests are provided")
+    void shouldCorrelateMessagesSuccessfullyWhenValidRequestsAreProvided() {
+        // Given
+        var requests = List.of(
+                CorrelationRequest.of(TEST_MESSAGE, TEST_BUSINESS_KEY, TEST_VARIABLES),
+                CorrelationRequest.builder().messageName(TEST_MESSAGE).correlationKeys(TEST_CORRELATION_KEYS).build()
+        );
+        var expectedResults = List.of(
+                CorrelationResult.correlated(requests.get(0), "process-1"),
+                CorrelationResult.correlated(requests.get(1), "process-2")
+        );
+        when(restClient.put()).thenReturn(requestBodyUriSpec);
+        when(requestBodyUriSpec.uri(anyString())).thenReturn(requestBodySpec);
+        when(requestBodySpec.contentType(MediaType.APPLICATION_JSON)).thenReturn(requestBodySpec);
+        when(requestBodySpec.accept(MediaType.APPLICATION_JSON)).thenReturn(requestBodySpec);
+        when(requestBodySpec.body(any(CorrelateMessagesRequest.class))).thenReturn(requestBodySpec);
+        when(requestBodySpec.retrieve()).thenReturn(responseSpec);
+        when(responseSpec.body(any(ParameterizedTypeReference.class))).thenReturn(expectedResults);
+
+        // When
+        var result = runtimeClient.correlateMessages(requests);
+
+        // Then
+        assertEquals(expectedResults, result);
+        verify(requestBodySpec).body(new CorrelateMessagesRequest(requests));
+    }
+
     @Test
     @DisplayName("Should terminate process successfully when valid processId is provided")
     void shouldTerminateProcessSuccessfully() {
@@ -1,8 +1,14 @@
 package com.leorces.rest.client.client;
 
 import com.leorces.model.runtime.activity.ActivityFailure;
+import com.leorces.model.runtime.activity.ActivityPollRequest;
+import com.leorces.model.runtime.activity.ActivityUpdateResult;
 import com.leorces.rest.client.model.ExternalTask;
+import com.leorces.rest.client.model.request.ActivityBatchRequest;
+import com.leorces.rest.client.model.request.CompleteActivityItem;
 import com.leorces.rest.client.model.request.FailActivityRequest;
+import com.leorces.rest.client.model.request.PollActivitiesRequest;
+import com.leorces.rest.client.model.response.ActivityBatchResponse;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -277,4 +283,51 @@ class TaskRestClientTest {
         assertTrue(result.getBody().isEmpty());
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("Should send batch of task updates")
+    void shouldSendBatchOfTaskUpdates() {
+        // Given
+        var request = new ActivityBatchRequest(List.of(new CompleteActivityItem(TEST_TASK_ID, TEST_VARIABLES)), List.of());
+        var expectedResponse = ResponseEntity.ok(new ActivityBatchResponse(List.of(ActivityUpdateResult.applied(TEST_TASK_ID))));
+        when(restClient.put()).thenReturn(requestBodyUriSpec);
+        when(requestBodyUriSpec.uri(anyString())).thenReturn(requestBodySpec);
+        when(requestBodySpec.contentType(MediaType.APPLICATION_JSON)).thenReturn(requestBodySpec);
+        when(requestBodySpec.accept(MediaType.APPLICATION_JSON)).thenReturn(requestBodySpec);
+        when(requestBodySpec.body(request)).thenReturn(requestBodySpec);
+        when(requestBodySpec.retrieve()).thenReturn(responseSpec);
+        when(responseSpec.toEntity(ActivityBatchResponse.class)).thenReturn(expectedResponse);
+
+        // When
+        var result = taskRestClient.batch(request);
+
+        // Then
+        assertEquals(expectedResponse, result);
+        verify(requestBodyUriSpec).uri("/api/v1/activities/batch");
+    }
+
+    @Test
+    @DisplayName("Should poll tasks of several topics in one request")
+    void shouldPollTasksOfSeveralTopicsInOneRequest() {
+        // Given
+        var requests = List.of(
+                ActivityPollRequest.of(TEST_TOPIC, TEST_PROCESS_DEFINITION_KEY, TEST_SIZE),
+                ActivityPollRequest.of("other-topic", TEST_PROCESS_DEFINITION_KEY, TEST_SIZE)
+        );
+        var expectedResponse = ResponseEntity.ok(List.of(createTestTask("task1")));
+        when(restClient.post()).thenReturn(requestBodyUriSpec);
+        when(requestBodyUriSpec.uri(anyString())).thenReturn(requestBodySpec);
+        when(requestBodySpec.contentType(MediaType.APPLICATION_JSON)).thenReturn(requestBodySpec);
+        when(requestBodySpec.accept(MediaType.APPLICATION_JSON)).thenReturn(requestBodySpec);
+        when(requestBodySpec.body(new PollActivitiesRequest(requests, 0))).thenReturn(requestBodySpec);
+        when(requestBodySpec.retrieve()).thenReturn(responseSpec);
+        when(responseSpec.toEntity(any(ParameterizedTypeReference.class))).thenReturn(expectedResponse);
+
+        // When
+        var result = taskRestClient.poll(requests, 0);
+
+        // Then
+        assertEquals(expectedResponse, result);
+        verify(requestBodyUriSpec).uri("/api/v1/activities/poll");
+    }
+
+}
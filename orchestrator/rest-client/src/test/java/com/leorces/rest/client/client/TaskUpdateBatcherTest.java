@@ -0,0 +1,180 @@
+package com.leorces.rest.client.client;
+
+import com.leorces.model.runtime.activity.ActivityFailure;
+import com.leorces.model.runtime.activity.ActivityUpdateResult;
+import com.leorces.rest.client.configuration.properties.rest.TaskBatchProperties;
+import com.leorces.rest.client.model.request.ActivityBatchRequest;
+import com.leorces.rest.client.model.request.CompleteActivityItem;
+import com.leorces.rest.client.model.request.FailActivityItem;
+import com.leorces.rest.client.model.response.ActivityBatchResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.ResponseEntity;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TaskUpdateBatcher Tests")
+class TaskUpdateBatcherTest {
+
+    private static final Map<String, Object> VARIABLES = Map.of("key", "value");
+
+    @Mock
+    private TaskRestClient taskRestClient;
+
+    private TaskUpdateBatcher batcher;
+
+    @AfterEach
+    void tearDown() {
+        if (batcher != null) {
+            batcher.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Should send single update after max delay")
+    void shouldSendSingleUpdateAfterMaxDelay() {
+        // Given
+        batcher = new TaskUpdateBatcher(taskRestClient, new TaskBatchProperties(true, 100, Duration.ofMillis(10)));
+        when(taskRestClient.batch(any())).thenReturn(response(applied("task-1")));
+
+        // When
+        var result = batcher.complete("task-1", VARIABLES);
+
+        // Then
+        assertThat(result).isTrue();
+        verify(taskRestClient).batch(new ActivityBatchRequest(List.of(new CompleteActivityItem("task-1", VARIABLES)), List.of()));
+    }
+
+    @Test
+    @DisplayName("Should coalesce concurrent updates into one request when batch is full")
+    void shouldCoalesceConcurrentUpdates() {
+        // Given
+        batcher = new TaskUpdateBatcher(taskRestClient, new TaskBatchProperties(true, 2, Duration.ofMinutes(1)));
+        var failure = ActivityFailure.of("Failure reason");
+        when(taskRestClient.batch(any())).thenReturn(response(applied("task-1"), notFound("task-2")));
+
+        // When
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            var failed = CompletableFuture.supplyAsync(() -> batcher.fail("task-2", failure, VARIABLES), executor);
+            var completed = CompletableFuture.supplyAsync(() -> batcher.complete("task-1", VARIABLES), executor);
+
+            // Then
+            assertThat(completed.join()).isTrue();
+            assertThat(failed.join()).isFalse();
+        }
+
+        var captor = ArgumentCaptor.forClass(ActivityBatchRequest.class);
+        verify(taskRestClient, times(1)).batch(captor.capture());
+        assertThat(captor.getValue().completions()).containsExactly(new CompleteActivityItem("task-1", VARIABLES));
+        assertThat(captor.getValue().failures()).containsExactly(new FailActivityItem("task-2", failure, VARIABLES));
+    }
+
+    @Test
+    @DisplayName("Should reject every update of a failed batch")
+    void shouldRejectEveryUpdateOfFailedBatch() {
+        // Given
+        batcher = new TaskUpdateBatcher(taskRestClient, new TaskBatchProperties(true, 1, Duration.ofMinutes(1)));
+        when(taskRestClient.batch(any())).thenThrow(new RuntimeException("Network error"));
+
+        // When
+        var result = batcher.complete("task-1", VARIABLES);
+
+        // Then
+        assertThat(result).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should reject every update when result count does not match")
+    void shouldRejectUpdatesWhenResultCountDoesNotMatch() {
+        // Given
+        batcher = new TaskUpdateBatcher(taskRestClient, new TaskBatchProperties(true, 1, Duration.ofMinutes(1)));
+        when(taskRestClient.batch(any())).thenReturn(ResponseEntity.status(503).build());
+
+        // When
+        var result = batcher.complete("task-1", VARIABLES);
+
+        // Then
+        assertThat(result).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should report disabled batching")
+    void shouldReportDisabledBatching() {
+        // Given
+        batcher = new TaskUpdateBatcher(taskRestClient, new TaskBatchProperties(false, 100, Duration.ofMillis(10)));
+
+        // When & Then
+        assertThat(batcher.isEnabled()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should send updates directly after shutdown")
+    void shouldSendUpdatesDirectlyAfterShutdown() {
+        // Given
+        batcher = new TaskUpdateBatcher(taskRestClient, new TaskBatchProperties(true, 100, Duration.ofMillis(10)));
+        var failure = ActivityFailure.of("Failure reason");
+        batcher.shutdown();
+        when(taskRestClient.complete("task-1", VARIABLES)).thenReturn(ResponseEntity.noContent().build());
+        when(taskRestClient.fail("task-2", failure, VARIABLES)).thenReturn(ResponseEntity.notFound().build());
+
+        // When
+        var completed = batcher.complete("task-1", VARIABLES);
+        var failed = batcher.fail("task-2", failure, VARIABLES);
+
+        // Then
+        assertThat(completed).isTrue();
+        assertThat(failed).isFalse();
+        assertThat(batcher.isEnabled()).isFalse();
+        verify(taskRestClient, never()).batch(any());
+    }
+
+    @Test
+    @DisplayName("Should cap batches at the size the orchestrator accepts")
+    void shouldCapBatchSize() {
+        // Given
+        batcher = new TaskUpdateBatcher(taskRestClient, new TaskBatchProperties(true, 5000, Duration.ofMinutes(1)));
+        var results = IntStream.range(0, TaskUpdateBatcher.MAX_BATCH_SIZE)
+                .mapToObj(i -> applied("task-" + i))
+                .toArray(ActivityUpdateResult[]::new);
+        when(taskRestClient.batch(any())).thenReturn(response(results));
+
+        // When
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            var updates = IntStream.range(0, TaskUpdateBatcher.MAX_BATCH_SIZE)
+                    .mapToObj(i -> CompletableFuture.supplyAsync(() -> batcher.complete("task-" + i, VARIABLES), executor))
+                    .toList();
+
+            // Then
+            assertThat(updates).allSatisfy(update -> assertThat(update.join()).isTrue());
+        }
+        verify(taskRestClient).batch(any());
+    }
+
+    private static ResponseEntity<ActivityBatchResponse> response(ActivityUpdateResult... results) {
+        return ResponseEntity.ok(new ActivityBatchResponse(List.of(results)));
+    }
+
+    private static ActivityUpdateResult applied(String taskId) {
+        return ActivityUpdateResult.applied(taskId);
+    }
+
+    private static ActivityUpdateResult notFound(String taskId) {
+        return ActivityUpdateResult.notFound(taskId);
+    }
+
+}
@@ -2,7 +2,10 @@ package com.leorces.rest.client.worker;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.leorces.common.mapper.VariablesMapper;
+import com.leorces.model.runtime.activity.ActivityPollRequest;
+import com.leorces.model.runtime.variable.Variable;
 import com.leorces.rest.client.ExternalTaskService;
+import com.leorces.rest.client.client.ActivityClient;
 import com.leorces.rest.client.client.TaskRestClient;
 import com.leorces.rest.client.handler.ExternalTaskHandler;
 import com.leorces.rest.client.model.ExternalTask;
@@ -12,15 +15,19 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -33,6 +40,9 @@ class ExternalTaskSubscriptionProcessorTest {
     @Mock
     private TaskRestClient client;
 
+    @Mock
+    private ActivityClient activityClient;
+
     @Mock
     private ExternalTaskService service;
 
@@ -56,7 +66,7 @@ class ExternalTaskSubscriptionProcessorTest {
 
     @BeforeEach
     void setUp() {
-        processor = new ExternalTaskSubscriptionProcessor(client, service, variablesMapper, objectMapper, workerMetrics, executor);
+        processor = new ExternalTaskSubscriptionProcessor(client, activityClient, service, variablesMapper, objectMapper, workerMetrics, executor);
 
         var metadata = createWorkerMetadata();
         context = WorkerContext.create(externalTaskHandler, metadata);
@@ -90,6 +100,84 @@ class ExternalTaskSubscriptionProcessorTest {
         verify(workerMetrics).recordQueueMetrics(eq(context), eq(0.0));
     }
 
+    @Test
+    @DisplayName("Should poll the topics of several workers in one request and hand out tasks by topic")
+    void shouldPollTopicsOfSeveralWorkersInOneRequest() {
+        // Given
+        var otherTopic = "other-topic";
+        var firstContext = WorkerContext.create(
+                externalTaskHandler,
+                new WorkerMetadata(TOPIC, PROCESS_DEFINITION_KEY, 5L, 0L, 2, TimeUnit.SECONDS)
+        );
+        var secondContext = WorkerContext.create(
+                externalTaskHandler,
+                new WorkerMetadata(otherTopic, PROCESS_DEFINITION_KEY, 5L, 0L, 1, TimeUnit.SECONDS)
+        );
+        var requests = List.of(
+                ActivityPollRequest.of(TOPIC, PROCESS_DEFINITION_KEY, 2),
+                ActivityPollRequest.of(otherTopic, PROCESS_DEFINITION_KEY, 1)
+        );
+        var tasks = List.of(
+                createTask("task-1", TOPIC),
+                createTask("task-2", otherTopic),
+                createTask("task-3", TOPIC)
+        );
+        when(client.poll(requests, 0)).thenReturn(new ResponseEntity<>(tasks, HttpStatus.OK));
+
+        // When
+        processor.process(List.of(firstContext, secondContext));
+
+        // Then
+        verify(client).poll(requests, 0);
+        verify(workerMetrics).recordTasksPolledMetrics(eq(firstContext), eq(2));
+        verify(workerMetrics).recordTasksPolledMetrics(eq(secondContext), eq(1));
+        verify(executor, times(3)).execute(any(Runnable.class));
+        verify(client, never()).poll(anyString(), anyString(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Should record a failed poll for every worker when the combined poll fails")
+    void shouldRecordFailedPollForEveryWorkerWhenCombinedPollFails() {
+        // Given
+        var otherContext = WorkerContext.create(
+                externalTaskHandler,
+                new WorkerMetadata("other-topic", PROCESS_DEFINITION_KEY, 5L, 0L, 1, TimeUnit.SECONDS)
+        );
+        when(client.poll(anyList(), eq(0L))).thenThrow(new RuntimeException("Poll failed"));
+
+        // When
+        processor.process(List.of(context, otherContext));
+
+        // Then
+        verify(workerMetrics).recordFailedPollMetrics(context);
+        verify(workerMetrics).recordFailedPollMetrics(otherContext);
+        verifyNoInteractions(executor);
+    }
+
+    @Test
+    @DisplayName("Should long poll tasks on executor when long polling is enabled")
+    void shouldLongPollTasksOnExecutorWhenLongPollingIsEnabled() {
+        // Given
+        var longPollContext = WorkerContext.create(
+                externalTaskHandler,
+                new WorkerMetadata(TOPIC, PROCESS_DEFINITION_KEY, 5L, 0L, 1, TimeUnit.SECONDS, 20L)
+        );
+        var response = new ResponseEntity<>(List.of(mock(ExternalTask.class)), HttpStatus.OK);
+        when(client.poll(TOPIC, PROCESS_DEFINITION_KEY, 1, 20_000L)).thenReturn(response);
+        var longPoll = ArgumentCaptor.forClass(Runnable.class);
+
+        // When
+        processor.process(longPollContext);
+        processor.process(longPollContext);
+        verify(executor).execute(longPoll.capture());
+        longPoll.getValue().run();
+
+        // Then
+        verify(client).poll(TOPIC, PROCESS_DEFINITION_KEY, 1, 20_000L);
+        verify(client, never()).poll(TOPIC, PROCESS_DEFINITION_KEY, 1);
+        verify(workerMetrics).recordTasksPolledMetrics(eq(longPollContext), eq(1));
+    }
+
     @Test
     @DisplayName("Should record failed poll metrics when polling returns error status")
     void shouldRecordFailedPollMetricsWhenPollingReturnsErrorStatus() {
@@ -132,6 +220,7 @@ class ExternalTaskSubscriptionProcessorTest {
         when(task.toBuilder()).thenReturn(taskBuilder);
         when(taskBuilder.objectMapper(objectMapper)).thenReturn(taskBuilder);
         when(taskBuilder.variablesMapper(variablesMapper)).thenReturn(taskBuilder);
+        when(taskBuilder.variables(any())).thenReturn(taskBuilder);
         when(taskBuilder.build()).thenReturn(task);
 
         doAnswer(invocation -> {
@@ -162,6 +251,7 @@ class ExternalTaskSubscriptionProcessorTest {
         when(task.toBuilder()).thenReturn(taskBuilder);
         when(taskBuilder.objectMapper(objectMapper)).thenReturn(taskBuilder);
         when(taskBuilder.variablesMapper(variablesMapper)).thenReturn(taskBuilder);
+        when(taskBuilder.variables(any())).thenReturn(taskBuilder);
         when(taskBuilder.build()).thenReturn(task);
 
         doThrow(new RuntimeException("ExternalTask execution failed")).when(externalTaskHandler).execute(any(ExternalTask.class), eq(service));
@@ -182,6 +272,57 @@ class ExternalTaskSubscriptionProcessorTest {
         verify(workerMetrics).recordQueueMetrics(eq(context), eq(0.0));
     }
 
+    @Test
+    @DisplayName("Should read the values of offloaded variables in one request before the handler runs")
+    void shouldLoadOffloadedValuesBeforeHandlerRuns() {
+        // Given
+        var first = createVariable("first", "first-id", true);
+        var second = createVariable("second", "second-id", true);
+        var inline = createVariable("inline", "inline-id", false).toBuilder().varValue("inline value").build();
+        var task = ExternalTask.builder()
+                .id("task-1")
+                .variables(List.of(first, inline, second))
+                .build();
+        when(client.poll(TOPIC, PROCESS_DEFINITION_KEY, 1)).thenReturn(new ResponseEntity<>(List.of(task), HttpStatus.OK));
+        when(activityClient.findVariableValues(List.of("first-id", "second-id")))
+                .thenReturn(Map.of("first-id", "first value", "second-id", "second value"));
+        runTasksInline();
+
+        // When
+        processor.process(context);
+
+        // Then
+        var captor = ArgumentCaptor.forClass(ExternalTask.class);
+        verify(externalTaskHandler).execute(captor.capture(), eq(service));
+        assertThat(captor.getValue().variables())
+                .extracting(Variable::varValue, Variable::offloaded)
+                .containsExactly(
+                        tuple("first value", false),
+                        tuple("inline value", false),
+                        tuple("second value", false)
+                );
+        verify(activityClient, times(1)).findVariableValues(anyList());
+    }
+
+    @Test
+    @DisplayName("Should not read values when no variable is offloaded")
+    void shouldNotLoadValuesWithoutOffloadedVariables() {
+        // Given
+        var task = ExternalTask.builder()
+                .id("task-1")
+                .variables(List.of(createVariable("inline", "inline-id", false)))
+                .build();
+        when(client.poll(TOPIC, PROCESS_DEFINITION_KEY, 1)).thenReturn(new ResponseEntity<>(List.of(task), HttpStatus.OK));
+        runTasksInline();
+
+        // When
+        processor.process(context);
+
+        // Then
+        verify(externalTaskHandler).execute(any(ExternalTask.class), eq(service));
+        verifyNoInteractions(activityClient);
+    }
+
     private WorkerMetadata createWorkerMetadata() {
         return new WorkerMetadata(
                 TOPIC,
@@ -196,6 +337,31 @@ class ExternalTaskSubscriptionProcessorTest {
         );
     }
 
+    private ExternalTask createTask(String id, String topic) {
+        return ExternalTask.builder()
+                .id(id)
+                .processDefinitionKey(PROCESS_DEFINITION_KEY)
+                .topicName(topic)
+                .build();
+    }
+
+    private Variable createVariable(String key, String id, boolean offloaded) {
+        return Variable.builder()
+                .id(id)
+                .varKey(key)
+                .type("string")
+                .offloaded(offloaded)
+                .build();
+    }
+
+    private void runTasksInline() {
+        doAnswer(invocation -> {
+            Runnable runnable = invocation.getArgument(0);
+            runnable.run();
+            return null;
+        }).when(executor).execute(any(Runnable.class));
+    }
+
     private ExternalTask createTask() {
         var task = mock(ExternalTask.class);
         when(task.id()).thenReturn("task-1");
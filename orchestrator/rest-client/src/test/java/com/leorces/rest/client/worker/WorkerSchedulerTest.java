@@ -13,6 +13,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.List;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 
@@ -130,6 +131,48 @@ class WorkerSchedulerTest {
         verify(externalTaskSubscriptionProcessor).process(context);
     }
 
+    @Test
+    @DisplayName("Should poll workers with the same schedule in one fetch loop")
+    void shouldPollWorkersWithSameScheduleInOneFetchLoop() {
+        //Given
+        var handler = new TestExternalTaskHandler();
+        var firstContext = WorkerContext.create(handler, new WorkerMetadata("firstTopic", "testProcess", 5L, 0L, 1, TimeUnit.SECONDS));
+        var secondContext = WorkerContext.create(handler, new WorkerMetadata("secondTopic", "testProcess", 5L, 0L, 1, TimeUnit.SECONDS));
+
+        var runnableCaptor = ArgumentCaptor.forClass(Runnable.class);
+
+        //When
+        workerScheduler.startWorker(firstContext);
+        workerScheduler.startWorker(secondContext);
+
+        //Then
+        verify(scheduledExecutorService).scheduleAtFixedRate(
+                runnableCaptor.capture(), any(Long.class), any(Long.class), eq(TimeUnit.MILLISECONDS)
+        );
+
+        runnableCaptor.getValue().run();
+
+        verify(externalTaskSubscriptionProcessor).process(List.of(firstContext, secondContext));
+    }
+
+    @Test
+    @DisplayName("Should schedule long polling workers separately")
+    void shouldScheduleLongPollingWorkersSeparately() {
+        //Given
+        var handler = new TestExternalTaskHandler();
+        var firstContext = WorkerContext.create(handler, new WorkerMetadata("firstTopic", "testProcess", 5L, 0L, 1, TimeUnit.SECONDS, 20L));
+        var secondContext = WorkerContext.create(handler, new WorkerMetadata("secondTopic", "testProcess", 5L, 0L, 1, TimeUnit.SECONDS, 20L));
+
+        //When
+        workerScheduler.startWorker(firstContext);
+        workerScheduler.startWorker(secondContext);
+
+        //Then
+        verify(scheduledExecutorService, times(2)).scheduleAtFixedRate(
+                any(Runnable.class), any(Long.class), any(Long.class), eq(TimeUnit.MILLISECONDS)
+        );
+    }
+
     @Test
     @DisplayName("Should not execute processor when shutting down")
     void shouldNotExecuteProcessorWhenShuttingDown() {
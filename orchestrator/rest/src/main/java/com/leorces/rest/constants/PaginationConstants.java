@@ -10,6 +10,8 @@ public class PaginationConstants {
     public static final String ORDER_PARAM = "order";
     public static final String FILTER_PARAM = "filter";
     public static final String STATE_PARAM = "state";
+    public static final String AFTER_PARAM = "after";
+    public static final String TOTAL_PARAM = "total";
 
     // Pagination defaults
     public static final String DEFAULT_PAGE = "0";
@@ -18,6 +20,7 @@ public class PaginationConstants {
     public static final String DEFAULT_ORDER = "desc";
     public static final String DEFAULT_FILTER = "";
     public static final String DEFAULT_STATE = "all";
+    public static final String DEFAULT_TOTAL = "exact";
 
     private PaginationConstants() {
     }
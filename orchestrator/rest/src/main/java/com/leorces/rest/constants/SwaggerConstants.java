@@ -26,6 +26,8 @@ public class SwaggerConstants {
     public static final String ORDER_DESCRIPTION = "Sort order (asc or desc)";
     public static final String FILTER_DESCRIPTION = "Filter criteria";
     public static final String STATE_DESCRIPTION = "State filter";
+    public static final String AFTER_DESCRIPTION = "Cursor of the previous page (next of its response), the page is ignored when set";
+    public static final String TOTAL_DESCRIPTION = "How the total is computed (exact, capped or estimated)";
 
     private SwaggerConstants() {
 
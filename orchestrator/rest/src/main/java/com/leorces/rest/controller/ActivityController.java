@@ -2,7 +2,15 @@ package com.leorces.rest.controller;
 
 import com.leorces.api.ActivityService;
 import com.leorces.model.runtime.activity.Activity;
+import com.leorces.model.runtime.activity.ActivityCompleteRequest;
+import com.leorces.model.runtime.activity.ActivityFailRequest;
+import com.leorces.model.runtime.activity.ActivityUpdateResult;
+import com.leorces.rest.model.request.ActivityBatchRequest;
+import com.leorces.rest.model.request.CompleteActivityItem;
+import com.leorces.rest.model.request.FailActivityItem;
 import com.leorces.rest.model.request.FailActivityRequest;
+import com.leorces.rest.model.request.PollActivitiesRequest;
+import com.leorces.rest.model.response.ActivityBatchResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -15,11 +23,16 @@ import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.DeferredResult;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 import static com.leorces.rest.constants.ApiConstants.ACTIVITIES_ENDPOINT;
 import static com.leorces.rest.constants.PaginationConstants.DEFAULT_SIZE;
@@ -33,6 +46,9 @@ import static com.leorces.rest.constants.SwaggerConstants.*;
 @Tag(name = "Activities", description = "Activity management operations")
 public class ActivityController {
 
+    // Zero or less disables the servlet container's async timeout
+    private static final long NO_TIMEOUT = 0L;
+
     private final ActivityService activityService;
 
     @Operation(
@@ -103,6 +119,45 @@ public class ActivityController {
         return ResponseEntity.noContent().build();
     }
 
+    @Operation(
+            summary = "Complete and fail activities in batch",
+            description = "Complete and fail up to 1000 activities of each kind in one request. Unlike the single endpoints, " +
+                    "the updates are applied before the response is sent and every update reports its own outcome, " +
+                    "so an update of an unknown or finished activity is reported and doesn't fail the others. " +
+                    "Results list completions first, then failures, each in request order"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = STATUS_200_OK,
+                    description = RESPONSE_200_OK,
+                    content = @Content(schema = @Schema(implementation = ActivityBatchResponse.class))
+            ),
+            @ApiResponse(responseCode = STATUS_400_BAD_REQUEST, description = RESPONSE_400_BAD_REQUEST),
+            @ApiResponse(responseCode = STATUS_500_INTERNAL_ERROR, description = RESPONSE_500_INTERNAL_ERROR)
+    })
+    @PutMapping("/batch")
+    public ResponseEntity<ActivityBatchResponse> batch(
+            @Parameter(description = "Activity completions and failures", required = true)
+            @Valid @RequestBody ActivityBatchRequest request
+    ) {
+        var completions = Objects.requireNonNullElse(request.completions(), List.<CompleteActivityItem>of()).stream()
+                .map(item -> ActivityCompleteRequest.of(item.activityId(), item.variables()))
+                .toList();
+        var failures = Objects.requireNonNullElse(request.failures(), List.<FailActivityItem>of()).stream()
+                .map(item -> ActivityFailRequest.of(item.activityId(), item.failure(), item.variables()))
+                .toList();
+
+        var results = new ArrayList<ActivityUpdateResult>(completions.size() + failures.size());
+        if (!completions.isEmpty()) {
+            results.addAll(activityService.completeAll(completions));
+        }
+        if (!failures.isEmpty()) {
+            results.addAll(activityService.failAll(failures));
+        }
+
+        return ResponseEntity.ok(new ActivityBatchResponse(results));
+    }
+
     @Operation(
             summary = "Terminate activity",
             description = "Terminate an activity by its ID"
@@ -143,7 +198,8 @@ public class ActivityController {
 
     @Operation(
             summary = "Poll activities",
-            description = "Poll for available activities by process definition key and topic"
+            description = "Poll for available activities by process definition key and topic. " +
+                    "When a timeout is given, the request waits until activities are scheduled or the timeout expires"
     )
     @ApiResponses(value = {
             @ApiResponse(
@@ -155,16 +211,78 @@ public class ActivityController {
             @ApiResponse(responseCode = STATUS_500_INTERNAL_ERROR, description = RESPONSE_500_INTERNAL_ERROR)
     })
     @GetMapping("/poll/{processDefinitionKey}/{topic}")
-    public ResponseEntity<List<Activity>> poll(
+    public DeferredResult<ResponseEntity<List<Activity>>> poll(
             @Parameter(description = "The process definition key to poll activities for", required = true)
             @PathVariable("processDefinitionKey") String processDefinitionKey,
             @Parameter(description = "The topic to poll activities for", required = true)
             @PathVariable("topic") String topic,
             @Parameter(description = SIZE_DESCRIPTION)
-            @RequestParam(value = SIZE_PARAM, defaultValue = DEFAULT_SIZE) int size
+            @RequestParam(value = SIZE_PARAM, defaultValue = DEFAULT_SIZE) int size,
+            @Parameter(description = "Maximum time in milliseconds to wait for activities, 0 returns immediately")
+            @RequestParam(value = "timeout", defaultValue = "0") long timeout
     ) {
-        var result = activityService.poll(topic, processDefinitionKey, size);
-        return ResponseEntity.ok(result);
+        var result = timeout > 0
+                ? activityService.pollAsync(topic, processDefinitionKey, size, Duration.ofMillis(timeout))
+                : CompletableFuture.completedFuture(activityService.poll(topic, processDefinitionKey, size));
+        return toDeferredResult(result);
+    }
+
+    @Operation(
+            summary = "Poll activities of many topics",
+            description = "Poll for available activities of several topics and process definition keys in one request, " +
+                    "each with its own maximum number of activities. " +
+                    "When a timeout is given, the request waits until activities are scheduled for any of them or the timeout expires"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = STATUS_200_OK,
+                    description = RESPONSE_200_OK,
+                    content = @Content(schema = @Schema(implementation = Activity.class))
+            ),
+            @ApiResponse(responseCode = STATUS_400_BAD_REQUEST, description = RESPONSE_400_BAD_REQUEST),
+            @ApiResponse(responseCode = STATUS_500_INTERNAL_ERROR, description = RESPONSE_500_INTERNAL_ERROR)
+    })
+    @PostMapping("/poll")
+    public DeferredResult<ResponseEntity<List<Activity>>> pollAll(
+            @Parameter(description = "Request containing the topics and process definition keys to poll, and the maximum time in milliseconds to wait")
+            @Valid @RequestBody PollActivitiesRequest request
+    ) {
+        var result = activityService.pollAsync(request.requests(), Duration.ofMillis(request.timeout()));
+        return toDeferredResult(result);
+    }
+
+    @Operation(
+            summary = "Find variable values",
+            description = "Find the values of variables by their IDs. Polled activities carry offloaded variables " +
+                    "by reference, without their value"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = STATUS_200_OK, description = RESPONSE_200_OK),
+            @ApiResponse(responseCode = STATUS_400_BAD_REQUEST, description = RESPONSE_400_BAD_REQUEST),
+            @ApiResponse(responseCode = STATUS_500_INTERNAL_ERROR, description = RESPONSE_500_INTERNAL_ERROR)
+    })
+    @PostMapping("/variables/values")
+    public ResponseEntity<Map<String, String>> findVariableValues(
+            @Parameter(description = "The IDs of the variables", required = true)
+            @RequestBody List<String> variableIds
+    ) {
+        return ResponseEntity.ok(activityService.findVariableValues(variableIds));
+    }
+
+    /**
+     * Releases the request thread while the poll waits. The engine ends every poll at its deadline, so the request
+     * has no timeout of its own that would race it.
+     */
+    private DeferredResult<ResponseEntity<List<Activity>>> toDeferredResult(CompletableFuture<List<Activity>> activities) {
+        var result = new DeferredResult<ResponseEntity<List<Activity>>>(NO_TIMEOUT);
+        activities.whenComplete((polled, error) -> {
+            if (error != null) {
+                result.setErrorResult(error instanceof CompletionException && error.getCause() != null ? error.getCause() : error);
+            } else {
+                result.setResult(ResponseEntity.ok(polled));
+            }
+        });
+        return result;
     }
 
 }
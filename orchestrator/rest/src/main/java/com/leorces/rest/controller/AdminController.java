@@ -3,6 +3,7 @@ package com.leorces.rest.controller;
 import com.leorces.api.AdminService;
 import com.leorces.model.job.Job;
 import com.leorces.model.job.migration.ProcessMigrationPlan;
+import com.leorces.model.pagination.PageCursor;
 import com.leorces.model.pagination.Pageable;
 import com.leorces.model.pagination.PageableData;
 import com.leorces.rest.model.request.GenerateMigrationPlanRequest;
@@ -75,7 +76,11 @@ public class AdminController {
             @Parameter(description = FILTER_DESCRIPTION)
             @RequestParam(value = FILTER_PARAM, defaultValue = DEFAULT_FILTER) String filter,
             @Parameter(description = STATE_DESCRIPTION)
-            @RequestParam(value = STATE_PARAM, defaultValue = DEFAULT_STATE) String state
+            @RequestParam(value = STATE_PARAM, defaultValue = DEFAULT_STATE) String state,
+            @Parameter(description = AFTER_DESCRIPTION)
+            @RequestParam(value = AFTER_PARAM, required = false) String after,
+            @Parameter(description = TOTAL_DESCRIPTION)
+            @RequestParam(value = TOTAL_PARAM, defaultValue = DEFAULT_TOTAL) String total
     ) {
         var pageable = Pageable.builder()
                 .offset((long) page * size)
@@ -84,6 +89,8 @@ public class AdminController {
                 .order(Pageable.Direction.fromString(order))
                 .filter(filter)
                 .state(state)
+                .after(PageCursor.decode(after))
+                .total(Pageable.Total.fromString(total))
                 .build();
         var result = adminService.findAllJobs(pageable);
         return ResponseEntity.ok(result);
@@ -1,6 +1,7 @@
 package com.leorces.rest.controller;
 
 import com.leorces.api.HistoryService;
+import com.leorces.model.pagination.PageCursor;
 import com.leorces.model.pagination.Pageable;
 import com.leorces.model.pagination.PageableData;
 import com.leorces.model.runtime.process.ProcessExecution;
@@ -50,10 +51,49 @@ public class HistoryController {
             @Parameter(description = PAGE_DESCRIPTION)
             @RequestParam(value = PAGE_PARAM, defaultValue = DEFAULT_PAGE) int offset,
             @Parameter(description = SIZE_DESCRIPTION)
-            @RequestParam(value = SIZE_PARAM, defaultValue = DEFAULT_SIZE) int limit
+            @RequestParam(value = SIZE_PARAM, defaultValue = DEFAULT_SIZE) int limit,
+            @Parameter(description = AFTER_DESCRIPTION)
+            @RequestParam(value = AFTER_PARAM, required = false) String after,
+            @Parameter(description = TOTAL_DESCRIPTION)
+            @RequestParam(value = TOTAL_PARAM, defaultValue = DEFAULT_TOTAL) String total
     ) {
-        var result = historyService.findAll(new Pageable(offset, limit));
+        var result = historyService.findAll(toPageable(offset, limit, after, total));
         return ResponseEntity.ok(result);
     }
 
+    @Operation(
+            summary = "Get process execution history summaries",
+            description = "Retrieve a paginated list of process execution history without process and activity variables"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = STATUS_200_OK,
+                    description = RESPONSE_200_OK,
+                    content = @Content(schema = @Schema(implementation = PageableData.class))
+            ),
+            @ApiResponse(responseCode = STATUS_400_BAD_REQUEST, description = RESPONSE_400_BAD_REQUEST),
+            @ApiResponse(responseCode = STATUS_500_INTERNAL_ERROR, description = RESPONSE_500_INTERNAL_ERROR)
+    })
+    @GetMapping("/summaries")
+    public ResponseEntity<PageableData<ProcessExecution>> findAllSummaries(
+            @Parameter(description = PAGE_DESCRIPTION)
+            @RequestParam(value = PAGE_PARAM, defaultValue = DEFAULT_PAGE) int offset,
+            @Parameter(description = SIZE_DESCRIPTION)
+            @RequestParam(value = SIZE_PARAM, defaultValue = DEFAULT_SIZE) int limit,
+            @Parameter(description = AFTER_DESCRIPTION)
+            @RequestParam(value = AFTER_PARAM, required = false) String after,
+            @Parameter(description = TOTAL_DESCRIPTION)
+            @RequestParam(value = TOTAL_PARAM, defaultValue = DEFAULT_TOTAL) String total
+    ) {
+        var result = historyService.findAllSummaries(toPageable(offset, limit, after, total));
+        return ResponseEntity.ok(result);
+    }
+
+    private static Pageable toPageable(int offset, int limit, String after, String total) {
+        return new Pageable(offset, limit).toBuilder()
+                .after(PageCursor.decode(after))
+                .total(Pageable.Total.fromString(total))
+                .build();
+    }
+
 }
@@ -1,6 +1,7 @@
 package com.leorces.rest.controller;
 
 import com.leorces.api.ProcessService;
+import com.leorces.model.pagination.PageCursor;
 import com.leorces.model.pagination.Pageable;
 import com.leorces.model.pagination.PageableData;
 import com.leorces.model.runtime.process.Process;
@@ -56,7 +57,11 @@ public class ProcessController {
             @Parameter(description = FILTER_DESCRIPTION)
             @RequestParam(value = FILTER_PARAM, defaultValue = DEFAULT_FILTER) String filter,
             @Parameter(description = STATE_DESCRIPTION)
-            @RequestParam(value = STATE_PARAM, defaultValue = DEFAULT_STATE) String state
+            @RequestParam(value = STATE_PARAM, defaultValue = DEFAULT_STATE) String state,
+            @Parameter(description = AFTER_DESCRIPTION)
+            @RequestParam(value = AFTER_PARAM, required = false) String after,
+            @Parameter(description = TOTAL_DESCRIPTION)
+            @RequestParam(value = TOTAL_PARAM, defaultValue = DEFAULT_TOTAL) String total
     ) {
         var pageable = Pageable.builder()
                 .offset((long) page * size)
@@ -65,6 +70,8 @@ public class ProcessController {
                 .order(Pageable.Direction.fromString(order))
                 .filter(filter)
                 .state(state)
+                .after(PageCursor.decode(after))
+                .total(Pageable.Total.fromString(total))
                 .build();
         var result = processService.findAll(pageable);
         return ResponseEntity.ok(result);
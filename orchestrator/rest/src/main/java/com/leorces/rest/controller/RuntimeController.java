@@ -1,12 +1,16 @@
 package com.leorces.rest.controller;
 
 import com.leorces.api.RuntimeService;
+import com.leorces.model.runtime.message.CorrelationRequest;
+import com.leorces.model.runtime.message.CorrelationResult;
 import com.leorces.model.runtime.process.Process;
 import com.leorces.model.search.ProcessFilter;
 import com.leorces.rest.model.request.CorrelateMessageRequest;
+import com.leorces.rest.model.request.CorrelateMessagesRequest;
 import com.leorces.rest.model.request.ProcessModificationRequest;
 import com.leorces.rest.model.request.StartProcessByIdRequest;
 import com.leorces.rest.model.request.StartProcessByKeyRequest;
+import com.leorces.rest.model.request.StartProcessesRequest;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -21,6 +25,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
 import java.util.Map;
 
 import static com.leorces.rest.constants.ApiConstants.RUNTIME_ENDPOINT;
@@ -81,6 +86,25 @@ public class RuntimeController {
         return ResponseEntity.status(HttpStatus.CREATED).body(result);
     }
 
+    @Operation(
+            summary = "Start processes",
+            description = "Start many processes at once, each by process definition ID or key"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = STATUS_201_CREATED, description = RESPONSE_201_CREATED),
+            @ApiResponse(responseCode = STATUS_400_BAD_REQUEST, description = RESPONSE_400_BAD_REQUEST),
+            @ApiResponse(responseCode = STATUS_404_NOT_FOUND, description = RESPONSE_404_NOT_FOUND),
+            @ApiResponse(responseCode = STATUS_500_INTERNAL_ERROR, description = RESPONSE_500_INTERNAL_ERROR)
+    })
+    @PostMapping("/processes/batch")
+    public ResponseEntity<List<Process>> startProcesses(
+            @Parameter(description = "Request containing the process definition ID or key, business key, and variables of every process")
+            @Valid @RequestBody StartProcessesRequest request
+    ) {
+        var result = runtimeService.startProcesses(request.processes());
+        return ResponseEntity.status(HttpStatus.CREATED).body(result);
+    }
+
     @Operation(
             summary = "Terminate process by ID",
             description = "Terminate a process by its ID"
@@ -227,6 +251,32 @@ public class RuntimeController {
         return ResponseEntity.noContent().build();
     }
 
+    @Operation(
+            summary = "Correlate messages",
+            description = "Correlate many messages at once, each with one running process"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = STATUS_200_OK, description = RESPONSE_200_OK),
+            @ApiResponse(responseCode = STATUS_400_BAD_REQUEST, description = RESPONSE_400_BAD_REQUEST),
+            @ApiResponse(responseCode = STATUS_500_INTERNAL_ERROR, description = RESPONSE_500_INTERNAL_ERROR)
+    })
+    @PutMapping("/correlate/batch")
+    public ResponseEntity<List<CorrelationResult>> correlateMessages(
+            @Parameter(description = "Request containing the correlation details of every message")
+            @Valid @RequestBody CorrelateMessagesRequest request
+    ) {
+        var messages = request.messages().stream()
+                .map(item -> CorrelationRequest.builder()
+                        .messageName(item.messageName())
+                        .businessKey(item.businessKey())
+                        .correlationKeys(item.correlationKeys())
+                        .processVariables(item.processVariables())
+                        .build())
+                .toList();
+        var result = runtimeService.correlateMessages(messages);
+        return ResponseEntity.ok(result);
+    }
+
     @Operation(
             summary = "Set process variables",
             description = "Set variables for a process execution"
@@ -0,0 +1,15 @@
+package com.leorces.rest.model.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record ActivityBatchRequest(
+        @Size(max = 1000, message = "Completions cannot contain more than 1000 items")
+        @Valid List<CompleteActivityItem> completions,
+        @Size(max = 1000, message = "Failures cannot contain more than 1000 items")
+        @Valid List<FailActivityItem> failures
+) {
+
+}
@@ -0,0 +1,13 @@
+package com.leorces.rest.model.request;
+
+import jakarta.validation.constraints.NotBlank;
+
+import java.util.Map;
+
+public record CompleteActivityItem(
+        @NotBlank(message = "Activity id cannot be null or blank")
+        String activityId,
+        Map<String, Object> variables
+) {
+
+}
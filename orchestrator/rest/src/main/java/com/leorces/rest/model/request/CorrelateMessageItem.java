@@ -0,0 +1,15 @@
+package com.leorces.rest.model.request;
+
+import jakarta.validation.constraints.NotBlank;
+
+import java.util.Map;
+
+public record CorrelateMessageItem(
+        @NotBlank(message = "Message name cannot be null or blank")
+        String messageName,
+        String businessKey,
+        Map<String, Object> correlationKeys,
+        Map<String, Object> processVariables
+) {
+
+}
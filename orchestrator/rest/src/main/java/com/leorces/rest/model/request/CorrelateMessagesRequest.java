@@ -0,0 +1,15 @@
+package com.leorces.rest.model.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record CorrelateMessagesRequest(
+        @NotEmpty(message = "Messages cannot be null or empty")
+        @Size(max = 1000, message = "Messages cannot contain more than 1000 items")
+        @Valid List<CorrelateMessageItem> messages
+) {
+
+}
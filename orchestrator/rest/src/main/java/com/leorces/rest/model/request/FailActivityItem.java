@@ -0,0 +1,15 @@
+package com.leorces.rest.model.request;
+
+import com.leorces.model.runtime.activity.ActivityFailure;
+import jakarta.validation.constraints.NotBlank;
+
+import java.util.Map;
+
+public record FailActivityItem(
+        @NotBlank(message = "Activity id cannot be null or blank")
+        String activityId,
+        ActivityFailure failure,
+        Map<String, Object> variables
+) {
+
+}
@@ -0,0 +1,14 @@
+package com.leorces.rest.model.request;
+
+import com.leorces.model.runtime.activity.ActivityPollRequest;
+import jakarta.validation.constraints.NotEmpty;
+
+import java.util.List;
+
+public record PollActivitiesRequest(
+        @NotEmpty(message = "Poll requests cannot be null or empty")
+        List<ActivityPollRequest> requests,
+        long timeout
+) {
+
+}
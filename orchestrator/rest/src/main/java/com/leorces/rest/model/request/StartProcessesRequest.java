@@ -0,0 +1,13 @@
+package com.leorces.rest.model.request;
+
+import com.leorces.model.runtime.process.StartProcessRequest;
+import jakarta.validation.constraints.NotEmpty;
+
+import java.util.List;
+
+public record StartProcessesRequest(
+        @NotEmpty(message = "Processes cannot be null or empty")
+        List<StartProcessRequest> processes
+) {
+
+}
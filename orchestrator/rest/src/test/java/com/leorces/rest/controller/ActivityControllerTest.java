@@ -2,20 +2,37 @@ package com.leorces.rest.controller;
 
 import com.leorces.api.ActivityService;
 import com.leorces.model.runtime.activity.Activity;
+import com.leorces.model.runtime.activity.ActivityCompleteRequest;
+import com.leorces.model.runtime.activity.ActivityFailRequest;
 import com.leorces.model.runtime.activity.ActivityFailure;
+import com.leorces.model.runtime.activity.ActivityPollRequest;
+import com.leorces.model.runtime.activity.ActivityUpdateResult;
+import com.leorces.model.runtime.activity.ActivityUpdateStatus;
+import com.leorces.rest.model.request.ActivityBatchRequest;
+import com.leorces.rest.model.request.CompleteActivityItem;
+import com.leorces.rest.model.request.FailActivityItem;
 import com.leorces.rest.model.request.FailActivityRequest;
+import com.leorces.rest.model.request.PollActivitiesRequest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.async.DeferredResult;
 
+import java.time.Duration;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -142,7 +159,7 @@ class ActivityControllerTest {
                 .thenReturn(expectedActivities);
 
         // When
-        var result = subject.poll(TEST_PROCESS_DEFINITION_KEY, TEST_TOPIC, DEFAULT_POLL_SIZE).getBody();
+        var result = body(subject.poll(TEST_PROCESS_DEFINITION_KEY, TEST_TOPIC, DEFAULT_POLL_SIZE, 0));
 
         // Then
         assertThat(result).isEqualTo(expectedActivities);
@@ -159,13 +176,87 @@ class ActivityControllerTest {
                 .thenReturn(expectedActivities);
 
         // When
-        var result = subject.poll(TEST_PROCESS_DEFINITION_KEY, TEST_TOPIC, customSize).getBody();
+        var result = body(subject.poll(TEST_PROCESS_DEFINITION_KEY, TEST_TOPIC, customSize, 0));
 
         // Then
         assertThat(result).isEqualTo(expectedActivities);
         verify(activityService).poll(TEST_TOPIC, TEST_PROCESS_DEFINITION_KEY, customSize);
     }
 
+    @Test
+    @DisplayName("Should long poll activities when timeout is provided")
+    void shouldLongPollActivitiesWhenTimeoutProvided() {
+        // Given
+        var timeout = 20_000L;
+        var expectedActivities = createTestActivities();
+        when(activityService.pollAsync(TEST_TOPIC, TEST_PROCESS_DEFINITION_KEY, DEFAULT_POLL_SIZE, Duration.ofMillis(timeout)))
+                .thenReturn(CompletableFuture.completedFuture(expectedActivities));
+
+        // When
+        var result = body(subject.poll(TEST_PROCESS_DEFINITION_KEY, TEST_TOPIC, DEFAULT_POLL_SIZE, timeout));
+
+        // Then
+        assertThat(result).isEqualTo(expectedActivities);
+        verify(activityService).pollAsync(TEST_TOPIC, TEST_PROCESS_DEFINITION_KEY, DEFAULT_POLL_SIZE, Duration.ofMillis(timeout));
+    }
+
+    @Test
+    @DisplayName("Should answer a long poll only once the poll completes")
+    void shouldAnswerLongPollWhenPollCompletes() {
+        // Given
+        var timeout = 20_000L;
+        var expectedActivities = createTestActivities();
+        var poll = new CompletableFuture<List<Activity>>();
+        when(activityService.pollAsync(TEST_TOPIC, TEST_PROCESS_DEFINITION_KEY, DEFAULT_POLL_SIZE, Duration.ofMillis(timeout)))
+                .thenReturn(poll);
+
+        // When
+        var result = subject.poll(TEST_PROCESS_DEFINITION_KEY, TEST_TOPIC, DEFAULT_POLL_SIZE, timeout);
+        var answeredBeforeCompletion = result.hasResult();
+        poll.complete(expectedActivities);
+
+        // Then
+        assertThat(answeredBeforeCompletion).isFalse();
+        assertThat(body(result)).isEqualTo(expectedActivities);
+    }
+
+    @Test
+    @DisplayName("Should answer a failed long poll with the cause of the failure")
+    void shouldAnswerFailedLongPollWithCause() {
+        // Given
+        var timeout = 20_000L;
+        var failure = new IllegalStateException("poll failed");
+        when(activityService.pollAsync(TEST_TOPIC, TEST_PROCESS_DEFINITION_KEY, DEFAULT_POLL_SIZE, Duration.ofMillis(timeout)))
+                .thenReturn(CompletableFuture.failedFuture(new CompletionException(failure)));
+
+        // When
+        var result = subject.poll(TEST_PROCESS_DEFINITION_KEY, TEST_TOPIC, DEFAULT_POLL_SIZE, timeout);
+
+        // Then
+        assertThat(result.getResult()).isSameAs(failure);
+    }
+
+    @Test
+    @DisplayName("Should poll activities of many topics in one request")
+    void shouldPollActivitiesOfManyTopics() {
+        // Given
+        var timeout = 20_000L;
+        var requests = List.of(
+                ActivityPollRequest.of(TEST_TOPIC, TEST_PROCESS_DEFINITION_KEY, DEFAULT_POLL_SIZE),
+                ActivityPollRequest.of("other-topic", TEST_PROCESS_DEFINITION_KEY, 5)
+        );
+        var expectedActivities = createTestActivities();
+        when(activityService.pollAsync(requests, Duration.ofMillis(timeout)))
+                .thenReturn(CompletableFuture.completedFuture(expectedActivities));
+
+        // When
+        var result = body(subject.pollAll(new PollActivitiesRequest(requests, timeout)));
+
+        // Then
+        assertThat(result).isEqualTo(expectedActivities);
+        verify(activityService).pollAsync(requests, Duration.ofMillis(timeout));
+    }
+
     @Test
     @DisplayName("Should handle activity run with empty strings")
     void shouldHandleActivityRunWithEmptyStrings() {
@@ -217,8 +308,69 @@ class ActivityControllerTest {
         verify(activityService).fail(TEST_ACTIVITY_ID, request.failure(), request.variables());
     }
 
+    @Test
+    @DisplayName("Should apply batch of completions and failures")
+    void shouldApplyBatchOfCompletionsAndFailures() {
+        // Given
+        var variables = Map.<String, Object>of(TEST_VARIABLE_KEY, TEST_VARIABLE_VALUE);
+        var failure = ActivityFailure.of("Failure reason");
+        var request = new ActivityBatchRequest(
+                List.of(new CompleteActivityItem("activity-1", variables), new CompleteActivityItem("activity-2", null)),
+                List.of(new FailActivityItem("activity-3", failure, null))
+        );
+        when(activityService.completeAll(List.of(
+                ActivityCompleteRequest.of("activity-1", variables),
+                ActivityCompleteRequest.of("activity-2", null)
+        ))).thenReturn(List.of(ActivityUpdateResult.applied("activity-1"), ActivityUpdateResult.applied("activity-2")));
+        when(activityService.failAll(List.of(ActivityFailRequest.of("activity-3", failure, null))))
+                .thenReturn(List.of(ActivityUpdateResult.applied("activity-3")));
+
+        // When
+        var response = subject.batch(request);
+
+        // Then
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().results()).containsExactly(
+                ActivityUpdateResult.applied("activity-1"),
+                ActivityUpdateResult.applied("activity-2"),
+                ActivityUpdateResult.applied("activity-3")
+        );
+    }
+
+    @Test
+    @DisplayName("Should report outcome of every item of batch")
+    void shouldReportOutcomeOfEveryItemOfBatch() {
+        // Given
+        var request = new ActivityBatchRequest(
+                List.of(new CompleteActivityItem("activity-1", null), new CompleteActivityItem("activity-2", null)),
+                null
+        );
+        when(activityService.completeAll(List.of(
+                ActivityCompleteRequest.of("activity-1", null),
+                ActivityCompleteRequest.of("activity-2", null)
+        ))).thenReturn(List.of(ActivityUpdateResult.notFound("activity-1"), ActivityUpdateResult.applied("activity-2")));
+
+        // When
+        var response = subject.batch(request);
+
+        // Then
+        verify(activityService, never()).failAll(anyList());
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().results())
+                .extracting(ActivityUpdateResult::activityId, ActivityUpdateResult::status)
+                .containsExactly(
+                        tuple("activity-1", ActivityUpdateStatus.NOT_FOUND),
+                        tuple("activity-2", ActivityUpdateStatus.APPLIED)
+                );
+    }
+
     private List<Activity> createTestActivities() {
         return List.of();
     }
 
+    @SuppressWarnings("unchecked")
+    private List<Activity> body(DeferredResult<ResponseEntity<List<Activity>>> result) {
+        return ((ResponseEntity<List<Activity>>) result.getResult()).getBody();
+    }
+
 }
\ No newline at end of file
@@ -25,6 +25,7 @@ class HistoryControllerTest {
 
     private static final int DEFAULT_OFFSET = 0;
     private static final int DEFAULT_LIMIT = 10;
+    private static final String DEFAULT_TOTAL = "exact";
     private static final String TEST_EXECUTION_ID = "test-execution-id";
     private static final String TEST_BUSINESS_KEY = "test-business-key";
 
@@ -46,7 +47,7 @@ class HistoryControllerTest {
         when(historyService.findAll(any(Pageable.class))).thenReturn(expectedPageableData);
 
         // When
-        var result = subject.findAll(DEFAULT_OFFSET, DEFAULT_LIMIT).getBody();
+        var result = subject.findAll(DEFAULT_OFFSET, DEFAULT_LIMIT, null, DEFAULT_TOTAL).getBody();
 
         // Then
         assertThat(result).isEqualTo(expectedPageableData);
@@ -70,7 +71,7 @@ class HistoryControllerTest {
         when(historyService.findAll(any(Pageable.class))).thenReturn(expectedPageableData);
 
         // When
-        var result = subject.findAll(customOffset, customLimit).getBody();
+        var result = subject.findAll(customOffset, customLimit, null, DEFAULT_TOTAL).getBody();
 
         // Then
         assertThat(result).isEqualTo(expectedPageableData);
@@ -83,6 +84,25 @@ class HistoryControllerTest {
         assertThat(capturedPageable.limit()).isEqualTo(customLimit);
     }
 
+    @Test
+    @DisplayName("Should find process execution history summaries")
+    void shouldFindProcessExecutionHistorySummaries() {
+        // Given
+        var expectedPageableData = createTestPageableData();
+        when(historyService.findAllSummaries(any(Pageable.class))).thenReturn(expectedPageableData);
+
+        // When
+        var result = subject.findAllSummaries(DEFAULT_OFFSET, DEFAULT_LIMIT, null, DEFAULT_TOTAL).getBody();
+
+        // Then
+        assertThat(result).isEqualTo(expectedPageableData);
+
+        var pageableCaptor = ArgumentCaptor.forClass(Pageable.class);
+        verify(historyService).findAllSummaries(pageableCaptor.capture());
+        assertThat(pageableCaptor.getValue().offset()).isEqualTo(DEFAULT_OFFSET);
+        assertThat(pageableCaptor.getValue().limit()).isEqualTo(DEFAULT_LIMIT);
+    }
+
     @Test
     @DisplayName("Should handle zero offset and limit")
     void shouldHandleZeroOffsetAndLimit() {
@@ -94,7 +114,7 @@ class HistoryControllerTest {
         when(historyService.findAll(any(Pageable.class))).thenReturn(expectedPageableData);
 
         // When
-        var result = subject.findAll(zeroOffset, zeroLimit).getBody();
+        var result = subject.findAll(zeroOffset, zeroLimit, null, DEFAULT_TOTAL).getBody();
 
         // Then
         assertThat(result).isEqualTo(expectedPageableData);
@@ -118,7 +138,7 @@ class HistoryControllerTest {
         when(historyService.findAll(any(Pageable.class))).thenReturn(expectedPageableData);
 
         // When
-        var result = subject.findAll(largeOffset, largeLimit).getBody();
+        var result = subject.findAll(largeOffset, largeLimit, null, DEFAULT_TOTAL).getBody();
 
         // Then
         assertThat(result).isEqualTo(expectedPageableData);
@@ -142,7 +162,7 @@ class HistoryControllerTest {
         when(historyService.findAll(any(Pageable.class))).thenReturn(expectedPageableData);
 
         // When
-        var result = subject.findAll(negativeOffset, negativeLimit).getBody();
+        var result = subject.findAll(negativeOffset, negativeLimit, null, DEFAULT_TOTAL).getBody();
 
         // Then
         assertThat(result).isEqualTo(expectedPageableData);
@@ -163,7 +183,7 @@ class HistoryControllerTest {
         when(historyService.findAll(any(Pageable.class))).thenReturn(emptyPageableData);
 
         // When
-        var result = subject.findAll(DEFAULT_OFFSET, DEFAULT_LIMIT).getBody();
+        var result = subject.findAll(DEFAULT_OFFSET, DEFAULT_LIMIT, null, DEFAULT_TOTAL).getBody();
 
         // Then
         assertThat(result).isNotNull();
@@ -182,7 +202,7 @@ class HistoryControllerTest {
         when(historyService.findAll(any(Pageable.class))).thenReturn(singleItemPageableData);
 
         // When
-        var result = subject.findAll(DEFAULT_OFFSET, DEFAULT_LIMIT).getBody();
+        var result = subject.findAll(DEFAULT_OFFSET, DEFAULT_LIMIT, null, DEFAULT_TOTAL).getBody();
 
         // Then
         assertThat(result).isNotNull();
@@ -206,7 +226,7 @@ class HistoryControllerTest {
         when(historyService.findAll(any(Pageable.class))).thenReturn(multipleItemsPageableData);
 
         // When
-        var result = subject.findAll(DEFAULT_OFFSET, DEFAULT_LIMIT).getBody();
+        var result = subject.findAll(DEFAULT_OFFSET, DEFAULT_LIMIT, null, DEFAULT_TOTAL).getBody();
 
         // Then
         assertThat(result).isNotNull();
@@ -227,7 +247,7 @@ class HistoryControllerTest {
         when(historyService.findAll(any(Pageable.class))).thenReturn(expectedPageableData);
 
         // When
-        subject.findAll(testOffset, testLimit);
+        subject.findAll(testOffset, testLimit, null, DEFAULT_TOTAL);
 
         // Then
         var pageableCaptor = ArgumentCaptor.forClass(Pageable.class);
@@ -1,6 +1,7 @@
 package com.leorces.rest.controller;
 
 import com.leorces.api.ProcessService;
+import com.leorces.model.pagination.PageCursor;
 import com.leorces.model.pagination.Pageable;
 import com.leorces.model.pagination.PageableData;
 import com.leorces.model.runtime.process.Process;
@@ -14,6 +15,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -32,6 +34,7 @@ class ProcessControllerTest {
     private static final String DEFAULT_ORDER = "desc";
     private static final String DEFAULT_FILTER = "";
     private static final String DEFAULT_STATE = "";
+    private static final String DEFAULT_TOTAL = "exact";
     private static final String TEST_PROCESS_ID = "test-process-id";
 
     @Mock
@@ -54,7 +57,8 @@ class ProcessControllerTest {
         // When
         var result = subject.findAll(
                 DEFAULT_PAGE, DEFAULT_SIZE, DEFAULT_SORT_FIELD,
-                DEFAULT_ORDER, DEFAULT_FILTER, DEFAULT_STATE
+                DEFAULT_ORDER, DEFAULT_FILTER, DEFAULT_STATE,
+                null, DEFAULT_TOTAL
         ).getBody();
 
         // Then
@@ -89,7 +93,8 @@ class ProcessControllerTest {
         // When
         var result = subject.findAll(
                 customPage, customSize, customSortField,
-                customOrder, customFilter, customState
+                customOrder, customFilter, customState,
+                null, DEFAULT_TOTAL
         ).getBody();
 
         // Then
@@ -151,7 +156,8 @@ class ProcessControllerTest {
         // When
         var result = subject.findAll(
                 zeroPage, zeroSize, DEFAULT_SORT_FIELD,
-                DEFAULT_ORDER, DEFAULT_FILTER, DEFAULT_STATE
+                DEFAULT_ORDER, DEFAULT_FILTER, DEFAULT_STATE,
+                null, DEFAULT_TOTAL
         ).getBody();
 
         // Then
@@ -178,7 +184,8 @@ class ProcessControllerTest {
         // When
         var result = subject.findAll(
                 largePage, largeSize, DEFAULT_SORT_FIELD,
-                DEFAULT_ORDER, DEFAULT_FILTER, DEFAULT_STATE
+                DEFAULT_ORDER, DEFAULT_FILTER, DEFAULT_STATE,
+                null, DEFAULT_TOTAL
         ).getBody();
 
         // Then
@@ -192,6 +199,33 @@ class ProcessControllerTest {
         assertThat(capturedPageable.limit()).isEqualTo(largeSize);
     }
 
+    @Test
+    @DisplayName("Should find all processes after cursor with estimated total")
+    void shouldFindAllProcessesAfterCursorWithEstimatedTotal() {
+        // Given
+        var cursor = new PageCursor(LocalDateTime.of(2026, 10, 18, 12, 0), TEST_PROCESS_ID);
+        var expectedPageableData = createTestPageableData();
+
+        when(processService.findAll(any(Pageable.class))).thenReturn(expectedPageableData);
+
+        // When
+        var result = subject.findAll(
+                DEFAULT_PAGE, DEFAULT_SIZE, DEFAULT_SORT_FIELD,
+                DEFAULT_ORDER, DEFAULT_FILTER, DEFAULT_STATE,
+                cursor.encode(), "estimated"
+        ).getBody();
+
+        // Then
+        assertThat(result).isEqualTo(expectedPageableData);
+
+        var pageableCaptor = ArgumentCaptor.forClass(Pageable.class);
+        verify(processService).findAll(pageableCaptor.capture());
+
+        var capturedPageable = pageableCaptor.getValue();
+        assertThat(capturedPageable.after()).isEqualTo(cursor);
+        assertThat(capturedPageable.total()).isEqualTo(Pageable.Total.ESTIMATED);
+    }
+
     private PageableData<Process> createTestPageableData() {
         var testProcess = Process.builder()
                 .id(TEST_PROCESS_ID)
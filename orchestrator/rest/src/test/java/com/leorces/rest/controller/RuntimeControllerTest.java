@@ -1,12 +1,19 @@
 package com.leorces.rest.controller;
 
 import com.leorces.api.RuntimeService;
+import com.leorces.model.runtime.message.CorrelationRequest;
+import com.leorces.model.runtime.message.CorrelationResult;
+import com.leorces.model.runtime.message.CorrelationStatus;
 import com.leorces.model.runtime.process.Process;
+import com.leorces.model.runtime.process.StartProcessRequest;
 import com.leorces.model.search.ProcessFilter;
+import com.leorces.rest.model.request.CorrelateMessageItem;
 import com.leorces.rest.model.request.CorrelateMessageRequest;
+import com.leorces.rest.model.request.CorrelateMessagesRequest;
 import com.leorces.rest.model.request.ProcessModificationRequest;
 import com.leorces.rest.model.request.StartProcessByIdRequest;
 import com.leorces.rest.model.request.StartProcessByKeyRequest;
+import com.leorces.rest.model.request.StartProcessesRequest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -15,6 +22,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
 
+import java.util.List;
 import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -100,6 +108,55 @@ class RuntimeControllerTest {
         verify(runtimeService).startProcessById(TEST_DEFINITION_ID, TEST_BUSINESS_KEY, variables);
     }
 
+    @Test
+    @DisplayName("Should start processes successfully")
+    void shouldStartProcessesSuccessfully() {
+        // Given
+        var variables = Map.<String, Object>of(TEST_VARIABLE_KEY, TEST_VARIABLE_VALUE);
+        var processes = List.of(
+                StartProcessRequest.byId(TEST_DEFINITION_ID, TEST_BUSINESS_KEY, variables),
+                StartProcessRequest.byKey(TEST_DEFINITION_KEY, TEST_BUSINESS_KEY, variables)
+        );
+        var expectedProcesses = List.of(createTestProcess(), createTestProcess());
+
+        when(runtimeService.startProcesses(processes)).thenReturn(expectedProcesses);
+
+        // When
+        var response = subject.startProcesses(new StartProcessesRequest(processes));
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(response.getBody()).isEqualTo(expectedProcesses);
+        verify(runtimeService).startProcesses(processes);
+    }
+
+    @Test
+    @DisplayName("Should correlate messages successfully")
+    void shouldCorrelateMessagesSuccessfully() {
+        // Given
+        var messages = List.of(
+                CorrelationRequest.of(TEST_MESSAGE, TEST_BUSINESS_KEY),
+                CorrelationRequest.of(TEST_MESSAGE, "another-business-key")
+        );
+        var expectedResults = List.of(
+                CorrelationResult.correlated(messages.get(0), "test-process-id"),
+                CorrelationResult.failed(messages.get(1), CorrelationStatus.NOT_FOUND, "No process correlated")
+        );
+
+        when(runtimeService.correlateMessages(messages)).thenReturn(expectedResults);
+
+        // When
+        var response = subject.correlateMessages(new CorrelateMessagesRequest(List.of(
+                new CorrelateMessageItem(TEST_MESSAGE, TEST_BUSINESS_KEY, null, null),
+                new CorrelateMessageItem(TEST_MESSAGE, "another-business-key", null, null)
+        )));
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isEqualTo(expectedResults);
+        verify(runtimeService).correlateMessages(messages);
+    }
+
     @Test
     @DisplayName("Should terminate process successfully")
     void shouldTerminateProcessSuccessfully() {
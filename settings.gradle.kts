@@ -9,9 +9,11 @@ include("orchestrator:rest")
 include("orchestrator:rest-client")
 include("orchestrator:persistence-api")
 include("orchestrator:postgres-persistence")
+include("orchestrator:memory-persistence")
 include("orchestrator:juel")
 include("orchestrator:common")
 include("orchestrator:ui")
+include("orchestrator:benchmarks")
 
 // Extensions
 include("extension")